@@ -0,0 +1,401 @@
+import model.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Hand-built scenes replayed by benchmarks. Every unit moves along a closed curve with period {@link #PERIOD} ticks, so
+ * ticks can be replayed in a loop without units jumping.
+ */
+public enum BenchScene {
+
+    QUIET_LANE,
+    TEAM_FIGHT;
+
+    public static final int PERIOD = 64;
+    public static final long SELF_ID = 1;
+    private static final int FIRST_TICK = 3000;
+    private static final double MAP_SIZE = 4000;
+    private static final double WANDER = 20;
+    private static final int PROJECTILE_FLIGHT_TICKS = 12;
+    private static final Status[] NO_STATUSES = new Status[0];
+    private static final Message[] NO_MESSAGES = new Message[0];
+    private static final SkillType[] FIREBALL_SKILLS = {SkillType.STAFF_DAMAGE_BONUS_PASSIVE_1,
+            SkillType.STAFF_DAMAGE_BONUS_AURA_1,
+            SkillType.STAFF_DAMAGE_BONUS_PASSIVE_2,
+            SkillType.STAFF_DAMAGE_BONUS_AURA_2,
+            SkillType.FIREBALL};
+
+    /**
+     * @return game with championship settings, skills on and messages off
+     */
+    public static Game game() {
+        return new Game(0,
+                20000,
+                MAP_SIZE,
+                true,
+                false,
+                0,
+                0.25,
+                0.75,
+                0.25,
+                0.75,
+                0.25,
+                0.75,
+                0.5,
+                1000,
+                600,
+                1024,
+                1,
+                35,
+                500,
+                600,
+                4,
+                3,
+                3,
+                100,
+                10,
+                100,
+                10,
+                0.05,
+                0.005,
+                0.2,
+                0.02,
+                Math.PI / 30,
+                2400,
+                1200,
+                30,
+                60,
+                60,
+                90,
+                120,
+                120,
+                120,
+                12,
+                36,
+                48,
+                48,
+                48,
+                12,
+                Math.PI / 6,
+                70,
+                new int[]{50, 100, 150, 200, 250, 300, 350, 400, 450, 500, 550, 600, 650, 700, 750},
+                25,
+                400,
+                3,
+                Math.PI / 30,
+                100,
+                750,
+                60,
+                12,
+                Math.PI / 6,
+                50,
+                30,
+                300,
+                Math.PI / 6,
+                20,
+                2500,
+                200,
+                5,
+                50,
+                6,
+                10,
+                40,
+                12,
+                15,
+                35,
+                24,
+                20,
+                30,
+                50,
+                100,
+                24,
+                12,
+                50,
+                600,
+                1000,
+                600,
+                36,
+                240,
+                100,
+                800,
+                2000,
+                800,
+                48,
+                240,
+                240,
+                24,
+                2400,
+                1.5,
+                60,
+                120,
+                20,
+                0.3,
+                1,
+                120,
+                20,
+                0.25,
+                500,
+                25,
+                1,
+                3,
+                0.05,
+                1);
+    }
+
+    /**
+     * @return {@link #PERIOD} consecutive ticks as seen by wizard {@link #SELF_ID}
+     */
+    public List<World> ticks() {
+        List<World> ticks = new ArrayList<>();
+        for (int t = 0; t < PERIOD; t++) {
+            ticks.add(tick(t));
+        }
+        return Collections.unmodifiableList(ticks);
+    }
+
+    public Wizard self(World world) {
+        for (Wizard wizard : world.getWizards()) {
+            if (wizard.getId() == SELF_ID) {
+                return wizard;
+            }
+        }
+        throw new RuntimeException("No self in scene");
+    }
+
+    /**
+     * @return point wizard is heading to in this scene, next lane point or own tower to retreat to
+     */
+    public Point pathTarget() {
+        return this == QUIET_LANE ? new Point(2000, 2000) : new Point(902.61, 2768.1);
+    }
+
+    private World tick(int t) {
+        List<Wizard> wizards = new ArrayList<>();
+        List<Minion> minions = new ArrayList<>();
+        List<Projectile> projectiles = new ArrayList<>();
+        if (this == QUIET_LANE) {
+            wizards.add(wizard(1, Faction.ACADEMY, 1300, 2700, t, 0, 1));
+            wizards.add(wizard(2, Faction.ACADEMY, 200, 1500, t, 1, 1));
+            wizards.add(wizard(3, Faction.ACADEMY, 2500, 3800, t, 2, 1));
+            wizards.add(wizard(4, Faction.ACADEMY, 250, 2300, t, 3, 1));
+            wizards.add(wizard(5, Faction.ACADEMY, 1800, 3750, t, 4, 1));
+            for (int k = 0; k < 4; k++) {
+                minions.add(minion(100 + k, Faction.ACADEMY, 1450 + 40 * k, 2500 - 40 * k, t, k));
+            }
+        } else {
+            double[][] allies = {{1900, 2100}, {1820, 2180}, {1960, 2220}, {1780, 2060}, {2000, 2160}};
+            double[][] enemies = {{2250, 1800}, {2320, 1880}, {2180, 1720}, {2380, 1760}, {2260, 1700}};
+            for (int k = 0; k < allies.length; k++) {
+                wizards.add(wizard(1 + k, Faction.ACADEMY, allies[k][0], allies[k][1], t, k, 5));
+                wizards.add(wizard(6 + k, Faction.RENEGADES, enemies[k][0], enemies[k][1], t, k + 5, 5));
+            }
+            for (int k = 0; k < 8; k++) {
+                minions.add(minion(100 + k, Faction.ACADEMY, 2020 + 60 * (k % 4), 2010 - 60 * (k / 4), t, k));
+                minions.add(minion(200 + k, Faction.RENEGADES, 2120 + 60 * (k % 4), 1900 - 60 * (k / 4), t, k + 8));
+            }
+            for (int k = 0; k < 6; k++) {
+                Projectile projectile = projectile(1000 + k, k, t, enemies[k % enemies.length], allies[0]);
+                if (projectile != null) {
+                    projectiles.add(projectile);
+                }
+            }
+        }
+
+        List<Building> buildings = new ArrayList<>();
+        for (Building building : buildings()) {
+            if (building.getFaction() == Faction.ACADEMY || seenByAcademy(building, wizards, minions)) {
+                buildings.add(building);
+            }
+        }
+        Player[] players = new Player[10];
+        for (int k = 0; k < players.length; k++) {
+            players[k] = new Player(k + 1, k == 0, "player" + (k + 1), false, 0,
+                    k < 5 ? Faction.ACADEMY : Faction.RENEGADES);
+        }
+        return new World(FIRST_TICK + t,
+                20000,
+                MAP_SIZE,
+                MAP_SIZE,
+                players,
+                wizards.toArray(new Wizard[0]),
+                minions.toArray(new Minion[0]),
+                projectiles.toArray(new Projectile[0]),
+                new Bonus[0],
+                buildings.toArray(new Building[0]),
+                trees());
+    }
+
+    private static Wizard wizard(long id, Faction faction, double x0, double y0, int t, int phase, int level) {
+        double x = wander(x0, t, phase, true);
+        double y = wander(y0, t, phase, false);
+        double angle = faction == Faction.ACADEMY ? -Math.PI / 4 : 3 * Math.PI / 4;
+        SkillType[] skills = level >= FIREBALL_SKILLS.length ? FIREBALL_SKILLS : new SkillType[0];
+        return new Wizard(id,
+                x,
+                y,
+                wander(x0, t + 1, phase, true) - x,
+                wander(y0, t + 1, phase, false) - y,
+                angle,
+                faction,
+                35,
+                100 + 10 * level,
+                100 + 10 * level,
+                NO_STATUSES,
+                id,
+                id == SELF_ID,
+                100 + 10 * level,
+                100 + 10 * level,
+                600,
+                500,
+                0,
+                level,
+                skills,
+                0,
+                new int[ActionType.values().length],
+                id == SELF_ID,
+                NO_MESSAGES);
+    }
+
+    private static Minion minion(long id, Faction faction, double x0, double y0, int t, int phase) {
+        boolean woodcutter = id % 2 == 0;
+        double x = wander(x0, t, phase, true);
+        double y = wander(y0, t, phase, false);
+        return new Minion(id,
+                x,
+                y,
+                wander(x0, t + 1, phase, true) - x,
+                wander(y0, t + 1, phase, false) - y,
+                faction == Faction.ACADEMY ? -Math.PI / 4 : 3 * Math.PI / 4,
+                faction,
+                25,
+                100,
+                100,
+                NO_STATUSES,
+                woodcutter ? MinionType.ORC_WOODCUTTER : MinionType.FETISH_BLOWDART,
+                400,
+                woodcutter ? 12 : 6,
+                woodcutter ? 60 : 30,
+                0);
+    }
+
+    /**
+     * @return projectile k fired from owner at target once per period, null while it isn't in the air
+     */
+    private static Projectile projectile(long id, int k, int t, double[] owner, double[] target) {
+        int launchTick = k * PERIOD / 6;
+        int flying = Math.floorMod(t - launchTick, PERIOD);
+        if (flying >= PROJECTILE_FLIGHT_TICKS) {
+            return null;
+        }
+        ProjectileType[] types = {ProjectileType.MAGIC_MISSILE, ProjectileType.FROST_BOLT, ProjectileType.FIREBALL};
+        double[] speeds = {40, 35, 30};
+        double[] radii = {10, 15, 20};
+        int type = k % types.length;
+        double fromX = wander(owner[0], launchTick, k + 5, true);
+        double fromY = wander(owner[1], launchTick, k + 5, false);
+        double angle = Math.atan2(target[1] - fromY, target[0] - fromX);
+        double speedX = speeds[type] * Math.cos(angle);
+        double speedY = speeds[type] * Math.sin(angle);
+        long ownerId = 6 + k % 5;
+        return new Projectile(id,
+                fromX + speedX * flying,
+                fromY + speedY * flying,
+                speedX,
+                speedY,
+                angle,
+                Faction.RENEGADES,
+                radii[type],
+                types[type],
+                ownerId,
+                ownerId);
+    }
+
+    private static double wander(double base, int t, int phase, boolean isX) {
+        double a = 2 * Math.PI * t / PERIOD + phase;
+        return base + WANDER * (isX ? Math.sin(a) : Math.cos(a));
+    }
+
+    private static boolean seenByAcademy(Building building, List<Wizard> wizards, List<Minion> minions) {
+        for (Wizard wizard : wizards) {
+            if (wizard.getFaction() == Faction.ACADEMY && wizard.getDistanceTo(building) <= wizard.getVisionRange()) {
+                return true;
+            }
+        }
+        for (Minion minion : minions) {
+            if (minion.getFaction() == Faction.ACADEMY && minion.getDistanceTo(building) <= minion.getVisionRange()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Building> buildings() {
+        double[][] towers = {{50, 2693.26}, {350, 1656.75}, {902.61, 2768.1}, {1929.29, 2400}, {1370.66, 3650},
+                {2312.13, 3950}};
+        List<Building> buildings = new ArrayList<>();
+        long id = 500;
+        for (Faction faction : new Faction[]{Faction.ACADEMY, Faction.RENEGADES}) {
+            boolean mirror = faction == Faction.RENEGADES;
+            for (double[] tower : towers) {
+                buildings.add(new Building(id++,
+                        mirror ? MAP_SIZE - tower[0] : tower[0],
+                        mirror ? MAP_SIZE - tower[1] : tower[1],
+                        0,
+                        0,
+                        0,
+                        faction,
+                        50,
+                        1000,
+                        1000,
+                        NO_STATUSES,
+                        BuildingType.GUARDIAN_TOWER,
+                        600,
+                        600,
+                        36,
+                        240,
+                        0));
+            }
+            buildings.add(new Building(id++,
+                    mirror ? MAP_SIZE - 400 : 400,
+                    mirror ? 400 : MAP_SIZE - 400,
+                    0,
+                    0,
+                    0,
+                    faction,
+                    100,
+                    2000,
+                    2000,
+                    NO_STATUSES,
+                    BuildingType.FACTION_BASE,
+                    800,
+                    800,
+                    48,
+                    240,
+                    0));
+        }
+        return buildings;
+    }
+
+    private static Tree[] trees() {
+        Random random = new Random(1);
+        List<Tree> trees = new ArrayList<>();
+        long id = 5000;
+        while (trees.size() < 150) {
+            double x = 450 + random.nextDouble() * (MAP_SIZE - 900);
+            double y = 450 + random.nextDouble() * (MAP_SIZE - 900);
+            if (Math.abs(x + y - MAP_SIZE) < 560) {
+                continue;
+            }
+            trees.add(new Tree(id++, x, y, 0, 0, 0, Faction.OTHER, 20 + random.nextDouble() * 30, 50, 50, NO_STATUSES));
+        }
+        // a few trees on the mid lane itself so paths have to bend
+        double[][] laneTrees = {{1560, 2560}, {1660, 2480}, {1420, 2360}, {2150, 2150}, {1700, 2150}};
+        for (double[] tree : laneTrees) {
+            trees.add(new Tree(id++, tree[0], tree[1], 0, 0, 0, Faction.OTHER, 30, 50, 50, NO_STATUSES));
+        }
+        return trees.toArray(new Tree[0]);
+    }
+}
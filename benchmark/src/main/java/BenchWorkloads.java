@@ -0,0 +1,146 @@
+import bench.Workload;
+import model.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Strategy code lives in the default package, which JMH benchmarks can't use, so benchmarks get their work through
+ * {@link Workload} created here.
+ */
+public final class BenchWorkloads {
+
+    private static final ProjectileType[] CAST_TYPES = {ProjectileType.MAGIC_MISSILE,
+            ProjectileType.FROST_BOLT,
+            ProjectileType.FIREBALL};
+
+    private BenchWorkloads() {
+    }
+
+    public static Workload create(String name, String sceneName) {
+        BenchScene scene = BenchScene.valueOf(sceneName);
+        switch (name) {
+            case "findPath":
+                return findPath(scene);
+            case "dodge":
+                return dodge(scene);
+            case "castRange":
+                return castRange(scene);
+            case "fireballCluster":
+                return fireballCluster(scene);
+            case "tick":
+                return tick(scene);
+            default:
+                throw new RuntimeException("Unknown workload " + name);
+        }
+    }
+
+    private static Workload findPath(BenchScene scene) {
+        Point target = scene.pathTarget();
+        Replay replay = new Replay(scene);
+        return () -> {
+            TurnContainer turn = replay.next();
+            return turn.getPathFinder().findPath(turn.getSelf(), target.getX(), target.getY(), 0, true);
+        };
+    }
+
+    private static Workload dodge(BenchScene scene) {
+        Replay replay = new Replay(scene);
+        return () -> {
+            TurnContainer turn = replay.next();
+            WizardProxy self = turn.getSelf();
+            Game game = turn.getGame();
+            List<DodgeProjectileTacticBuilder.DodgeOption> options = new ArrayList<>();
+            for (Projectile projectile : turn.getWorldProxy().getProjectiles()) {
+                if (projectile.getFaction() == self.getFaction()) {
+                    continue;
+                }
+                Point travelsTo = new Point(projectile.getX() + Math.cos(projectile.getAngle()) * self.getCastRange(),
+                        projectile.getY() + Math.sin(projectile.getAngle()) * self.getCastRange());
+                options.addAll(DodgeProjectileTacticBuilder.tryDodgeDirections(new Point(self.getX(), self.getY()),
+                        self.getId(),
+                        self.getAngle(),
+                        self.getWizardForwardSpeed(game),
+                        self.getWizardBackwardSpeed(game),
+                        self.getWizardStrafeSpeed(game),
+                        self.getWizardMaxTurnAngle(game),
+                        new Point(projectile.getX(), projectile.getY()),
+                        projectile.getType(),
+                        travelsTo,
+                        true,
+                        self.getRadius() + projectile.getRadius(),
+                        game,
+                        turn.getWorldProxy()));
+            }
+            return options;
+        };
+    }
+
+    private static Workload castRange(BenchScene scene) {
+        Replay replay = new Replay(scene);
+        return () -> {
+            TurnContainer turn = replay.next();
+            WizardProxy self = turn.getSelf();
+            List<CastRangeService.CastMeta> metas = new ArrayList<>();
+            for (WizardProxy wizard : turn.getWorldProxy().getWizards()) {
+                if (wizard.getFaction() == self.getFaction()) {
+                    continue;
+                }
+                for (ProjectileType type : CAST_TYPES) {
+                    metas.add(turn.getCastRangeService()
+                            .castRangeToWizardPessimistic(self, wizard, turn.getGame(), type));
+                    metas.add(turn.getCastRangeService().castRangeToWizardOptimistic(self, wizard, turn.getGame(), type));
+                }
+            }
+            return metas;
+        };
+    }
+
+    private static Workload fireballCluster(BenchScene scene) {
+        Replay replay = new Replay(scene);
+        CastFireballTacticBuilder builder = new CastFireballTacticBuilder();
+        return () -> builder.build(replay.next());
+    }
+
+    private static Workload tick(BenchScene scene) {
+        Game game = BenchScene.game();
+        List<World> ticks = scene.ticks();
+        MyStrategy strategy = new MyStrategy(DeadlineScheduler.alwaysFull());
+        int[] cursor = {0};
+        return () -> {
+            World world = ticks.get(cursor[0]);
+            cursor[0] = (cursor[0] + 1) % ticks.size();
+            Move move = new Move();
+            strategy.move(scene.self(world), world, game, move);
+            return move;
+        };
+    }
+
+    /**
+     * Turn containers for every tick of a scene, built in order with one memory like during a game, so per-game
+     * caches are warm when benchmarks run. Degradation is kept off, so benchmarks always measure full computations.
+     */
+    private static final class Replay {
+
+        private final List<TurnContainer> turns;
+        private int cursor;
+
+        Replay(BenchScene scene) {
+            Game game = BenchScene.game();
+            Memory memory = new Memory();
+            memory.setDeadlineScheduler(DeadlineScheduler.alwaysFull());
+            this.turns = new ArrayList<>();
+            for (World world : scene.ticks()) {
+                TurnContainer turn = new TurnContainer(scene.self(world), world, game, memory);
+                turn.postTurn();
+                turns.add(turn);
+            }
+        }
+
+        TurnContainer next() {
+            TurnContainer turn = turns.get(cursor);
+            cursor = (cursor + 1) % turns.size();
+            return turn;
+        }
+    }
+}
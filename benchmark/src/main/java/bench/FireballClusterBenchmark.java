@@ -0,0 +1,28 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FireballClusterBenchmark {
+
+    @Param({"TEAM_FIGHT"})
+    public String scene;
+    private Workload workload;
+
+    @Setup
+    public void setUp() {
+        workload = Workloads.create("fireballCluster", scene);
+    }
+
+    @Benchmark
+    public Object castFireballBuild() {
+        return workload.run();
+    }
+}
@@ -0,0 +1,9 @@
+package bench;
+
+/**
+ * One unit of strategy work measured by a benchmark, result must be consumed so it isn't optimized away.
+ */
+public interface Workload {
+
+    Object run();
+}
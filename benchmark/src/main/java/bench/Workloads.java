@@ -0,0 +1,17 @@
+package bench;
+
+final class Workloads {
+
+    private Workloads() {
+    }
+
+    static Workload create(String name, String scene) {
+        try {
+            return (Workload) Class.forName("BenchWorkloads")
+                    .getMethod("create", String.class, String.class)
+                    .invoke(null, name, scene);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -15,4 +15,9 @@ then
     exit 1
 fi
 
+if [ -d src/main/resources ]
+then
+    cp -r src/main/resources/. classes
+fi
+
 jar cf "./java-cgdk.jar" -C "./classes" .
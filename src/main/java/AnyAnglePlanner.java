@@ -0,0 +1,235 @@
+import java.util.Arrays;
+
+/**
+ * Lazy Theta* over {@link ShortSearchGrid}. Parent of a cell may be any earlier cell it can see, so path is made of
+ * straight segments between obstacles instead of 45 degree steps. Line of sight is checked once per expanded cell.
+ */
+public final class AnyAnglePlanner {
+
+    private static final int NO_NODE = -1;
+    private double[] g;
+    private double[] f;
+    private int[] parent;
+    private int[] generationByNode;
+    private int[] closedByNode;
+    private int[] heap;
+    private int[] heapPosition;
+    private int heapSize;
+    private int generation;
+    private ShortSearchGrid grid;
+    private int dim;
+    private int start;
+    private double startX;
+    private double startY;
+
+    public AnyAnglePlanner() {
+        allocate(0);
+    }
+
+    /**
+     * @param kernel obstacles for line of sight checks, radii already include penalty areas if they are avoided
+     * @return first vertex of any-angle path to reachable cell closest to target, target itself if no cell is closer
+     * than start
+     */
+    public Point nextWaypoint(ShortSearchGrid grid,
+                              CollisionKernel kernel,
+                              double startX,
+                              double startY,
+                              double targetX,
+                              double targetY,
+                              boolean withPenalties) {
+        this.grid = grid;
+        this.dim = grid.getDim();
+        this.startX = startX;
+        this.startY = startY;
+        reset(dim * dim);
+        int selfInd = grid.getSelfIndex();
+        this.start = selfInd * dim + selfInd;
+        int goalI = Math.max(0, Math.min(dim - 1, (int) Math.round((targetX - grid.cellX(0)) / ShortSearchGrid.CELL)));
+        int goalH = Math.max(0, Math.min(dim - 1, (int) Math.round((targetY - grid.cellY(0)) / ShortSearchGrid.CELL)));
+        int goal = goalI * dim + goalH;
+
+        open(start, 0, start, dist(startX - targetX, startY - targetY));
+        int best = start;
+        double bestDist = dist(startX - targetX, startY - targetY);
+        while (heapSize > 0) {
+            int cur = poll();
+            closedByNode[cur] = generation;
+            if (cur != start && !kernel.isFree(x(parent[cur]), y(parent[cur]), x(cur), y(cur))) {
+                reattachToClosedNeighbor(cur, withPenalties);
+            }
+            double curDist = dist(x(cur) - targetX, y(cur) - targetY);
+            if (curDist < bestDist) {
+                bestDist = curDist;
+                best = cur;
+            }
+            if (cur == goal) {
+                break;
+            }
+            int curI = cur / dim;
+            int curH = cur % dim;
+            int curParent = parent[cur];
+            for (int j1 = -1; j1 <= 1; j1++) {
+                for (int j2 = -1; j2 <= 1; j2++) {
+                    int nextI = curI + j1;
+                    int nextH = curH + j2;
+                    if ((j1 == 0 && j2 == 0) || nextI < 0 || nextI >= dim || nextH < 0 || nextH >= dim) {
+                        continue;
+                    }
+                    int next = nextI * dim + nextH;
+                    if (closedByNode[next] == generation || !grid.isReachable(nextI, nextH) ||
+                            !grid.isEdgeFree(curI, curH, nextI, nextH)) {
+                        continue;
+                    }
+                    // lazy: assume parent of current cell sees next one, checked when next is expanded
+                    double newG = g[curParent] + dist(x(curParent) - x(next), y(curParent) - y(next)) +
+                            (withPenalties ? grid.getPenalty(nextI, nextH) : 0);
+                    if (generationByNode[next] != generation || newG < g[next]) {
+                        open(next, newG, curParent, dist(x(next) - targetX, y(next) - targetY));
+                    }
+                }
+            }
+        }
+
+        if (best == start) {
+            return new Point(targetX, targetY);
+        }
+        int waypoint = best;
+        while (parent[waypoint] != start) {
+            waypoint = parent[waypoint];
+        }
+        return new Point(x(waypoint), y(waypoint));
+    }
+
+    private void reattachToClosedNeighbor(int cur, boolean withPenalties) {
+        int curI = cur / dim;
+        int curH = cur % dim;
+        double penalty = withPenalties ? grid.getPenalty(curI, curH) : 0;
+        double bestG = Double.MAX_VALUE;
+        int bestParent = NO_NODE;
+        for (int j1 = -1; j1 <= 1; j1++) {
+            for (int j2 = -1; j2 <= 1; j2++) {
+                int prevI = curI + j1;
+                int prevH = curH + j2;
+                if ((j1 == 0 && j2 == 0) || prevI < 0 || prevI >= dim || prevH < 0 || prevH >= dim) {
+                    continue;
+                }
+                int prev = prevI * dim + prevH;
+                if (closedByNode[prev] != generation || !grid.isEdgeFree(prevI, prevH, curI, curH)) {
+                    continue;
+                }
+                double newG = g[prev] + dist(x(prev) - x(cur), y(prev) - y(cur)) + penalty;
+                if (newG < bestG) {
+                    bestG = newG;
+                    bestParent = prev;
+                }
+            }
+        }
+        if (bestParent == NO_NODE) {
+            throw new RuntimeException("Expanded cell has no closed neighbour");
+        }
+        g[cur] = bestG;
+        parent[cur] = bestParent;
+    }
+
+    // StrictMath.hypot guards against overflow we can't get here and costs several times more than sqrt
+    private static double dist(double dx, double dy) {
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private double x(int node) {
+        return node == start ? startX : grid.cellX(node / dim);
+    }
+
+    private double y(int node) {
+        return node == start ? startY : grid.cellY(node % dim);
+    }
+
+    private void reset(int nodeCount) {
+        if (nodeCount > g.length) {
+            allocate(nodeCount);
+        }
+        heapSize = 0;
+        generation++;
+    }
+
+    private void open(int node, double newG, int newParent, double heuristic) {
+        boolean queued = generationByNode[node] == generation && heapPosition[node] != NO_NODE;
+        generationByNode[node] = generation;
+        g[node] = newG;
+        parent[node] = newParent;
+        f[node] = newG + heuristic;
+        if (queued) {
+            siftUp(heapPosition[node]);
+        } else {
+            heap[heapSize] = node;
+            heapPosition[node] = heapSize;
+            heapSize++;
+            siftUp(heapSize - 1);
+        }
+    }
+
+    private int poll() {
+        int top = heap[0];
+        heapPosition[top] = NO_NODE;
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapPosition[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int pos) {
+        int node = heap[pos];
+        double key = f[node];
+        while (pos > 0) {
+            int parentPos = (pos - 1) >>> 1;
+            int parentNode = heap[parentPos];
+            if (f[parentNode] <= key) {
+                break;
+            }
+            heap[pos] = parentNode;
+            heapPosition[parentNode] = pos;
+            pos = parentPos;
+        }
+        heap[pos] = node;
+        heapPosition[node] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int node = heap[pos];
+        double key = f[node];
+        int half = heapSize >>> 1;
+        while (pos < half) {
+            int childPos = 2 * pos + 1;
+            int child = heap[childPos];
+            int rightPos = childPos + 1;
+            if (rightPos < heapSize && f[heap[rightPos]] < f[child]) {
+                childPos = rightPos;
+                child = heap[childPos];
+            }
+            if (key <= f[child]) {
+                break;
+            }
+            heap[pos] = child;
+            heapPosition[child] = pos;
+            pos = childPos;
+        }
+        heap[pos] = node;
+        heapPosition[node] = pos;
+    }
+
+    private void allocate(int nodeCount) {
+        this.g = new double[nodeCount];
+        this.f = new double[nodeCount];
+        this.parent = new int[nodeCount];
+        this.generationByNode = new int[nodeCount];
+        this.closedByNode = new int[nodeCount];
+        this.heap = new int[nodeCount];
+        this.heapPosition = new int[nodeCount];
+        Arrays.fill(heapPosition, NO_NODE);
+        this.generation = 0;
+    }
+}
@@ -7,6 +7,11 @@ import java.util.Optional;
 
 public class ApplyShieldTacticBuilder extends ApplyStatusTacticBuilder {
 
+    @Override
+    public int priority() {
+        return Tactics.APPLY_SHIELD_TACTIC_BUILDER;
+    }
+
     @Override
     public Optional<Tactic> build(TurnContainer turnContainer) {
         WizardProxy self = turnContainer.getSelf();
@@ -13,10 +13,9 @@ public class BonusControl {
     private final Point topBonusPosition;
     private final Point bottomBonusPosition;
 
-    public BonusControl(WizardProxy self, WorldProxy world, Game game, Memory memory) {
-        double base = world.allyBase().getX();
-        this.topBonusPosition = new Point(base * 3, base * 3);
-        this.bottomBonusPosition = new Point(world.getWidth() - base * 3, world.getHeight() - base * 3);
+    public BonusControl(WizardProxy self, WorldProxy world, Game game, MapUtils mapUtils, Memory memory) {
+        this.topBonusPosition = mapUtils.getTopBonusPoint();
+        this.bottomBonusPosition = mapUtils.getBottomBonusPoint();
         this.world = world;
         this.memory = memory;
         this.game = game;
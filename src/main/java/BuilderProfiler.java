@@ -0,0 +1,100 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Wall time and allocated bytes of each {@link TacticBuilder} call, collected into histograms and handed to sink at
+ * game end. Strategies only create it when asked to, otherwise builders are called directly and the only cost is a
+ * null check.
+ */
+public class BuilderProfiler {
+
+    public static final String ENABLED_PROPERTY = "builderProfile";
+    private final List<TacticBuilder> builders;
+    private final Sink sink;
+    private final LogHistogram[] nanos;
+    private final LogHistogram[] allocatedBytes;
+    // null if JVM can't count allocated bytes per thread
+    private final com.sun.management.ThreadMXBean threadBean;
+    private boolean reported;
+
+    public BuilderProfiler(List<TacticBuilder> builders, Sink sink) {
+        this.builders = builders;
+        this.sink = sink;
+        this.nanos = new LogHistogram[builders.size()];
+        this.allocatedBytes = new LogHistogram[builders.size()];
+        for (int i = 0; i < builders.size(); i++) {
+            nanos[i] = new LogHistogram();
+            allocatedBytes[i] = new LogHistogram();
+        }
+        this.threadBean = allocationBean();
+    }
+
+    /**
+     * @return profiler reporting to stdout if {@link #ENABLED_PROPERTY} system property is true, null otherwise
+     */
+    public static BuilderProfiler fromSystemProperties(List<TacticBuilder> builders) {
+        return Boolean.getBoolean(ENABLED_PROPERTY) ? new BuilderProfiler(builders, BuilderProfiler::print) : null;
+    }
+
+    public interface Sink {
+
+        void report(String builder, LogHistogram nanos, LogHistogram allocatedBytes);
+    }
+
+    /**
+     * @param index of builder in list given to constructor
+     */
+    public Optional<Tactic> build(int index, TurnContainer turnContainer) {
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threadBean == null ? 0 : threadBean.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        Optional<Tactic> tactic = builders.get(index).build(turnContainer);
+        nanos[index].record(System.nanoTime() - startedAt);
+        if (threadBean != null) {
+            allocatedBytes[index].record(threadBean.getThreadAllocatedBytes(threadId) - bytesBefore);
+        }
+        return tactic;
+    }
+
+    /**
+     * Reports collected histograms to sink, only once.
+     */
+    public void report() {
+        if (reported) {
+            return;
+        }
+        reported = true;
+        for (int i = 0; i < builders.size(); i++) {
+            sink.report(builders.get(i).getClass().getSimpleName(), nanos[i], allocatedBytes[i]);
+        }
+    }
+
+    private static void print(String builder, LogHistogram nanos, LogHistogram allocatedBytes) {
+        System.out.println(String.format("%s: %d calls, ms p50 %.3f p90 %.3f p99 %.3f max %.3f, KB mean %.1f p99 %.1f",
+                builder,
+                nanos.getCount(),
+                nanos.percentile(0.5) / 1e6,
+                nanos.percentile(0.9) / 1e6,
+                nanos.percentile(0.99) / 1e6,
+                nanos.getMax() / 1e6,
+                allocatedBytes.getMean() / 1024,
+                allocatedBytes.percentile(0.99) / 1024.0));
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+        if (!allocationBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+            allocationBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return allocationBean;
+    }
+}
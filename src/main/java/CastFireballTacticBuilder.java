@@ -6,6 +6,11 @@ import java.util.stream.Collectors;
 public class CastFireballTacticBuilder implements TacticBuilder {
     private static final int MIN_CLUSTER_OF_MINIONS = 3;
 
+    @Override
+    public int priority() {
+        return Tactics.CAST_FIREBALL_TACTIC_PRIORITY;
+    }
+
     @Override
     public Optional<Tactic> build(TurnContainer turnContainer) {
         Game game = turnContainer.getGame();
@@ -19,7 +24,9 @@ public class CastFireballTacticBuilder implements TacticBuilder {
 
         Point targetPoint;
         Optional<Unit> singlePointOpt = bestSingleTarget(turnContainer);
-        Optional<Point> clusterPointOpt = bestClusterCastPoint(turnContainer);
+        Optional<Point> clusterPointOpt = turnContainer.getDegradation() == Degradation.FULL ?
+                bestClusterCastPoint(turnContainer) :
+                Optional.empty();
         if (singlePointOpt.isPresent() &&
                 (singlePointOpt.get() instanceof WizardProxy || !clusterPointOpt.isPresent())) {
             Unit unit = singlePointOpt.get();
@@ -8,6 +8,11 @@ public class CastFrostBoltTacticBuilder implements TacticBuilder {
     private static final int SECONDARY_TARGETS_SAVE_UP_BOLTS_COUNT = 3;
     private static final int FUTURE_TARGET_RANGE_BOOST = 10;
 
+    @Override
+    public int priority() {
+        return Tactics.CAST_FROST_BOLT_TACTIC_PRIORITY;
+    }
+
     @Override
     public Optional<Tactic> build(TurnContainer turnContainer) {
         WizardProxy self = turnContainer.getSelf();
@@ -10,6 +10,11 @@ public class CastMagicMissileTacticBuilder implements TacticBuilder {
     private static final double PROJECTILE_MIN_DISTANCE_WIZARD_RADIUS_RATIO = 2.0 / 3;
     private static final int FUTURE_TARGET_RANGE_BOOST = 100;
 
+    @Override
+    public int priority() {
+        return Tactics.CAST_MAGIC_MISSILE_TACTIC_PRIORITY;
+    }
+
     @Override
     public Optional<Tactic> build(TurnContainer turnContainer) {
         WizardProxy self = turnContainer.getSelf();
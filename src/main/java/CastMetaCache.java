@@ -0,0 +1,65 @@
+import model.Game;
+import model.ProjectileType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cast ranges between wizards for one tick. Same pairs are asked by target selection, retreat and dodge logic many
+ * times per tick, while the answer only changes with wizards' state.
+ */
+public class CastMetaCache {
+
+    private static final long MAX_CACHED_ID = (1L << 28) - 1;
+    private final CastRangeService castRangeService;
+    private final Game game;
+    private final LongIntHashMap slotByKey = new LongIntHashMap(64);
+    private final List<CastRangeService.CastMeta> metas = new ArrayList<>();
+
+    public CastMetaCache(CastRangeService castRangeService, Game game) {
+        this.castRangeService = castRangeService;
+        this.game = game;
+    }
+
+    public CastRangeService.CastMeta castRangeToWizardPessimistic(WizardProxy self,
+                                                                  WizardProxy wizard,
+                                                                  ProjectileType projectileType) {
+        return castRangeToWizard(self, wizard, projectileType, false);
+    }
+
+    public CastRangeService.CastMeta castRangeToWizardOptimistic(WizardProxy self,
+                                                                 WizardProxy wizard,
+                                                                 ProjectileType projectileType) {
+        return castRangeToWizard(self, wizard, projectileType, true);
+    }
+
+    private CastRangeService.CastMeta castRangeToWizard(WizardProxy self,
+                                                        WizardProxy wizard,
+                                                        ProjectileType projectileType,
+                                                        boolean optimistic) {
+        if (self.getId() < 0 || self.getId() > MAX_CACHED_ID || wizard.getId() < 0 ||
+                wizard.getId() > MAX_CACHED_ID) {
+            return compute(self, wizard, projectileType, optimistic);
+        }
+        long key = self.getId() << 34 | wizard.getId() << 6 | projectileType.ordinal() << 1 | (optimistic ? 1 : 0);
+        int slot = slotByKey.get(key);
+        if (slot != LongIntHashMap.MISSING) {
+            return metas.get(slot);
+        }
+        CastRangeService.CastMeta meta = compute(self, wizard, projectileType, optimistic);
+        slotByKey.put(key, metas.size());
+        metas.add(meta);
+        return meta;
+    }
+
+    private CastRangeService.CastMeta compute(WizardProxy self,
+                                              WizardProxy wizard,
+                                              ProjectileType projectileType,
+                                              boolean optimistic) {
+        if (optimistic) {
+            return castRangeService.castRangeToWizardOptimistic(self, wizard, game, projectileType);
+        } else {
+            return castRangeService.castRangeToWizardPessimistic(self, wizard, game, projectileType);
+        }
+    }
+}
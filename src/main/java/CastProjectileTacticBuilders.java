@@ -298,11 +298,8 @@ public final class CastProjectileTacticBuilders {
             return new CastRangeService.CastMeta(castRangeToMinion(wizard, (Minion) target, turnContainer.getGame()),
                     0);
         } else if (target instanceof WizardProxy) {
-            return turnContainer.getCastRangeService()
-                    .castRangeToWizardPessimistic(wizard,
-                            (WizardProxy) target,
-                            turnContainer.getGame(),
-                            projectileType);
+            return turnContainer.getCastMetaCache()
+                    .castRangeToWizardPessimistic(wizard, (WizardProxy) target, projectileType);
         } else {
             throw new RuntimeException("Unexpected target type " + target.getClass());
         }
@@ -1,43 +0,0 @@
-public final class CastRangeConst {
-
-    private CastRangeConst() {
-        throw new UnsupportedOperationException("Instance not supported");
-    }
-
-    public static final StringBuilder extremeCastPropsPessimisticLine = new StringBuilder().append(
-            "M,0,0,0.000,506.004,0.000#M,0,0,-1.885,495.082,6.729#M,0,0,1.885,495.082,6.729#M,0,0,-2.199,495.664,7.598#M,0,0,2.199,495.664,7.598#M,0,0,-0.314,505.667,6.348#M,0,0,0.314,505.667,6.348#M,0,0,-0.785,503.285,7.053#M,0,0,0.785,503.285,7.053#M,0,0,-2.670,493.421,7.367#M,0,0,2.670,493.421,7.367#M,0,0,-0.942,501.576,7.106#M,0,0,0.942,501.576,7.106#M,0,0,-2.513,494.019,7.366#M,0,0,-0.157,505.982,3.779#M,0,0,0.157,505.982,3.779#M,0,0,2.513,494.019,7.366#M,0,0,-1.571,495.264,6.389#M,0,0,1.571,495.264,6.389#M,0,0,-2.985,492.722,7.362#M,0,0,-2.827,492.989,7.362#M,0,0,-2.356,494.772,7.571#M,0,0,2.356,494.772,7.571#M,0,0,2.827,492.989,7.362#M,0,0,2.985,492.722,7.362#M,0,0,-0.471,505.096,6.977#M,0,0,0.471,505.096,6.977#M,0,0,-1.257,496.396,6.373#M,0,0,1.257,496.396,6.373#M,0,0,-3.142,492.631,0.000#M,0,0,3.142,492.631,0.000#M,0,0,-1.414,495.921,6.337#M,0,0,1.414,495.921,6.337#M,0,0,-1.100,497.090,6.667#M,0,0,1.100,497.090,6.667#M,0,0,-0.628,504.444,6.823#M,0,0,0.628,504.444,6.823#M,0,0,-1.728,494.842,6.488#M,0,0,1.728,494.842,6.488#M,0,0,-2.042,495.921,7.080#M,0,0,2.042,495.921,7.080#M,0,1,0.000,528.001,0.000#M,0,1,-1.885,496.075,6.558#M,0,1,1.885,496.075,6.558#M,0,1,-2.199,516.001,7.350#M,0,1,2.199,516.001,7.350#M,0,1,-0.314,527.003,6.351#M,0,1,0.314,527.003,6.351#M,0,1,-0.785,523.029,7.284#M,0,1,0.785,523.029,7.284#M,0,1,-2.670,513.619,7.543#M,0,1,2.670,513.619,7.543#M,0,1,-0.942,521.384,7.158#M,0,1,0.942,521.384,7.158#M,0,1,-2.513,514.388,7.533#M,0,1,-0.157,527.943,3.827#M,0,1,0.157,527.943,3.827#M,0,1,2.513,514.388,7.533#M,0,1,-1.571,496.070,6.210#M,0,1,1.571,496.070,6.210#M,0,1,-2.985,512.743,7.471#M,0,1,-2.827,513.107,7.596#M,0,1,-2.356,515.350,7.611#M,0,1,2.356,515.350,7.611#M,0,1,2.827,513.107,7.596#M,0,1,2.985,512.743,7.471#M,0,1,-0.471,525.609,7.061#M,0,1,0.471,525.609,7.061#M,0,1,-1.257,496.396,6.373#M,0,1,1.257,496.396,6.373#M,0,1,-3.142,512.631,0.000#M,0,1,3.142,512.631,0.000#M,0,1,-1.414,496.166,6.242#M,0,1,1.414,496.166,6.242#M,0,1,-1.100,497.090,6.667#M,0,1,1.100,497.090,6.667#M,0,1,-0.628,524.258,7.284#M,0,1,0.628,524.258,7.284#M,0,1,-1.728,495.963,6.343#M,0,1,1.728,495.963,6.343#M,0,1,-2.042,496.519,6.817#M,0,1,2.042,496.519,6.817#M,0,2,0.000,530.816,0.000#M,0,2,-1.885,496.075,6.558#M,0,2,1.885,496.075,6.558#M,0,2,-2.199,516.049,7.350#M,0,2,2.199,516.049,7.350#M,0,2,-0.314,529.689,7.651#M,0,2,0.314,529.689,7.651#M,0,2,-0.785,523.307,7.287#M,0,2,0.785,523.307,7.287#M,0,2,-2.670,515.531,8.408#M,0,2,2.670,515.531,8.408#M,0,2,-0.942,521.384,7.158#M,0,2,0.942,521.384,7.158#M,0,2,-2.513,516.204,8.337#M,0,2,-0.157,530.527,7.720#M,0,2,0.157,530.527,7.720#M,0,2,2.513,516.204,8.337#M,0,2,-1.571,496.070,6.210#M,0,2,1.571,496.070,6.210#M,0,2,-2.985,513.774,8.952#M,0,2,-2.827,514.271,8.944#M,0,2,-2.356,516.850,8.127#M,0,2,2.356,516.850,8.127#M,0,2,2.827,514.271,8.944#M,0,2,2.985,513.774,8.952#M,0,2,-0.471,528.402,7.498#M,0,2,0.471,528.402,7.498#M,0,2,-1.257,496.396,6.373#M,0,2,1.257,496.396,6.373#M,0,2,-3.142,513.603,0.000#M,0,2,3.142,513.603,0.000#M,0,2,-1.414,496.166,6.242#M,0,2,1.414,496.166,6.242#M,0,2,-1.100,497.090,6.667#M,0,2,1.100,497.090,6.667#M,0,2,-0.628,526.698,7.332#M,0,2,0.628,526.698,7.332#M,0,2,-1.728,495.963,6.343#M,0,2,1.728,495.963,6.343#M,0,2,-2.042,496.519,6.817#M,0,2,2.042,496.519,6.817#M,0,3,0.000,530.816,0.000#M,0,3,-1.885,496.075,6.558#M,0,3,1.885,496.075,6.558#M,0,3,-2.199,516.049,7.350#M,0,3,2.199,516.049,7.350#M,0,3,-0.314,529.689,7.651#M,0,3,0.314,529.689,7.651#M,0,3,-0.785,523.307,7.287#M,0,3,0.785,523.307,7.287#M,0,3,-2.670,515.531,8.408#M,0,3,2.670,515.531,8.408#M,0,3,-0.942,521.384,7.158#M,0,3,0.942,521.384,7.158#M,0,3,-2.513,516.204,8.337#M,0,3,-0.157,530.527,7.720#M,0,3,0.157,530.527,7.720#M,0,3,2.513,516.204,8.337#M,0,3,-1.571,496.070,6.210#M,0,3,1.571,496.070,6.210#M,0,3,-2.985,513.774,8.952#M,0,3,-2.827,514.271,8.944#M,0,3,-2.356,516.850,8.127#M,0,3,2.356,516.850,8.127#M,0,3,2.827,514.271,8.944#M,0,3,2.985,513.774,8.952#M,0,3,-0.471,528.402,7.498#M,0,3,0.471,528.402,7.498#M,0,3,-1.257,496.396,6.373#M,0,3,1.257,496.396,6.373#M,0,3,-3.142,513.603,0.000#M,0,3,3.142,513.603,0.000#M,0,3,-1.414,496.166,6.242#M,0,3,1.414,496.166,6.242#M,0,3,-1.100,497.090,6.667#M,0,3,1.100,497.090,6.667#M,0,3,-0.628,526.698,7.332#M,0,3,0.628,526.698,7.332#M,0,3,-1.728,495.963,6.343#M,0,3,1.728,495.963,6.343#M,0,3,-2.042,496.519,6.817#M,0,3,2.042,496.519,6.817#M,0,4,0.000,530.816,0.000#M,0,4,-1.885,496.075,6.558#M,0,4,1.885,496.075,6.558#M,0,4,-2.199,516.049,7.350#M,0,4,2.199,516.049,7.350#M,0,4,-0.314,529.689,7.651#M,0,4,0.314,529.689,7.651#M,0,4,-0.785,523.307,7.287#M,0,4,0.785,523.307,7.287#M,0,4,-2.670,515.531,8.408#M,0,4,2.670,515.531,8.408#M,0,4,-0.942,521.384,7.158#M,0,4,0.942,521.384,7.158#M,0,4,-2.513,516.204,8.337#M,0,4,-0.157,530.527,7.720#M,0,4,0.157,530.527,7.720#M,0,4,2.513,516.204,8.337#M,0,4,-1.571,496.070,6.210#M,0,4,1.571,496.070,6.210#M,0,4,-2.985,513.774,8.952#M,0,4,-2.827,514.271,8.944#M,0,4,-2.356,516.850,8.127#M,0,4,2.356,516.850,8.127#M,0,4,2.827,514.271,8.944#M,0,4,2.985,513.774,8.952#M,0,4,-0.471,528.402,7.498#M,0,4,0.471,528.402,7.498#M,0,4,-1.257,496.396,6.373#M,0,4,1.257,496.396,6.373#M,0,4,-3.142,513.603,0.000#M,0,4,3.142,513.603,0.000#M,0,4,-1.414,496.166,6.242#M,0,4,1.414,496.166,6.242#M,0,4,-1.100,497.090,6.667#M,0,4,1.100,497.090,6.667#M,0,4,-0.628,526.698,7.332#M,0,4,0.628,526.698,7.332#M,0,4,-1.728,495.963,6.343#M,0,4,1.728,495.963,6.343#M,0,4,-2.042,496.519,6.817#M,0,4,2.042,496.519,6.817#M,1,0,0.000,497.667,0.000#M,1,0,-1.885,482.612,7.065#M,1,0,1.885,482.612,7.065#M,1,0,-2.199,482.259,8.003#M,1,0,2.199,482.259,8.003#M,1,0,-0.314,496.684,8.159#M,1,0,0.314,496.684,8.159#M,1,0,-0.785,489.688,6.888#M,1,0,0.785,489.688,6.888#M,1,0,-2.670,482.297,9.539#M,1,0,2.670,482.297,9.539#M,1,0,-0.942,488.118,6.738#M,1,0,0.942,488.118,6.738#M,1,0,-2.513,482.286,9.062#M,1,0,-0.157,497.405,8.291#M,1,0,0.157,497.405,8.291#M,1,0,2.513,482.286,9.062#M,1,0,-1.571,483.360,6.481#M,1,0,1.571,483.360,6.481#M,1,0,-2.985,482.211,10.184#M,1,0,-2.827,482.099,9.701#M,1,0,-2.356,482.243,8.525#M,1,0,2.356,482.243,8.525#M,1,0,2.827,482.099,9.701#M,1,0,2.985,482.211,10.184#M,1,0,-0.471,495.648,7.921#M,1,0,0.471,495.648,7.921#M,1,0,-1.257,484.737,6.268#M,1,0,1.257,484.737,6.268#M,1,0,-3.142,482.217,0.000#M,1,0,3.142,482.217,0.000#M,1,0,-1.414,484.097,6.291#M,1,0,1.414,484.097,6.291#M,1,0,-1.100,486.569,6.573#M,1,0,1.100,486.569,6.573#M,1,0,-0.628,491.232,7.042#M,1,0,0.628,491.232,7.042#M,1,0,-1.728,482.847,6.748#M,1,0,1.728,482.847,6.748#M,1,0,-2.042,482.355,7.513#M,1,0,2.042,482.355,7.513#M,1,1,0.000,497.667,0.000#M,1,1,-1.885,482.612,7.065#M,1,1,1.885,482.612,7.065#M,1,1,-2.199,482.259,8.003#M,1,1,2.199,482.259,8.003#M,1,1,-0.314,496.684,8.159#M,1,1,0.314,496.684,8.159#M,1,1,-0.785,489.688,6.888#M,1,1,0.785,489.688,6.888#M,1,1,-2.670,482.323,9.568#M,1,1,2.670,482.323,9.568#M,1,1,-0.942,488.118,6.738#M,1,1,0.942,488.118,6.738#M,1,1,-2.513,482.286,9.062#M,1,1,-0.157,497.405,8.291#M,1,1,0.157,497.405,8.291#M,1,1,2.513,482.286,9.062#M,1,1,-1.571,483.381,6.474#M,1,1,1.571,483.381,6.474#M,1,1,-2.985,482.265,10.325#M,1,1,-2.827,482.323,10.007#M,1,1,-2.356,482.243,8.525#M,1,1,2.356,482.243,8.525#M,1,1,2.827,482.323,10.007#M,1,1,2.985,482.265,10.325#M,1,1,-0.471,495.648,7.921#M,1,1,0.471,495.648,7.921#M,1,1,-1.257,484.737,6.268#M,1,1,1.257,484.737,6.268#M,1,1,-3.142,482.217,0.000#M,1,1,3.142,482.217,0.000#M,1,1,-1.414,484.097,6.291#M,1,1,1.414,484.097,6.291#M,1,1,-1.100,486.569,6.573#M,1,1,1.100,486.569,6.573#M,1,1,-0.628,491.232,7.042#M,1,1,0.628,491.232,7.042#M,1,1,-1.728,482.863,6.746#M,1,1,1.728,482.863,6.746#M,1,1,-2.042,482.355,7.513#M,1,1,2.042,482.355,7.513#M,1,2,0.000,497.667,0.000#M,1,2,-1.885,482.612,7.065#M,1,2,1.885,482.612,7.065#M,1,2,-2.199,482.259,8.003#M,1,2,2.199,482.259,8.003#M,1,2,-0.314,496.684,8.159#M,1,2,0.314,496.684,8.159#M,1,2,-0.785,489.688,6.888#M,1,2,0.785,489.688,6.888#M,1,2,-2.670,482.323,9.568#M,1,2,2.670,482.323,9.568#M,1,2,-0.942,488.118,6.738#M,1,2,0.942,488.118,6.738#M,1,2,-2.513,482.286,9.062#M,1,2,-0.157,497.405,8.291#M,1,2,0.157,497.405,8.291#M,1,2,2.513,482.286,9.062#M,1,2,-1.571,483.381,6.474#M,1,2,1.571,483.381,6.474#M,1,2,-2.985,482.265,10.325#M,1,2,-2.827,482.323,10.007#M,1,2,-2.356,482.243,8.525#M,1,2,2.356,482.243,8.525#M,1,2,2.827,482.323,10.007#M,1,2,2.985,482.265,10.325#M,1,2,-0.471,495.648,7.921#M,1,2,0.471,495.648,7.921#M,1,2,-1.257,484.737,6.268#M,1,2,1.257,484.737,6.268#M,1,2,-3.142,482.217,0.000#M,1,2,3.142,482.217,0.000#M,1,2,-1.414,484.097,6.291#M,1,2,1.414,484.097,6.291#M,1,2,-1.100,486.569,6.573#M,1,2,1.100,486.569,6.573#M,1,2,-0.628,491.232,7.042#M,1,2,0.628,491.232,7.042#M,1,2,-1.728,482.863,6.746#M,1,2,1.728,482.863,6.746#M,1,2,-2.042,482.355,7.513#M,1,2,2.042,482.355,7.513#M,1,3,0.000,497.667,0.000#M,1,3,-1.885,482.612,7.065#M,1,3,1.885,482.612,7.065#M,1,3,-2.199,482.259,8.003#M,1,3,2.199,482.259,8.003#M,1,3,-0.314,496.684,8.159#M,1,3,0.314,496.684,8.159#M,1,3,-0.785,489.688,6.888#M,1,3,0.785,489.688,6.888#M,1,3,-2.670,482.323,9.568#M,1,3,2.670,482.323,9.568#M,1,3,-0.942,488.118,6.738#M,1,3,0.942,488.118,6.738#M,1,3,-2.513,482.286,9.062#M,1,3,-0.157,497.405,8.291#M,1,3,0.157,497.405,8.291#M,1,3,2.513,482.286,9.062#M,1,3,-1.571,483.381,6.474#M,1,3,1.571,483.381,6.474#M,1,3,-2.985,482.265,10.325#M,1,3,-2.827,482.323,10.007#M,1,3,-2.356,482.243,8.525#M,1,3,2.356,482.243,8.525#M,1,3,2.827,482.323,10.007#M,1,3,2.985,482.265,10.325#M,1,3,-0.471,495.648,7.921#M,1,3,0.471,495.648,7.921#M,1,3,-1.257,484.737,6.268#M,1,3,1.257,484.737,6.268#M,1,3,-3.142,482.217,0.000#M,1,3,3.142,482.217,0.000#M,1,3,-1.414,484.097,6.291#M,1,3,1.414,484.097,6.291#M,1,3,-1.100,486.569,6.573#M,1,3,1.100,486.569,6.573#M,1,3,-0.628,491.232,7.042#M,1,3,0.628,491.232,7.042#M,1,3,-1.728,482.863,6.746#M,1,3,1.728,482.863,6.746#M,1,3,-2.042,482.355,7.513#M,1,3,2.042,482.355,7.513#M,1,4,0.000,497.667,0.000#M,1,4,-1.885,482.612,7.065#M,1,4,1.885,482.612,7.065#M,1,4,-2.199,482.259,8.003#M,1,4,2.199,482.259,8.003#M,1,4,-0.314,496.684,8.159#M,1,4,0.314,496.684,8.159#M,1,4,-0.785,489.688,6.888#")
-            .append("M,1,4,0.785,489.688,6.888#M,1,4,-2.670,482.323,9.568#M,1,4,2.670,482.323,9.568#M,1,4,-0.942,488.118,6.738#M,1,4,0.942,488.118,6.738#M,1,4,-2.513,482.286,9.062#M,1,4,-0.157,497.405,8.291#M,1,4,0.157,497.405,8.291#M,1,4,2.513,482.286,9.062#M,1,4,-1.571,483.381,6.474#M,1,4,1.571,483.381,6.474#M,1,4,-2.985,482.265,10.325#M,1,4,-2.827,482.323,10.007#M,1,4,-2.356,482.243,8.525#M,1,4,2.356,482.243,8.525#M,1,4,2.827,482.323,10.007#M,1,4,2.985,482.265,10.325#M,1,4,-0.471,495.648,7.921#M,1,4,0.471,495.648,7.921#M,1,4,-1.257,484.737,6.268#M,1,4,1.257,484.737,6.268#M,1,4,-3.142,482.217,0.000#M,1,4,3.142,482.217,0.000#M,1,4,-1.414,484.097,6.291#M,1,4,1.414,484.097,6.291#M,1,4,-1.100,486.569,6.573#M,1,4,1.100,486.569,6.573#M,1,4,-0.628,491.232,7.042#M,1,4,0.628,491.232,7.042#M,1,4,-1.728,482.863,6.746#M,1,4,1.728,482.863,6.746#M,1,4,-2.042,482.355,7.513#M,1,4,2.042,482.355,7.513#M,2,0,0.000,490.521,0.000#M,2,0,-1.885,449.949,6.833#M,2,0,1.885,449.949,6.833#M,2,0,-2.199,450.681,7.639#M,2,0,2.199,450.681,7.639#M,2,0,-0.314,488.935,7.570#M,2,0,0.314,488.935,7.570#M,2,0,-0.785,458.403,7.311#M,2,0,0.785,458.403,7.311#M,2,0,-2.670,473.891,9.432#M,2,0,2.670,473.891,9.432#M,2,0,-0.942,456.956,6.817#M,2,0,0.942,456.956,6.817#M,2,0,-2.513,473.853,8.522#M,2,0,-0.157,490.174,7.339#M,2,0,0.157,490.174,7.339#M,2,0,2.513,473.853,8.522#M,2,0,-1.571,449.949,6.467#M,2,0,1.571,449.949,6.467#M,2,0,-2.985,472.726,9.747#M,2,0,-2.827,473.239,9.667#M,2,0,-2.356,451.343,8.130#M,2,0,2.356,451.343,8.130#M,2,0,2.827,473.239,9.667#M,2,0,2.985,472.726,9.747#M,2,0,-0.471,486.233,8.092#M,2,0,0.471,486.233,8.092#M,2,0,-1.257,450.766,6.448#M,2,0,1.257,450.766,6.448#M,2,0,-3.142,472.529,0.000#M,2,0,3.142,472.529,0.000#M,2,0,-1.414,450.205,6.433#M,2,0,1.414,450.205,6.433#M,2,0,-1.100,455.802,6.471#M,2,0,1.100,455.802,6.471#M,2,0,-0.628,482.195,8.265#M,2,0,0.628,482.195,8.265#M,2,0,-1.728,449.885,6.584#M,2,0,1.728,449.885,6.584#M,2,0,-2.042,450.200,7.196#M,2,0,2.042,450.200,7.196#M,2,1,0.000,490.521,0.000#M,2,1,-1.885,449.949,6.833#M,2,1,1.885,449.949,6.833#M,2,1,-2.199,450.681,7.639#M,2,1,2.199,450.681,7.639#M,2,1,-0.314,488.935,7.570#M,2,1,0.314,488.935,7.570#M,2,1,-0.785,458.403,7.311#M,2,1,0.785,458.403,7.311#M,2,1,-2.670,473.891,9.432#M,2,1,2.670,473.891,9.432#M,2,1,-0.942,456.956,6.817#M,2,1,0.942,456.956,6.817#M,2,1,-2.513,473.853,8.522#M,2,1,-0.157,490.174,7.339#M,2,1,0.157,490.174,7.339#M,2,1,2.513,473.853,8.522#M,2,1,-1.571,449.949,6.467#M,2,1,1.571,449.949,6.467#M,2,1,-2.985,472.726,9.747#M,2,1,-2.827,473.239,9.667#M,2,1,-2.356,451.343,8.130#M,2,1,2.356,451.343,8.130#M,2,1,2.827,473.239,9.667#M,2,1,2.985,472.726,9.747#M,2,1,-0.471,486.233,8.092#M,2,1,0.471,486.233,8.092#M,2,1,-1.257,450.766,6.448#M,2,1,1.257,450.766,6.448#M,2,1,-3.142,472.529,0.000#M,2,1,3.142,472.529,0.000#M,2,1,-1.414,450.205,6.433#M,2,1,1.414,450.205,6.433#M,2,1,-1.100,455.802,6.471#M,2,1,1.100,455.802,6.471#M,2,1,-0.628,482.195,8.265#M,2,1,0.628,482.195,8.265#M,2,1,-1.728,449.885,6.584#M,2,1,1.728,449.885,6.584#M,2,1,-2.042,450.200,7.196#M,2,1,2.042,450.200,7.196#M,2,2,0.000,490.521,0.000#M,2,2,-1.885,449.949,6.833#M,2,2,1.885,449.949,6.833#M,2,2,-2.199,450.681,7.639#M,2,2,2.199,450.681,7.639#M,2,2,-0.314,488.935,7.570#M,2,2,0.314,488.935,7.570#M,2,2,-0.785,458.403,7.311#M,2,2,0.785,458.403,7.311#M,2,2,-2.670,473.891,9.432#M,2,2,2.670,473.891,9.432#M,2,2,-0.942,456.956,6.817#M,2,2,0.942,456.956,6.817#M,2,2,-2.513,473.853,8.522#M,2,2,-0.157,490.174,7.339#M,2,2,0.157,490.174,7.339#M,2,2,2.513,473.853,8.522#M,2,2,-1.571,449.949,6.467#M,2,2,1.571,449.949,6.467#M,2,2,-2.985,472.726,9.747#M,2,2,-2.827,473.239,9.667#M,2,2,-2.356,451.343,8.130#M,2,2,2.356,451.343,8.130#M,2,2,2.827,473.239,9.667#M,2,2,2.985,472.726,9.747#M,2,2,-0.471,486.233,8.092#M,2,2,0.471,486.233,8.092#M,2,2,-1.257,450.766,6.448#M,2,2,1.257,450.766,6.448#M,2,2,-3.142,472.529,0.000#M,2,2,3.142,472.529,0.000#M,2,2,-1.414,450.205,6.433#M,2,2,1.414,450.205,6.433#M,2,2,-1.100,455.802,6.471#M,2,2,1.100,455.802,6.471#M,2,2,-0.628,482.195,8.265#M,2,2,0.628,482.195,8.265#M,2,2,-1.728,449.885,6.584#M,2,2,1.728,449.885,6.584#M,2,2,-2.042,450.200,7.196#M,2,2,2.042,450.200,7.196#M,2,3,0.000,490.521,0.000#M,2,3,-1.885,449.949,6.833#M,2,3,1.885,449.949,6.833#M,2,3,-2.199,450.681,7.639#M,2,3,2.199,450.681,7.639#M,2,3,-0.314,488.935,7.570#M,2,3,0.314,488.935,7.570#M,2,3,-0.785,458.403,7.311#M,2,3,0.785,458.403,7.311#M,2,3,-2.670,473.891,9.432#M,2,3,2.670,473.891,9.432#M,2,3,-0.942,456.956,6.817#M,2,3,0.942,456.956,6.817#M,2,3,-2.513,473.853,8.522#M,2,3,-0.157,490.174,7.339#M,2,3,0.157,490.174,7.339#M,2,3,2.513,473.853,8.522#M,2,3,-1.571,449.949,6.467#M,2,3,1.571,449.949,6.467#M,2,3,-2.985,472.726,9.747#M,2,3,-2.827,473.239,9.667#M,2,3,-2.356,451.343,8.130#M,2,3,2.356,451.343,8.130#M,2,3,2.827,473.239,9.667#M,2,3,2.985,472.726,9.747#M,2,3,-0.471,486.233,8.092#M,2,3,0.471,486.233,8.092#M,2,3,-1.257,450.766,6.448#M,2,3,1.257,450.766,6.448#M,2,3,-3.142,472.529,0.000#M,2,3,3.142,472.529,0.000#M,2,3,-1.414,450.205,6.433#M,2,3,1.414,450.205,6.433#M,2,3,-1.100,455.802,6.471#M,2,3,1.100,455.802,6.471#M,2,3,-0.628,482.195,8.265#M,2,3,0.628,482.195,8.265#M,2,3,-1.728,449.885,6.584#M,2,3,1.728,449.885,6.584#M,2,3,-2.042,450.200,7.196#M,2,3,2.042,450.200,7.196#M,2,4,0.000,490.521,0.000#M,2,4,-1.885,449.949,6.833#M,2,4,1.885,449.949,6.833#M,2,4,-2.199,450.681,7.639#M,2,4,2.199,450.681,7.639#M,2,4,-0.314,488.935,7.570#M,2,4,0.314,488.935,7.570#M,2,4,-0.785,458.403,7.311#M,2,4,0.785,458.403,7.311#M,2,4,-2.670,473.891,9.432#M,2,4,2.670,473.891,9.432#M,2,4,-0.942,456.956,6.817#M,2,4,0.942,456.956,6.817#M,2,4,-2.513,473.853,8.522#M,2,4,-0.157,490.174,7.339#M,2,4,0.157,490.174,7.339#M,2,4,2.513,473.853,8.522#M,2,4,-1.571,449.949,6.467#M,2,4,1.571,449.949,6.467#M,2,4,-2.985,472.726,9.747#M,2,4,-2.827,473.239,9.667#M,2,4,-2.356,451.343,8.130#M,2,4,2.356,451.343,8.130#M,2,4,2.827,473.239,9.667#M,2,4,2.985,472.726,9.747#M,2,4,-0.471,486.233,8.092#M,2,4,0.471,486.233,8.092#M,2,4,-1.257,450.766,6.448#M,2,4,1.257,450.766,6.448#M,2,4,-3.142,472.529,0.000#M,2,4,3.142,472.529,0.000#M,2,4,-1.414,450.205,6.433#M,2,4,1.414,450.205,6.433#M,2,4,-1.100,455.802,6.471#M,2,4,1.100,455.802,6.471#M,2,4,-0.628,482.195,8.265#M,2,4,0.628,482.195,8.265#M,2,4,-1.728,449.885,6.584#M,2,4,1.728,449.885,6.584#M,2,4,-2.042,450.200,7.196#M,2,4,2.042,450.200,7.196#M,3,0,0.000,458.553,0.000#M,3,0,-1.885,441.981,7.152#M,3,0,1.885,441.981,7.152#M,3,0,-2.199,442.023,8.127#M,3,0,2.199,442.023,8.127#M,3,0,-0.314,457.399,7.946#M,3,0,0.314,457.399,7.946#M,3,0,-0.785,449.687,6.716#M,3,0,0.785,449.687,6.716#M,3,0,-2.670,442.664,9.898#M,3,0,2.670,442.664,9.898#M,3,0,-0.942,447.914,6.633#M,3,0,0.942,447.914,6.633#M,3,0,-2.513,442.472,9.372#M,3,0,-0.157,458.248,8.014#M,3,0,0.157,458.248,8.014#M,3,0,2.513,442.472,9.372#M,3,0,-1.571,442.360,6.657#M,3,0,1.571,442.360,6.657#M,3,0,-2.985,443.166,11.041#M,3,0,-2.827,442.819,10.295#M,3,0,-2.356,442.200,8.735#M,3,0,2.356,442.200,8.735#M,3,0,2.827,442.819,10.295#M,3,0,2.985,443.166,11.041#M,3,0,-0.471,456.123,7.795#M,3,0,0.471,456.123,7.795#M,3,0,-1.257,444.283,6.283#M,3,0,1.257,444.283,6.283#M,3,0,-3.142,443.220,0.000#M,3,0,3.142,443.220,0.000#M,3,0,-1.414,442.990,6.518#M,3,0,1.414,442.990,6.518#M,3,0,-1.100,445.377,6.220#M,3,0,1.100,445.377,6.220#M,3,0,-0.628,451.455,6.780#M,3,0,0.628,451.455,6.780#M,3,0,-1.728,442.061,6.852#M,3,0,1.728,442.061,6.852#M,3,0,-2.042,441.965,7.585#M,3,0,2.042,441.965,7.585#M,3,1,0.000,458.553,0.000#M,3,1,-1.885,441.981,7.152#M,3,1,1.885,441.981,7.152#M,3,1,-2.199,442.023,8.127#M,3,1,2.199,442.023,8.127#M,3,1,-0.314,457.399,7.946#M,3,1,0.314,457.399,7.946#M,3,1,-0.785,449.687,6.716#M,3,1,0.785,449.687,6.716#M,3,1,-2.670,442.664,9.898#M,3,1,2.670,442.664,9.898#M,3,1,-0.942,447.914,6.633#M,3,1,0.942,447.914,6.633#M,3,1,-2.513,442.472,9.372#M,3,1,-0.157,458.248,8.014#M,3,1,0.157,458.248,8.014#M,3,1,2.513,442.472,9.372#M,3,1,-1.571,442.360,6.657#M,3,1,1.571,442.360,6.657#M,3,1,-2.985,443.166,11.041#M,3,1,-2.827,442.819,10.295#M,3,1,-2.356,442.200,8.735#M,3,1,2.356,442.200,8.735#M,3,1,2.827,442.819,10.295#M,3,1,2.985,443.166,11.041#M,3,1,-0.471,456.123,7.795#M,3,1,0.471,456.123,7.795#M,3,1,-1.257,444.283,6.283#M,3,1,1.257,444.283,6.283#M,3,1,-3.142,443.220,0.000#M,3,1,3.142,443.220,0.000#M,3,1,-1.414,442.990,6.518#M,3,1,1.414,442.990,6.518#M,3,1,-1.100,445.377,6.220#M,3,1,1.100,445.377,6.220#M,3,1,-0.628,451.455,6.780#M,3,1,0.628,451.455,6.780#M,3,1,-1.728,442.061,6.852#M,3,1,1.728,442.061,6.852#M,3,1,-2.042,441.965,7.585#M,3,1,2.042,441.965,7.585#M,3,2,0.000,458.553,0.000#M,3,2,-1.885,441.981,7.152#M,3,2,1.885,441.981,7.152#M,3,2,-2.199,442.023,8.127#M,3,2,2.199,442.023,8.127#M,3,2,-0.314,457.399,7.946#M,3,2,0.314,457.399,7.946#M,3,2,-0.785,449.687,6.716#M,3,2,0.785,449.687,6.716#M,3,2,-2.670,442.664,9.898#M,3,2,2.670,442.664,9.898#M,3,2,-0.942,447.914,6.633#M,3,2,0.942,447.914,6.633#M,3,2,-2.513,442.472,9.372#M,3,2,-0.157,458.248,8.014#M,3,2,0.157,458.248,8.014#M,3,2,2.513,442.472,9.372#M,3,2,-1.571,442.360,6.657#M,3,2,1.571,442.360,6.657#M,3,2,-2.985,443.166,11.041#M,3,2,-2.827,442.819,10.295#M,3,2,-2.356,442.200,8.735#M,3,2,2.356,442.200,8.735#M,3,2,2.827,442.819,10.295#M,3,2,2.985,443.166,11.041#M,3,2,-0.471,456.123,7.795#M,3,2,0.471,456.123,7.795#M,3,2,-1.257,444.283,6.283#M,3,2,1.257,444.283,6.283#M,3,2,-3.142,443.220,0.000#M,3,2,3.142,443.220,0.000#M,3,2,-1.414,442.990,6.518#M,3,2,1.414,442.990,6.518#M,3,2,-1.100,445.377,6.220#M,3,2,1.100,445.377,6.220#M,3,2,-0.628,451.455,6.780#M,3,2,0.628,451.455,6.780#M,3,2,-1.728,442.061,6.852#M,3,2,1.728,442.061,6.852#M,3,2,-2.042,441.965,7.585#M,3,2,2.042,441.965,7.585#M,3,3,0.000,458.553,0.000#M,3,3,-1.885,441.981,7.152#M,3,3,1.885,441.981,7.152#M,3,3,-2.199,442.023,8.127#M,3,3,2.199,442.023,8.127#M,3,3,-0.314,457.399,7.946#M,3,3,0.314,457.399,7.946#M,3,3,-0.785,449.687,6.716#M,3,3,0.785,449.687,6.716#M,3,3,-2.670,442.664,9.898#M,3,3,2.670,442.664,9.898#M,3,3,-0.942,447.914,6.633#M,3,3,0.942,447.914,6.633#M,3,3,-2.513,442.472,9.372#M,3,3,-0.157,458.248,8.014#M,3,3,0.157,458.248,8.01")
-            .append("4#M,3,3,2.513,442.472,9.372#M,3,3,-1.571,442.360,6.657#M,3,3,1.571,442.360,6.657#M,3,3,-2.985,443.166,11.041#M,3,3,-2.827,442.819,10.295#M,3,3,-2.356,442.200,8.735#M,3,3,2.356,442.200,8.735#M,3,3,2.827,442.819,10.295#M,3,3,2.985,443.166,11.041#M,3,3,-0.471,456.123,7.795#M,3,3,0.471,456.123,7.795#M,3,3,-1.257,444.283,6.283#M,3,3,1.257,444.283,6.283#M,3,3,-3.142,443.220,0.000#M,3,3,3.142,443.220,0.000#M,3,3,-1.414,442.990,6.518#M,3,3,1.414,442.990,6.518#M,3,3,-1.100,445.377,6.220#M,3,3,1.100,445.377,6.220#M,3,3,-0.628,451.455,6.780#M,3,3,0.628,451.455,6.780#M,3,3,-1.728,442.061,6.852#M,3,3,1.728,442.061,6.852#M,3,3,-2.042,441.965,7.585#M,3,3,2.042,441.965,7.585#M,3,4,0.000,458.553,0.000#M,3,4,-1.885,441.981,7.152#M,3,4,1.885,441.981,7.152#M,3,4,-2.199,442.023,8.127#M,3,4,2.199,442.023,8.127#M,3,4,-0.314,457.399,7.946#M,3,4,0.314,457.399,7.946#M,3,4,-0.785,449.687,6.716#M,3,4,0.785,449.687,6.716#M,3,4,-2.670,442.664,9.898#M,3,4,2.670,442.664,9.898#M,3,4,-0.942,447.914,6.633#M,3,4,0.942,447.914,6.633#M,3,4,-2.513,442.472,9.372#M,3,4,-0.157,458.248,8.014#M,3,4,0.157,458.248,8.014#M,3,4,2.513,442.472,9.372#M,3,4,-1.571,442.360,6.657#M,3,4,1.571,442.360,6.657#M,3,4,-2.985,443.166,11.041#M,3,4,-2.827,442.819,10.295#M,3,4,-2.356,442.200,8.735#M,3,4,2.356,442.200,8.735#M,3,4,2.827,442.819,10.295#M,3,4,2.985,443.166,11.041#M,3,4,-0.471,456.123,7.795#M,3,4,0.471,456.123,7.795#M,3,4,-1.257,444.283,6.283#M,3,4,1.257,444.283,6.283#M,3,4,-3.142,443.220,0.000#M,3,4,3.142,443.220,0.000#M,3,4,-1.414,442.990,6.518#M,3,4,1.414,442.990,6.518#M,3,4,-1.100,445.377,6.220#M,3,4,1.100,445.377,6.220#M,3,4,-0.628,451.455,6.780#M,3,4,0.628,451.455,6.780#M,3,4,-1.728,442.061,6.852#M,3,4,1.728,442.061,6.852#M,3,4,-2.042,441.965,7.585#M,3,4,2.042,441.965,7.585#M,4,0,0.000,451.743,0.000#M,4,0,-1.885,410.845,6.828#M,4,0,1.885,410.845,6.828#M,4,0,-2.199,411.668,7.635#M,4,0,2.199,411.668,7.635#M,4,0,-0.314,450.333,6.836#M,4,0,0.314,450.333,6.836#M,4,0,-0.785,425.938,7.432#M,4,0,0.785,425.938,7.432#M,4,0,-2.670,434.856,10.094#M,4,0,2.670,434.856,10.094#M,4,0,-0.942,417.943,6.716#M,4,0,0.942,417.943,6.716#M,4,0,-2.513,434.472,8.888#M,4,0,-0.157,451.391,6.771#M,4,0,0.157,451.391,6.771#M,4,0,2.513,434.472,8.888#M,4,0,-1.571,410.845,6.460#M,4,0,1.571,410.845,6.460#M,4,0,-2.985,434.039,10.763#M,4,0,-2.827,434.418,10.513#M,4,0,-2.356,412.698,7.970#M,4,0,2.356,412.698,7.970#M,4,0,2.827,434.418,10.513#M,4,0,2.985,434.039,10.763#M,4,0,-0.471,447.866,7.416#M,4,0,0.471,447.866,7.416#M,4,0,-1.257,411.694,6.407#M,4,0,1.257,411.694,6.407#M,4,0,-3.142,433.868,0.000#M,4,0,3.142,433.868,0.000#M,4,0,-1.414,411.123,6.419#M,4,0,1.414,411.123,6.419#M,4,0,-1.100,416.880,6.460#M,4,0,1.100,416.880,6.460#M,4,0,-0.628,442.905,7.916#M,4,0,0.628,442.905,7.916#M,4,0,-1.728,410.786,6.585#M,4,0,1.728,410.786,6.585#M,4,0,-2.042,411.118,7.188#M,4,0,2.042,411.118,7.188#M,4,1,0.000,451.743,0.000#M,4,1,-1.885,410.845,6.828#M,4,1,1.885,410.845,6.828#M,4,1,-2.199,411.668,7.635#M,4,1,2.199,411.668,7.635#M,4,1,-0.314,450.333,6.836#M,4,1,0.314,450.333,6.836#M,4,1,-0.785,425.938,7.432#M,4,1,0.785,425.938,7.432#M,4,1,-2.670,434.856,10.094#M,4,1,2.670,434.856,10.094#M,4,1,-0.942,417.943,6.716#M,4,1,0.942,417.943,6.716#M,4,1,-2.513,434.472,8.888#M,4,1,-0.157,451.391,6.771#M,4,1,0.157,451.391,6.771#M,4,1,2.513,434.472,8.888#M,4,1,-1.571,410.845,6.460#M,4,1,1.571,410.845,6.460#M,4,1,-2.985,434.039,10.763#M,4,1,-2.827,434.418,10.513#M,4,1,-2.356,412.698,7.970#M,4,1,2.356,412.698,7.970#M,4,1,2.827,434.418,10.513#M,4,1,2.985,434.039,10.763#M,4,1,-0.471,447.866,7.416#M,4,1,0.471,447.866,7.416#M,4,1,-1.257,411.694,6.407#M,4,1,1.257,411.694,6.407#M,4,1,-3.142,433.868,0.000#M,4,1,3.142,433.868,0.000#M,4,1,-1.414,411.123,6.419#M,4,1,1.414,411.123,6.419#M,4,1,-1.100,416.880,6.460#M,4,1,1.100,416.880,6.460#M,4,1,-0.628,442.905,7.916#M,4,1,0.628,442.905,7.916#M,4,1,-1.728,410.786,6.585#M,4,1,1.728,410.786,6.585#M,4,1,-2.042,411.118,7.188#M,4,1,2.042,411.118,7.188#M,4,2,0.000,451.743,0.000#M,4,2,-1.885,410.845,6.828#M,4,2,1.885,410.845,6.828#M,4,2,-2.199,411.668,7.635#M,4,2,2.199,411.668,7.635#M,4,2,-0.314,450.333,6.836#M,4,2,0.314,450.333,6.836#M,4,2,-0.785,425.938,7.432#M,4,2,0.785,425.938,7.432#M,4,2,-2.670,434.856,10.094#M,4,2,2.670,434.856,10.094#M,4,2,-0.942,417.943,6.716#M,4,2,0.942,417.943,6.716#M,4,2,-2.513,434.472,8.888#M,4,2,-0.157,451.391,6.771#M,4,2,0.157,451.391,6.771#M,4,2,2.513,434.472,8.888#M,4,2,-1.571,410.845,6.460#M,4,2,1.571,410.845,6.460#M,4,2,-2.985,434.039,10.763#M,4,2,-2.827,434.418,10.513#M,4,2,-2.356,412.698,7.970#M,4,2,2.356,412.698,7.970#M,4,2,2.827,434.418,10.513#M,4,2,2.985,434.039,10.763#M,4,2,-0.471,447.866,7.416#M,4,2,0.471,447.866,7.416#M,4,2,-1.257,411.694,6.407#M,4,2,1.257,411.694,6.407#M,4,2,-3.142,433.868,0.000#M,4,2,3.142,433.868,0.000#M,4,2,-1.414,411.123,6.419#M,4,2,1.414,411.123,6.419#M,4,2,-1.100,416.880,6.460#M,4,2,1.100,416.880,6.460#M,4,2,-0.628,442.905,7.916#M,4,2,0.628,442.905,7.916#M,4,2,-1.728,410.786,6.585#M,4,2,1.728,410.786,6.585#M,4,2,-2.042,411.118,7.188#M,4,2,2.042,411.118,7.188#M,4,3,0.000,451.743,0.000#M,4,3,-1.885,410.845,6.828#M,4,3,1.885,410.845,6.828#M,4,3,-2.199,411.668,7.635#M,4,3,2.199,411.668,7.635#M,4,3,-0.314,450.333,6.836#M,4,3,0.314,450.333,6.836#M,4,3,-0.785,425.938,7.432#M,4,3,0.785,425.938,7.432#M,4,3,-2.670,434.856,10.094#M,4,3,2.670,434.856,10.094#M,4,3,-0.942,417.943,6.716#M,4,3,0.942,417.943,6.716#M,4,3,-2.513,434.472,8.888#M,4,3,-0.157,451.391,6.771#M,4,3,0.157,451.391,6.771#M,4,3,2.513,434.472,8.888#M,4,3,-1.571,410.845,6.460#M,4,3,1.571,410.845,6.460#M,4,3,-2.985,434.039,10.763#M,4,3,-2.827,434.418,10.513#M,4,3,-2.356,412.698,7.970#M,4,3,2.356,412.698,7.970#M,4,3,2.827,434.418,10.513#M,4,3,2.985,434.039,10.763#M,4,3,-0.471,447.866,7.416#M,4,3,0.471,447.866,7.416#M,4,3,-1.257,411.694,6.407#M,4,3,1.257,411.694,6.407#M,4,3,-3.142,433.868,0.000#M,4,3,3.142,433.868,0.000#M,4,3,-1.414,411.123,6.419#M,4,3,1.414,411.123,6.419#M,4,3,-1.100,416.880,6.460#M,4,3,1.100,416.880,6.460#M,4,3,-0.628,442.905,7.916#M,4,3,0.628,442.905,7.916#M,4,3,-1.728,410.786,6.585#M,4,3,1.728,410.786,6.585#M,4,3,-2.042,411.118,7.188#M,4,3,2.042,411.118,7.188#M,4,4,0.000,451.743,0.000#M,4,4,-1.885,410.845,6.828#M,4,4,1.885,410.845,6.828#M,4,4,-2.199,411.668,7.635#M,4,4,2.199,411.668,7.635#M,4,4,-0.314,450.333,6.836#M,4,4,0.314,450.333,6.836#M,4,4,-0.785,425.938,7.432#M,4,4,0.785,425.938,7.432#M,4,4,-2.670,434.856,10.094#M,4,4,2.670,434.856,10.094#M,4,4,-0.942,417.943,6.716#M,4,4,0.942,417.943,6.716#M,4,4,-2.513,434.472,8.888#M,4,4,-0.157,451.391,6.771#M,4,4,0.157,451.391,6.771#M,4,4,2.513,434.472,8.888#M,4,4,-1.571,410.845,6.460#M,4,4,1.571,410.845,6.460#M,4,4,-2.985,434.039,10.763#M,4,4,-2.827,434.418,10.513#M,4,4,-2.356,412.698,7.970#M,4,4,2.356,412.698,7.970#M,4,4,2.827,434.418,10.513#M,4,4,2.985,434.039,10.763#M,4,4,-0.471,447.866,7.416#M,4,4,0.471,447.866,7.416#M,4,4,-1.257,411.694,6.407#M,4,4,1.257,411.694,6.407#M,4,4,-3.142,433.868,0.000#M,4,4,3.142,433.868,0.000#M,4,4,-1.414,411.123,6.419#M,4,4,1.414,411.123,6.419#M,4,4,-1.100,416.880,6.460#M,4,4,1.100,416.880,6.460#M,4,4,-0.628,442.905,7.916#M,4,4,0.628,442.905,7.916#M,4,4,-1.728,410.786,6.585#M,4,4,1.728,410.786,6.585#M,4,4,-2.042,411.118,7.188#M,4,4,2.042,411.118,7.188#M,6,0,0.000,408.442,0.000#M,6,0,-1.885,378.551,6.522#M,6,0,1.885,378.551,6.522#M,6,0,-2.199,380.164,7.128#M,6,0,2.199,380.164,7.128#M,6,0,-0.314,407.133,7.624#M,6,0,0.314,407.133,7.624#M,6,0,-0.785,402.824,7.380#M,6,0,0.785,402.824,7.380#M,6,0,-2.670,393.665,7.751#M,6,0,2.670,393.665,7.751#M,6,0,-0.942,380.169,6.978#M,6,0,0.942,380.169,6.978#M,6,0,-2.513,394.562,7.699#M,6,0,-0.157,408.239,7.896#M,6,0,0.157,408.239,7.896#M,6,0,2.513,394.562,7.699#M,6,0,-1.571,378.551,6.171#M,6,0,1.571,378.551,6.171#M,6,0,-2.985,392.527,7.756#M,6,0,-2.827,392.960,7.760#M,6,0,-2.356,395.368,7.533#M,6,0,2.356,395.368,7.533#M,6,0,2.827,392.960,7.760#M,6,0,2.985,392.527,7.756#M,6,0,-0.471,405.937,7.618#M,6,0,0.471,405.937,7.618#M,6,0,-1.257,378.855,6.308#M,6,0,1.257,378.855,6.308#M,6,0,-3.142,392.377,0.000#M,6,0,3.142,392.377,0.000#M,6,0,-1.414,378.663,6.186#M,6,0,1.414,378.663,6.186#M,6,0,-1.100,379.352,6.560#M,6,0,1.100,379.352,6.560#M,6,0,-0.628,404.453,7.527#M,6,0,0.628,404.453,7.527#M,6,0,-1.728,378.455,6.310#M,6,0,1.728,378.455,6.310#M,6,0,-2.042,378.887,6.784#M,6,0,2.042,378.887,6.784#M,6,1,0.000,408.442,0.000#M,6,1,-1.885,378.551,6.522#M,6,1,1.885,378.551,6.522#M,6,1,-2.199,380.164,7.128#M,6,1,2.199,380.164,7.128#M,6,1,-0.314,407.133,7.624#M,6,1,0.314,407.133,7.624#M,6,1,-0.785,402.824,7.380#M,6,1,0.785,402.824,7.380#M,6,1,-2.670,393.665,7.751#M,6,1,2.670,393.665,7.751#M,6,1,-0.942,380.169,6.978#M,6,1,0.942,380.169,6.978#M,6,1,-2.513,394.562,7.699#M,6,1,-0.157,408.239,7.896#M,6,1,0.157,408.239,7.896#M,6,1,2.513,394.562,7.699#M,6,1,-1.571,378.551,6.171#M,6,1,1.571,378.551,6.171#M,6,1,-2.985,392.527,7.756#M,6,1,-2.827,392.960,7.760#M,6,1,-2.356,395.368,7.533#M,6,1,2.356,395.368,7.533#M,6,1,2.827,392.960,7.760#M,6,1,2.985,392.527,7.756#M,6,1,-0.471,405.937,7.618#M,6,1,0.471,405.937,7.618#M,6,1,-1.257,378.855,6.308#M,6,1,1.257,378.855,6.308#M,6,1,-3.142,392.377,0.000#M,6,1,3.142,392.377,0.000#M,6,1,-1.414,378.663,6.186#M,6,1,1.414,378.663,6.186#M,6,1,-1.100,379.352,6.560#M,6,1,1.100,379.352,6.560#M,6,1,-0.628,404.453,7.527#M,6,1,0.628,404.453,7.527#M,6,1,-1.728,378.455,6.310#M,6,1,1.728,378.455,6.310#M,6,1,-2.042,378.887,6.784#M,6,1,2.042,378.887,6.784#M,6,2,0.000,408.442,0.000#M,6,2,-1.885,378.551,6.522#M,6,2,1.885,378.551,6.522#M,6,2,-2.199,380.164,7.128#M,6,2,2.199,380.164,7.128#M,6,2,-0.314,407.133,7.624#M,6,2,0.314,407.133,7.624#M,6,2,-0.785,402.824,7.380#M,6,2,0.785,402.824,7.380#M,6,2,-2.670,393.665,7.751#M,6,2,2.670,393.665,7.751#M,6,2,-0.942,380.169,6.978#M,6,2,0.942,380.169,6.978#M,6,2,-2.513,394.562,7.699#M,6,2,-0.157,408.239,7.896#M,6,2,0.157,408.239,7.896#M,6,2,2.513,394.562,7.699#M,6,2,-1.571,378.551,6.171#M,6,2,1.571,378.551,6.171#M,6,2,-2.985,392.527,7.756#M,6,2,-2.827,392.960,7.760#M,6,2,-2.356,395.368,7.533#M,6,2,2.356,395.368,7.533#")
-            .append("M,6,2,2.827,392.960,7.760#M,6,2,2.985,392.527,7.756#M,6,2,-0.471,405.937,7.618#M,6,2,0.471,405.937,7.618#M,6,2,-1.257,378.855,6.308#M,6,2,1.257,378.855,6.308#M,6,2,-3.142,392.377,0.000#M,6,2,3.142,392.377,0.000#M,6,2,-1.414,378.663,6.186#M,6,2,1.414,378.663,6.186#M,6,2,-1.100,379.352,6.560#M,6,2,1.100,379.352,6.560#M,6,2,-0.628,404.453,7.527#M,6,2,0.628,404.453,7.527#M,6,2,-1.728,378.455,6.310#M,6,2,1.728,378.455,6.310#M,6,2,-2.042,378.887,6.784#M,6,2,2.042,378.887,6.784#M,6,3,0.000,408.442,0.000#M,6,3,-1.885,378.551,6.522#M,6,3,1.885,378.551,6.522#M,6,3,-2.199,380.164,7.128#M,6,3,2.199,380.164,7.128#M,6,3,-0.314,407.133,7.624#M,6,3,0.314,407.133,7.624#M,6,3,-0.785,402.824,7.380#M,6,3,0.785,402.824,7.380#M,6,3,-2.670,393.665,7.751#M,6,3,2.670,393.665,7.751#M,6,3,-0.942,380.169,6.978#M,6,3,0.942,380.169,6.978#M,6,3,-2.513,394.562,7.699#M,6,3,-0.157,408.239,7.896#M,6,3,0.157,408.239,7.896#M,6,3,2.513,394.562,7.699#M,6,3,-1.571,378.551,6.171#M,6,3,1.571,378.551,6.171#M,6,3,-2.985,392.527,7.756#M,6,3,-2.827,392.960,7.760#M,6,3,-2.356,395.368,7.533#M,6,3,2.356,395.368,7.533#M,6,3,2.827,392.960,7.760#M,6,3,2.985,392.527,7.756#M,6,3,-0.471,405.937,7.618#M,6,3,0.471,405.937,7.618#M,6,3,-1.257,378.855,6.308#M,6,3,1.257,378.855,6.308#M,6,3,-3.142,392.377,0.000#M,6,3,3.142,392.377,0.000#M,6,3,-1.414,378.663,6.186#M,6,3,1.414,378.663,6.186#M,6,3,-1.100,379.352,6.560#M,6,3,1.100,379.352,6.560#M,6,3,-0.628,404.453,7.527#M,6,3,0.628,404.453,7.527#M,6,3,-1.728,378.455,6.310#M,6,3,1.728,378.455,6.310#M,6,3,-2.042,378.887,6.784#M,6,3,2.042,378.887,6.784#M,6,4,0.000,408.442,0.000#M,6,4,-1.885,378.551,6.522#M,6,4,1.885,378.551,6.522#M,6,4,-2.199,380.164,7.128#M,6,4,2.199,380.164,7.128#M,6,4,-0.314,407.133,7.624#M,6,4,0.314,407.133,7.624#M,6,4,-0.785,402.824,7.380#M,6,4,0.785,402.824,7.380#M,6,4,-2.670,393.665,7.751#M,6,4,2.670,393.665,7.751#M,6,4,-0.942,380.169,6.978#M,6,4,0.942,380.169,6.978#M,6,4,-2.513,394.562,7.699#M,6,4,-0.157,408.239,7.896#M,6,4,0.157,408.239,7.896#M,6,4,2.513,394.562,7.699#M,6,4,-1.571,378.551,6.171#M,6,4,1.571,378.551,6.171#M,6,4,-2.985,392.527,7.756#M,6,4,-2.827,392.960,7.760#M,6,4,-2.356,395.368,7.533#M,6,4,2.356,395.368,7.533#M,6,4,2.827,392.960,7.760#M,6,4,2.985,392.527,7.756#M,6,4,-0.471,405.937,7.618#M,6,4,0.471,405.937,7.618#M,6,4,-1.257,378.855,6.308#M,6,4,1.257,378.855,6.308#M,6,4,-3.142,392.377,0.000#M,6,4,3.142,392.377,0.000#M,6,4,-1.414,378.663,6.186#M,6,4,1.414,378.663,6.186#M,6,4,-1.100,379.352,6.560#M,6,4,1.100,379.352,6.560#M,6,4,-0.628,404.453,7.527#M,6,4,0.628,404.453,7.527#M,6,4,-1.728,378.455,6.310#M,6,4,1.728,378.455,6.310#M,6,4,-2.042,378.887,6.784#M,6,4,2.042,378.887,6.784#M,7,0,0.000,379.619,0.000#M,7,0,-1.885,367.800,6.420#M,7,0,1.885,367.800,6.420#M,7,0,-2.199,366.951,7.324#M,7,0,2.199,366.951,7.324#M,7,0,-0.314,379.074,7.928#M,7,0,0.314,379.074,7.928#M,7,0,-0.785,373.050,6.904#M,7,0,0.785,373.050,6.904#M,7,0,-2.670,365.402,8.825#M,7,0,2.670,365.402,8.825#M,7,0,-0.942,371.992,6.734#M,7,0,0.942,371.992,6.734#M,7,0,-2.513,365.781,8.596#M,7,0,-0.157,379.469,8.105#M,7,0,0.157,379.469,8.105#M,7,0,2.513,365.781,8.596#M,7,0,-1.571,368.884,6.247#M,7,0,1.571,368.884,6.247#M,7,0,-2.985,365.253,9.394#M,7,0,-2.827,365.376,9.217#M,7,0,-2.356,366.406,7.907#M,7,0,2.356,366.406,7.907#M,7,0,2.827,365.376,9.217#M,7,0,2.985,365.253,9.394#M,7,0,-0.471,378.503,7.680#M,7,0,0.471,378.503,7.680#M,7,0,-1.257,370.246,6.510#M,7,0,1.257,370.246,6.510#M,7,0,-3.142,365.183,0.000#M,7,0,3.142,365.183,0.000#M,7,0,-1.414,369.408,6.329#M,7,0,1.414,369.408,6.329#M,7,0,-1.100,371.026,6.600#M,7,0,1.100,371.026,6.600#M,7,0,-0.628,377.461,7.166#M,7,0,0.628,377.461,7.166#M,7,0,-1.728,368.553,6.258#M,7,0,1.728,368.553,6.258#M,7,0,-2.042,367.426,6.823#M,7,0,2.042,367.426,6.823#M,7,1,0.000,379.619,0.000#M,7,1,-1.885,367.800,6.420#M,7,1,1.885,367.800,6.420#M,7,1,-2.199,366.951,7.324#M,7,1,2.199,366.951,7.324#M,7,1,-0.314,379.074,7.928#M,7,1,0.314,379.074,7.928#M,7,1,-0.785,373.050,6.904#M,7,1,0.785,373.050,6.904#M,7,1,-2.670,365.402,8.825#M,7,1,2.670,365.402,8.825#M,7,1,-0.942,371.992,6.734#M,7,1,0.942,371.992,6.734#M,7,1,-2.513,365.781,8.596#M,7,1,-0.157,379.469,8.105#M,7,1,0.157,379.469,8.105#M,7,1,2.513,365.781,8.596#M,7,1,-1.571,368.884,6.247#M,7,1,1.571,368.884,6.247#M,7,1,-2.985,365.253,9.394#M,7,1,-2.827,365.376,9.217#M,7,1,-2.356,366.406,7.907#M,7,1,2.356,366.406,7.907#M,7,1,2.827,365.376,9.217#M,7,1,2.985,365.253,9.394#M,7,1,-0.471,378.503,7.680#M,7,1,0.471,378.503,7.680#M,7,1,-1.257,370.246,6.510#M,7,1,1.257,370.246,6.510#M,7,1,-3.142,365.183,0.000#M,7,1,3.142,365.183,0.000#M,7,1,-1.414,369.408,6.329#M,7,1,1.414,369.408,6.329#M,7,1,-1.100,371.026,6.600#M,7,1,1.100,371.026,6.600#M,7,1,-0.628,377.461,7.166#M,7,1,0.628,377.461,7.166#M,7,1,-1.728,368.553,6.258#M,7,1,1.728,368.553,6.258#M,7,1,-2.042,367.426,6.823#M,7,1,2.042,367.426,6.823#M,7,2,0.000,379.619,0.000#M,7,2,-1.885,367.800,6.420#M,7,2,1.885,367.800,6.420#M,7,2,-2.199,366.951,7.324#M,7,2,2.199,366.951,7.324#M,7,2,-0.314,379.074,7.928#M,7,2,0.314,379.074,7.928#M,7,2,-0.785,373.050,6.904#M,7,2,0.785,373.050,6.904#M,7,2,-2.670,365.402,8.825#M,7,2,2.670,365.402,8.825#M,7,2,-0.942,371.992,6.734#M,7,2,0.942,371.992,6.734#M,7,2,-2.513,365.781,8.596#M,7,2,-0.157,379.469,8.105#M,7,2,0.157,379.469,8.105#M,7,2,2.513,365.781,8.596#M,7,2,-1.571,368.884,6.247#M,7,2,1.571,368.884,6.247#M,7,2,-2.985,365.253,9.394#M,7,2,-2.827,365.376,9.217#M,7,2,-2.356,366.406,7.907#M,7,2,2.356,366.406,7.907#M,7,2,2.827,365.376,9.217#M,7,2,2.985,365.253,9.394#M,7,2,-0.471,378.503,7.680#M,7,2,0.471,378.503,7.680#M,7,2,-1.257,370.246,6.510#M,7,2,1.257,370.246,6.510#M,7,2,-3.142,365.183,0.000#M,7,2,3.142,365.183,0.000#M,7,2,-1.414,369.408,6.329#M,7,2,1.414,369.408,6.329#M,7,2,-1.100,371.026,6.600#M,7,2,1.100,371.026,6.600#M,7,2,-0.628,377.461,7.166#M,7,2,0.628,377.461,7.166#M,7,2,-1.728,368.553,6.258#M,7,2,1.728,368.553,6.258#M,7,2,-2.042,367.426,6.823#M,7,2,2.042,367.426,6.823#M,7,3,0.000,379.619,0.000#M,7,3,-1.885,367.800,6.420#M,7,3,1.885,367.800,6.420#M,7,3,-2.199,366.951,7.324#M,7,3,2.199,366.951,7.324#M,7,3,-0.314,379.074,7.928#M,7,3,0.314,379.074,7.928#M,7,3,-0.785,373.050,6.904#M,7,3,0.785,373.050,6.904#M,7,3,-2.670,365.402,8.825#M,7,3,2.670,365.402,8.825#M,7,3,-0.942,371.992,6.734#M,7,3,0.942,371.992,6.734#M,7,3,-2.513,365.781,8.596#M,7,3,-0.157,379.469,8.105#M,7,3,0.157,379.469,8.105#M,7,3,2.513,365.781,8.596#M,7,3,-1.571,368.884,6.247#M,7,3,1.571,368.884,6.247#M,7,3,-2.985,365.253,9.394#M,7,3,-2.827,365.376,9.217#M,7,3,-2.356,366.406,7.907#M,7,3,2.356,366.406,7.907#M,7,3,2.827,365.376,9.217#M,7,3,2.985,365.253,9.394#M,7,3,-0.471,378.503,7.680#M,7,3,0.471,378.503,7.680#M,7,3,-1.257,370.246,6.510#M,7,3,1.257,370.246,6.510#M,7,3,-3.142,365.183,0.000#M,7,3,3.142,365.183,0.000#M,7,3,-1.414,369.408,6.329#M,7,3,1.414,369.408,6.329#M,7,3,-1.100,371.026,6.600#M,7,3,1.100,371.026,6.600#M,7,3,-0.628,377.461,7.166#M,7,3,0.628,377.461,7.166#M,7,3,-1.728,368.553,6.258#M,7,3,1.728,368.553,6.258#M,7,3,-2.042,367.426,6.823#M,7,3,2.042,367.426,6.823#M,7,4,0.000,379.619,0.000#M,7,4,-1.885,367.800,6.420#M,7,4,1.885,367.800,6.420#M,7,4,-2.199,366.951,7.324#M,7,4,2.199,366.951,7.324#M,7,4,-0.314,379.074,7.928#M,7,4,0.314,379.074,7.928#M,7,4,-0.785,373.050,6.904#M,7,4,0.785,373.050,6.904#M,7,4,-2.670,365.402,8.825#M,7,4,2.670,365.402,8.825#M,7,4,-0.942,371.992,6.734#M,7,4,0.942,371.992,6.734#M,7,4,-2.513,365.781,8.596#M,7,4,-0.157,379.469,8.105#M,7,4,0.157,379.469,8.105#M,7,4,2.513,365.781,8.596#M,7,4,-1.571,368.884,6.247#M,7,4,1.571,368.884,6.247#M,7,4,-2.985,365.253,9.394#M,7,4,-2.827,365.376,9.217#M,7,4,-2.356,366.406,7.907#M,7,4,2.356,366.406,7.907#M,7,4,2.827,365.376,9.217#M,7,4,2.985,365.253,9.394#M,7,4,-0.471,378.503,7.680#M,7,4,0.471,378.503,7.680#M,7,4,-1.257,370.246,6.510#M,7,4,1.257,370.246,6.510#M,7,4,-3.142,365.183,0.000#M,7,4,3.142,365.183,0.000#M,7,4,-1.414,369.408,6.329#M,7,4,1.414,369.408,6.329#M,7,4,-1.100,371.026,6.600#M,7,4,1.100,371.026,6.600#M,7,4,-0.628,377.461,7.166#M,7,4,0.628,377.461,7.166#M,7,4,-1.728,368.553,6.258#M,7,4,1.728,368.553,6.258#M,7,4,-2.042,367.426,6.823#M,7,4,2.042,367.426,6.823#M,8,0,0.000,373.653,0.000#M,8,0,-1.885,362.134,7.013#M,8,0,1.885,362.134,7.013#M,8,0,-2.199,361.317,7.501#M,8,0,2.199,361.317,7.501#M,8,0,-0.314,372.783,7.533#M,8,0,0.314,372.783,7.533#M,8,0,-0.785,368.767,6.667#M,8,0,0.785,368.767,6.667#M,8,0,-2.670,359.592,7.884#M,8,0,2.670,359.592,7.884#M,8,0,-0.942,366.823,6.293#M,8,0,0.942,366.823,6.293#M,8,0,-2.513,360.339,7.775#M,8,0,-0.157,373.429,7.611#M,8,0,0.157,373.429,7.611#M,8,0,2.513,360.339,7.775#M,8,0,-1.571,362.823,6.672#M,8,0,1.571,362.823,6.672#M,8,0,-2.985,357.733,8.947#M,8,0,-2.827,358.102,8.934#M,8,0,-2.356,360.836,7.699#M,8,0,2.356,360.836,7.699#M,8,0,2.827,358.102,8.934#M,8,0,2.985,357.733,8.947#M,8,0,-0.471,371.816,7.380#M,8,0,0.471,371.816,7.380#M,8,0,-1.257,364.201,6.482#M,8,0,1.257,364.201,6.482#M,8,0,-3.142,357.610,0.000#M,8,0,3.142,357.610,0.000#M,8,0,-1.414,363.373,6.553#M,8,0,1.414,363.373,6.553#M,8,0,-1.100,365.269,6.454#M,8,0,1.100,365.269,6.454#M,8,0,-0.628,370.641,7.181#M,8,0,0.628,370.641,7.181#M,8,0,-1.728,362.518,6.852#M,8,0,1.728,362.518,6.852#M,8,0,-2.042,361.760,7.253#M,8,0,2.042,361.760,7.253#M,8,1,0.000,373.653,0.000#M,8,1,-1.885,362.134,7.013#M,8,1,1.885,362.134,7.013#M,8,1,-2.199,361.317,7.501#M,8,1,2.199,361.317,7.501#M,8,1,-0.314,372.783,7.533#M,8,1,0.314,372.783,7.533#M,8,1,-0.785,368.767,6.667#M,8,1,0.785,368.767,6.667#M,8,1,-2.670,359.592,7.884#M,8,1,2.670,359.592,7.884#M,8,1,-0.942,366.823,6.293#M,8,1,0.942,366.823,6.293#M,8,1,-2.513,360.339,7.775#M,8,1,-0.157,373.429,7.611#M,8,1,0.157,373.429,7.611#M,8,1,2.513,360.339,7.775#M,8,1,-1.571,362.823,6.672#M,8,1,1.571,362.823,6.672#M,8,1,-2.985,357.733,8.947#M,8,1,-2.827,358.102,8.934#M,8,1,-2.356,360.836,7.699#M,8,1,2.356,360.836,7.699#M,8,1,2.827,358.102,8.934#M,8,1,2.985,357.733,8.947#M,8,1,-0.471,371.816,7.380#M,8,1,0.471,371.816,7.380#M,8,1,-1.257,364.201,6.482#M,8,1,1.257,364.201,6.482#M,8,1,-3.142,357.610,0.000#M,8,1,3.142,357.610,0.000#M,8,1,-1.414,36")
-            .append("3.373,6.553#M,8,1,1.414,363.373,6.553#M,8,1,-1.100,365.269,6.454#M,8,1,1.100,365.269,6.454#M,8,1,-0.628,370.641,7.181#M,8,1,0.628,370.641,7.181#M,8,1,-1.728,362.518,6.852#M,8,1,1.728,362.518,6.852#M,8,1,-2.042,361.760,7.253#M,8,1,2.042,361.760,7.253#M,8,2,0.000,373.653,0.000#M,8,2,-1.885,362.134,7.013#M,8,2,1.885,362.134,7.013#M,8,2,-2.199,361.317,7.501#M,8,2,2.199,361.317,7.501#M,8,2,-0.314,372.783,7.533#M,8,2,0.314,372.783,7.533#M,8,2,-0.785,368.767,6.667#M,8,2,0.785,368.767,6.667#M,8,2,-2.670,359.592,7.884#M,8,2,2.670,359.592,7.884#M,8,2,-0.942,366.823,6.293#M,8,2,0.942,366.823,6.293#M,8,2,-2.513,360.339,7.775#M,8,2,-0.157,373.429,7.611#M,8,2,0.157,373.429,7.611#M,8,2,2.513,360.339,7.775#M,8,2,-1.571,362.823,6.672#M,8,2,1.571,362.823,6.672#M,8,2,-2.985,357.733,8.947#M,8,2,-2.827,358.102,8.934#M,8,2,-2.356,360.836,7.699#M,8,2,2.356,360.836,7.699#M,8,2,2.827,358.102,8.934#M,8,2,2.985,357.733,8.947#M,8,2,-0.471,371.816,7.380#M,8,2,0.471,371.816,7.380#M,8,2,-1.257,364.201,6.482#M,8,2,1.257,364.201,6.482#M,8,2,-3.142,357.610,0.000#M,8,2,3.142,357.610,0.000#M,8,2,-1.414,363.373,6.553#M,8,2,1.414,363.373,6.553#M,8,2,-1.100,365.269,6.454#M,8,2,1.100,365.269,6.454#M,8,2,-0.628,370.641,7.181#M,8,2,0.628,370.641,7.181#M,8,2,-1.728,362.518,6.852#M,8,2,1.728,362.518,6.852#M,8,2,-2.042,361.760,7.253#M,8,2,2.042,361.760,7.253#M,8,3,0.000,373.653,0.000#M,8,3,-1.885,362.134,7.013#M,8,3,1.885,362.134,7.013#M,8,3,-2.199,361.317,7.501#M,8,3,2.199,361.317,7.501#M,8,3,-0.314,372.783,7.533#M,8,3,0.314,372.783,7.533#M,8,3,-0.785,368.767,6.667#M,8,3,0.785,368.767,6.667#M,8,3,-2.670,359.592,7.884#M,8,3,2.670,359.592,7.884#M,8,3,-0.942,366.823,6.293#M,8,3,0.942,366.823,6.293#M,8,3,-2.513,360.339,7.775#M,8,3,-0.157,373.429,7.611#M,8,3,0.157,373.429,7.611#M,8,3,2.513,360.339,7.775#M,8,3,-1.571,362.823,6.672#M,8,3,1.571,362.823,6.672#M,8,3,-2.985,357.733,8.947#M,8,3,-2.827,358.102,8.934#M,8,3,-2.356,360.836,7.699#M,8,3,2.356,360.836,7.699#M,8,3,2.827,358.102,8.934#M,8,3,2.985,357.733,8.947#M,8,3,-0.471,371.816,7.380#M,8,3,0.471,371.816,7.380#M,8,3,-1.257,364.201,6.482#M,8,3,1.257,364.201,6.482#M,8,3,-3.142,357.610,0.000#M,8,3,3.142,357.610,0.000#M,8,3,-1.414,363.373,6.553#M,8,3,1.414,363.373,6.553#M,8,3,-1.100,365.269,6.454#M,8,3,1.100,365.269,6.454#M,8,3,-0.628,370.641,7.181#M,8,3,0.628,370.641,7.181#M,8,3,-1.728,362.518,6.852#M,8,3,1.728,362.518,6.852#M,8,3,-2.042,361.760,7.253#M,8,3,2.042,361.760,7.253#M,8,4,0.000,373.653,0.000#M,8,4,-1.885,362.134,7.013#M,8,4,1.885,362.134,7.013#M,8,4,-2.199,361.317,7.501#M,8,4,2.199,361.317,7.501#M,8,4,-0.314,372.783,7.533#M,8,4,0.314,372.783,7.533#M,8,4,-0.785,368.767,6.667#M,8,4,0.785,368.767,6.667#M,8,4,-2.670,359.592,7.884#M,8,4,2.670,359.592,7.884#M,8,4,-0.942,366.823,6.293#M,8,4,0.942,366.823,6.293#M,8,4,-2.513,360.339,7.775#M,8,4,-0.157,373.429,7.611#M,8,4,0.157,373.429,7.611#M,8,4,2.513,360.339,7.775#M,8,4,-1.571,362.823,6.672#M,8,4,1.571,362.823,6.672#M,8,4,-2.985,357.733,8.947#M,8,4,-2.827,358.102,8.934#M,8,4,-2.356,360.836,7.699#M,8,4,2.356,360.836,7.699#M,8,4,2.827,358.102,8.934#M,8,4,2.985,357.733,8.947#M,8,4,-0.471,371.816,7.380#M,8,4,0.471,371.816,7.380#M,8,4,-1.257,364.201,6.482#M,8,4,1.257,364.201,6.482#M,8,4,-3.142,357.610,0.000#M,8,4,3.142,357.610,0.000#M,8,4,-1.414,363.373,6.553#M,8,4,1.414,363.373,6.553#M,8,4,-1.100,365.269,6.454#M,8,4,1.100,365.269,6.454#M,8,4,-0.628,370.641,7.181#M,8,4,0.628,370.641,7.181#M,8,4,-1.728,362.518,6.852#M,8,4,1.728,362.518,6.852#M,8,4,-2.042,361.760,7.253#M,8,4,2.042,361.760,7.253#M,9,0,0.000,370.225,0.000#M,9,0,-1.885,334.219,6.706#M,9,0,1.885,334.219,6.706#M,9,0,-2.199,340.099,7.194#M,9,0,2.199,340.099,7.194#M,9,0,-0.314,368.948,7.399#M,9,0,0.314,368.948,7.399#M,9,0,-0.785,362.390,7.471#M,9,0,0.785,362.390,7.471#M,9,0,-2.670,354.075,8.278#M,9,0,2.670,354.075,8.278#M,9,0,-0.942,341.151,7.002#M,9,0,0.942,341.151,7.002#M,9,0,-2.513,354.961,8.266#M,9,0,-0.157,369.942,7.697#M,9,0,0.157,369.942,7.697#M,9,0,2.513,354.961,8.266#M,9,0,-1.571,334.219,6.339#M,9,0,1.571,334.219,6.339#M,9,0,-2.985,353.354,8.766#M,9,0,-2.827,353.717,8.625#M,9,0,-2.356,355.592,7.930#M,9,0,2.356,355.592,7.930#M,9,0,2.827,353.717,8.625#M,9,0,2.985,353.354,8.766#M,9,0,-0.471,366.615,7.322#M,9,0,0.471,366.615,7.322#M,9,0,-1.257,339.618,6.288#M,9,0,1.257,339.618,6.288#M,9,0,-3.142,353.199,0.000#M,9,0,3.142,353.199,0.000#M,9,0,-1.414,339.346,6.205#M,9,0,1.414,339.346,6.205#M,9,0,-1.100,340.088,6.483#M,9,0,1.100,340.088,6.483#M,9,0,-0.628,364.590,7.482#M,9,0,0.628,364.590,7.482#M,9,0,-1.728,334.106,6.491#M,9,0,1.728,334.106,6.491#M,9,0,-2.042,334.566,6.961#M,9,0,2.042,334.566,6.961#M,9,1,0.000,370.225,0.000#M,9,1,-1.885,334.219,6.706#M,9,1,1.885,334.219,6.706#M,9,1,-2.199,340.099,7.194#M,9,1,2.199,340.099,7.194#M,9,1,-0.314,368.948,7.399#M,9,1,0.314,368.948,7.399#M,9,1,-0.785,362.390,7.471#M,9,1,0.785,362.390,7.471#M,9,1,-2.670,354.075,8.278#M,9,1,2.670,354.075,8.278#M,9,1,-0.942,341.151,7.002#M,9,1,0.942,341.151,7.002#M,9,1,-2.513,354.961,8.266#M,9,1,-0.157,369.942,7.697#M,9,1,0.157,369.942,7.697#M,9,1,2.513,354.961,8.266#M,9,1,-1.571,334.219,6.339#M,9,1,1.571,334.219,6.339#M,9,1,-2.985,353.354,8.766#M,9,1,-2.827,353.717,8.625#M,9,1,-2.356,355.592,7.930#M,9,1,2.356,355.592,7.930#M,9,1,2.827,353.717,8.625#M,9,1,2.985,353.354,8.766#M,9,1,-0.471,366.615,7.322#M,9,1,0.471,366.615,7.322#M,9,1,-1.257,339.618,6.288#M,9,1,1.257,339.618,6.288#M,9,1,-3.142,353.199,0.000#M,9,1,3.142,353.199,0.000#M,9,1,-1.414,339.346,6.205#M,9,1,1.414,339.346,6.205#M,9,1,-1.100,340.088,6.483#M,9,1,1.100,340.088,6.483#M,9,1,-0.628,364.590,7.482#M,9,1,0.628,364.590,7.482#M,9,1,-1.728,334.106,6.491#M,9,1,1.728,334.106,6.491#M,9,1,-2.042,334.566,6.961#M,9,1,2.042,334.566,6.961#M,9,2,0.000,370.225,0.000#M,9,2,-1.885,334.219,6.706#M,9,2,1.885,334.219,6.706#M,9,2,-2.199,340.099,7.194#M,9,2,2.199,340.099,7.194#M,9,2,-0.314,368.948,7.399#M,9,2,0.314,368.948,7.399#M,9,2,-0.785,362.390,7.471#M,9,2,0.785,362.390,7.471#M,9,2,-2.670,354.075,8.278#M,9,2,2.670,354.075,8.278#M,9,2,-0.942,341.151,7.002#M,9,2,0.942,341.151,7.002#M,9,2,-2.513,354.961,8.266#M,9,2,-0.157,369.942,7.697#M,9,2,0.157,369.942,7.697#M,9,2,2.513,354.961,8.266#M,9,2,-1.571,334.219,6.339#M,9,2,1.571,334.219,6.339#M,9,2,-2.985,353.354,8.766#M,9,2,-2.827,353.717,8.625#M,9,2,-2.356,355.592,7.930#M,9,2,2.356,355.592,7.930#M,9,2,2.827,353.717,8.625#M,9,2,2.985,353.354,8.766#M,9,2,-0.471,366.615,7.322#M,9,2,0.471,366.615,7.322#M,9,2,-1.257,339.618,6.288#M,9,2,1.257,339.618,6.288#M,9,2,-3.142,353.199,0.000#M,9,2,3.142,353.199,0.000#M,9,2,-1.414,339.346,6.205#M,9,2,1.414,339.346,6.205#M,9,2,-1.100,340.088,6.483#M,9,2,1.100,340.088,6.483#M,9,2,-0.628,364.590,7.482#M,9,2,0.628,364.590,7.482#M,9,2,-1.728,334.106,6.491#M,9,2,1.728,334.106,6.491#M,9,2,-2.042,334.566,6.961#M,9,2,2.042,334.566,6.961#M,9,3,0.000,370.225,0.000#M,9,3,-1.885,334.219,6.706#M,9,3,1.885,334.219,6.706#M,9,3,-2.199,340.099,7.194#M,9,3,2.199,340.099,7.194#M,9,3,-0.314,368.948,7.399#M,9,3,0.314,368.948,7.399#M,9,3,-0.785,362.390,7.471#M,9,3,0.785,362.390,7.471#M,9,3,-2.670,354.075,8.278#M,9,3,2.670,354.075,8.278#M,9,3,-0.942,341.151,7.002#M,9,3,0.942,341.151,7.002#M,9,3,-2.513,354.961,8.266#M,9,3,-0.157,369.942,7.697#M,9,3,0.157,369.942,7.697#M,9,3,2.513,354.961,8.266#M,9,3,-1.571,334.219,6.339#M,9,3,1.571,334.219,6.339#M,9,3,-2.985,353.354,8.766#M,9,3,-2.827,353.717,8.625#M,9,3,-2.356,355.592,7.930#M,9,3,2.356,355.592,7.930#M,9,3,2.827,353.717,8.625#M,9,3,2.985,353.354,8.766#M,9,3,-0.471,366.615,7.322#M,9,3,0.471,366.615,7.322#M,9,3,-1.257,339.618,6.288#M,9,3,1.257,339.618,6.288#M,9,3,-3.142,353.199,0.000#M,9,3,3.142,353.199,0.000#M,9,3,-1.414,339.346,6.205#M,9,3,1.414,339.346,6.205#M,9,3,-1.100,340.088,6.483#M,9,3,1.100,340.088,6.483#M,9,3,-0.628,364.590,7.482#M,9,3,0.628,364.590,7.482#M,9,3,-1.728,334.106,6.491#M,9,3,1.728,334.106,6.491#M,9,3,-2.042,334.566,6.961#M,9,3,2.042,334.566,6.961#M,9,4,0.000,370.225,0.000#M,9,4,-1.885,334.219,6.706#M,9,4,1.885,334.219,6.706#M,9,4,-2.199,340.099,7.194#M,9,4,2.199,340.099,7.194#M,9,4,-0.314,368.948,7.399#M,9,4,0.314,368.948,7.399#M,9,4,-0.785,362.390,7.471#M,9,4,0.785,362.390,7.471#M,9,4,-2.670,354.075,8.278#M,9,4,2.670,354.075,8.278#M,9,4,-0.942,341.151,7.002#M,9,4,0.942,341.151,7.002#M,9,4,-2.513,354.961,8.266#M,9,4,-0.157,369.942,7.697#M,9,4,0.157,369.942,7.697#M,9,4,2.513,354.961,8.266#M,9,4,-1.571,334.219,6.339#M,9,4,1.571,334.219,6.339#M,9,4,-2.985,353.354,8.766#M,9,4,-2.827,353.717,8.625#M,9,4,-2.356,355.592,7.930#M,9,4,2.356,355.592,7.930#M,9,4,2.827,353.717,8.625#M,9,4,2.985,353.354,8.766#M,9,4,-0.471,366.615,7.322#M,9,4,0.471,366.615,7.322#M,9,4,-1.257,339.618,6.288#M,9,4,1.257,339.618,6.288#M,9,4,-3.142,353.199,0.000#M,9,4,3.142,353.199,0.000#M,9,4,-1.414,339.346,6.205#M,9,4,1.414,339.346,6.205#M,9,4,-1.100,340.088,6.483#M,9,4,1.100,340.088,6.483#M,9,4,-0.628,364.590,7.482#M,9,4,0.628,364.590,7.482#M,9,4,-1.728,334.106,6.491#M,9,4,1.728,334.106,6.491#M,9,4,-2.042,334.566,6.961#M,9,4,2.042,334.566,6.961#M,10,0,0.000,342.080,0.000#M,10,0,-1.885,330.058,6.486#M,10,0,1.885,330.058,6.486#M,10,0,-2.199,328.926,7.263#M,10,0,2.199,328.926,7.263#M,10,0,-0.314,341.332,7.771#M,10,0,0.314,341.332,7.771#M,10,0,-0.785,334.608,6.689#M,10,0,0.785,334.608,6.689#M,10,0,-2.670,328.477,9.006#M,10,0,2.670,328.477,9.006#M,10,0,-0.942,333.450,6.585#M,10,0,0.942,333.450,6.585#M,10,0,-2.513,328.712,8.351#M,10,0,-0.157,341.930,8.044#M,10,0,0.157,341.930,8.044#M,10,0,2.513,328.712,8.351#M,10,0,-1.571,330.304,6.245#M,10,0,1.571,330.304,6.245#M,10,0,-2.985,327.927,10.614#M,10,0,-2.827,328.082,9.935#M,10,0,-2.356,328.825,7.787#M,10,0,2.356,328.825,7.787#M,10,0,2.827,328.082,9.935#M,10,0,2.985,327.927,10.614#M,10,0,-0.471,340.553,7.576#M,10,0,0.471,340.553,7.576#M,10,0,-1.257,331.634,6.467#M,10,0,1.257,331.634,6.467#M,10,0,-3.142,327.917,0.000#M,10,0,3.142,327.917,0.000#M,10,0,-1.414,330.795,6.304#M,10,0,1.414,330.795,6.304#M,10,0,-1.100,332.430,6.508#M,10,0,1.100,332.430,6.508#M,10,0,-0.628,339.639,7.327#M,10,0,0.628,339.639,7.327#M,10,0,-1.728,330.128,6.320#M,10,0,1.728,33")
-            .append("0.128,6.320#M,10,0,-2.042,329.038,6.786#M,10,0,2.042,329.038,6.786#M,10,1,0.000,342.080,0.000#M,10,1,-1.885,330.058,6.486#M,10,1,1.885,330.058,6.486#M,10,1,-2.199,328.926,7.263#M,10,1,2.199,328.926,7.263#M,10,1,-0.314,341.332,7.771#M,10,1,0.314,341.332,7.771#M,10,1,-0.785,334.608,6.689#M,10,1,0.785,334.608,6.689#M,10,1,-2.670,328.477,9.006#M,10,1,2.670,328.477,9.006#M,10,1,-0.942,333.450,6.585#M,10,1,0.942,333.450,6.585#M,10,1,-2.513,328.712,8.351#M,10,1,-0.157,341.930,8.044#M,10,1,0.157,341.930,8.044#M,10,1,2.513,328.712,8.351#M,10,1,-1.571,330.304,6.245#M,10,1,1.571,330.304,6.245#M,10,1,-2.985,327.927,10.614#M,10,1,-2.827,328.082,9.935#M,10,1,-2.356,328.825,7.787#M,10,1,2.356,328.825,7.787#M,10,1,2.827,328.082,9.935#M,10,1,2.985,327.927,10.614#M,10,1,-0.471,340.553,7.576#M,10,1,0.471,340.553,7.576#M,10,1,-1.257,331.634,6.467#M,10,1,1.257,331.634,6.467#M,10,1,-3.142,327.917,0.000#M,10,1,3.142,327.917,0.000#M,10,1,-1.414,330.795,6.304#M,10,1,1.414,330.795,6.304#M,10,1,-1.100,332.430,6.508#M,10,1,1.100,332.430,6.508#M,10,1,-0.628,339.639,7.327#M,10,1,0.628,339.639,7.327#M,10,1,-1.728,330.128,6.320#M,10,1,1.728,330.128,6.320#M,10,1,-2.042,329.038,6.786#M,10,1,2.042,329.038,6.786#M,10,2,0.000,342.080,0.000#M,10,2,-1.885,330.058,6.486#M,10,2,1.885,330.058,6.486#M,10,2,-2.199,328.926,7.263#M,10,2,2.199,328.926,7.263#M,10,2,-0.314,341.332,7.771#M,10,2,0.314,341.332,7.771#M,10,2,-0.785,334.608,6.689#M,10,2,0.785,334.608,6.689#M,10,2,-2.670,328.477,9.006#M,10,2,2.670,328.477,9.006#M,10,2,-0.942,333.450,6.585#M,10,2,0.942,333.450,6.585#M,10,2,-2.513,328.712,8.351#M,10,2,-0.157,341.930,8.044#M,10,2,0.157,341.930,8.044#M,10,2,2.513,328.712,8.351#M,10,2,-1.571,330.304,6.245#M,10,2,1.571,330.304,6.245#M,10,2,-2.985,327.927,10.614#M,10,2,-2.827,328.082,9.935#M,10,2,-2.356,328.825,7.787#M,10,2,2.356,328.825,7.787#M,10,2,2.827,328.082,9.935#M,10,2,2.985,327.927,10.614#M,10,2,-0.471,340.553,7.576#M,10,2,0.471,340.553,7.576#M,10,2,-1.257,331.634,6.467#M,10,2,1.257,331.634,6.467#M,10,2,-3.142,327.917,0.000#M,10,2,3.142,327.917,0.000#M,10,2,-1.414,330.795,6.304#M,10,2,1.414,330.795,6.304#M,10,2,-1.100,332.430,6.508#M,10,2,1.100,332.430,6.508#M,10,2,-0.628,339.639,7.327#M,10,2,0.628,339.639,7.327#M,10,2,-1.728,330.128,6.320#M,10,2,1.728,330.128,6.320#M,10,2,-2.042,329.038,6.786#M,10,2,2.042,329.038,6.786#M,10,3,0.000,342.080,0.000#M,10,3,-1.885,330.058,6.486#M,10,3,1.885,330.058,6.486#M,10,3,-2.199,328.926,7.263#M,10,3,2.199,328.926,7.263#M,10,3,-0.314,341.332,7.771#M,10,3,0.314,341.332,7.771#M,10,3,-0.785,334.608,6.689#M,10,3,0.785,334.608,6.689#M,10,3,-2.670,328.477,9.006#M,10,3,2.670,328.477,9.006#M,10,3,-0.942,333.450,6.585#M,10,3,0.942,333.450,6.585#M,10,3,-2.513,328.712,8.351#M,10,3,-0.157,341.930,8.044#M,10,3,0.157,341.930,8.044#M,10,3,2.513,328.712,8.351#M,10,3,-1.571,330.304,6.245#M,10,3,1.571,330.304,6.245#M,10,3,-2.985,327.927,10.614#M,10,3,-2.827,328.082,9.935#M,10,3,-2.356,328.825,7.787#M,10,3,2.356,328.825,7.787#M,10,3,2.827,328.082,9.935#M,10,3,2.985,327.927,10.614#M,10,3,-0.471,340.553,7.576#M,10,3,0.471,340.553,7.576#M,10,3,-1.257,331.634,6.467#M,10,3,1.257,331.634,6.467#M,10,3,-3.142,327.917,0.000#M,10,3,3.142,327.917,0.000#M,10,3,-1.414,330.795,6.304#M,10,3,1.414,330.795,6.304#M,10,3,-1.100,332.430,6.508#M,10,3,1.100,332.430,6.508#M,10,3,-0.628,339.639,7.327#M,10,3,0.628,339.639,7.327#M,10,3,-1.728,330.128,6.320#M,10,3,1.728,330.128,6.320#M,10,3,-2.042,329.038,6.786#M,10,3,2.042,329.038,6.786#M,10,4,0.000,342.080,0.000#M,10,4,-1.885,330.058,6.486#M,10,4,1.885,330.058,6.486#M,10,4,-2.199,328.926,7.263#M,10,4,2.199,328.926,7.263#M,10,4,-0.314,341.332,7.771#M,10,4,0.314,341.332,7.771#M,10,4,-0.785,334.608,6.689#M,10,4,0.785,334.608,6.689#M,10,4,-2.670,328.477,9.006#M,10,4,2.670,328.477,9.006#M,10,4,-0.942,333.450,6.585#M,10,4,0.942,333.450,6.585#M,10,4,-2.513,328.712,8.351#M,10,4,-0.157,341.930,8.044#M,10,4,0.157,341.930,8.044#M,10,4,2.513,328.712,8.351#M,10,4,-1.571,330.304,6.245#M,10,4,1.571,330.304,6.245#M,10,4,-2.985,327.927,10.614#M,10,4,-2.827,328.082,9.935#M,10,4,-2.356,328.825,7.787#M,10,4,2.356,328.825,7.787#M,10,4,2.827,328.082,9.935#M,10,4,2.985,327.927,10.614#M,10,4,-0.471,340.553,7.576#M,10,4,0.471,340.553,7.576#M,10,4,-1.257,331.634,6.467#M,10,4,1.257,331.634,6.467#M,10,4,-3.142,327.917,0.000#M,10,4,3.142,327.917,0.000#M,10,4,-1.414,330.795,6.304#M,10,4,1.414,330.795,6.304#M,10,4,-1.100,332.430,6.508#M,10,4,1.100,332.430,6.508#M,10,4,-0.628,339.639,7.327#M,10,4,0.628,339.639,7.327#M,10,4,-1.728,330.128,6.320#M,10,4,1.728,330.128,6.320#M,10,4,-2.042,329.038,6.786#M,10,4,2.042,329.038,6.786#F,0,0,0.000,504.054,0.000#F,0,0,-1.885,492.273,7.719#F,0,0,1.885,492.273,7.719#F,0,0,-2.199,490.697,8.282#F,0,0,2.199,490.697,8.282#F,0,0,-0.314,503.152,8.537#F,0,0,0.314,503.152,8.537#F,0,0,-0.785,498.698,7.559#F,0,0,0.785,498.698,7.559#F,0,0,-2.670,487.135,8.649#F,0,0,2.670,487.135,8.649#F,0,0,-0.942,496.855,7.362#F,0,0,0.942,496.855,7.362#F,0,0,-2.513,488.038,8.700#F,0,0,-0.157,503.835,8.756#F,0,0,0.157,503.835,8.756#F,0,0,2.513,488.038,8.700#F,0,0,-1.571,493.069,7.426#F,0,0,1.571,493.069,7.426#F,0,0,-2.985,486.265,8.534#F,0,0,-2.827,486.532,8.600#F,0,0,-2.356,489.469,8.568#F,0,0,2.356,489.469,8.568#F,0,0,2.827,486.532,8.600#F,0,0,2.985,486.265,8.534#F,0,0,-0.471,502.020,8.142#F,0,0,0.471,502.020,8.142#F,0,0,-1.257,494.452,7.280#F,0,0,1.257,494.452,7.280#F,0,0,-3.142,486.324,0.000#F,0,0,3.142,486.324,0.000#F,0,0,-1.414,493.613,7.323#F,0,0,1.414,493.613,7.323#F,0,0,-1.100,495.552,7.291#F,0,0,1.100,495.552,7.291#F,0,0,-0.628,500.610,7.783#F,0,0,0.628,500.610,7.783#F,0,0,-1.728,492.732,7.581#F,0,0,1.728,492.732,7.581#F,0,0,-2.042,491.547,7.941#F,0,0,2.042,491.547,7.941#F,0,1,0.000,506.468,0.000#F,0,1,-1.885,493.827,7.335#F,0,1,1.885,493.827,7.335#F,0,1,-2.199,492.380,8.237#F,0,1,2.199,492.380,8.237#F,0,1,-0.314,505.891,9.039#F,0,1,0.314,505.891,9.039#F,0,1,-0.785,499.776,7.885#F,0,1,0.785,499.776,7.885#F,0,1,-2.670,490.222,9.377#F,0,1,2.670,490.222,9.377#F,0,1,-0.942,498.383,7.654#F,0,1,0.942,498.383,7.654#F,0,1,-2.513,490.820,9.231#F,0,1,-0.157,506.313,9.259#F,0,1,0.157,506.313,9.259#F,0,1,2.513,490.820,9.231#F,0,1,-1.571,494.180,7.044#F,0,1,1.571,494.180,7.044#F,0,1,-2.985,489.608,9.732#F,0,1,-2.827,489.864,9.583#F,0,1,-2.356,491.258,8.887#F,0,1,2.356,491.258,8.887#F,0,1,2.827,489.864,9.583#F,0,1,2.985,489.608,9.732#F,0,1,-0.471,505.213,8.761#F,0,1,0.471,505.213,8.761#F,0,1,-1.257,495.947,7.311#F,0,1,1.257,495.947,7.311#F,0,1,-3.142,489.485,0.000#F,0,1,3.142,489.485,0.000#F,0,1,-1.414,494.687,7.073#F,0,1,1.414,494.687,7.073#F,0,1,-1.100,497.058,7.460#F,0,1,1.100,497.058,7.460#F,0,1,-0.628,501.304,8.015#F,0,1,0.628,501.304,8.015#F,0,1,-1.728,494.025,7.147#F,0,1,1.728,494.025,7.147#F,0,1,-2.042,493.453,7.642#F,0,1,2.042,493.453,7.642#F,0,2,0.000,506.468,0.000#F,0,2,-1.885,493.827,7.335#F,0,2,1.885,493.827,7.335#F,0,2,-2.199,492.380,8.237#F,0,2,2.199,492.380,8.237#F,0,2,-0.314,505.891,9.039#F,0,2,0.314,505.891,9.039#F,0,2,-0.785,499.776,7.885#F,0,2,0.785,499.776,7.885#F,0,2,-2.670,490.222,9.377#F,0,2,2.670,490.222,9.377#F,0,2,-0.942,498.383,7.654#F,0,2,0.942,498.383,7.654#F,0,2,-2.513,490.820,9.231#F,0,2,-0.157,506.313,9.259#F,0,2,0.157,506.313,9.259#F,0,2,2.513,490.820,9.231#F,0,2,-1.571,494.180,7.044#F,0,2,1.571,494.180,7.044#F,0,2,-2.985,489.608,9.732#F,0,2,-2.827,489.864,9.583#F,0,2,-2.356,491.258,8.887#F,0,2,2.356,491.258,8.887#F,0,2,2.827,489.864,9.583#F,0,2,2.985,489.608,9.732#F,0,2,-0.471,505.213,8.761#F,0,2,0.471,505.213,8.761#F,0,2,-1.257,495.947,7.311#F,0,2,1.257,495.947,7.311#F,0,2,-3.142,489.485,0.000#F,0,2,3.142,489.485,0.000#F,0,2,-1.414,494.687,7.073#F,0,2,1.414,494.687,7.073#F,0,2,-1.100,497.058,7.460#F,0,2,1.100,497.058,7.460#F,0,2,-0.628,501.304,8.015#F,0,2,0.628,501.304,8.015#F,0,2,-1.728,494.025,7.147#F,0,2,1.728,494.025,7.147#F,0,2,-2.042,493.453,7.642#F,0,2,2.042,493.453,7.642#F,0,3,0.000,506.468,0.000#F,0,3,-1.885,493.827,7.335#F,0,3,1.885,493.827,7.335#F,0,3,-2.199,492.380,8.237#F,0,3,2.199,492.380,8.237#F,0,3,-0.314,505.891,9.039#F,0,3,0.314,505.891,9.039#F,0,3,-0.785,499.776,7.885#F,0,3,0.785,499.776,7.885#F,0,3,-2.670,490.222,9.377#F,0,3,2.670,490.222,9.377#F,0,3,-0.942,498.383,7.654#F,0,3,0.942,498.383,7.654#F,0,3,-2.513,490.820,9.231#F,0,3,-0.157,506.313,9.259#F,0,3,0.157,506.313,9.259#F,0,3,2.513,490.820,9.231#F,0,3,-1.571,494.180,7.044#F,0,3,1.571,494.180,7.044#F,0,3,-2.985,489.608,9.732#F,0,3,-2.827,489.864,9.583#F,0,3,-2.356,491.258,8.887#F,0,3,2.356,491.258,8.887#F,0,3,2.827,489.864,9.583#F,0,3,2.985,489.608,9.732#F,0,3,-0.471,505.213,8.761#F,0,3,0.471,505.213,8.761#F,0,3,-1.257,495.947,7.311#F,0,3,1.257,495.947,7.311#F,0,3,-3.142,489.485,0.000#F,0,3,3.142,489.485,0.000#F,0,3,-1.414,494.687,7.073#F,0,3,1.414,494.687,7.073#F,0,3,-1.100,497.058,7.460#F,0,3,1.100,497.058,7.460#F,0,3,-0.628,501.304,8.015#F,0,3,0.628,501.304,8.015#F,0,3,-1.728,494.025,7.147#F,0,3,1.728,494.025,7.147#F,0,3,-2.042,493.453,7.642#F,0,3,2.042,493.453,7.642#F,0,4,0.000,506.468,0.000#F,0,4,-1.885,493.827,7.335#F,0,4,1.885,493.827,7.335#F,0,4,-2.199,492.380,8.237#F,0,4,2.199,492.380,8.237#F,0,4,-0.314,505.891,9.039#F,0,4,0.314,505.891,9.039#F,0,4,-0.785,499.776,7.885#F,0,4,0.785,499.776,7.885#F,0,4,-2.670,490.222,9.377#F,0,4,2.670,490.222,9.377#F,0,4,-0.942,498.383,7.654#F,0,4,0.942,498.383,7.654#F,0,4,-2.513,490.820,9.231#F,0,4,-0.157,506.313,9.259#F,0,4,0.157,506.313,9.259#F,0,4,2.513,490.820,9.231#F,0,4,-1.571,494.180,7.044#F,0,4,1.571,494.180,7.044#F,0,4,-2.985,489.608,9.732#F,0,4,-2.827,489.864,9.583#F,0,4,-2.356,491.258,8.887#F,0,4,2.356,491.258,8.887#F,0,4,2.827,489.864,9.583#F,0,4,2.985,489.608,9.732#F,0,4,-0.471,505.213,8.761#F,0,4,0.471,505.213,8.761#F,0,4,-1.257,495.947,7.311#F,0,4,1.257,495.947,7.311#F,0,4,-3.142,489.485,0.000#F,0,4,3.142,489.485,0.000#F,0,4,-1.414,494.687,7.073#F,0,4,1.414,494.687,7.073#F,0,4,-1.100,497.058,7.460#F,0,4,1.100,497.058,7.460#F,0,4,-0.628,501.304,8.015#F,0,4,0.628,501.304,8.015#F,0,4,-1.728,494.025,7.147#F,0,4,1.728,494.025,7.147#F,0,4,-2.042,493.453,7.642#F,0,4,2.042,4")
-            .append("93.453,7.642#F,1,0,0.000,481.090,0.000#F,1,0,-1.885,463.995,7.627#F,1,0,1.885,463.995,7.627#F,1,0,-2.199,464.465,8.447#F,1,0,2.199,464.465,8.447#F,1,0,-0.314,480.865,9.007#F,1,0,0.314,480.865,9.007#F,1,0,-0.785,472.507,8.059#F,1,0,0.785,472.507,8.059#F,1,0,-2.670,465.084,9.177#F,1,0,2.670,465.084,9.177#F,1,0,-0.942,471.386,7.692#F,1,0,0.942,471.386,7.692#F,1,0,-2.513,464.908,9.064#F,1,0,-0.157,481.031,9.268#F,1,0,0.157,481.031,9.268#F,1,0,2.513,464.908,9.064#F,1,0,-1.571,464.021,7.229#F,1,0,1.571,464.021,7.229#F,1,0,-2.985,460.000,9.253#F,1,0,-2.827,465.292,9.102#F,1,0,-2.356,464.758,8.839#F,1,0,2.356,464.758,8.839#F,1,0,2.827,465.292,9.102#F,1,0,2.985,460.000,9.253#F,1,0,-0.471,474.622,8.899#F,1,0,0.471,474.622,8.899#F,1,0,-1.257,464.902,7.267#F,1,0,1.257,464.902,7.267#F,1,0,-3.142,459.402,0.000#F,1,0,3.142,459.402,0.000#F,1,0,-1.414,464.299,7.209#F,1,0,1.414,464.299,7.209#F,1,0,-1.100,465.821,7.380#F,1,0,1.100,465.821,7.380#F,1,0,-0.628,473.512,8.379#F,1,0,0.628,473.512,8.379#F,1,0,-1.728,463.963,7.361#F,1,0,1.728,463.963,7.361#F,1,0,-2.042,464.155,8.006#F,1,0,2.042,464.155,8.006#F,1,1,0.000,481.090,0.000#F,1,1,-1.885,463.995,7.627#F,1,1,1.885,463.995,7.627#F,1,1,-2.199,464.465,8.447#F,1,1,2.199,464.465,8.447#F,1,1,-0.314,480.865,9.007#F,1,1,0.314,480.865,9.007#F,1,1,-0.785,472.507,8.059#F,1,1,0.785,472.507,8.059#F,1,1,-2.670,465.084,9.177#F,1,1,2.670,465.084,9.177#F,1,1,-0.942,471.386,7.692#F,1,1,0.942,471.386,7.692#F,1,1,-2.513,464.908,9.064#F,1,1,-0.157,481.031,9.268#F,1,1,0.157,481.031,9.268#F,1,1,2.513,464.908,9.064#F,1,1,-1.571,464.021,7.229#F,1,1,1.571,464.021,7.229#F,1,1,-2.985,460.000,9.253#F,1,1,-2.827,465.292,9.102#F,1,1,-2.356,464.758,8.839#F,1,1,2.356,464.758,8.839#F,1,1,2.827,465.292,9.102#F,1,1,2.985,460.000,9.253#F,1,1,-0.471,474.622,8.899#F,1,1,0.471,474.622,8.899#F,1,1,-1.257,464.902,7.267#F,1,1,1.257,464.902,7.267#F,1,1,-3.142,459.402,0.000#F,1,1,3.142,459.402,0.000#F,1,1,-1.414,464.299,7.209#F,1,1,1.414,464.299,7.209#F,1,1,-1.100,465.821,7.380#F,1,1,1.100,465.821,7.380#F,1,1,-0.628,473.512,8.379#F,1,1,0.628,473.512,8.379#F,1,1,-1.728,463.963,7.361#F,1,1,1.728,463.963,7.361#F,1,1,-2.042,464.155,8.006#F,1,1,2.042,464.155,8.006#F,1,2,0.000,481.090,0.000#F,1,2,-1.885,463.995,7.627#F,1,2,1.885,463.995,7.627#F,1,2,-2.199,464.465,8.447#F,1,2,2.199,464.465,8.447#F,1,2,-0.314,480.865,9.007#F,1,2,0.314,480.865,9.007#F,1,2,-0.785,472.507,8.059#F,1,2,0.785,472.507,8.059#F,1,2,-2.670,465.084,9.177#F,1,2,2.670,465.084,9.177#F,1,2,-0.942,471.386,7.692#F,1,2,0.942,471.386,7.692#F,1,2,-2.513,464.908,9.064#F,1,2,-0.157,481.031,9.268#F,1,2,0.157,481.031,9.268#F,1,2,2.513,464.908,9.064#F,1,2,-1.571,464.021,7.229#F,1,2,1.571,464.021,7.229#F,1,2,-2.985,460.000,9.253#F,1,2,-2.827,465.292,9.102#F,1,2,-2.356,464.758,8.839#F,1,2,2.356,464.758,8.839#F,1,2,2.827,465.292,9.102#F,1,2,2.985,460.000,9.253#F,1,2,-0.471,474.622,8.899#F,1,2,0.471,474.622,8.899#F,1,2,-1.257,464.902,7.267#F,1,2,1.257,464.902,7.267#F,1,2,-3.142,459.402,0.000#F,1,2,3.142,459.402,0.000#F,1,2,-1.414,464.299,7.209#F,1,2,1.414,464.299,7.209#F,1,2,-1.100,465.821,7.380#F,1,2,1.100,465.821,7.380#F,1,2,-0.628,473.512,8.379#F,1,2,0.628,473.512,8.379#F,1,2,-1.728,463.963,7.361#F,1,2,1.728,463.963,7.361#F,1,2,-2.042,464.155,8.006#F,1,2,2.042,464.155,8.006#F,1,3,0.000,481.090,0.000#F,1,3,-1.885,463.995,7.627#F,1,3,1.885,463.995,7.627#F,1,3,-2.199,464.465,8.447#F,1,3,2.199,464.465,8.447#F,1,3,-0.314,480.865,9.007#F,1,3,0.314,480.865,9.007#F,1,3,-0.785,472.507,8.059#F,1,3,0.785,472.507,8.059#F,1,3,-2.670,465.084,9.177#F,1,3,2.670,465.084,9.177#F,1,3,-0.942,471.386,7.692#F,1,3,0.942,471.386,7.692#F,1,3,-2.513,464.908,9.064#F,1,3,-0.157,481.031,9.268#F,1,3,0.157,481.031,9.268#F,1,3,2.513,464.908,9.064#F,1,3,-1.571,464.021,7.229#F,1,3,1.571,464.021,7.229#F,1,3,-2.985,460.000,9.253#F,1,3,-2.827,465.292,9.102#F,1,3,-2.356,464.758,8.839#F,1,3,2.356,464.758,8.839#F,1,3,2.827,465.292,9.102#F,1,3,2.985,460.000,9.253#F,1,3,-0.471,474.622,8.899#F,1,3,0.471,474.622,8.899#F,1,3,-1.257,464.902,7.267#F,1,3,1.257,464.902,7.267#F,1,3,-3.142,459.402,0.000#F,1,3,3.142,459.402,0.000#F,1,3,-1.414,464.299,7.209#F,1,3,1.414,464.299,7.209#F,1,3,-1.100,465.821,7.380#F,1,3,1.100,465.821,7.380#F,1,3,-0.628,473.512,8.379#F,1,3,0.628,473.512,8.379#F,1,3,-1.728,463.963,7.361#F,1,3,1.728,463.963,7.361#F,1,3,-2.042,464.155,8.006#F,1,3,2.042,464.155,8.006#F,1,4,0.000,481.090,0.000#F,1,4,-1.885,463.995,7.627#F,1,4,1.885,463.995,7.627#F,1,4,-2.199,464.465,8.447#F,1,4,2.199,464.465,8.447#F,1,4,-0.314,480.865,9.007#F,1,4,0.314,480.865,9.007#F,1,4,-0.785,472.507,8.059#F,1,4,0.785,472.507,8.059#F,1,4,-2.670,465.084,9.177#F,1,4,2.670,465.084,9.177#F,1,4,-0.942,471.386,7.692#F,1,4,0.942,471.386,7.692#F,1,4,-2.513,464.908,9.064#F,1,4,-0.157,481.031,9.268#F,1,4,0.157,481.031,9.268#F,1,4,2.513,464.908,9.064#F,1,4,-1.571,464.021,7.229#F,1,4,1.571,464.021,7.229#F,1,4,-2.985,460.000,9.253#F,1,4,-2.827,465.292,9.102#F,1,4,-2.356,464.758,8.839#F,1,4,2.356,464.758,8.839#F,1,4,2.827,465.292,9.102#F,1,4,2.985,460.000,9.253#F,1,4,-0.471,474.622,8.899#F,1,4,0.471,474.622,8.899#F,1,4,-1.257,464.902,7.267#F,1,4,1.257,464.902,7.267#F,1,4,-3.142,459.402,0.000#F,1,4,3.142,459.402,0.000#F,1,4,-1.414,464.299,7.209#F,1,4,1.414,464.299,7.209#F,1,4,-1.100,465.821,7.380#F,1,4,1.100,465.821,7.380#F,1,4,-0.628,473.512,8.379#F,1,4,0.628,473.512,8.379#F,1,4,-1.728,463.963,7.361#F,1,4,1.728,463.963,7.361#F,1,4,-2.042,464.155,8.006#F,1,4,2.042,464.155,8.006#F,2,0,0.000,470.296,0.000#F,2,0,-1.885,453.538,7.503#F,2,0,1.885,453.538,7.503#F,2,0,-2.199,453.693,8.616#F,2,0,2.199,453.693,8.616#F,2,0,-0.314,466.991,8.485#F,2,0,0.314,466.991,8.485#F,2,0,-0.785,462.206,7.843#F,2,0,0.785,462.206,7.843#F,2,0,-2.670,451.717,9.113#F,2,0,2.670,451.717,9.113#F,2,0,-0.942,459.247,7.430#F,2,0,0.942,459.247,7.430#F,2,0,-2.513,452.390,9.105#F,2,0,-0.157,469.832,9.170#F,2,0,0.157,469.832,9.170#F,2,0,2.513,452.390,9.105#F,2,0,-1.571,439.503,7.099#F,2,0,1.571,439.503,7.099#F,2,0,-2.985,449.564,10.022#F,2,0,-2.827,451.070,8.763#F,2,0,-2.356,453.062,8.914#F,2,0,2.356,453.062,8.914#F,2,0,2.827,451.070,8.763#F,2,0,2.985,449.564,10.022#F,2,0,-0.471,465.677,8.318#F,2,0,0.471,465.677,8.318#F,2,0,-1.257,456.251,7.315#F,2,0,1.257,456.251,7.315#F,2,0,-3.142,449.388,0.000#F,2,0,3.142,449.388,0.000#F,2,0,-1.414,439.604,7.166#F,2,0,1.414,439.604,7.166#F,2,0,-1.100,457.602,7.389#F,2,0,1.100,457.602,7.389#F,2,0,-0.628,464.059,8.086#F,2,0,0.628,464.059,8.086#F,2,0,-1.728,439.604,7.204#F,2,0,1.728,439.604,7.204#F,2,0,-2.042,453.623,8.010#F,2,0,2.042,453.623,8.010#F,2,1,0.000,470.296,0.000#F,2,1,-1.885,453.538,7.503#F,2,1,1.885,453.538,7.503#F,2,1,-2.199,453.693,8.616#F,2,1,2.199,453.693,8.616#F,2,1,-0.314,466.991,8.485#F,2,1,0.314,466.991,8.485#F,2,1,-0.785,462.206,7.843#F,2,1,0.785,462.206,7.843#F,2,1,-2.670,451.717,9.113#F,2,1,2.670,451.717,9.113#F,2,1,-0.942,459.247,7.430#F,2,1,0.942,459.247,7.430#F,2,1,-2.513,452.390,9.105#F,2,1,-0.157,469.832,9.170#F,2,1,0.157,469.832,9.170#F,2,1,2.513,452.390,9.105#F,2,1,-1.571,439.503,7.099#F,2,1,1.571,439.503,7.099#F,2,1,-2.985,449.564,10.022#F,2,1,-2.827,451.070,8.763#F,2,1,-2.356,453.062,8.914#F,2,1,2.356,453.062,8.914#F,2,1,2.827,451.070,8.763#F,2,1,2.985,449.564,10.022#F,2,1,-0.471,465.677,8.318#F,2,1,0.471,465.677,8.318#F,2,1,-1.257,456.251,7.315#F,2,1,1.257,456.251,7.315#F,2,1,-3.142,449.388,0.000#F,2,1,3.142,449.388,0.000#F,2,1,-1.414,439.604,7.166#F,2,1,1.414,439.604,7.166#F,2,1,-1.100,457.602,7.389#F,2,1,1.100,457.602,7.389#F,2,1,-0.628,464.059,8.086#F,2,1,0.628,464.059,8.086#F,2,1,-1.728,439.604,7.204#F,2,1,1.728,439.604,7.204#F,2,1,-2.042,453.623,8.010#F,2,1,2.042,453.623,8.010#F,2,2,0.000,470.296,0.000#F,2,2,-1.885,453.538,7.503#F,2,2,1.885,453.538,7.503#F,2,2,-2.199,453.693,8.616#F,2,2,2.199,453.693,8.616#F,2,2,-0.314,466.991,8.485#F,2,2,0.314,466.991,8.485#F,2,2,-0.785,462.206,7.843#F,2,2,0.785,462.206,7.843#F,2,2,-2.670,451.717,9.113#F,2,2,2.670,451.717,9.113#F,2,2,-0.942,459.247,7.430#F,2,2,0.942,459.247,7.430#F,2,2,-2.513,452.390,9.105#F,2,2,-0.157,469.832,9.170#F,2,2,0.157,469.832,9.170#F,2,2,2.513,452.390,9.105#F,2,2,-1.571,439.503,7.099#F,2,2,1.571,439.503,7.099#F,2,2,-2.985,449.564,10.022#F,2,2,-2.827,451.070,8.763#F,2,2,-2.356,453.062,8.914#F,2,2,2.356,453.062,8.914#F,2,2,2.827,451.070,8.763#F,2,2,2.985,449.564,10.022#F,2,2,-0.471,465.677,8.318#F,2,2,0.471,465.677,8.318#F,2,2,-1.257,456.251,7.315#F,2,2,1.257,456.251,7.315#F,2,2,-3.142,449.388,0.000#F,2,2,3.142,449.388,0.000#F,2,2,-1.414,439.604,7.166#F,2,2,1.414,439.604,7.166#F,2,2,-1.100,457.602,7.389#F,2,2,1.100,457.602,7.389#F,2,2,-0.628,464.059,8.086#F,2,2,0.628,464.059,8.086#F,2,2,-1.728,439.604,7.204#F,2,2,1.728,439.604,7.204#F,2,2,-2.042,453.623,8.010#F,2,2,2.042,453.623,8.010#F,2,3,0.000,470.296,0.000#F,2,3,-1.885,453.538,7.503#F,2,3,1.885,453.538,7.503#F,2,3,-2.199,453.693,8.616#F,2,3,2.199,453.693,8.616#F,2,3,-0.314,466.991,8.485#F,2,3,0.314,466.991,8.485#F,2,3,-0.785,462.206,7.843#F,2,3,0.785,462.206,7.843#F,2,3,-2.670,451.717,9.113#F,2,3,2.670,451.717,9.113#F,2,3,-0.942,459.247,7.430#F,2,3,0.942,459.247,7.430#F,2,3,-2.513,452.390,9.105#F,2,3,-0.157,469.832,9.170#F,2,3,0.157,469.832,9.170#F,2,3,2.513,452.390,9.105#F,2,3,-1.571,439.503,7.099#F,2,3,1.571,439.503,7.099#F,2,3,-2.985,449.564,10.022#F,2,3,-2.827,451.070,8.763#F,2,3,-2.356,453.062,8.914#F,2,3,2.356,453.062,8.914#F,2,3,2.827,451.070,8.763#F,2,3,2.985,449.564,10.022#F,2,3,-0.471,465.677,8.318#F,2,3,0.471,465.677,8.318#F,2,3,-1.257,456.251,7.315#F,2,3,1.257,456.251,7.315#F,2,3,-3.142,449.388,0.000#F,2,3,3.142,449.388,0.000#F,2,3,-1.414,439.604,7.166#F,2,3,1.414,439.604,7.166#F,2,3,-1.100,457.602,7.389#F,2,3,1.100,457.602,7.389#F,2,3,-0.628,464.059,8.086#F,2,3,0.628,464.059,8.086#F,2,3,-1.728,439.604,7.204#F,2,3,1.728,439.604,7.204#F,2,3,-2.042,453.623,8.010#F,2,3,2.042,453.623,8.010#F,2,4,0.000,470.296,0.000#F,2,4,-1.885,453.538,7.503#F,2,4,1.885,453.538,7.503#F,2,4,-2.199,453.693,8.616#F,2,4,2.199,453.693,8.616#F,2,4,-0.314,466.991,8.485#F,2,4,0.314,466.991,8.485#F,2,4,-0.785,462.206")
-            .append(",7.843#F,2,4,0.785,462.206,7.843#F,2,4,-2.670,451.717,9.113#F,2,4,2.670,451.717,9.113#F,2,4,-0.942,459.247,7.430#F,2,4,0.942,459.247,7.430#F,2,4,-2.513,452.390,9.105#F,2,4,-0.157,469.832,9.170#F,2,4,0.157,469.832,9.170#F,2,4,2.513,452.390,9.105#F,2,4,-1.571,439.503,7.099#F,2,4,1.571,439.503,7.099#F,2,4,-2.985,449.564,10.022#F,2,4,-2.827,451.070,8.763#F,2,4,-2.356,453.062,8.914#F,2,4,2.356,453.062,8.914#F,2,4,2.827,451.070,8.763#F,2,4,2.985,449.564,10.022#F,2,4,-0.471,465.677,8.318#F,2,4,0.471,465.677,8.318#F,2,4,-1.257,456.251,7.315#F,2,4,1.257,456.251,7.315#F,2,4,-3.142,449.388,0.000#F,2,4,3.142,449.388,0.000#F,2,4,-1.414,439.604,7.166#F,2,4,1.414,439.604,7.166#F,2,4,-1.100,457.602,7.389#F,2,4,1.100,457.602,7.389#F,2,4,-0.628,464.059,8.086#F,2,4,0.628,464.059,8.086#F,2,4,-1.728,439.604,7.204#F,2,4,1.728,439.604,7.204#F,2,4,-2.042,453.623,8.010#F,2,4,2.042,453.623,8.010#F,3,0,0.000,446.285,0.000#F,3,0,-1.885,426.691,7.405#F,3,0,1.885,426.691,7.405#F,3,0,-2.199,427.016,8.023#F,3,0,2.199,427.016,8.023#F,3,0,-0.314,440.154,9.068#F,3,0,0.314,440.154,9.068#F,3,0,-0.785,435.684,7.678#F,3,0,0.785,435.684,7.678#F,3,0,-2.670,425.436,9.829#F,3,0,2.670,425.436,9.829#F,3,0,-0.942,430.926,7.478#F,3,0,0.942,430.926,7.478#F,3,0,-2.513,425.879,9.138#F,3,0,-0.157,446.141,9.672#F,3,0,0.157,446.141,9.672#F,3,0,2.513,425.879,9.138#F,3,0,-1.571,426.995,7.112#F,3,0,1.571,426.995,7.112#F,3,0,-2.985,424.405,11.578#F,3,0,-2.827,424.816,10.734#F,3,0,-2.356,426.189,8.520#F,3,0,2.356,426.189,8.520#F,3,0,2.827,424.816,10.734#F,3,0,2.985,424.405,11.578#F,3,0,-0.471,439.091,8.751#F,3,0,0.471,439.091,8.751#F,3,0,-1.257,428.437,7.262#F,3,0,1.257,428.437,7.262#F,3,0,-3.142,424.357,0.000#F,3,0,3.142,424.357,0.000#F,3,0,-1.414,427.615,7.183#F,3,0,1.414,427.615,7.183#F,3,0,-1.100,429.532,7.349#F,3,0,1.100,429.532,7.349#F,3,0,-0.628,437.868,8.436#F,3,0,0.628,437.868,8.436#F,3,0,-1.728,426.797,7.202#F,3,0,1.728,426.797,7.202#F,3,0,-2.042,426.728,7.692#F,3,0,2.042,426.728,7.692#F,3,1,0.000,446.285,0.000#F,3,1,-1.885,426.691,7.405#F,3,1,1.885,426.691,7.405#F,3,1,-2.199,427.016,8.023#F,3,1,2.199,427.016,8.023#F,3,1,-0.314,440.154,9.068#F,3,1,0.314,440.154,9.068#F,3,1,-0.785,435.684,7.678#F,3,1,0.785,435.684,7.678#F,3,1,-2.670,425.436,9.829#F,3,1,2.670,425.436,9.829#F,3,1,-0.942,430.926,7.478#F,3,1,0.942,430.926,7.478#F,3,1,-2.513,425.879,9.138#F,3,1,-0.157,446.141,9.672#F,3,1,0.157,446.141,9.672#F,3,1,2.513,425.879,9.138#F,3,1,-1.571,426.995,7.112#F,3,1,1.571,426.995,7.112#F,3,1,-2.985,424.405,11.578#F,3,1,-2.827,424.816,10.734#F,3,1,-2.356,426.189,8.520#F,3,1,2.356,426.189,8.520#F,3,1,2.827,424.816,10.734#F,3,1,2.985,424.405,11.578#F,3,1,-0.471,439.091,8.751#F,3,1,0.471,439.091,8.751#F,3,1,-1.257,428.437,7.262#F,3,1,1.257,428.437,7.262#F,3,1,-3.142,424.357,0.000#F,3,1,3.142,424.357,0.000#F,3,1,-1.414,427.615,7.183#F,3,1,1.414,427.615,7.183#F,3,1,-1.100,429.532,7.349#F,3,1,1.100,429.532,7.349#F,3,1,-0.628,437.868,8.436#F,3,1,0.628,437.868,8.436#F,3,1,-1.728,426.797,7.202#F,3,1,1.728,426.797,7.202#F,3,1,-2.042,426.728,7.692#F,3,1,2.042,426.728,7.692#F,3,2,0.000,446.285,0.000#F,3,2,-1.885,426.691,7.405#F,3,2,1.885,426.691,7.405#F,3,2,-2.199,427.016,8.023#F,3,2,2.199,427.016,8.023#F,3,2,-0.314,440.154,9.068#F,3,2,0.314,440.154,9.068#F,3,2,-0.785,435.684,7.678#F,3,2,0.785,435.684,7.678#F,3,2,-2.670,425.436,9.829#F,3,2,2.670,425.436,9.829#F,3,2,-0.942,430.926,7.478#F,3,2,0.942,430.926,7.478#F,3,2,-2.513,425.879,9.138#F,3,2,-0.157,446.141,9.672#F,3,2,0.157,446.141,9.672#F,3,2,2.513,425.879,9.138#F,3,2,-1.571,426.995,7.112#F,3,2,1.571,426.995,7.112#F,3,2,-2.985,424.405,11.578#F,3,2,-2.827,424.816,10.734#F,3,2,-2.356,426.189,8.520#F,3,2,2.356,426.189,8.520#F,3,2,2.827,424.816,10.734#F,3,2,2.985,424.405,11.578#F,3,2,-0.471,439.091,8.751#F,3,2,0.471,439.091,8.751#F,3,2,-1.257,428.437,7.262#F,3,2,1.257,428.437,7.262#F,3,2,-3.142,424.357,0.000#F,3,2,3.142,424.357,0.000#F,3,2,-1.414,427.615,7.183#F,3,2,1.414,427.615,7.183#F,3,2,-1.100,429.532,7.349#F,3,2,1.100,429.532,7.349#F,3,2,-0.628,437.868,8.436#F,3,2,0.628,437.868,8.436#F,3,2,-1.728,426.797,7.202#F,3,2,1.728,426.797,7.202#F,3,2,-2.042,426.728,7.692#F,3,2,2.042,426.728,7.692#F,3,3,0.000,446.285,0.000#F,3,3,-1.885,426.691,7.405#F,3,3,1.885,426.691,7.405#F,3,3,-2.199,427.016,8.023#F,3,3,2.199,427.016,8.023#F,3,3,-0.314,440.154,9.068#F,3,3,0.314,440.154,9.068#F,3,3,-0.785,435.684,7.678#F,3,3,0.785,435.684,7.678#F,3,3,-2.670,425.436,9.829#F,3,3,2.670,425.436,9.829#F,3,3,-0.942,430.926,7.478#F,3,3,0.942,430.926,7.478#F,3,3,-2.513,425.879,9.138#F,3,3,-0.157,446.141,9.672#F,3,3,0.157,446.141,9.672#F,3,3,2.513,425.879,9.138#F,3,3,-1.571,426.995,7.112#F,3,3,1.571,426.995,7.112#F,3,3,-2.985,424.405,11.578#F,3,3,-2.827,424.816,10.734#F,3,3,-2.356,426.189,8.520#F,3,3,2.356,426.189,8.520#F,3,3,2.827,424.816,10.734#F,3,3,2.985,424.405,11.578#F,3,3,-0.471,439.091,8.751#F,3,3,0.471,439.091,8.751#F,3,3,-1.257,428.437,7.262#F,3,3,1.257,428.437,7.262#F,3,3,-3.142,424.357,0.000#F,3,3,3.142,424.357,0.000#F,3,3,-1.414,427.615,7.183#F,3,3,1.414,427.615,7.183#F,3,3,-1.100,429.532,7.349#F,3,3,1.100,429.532,7.349#F,3,3,-0.628,437.868,8.436#F,3,3,0.628,437.868,8.436#F,3,3,-1.728,426.797,7.202#F,3,3,1.728,426.797,7.202#F,3,3,-2.042,426.728,7.692#F,3,3,2.042,426.728,7.692#F,3,4,0.000,446.285,0.000#F,3,4,-1.885,426.691,7.405#F,3,4,1.885,426.691,7.405#F,3,4,-2.199,427.016,8.023#F,3,4,2.199,427.016,8.023#F,3,4,-0.314,440.154,9.068#F,3,4,0.314,440.154,9.068#F,3,4,-0.785,435.684,7.678#F,3,4,0.785,435.684,7.678#F,3,4,-2.670,425.436,9.829#F,3,4,2.670,425.436,9.829#F,3,4,-0.942,430.926,7.478#F,3,4,0.942,430.926,7.478#F,3,4,-2.513,425.879,9.138#F,3,4,-0.157,446.141,9.672#F,3,4,0.157,446.141,9.672#F,3,4,2.513,425.879,9.138#F,3,4,-1.571,426.995,7.112#F,3,4,1.571,426.995,7.112#F,3,4,-2.985,424.405,11.578#F,3,4,-2.827,424.816,10.734#F,3,4,-2.356,426.189,8.520#F,3,4,2.356,426.189,8.520#F,3,4,2.827,424.816,10.734#F,3,4,2.985,424.405,11.578#F,3,4,-0.471,439.091,8.751#F,3,4,0.471,439.091,8.751#F,3,4,-1.257,428.437,7.262#F,3,4,1.257,428.437,7.262#F,3,4,-3.142,424.357,0.000#F,3,4,3.142,424.357,0.000#F,3,4,-1.414,427.615,7.183#F,3,4,1.414,427.615,7.183#F,3,4,-1.100,429.532,7.349#F,3,4,1.100,429.532,7.349#F,3,4,-0.628,437.868,8.436#F,3,4,0.628,437.868,8.436#F,3,4,-1.728,426.797,7.202#F,3,4,1.728,426.797,7.202#F,3,4,-2.042,426.728,7.692#F,3,4,2.042,426.728,7.692#F,4,0,0.000,436.208,0.000#F,4,0,-1.885,404.404,7.188#F,4,0,1.885,404.404,7.188#F,4,0,-2.199,417.142,8.450#F,4,0,2.199,417.142,8.450#F,4,0,-0.314,432.410,8.116#F,4,0,0.314,432.410,8.116#F,4,0,-0.785,424.864,7.708#F,4,0,0.785,424.864,7.708#F,4,0,-2.670,416.901,9.697#F,4,0,2.670,416.901,9.697#F,4,0,-0.942,422.701,7.687#F,4,0,0.942,422.701,7.687#F,4,0,-2.513,417.366,9.608#F,4,0,-0.157,435.487,8.706#F,4,0,0.157,435.487,8.706#F,4,0,2.513,417.366,9.608#F,4,0,-1.571,404.057,6.924#F,4,0,1.571,404.057,6.924#F,4,0,-2.985,414.701,10.988#F,4,0,-2.827,415.620,10.362#F,4,0,-2.356,417.799,9.313#F,4,0,2.356,417.799,9.313#F,4,0,2.827,415.620,10.362#F,4,0,2.985,414.701,10.988#F,4,0,-0.471,430.851,8.057#F,4,0,0.471,430.851,8.057#F,4,0,-1.257,404.404,7.110#F,4,0,1.257,404.404,7.110#F,4,0,-3.142,414.514,0.000#F,4,0,3.142,414.514,0.000#F,4,0,-1.414,404.116,6.964#F,4,0,1.414,404.116,6.964#F,4,0,-1.100,405.430,7.561#F,4,0,1.100,405.430,7.561#F,4,0,-0.628,428.886,7.903#F,4,0,0.628,428.886,7.903#F,4,0,-1.728,404.111,7.001#F,4,0,1.728,404.111,7.001#F,4,0,-2.042,405.441,7.694#F,4,0,2.042,405.441,7.694#F,4,1,0.000,436.208,0.000#F,4,1,-1.885,404.404,7.188#F,4,1,1.885,404.404,7.188#F,4,1,-2.199,417.142,8.450#F,4,1,2.199,417.142,8.450#F,4,1,-0.314,432.410,8.116#F,4,1,0.314,432.410,8.116#F,4,1,-0.785,424.864,7.708#F,4,1,0.785,424.864,7.708#F,4,1,-2.670,416.901,9.697#F,4,1,2.670,416.901,9.697#F,4,1,-0.942,422.701,7.687#F,4,1,0.942,422.701,7.687#F,4,1,-2.513,417.366,9.608#F,4,1,-0.157,435.487,8.706#F,4,1,0.157,435.487,8.706#F,4,1,2.513,417.366,9.608#F,4,1,-1.571,404.057,6.924#F,4,1,1.571,404.057,6.924#F,4,1,-2.985,414.701,10.988#F,4,1,-2.827,415.620,10.362#F,4,1,-2.356,417.799,9.313#F,4,1,2.356,417.799,9.313#F,4,1,2.827,415.620,10.362#F,4,1,2.985,414.701,10.988#F,4,1,-0.471,430.851,8.057#F,4,1,0.471,430.851,8.057#F,4,1,-1.257,404.404,7.110#F,4,1,1.257,404.404,7.110#F,4,1,-3.142,414.514,0.000#F,4,1,3.142,414.514,0.000#F,4,1,-1.414,404.116,6.964#F,4,1,1.414,404.116,6.964#F,4,1,-1.100,405.430,7.561#F,4,1,1.100,405.430,7.561#F,4,1,-0.628,428.886,7.903#F,4,1,0.628,428.886,7.903#F,4,1,-1.728,404.111,7.001#F,4,1,1.728,404.111,7.001#F,4,1,-2.042,405.441,7.694#F,4,1,2.042,405.441,7.694#F,4,2,0.000,436.208,0.000#F,4,2,-1.885,404.404,7.188#F,4,2,1.885,404.404,7.188#F,4,2,-2.199,417.142,8.450#F,4,2,2.199,417.142,8.450#F,4,2,-0.314,432.410,8.116#F,4,2,0.314,432.410,8.116#F,4,2,-0.785,424.864,7.708#F,4,2,0.785,424.864,7.708#F,4,2,-2.670,416.901,9.697#F,4,2,2.670,416.901,9.697#F,4,2,-0.942,422.701,7.687#F,4,2,0.942,422.701,7.687#F,4,2,-2.513,417.366,9.608#F,4,2,-0.157,435.487,8.706#F,4,2,0.157,435.487,8.706#F,4,2,2.513,417.366,9.608#F,4,2,-1.571,404.057,6.924#F,4,2,1.571,404.057,6.924#F,4,2,-2.985,414.701,10.988#F,4,2,-2.827,415.620,10.362#F,4,2,-2.356,417.799,9.313#F,4,2,2.356,417.799,9.313#F,4,2,2.827,415.620,10.362#F,4,2,2.985,414.701,10.988#F,4,2,-0.471,430.851,8.057#F,4,2,0.471,430.851,8.057#F,4,2,-1.257,404.404,7.110#F,4,2,1.257,404.404,7.110#F,4,2,-3.142,414.514,0.000#F,4,2,3.142,414.514,0.000#F,4,2,-1.414,404.116,6.964#F,4,2,1.414,404.116,6.964#F,4,2,-1.100,405.430,7.561#F,4,2,1.100,405.430,7.561#F,4,2,-0.628,428.886,7.903#F,4,2,0.628,428.886,7.903#F,4,2,-1.728,404.111,7.001#F,4,2,1.728,404.111,7.001#F,4,2,-2.042,405.441,7.694#F,4,2,2.042,405.441,7.694#F,4,3,0.000,436.208,0.000#F,4,3,-1.885,404.404,7.188#F,4,3,1.885,404.404,7.188#F,4,3,-2.199,417.142,8.450#F,4,3,2.199,417.142,8.450#F,4,3,-0.314,432.410,8.116#F,4,3,0.314,432.410,8.116#F,4,3,-0.785,424.864,7.708#F,4,3,0.785,424.864,7.708#F,4,3,-2.670,416.901,9.697#F,4,3,2.670,416.901,9.697#F,4,3,-0.942,422.701,7.687#F,4,3,0.942,422.701,7.687#F,4,3,-2.513,417.366,9.608#F,4,3,-0.157,435.487,8.706")
-            .append("#F,4,3,0.157,435.487,8.706#F,4,3,2.513,417.366,9.608#F,4,3,-1.571,404.057,6.924#F,4,3,1.571,404.057,6.924#F,4,3,-2.985,414.701,10.988#F,4,3,-2.827,415.620,10.362#F,4,3,-2.356,417.799,9.313#F,4,3,2.356,417.799,9.313#F,4,3,2.827,415.620,10.362#F,4,3,2.985,414.701,10.988#F,4,3,-0.471,430.851,8.057#F,4,3,0.471,430.851,8.057#F,4,3,-1.257,404.404,7.110#F,4,3,1.257,404.404,7.110#F,4,3,-3.142,414.514,0.000#F,4,3,3.142,414.514,0.000#F,4,3,-1.414,404.116,6.964#F,4,3,1.414,404.116,6.964#F,4,3,-1.100,405.430,7.561#F,4,3,1.100,405.430,7.561#F,4,3,-0.628,428.886,7.903#F,4,3,0.628,428.886,7.903#F,4,3,-1.728,404.111,7.001#F,4,3,1.728,404.111,7.001#F,4,3,-2.042,405.441,7.694#F,4,3,2.042,405.441,7.694#F,4,4,0.000,436.208,0.000#F,4,4,-1.885,404.404,7.188#F,4,4,1.885,404.404,7.188#F,4,4,-2.199,417.142,8.450#F,4,4,2.199,417.142,8.450#F,4,4,-0.314,432.410,8.116#F,4,4,0.314,432.410,8.116#F,4,4,-0.785,424.864,7.708#F,4,4,0.785,424.864,7.708#F,4,4,-2.670,416.901,9.697#F,4,4,2.670,416.901,9.697#F,4,4,-0.942,422.701,7.687#F,4,4,0.942,422.701,7.687#F,4,4,-2.513,417.366,9.608#F,4,4,-0.157,435.487,8.706#F,4,4,0.157,435.487,8.706#F,4,4,2.513,417.366,9.608#F,4,4,-1.571,404.057,6.924#F,4,4,1.571,404.057,6.924#F,4,4,-2.985,414.701,10.988#F,4,4,-2.827,415.620,10.362#F,4,4,-2.356,417.799,9.313#F,4,4,2.356,417.799,9.313#F,4,4,2.827,415.620,10.362#F,4,4,2.985,414.701,10.988#F,4,4,-0.471,430.851,8.057#F,4,4,0.471,430.851,8.057#F,4,4,-1.257,404.404,7.110#F,4,4,1.257,404.404,7.110#F,4,4,-3.142,414.514,0.000#F,4,4,3.142,414.514,0.000#F,4,4,-1.414,404.116,6.964#F,4,4,1.414,404.116,6.964#F,4,4,-1.100,405.430,7.561#F,4,4,1.100,405.430,7.561#F,4,4,-0.628,428.886,7.903#F,4,4,0.628,428.886,7.903#F,4,4,-1.728,404.111,7.001#F,4,4,1.728,404.111,7.001#F,4,4,-2.042,405.441,7.694#F,4,4,2.042,405.441,7.694#F,6,0,0.000,379.128,0.000#F,6,0,-1.885,383.256,7.399#F,6,0,1.885,383.256,7.399#F,6,0,-2.199,381.472,7.703#F,6,0,2.199,381.472,7.703#F,6,0,-0.314,392.714,8.210#F,6,0,0.314,392.714,8.210#F,6,0,-0.785,389.862,7.716#F,6,0,0.785,389.862,7.716#F,6,0,-2.670,377.926,7.951#F,6,0,2.670,377.926,7.951#F,6,0,-0.942,388.580,7.576#F,6,0,0.942,388.580,7.576#F,6,0,-2.513,378.973,7.857#F,6,0,-0.157,379.160,8.019#F,6,0,0.157,379.160,8.019#F,6,0,2.513,378.973,7.857#F,6,0,-1.571,371.095,7.101#F,6,0,1.571,371.095,7.101#F,6,0,-2.985,365.258,8.247#F,6,0,-2.827,377.216,8.070#F,6,0,-2.356,380.244,7.771#F,6,0,2.356,380.244,7.771#F,6,0,2.827,377.216,8.070#F,6,0,2.985,365.258,8.247#F,6,0,-0.471,392.030,8.030#F,6,0,0.471,392.030,8.030#F,6,0,-1.257,385.979,7.315#F,6,0,1.257,385.979,7.315#F,6,0,-3.142,364.911,0.000#F,6,0,3.142,364.911,0.000#F,6,0,-1.414,371.149,7.145#F,6,0,1.414,371.149,7.145#F,6,0,-1.100,387.341,7.448#F,6,0,1.100,387.341,7.448#F,6,0,-0.628,391.053,7.866#F,6,0,0.628,391.053,7.866#F,6,0,-1.728,371.154,7.188#F,6,0,1.728,371.154,7.188#F,6,0,-2.042,382.620,7.615#F,6,0,2.042,382.620,7.615#F,6,1,0.000,379.128,0.000#F,6,1,-1.885,383.256,7.399#F,6,1,1.885,383.256,7.399#F,6,1,-2.199,381.472,7.703#F,6,1,2.199,381.472,7.703#F,6,1,-0.314,392.714,8.210#F,6,1,0.314,392.714,8.210#F,6,1,-0.785,389.862,7.716#F,6,1,0.785,389.862,7.716#F,6,1,-2.670,377.926,7.951#F,6,1,2.670,377.926,7.951#F,6,1,-0.942,388.580,7.576#F,6,1,0.942,388.580,7.576#F,6,1,-2.513,378.973,7.857#F,6,1,-0.157,379.160,8.019#F,6,1,0.157,379.160,8.019#F,6,1,2.513,378.973,7.857#F,6,1,-1.571,371.095,7.101#F,6,1,1.571,371.095,7.101#F,6,1,-2.985,365.258,8.247#F,6,1,-2.827,377.216,8.070#F,6,1,-2.356,380.244,7.771#F,6,1,2.356,380.244,7.771#F,6,1,2.827,377.216,8.070#F,6,1,2.985,365.258,8.247#F,6,1,-0.471,392.030,8.030#F,6,1,0.471,392.030,8.030#F,6,1,-1.257,385.979,7.315#F,6,1,1.257,385.979,7.315#F,6,1,-3.142,364.911,0.000#F,6,1,3.142,364.911,0.000#F,6,1,-1.414,371.149,7.145#F,6,1,1.414,371.149,7.145#F,6,1,-1.100,387.341,7.448#F,6,1,1.100,387.341,7.448#F,6,1,-0.628,391.053,7.866#F,6,1,0.628,391.053,7.866#F,6,1,-1.728,371.154,7.188#F,6,1,1.728,371.154,7.188#F,6,1,-2.042,382.620,7.615#F,6,1,2.042,382.620,7.615#F,6,2,0.000,379.128,0.000#F,6,2,-1.885,383.256,7.399#F,6,2,1.885,383.256,7.399#F,6,2,-2.199,381.472,7.703#F,6,2,2.199,381.472,7.703#F,6,2,-0.314,392.714,8.210#F,6,2,0.314,392.714,8.210#F,6,2,-0.785,389.862,7.716#F,6,2,0.785,389.862,7.716#F,6,2,-2.670,377.926,7.951#F,6,2,2.670,377.926,7.951#F,6,2,-0.942,388.580,7.576#F,6,2,0.942,388.580,7.576#F,6,2,-2.513,378.973,7.857#F,6,2,-0.157,379.160,8.019#F,6,2,0.157,379.160,8.019#F,6,2,2.513,378.973,7.857#F,6,2,-1.571,371.095,7.101#F,6,2,1.571,371.095,7.101#F,6,2,-2.985,365.258,8.247#F,6,2,-2.827,377.216,8.070#F,6,2,-2.356,380.244,7.771#F,6,2,2.356,380.244,7.771#F,6,2,2.827,377.216,8.070#F,6,2,2.985,365.258,8.247#F,6,2,-0.471,392.030,8.030#F,6,2,0.471,392.030,8.030#F,6,2,-1.257,385.979,7.315#F,6,2,1.257,385.979,7.315#F,6,2,-3.142,364.911,0.000#F,6,2,3.142,364.911,0.000#F,6,2,-1.414,371.149,7.145#F,6,2,1.414,371.149,7.145#F,6,2,-1.100,387.341,7.448#F,6,2,1.100,387.341,7.448#F,6,2,-0.628,391.053,7.866#F,6,2,0.628,391.053,7.866#F,6,2,-1.728,371.154,7.188#F,6,2,1.728,371.154,7.188#F,6,2,-2.042,382.620,7.615#F,6,2,2.042,382.620,7.615#F,6,3,0.000,379.128,0.000#F,6,3,-1.885,383.256,7.399#F,6,3,1.885,383.256,7.399#F,6,3,-2.199,381.472,7.703#F,6,3,2.199,381.472,7.703#F,6,3,-0.314,392.714,8.210#F,6,3,0.314,392.714,8.210#F,6,3,-0.785,389.862,7.716#F,6,3,0.785,389.862,7.716#F,6,3,-2.670,377.926,7.951#F,6,3,2.670,377.926,7.951#F,6,3,-0.942,388.580,7.576#F,6,3,0.942,388.580,7.576#F,6,3,-2.513,378.973,7.857#F,6,3,-0.157,379.160,8.019#F,6,3,0.157,379.160,8.019#F,6,3,2.513,378.973,7.857#F,6,3,-1.571,371.095,7.101#F,6,3,1.571,371.095,7.101#F,6,3,-2.985,365.258,8.247#F,6,3,-2.827,377.216,8.070#F,6,3,-2.356,380.244,7.771#F,6,3,2.356,380.244,7.771#F,6,3,2.827,377.216,8.070#F,6,3,2.985,365.258,8.247#F,6,3,-0.471,392.030,8.030#F,6,3,0.471,392.030,8.030#F,6,3,-1.257,385.979,7.315#F,6,3,1.257,385.979,7.315#F,6,3,-3.142,364.911,0.000#F,6,3,3.142,364.911,0.000#F,6,3,-1.414,371.149,7.145#F,6,3,1.414,371.149,7.145#F,6,3,-1.100,387.341,7.448#F,6,3,1.100,387.341,7.448#F,6,3,-0.628,391.053,7.866#F,6,3,0.628,391.053,7.866#F,6,3,-1.728,371.154,7.188#F,6,3,1.728,371.154,7.188#F,6,3,-2.042,382.620,7.615#F,6,3,2.042,382.620,7.615#F,6,4,0.000,379.128,0.000#F,6,4,-1.885,383.256,7.399#F,6,4,1.885,383.256,7.399#F,6,4,-2.199,381.472,7.703#F,6,4,2.199,381.472,7.703#F,6,4,-0.314,392.714,8.210#F,6,4,0.314,392.714,8.210#F,6,4,-0.785,389.862,7.716#F,6,4,0.785,389.862,7.716#F,6,4,-2.670,377.926,7.951#F,6,4,2.670,377.926,7.951#F,6,4,-0.942,388.580,7.576#F,6,4,0.942,388.580,7.576#F,6,4,-2.513,378.973,7.857#F,6,4,-0.157,379.160,8.019#F,6,4,0.157,379.160,8.019#F,6,4,2.513,378.973,7.857#F,6,4,-1.571,371.095,7.101#F,6,4,1.571,371.095,7.101#F,6,4,-2.985,365.258,8.247#F,6,4,-2.827,377.216,8.070#F,6,4,-2.356,380.244,7.771#F,6,4,2.356,380.244,7.771#F,6,4,2.827,377.216,8.070#F,6,4,2.985,365.258,8.247#F,6,4,-0.471,392.030,8.030#F,6,4,0.471,392.030,8.030#F,6,4,-1.257,385.979,7.315#F,6,4,1.257,385.979,7.315#F,6,4,-3.142,364.911,0.000#F,6,4,3.142,364.911,0.000#F,6,4,-1.414,371.149,7.145#F,6,4,1.414,371.149,7.145#F,6,4,-1.100,387.341,7.448#F,6,4,1.100,387.341,7.448#F,6,4,-0.628,391.053,7.866#F,6,4,0.628,391.053,7.866#F,6,4,-1.728,371.154,7.188#F,6,4,1.728,371.154,7.188#F,6,4,-2.042,382.620,7.615#F,6,4,2.042,382.620,7.615#F,7,0,0.000,369.947,0.000#F,7,0,-1.885,359.325,7.137#F,7,0,1.885,359.325,7.137#F,7,0,-2.199,357.861,7.448#F,7,0,2.199,357.861,7.448#F,7,0,-0.314,369.680,8.580#F,7,0,0.314,369.680,8.580#F,7,0,-0.785,364.072,7.678#F,7,0,0.785,364.072,7.678#F,7,0,-2.670,354.881,9.161#F,7,0,2.670,354.881,9.161#F,7,0,-0.942,362.940,7.581#F,7,0,0.942,362.940,7.581#F,7,0,-2.513,355.554,8.778#F,7,0,-0.157,369.883,8.735#F,7,0,0.157,369.883,8.735#F,7,0,2.513,355.554,8.778#F,7,0,-1.571,360.505,7.253#F,7,0,1.571,360.505,7.253#F,7,0,-2.985,354.315,9.286#F,7,0,-2.827,354.545,9.257#F,7,0,-2.356,356.777,8.052#F,7,0,2.356,356.777,8.052#F,7,0,2.827,354.545,9.257#F,7,0,2.985,354.315,9.286#F,7,0,-0.471,369.317,8.378#F,7,0,0.471,369.317,8.378#F,7,0,-1.257,361.285,7.291#F,7,0,1.257,361.285,7.291#F,7,0,-3.142,354.240,0.000#F,7,0,3.142,354.240,0.000#F,7,0,-1.414,360.772,7.232#F,7,0,1.414,360.772,7.232#F,7,0,-1.100,362.043,7.416#F,7,0,1.100,362.043,7.416#F,7,0,-0.628,368.484,7.916#F,7,0,0.628,368.484,7.916#F,7,0,-1.728,359.955,7.177#F,7,0,1.728,359.955,7.177#F,7,0,-2.042,358.625,7.087#F,7,0,2.042,358.625,7.087#F,7,1,0.000,369.947,0.000#F,7,1,-1.885,359.325,7.137#F,7,1,1.885,359.325,7.137#F,7,1,-2.199,357.861,7.448#F,7,1,2.199,357.861,7.448#F,7,1,-0.314,369.680,8.580#F,7,1,0.314,369.680,8.580#F,7,1,-0.785,364.072,7.678#F,7,1,0.785,364.072,7.678#F,7,1,-2.670,354.881,9.161#F,7,1,2.670,354.881,9.161#F,7,1,-0.942,362.940,7.581#F,7,1,0.942,362.940,7.581#F,7,1,-2.513,355.554,8.778#F,7,1,-0.157,369.883,8.735#F,7,1,0.157,369.883,8.735#F,7,1,2.513,355.554,8.778#F,7,1,-1.571,360.505,7.253#F,7,1,1.571,360.505,7.253#F,7,1,-2.985,354.315,9.286#F,7,1,-2.827,354.545,9.257#F,7,1,-2.356,356.777,8.052#F,7,1,2.356,356.777,8.052#F,7,1,2.827,354.545,9.257#F,7,1,2.985,354.315,9.286#F,7,1,-0.471,369.317,8.378#F,7,1,0.471,369.317,8.378#F,7,1,-1.257,361.285,7.291#F,7,1,1.257,361.285,7.291#F,7,1,-3.142,354.240,0.000#F,7,1,3.142,354.240,0.000#F,7,1,-1.414,360.772,7.232#F,7,1,1.414,360.772,7.232#F,7,1,-1.100,362.043,7.416#F,7,1,1.100,362.043,7.416#F,7,1,-0.628,368.484,7.916#F,7,1,0.628,368.484,7.916#F,7,1,-1.728,359.955,7.177#F,7,1,1.728,359.955,7.177#F,7,1,-2.042,358.625,7.087#F,7,1,2.042,358.625,7.087#F,7,2,0.000,369.947,0.000#F,7,2,-1.885,359.325,7.137#F,7,2,1.885,359.325,7.137#F,7,2,-2.199,357.861,7.448#F,7,2,2.199,357.861,7.448#F,7,2,-0.314,369.680,8.580#F,7,2,0.314,369.680,8.580#F,7,2,-0.785,364.072,7.678#F,7,2,0.785,364.072,7.678#F,7,2,-2.670,354.881,9.161#F,7,2,2.670,354.881,9.161#F,7,2,-0.942,362.940,7.581#F,7,2,0.942,362.940,7.581#F,7,2,-2.513,355.554,8.778#F,7,2,-0.157,369.883,8.735#F,7,2,0.157,369.883,8.735#F,7,2,2.513,355.554,8.778#F,7,2,-1.571,360.505,7.253#F,7,2,1.571,360.505,7.253#F,7,2,-2.985,354.315,9.286#F,7,2,-2.827,354.545,9.257#F,7,2,-2.356,356.777,8.052#F,7,2,2.356,356.777,8.052#F,7,2")
-            .append(",2.827,354.545,9.257#F,7,2,2.985,354.315,9.286#F,7,2,-0.471,369.317,8.378#F,7,2,0.471,369.317,8.378#F,7,2,-1.257,361.285,7.291#F,7,2,1.257,361.285,7.291#F,7,2,-3.142,354.240,0.000#F,7,2,3.142,354.240,0.000#F,7,2,-1.414,360.772,7.232#F,7,2,1.414,360.772,7.232#F,7,2,-1.100,362.043,7.416#F,7,2,1.100,362.043,7.416#F,7,2,-0.628,368.484,7.916#F,7,2,0.628,368.484,7.916#F,7,2,-1.728,359.955,7.177#F,7,2,1.728,359.955,7.177#F,7,2,-2.042,358.625,7.087#F,7,2,2.042,358.625,7.087#F,7,3,0.000,369.947,0.000#F,7,3,-1.885,359.325,7.137#F,7,3,1.885,359.325,7.137#F,7,3,-2.199,357.861,7.448#F,7,3,2.199,357.861,7.448#F,7,3,-0.314,369.680,8.580#F,7,3,0.314,369.680,8.580#F,7,3,-0.785,364.072,7.678#F,7,3,0.785,364.072,7.678#F,7,3,-2.670,354.881,9.161#F,7,3,2.670,354.881,9.161#F,7,3,-0.942,362.940,7.581#F,7,3,0.942,362.940,7.581#F,7,3,-2.513,355.554,8.778#F,7,3,-0.157,369.883,8.735#F,7,3,0.157,369.883,8.735#F,7,3,2.513,355.554,8.778#F,7,3,-1.571,360.505,7.253#F,7,3,1.571,360.505,7.253#F,7,3,-2.985,354.315,9.286#F,7,3,-2.827,354.545,9.257#F,7,3,-2.356,356.777,8.052#F,7,3,2.356,356.777,8.052#F,7,3,2.827,354.545,9.257#F,7,3,2.985,354.315,9.286#F,7,3,-0.471,369.317,8.378#F,7,3,0.471,369.317,8.378#F,7,3,-1.257,361.285,7.291#F,7,3,1.257,361.285,7.291#F,7,3,-3.142,354.240,0.000#F,7,3,3.142,354.240,0.000#F,7,3,-1.414,360.772,7.232#F,7,3,1.414,360.772,7.232#F,7,3,-1.100,362.043,7.416#F,7,3,1.100,362.043,7.416#F,7,3,-0.628,368.484,7.916#F,7,3,0.628,368.484,7.916#F,7,3,-1.728,359.955,7.177#F,7,3,1.728,359.955,7.177#F,7,3,-2.042,358.625,7.087#F,7,3,2.042,358.625,7.087#F,7,4,0.000,369.947,0.000#F,7,4,-1.885,359.325,7.137#F,7,4,1.885,359.325,7.137#F,7,4,-2.199,357.861,7.448#F,7,4,2.199,357.861,7.448#F,7,4,-0.314,369.680,8.580#F,7,4,0.314,369.680,8.580#F,7,4,-0.785,364.072,7.678#F,7,4,0.785,364.072,7.678#F,7,4,-2.670,354.881,9.161#F,7,4,2.670,354.881,9.161#F,7,4,-0.942,362.940,7.581#F,7,4,0.942,362.940,7.581#F,7,4,-2.513,355.554,8.778#F,7,4,-0.157,369.883,8.735#F,7,4,0.157,369.883,8.735#F,7,4,2.513,355.554,8.778#F,7,4,-1.571,360.505,7.253#F,7,4,1.571,360.505,7.253#F,7,4,-2.985,354.315,9.286#F,7,4,-2.827,354.545,9.257#F,7,4,-2.356,356.777,8.052#F,7,4,2.356,356.777,8.052#F,7,4,2.827,354.545,9.257#F,7,4,2.985,354.315,9.286#F,7,4,-0.471,369.317,8.378#F,7,4,0.471,369.317,8.378#F,7,4,-1.257,361.285,7.291#F,7,4,1.257,361.285,7.291#F,7,4,-3.142,354.240,0.000#F,7,4,3.142,354.240,0.000#F,7,4,-1.414,360.772,7.232#F,7,4,1.414,360.772,7.232#F,7,4,-1.100,362.043,7.416#F,7,4,1.100,362.043,7.416#F,7,4,-0.628,368.484,7.916#F,7,4,0.628,368.484,7.916#F,7,4,-1.728,359.955,7.177#F,7,4,1.728,359.955,7.177#F,7,4,-2.042,358.625,7.087#F,7,4,2.042,358.625,7.087#F,8,0,0.000,363.213,0.000#F,8,0,-1.885,352.200,7.726#F,8,0,1.885,352.200,7.726#F,8,0,-2.199,350.603,7.945#F,8,0,2.199,350.603,7.945#F,8,0,-0.314,362.545,8.554#F,8,0,0.314,362.545,8.554#F,8,0,-0.785,359.325,7.710#F,8,0,0.785,359.325,7.710#F,8,0,-2.670,348.259,7.859#F,8,0,2.670,348.259,7.859#F,8,0,-0.942,357.231,7.156#F,8,0,0.942,357.231,7.156#F,8,0,-2.513,349.001,8.040#F,8,0,-0.157,363.036,8.722#F,8,0,0.157,363.036,8.722#F,8,0,2.513,349.001,8.040#F,8,0,-1.571,353.060,7.421#F,8,0,1.571,353.060,7.421#F,8,0,-2.985,346.272,8.814#F,8,0,-2.827,346.657,8.801#F,8,0,-2.356,349.808,8.047#F,8,0,2.356,349.808,8.047#F,8,0,2.827,346.657,8.801#F,8,0,2.985,346.272,8.814#F,8,0,-0.471,361.771,8.324#F,8,0,0.471,361.771,8.324#F,8,0,-1.257,354.475,7.280#F,8,0,1.257,354.475,7.280#F,8,0,-3.142,346.139,0.000#F,8,0,3.142,346.139,0.000#F,8,0,-1.414,353.637,7.321#F,8,0,1.414,353.637,7.321#F,8,0,-1.100,356.072,7.075#F,8,0,1.100,356.072,7.075#F,8,0,-0.628,360.761,8.086#F,8,0,0.628,360.761,8.086#F,8,0,-1.728,352.660,7.570#F,8,0,1.728,352.660,7.570#F,8,0,-2.042,351.351,7.780#F,8,0,2.042,351.351,7.780#F,8,1,0.000,363.213,0.000#F,8,1,-1.885,352.200,7.726#F,8,1,1.885,352.200,7.726#F,8,1,-2.199,350.603,7.945#F,8,1,2.199,350.603,7.945#F,8,1,-0.314,362.545,8.554#F,8,1,0.314,362.545,8.554#F,8,1,-0.785,359.325,7.710#F,8,1,0.785,359.325,7.710#F,8,1,-2.670,348.259,7.859#F,8,1,2.670,348.259,7.859#F,8,1,-0.942,357.231,7.156#F,8,1,0.942,357.231,7.156#F,8,1,-2.513,349.001,8.040#F,8,1,-0.157,363.036,8.722#F,8,1,0.157,363.036,8.722#F,8,1,2.513,349.001,8.040#F,8,1,-1.571,353.060,7.421#F,8,1,1.571,353.060,7.421#F,8,1,-2.985,346.272,8.814#F,8,1,-2.827,346.657,8.801#F,8,1,-2.356,349.808,8.047#F,8,1,2.356,349.808,8.047#F,8,1,2.827,346.657,8.801#F,8,1,2.985,346.272,8.814#F,8,1,-0.471,361.771,8.324#F,8,1,0.471,361.771,8.324#F,8,1,-1.257,354.475,7.280#F,8,1,1.257,354.475,7.280#F,8,1,-3.142,346.139,0.000#F,8,1,3.142,346.139,0.000#F,8,1,-1.414,353.637,7.321#F,8,1,1.414,353.637,7.321#F,8,1,-1.100,356.072,7.075#F,8,1,1.100,356.072,7.075#F,8,1,-0.628,360.761,8.086#F,8,1,0.628,360.761,8.086#F,8,1,-1.728,352.660,7.570#F,8,1,1.728,352.660,7.570#F,8,1,-2.042,351.351,7.780#F,8,1,2.042,351.351,7.780#F,8,2,0.000,363.213,0.000#F,8,2,-1.885,352.200,7.726#F,8,2,1.885,352.200,7.726#F,8,2,-2.199,350.603,7.945#F,8,2,2.199,350.603,7.945#F,8,2,-0.314,362.545,8.554#F,8,2,0.314,362.545,8.554#F,8,2,-0.785,359.325,7.710#F,8,2,0.785,359.325,7.710#F,8,2,-2.670,348.259,7.859#F,8,2,2.670,348.259,7.859#F,8,2,-0.942,357.231,7.156#F,8,2,0.942,357.231,7.156#F,8,2,-2.513,349.001,8.040#F,8,2,-0.157,363.036,8.722#F,8,2,0.157,363.036,8.722#F,8,2,2.513,349.001,8.040#F,8,2,-1.571,353.060,7.421#F,8,2,1.571,353.060,7.421#F,8,2,-2.985,346.272,8.814#F,8,2,-2.827,346.657,8.801#F,8,2,-2.356,349.808,8.047#F,8,2,2.356,349.808,8.047#F,8,2,2.827,346.657,8.801#F,8,2,2.985,346.272,8.814#F,8,2,-0.471,361.771,8.324#F,8,2,0.471,361.771,8.324#F,8,2,-1.257,354.475,7.280#F,8,2,1.257,354.475,7.280#F,8,2,-3.142,346.139,0.000#F,8,2,3.142,346.139,0.000#F,8,2,-1.414,353.637,7.321#F,8,2,1.414,353.637,7.321#F,8,2,-1.100,356.072,7.075#F,8,2,1.100,356.072,7.075#F,8,2,-0.628,360.761,8.086#F,8,2,0.628,360.761,8.086#F,8,2,-1.728,352.660,7.570#F,8,2,1.728,352.660,7.570#F,8,2,-2.042,351.351,7.780#F,8,2,2.042,351.351,7.780#F,8,3,0.000,363.213,0.000#F,8,3,-1.885,352.200,7.726#F,8,3,1.885,352.200,7.726#F,8,3,-2.199,350.603,7.945#F,8,3,2.199,350.603,7.945#F,8,3,-0.314,362.545,8.554#F,8,3,0.314,362.545,8.554#F,8,3,-0.785,359.325,7.710#F,8,3,0.785,359.325,7.710#F,8,3,-2.670,348.259,7.859#F,8,3,2.670,348.259,7.859#F,8,3,-0.942,357.231,7.156#F,8,3,0.942,357.231,7.156#F,8,3,-2.513,349.001,8.040#F,8,3,-0.157,363.036,8.722#F,8,3,0.157,363.036,8.722#F,8,3,2.513,349.001,8.040#F,8,3,-1.571,353.060,7.421#F,8,3,1.571,353.060,7.421#F,8,3,-2.985,346.272,8.814#F,8,3,-2.827,346.657,8.801#F,8,3,-2.356,349.808,8.047#F,8,3,2.356,349.808,8.047#F,8,3,2.827,346.657,8.801#F,8,3,2.985,346.272,8.814#F,8,3,-0.471,361.771,8.324#F,8,3,0.471,361.771,8.324#F,8,3,-1.257,354.475,7.280#F,8,3,1.257,354.475,7.280#F,8,3,-3.142,346.139,0.000#F,8,3,3.142,346.139,0.000#F,8,3,-1.414,353.637,7.321#F,8,3,1.414,353.637,7.321#F,8,3,-1.100,356.072,7.075#F,8,3,1.100,356.072,7.075#F,8,3,-0.628,360.761,8.086#F,8,3,0.628,360.761,8.086#F,8,3,-1.728,352.660,7.570#F,8,3,1.728,352.660,7.570#F,8,3,-2.042,351.351,7.780#F,8,3,2.042,351.351,7.780#F,8,4,0.000,363.213,0.000#F,8,4,-1.885,352.200,7.726#F,8,4,1.885,352.200,7.726#F,8,4,-2.199,350.603,7.945#F,8,4,2.199,350.603,7.945#F,8,4,-0.314,362.545,8.554#F,8,4,0.314,362.545,8.554#F,8,4,-0.785,359.325,7.710#F,8,4,0.785,359.325,7.710#F,8,4,-2.670,348.259,7.859#F,8,4,2.670,348.259,7.859#F,8,4,-0.942,357.231,7.156#F,8,4,0.942,357.231,7.156#F,8,4,-2.513,349.001,8.040#F,8,4,-0.157,363.036,8.722#F,8,4,0.157,363.036,8.722#F,8,4,2.513,349.001,8.040#F,8,4,-1.571,353.060,7.421#F,8,4,1.571,353.060,7.421#F,8,4,-2.985,346.272,8.814#F,8,4,-2.827,346.657,8.801#F,8,4,-2.356,349.808,8.047#F,8,4,2.356,349.808,8.047#F,8,4,2.827,346.657,8.801#F,8,4,2.985,346.272,8.814#F,8,4,-0.471,361.771,8.324#F,8,4,0.471,361.771,8.324#F,8,4,-1.257,354.475,7.280#F,8,4,1.257,354.475,7.280#F,8,4,-3.142,346.139,0.000#F,8,4,3.142,346.139,0.000#F,8,4,-1.414,353.637,7.321#F,8,4,1.414,353.637,7.321#F,8,4,-1.100,356.072,7.075#F,8,4,1.100,356.072,7.075#F,8,4,-0.628,360.761,8.086#F,8,4,0.628,360.761,8.086#F,8,4,-1.728,352.660,7.570#F,8,4,1.728,352.660,7.570#F,8,4,-2.042,351.351,7.780#F,8,4,2.042,351.351,7.780#F,9,0,0.000,345.129,0.000#F,9,0,-1.885,329.727,7.440#F,9,0,1.885,329.727,7.440#F,9,0,-2.199,330.283,8.066#F,9,0,2.199,330.283,8.066#F,9,0,-0.314,345.172,8.834#F,9,0,0.314,345.172,8.834#F,9,0,-0.785,344.814,8.070#F,9,0,0.785,344.814,8.070#F,9,0,-2.670,331.409,8.883#F,9,0,2.670,331.409,8.883#F,9,0,-0.942,336.590,7.563#F,9,0,0.942,336.590,7.563#F,9,0,-2.513,331.126,8.637#F,9,0,-0.157,345.097,8.730#F,9,0,0.157,345.097,8.730#F,9,0,2.513,331.126,8.637#F,9,0,-1.571,329.775,7.027#F,9,0,1.571,329.775,7.027#F,9,0,-2.985,331.303,9.493#F,9,0,-2.827,331.474,9.127#F,9,0,-2.356,330.715,8.367#F,9,0,2.356,330.715,8.367#F,9,0,2.827,331.474,9.127#F,9,0,2.985,331.303,9.493#F,9,0,-0.471,345.204,8.734#F,9,0,0.471,345.204,8.734#F,9,0,-1.257,335.559,7.115#F,9,0,1.257,335.559,7.115#F,9,0,-3.142,331.084,0.000#F,9,0,3.142,331.084,0.000#F,9,0,-1.414,335.297,6.960#F,9,0,1.414,335.297,6.960#F,9,0,-1.100,335.992,7.318#F,9,0,1.100,335.992,7.318#F,9,0,-0.628,345.135,8.499#F,9,0,0.628,345.135,8.499#F,9,0,-1.728,329.668,7.190#F,9,0,1.728,329.668,7.190#F,9,0,-2.042,329.930,7.749#F,9,0,2.042,329.930,7.749#F,9,1,0.000,345.129,0.000#F,9,1,-1.885,329.727,7.440#F,9,1,1.885,329.727,7.440#F,9,1,-2.199,330.283,8.066#F,9,1,2.199,330.283,8.066#F,9,1,-0.314,345.172,8.834#F,9,1,0.314,345.172,8.834#F,9,1,-0.785,344.814,8.070#F,9,1,0.785,344.814,8.070#F,9,1,-2.670,331.409,8.883#F,9,1,2.670,331.409,8.883#F,9,1,-0.942,336.590,7.563#F,9,1,0.942,336.590,7.563#F,9,1,-2.513,331.126,8.637#F,9,1,-0.157,345.097,8.730#F,9,1,0.157,345.097,8.730#F,9,1,2.513,331.126,8.637#F,9,1,-1.571,329.775,7.027#F,9,1,1.571,329.775,7.027#F,9,1,-2.985,331.303,9.493#F,9,1,-2.827,331.474,9.127#F,9,1,-2.356,330.715,8.367#F,9,1,2.356,330.715,8.367#F,9,1,2.827,331.474,9.127#F,9,1,2.985,331.303,9.493#F,9,1,-0.471,345.204,8.734#F,9,1,0.471,345.204,8.734#F,9,1,-1.257,335.559,7.115#F,9,1,1.257,335.559,7.115#F,9,1,-3.142,331.084,0.000#F,9,1,3.142,331.084,0.000#F,9,1,-1.414,335.297")
-            .append(",6.960#F,9,1,1.414,335.297,6.960#F,9,1,-1.100,335.992,7.318#F,9,1,1.100,335.992,7.318#F,9,1,-0.628,345.135,8.499#F,9,1,0.628,345.135,8.499#F,9,1,-1.728,329.668,7.190#F,9,1,1.728,329.668,7.190#F,9,1,-2.042,329.930,7.749#F,9,1,2.042,329.930,7.749#F,9,2,0.000,345.129,0.000#F,9,2,-1.885,329.727,7.440#F,9,2,1.885,329.727,7.440#F,9,2,-2.199,330.283,8.066#F,9,2,2.199,330.283,8.066#F,9,2,-0.314,345.172,8.834#F,9,2,0.314,345.172,8.834#F,9,2,-0.785,344.814,8.070#F,9,2,0.785,344.814,8.070#F,9,2,-2.670,331.409,8.883#F,9,2,2.670,331.409,8.883#F,9,2,-0.942,336.590,7.563#F,9,2,0.942,336.590,7.563#F,9,2,-2.513,331.126,8.637#F,9,2,-0.157,345.097,8.730#F,9,2,0.157,345.097,8.730#F,9,2,2.513,331.126,8.637#F,9,2,-1.571,329.775,7.027#F,9,2,1.571,329.775,7.027#F,9,2,-2.985,331.303,9.493#F,9,2,-2.827,331.474,9.127#F,9,2,-2.356,330.715,8.367#F,9,2,2.356,330.715,8.367#F,9,2,2.827,331.474,9.127#F,9,2,2.985,331.303,9.493#F,9,2,-0.471,345.204,8.734#F,9,2,0.471,345.204,8.734#F,9,2,-1.257,335.559,7.115#F,9,2,1.257,335.559,7.115#F,9,2,-3.142,331.084,0.000#F,9,2,3.142,331.084,0.000#F,9,2,-1.414,335.297,6.960#F,9,2,1.414,335.297,6.960#F,9,2,-1.100,335.992,7.318#F,9,2,1.100,335.992,7.318#F,9,2,-0.628,345.135,8.499#F,9,2,0.628,345.135,8.499#F,9,2,-1.728,329.668,7.190#F,9,2,1.728,329.668,7.190#F,9,2,-2.042,329.930,7.749#F,9,2,2.042,329.930,7.749#F,9,3,0.000,345.129,0.000#F,9,3,-1.885,329.727,7.440#F,9,3,1.885,329.727,7.440#F,9,3,-2.199,330.283,8.066#F,9,3,2.199,330.283,8.066#F,9,3,-0.314,345.172,8.834#F,9,3,0.314,345.172,8.834#F,9,3,-0.785,344.814,8.070#F,9,3,0.785,344.814,8.070#F,9,3,-2.670,331.409,8.883#F,9,3,2.670,331.409,8.883#F,9,3,-0.942,336.590,7.563#F,9,3,0.942,336.590,7.563#F,9,3,-2.513,331.126,8.637#F,9,3,-0.157,345.097,8.730#F,9,3,0.157,345.097,8.730#F,9,3,2.513,331.126,8.637#F,9,3,-1.571,329.775,7.027#F,9,3,1.571,329.775,7.027#F,9,3,-2.985,331.303,9.493#F,9,3,-2.827,331.474,9.127#F,9,3,-2.356,330.715,8.367#F,9,3,2.356,330.715,8.367#F,9,3,2.827,331.474,9.127#F,9,3,2.985,331.303,9.493#F,9,3,-0.471,345.204,8.734#F,9,3,0.471,345.204,8.734#F,9,3,-1.257,335.559,7.115#F,9,3,1.257,335.559,7.115#F,9,3,-3.142,331.084,0.000#F,9,3,3.142,331.084,0.000#F,9,3,-1.414,335.297,6.960#F,9,3,1.414,335.297,6.960#F,9,3,-1.100,335.992,7.318#F,9,3,1.100,335.992,7.318#F,9,3,-0.628,345.135,8.499#F,9,3,0.628,345.135,8.499#F,9,3,-1.728,329.668,7.190#F,9,3,1.728,329.668,7.190#F,9,3,-2.042,329.930,7.749#F,9,3,2.042,329.930,7.749#F,9,4,0.000,345.129,0.000#F,9,4,-1.885,329.727,7.440#F,9,4,1.885,329.727,7.440#F,9,4,-2.199,330.283,8.066#F,9,4,2.199,330.283,8.066#F,9,4,-0.314,345.172,8.834#F,9,4,0.314,345.172,8.834#F,9,4,-0.785,344.814,8.070#F,9,4,0.785,344.814,8.070#F,9,4,-2.670,331.409,8.883#F,9,4,2.670,331.409,8.883#F,9,4,-0.942,336.590,7.563#F,9,4,0.942,336.590,7.563#F,9,4,-2.513,331.126,8.637#F,9,4,-0.157,345.097,8.730#F,9,4,0.157,345.097,8.730#F,9,4,2.513,331.126,8.637#F,9,4,-1.571,329.775,7.027#F,9,4,1.571,329.775,7.027#F,9,4,-2.985,331.303,9.493#F,9,4,-2.827,331.474,9.127#F,9,4,-2.356,330.715,8.367#F,9,4,2.356,330.715,8.367#F,9,4,2.827,331.474,9.127#F,9,4,2.985,331.303,9.493#F,9,4,-0.471,345.204,8.734#F,9,4,0.471,345.204,8.734#F,9,4,-1.257,335.559,7.115#F,9,4,1.257,335.559,7.115#F,9,4,-3.142,331.084,0.000#F,9,4,3.142,331.084,0.000#F,9,4,-1.414,335.297,6.960#F,9,4,1.414,335.297,6.960#F,9,4,-1.100,335.992,7.318#F,9,4,1.100,335.992,7.318#F,9,4,-0.628,345.135,8.499#F,9,4,0.628,345.135,8.499#F,9,4,-1.728,329.668,7.190#F,9,4,1.728,329.668,7.190#F,9,4,-2.042,329.930,7.749#F,9,4,2.042,329.930,7.749#F,10,0,0.000,336.798,0.000#F,10,0,-1.885,323.901,7.061#F,10,0,1.885,323.901,7.061#F,10,0,-2.199,322.971,8.062#F,10,0,2.199,322.971,8.062#F,10,0,-0.314,336.195,8.883#F,10,0,0.314,336.195,8.883#F,10,0,-0.785,329.487,7.714#F,10,0,0.785,329.487,7.714#F,10,0,-2.670,320.851,9.727#F,10,0,2.670,320.851,9.727#F,10,0,-0.942,328.317,7.529#F,10,0,0.942,328.317,7.529#F,10,0,-2.513,321.620,9.486#F,10,0,-0.157,336.633,9.081#F,10,0,0.157,336.633,9.081#F,10,0,2.513,321.620,9.486#F,10,0,-1.571,324.616,6.886#F,10,0,1.571,324.616,6.886#F,10,0,-2.985,320.835,10.552#F,10,0,-2.827,320.856,10.153#F,10,0,-2.356,322.352,8.715#F,10,0,2.356,322.352,8.715#F,10,0,2.827,320.856,10.153#F,10,0,2.985,320.835,10.552#F,10,0,-0.471,335.554,8.603#F,10,0,0.471,335.554,8.603#F,10,0,-1.257,326.245,7.215#F,10,0,1.257,326.245,7.215#F,10,0,-3.142,320.760,0.000#F,10,0,3.142,320.760,0.000#F,10,0,-1.414,325.204,6.972#F,10,0,1.414,325.204,6.972#F,10,0,-1.100,327.238,7.377#F,10,0,1.100,327.238,7.377#F,10,0,-0.628,334.229,7.903#F,10,0,0.628,334.229,7.903#F,10,0,-1.728,324.258,6.903#F,10,0,1.728,324.258,6.903#F,10,0,-2.042,323.495,7.508#F,10,0,2.042,323.495,7.508#F,10,1,0.000,336.798,0.000#F,10,1,-1.885,323.901,7.061#F,10,1,1.885,323.901,7.061#F,10,1,-2.199,322.971,8.062#F,10,1,2.199,322.971,8.062#F,10,1,-0.314,336.195,8.883#F,10,1,0.314,336.195,8.883#F,10,1,-0.785,329.487,7.714#F,10,1,0.785,329.487,7.714#F,10,1,-2.670,320.851,9.727#F,10,1,2.670,320.851,9.727#F,10,1,-0.942,328.317,7.529#F,10,1,0.942,328.317,7.529#F,10,1,-2.513,321.620,9.486#F,10,1,-0.157,336.633,9.081#F,10,1,0.157,336.633,9.081#F,10,1,2.513,321.620,9.486#F,10,1,-1.571,324.616,6.886#F,10,1,1.571,324.616,6.886#F,10,1,-2.985,320.835,10.552#F,10,1,-2.827,320.856,10.153#F,10,1,-2.356,322.352,8.715#F,10,1,2.356,322.352,8.715#F,10,1,2.827,320.856,10.153#F,10,1,2.985,320.835,10.552#F,10,1,-0.471,335.554,8.603#F,10,1,0.471,335.554,8.603#F,10,1,-1.257,326.245,7.215#F,10,1,1.257,326.245,7.215#F,10,1,-3.142,320.760,0.000#F,10,1,3.142,320.760,0.000#F,10,1,-1.414,325.204,6.972#F,10,1,1.414,325.204,6.972#F,10,1,-1.100,327.238,7.377#F,10,1,1.100,327.238,7.377#F,10,1,-0.628,334.229,7.903#F,10,1,0.628,334.229,7.903#F,10,1,-1.728,324.258,6.903#F,10,1,1.728,324.258,6.903#F,10,1,-2.042,323.495,7.508#F,10,1,2.042,323.495,7.508#F,10,2,0.000,336.798,0.000#F,10,2,-1.885,323.901,7.061#F,10,2,1.885,323.901,7.061#F,10,2,-2.199,322.971,8.062#F,10,2,2.199,322.971,8.062#F,10,2,-0.314,336.195,8.883#F,10,2,0.314,336.195,8.883#F,10,2,-0.785,329.487,7.714#F,10,2,0.785,329.487,7.714#F,10,2,-2.670,320.851,9.727#F,10,2,2.670,320.851,9.727#F,10,2,-0.942,328.317,7.529#F,10,2,0.942,328.317,7.529#F,10,2,-2.513,321.620,9.486#F,10,2,-0.157,336.633,9.081#F,10,2,0.157,336.633,9.081#F,10,2,2.513,321.620,9.486#F,10,2,-1.571,324.616,6.886#F,10,2,1.571,324.616,6.886#F,10,2,-2.985,320.835,10.552#F,10,2,-2.827,320.856,10.153#F,10,2,-2.356,322.352,8.715#F,10,2,2.356,322.352,8.715#F,10,2,2.827,320.856,10.153#F,10,2,2.985,320.835,10.552#F,10,2,-0.471,335.554,8.603#F,10,2,0.471,335.554,8.603#F,10,2,-1.257,326.245,7.215#F,10,2,1.257,326.245,7.215#F,10,2,-3.142,320.760,0.000#F,10,2,3.142,320.760,0.000#F,10,2,-1.414,325.204,6.972#F,10,2,1.414,325.204,6.972#F,10,2,-1.100,327.238,7.377#F,10,2,1.100,327.238,7.377#F,10,2,-0.628,334.229,7.903#F,10,2,0.628,334.229,7.903#F,10,2,-1.728,324.258,6.903#F,10,2,1.728,324.258,6.903#F,10,2,-2.042,323.495,7.508#F,10,2,2.042,323.495,7.508#F,10,3,0.000,336.798,0.000#F,10,3,-1.885,323.901,7.061#F,10,3,1.885,323.901,7.061#F,10,3,-2.199,322.971,8.062#F,10,3,2.199,322.971,8.062#F,10,3,-0.314,336.195,8.883#F,10,3,0.314,336.195,8.883#F,10,3,-0.785,329.487,7.714#F,10,3,0.785,329.487,7.714#F,10,3,-2.670,320.851,9.727#F,10,3,2.670,320.851,9.727#F,10,3,-0.942,328.317,7.529#F,10,3,0.942,328.317,7.529#F,10,3,-2.513,321.620,9.486#F,10,3,-0.157,336.633,9.081#F,10,3,0.157,336.633,9.081#F,10,3,2.513,321.620,9.486#F,10,3,-1.571,324.616,6.886#F,10,3,1.571,324.616,6.886#F,10,3,-2.985,320.835,10.552#F,10,3,-2.827,320.856,10.153#F,10,3,-2.356,322.352,8.715#F,10,3,2.356,322.352,8.715#F,10,3,2.827,320.856,10.153#F,10,3,2.985,320.835,10.552#F,10,3,-0.471,335.554,8.603#F,10,3,0.471,335.554,8.603#F,10,3,-1.257,326.245,7.215#F,10,3,1.257,326.245,7.215#F,10,3,-3.142,320.760,0.000#F,10,3,3.142,320.760,0.000#F,10,3,-1.414,325.204,6.972#F,10,3,1.414,325.204,6.972#F,10,3,-1.100,327.238,7.377#F,10,3,1.100,327.238,7.377#F,10,3,-0.628,334.229,7.903#F,10,3,0.628,334.229,7.903#F,10,3,-1.728,324.258,6.903#F,10,3,1.728,324.258,6.903#F,10,3,-2.042,323.495,7.508#F,10,3,2.042,323.495,7.508#F,10,4,0.000,336.798,0.000#F,10,4,-1.885,323.901,7.061#F,10,4,1.885,323.901,7.061#F,10,4,-2.199,322.971,8.062#F,10,4,2.199,322.971,8.062#F,10,4,-0.314,336.195,8.883#F,10,4,0.314,336.195,8.883#F,10,4,-0.785,329.487,7.714#F,10,4,0.785,329.487,7.714#F,10,4,-2.670,320.851,9.727#F,10,4,2.670,320.851,9.727#F,10,4,-0.942,328.317,7.529#F,10,4,0.942,328.317,7.529#F,10,4,-2.513,321.620,9.486#F,10,4,-0.157,336.633,9.081#F,10,4,0.157,336.633,9.081#F,10,4,2.513,321.620,9.486#F,10,4,-1.571,324.616,6.886#F,10,4,1.571,324.616,6.886#F,10,4,-2.985,320.835,10.552#F,10,4,-2.827,320.856,10.153#F,10,4,-2.356,322.352,8.715#F,10,4,2.356,322.352,8.715#F,10,4,2.827,320.856,10.153#F,10,4,2.985,320.835,10.552#F,10,4,-0.471,335.554,8.603#F,10,4,0.471,335.554,8.603#F,10,4,-1.257,326.245,7.215#F,10,4,1.257,326.245,7.215#F,10,4,-3.142,320.760,0.000#F,10,4,3.142,320.760,0.000#F,10,4,-1.414,325.204,6.972#F,10,4,1.414,325.204,6.972#F,10,4,-1.100,327.238,7.377#F,10,4,1.100,327.238,7.377#F,10,4,-0.628,334.229,7.903#F,10,4,0.628,334.229,7.903#F,10,4,-1.728,324.258,6.903#F,10,4,1.728,324.258,6.903#F,10,4,-2.042,323.495,7.508#F,10,4,2.042,323.495,7.508#E,0,0,0.000,583.997,0.000#E,0,0,-1.885,572.163,9.463#E,0,0,1.885,572.163,9.463#E,0,0,-2.199,569.850,11.567#E,0,0,2.199,569.850,11.567#E,0,0,-0.314,583.789,0.000#E,0,0,0.314,583.789,0.000#E,0,0,-0.785,581.957,10.732#E,0,0,0.785,581.957,10.732#E,0,0,-2.670,567.618,0.000#E,0,0,2.670,567.618,0.000#E,0,0,-0.942,580.782,9.600#E,0,0,0.942,580.782,9.600#E,0,0,-2.513,568.216,5.345#E,0,0,-0.157,583.939,0.000#E,0,0,0.157,583.939,0.000#E,0,0,2.513,568.216,5.345#E,0,0,-1.571,574.988,8.595#E,0,0,1.571,574.988,8.595#E,0,0,-2.985,567.046,0.000#E,0,0,-2.827,567.228,0.000#E,0,0,-2.356,568.958,9.520#E,0,0,2.356,568.958,9.520#E,0,0,2.827,567.228,0.000#E,0,0,2.985,567.046,0.000#E,0,0,-0.471,583.479,3.774#E,0,0,0.471,583.479,3.774#E,0,0,-1.257,577.957,8.595#E,0,0,1.257,577.957,8.595#E,0,0,-3.142,567.004,0.000#E,0,0,3.142,567.004,0.000#E,0,0,-1.414,576.")
-            .append("472,8.488#E,0,0,1.414,576.472,8.488#E,0,0,-1.100,579.420,8.937#E,0,0,1.100,579.420,8.937#E,0,0,-0.628,582.887,9.917#E,0,0,0.628,582.887,9.917#E,0,0,-1.728,573.535,8.909#E,0,0,1.728,573.535,8.909#E,0,0,-2.042,570.918,10.308#E,0,0,2.042,570.918,10.308#E,0,1,0.000,605.968,0.000#E,0,1,-1.885,593.204,10.034#E,0,1,1.885,593.204,10.034#E,0,1,-2.199,590.887,11.552#E,0,1,2.199,590.887,11.552#E,0,1,-0.314,605.611,0.864#E,0,1,0.314,605.611,0.864#E,0,1,-0.785,603.229,11.451#E,0,1,0.785,603.229,11.451#E,0,1,-2.670,588.617,0.000#E,0,1,2.670,588.617,0.000#E,0,1,-0.942,601.926,10.252#E,0,1,0.942,601.926,10.252#E,0,1,-2.513,589.220,5.007#E,0,1,-0.157,605.851,0.000#E,0,1,0.157,605.851,0.000#E,0,1,2.513,589.220,5.007#E,0,1,-1.571,596.030,9.137#E,0,1,1.571,596.030,9.137#E,0,1,-2.985,588.046,0.000#E,0,1,-2.827,588.227,0.000#E,0,1,-2.356,589.979,8.871#E,0,1,2.356,589.979,8.871#E,0,1,2.827,588.227,0.000#E,0,1,2.985,588.046,0.000#E,0,1,-0.471,605.135,8.794#E,0,1,0.471,605.135,8.794#E,0,1,-1.257,598.999,9.161#E,0,1,1.257,598.999,9.161#E,0,1,-3.142,588.003,0.000#E,0,1,3.142,588.003,0.000#E,0,1,-1.414,597.514,9.035#E,0,1,1.414,597.514,9.035#E,0,1,-1.100,600.484,9.543#E,0,1,1.100,600.484,9.543#E,0,1,-0.628,604.329,13.470#E,0,1,0.628,604.329,13.470#E,0,1,-1.728,594.577,9.461#E,0,1,1.728,594.577,9.461#E,0,1,-2.042,591.960,10.920#E,0,1,2.042,591.960,10.920#E,0,2,0.000,627.902,0.000#E,0,2,-1.885,614.246,10.605#E,0,2,1.885,614.246,10.605#E,0,2,-2.199,611.923,10.837#E,0,2,2.199,611.923,10.837#E,0,2,-0.314,627.331,7.870#E,0,2,0.314,627.331,7.870#E,0,2,-0.785,624.415,12.181#E,0,2,0.785,624.415,12.181#E,0,2,-2.670,609.616,0.000#E,0,2,2.670,609.616,0.000#E,0,2,-0.942,623.005,10.909#E,0,2,0.942,623.005,10.909#E,0,2,-2.513,610.220,4.775#E,0,2,-0.157,627.705,0.000#E,0,2,0.157,627.705,0.000#E,0,2,2.513,610.220,4.775#E,0,2,-1.571,617.072,9.679#E,0,2,1.571,617.072,9.679#E,0,2,-2.985,609.045,0.000#E,0,2,-2.827,609.226,0.000#E,0,2,-2.356,610.994,8.356#E,0,2,2.356,610.994,8.356#E,0,2,2.827,609.226,0.000#E,0,2,2.985,609.045,0.000#E,0,2,-0.471,626.658,13.525#E,0,2,0.471,626.658,13.525#E,0,2,-1.257,620.041,9.729#E,0,2,1.257,620.041,9.729#E,0,2,-3.142,609.002,0.000#E,0,2,3.142,609.002,0.000#E,0,2,-1.414,618.556,9.583#E,0,2,1.414,618.556,9.583#E,0,2,-1.100,621.526,10.146#E,0,2,1.100,621.526,10.146#E,0,2,-0.628,625.654,14.315#E,0,2,0.628,625.654,14.315#E,0,2,-1.728,615.619,10.008#E,0,2,1.728,615.619,10.008#E,0,2,-2.042,613.002,11.532#E,0,2,2.042,613.002,11.532#E,0,3,0.000,649.788,0.000#E,0,3,-1.885,635.294,11.176#E,0,3,1.885,635.294,11.176#E,0,3,-2.199,632.949,10.249#E,0,3,2.199,632.949,10.249#E,0,3,-0.314,648.928,14.612#E,0,3,0.314,648.928,14.612#E,0,3,-0.785,645.521,12.927#E,0,3,0.785,645.521,12.927#E,0,3,-2.670,630.615,0.000#E,0,3,2.670,630.615,0.000#E,0,3,-0.942,644.052,11.572#E,0,3,0.942,644.052,11.572#E,0,3,-2.513,631.224,4.625#E,0,3,-0.157,649.483,7.128#E,0,3,0.157,649.483,7.128#E,0,3,2.513,631.224,4.625#E,0,3,-1.571,638.113,10.219#E,0,3,1.571,638.113,10.219#E,0,3,-2.985,630.044,0.000#E,0,3,-2.827,630.225,0.000#E,0,3,-2.356,632.004,7.954#E,0,3,2.356,632.004,7.954#E,0,3,2.827,630.225,0.000#E,0,3,2.985,630.044,0.000#E,0,3,-0.471,648.052,17.789#E,0,3,0.471,648.052,17.789#E,0,3,-1.257,641.083,10.294#E,0,3,1.257,641.083,10.294#E,0,3,-3.142,630.001,0.000#E,0,3,3.142,630.001,0.000#E,0,3,-1.414,639.598,10.129#E,0,3,1.414,639.598,10.129#E,0,3,-1.100,642.567,10.749#E,0,3,1.100,642.567,10.749#E,0,3,-0.628,646.883,15.182#E,0,3,0.628,646.883,15.182#E,0,3,-1.728,636.661,10.556#E,0,3,1.728,636.661,10.556#E,0,3,-2.042,634.049,11.850#E,0,3,2.042,634.049,11.850#E,0,4,0.000,674.787,0.000#E,0,4,-1.885,660.293,11.218#E,0,4,1.885,660.293,11.218#E,0,4,-2.199,657.948,10.206#E,0,4,2.199,657.948,10.206#E,0,4,-0.314,673.933,14.556#E,0,4,0.314,673.933,14.556#E,0,4,-0.785,670.525,12.978#E,0,4,0.785,670.525,12.978#E,0,4,-2.670,655.620,0.000#E,0,4,2.670,655.620,0.000#E,0,4,-0.942,669.057,11.618#E,0,4,0.942,669.057,11.618#E,0,4,-2.513,656.223,4.608#E,0,4,-0.157,674.488,7.098#E,0,4,0.157,674.488,7.098#E,0,4,2.513,656.223,4.608#E,0,4,-1.571,663.118,10.258#E,0,4,1.571,663.118,10.258#E,0,4,-2.985,655.043,0.000#E,0,4,-2.827,655.225,0.000#E,0,4,-2.356,657.003,7.920#E,0,4,2.356,657.003,7.920#E,0,4,2.827,655.225,0.000#E,0,4,2.985,655.043,0.000#E,0,4,-0.471,673.057,17.726#E,0,4,0.471,673.057,17.726#E,0,4,-1.257,666.087,10.337#E,0,4,1.257,666.087,10.337#E,0,4,-3.142,655.000,0.000#E,0,4,3.142,655.000,0.000#E,0,4,-1.414,664.603,10.168#E,0,4,1.414,664.603,10.168#E,0,4,-1.100,667.572,10.792#E,0,4,1.100,667.572,10.792#E,0,4,-0.628,671.887,15.241#E,0,4,0.628,671.887,15.241#E,0,4,-1.728,661.665,10.597#E,0,4,1.728,661.665,10.597#E,0,4,-2.042,659.048,11.797#E,0,4,2.042,659.048,11.797#E,1,0,0.000,581.445,0.000#E,1,0,-1.885,569.017,9.882#E,1,0,1.885,569.017,9.882#E,1,0,-2.199,566.587,12.081#E,1,0,2.199,566.587,12.081#E,1,0,-0.314,581.226,0.000#E,1,0,0.314,581.226,0.000#E,1,0,-0.785,579.303,11.210#E,1,0,0.785,579.303,11.210#E,1,0,-2.670,564.248,0.000#E,1,0,2.670,564.248,0.000#E,1,0,-0.942,578.069,10.029#E,1,0,0.942,578.069,10.029#E,1,0,-2.513,564.867,5.830#E,1,0,-0.157,581.386,0.000#E,1,0,0.157,581.386,0.000#E,1,0,2.513,564.867,5.830#E,1,0,-1.571,571.981,8.978#E,1,0,1.571,571.981,8.978#E,1,0,-2.985,563.644,0.000#E,1,0,-2.827,563.837,0.000#E,1,0,-2.356,565.652,9.893#E,1,0,2.356,565.652,9.893#E,1,0,2.827,563.837,0.000#E,1,0,2.985,563.644,0.000#E,1,0,-0.471,580.900,4.270#E,1,0,0.471,580.900,4.270#E,1,0,-1.257,575.100,8.978#E,1,0,1.257,575.100,8.978#E,1,0,-3.142,563.602,0.000#E,1,0,3.142,563.602,0.000#E,1,0,-1.414,573.540,8.866#E,1,0,1.414,573.540,8.866#E,1,0,-1.100,576.643,9.337#E,1,0,1.100,576.643,9.337#E,1,0,-0.628,580.275,10.269#E,1,0,0.628,580.275,10.269#E,1,0,-1.728,570.459,9.305#E,1,0,1.728,570.459,9.305#E,1,0,-2.042,567.714,10.770#E,1,0,2.042,567.714,10.770#E,1,1,0.000,603.266,0.000#E,1,1,-1.885,589.861,10.481#E,1,1,1.885,589.861,10.481#E,1,1,-2.199,587.426,11.868#E,1,1,2.199,587.426,11.868#E,1,1,-0.314,602.887,1.656#E,1,1,0.314,602.887,1.656#E,1,1,-0.785,600.388,11.957#E,1,1,0.785,600.388,11.957#E,1,1,-2.670,585.049,0.000#E,1,1,2.670,585.049,0.000#E,1,1,-0.942,599.020,10.706#E,1,1,0.942,599.020,10.706#E,1,1,-2.513,585.674,5.514#E,1,1,-0.157,603.143,0.000#E,1,1,0.157,603.143,0.000#E,1,1,2.513,585.674,5.514#E,1,1,-1.571,592.825,9.543#E,1,1,1.571,592.825,9.543#E,1,1,-2.985,584.446,0.000#E,1,1,-2.827,584.638,0.000#E,1,1,-2.356,586.470,9.268#E,1,1,2.356,586.470,9.268#E,1,1,2.827,584.638,0.000#E,1,1,2.985,584.446,0.000#E,1,1,-0.471,602.385,9.289#E,1,1,0.471,602.385,9.289#E,1,1,-1.257,595.944,9.570#E,1,1,1.257,595.944,9.570#E,1,1,-3.142,584.403,0.000#E,1,1,3.142,584.403,0.000#E,1,1,-1.414,594.385,9.436#E,1,1,1.414,594.385,9.436#E,1,1,-1.100,597.504,9.966#E,1,1,1.100,597.504,9.966#E,1,1,-0.628,601.541,13.949#E,1,1,0.628,601.541,13.949#E,1,1,-1.728,591.303,9.880#E,1,1,1.728,591.303,9.880#E,1,1,-2.042,588.558,11.407#E,1,1,2.042,588.558,11.407#E,1,2,0.000,625.045,0.000#E,1,2,-1.885,610.706,11.074#E,1,2,1.885,610.706,11.074#E,1,2,-2.199,608.260,11.176#E,1,2,2.199,608.260,11.176#E,1,2,-0.314,624.442,8.649#E,1,2,0.314,624.442,8.649#E,1,2,-0.785,621.381,12.723#E,1,2,0.785,621.381,12.723#E,1,2,-2.670,605.846,0.165#E,1,2,2.670,605.846,0.165#E,1,2,-0.942,619.902,11.394#E,1,2,0.942,619.902,11.394#E,1,2,-2.513,606.476,5.306#E,1,2,-0.157,624.842,0.000#E,1,2,0.157,624.842,0.000#E,1,2,2.513,606.476,5.306#E,1,2,-1.571,613.670,10.106#E,1,2,1.571,613.670,10.106#E,1,2,-2.985,605.247,0.000#E,1,2,-2.827,605.434,0.000#E,1,2,-2.356,607.282,8.774#E,1,2,2.356,607.282,8.774#E,1,2,2.827,605.434,0.000#E,1,2,2.985,605.247,0.000#E,1,2,-0.471,623.737,14.014#E,1,2,0.471,623.737,14.014#E,1,2,-1.257,616.788,10.161#E,1,2,1.257,616.788,10.161#E,1,2,-3.142,605.205,0.000#E,1,2,3.142,605.205,0.000#E,1,2,-1.414,615.229,10.008#E,1,2,1.414,615.229,10.008#E,1,2,-1.100,618.348,10.597#E,1,2,1.100,618.348,10.597#E,1,2,-0.628,622.684,14.948#E,1,2,0.628,622.684,14.948#E,1,2,-1.728,612.148,10.451#E,1,2,1.728,612.148,10.451#E,1,2,-2.042,609.397,12.045#E,1,2,2.042,609.397,12.045#E,1,3,0.000,646.776,0.000#E,1,3,-1.885,631.550,11.669#E,1,3,1.885,631.550,11.669#E,1,3,-2.199,629.088,10.608#E,1,3,2.199,629.088,10.608#E,1,3,-0.314,645.873,15.382#E,1,3,0.314,645.873,15.382#E,1,3,-0.785,642.295,13.497#E,1,3,0.785,642.295,13.497#E,1,3,-2.670,626.647,0.419#E,1,3,2.670,626.647,0.419#E,1,3,-0.942,640.752,12.081#E,1,3,0.942,640.752,12.081#E,1,3,-2.513,627.277,5.179#E,1,3,-0.157,646.455,8.769#E,1,3,0.157,646.455,8.769#E,1,3,2.513,627.277,5.179#E,1,3,-1.571,634.514,10.669#E,1,3,1.571,634.514,10.669#E,1,3,-2.985,626.049,0.000#E,1,3,-2.827,626.236,0.000#E,1,3,-2.356,628.094,8.392#E,1,3,2.356,628.094,8.392#E,1,3,2.827,626.236,0.000#E,1,3,2.985,626.049,0.000#E,1,3,-0.471,644.949,18.281#E,1,3,0.471,644.949,18.281#E,1,3,-1.257,637.633,10.751#E,1,3,1.257,637.633,10.751#E,1,3,-3.142,626.001,0.000#E,1,3,3.142,626.001,0.000#E,1,3,-1.414,636.073,10.578#E,1,3,1.414,636.073,10.578#E,1,3,-1.100,639.192,11.224#E,1,3,1.100,639.192,11.224#E,1,3,-0.628,643.721,15.848#E,1,3,0.628,643.721,15.848#E,1,3,-1.728,632.992,11.022#E,1,3,1.728,632.992,11.022#E,1,3,-2.042,630.241,12.151#E,1,3,2.042,630.241,12.151#E,1,4,0.000,671.775,0.000#E,1,4,-1.885,656.554,11.717#E,1,4,1.885,656.554,11.717#E,1,4,-2.199,654.087,10.564#E,1,4,2.199,654.087,10.564#E,1,4,-0.314,670.872,15.326#E,1,4,0.314,670.872,15.326#E,1,4,-0.785,667.294,13.553#E,1,4,0.785,667.294,13.553#E,1,4,-2.670,651.646,0.419#E,1,4,2.670,651.646,0.419#E,1,4,-0.942,665.756,12.130#E,1,4,0.942,665.756,12.130#E,1,4,-2.513,652.277,5.160#E,1,4,-0.157,671.460,8.732#E,1,4,0.157,671.460,8.732#E,1,4,2.513,652.277,5.160#E,1,4,-1.571,659.518,10.712#E,1,4,1.571,659.518,10.712#E,1,4,-2.985,651.048,0.000#E,1,4,-2.827,651.235,0.000#E,1,4,-2.356,653.094,8.358#E,1,4,2.356,653.094,8.358#E,1,4,2.827,651.235,0.000#E,1,4,2.985,651.048,0.000#E,1,4,-0.471,669.954,18.214#E,1,4,0.471,669.954,18.214#E,1,4,-1.257,662.637,10.794#E,1,4,1.257,662.637,10.794#E,1,4,-3.142,651.000,0.000#E,1,4,3.142,651.000,0.000#E,1,4,-1.414,661.078,10.617#E,1,4,1.414,661.078,10.617#E,1,4,-1.100,664")
-            .append(".197,11.271#E,1,4,1.100,664.197,11.271#E,1,4,-0.628,668.726,15.916#E,1,4,0.628,668.726,15.916#E,1,4,-1.728,657.996,11.066#E,1,4,1.728,657.996,11.066#E,1,4,-2.042,655.246,12.103#E,1,4,2.042,655.246,12.103#E,2,0,0.000,578.897,0.000#E,2,0,-1.885,565.871,10.300#E,2,0,1.885,565.871,10.300#E,2,0,-2.199,563.324,12.592#E,2,0,2.199,563.324,12.592#E,2,0,-0.314,578.667,0.000#E,2,0,0.314,578.667,0.000#E,2,0,-0.785,576.643,11.685#E,2,0,0.785,576.643,11.685#E,2,0,-2.670,560.878,0.494#E,2,0,2.670,560.878,0.494#E,2,0,-0.942,575.356,10.453#E,2,0,0.942,575.356,10.453#E,2,0,-2.513,561.524,6.308#E,2,0,-0.157,578.833,0.000#E,2,0,0.157,578.833,0.000#E,2,0,2.513,561.524,6.308#E,2,0,-1.571,568.980,9.354#E,2,0,1.571,568.980,9.354#E,2,0,-2.985,560.248,0.000#E,2,0,-2.827,560.451,0.000#E,2,0,-2.356,562.341,10.261#E,2,0,2.356,562.341,10.261#E,2,0,2.827,560.451,0.000#E,2,0,2.985,560.248,0.000#E,2,0,-0.471,578.320,4.764#E,2,0,0.471,578.320,4.764#E,2,0,-1.257,572.243,9.358#E,2,0,1.257,572.243,9.358#E,2,0,-3.142,560.205,0.000#E,2,0,3.142,560.205,0.000#E,2,0,-1.414,570.609,9.238#E,2,0,1.414,570.609,9.238#E,2,0,-1.100,573.856,9.734#E,2,0,1.100,573.856,9.734#E,2,0,-0.628,577.663,10.614#E,2,0,0.628,577.663,10.614#E,2,0,-1.728,567.383,9.697#E,2,0,1.728,567.383,9.697#E,2,0,-2.042,564.504,11.222#E,2,0,2.042,564.504,11.222#E,2,1,0.000,600.564,0.000#E,2,1,-1.885,586.518,10.921#E,2,1,1.885,586.518,10.921#E,2,1,-2.199,583.965,12.184#E,2,1,2.199,583.965,12.184#E,2,1,-0.314,600.169,2.435#E,2,1,0.314,600.169,2.435#E,2,1,-0.785,597.546,12.461#E,2,1,0.785,597.546,12.461#E,2,1,-2.670,581.477,0.651#E,2,1,2.670,581.477,0.651#E,2,1,-0.942,596.110,11.155#E,2,1,0.942,596.110,11.155#E,2,1,-2.513,582.128,6.016#E,2,1,-0.157,600.436,0.000#E,2,1,0.157,600.436,0.000#E,2,1,2.513,582.128,6.016#E,2,1,-1.571,589.621,9.944#E,2,1,1.571,589.621,9.944#E,2,1,-2.985,580.846,0.000#E,2,1,-2.827,581.049,0.000#E,2,1,-2.356,582.961,9.656#E,2,1,2.356,582.961,9.656#E,2,1,2.827,581.049,0.000#E,2,1,2.985,580.846,0.000#E,2,1,-0.471,599.640,9.775#E,2,1,0.471,599.640,9.775#E,2,1,-1.257,592.889,9.974#E,2,1,1.257,592.889,9.974#E,2,1,-3.142,580.804,0.000#E,2,1,3.142,580.804,0.000#E,2,1,-1.414,591.255,9.836#E,2,1,1.414,591.255,9.836#E,2,1,-1.100,594.524,10.386#E,2,1,1.100,594.524,10.386#E,2,1,-0.628,598.753,14.295#E,2,1,0.628,598.753,14.295#E,2,1,-1.728,588.024,10.295#E,2,1,1.728,588.024,10.295#E,2,1,-2.042,585.151,11.887#E,2,1,2.042,585.151,11.887#E,2,2,0.000,622.193,0.000#E,2,2,-1.885,607.165,11.538#E,2,2,1.885,607.165,11.538#E,2,2,-2.199,604.601,11.510#E,2,2,2.199,604.601,11.510#E,2,2,-0.314,621.558,9.416#E,2,2,0.314,621.558,9.416#E,2,2,-0.785,618.348,13.252#E,2,2,0.785,618.348,13.252#E,2,2,-2.670,602.081,0.879#E,2,2,2.670,602.081,0.879#E,2,2,-0.942,616.799,11.871#E,2,2,0.942,616.799,11.871#E,2,2,-2.513,602.732,5.829#E,2,2,-0.157,621.980,0.000#E,2,2,0.157,621.980,0.000#E,2,2,2.513,602.732,5.829#E,2,2,-1.571,610.268,10.529#E,2,2,1.571,610.268,10.529#E,2,2,-2.985,601.450,0.000#E,2,2,-2.827,601.648,0.000#E,2,2,-2.356,603.576,9.184#E,2,2,2.356,603.576,9.184#E,2,2,2.827,601.648,0.000#E,2,2,2.985,601.450,0.000#E,2,2,-0.471,620.815,14.498#E,2,2,0.471,620.815,14.498#E,2,2,-1.257,613.536,10.587#E,2,2,1.257,613.536,10.587#E,2,2,-3.142,601.402,0.000#E,2,2,3.142,601.402,0.000#E,2,2,-1.414,611.902,10.428#E,2,2,1.414,611.902,10.428#E,2,2,-1.100,615.170,11.041#E,2,2,1.100,615.170,11.041#E,2,2,-0.628,619.715,15.569#E,2,2,0.628,619.715,15.569#E,2,2,-1.728,608.671,10.889#E,2,2,1.728,608.671,10.889#E,2,2,-2.042,605.792,12.548#E,2,2,2.042,605.792,12.548#E,2,3,0.000,643.764,0.000#E,2,3,-1.885,627.811,12.156#E,2,3,1.885,627.811,12.156#E,2,3,-2.199,625.227,10.959#E,2,3,2.199,625.227,10.959#E,2,3,-0.314,642.813,16.142#E,2,3,0.314,642.813,16.142#E,2,3,-0.785,639.064,14.058#E,2,3,0.785,639.064,14.058#E,2,3,-2.670,622.679,1.165#E,2,3,2.670,622.679,1.165#E,2,3,-0.942,637.451,12.586#E,2,3,0.942,637.451,12.586#E,2,3,-2.513,623.331,5.730#E,2,3,-0.157,643.427,10.385#E,2,3,0.157,643.427,10.385#E,2,3,2.513,623.331,5.730#E,2,3,-1.571,630.914,11.112#E,2,3,1.571,630.914,11.112#E,2,3,-2.985,622.049,0.000#E,2,3,-2.827,622.247,0.000#E,2,3,-2.356,624.185,8.822#E,2,3,2.356,624.185,8.822#E,2,3,2.827,622.247,0.000#E,2,3,2.985,622.049,0.000#E,2,3,-0.471,641.846,18.762#E,2,3,0.471,641.846,18.762#E,2,3,-1.257,634.183,11.197#E,2,3,1.257,634.183,11.197#E,2,3,-3.142,622.001,0.000#E,2,3,3.142,622.001,0.000#E,2,3,-1.414,632.549,11.019#E,2,3,1.414,632.549,11.019#E,2,3,-1.100,635.817,11.692#E,2,3,1.100,635.817,11.692#E,2,3,-0.628,640.565,16.507#E,2,3,0.628,640.565,16.507#E,2,3,-1.728,629.317,11.481#E,2,3,1.728,629.317,11.481#E,2,3,-2.042,626.439,12.454#E,2,3,2.042,626.439,12.454#E,2,4,0.000,668.763,0.000#E,2,4,-1.885,652.816,12.208#E,2,4,1.885,652.816,12.208#E,2,4,-2.199,650.226,10.919#E,2,4,2.199,650.226,10.919#E,2,4,-0.314,667.812,16.087#E,2,4,0.314,667.812,16.087#E,2,4,-0.785,664.069,14.121#E,2,4,0.785,664.069,14.121#E,2,4,-2.670,647.678,1.162#E,2,4,2.670,647.678,1.162#E,2,4,-0.942,662.450,12.638#E,2,4,0.942,662.450,12.638#E,2,4,-2.513,648.330,5.710#E,2,4,-0.157,668.432,10.348#E,2,4,0.157,668.432,10.348#E,2,4,2.513,648.330,5.710#E,2,4,-1.571,655.919,11.159#E,2,4,1.571,655.919,11.159#E,2,4,-2.985,647.048,0.000#E,2,4,-2.827,647.246,0.000#E,2,4,-2.356,649.184,8.787#E,2,4,2.356,649.184,8.787#E,2,4,2.827,647.246,0.000#E,2,4,2.985,647.048,0.000#E,2,4,-0.471,666.851,18.703#E,2,4,0.471,666.851,18.703#E,2,4,-1.257,659.187,11.248#E,2,4,1.257,659.187,11.248#E,2,4,-3.142,647.000,0.000#E,2,4,3.142,647.000,0.000#E,2,4,-1.414,657.553,11.064#E,2,4,1.414,657.553,11.064#E,2,4,-1.100,660.822,11.741#E,2,4,1.100,660.822,11.741#E,2,4,-0.628,665.564,16.579#E,2,4,0.628,665.564,16.579#E,2,4,-1.728,654.322,11.532#E,2,4,1.728,654.322,11.532#E,2,4,-2.042,651.443,12.407#E,2,4,2.042,651.443,12.407#E,3,0,0.000,576.344,0.000#E,3,0,-1.885,562.726,10.712#E,3,0,1.885,562.726,10.712#E,3,0,-2.199,560.061,13.097#E,3,0,2.199,560.061,13.097#E,3,0,-0.314,576.104,0.000#E,3,0,0.314,576.104,0.000#E,3,0,-0.785,573.989,12.151#E,3,0,0.785,573.989,12.151#E,3,0,-2.670,557.508,1.146#E,3,0,2.670,557.508,1.146#E,3,0,-0.942,572.643,10.868#E,3,0,0.942,572.643,10.868#E,3,0,-2.513,558.176,6.780#E,3,0,-0.157,576.280,0.000#E,3,0,0.157,576.280,0.000#E,3,0,2.513,558.176,6.780#E,3,0,-1.571,565.973,9.729#E,3,0,1.571,565.973,9.729#E,3,0,-2.985,556.851,0.000#E,3,0,-2.827,557.059,0.000#E,3,0,-2.356,559.030,10.622#E,3,0,2.356,559.030,10.622#E,3,0,2.827,557.059,0.000#E,3,0,2.985,556.851,0.000#E,3,0,-0.471,575.741,5.249#E,3,0,0.471,575.741,5.249#E,3,0,-1.257,569.386,9.731#E,3,0,1.257,569.386,9.731#E,3,0,-3.142,556.803,0.000#E,3,0,3.142,556.803,0.000#E,3,0,-1.414,567.677,9.612#E,3,0,1.414,567.677,9.612#E,3,0,-1.100,571.073,10.123#E,3,0,1.100,571.073,10.123#E,3,0,-0.628,575.057,10.959#E,3,0,0.628,575.057,10.959#E,3,0,-1.728,564.301,10.086#E,3,0,1.728,564.301,10.086#E,3,0,-2.042,561.295,11.672#E,3,0,2.042,561.295,11.672#E,3,1,0.000,597.861,0.000#E,3,1,-1.885,583.175,11.356#E,3,1,1.885,583.175,11.356#E,3,1,-2.199,580.505,12.495#E,3,1,2.199,580.505,12.495#E,3,1,-0.314,597.445,3.209#E,3,1,0.314,597.445,3.209#E,3,1,-0.785,594.705,12.958#E,3,1,0.785,594.705,12.958#E,3,1,-2.670,577.909,1.333#E,3,1,2.670,577.909,1.333#E,3,1,-0.942,593.204,11.601#E,3,1,0.942,593.204,11.601#E,3,1,-2.513,578.582,6.512#E,3,1,-0.157,597.728,0.000#E,3,1,0.157,597.728,0.000#E,3,1,2.513,578.582,6.512#E,3,1,-1.571,586.422,10.338#E,3,1,1.571,586.422,10.338#E,3,1,-2.985,577.252,0.000#E,3,1,-2.827,577.460,0.000#E,3,1,-2.356,579.447,10.038#E,3,1,2.356,579.447,10.038#E,3,1,2.827,577.460,0.000#E,3,1,2.985,577.252,0.000#E,3,1,-0.471,596.889,10.258#E,3,1,0.471,596.889,10.258#E,3,1,-1.257,589.835,10.369#E,3,1,1.257,589.835,10.369#E,3,1,-3.142,577.204,0.000#E,3,1,3.142,577.204,0.000#E,3,1,-1.414,588.126,10.225#E,3,1,1.414,588.126,10.225#E,3,1,-1.100,591.544,10.800#E,3,1,1.100,591.544,10.800#E,3,1,-0.628,595.966,14.640#E,3,1,0.628,595.966,14.640#E,3,1,-1.728,584.750,10.703#E,3,1,1.728,584.750,10.703#E,3,1,-2.042,581.744,12.360#E,3,1,2.042,581.744,12.360#E,3,2,0.000,619.336,0.000#E,3,2,-1.885,603.619,11.995#E,3,2,1.885,603.619,11.995#E,3,2,-2.199,600.938,11.839#E,3,2,2.199,600.938,11.839#E,3,2,-0.314,618.668,10.178#E,3,2,0.314,618.668,10.178#E,3,2,-0.785,615.314,13.781#E,3,2,0.785,615.314,13.781#E,3,2,-2.670,598.305,1.590#E,3,2,2.670,598.305,1.590#E,3,2,-0.942,613.696,12.341#E,3,2,0.942,613.696,12.341#E,3,2,-2.513,598.983,6.350#E,3,2,-0.157,619.112,0.000#E,3,2,0.157,619.112,0.000#E,3,2,2.513,598.983,6.350#E,3,2,-1.571,606.866,10.946#E,3,2,1.571,606.866,10.946#E,3,2,-2.985,597.653,0.000#E,3,2,-2.827,597.861,0.000#E,3,2,-2.356,599.864,9.586#E,3,2,2.356,599.864,9.586#E,3,2,2.827,597.861,0.000#E,3,2,2.985,597.653,0.000#E,3,2,-0.471,617.889,14.977#E,3,2,0.471,617.889,14.977#E,3,2,-1.257,610.284,11.007#E,3,2,1.257,610.284,11.007#E,3,2,-3.142,597.605,0.000#E,3,2,3.142,597.605,0.000#E,3,2,-1.414,608.575,10.841#E,3,2,1.414,608.575,10.841#E,3,2,-1.100,611.993,11.477#E,3,2,1.100,611.993,11.477#E,3,2,-0.628,616.740,16.184#E,3,2,0.628,616.740,16.184#E,3,2,-1.728,605.199,11.322#E,3,2,1.728,605.199,11.322#E,3,2,-2.042,602.187,13.045#E,3,2,2.042,602.187,13.045#E,3,3,0.000,640.757,0.000#E,3,3,-1.885,624.068,12.638#E,3,3,1.885,624.068,12.638#E,3,3,-2.199,621.360,11.307#E,3,3,2.199,621.360,11.307#E,3,3,-0.314,639.753,16.893#E,3,3,0.314,639.753,16.893#E,3,3,-0.785,635.838,14.611#E,3,3,0.785,635.838,14.611#E,3,3,-2.670,618.706,1.901#E,3,3,2.670,618.706,1.901#E,3,3,-0.942,634.145,13.084#E,3,3,0.942,634.145,13.084#E,3,3,-2.513,619.384,6.270#E,3,3,-0.157,640.399,11.979#E,3,3,0.157,640.399,11.979#E,3,3,2.513,619.384,6.270#E,3,3,-1.571,627.315,11.553#E,3,3,1.571,627.315,11.553#E,3,3,-2.985,618.049,0.000#E,3,3,-2.827,618.257,0.000#E,3,3,-2.356,620.271,9.245#E,3,3,2.356,620.271,9.245#E,3,3,2.827,618.257,0.000#E,3,3,2.985,618.049,0.000#E,3,3,-0.471,638.744,19.242#E,3,3,0.471,638.744,19.242#E,3,3,-1.257,630.733,11.640#E,3,3,1.257,630.733,11.640#E,3,3,-3.142,618.001,0.000#E,3,3,3.142,618.001,0.000#E,3,3,-1.414,629.024,11.454#E,3,3,1.414,629.024,11.454#E,3,3,-1.100,632.442,12.156#E,3,3,")
-            .append("1.100,632.442,12.156#E,3,3,-0.628,637.403,17.157#E,3,3,0.628,637.403,17.157#E,3,3,-1.728,625.643,11.936#E,3,3,1.728,625.643,11.936#E,3,3,-2.042,622.631,12.748#E,3,3,2.042,622.631,12.748#E,3,4,0.000,665.756,0.000#E,3,4,-1.885,649.072,12.691#E,3,4,1.885,649.072,12.691#E,3,4,-2.199,646.365,11.265#E,3,4,2.199,646.365,11.265#E,3,4,-0.314,664.752,16.836#E,3,4,0.314,664.752,16.836#E,3,4,-0.785,660.838,14.681#E,3,4,0.785,660.838,14.681#E,3,4,-2.670,643.705,1.898#E,3,4,2.670,643.705,1.898#E,3,4,-0.942,659.150,13.141#E,3,4,0.942,659.150,13.141#E,3,4,-2.513,644.383,6.251#E,3,4,-0.157,665.398,11.938#E,3,4,0.157,665.398,11.938#E,3,4,2.513,644.383,6.251#E,3,4,-1.571,652.319,11.602#E,3,4,1.571,652.319,11.602#E,3,4,-2.985,643.048,0.000#E,3,4,-2.827,643.262,0.000#E,3,4,-2.356,645.275,9.212#E,3,4,2.356,645.275,9.212#E,3,4,2.827,643.262,0.000#E,3,4,2.985,643.048,0.000#E,3,4,-0.471,663.748,19.184#E,3,4,0.471,663.748,19.184#E,3,4,-1.257,655.732,11.692#E,3,4,1.257,655.732,11.692#E,3,4,-3.142,643.000,0.000#E,3,4,3.142,643.000,0.000#E,3,4,-1.414,654.028,11.503#E,3,4,1.414,654.028,11.503#E,3,4,-1.100,657.441,12.208#E,3,4,1.100,657.441,12.208#E,3,4,-0.628,662.408,17.237#E,3,4,0.628,662.408,17.237#E,3,4,-1.728,650.648,11.988#E,3,4,1.728,650.648,11.988#E,3,4,-2.042,647.636,12.705#E,3,4,2.042,647.636,12.705#E,4,0,0.000,573.792,0.000#E,4,0,-1.885,559.580,11.120#E,4,0,1.885,559.580,11.120#E,4,0,-2.199,556.798,13.592#E,4,0,2.199,556.798,13.592#E,4,0,-0.314,573.546,0.000#E,4,0,0.314,573.546,0.000#E,4,0,-0.785,571.335,12.610#E,4,0,0.785,571.335,12.610#E,4,0,-2.670,554.138,1.789#E,4,0,2.670,554.138,1.789#E,4,0,-0.942,569.925,11.283#E,4,0,0.942,569.925,11.283#E,4,0,-2.513,554.832,7.248#E,4,0,-0.157,573.727,0.000#E,4,0,0.157,573.727,0.000#E,4,0,2.513,554.832,7.248#E,4,0,-1.571,562.966,10.098#E,4,0,1.571,562.966,10.098#E,4,0,-2.985,553.455,0.000#E,4,0,-2.827,553.668,0.000#E,4,0,-2.356,555.719,10.982#E,4,0,2.356,555.719,10.982#E,4,0,2.827,553.668,0.000#E,4,0,2.985,553.455,0.000#E,4,0,-0.471,573.161,5.732#E,4,0,0.471,573.161,5.732#E,4,0,-1.257,566.528,10.103#E,4,0,1.257,566.528,10.103#E,4,0,-3.142,553.401,0.000#E,4,0,3.142,553.401,0.000#E,4,0,-1.414,564.745,9.973#E,4,0,1.414,564.745,9.973#E,4,0,-1.100,568.291,10.506#E,4,0,1.100,568.291,10.506#E,4,0,-0.628,572.446,11.299#E,4,0,0.628,572.446,11.299#E,4,0,-1.728,561.225,10.470#E,4,0,1.728,561.225,10.470#E,4,0,-2.042,558.085,12.113#E,4,0,2.042,558.085,12.113#E,4,1,0.000,595.159,0.000#E,4,1,-1.885,579.826,11.786#E,4,1,1.885,579.826,11.786#E,4,1,-2.199,577.039,12.799#E,4,1,2.199,577.039,12.799#E,4,1,-0.314,594.721,3.973#E,4,1,0.314,594.721,3.973#E,4,1,-0.785,591.864,13.447#E,4,1,0.785,591.864,13.447#E,4,1,-2.670,574.336,2.007#E,4,1,2.670,574.336,2.007#E,4,1,-0.942,590.294,12.041#E,4,1,0.942,590.294,12.041#E,4,1,-2.513,575.036,7.004#E,4,1,-0.157,595.020,0.000#E,4,1,0.157,595.020,0.000#E,4,1,2.513,575.036,7.004#E,4,1,-1.571,583.218,10.728#E,4,1,1.571,583.218,10.728#E,4,1,-2.985,573.653,0.000#E,4,1,-2.827,573.872,0.000#E,4,1,-2.356,575.938,10.418#E,4,1,2.356,575.938,10.418#E,4,1,2.827,573.872,0.000#E,4,1,2.985,573.653,0.000#E,4,1,-0.471,594.139,10.734#E,4,1,0.471,594.139,10.734#E,4,1,-1.257,586.780,10.763#E,4,1,1.257,586.780,10.763#E,4,1,-3.142,573.605,0.000#E,4,1,3.142,573.605,0.000#E,4,1,-1.414,584.996,10.614#E,4,1,1.414,584.996,10.614#E,4,1,-1.100,588.564,11.207#E,4,1,1.100,588.564,11.207#E,4,1,-0.628,593.178,14.977#E,4,1,0.628,593.178,14.977#E,4,1,-1.728,581.471,11.108#E,4,1,1.728,581.471,11.108#E,4,1,-2.042,578.331,12.826#E,4,1,2.042,578.331,12.826#E,4,2,0.000,616.484,0.000#E,4,2,-1.885,600.078,12.450#E,4,2,1.885,600.078,12.450#E,4,2,-2.199,597.274,12.163#E,4,2,2.199,597.274,12.163#E,4,2,-0.314,615.779,10.931#E,4,2,0.314,615.779,10.931#E,4,2,-0.785,612.281,14.299#E,4,2,0.785,612.281,14.299#E,4,2,-2.670,594.534,2.291#E,4,2,2.670,594.534,2.291#E,4,2,-0.942,610.588,12.806#E,4,2,0.942,610.588,12.806#E,4,2,-2.513,595.234,6.864#E,4,2,-0.157,616.249,0.719#E,4,2,0.157,616.249,0.719#E,4,2,2.513,595.234,6.864#E,4,2,-1.571,603.464,11.360#E,4,2,1.571,603.464,11.360#E,4,2,-2.985,593.851,0.000#E,4,2,-2.827,594.070,0.000#E,4,2,-2.356,596.152,9.986#E,4,2,2.356,596.152,9.986#E,4,2,2.827,594.070,0.000#E,4,2,2.985,593.851,0.000#E,4,2,-0.471,614.967,15.452#E,4,2,0.471,614.967,15.452#E,4,2,-1.257,607.031,11.422#E,4,2,1.257,607.031,11.422#E,4,2,-3.142,593.803,0.000#E,4,2,3.142,593.803,0.000#E,4,2,-1.414,605.247,11.248#E,4,2,1.414,605.247,11.248#E,4,2,-1.100,608.810,11.910#E,4,2,1.100,608.810,11.910#E,4,2,-0.628,613.771,16.794#E,4,2,0.628,613.771,16.794#E,4,2,-1.728,601.723,11.747#E,4,2,1.728,601.723,11.747#E,4,2,-2.042,598.582,13.538#E,4,2,2.042,598.582,13.538#E,4,3,0.000,637.745,0.000#E,4,3,-1.885,620.324,13.110#E,4,3,1.885,620.324,13.110#E,4,3,-2.199,617.499,11.648#E,4,3,2.199,617.499,11.648#E,4,3,-0.314,636.693,17.630#E,4,3,0.314,636.693,17.630#E,4,3,-0.785,632.607,15.163#E,4,3,0.785,632.607,15.163#E,4,3,-2.670,614.732,2.632#E,4,3,2.670,614.732,2.632#E,4,3,-0.942,630.845,13.572#E,4,3,0.942,630.845,13.572#E,4,3,-2.513,615.437,6.810#E,4,3,-0.157,637.371,13.548#E,4,3,0.157,637.371,13.548#E,4,3,2.513,615.437,6.810#E,4,3,-1.571,623.715,11.984#E,4,3,1.571,623.715,11.984#E,4,3,-2.985,614.054,0.000#E,4,3,-2.827,614.273,0.000#E,4,3,-2.356,616.361,9.665#E,4,3,2.356,616.361,9.665#E,4,3,2.827,614.273,0.000#E,4,3,2.985,614.054,0.000#E,4,3,-0.471,635.641,19.713#E,4,3,0.471,635.641,19.713#E,4,3,-1.257,627.277,12.078#E,4,3,1.257,627.277,12.078#E,4,3,-3.142,614.001,0.000#E,4,3,3.142,614.001,0.000#E,4,3,-1.414,625.494,11.881#E,4,3,1.414,625.494,11.881#E,4,3,-1.100,629.061,12.610#E,4,3,1.100,629.061,12.610#E,4,3,-0.628,634.241,17.797#E,4,3,0.628,634.241,17.797#E,4,3,-1.728,621.974,12.384#E,4,3,1.728,621.974,12.384#E,4,3,-2.042,618.829,13.041#E,4,3,2.042,618.829,13.041#E,4,4,0.000,662.744,0.000#E,4,4,-1.885,645.329,13.173#E,4,4,1.885,645.329,13.173#E,4,4,-2.199,642.503,11.612#E,4,4,2.199,642.503,11.612#E,4,4,-0.314,661.692,17.580#E,4,4,0.314,661.692,17.580#E,4,4,-0.785,657.612,15.234#E,4,4,0.785,657.612,15.234#E,4,4,-2.670,639.737,2.625#E,4,4,2.670,639.737,2.625#E,4,4,-0.942,655.849,13.637#E,4,4,0.942,655.849,13.637#E,4,4,-2.513,640.437,6.785#E,4,4,-0.157,662.370,13.505#E,4,4,0.157,662.370,13.505#E,4,4,2.513,640.437,6.785#E,4,4,-1.571,648.720,12.041#E,4,4,1.571,648.720,12.041#E,4,4,-2.985,639.053,0.000#E,4,4,-2.827,639.272,0.000#E,4,4,-2.356,641.360,9.633#E,4,4,2.356,641.360,9.633#E,4,4,2.827,639.272,0.000#E,4,4,2.985,639.053,0.000#E,4,4,-0.471,660.645,19.654#E,4,4,0.471,660.645,19.654#E,4,4,-1.257,652.282,12.137#E,4,4,1.257,652.282,12.137#E,4,4,-3.142,639.005,0.000#E,4,4,3.142,639.005,0.000#E,4,4,-1.414,650.498,11.938#E,4,4,1.414,650.498,11.938#E,4,4,-1.100,654.066,12.671#E,4,4,1.100,654.066,12.671#E,4,4,-0.628,659.246,17.883#E,4,4,0.628,659.246,17.883#E,4,4,-1.728,646.979,12.444#E,4,4,1.728,646.979,12.444#E,4,4,-2.042,643.833,12.999#E,4,4,2.042,643.833,12.999#E,6,0,0.000,566.336,0.000#E,6,0,-1.885,551.537,9.804#E,6,0,1.885,551.537,9.804#E,6,0,-2.199,549.385,7.928#E,6,0,2.199,549.385,7.928#E,6,0,-0.314,564.333,30.495#E,6,0,0.314,564.333,30.495#E,6,0,-0.785,560.472,14.444#E,6,0,0.785,560.472,14.444#E,6,0,-2.670,547.206,0.000#E,6,0,2.670,547.206,0.000#E,6,0,-0.942,559.180,12.872#E,6,0,0.942,559.180,12.872#E,6,0,-2.513,547.772,3.720#E,6,0,-0.157,565.572,56.060#E,6,0,0.157,565.572,56.060#E,6,0,2.513,547.772,3.720#E,6,0,-1.571,554.026,10.497#E,6,0,1.571,554.026,10.497#E,6,0,-2.985,546.651,0.000#E,6,0,-2.827,546.832,0.000#E,6,0,-2.356,548.504,6.245#E,6,0,2.356,548.504,6.245#E,6,0,2.827,546.832,0.000#E,6,0,2.985,546.651,0.000#E,6,0,-0.471,563.046,21.469#E,6,0,0.471,563.046,21.469#E,6,0,-1.257,556.606,11.309#E,6,0,1.257,556.606,11.309#E,6,0,-3.142,546.603,0.000#E,6,0,3.142,546.603,0.000#E,6,0,-1.414,555.318,10.758#E,6,0,1.414,555.318,10.758#E,6,0,-1.100,557.893,11.905#E,6,0,1.100,557.893,11.905#E,6,0,-0.628,561.759,17.005#E,6,0,0.628,561.759,17.005#E,6,0,-1.728,552.755,10.269#E,6,0,1.728,552.755,10.269#E,6,0,-2.042,550.405,9.058#E,6,0,2.042,550.405,9.058#E,6,1,0.000,586.315,0.000#E,6,1,-1.885,571.367,9.307#E,6,1,1.885,571.367,9.307#E,6,1,-2.199,569.199,7.632#E,6,1,2.199,569.199,7.632#E,6,1,-0.314,584.184,32.528#E,6,1,0.314,584.184,32.528#E,6,1,-0.785,580.323,14.730#E,6,1,0.785,580.323,14.730#E,6,1,-2.670,567.009,0.337#E,6,1,2.670,567.009,0.337#E,6,1,-0.942,579.031,12.752#E,6,1,0.942,579.031,12.752#E,6,1,-2.513,567.570,3.834#E,6,1,-0.157,585.471,60.071#E,6,1,0.157,585.471,60.071#E,6,1,2.513,567.570,3.834#E,6,1,-1.571,573.866,9.910#E,6,1,1.571,573.866,9.910#E,6,1,-2.985,566.454,0.000#E,6,1,-2.827,566.635,0.000#E,6,1,-2.356,568.307,6.111#E,6,1,2.356,568.307,6.111#E,6,1,2.827,566.635,0.000#E,6,1,2.985,566.454,0.000#E,6,1,-0.471,582.897,22.891#E,6,1,0.471,582.897,22.891#E,6,1,-1.257,576.451,10.625#E,6,1,1.257,576.451,10.625#E,6,1,-3.142,566.400,0.000#E,6,1,3.142,566.400,0.000#E,6,1,-1.414,575.159,10.130#E,6,1,1.414,575.159,10.130#E,6,1,-1.100,577.744,11.459#E,6,1,1.100,577.744,11.459#E,6,1,-0.628,581.610,17.872#E,6,1,0.628,581.610,17.872#E,6,1,-1.728,572.590,9.713#E,6,1,1.728,572.590,9.713#E,6,1,-2.042,570.224,8.642#E,6,1,2.042,570.224,8.642#E,6,2,0.000,606.081,0.000#E,6,2,-1.885,591.186,8.923#E,6,2,1.885,591.186,8.923#E,6,2,-2.199,589.001,7.423#E,6,2,2.199,589.001,7.423#E,6,2,-0.314,604.035,31.991#E,6,2,0.314,604.035,31.991#E,6,2,-0.785,600.163,13.902#E,6,2,0.785,600.163,13.902#E,6,2,-2.670,586.806,0.868#E,6,2,2.670,586.806,0.868#E,6,2,-0.942,598.871,12.056#E,6,2,0.942,598.871,12.056#E,6,2,-2.513,587.367,4.009#E,6,2,-0.157,605.317,56.069#E,6,2,0.157,605.317,56.069#E,6,2,2.513,587.367,4.009#E,6,2,-1.571,593.696,9.440#E,6,2,1.571,593.696,9.440#E,6,2,-2.985,586.251,0.000#E,6,2,-2.827,586.433,0.000#E,6,2,-2.356,588.104,6.062#E,6,2,2.356,588.104,6.062#E,6,2,2.827,586.433,0.000#E,6,2,2.985,586.251,0.000#E,6,2,-0.471,602.748,21.879#E,6,2,0.471,602.748,21.879#E,6,2,-1.257,596.286,10.087#E,6,2,1.257,596.286,10.087#E,6,2,-3.142,586.203,0.000#E,6,2,3.142,586.203,0.000#E,6,2,-1.414,594.994,9.634#E,6,2,1.414,594.994,9.634#E,6,2,-1.100,597.578,10.857#E,6,2,1.100,59")
-            .append("7.578,10.857#E,6,2,-0.628,601.456,16.838#E,6,2,0.628,601.456,16.838#E,6,2,-1.728,592.419,9.278#E,6,2,1.728,592.419,9.278#E,6,2,-2.042,590.038,8.329#E,6,2,2.042,590.038,8.329#E,6,3,0.000,626.081,0.000#E,6,3,-1.885,611.186,8.896#E,6,3,1.885,611.186,8.896#E,6,3,-2.199,609.002,7.405#E,6,3,2.199,609.002,7.405#E,6,3,-0.314,624.041,31.947#E,6,3,0.314,624.041,31.947#E,6,3,-0.785,620.164,13.870#E,6,3,0.785,620.164,13.870#E,6,3,-2.670,606.807,0.864#E,6,3,2.670,606.807,0.864#E,6,3,-0.942,618.877,12.027#E,6,3,0.942,618.877,12.027#E,6,3,-2.513,607.368,4.002#E,6,3,-0.157,625.323,56.074#E,6,3,0.157,625.323,56.074#E,6,3,2.513,607.368,4.002#E,6,3,-1.571,613.702,9.418#E,6,3,1.571,613.702,9.418#E,6,3,-2.985,606.252,0.000#E,6,3,-2.827,606.433,0.000#E,6,3,-2.356,608.105,6.043#E,6,3,2.356,608.105,6.043#E,6,3,2.827,606.433,0.000#E,6,3,2.985,606.252,0.000#E,6,3,-0.471,622.749,21.833#E,6,3,0.471,622.749,21.833#E,6,3,-1.257,616.286,10.062#E,6,3,1.257,616.286,10.062#E,6,3,-3.142,606.203,0.000#E,6,3,3.142,606.203,0.000#E,6,3,-1.414,614.994,9.609#E,6,3,1.414,614.994,9.609#E,6,3,-1.100,617.579,10.830#E,6,3,1.100,617.579,10.830#E,6,3,-0.628,621.456,16.798#E,6,3,0.628,621.456,16.798#E,6,3,-1.728,612.420,9.251#E,6,3,1.728,612.420,9.251#E,6,3,-2.042,610.038,8.309#E,6,3,2.042,610.038,8.309#E,6,4,0.000,650.824,0.000#E,6,4,-1.885,636.004,8.603#E,6,4,1.885,636.004,8.603#E,6,4,-2.199,633.804,7.276#E,6,4,2.199,633.804,7.276#E,6,4,-0.314,648.880,30.324#E,6,4,0.314,648.880,30.324#E,6,4,-0.785,644.997,13.214#E,6,4,0.785,644.997,13.214#E,6,4,-2.670,631.603,1.429#E,6,4,2.670,631.603,1.429#E,6,4,-0.942,643.705,11.477#E,6,4,0.942,643.705,11.477#E,6,4,-2.513,632.164,4.230#E,6,4,-0.157,650.146,50.819#E,6,4,0.157,650.146,50.819#E,6,4,2.513,632.164,4.230#E,6,4,-1.571,638.525,9.049#E,6,4,1.571,638.525,9.049#E,6,4,-2.985,631.053,0.000#E,6,4,-2.827,631.235,0.000#E,6,4,-2.356,632.906,6.059#E,6,4,2.356,632.906,6.059#E,6,4,2.827,631.235,0.000#E,6,4,2.985,631.053,0.000#E,6,4,-0.471,647.582,20.738#E,6,4,0.471,647.582,20.738#E,6,4,-1.257,641.115,9.634#E,6,4,1.257,641.115,9.634#E,6,4,-3.142,631.005,0.000#E,6,4,3.142,631.005,0.000#E,6,4,-1.414,639.817,9.219#E,6,4,1.414,639.817,9.219#E,6,4,-1.100,642.407,10.354#E,6,4,1.100,642.407,10.354#E,6,4,-0.628,646.290,15.977#E,6,4,0.628,646.290,15.977#E,6,4,-1.728,637.238,8.915#E,6,4,1.728,637.238,8.915#E,6,4,-2.042,634.850,8.084#E,6,4,2.042,634.850,8.084#E,7,0,0.000,563.676,0.000#E,7,0,-1.885,548.322,10.041#E,7,0,1.885,548.322,10.041#E,7,0,-2.199,546.085,8.237#E,7,0,2.199,546.085,8.237#E,7,0,-0.314,561.610,31.451#E,7,0,0.314,561.610,31.451#E,7,0,-0.785,557.599,14.912#E,7,0,0.785,557.599,14.912#E,7,0,-2.670,543.831,0.484#E,7,0,2.670,543.831,0.484#E,7,0,-0.942,556.258,13.290#E,7,0,0.942,556.258,13.290#E,7,0,-2.513,544.413,4.194#E,7,0,-0.157,562.897,57.029#E,7,0,0.157,562.897,57.029#E,7,0,2.513,544.413,4.194#E,7,0,-1.571,550.907,10.709#E,7,0,1.571,550.907,10.709#E,7,0,-2.985,543.254,0.000#E,7,0,-2.827,543.441,0.000#E,7,0,-2.356,545.166,6.617#E,7,0,2.356,545.166,6.617#E,7,0,2.827,543.441,0.000#E,7,0,2.985,543.254,0.000#E,7,0,-0.471,560.275,22.159#E,7,0,0.471,560.275,22.159#E,7,0,-1.257,553.588,11.519#E,7,0,1.257,553.588,11.519#E,7,0,-3.142,543.201,0.000#E,7,0,3.142,543.201,0.000#E,7,0,-1.414,552.248,10.965#E,7,0,1.414,552.248,10.965#E,7,0,-1.100,554.923,12.293#E,7,0,1.100,554.923,12.293#E,7,0,-0.628,558.934,17.556#E,7,0,0.628,558.934,17.556#E,7,0,-1.728,549.588,10.487#E,7,0,1.728,549.588,10.487#E,7,0,-2.042,547.142,9.325#E,7,0,2.042,547.142,9.325#E,7,1,0.000,583.399,0.000#E,7,1,-1.885,567.949,9.561#E,7,1,1.885,567.949,9.561#E,7,1,-2.199,565.695,7.954#E,7,1,2.199,565.695,7.954#E,7,1,-0.314,581.263,33.542#E,7,1,0.314,581.263,33.542#E,7,1,-0.785,577.252,15.015#E,7,1,0.785,577.252,15.015#E,7,1,-2.670,563.431,1.003#E,7,1,2.670,563.431,1.003#E,7,1,-0.942,575.912,13.010#E,7,1,0.942,575.912,13.010#E,7,1,-2.513,564.008,4.326#E,7,1,-0.157,582.603,58.395#E,7,1,0.157,582.603,58.395#E,7,1,2.513,564.008,4.326#E,7,1,-1.571,570.550,10.134#E,7,1,1.571,570.550,10.134#E,7,1,-2.985,562.854,0.000#E,7,1,-2.827,563.041,0.000#E,7,1,-2.356,564.771,6.503#E,7,1,2.356,564.771,6.503#E,7,1,2.827,563.041,0.000#E,7,1,2.985,562.854,0.000#E,7,1,-0.471,579.928,23.620#E,7,1,0.471,579.928,23.620#E,7,1,-1.257,573.231,10.854#E,7,1,1.257,573.231,10.854#E,7,1,-3.142,562.801,0.000#E,7,1,3.142,562.801,0.000#E,7,1,-1.414,571.890,10.354#E,7,1,1.414,571.890,10.354#E,7,1,-1.100,574.571,11.698#E,7,1,1.100,574.571,11.698#E,7,1,-0.628,578.593,18.202#E,7,1,0.628,578.593,18.202#E,7,1,-1.728,569.220,9.949#E,7,1,1.728,569.220,9.949#E,7,1,-2.042,566.763,8.925#E,7,1,2.042,566.763,8.925#E,7,2,0.000,602.951,0.000#E,7,2,-1.885,587.570,9.189#E,7,2,1.885,587.570,9.189#E,7,2,-2.199,585.300,7.767#E,7,2,2.199,585.300,7.767#E,7,2,-0.314,600.916,32.608#E,7,2,0.314,600.916,32.608#E,7,2,-0.785,596.895,14.211#E,7,2,0.785,596.895,14.211#E,7,2,-2.670,583.025,1.558#E,7,2,2.670,583.025,1.558#E,7,2,-0.942,595.549,12.333#E,7,2,0.942,595.549,12.333#E,7,2,-2.513,583.607,4.523#E,7,2,-0.157,602.235,52.942#E,7,2,0.157,602.235,52.942#E,7,2,2.513,583.607,4.523#E,7,2,-1.571,590.176,9.682#E,7,2,1.571,590.176,9.682#E,7,2,-2.985,582.454,0.000#E,7,2,-2.827,582.641,0.000#E,7,2,-2.356,584.371,6.470#E,7,2,2.356,584.371,6.470#E,7,2,2.827,582.641,0.000#E,7,2,2.985,582.454,0.000#E,7,2,-0.471,599.576,22.325#E,7,2,0.471,599.576,22.325#E,7,2,-1.257,592.863,10.330#E,7,2,1.257,592.863,10.330#E,7,2,-3.142,582.401,0.000#E,7,2,3.142,582.401,0.000#E,7,2,-1.414,591.522,9.873#E,7,2,1.414,591.522,9.873#E,7,2,-1.100,594.209,11.111#E,7,2,1.100,594.209,11.111#E,7,2,-0.628,598.235,17.196#E,7,2,0.628,598.235,17.196#E,7,2,-1.728,588.847,9.527#E,7,2,1.728,588.847,9.527#E,7,2,-2.042,586.374,8.628#E,7,2,2.042,586.374,8.628#E,7,3,0.000,622.952,0.000#E,7,3,-1.885,607.571,9.168#E,7,3,1.885,607.571,9.168#E,7,3,-2.199,605.301,7.749#E,7,3,2.199,605.301,7.749#E,7,3,-0.314,620.917,32.572#E,7,3,0.314,620.917,32.572#E,7,3,-0.785,616.895,14.177#E,7,3,0.785,616.895,14.177#E,7,3,-2.670,603.026,1.555#E,7,3,2.670,603.026,1.555#E,7,3,-0.942,615.555,12.305#E,7,3,0.942,615.555,12.305#E,7,3,-2.513,603.608,4.515#E,7,3,-0.157,622.236,52.939#E,7,3,0.157,622.236,52.939#E,7,3,2.513,603.608,4.515#E,7,3,-1.571,610.177,9.660#E,7,3,1.571,610.177,9.660#E,7,3,-2.985,602.454,0.000#E,7,3,-2.827,602.641,0.000#E,7,3,-2.356,604.372,6.457#E,7,3,2.356,604.372,6.457#E,7,3,2.827,602.641,0.000#E,7,3,2.985,602.454,0.000#E,7,3,-0.471,619.576,22.284#E,7,3,0.471,619.576,22.284#E,7,3,-1.257,612.868,10.308#E,7,3,1.257,612.868,10.308#E,7,3,-3.142,602.401,0.000#E,7,3,3.142,602.401,0.000#E,7,3,-1.414,611.523,9.851#E,7,3,1.414,611.523,9.851#E,7,3,-1.100,614.209,11.087#E,7,3,1.100,614.209,11.087#E,7,3,-0.628,618.236,17.159#E,7,3,0.628,618.236,17.159#E,7,3,-1.728,608.852,9.505#E,7,3,1.728,608.852,9.505#E,7,3,-2.042,606.374,8.609#E,7,3,2.042,606.374,8.609#E,7,4,0.000,647.475,0.000#E,7,4,-1.885,632.185,8.890#E,7,4,1.885,632.185,8.890#E,7,4,-2.199,629.905,7.639#E,7,4,2.199,629.905,7.639#E,7,4,-0.314,645.558,30.998#E,7,4,0.314,645.558,30.998#E,7,4,-0.785,641.526,13.544#E,7,4,0.785,641.526,13.544#E,7,4,-2.670,627.625,2.144#E,7,4,2.670,627.625,2.144#E,7,4,-0.942,640.180,11.772#E,7,4,0.942,640.180,11.772#E,7,4,-2.513,628.201,4.764#E,7,4,-0.157,646.845,47.469#E,7,4,0.157,646.845,47.469#E,7,4,2.513,628.201,4.764#E,7,4,-1.571,634.802,9.308#E,7,4,1.571,634.802,9.308#E,7,4,-2.985,627.053,0.000#E,7,4,-2.827,627.245,0.000#E,7,4,-2.356,628.970,6.488#E,7,4,2.356,628.970,6.488#E,7,4,2.827,627.245,0.000#E,7,4,2.985,627.053,0.000#E,7,4,-0.471,644.212,21.221#E,7,4,0.471,644.212,21.221#E,7,4,-1.257,637.494,9.898#E,7,4,1.257,637.494,9.898#E,7,4,-3.142,627.005,0.000#E,7,4,3.142,627.005,0.000#E,7,4,-1.414,636.148,9.474#E,7,4,1.414,636.148,9.474#E,7,4,-1.100,638.840,10.627#E,7,4,1.100,638.840,10.627#E,7,4,-0.628,642.872,16.366#E,7,4,0.628,642.872,16.366#E,7,4,-1.728,633.467,9.182#E,7,4,1.728,633.467,9.182#E,7,4,-2.042,630.984,8.400#E,7,4,2.042,630.984,8.400#E,8,0,0.000,561.017,0.000#E,8,0,-1.885,545.102,10.278#E,8,0,1.885,545.102,10.278#E,8,0,-2.199,542.784,8.542#E,8,0,2.199,542.784,8.542#E,8,0,-0.314,558.886,32.394#E,8,0,0.314,558.886,32.394#E,8,0,-0.785,554.726,15.375#E,8,0,0.785,554.726,15.375#E,8,0,-2.670,540.450,1.116#E,8,0,2.670,540.450,1.116#E,8,0,-0.942,553.342,13.706#E,8,0,0.942,553.342,13.706#E,8,0,-2.513,541.054,4.659#E,8,0,-0.157,560.221,57.979#E,8,0,0.157,560.221,57.979#E,8,0,2.513,541.054,4.659#E,8,0,-1.571,547.788,10.919#E,8,0,1.571,547.788,10.919#E,8,0,-2.985,539.857,0.000#E,8,0,-2.827,540.050,0.000#E,8,0,-2.356,541.833,6.988#E,8,0,2.356,541.833,6.988#E,8,0,2.827,540.050,0.000#E,8,0,2.985,539.857,0.000#E,8,0,-0.471,557.503,22.837#E,8,0,0.471,557.503,22.837#E,8,0,-1.257,550.565,11.730#E,8,0,1.257,550.565,11.730#E,8,0,-3.142,539.804,0.000#E,8,0,3.142,539.804,0.000#E,8,0,-1.414,549.177,11.172#E,8,0,1.414,549.177,11.172#E,8,0,-1.100,551.954,12.656#E,8,0,1.100,551.954,12.656#E,8,0,-0.628,556.114,18.096#E,8,0,0.628,556.114,18.096#E,8,0,-1.728,546.416,10.707#E,8,0,1.728,546.416,10.707#E,8,0,-2.042,543.884,9.591#E,8,0,2.042,543.884,9.591#E,8,1,0.000,580.478,0.000#E,8,1,-1.885,564.531,9.809#E,8,1,1.885,564.531,9.809#E,8,1,-2.199,562.192,8.277#E,8,1,2.199,562.192,8.277#E,8,1,-0.314,578.347,34.542#E,8,1,0.314,578.347,34.542#E,8,1,-0.785,574.181,15.297#E,8,1,0.785,574.181,15.297#E,8,1,-2.670,559.853,1.661#E,8,1,2.670,559.853,1.661#E,8,1,-0.942,572.793,13.261#E,8,1,0.942,572.793,13.261#E,8,1,-2.513,560.451,4.817#E,8,1,-0.157,579.725,55.471#E,8,1,0.157,579.725,55.471#E,8,1,2.513,560.451,4.817#E,8,1,-1.571,567.228,10.361#E,8,1,1.571,567.228,10.361#E,8,1,-2.985,559.254,0.000#E,8,1,-2.827,559.452,0.000#E,8,1,-2.356,561.236,6.891#E,8,1,2.356,561.236,6.891#E,8,1,2.827,559.452,0.000#E,8,1,2.985,559.254,0.000#E,8,1,-0.471,576.958,24.067#E,8,1,0.471,576.958,24.067#E,8,1,-1.257,570.010,11.081#E,8,1,1.257,570.010,11.081#E,8,1,-3.142,559.201,0.000#E,8,1,3.142,559.201,0.000#E,8,1,-1.414,568.616,10.579#E,8,1,1.414,568.616,10.579#E,8,1,-1.100,571.399,11.936#E,8,1,1.100,571.399,11.936#E,8,1,-0.628,575.570,18.530#E,8,1,0.628,575.570,1")
-            .append("8.530#E,8,1,-1.728,565.850,10.182#E,8,1,1.728,565.850,10.182#E,8,1,-2.042,563.297,9.203#E,8,1,2.042,563.297,9.203#E,8,2,0.000,599.811,0.000#E,8,2,-1.885,583.949,9.453#E,8,2,1.885,583.949,9.453#E,8,2,-2.199,581.594,8.105#E,8,2,2.199,581.594,8.105#E,8,2,-0.314,597.797,33.219#E,8,2,0.314,597.797,33.219#E,8,2,-0.785,593.621,14.512#E,8,2,0.785,593.621,14.512#E,8,2,-2.670,579.250,2.242#E,8,2,2.670,579.250,2.242#E,8,2,-0.942,592.233,12.601#E,8,2,0.942,592.233,12.601#E,8,2,-2.513,579.848,5.032#E,8,2,-0.157,599.143,49.806#E,8,2,0.157,599.143,49.806#E,8,2,2.513,579.848,5.032#E,8,2,-1.571,586.657,9.922#E,8,2,1.571,586.657,9.922#E,8,2,-2.985,578.657,0.000#E,8,2,-2.827,578.854,0.000#E,8,2,-2.356,580.633,6.875#E,8,2,2.356,580.633,6.875#E,8,2,2.827,578.854,0.000#E,8,2,2.985,578.657,0.000#E,8,2,-0.471,596.404,22.761#E,8,2,0.471,596.404,22.761#E,8,2,-1.257,589.445,10.572#E,8,2,1.257,589.445,10.572#E,8,2,-3.142,578.603,0.000#E,8,2,3.142,578.603,0.000#E,8,2,-1.414,588.051,10.110#E,8,2,1.414,588.051,10.110#E,8,2,-1.100,590.839,11.364#E,8,2,1.100,590.839,11.364#E,8,2,-0.628,595.015,17.548#E,8,2,0.628,595.015,17.548#E,8,2,-1.728,585.279,9.776#E,8,2,1.728,585.279,9.776#E,8,2,-2.042,582.710,8.923#E,8,2,2.042,582.710,8.923#E,8,3,0.000,619.811,0.000#E,8,3,-1.885,603.950,9.432#E,8,3,1.885,603.950,9.432#E,8,3,-2.199,601.600,8.089#E,8,3,2.199,601.600,8.089#E,8,3,-0.314,617.798,33.185#E,8,3,0.314,617.798,33.185#E,8,3,-0.785,613.627,14.483#E,8,3,0.785,613.627,14.483#E,8,3,-2.670,599.250,2.237#E,8,3,2.670,599.250,2.237#E,8,3,-0.942,612.233,12.577#E,8,3,0.942,612.233,12.577#E,8,3,-2.513,599.848,5.025#E,8,3,-0.157,619.144,49.802#E,8,3,0.157,619.144,49.802#E,8,3,2.513,599.848,5.025#E,8,3,-1.571,606.657,9.898#E,8,3,1.571,606.657,9.898#E,8,3,-2.985,598.657,0.000#E,8,3,-2.827,598.855,0.000#E,8,3,-2.356,600.633,6.860#E,8,3,2.356,600.633,6.860#E,8,3,2.827,598.855,0.000#E,8,3,2.985,598.657,0.000#E,8,3,-0.471,616.409,22.727#E,8,3,0.471,616.409,22.727#E,8,3,-1.257,609.445,10.549#E,8,3,1.257,609.445,10.549#E,8,3,-3.142,598.604,0.000#E,8,3,3.142,598.604,0.000#E,8,3,-1.414,608.051,10.087#E,8,3,1.414,608.051,10.087#E,8,3,-1.100,610.839,11.341#E,8,3,1.100,610.839,11.341#E,8,3,-0.628,615.015,17.517#E,8,3,0.628,615.015,17.517#E,8,3,-1.728,605.280,9.754#E,8,3,1.728,605.280,9.754#E,8,3,-2.042,602.711,8.902#E,8,3,2.042,602.711,8.902#E,8,4,0.000,644.122,0.000#E,8,4,-1.885,628.367,9.167#E,8,4,1.885,628.367,9.167#E,8,4,-2.199,626.001,7.993#E,8,4,2.199,626.001,7.993#E,8,4,-0.314,642.236,31.664#E,8,4,0.314,642.236,31.664#E,8,4,-0.785,638.055,13.870#E,8,4,0.785,638.055,13.870#E,8,4,-2.670,623.646,2.852#E,8,4,2.670,623.646,2.852#E,8,4,-0.942,636.661,12.065#E,8,4,0.942,636.661,12.065#E,8,4,-2.513,624.244,5.292#E,8,4,-0.157,643.539,44.115#E,8,4,0.157,643.539,44.115#E,8,4,2.513,624.244,5.292#E,8,4,-1.571,631.080,9.562#E,8,4,1.571,631.080,9.562#E,8,4,-2.985,623.053,0.000#E,8,4,-2.827,623.251,0.000#E,8,4,-2.356,625.029,6.909#E,8,4,2.356,625.029,6.909#E,8,4,2.827,623.251,0.000#E,8,4,2.985,623.053,0.000#E,8,4,-0.471,640.842,21.702#E,8,4,0.471,640.842,21.702#E,8,4,-1.257,633.873,10.154#E,8,4,1.257,633.873,10.154#E,8,4,-3.142,623.005,0.000#E,8,4,3.142,623.005,0.000#E,8,4,-1.414,632.474,9.730#E,8,4,1.414,632.474,9.730#E,8,4,-1.100,635.267,10.896#E,8,4,1.100,635.267,10.896#E,8,4,-0.628,639.449,16.746#E,8,4,0.628,639.449,16.746#E,8,4,-1.728,629.697,9.443#E,8,4,1.728,629.697,9.443#E,8,4,-2.042,627.122,8.708#E,8,4,2.042,627.122,8.708#E,9,0,0.000,558.347,0.000#E,9,0,-1.885,541.882,10.511#E,9,0,1.885,541.882,10.511#E,9,0,-2.199,539.484,8.845#E,9,0,2.199,539.484,8.845#E,9,0,-0.314,556.168,33.324#E,9,0,0.314,556.168,33.324#E,9,0,-0.785,551.858,15.831#E,9,0,0.785,551.858,15.831#E,9,0,-2.670,537.075,1.741#E,9,0,2.670,537.075,1.741#E,9,0,-0.942,550.421,14.112#E,9,0,0.942,550.421,14.112#E,9,0,-2.513,537.689,5.123#E,9,0,-0.157,557.545,58.339#E,9,0,0.157,557.545,58.339#E,9,0,2.513,537.689,5.123#E,9,0,-1.571,544.664,11.126#E,9,0,1.571,544.664,11.126#E,9,0,-2.985,536.456,0.000#E,9,0,-2.827,536.664,0.000#E,9,0,-2.356,538.496,7.353#E,9,0,2.356,538.496,7.353#E,9,0,2.827,536.664,0.000#E,9,0,2.985,536.456,0.000#E,9,0,-0.471,554.731,23.505#E,9,0,0.471,554.731,23.505#E,9,0,-1.257,547.543,11.934#E,9,0,1.257,547.543,11.934#E,9,0,-3.142,536.402,0.000#E,9,0,3.142,536.402,0.000#E,9,0,-1.414,546.106,11.376#E,9,0,1.414,546.106,11.376#E,9,0,-1.100,548.979,12.872#E,9,0,1.100,548.979,12.872#E,9,0,-0.628,553.294,18.630#E,9,0,0.628,553.294,18.630#E,9,0,-1.728,543.243,10.921#E,9,0,1.728,543.243,10.921#E,9,0,-2.042,540.621,9.848#E,9,0,2.042,540.621,9.848#E,9,1,0.000,577.546,0.000#E,9,1,-1.885,561.113,10.057#E,9,1,1.885,561.113,10.057#E,9,1,-2.199,558.688,8.595#E,9,1,2.199,558.688,8.595#E,9,1,-0.314,575.426,35.522#E,9,1,0.314,575.426,35.522#E,9,1,-0.785,571.111,15.574#E,9,1,0.785,571.111,15.574#E,9,1,-2.670,556.274,2.311#E,9,1,2.670,556.274,2.311#E,9,1,-0.942,569.669,13.511#E,9,1,0.942,569.669,13.511#E,9,1,-2.513,556.889,5.299#E,9,1,-0.157,576.836,52.542#E,9,1,0.157,576.836,52.542#E,9,1,2.513,556.889,5.299#E,9,1,-1.571,563.906,10.580#E,9,1,1.571,563.906,10.580#E,9,1,-2.985,555.655,0.000#E,9,1,-2.827,555.863,0.000#E,9,1,-2.356,557.700,7.275#E,9,1,2.356,557.700,7.275#E,9,1,2.827,555.863,0.000#E,9,1,2.985,555.655,0.000#E,9,1,-0.471,573.989,24.467#E,9,1,0.471,573.989,24.467#E,9,1,-1.257,566.790,11.302#E,9,1,1.257,566.790,11.302#E,9,1,-3.142,555.602,0.000#E,9,1,3.142,555.602,0.000#E,9,1,-1.414,565.348,10.797#E,9,1,1.414,565.348,10.797#E,9,1,-1.100,568.232,12.165#E,9,1,1.100,568.232,12.165#E,9,1,-0.628,572.547,18.849#E,9,1,0.628,572.547,18.849#E,9,1,-1.728,562.480,10.411#E,9,1,1.728,562.480,10.411#E,9,1,-2.042,559.837,9.479#E,9,1,2.042,559.837,9.479#E,9,2,0.000,596.671,0.000#E,9,2,-1.885,580.328,9.715#E,9,2,1.885,580.328,9.715#E,9,2,-2.199,577.893,8.440#E,9,2,2.199,577.893,8.440#E,9,2,-0.314,594.673,33.814#E,9,2,0.314,594.673,33.814#E,9,2,-0.785,590.353,14.810#E,9,2,0.785,590.353,14.810#E,9,2,-2.670,575.468,2.921#E,9,2,2.670,575.468,2.921#E,9,2,-0.942,588.911,12.872#E,9,2,0.942,588.911,12.872#E,9,2,-2.513,576.083,5.537#E,9,2,-0.157,596.046,46.664#E,9,2,0.157,596.046,46.664#E,9,2,2.513,576.083,5.537#E,9,2,-1.571,583.132,10.154#E,9,2,1.571,583.132,10.154#E,9,2,-2.985,574.860,0.000#E,9,2,-2.827,575.063,0.000#E,9,2,-2.356,576.894,7.273#E,9,2,2.356,576.894,7.273#E,9,2,2.827,575.063,0.000#E,9,2,2.985,574.860,0.000#E,9,2,-0.471,593.237,23.198#E,9,2,0.471,593.237,23.198#E,9,2,-1.257,586.021,10.809#E,9,2,1.257,586.021,10.809#E,9,2,-3.142,574.801,0.000#E,9,2,3.142,574.801,0.000#E,9,2,-1.414,584.579,10.343#E,9,2,1.414,584.579,10.343#E,9,2,-1.100,587.463,11.613#E,9,2,1.100,587.463,11.613#E,9,2,-0.628,591.795,17.894#E,9,2,0.628,591.795,17.894#E,9,2,-1.728,581.706,10.019#E,9,2,1.728,581.706,10.019#E,9,2,-2.042,579.047,9.212#E,9,2,2.042,579.047,9.212#E,9,3,0.000,616.671,0.000#E,9,3,-1.885,600.334,9.695#E,9,3,1.885,600.334,9.695#E,9,3,-2.199,597.894,8.423#E,9,3,2.199,597.894,8.423#E,9,3,-0.314,614.679,33.791#E,9,3,0.314,614.679,33.791#E,9,3,-0.785,610.353,14.784#E,9,3,0.785,610.353,14.784#E,9,3,-2.670,595.469,2.916#E,9,3,2.670,595.469,2.916#E,9,3,-0.942,608.911,12.847#E,9,3,0.942,608.911,12.847#E,9,3,-2.513,596.083,5.525#E,9,3,-0.157,616.046,46.660#E,9,3,0.157,616.046,46.660#E,9,3,2.513,596.083,5.525#E,9,3,-1.571,603.138,10.137#E,9,3,1.571,603.138,10.137#E,9,3,-2.985,594.855,0.000#E,9,3,-2.827,595.063,0.000#E,9,3,-2.356,596.895,7.260#E,9,3,2.356,596.895,7.260#E,9,3,2.827,595.063,0.000#E,9,3,2.985,594.855,0.000#E,9,3,-0.471,613.237,23.166#E,9,3,0.471,613.237,23.166#E,9,3,-1.257,606.022,10.787#E,9,3,1.257,606.022,10.787#E,9,3,-3.142,594.801,0.000#E,9,3,3.142,594.801,0.000#E,9,3,-1.414,604.580,10.323#E,9,3,1.414,604.580,10.323#E,9,3,-1.100,607.469,11.590#E,9,3,1.100,607.469,11.590#E,9,3,-0.628,611.795,17.866#E,9,3,0.628,611.795,17.866#E,9,3,-1.728,601.707,9.997#E,9,3,1.728,601.707,9.997#E,9,3,-2.042,599.047,9.196#E,9,3,2.042,599.047,9.196#E,9,4,0.000,640.762,0.000#E,9,4,-1.885,624.543,9.446#E,9,4,1.885,624.543,9.446#E,9,4,-2.199,622.097,8.340#E,9,4,2.199,622.097,8.340#E,9,4,-0.314,638.914,32.318#E,9,4,0.314,638.914,32.318#E,9,4,-0.785,634.583,14.190#E,9,4,0.785,634.583,14.190#E,9,4,-2.670,619.667,3.553#E,9,4,2.670,619.667,3.553#E,9,4,-0.942,633.141,12.349#E,9,4,0.942,633.141,12.349#E,9,4,-2.513,620.276,5.814#E,9,4,-0.157,640.228,40.759#E,9,4,0.157,640.228,40.759#E,9,4,2.513,620.276,5.814#E,9,4,-1.571,627.357,9.810#E,9,4,1.571,627.357,9.810#E,9,4,-2.985,619.058,0.000#E,9,4,-2.827,619.261,0.010#E,9,4,-2.356,621.093,7.329#E,9,4,2.356,621.093,7.329#E,9,4,2.827,619.261,0.010#E,9,4,2.985,619.058,0.000#E,9,4,-0.471,637.473,22.169#E,9,4,0.471,637.473,22.169#E,9,4,-1.257,630.247,10.406#E,9,4,1.257,630.247,10.406#E,9,4,-3.142,619.005,0.000#E,9,4,3.142,619.005,0.000#E,9,4,-1.414,628.805,9.976#E,9,4,1.414,628.805,9.976#E,9,4,-1.100,631.694,11.161#E,9,4,1.100,631.694,11.161#E,9,4,-0.628,636.031,17.120#E,9,4,0.628,636.031,17.120#E,9,4,-1.728,625.926,9.702#E,9,4,1.728,625.926,9.702#E,9,4,-2.042,623.256,9.012#E,9,4,2.042,623.256,9.012#E,10,0,0.000,555.628,0.000#E,10,0,-1.885,538.667,10.738#E,10,0,1.885,538.667,10.738#E,10,0,-2.199,536.178,9.142#E,10,0,2.199,536.178,9.142#E,10,0,-0.314,553.444,34.239#E,10,0,0.314,553.444,34.239#E,10,0,-0.785,548.985,16.280#E,10,0,0.785,548.985,16.280#E,10,0,-2.670,533.694,2.360#E,10,0,2.670,533.694,2.360#E,10,0,-0.942,547.495,14.515#E,10,0,0.942,547.495,14.515#E,10,0,-2.513,534.330,5.580#E,10,0,-0.157,554.865,55.617#E,10,0,0.157,554.865,55.617#E,10,0,2.513,534.330,5.580#E,10,0,-1.571,541.545,11.330#E,10,0,1.571,541.545,11.330#E,10,0,-2.985,533.059,0.000#E,10,0,-2.827,533.273,0.000#E,10,0,-2.356,535.163,7.713#E,10,0,2.356,535.163,7.713#E,10,0,2.827,533.273,0.000#E,10,0,2.985,533.059,0.000#E,10,0,-0.471,551.954,24.164#E,10,0,0.471,551.954,24.164#E,10,0,-1.257,544.520,12.138#E,10,0,1.257,544.520,12.138#E,10,0,-3.142,533.000,0.000#E,10,0,3.142,533.000,0.000#E,10,0,-1.414,543.035,11.575#E,10,0,1.414,543.035,11.575#E,10,0,-1.100,546.010,13.086#E,10,0,1.100,546.010,13.086#E,10,0,-0.628,550.469,19.156#E,10,0,0.628,550.469,19.156#E")
-            .append(",10,0,-1.728,540.071,11.134#E,10,0,1.728,540.071,11.134#E,10,0,-2.042,537.353,10.104#E,10,0,2.042,537.353,10.104#E,10,1,0.000,574.614,0.000#E,10,1,-1.885,557.690,10.301#E,10,1,1.885,557.690,10.301#E,10,1,-2.199,555.185,8.909#E,10,1,2.199,555.185,8.909#E,10,1,-0.314,572.504,36.223#E,10,1,0.314,572.504,36.223#E,10,1,-0.785,568.040,15.845#E,10,1,0.785,568.040,15.845#E,10,1,-2.670,552.691,2.955#E,10,1,2.670,552.691,2.955#E,10,1,-0.942,566.550,13.753#E,10,1,0.942,566.550,13.753#E,10,1,-2.513,553.326,5.774#E,10,1,-0.157,573.946,49.608#E,10,1,0.157,573.946,49.608#E,10,1,2.513,553.326,5.774#E,10,1,-1.571,560.584,10.798#E,10,1,1.571,560.584,10.798#E,10,1,-2.985,552.061,0.000#E,10,1,-2.827,552.269,0.000#E,10,1,-2.356,554.160,7.651#E,10,1,2.356,554.160,7.651#E,10,1,2.827,552.269,0.000#E,10,1,2.985,552.061,0.000#E,10,1,-0.471,571.014,24.860#E,10,1,0.471,571.014,24.860#E,10,1,-1.257,563.564,11.521#E,10,1,1.257,563.564,11.521#E,10,1,-3.142,552.002,0.000#E,10,1,3.142,552.002,0.000#E,10,1,-1.414,562.074,11.012#E,10,1,1.414,562.074,11.012#E,10,1,-1.100,565.060,12.393#E,10,1,1.100,565.060,12.393#E,10,1,-0.628,569.530,19.170#E,10,1,0.628,569.530,19.170#E,10,1,-1.728,559.105,10.637#E,10,1,1.728,559.105,10.637#E,10,1,-2.042,556.371,9.749#E,10,1,2.042,556.371,9.749#E,10,2,0.000,593.520,0.000#E,10,2,-1.885,576.707,9.972#E,10,2,1.885,576.707,9.972#E,10,2,-2.199,574.187,8.766#E,10,2,2.199,574.187,8.766#E,10,2,-0.314,591.554,34.404#E,10,2,0.314,591.554,34.404#E,10,2,-0.785,587.079,15.102#E,10,2,0.785,587.079,15.102#E,10,2,-2.670,571.687,3.587#E,10,2,2.670,571.687,3.587#E,10,2,-0.942,585.583,13.131#E,10,2,0.942,585.583,13.131#E,10,2,-2.513,572.323,6.035#E,10,2,-0.157,592.937,43.507#E,10,2,0.157,592.937,43.507#E,10,2,2.513,572.323,6.035#E,10,2,-1.571,579.607,10.387#E,10,2,1.571,579.607,10.387#E,10,2,-2.985,571.057,0.000#E,10,2,-2.827,571.271,0.000#E,10,2,-2.356,573.161,7.671#E,10,2,2.356,573.161,7.671#E,10,2,2.827,571.271,0.000#E,10,2,2.985,571.057,0.000#E,10,2,-0.471,590.064,23.620#E,10,2,0.471,590.064,23.620#E,10,2,-1.257,582.598,11.044#E,10,2,1.257,582.598,11.044#E,10,2,-3.142,571.004,0.000#E,10,2,3.142,571.004,0.000#E,10,2,-1.414,581.103,10.572#E,10,2,1.414,581.103,10.572#E,10,2,-1.100,584.093,11.856#E,10,2,1.100,584.093,11.856#E,10,2,-0.628,588.569,18.237#E,10,2,0.628,588.569,18.237#E,10,2,-1.728,578.133,10.257#E,10,2,1.728,578.133,10.257#E,10,2,-2.042,575.383,9.497#E,10,2,2.042,575.383,9.497#E,10,3,0.000,613.515,0.000#E,10,3,-1.885,596.713,9.953#E,10,3,1.885,596.713,9.953#E,10,3,-2.199,594.187,8.753#E,10,3,2.199,594.187,8.753#E,10,3,-0.314,611.555,34.385#E,10,3,0.314,611.555,34.385#E,10,3,-0.785,607.085,15.080#E,10,3,0.785,607.085,15.080#E,10,3,-2.670,591.688,3.584#E,10,3,2.670,591.688,3.584#E,10,3,-0.942,605.589,13.110#E,10,3,0.942,605.589,13.110#E,10,3,-2.513,592.323,6.025#E,10,3,-0.157,612.943,43.515#E,10,3,0.157,612.943,43.515#E,10,3,2.513,592.323,6.025#E,10,3,-1.571,599.613,10.368#E,10,3,1.571,599.613,10.368#E,10,3,-2.985,591.058,0.000#E,10,3,-2.827,591.271,0.000#E,10,3,-2.356,593.162,7.654#E,10,3,2.356,593.162,7.654#E,10,3,2.827,591.271,0.000#E,10,3,2.985,591.058,0.000#E,10,3,-0.471,610.065,23.594#E,10,3,0.471,610.065,23.594#E,10,3,-1.257,602.604,11.022#E,10,3,1.257,602.604,11.022#E,10,3,-3.142,591.004,0.000#E,10,3,3.142,591.004,0.000#E,10,3,-1.414,601.109,10.554#E,10,3,1.414,601.109,10.554#E,10,3,-1.100,604.094,11.833#E,10,3,1.100,604.094,11.833#E,10,3,-0.628,608.575,18.212#E,10,3,0.628,608.575,18.212#E,10,3,-1.728,598.134,10.239#E,10,3,1.728,598.134,10.239#E,10,3,-2.042,595.383,9.479#E,10,3,2.042,595.383,9.479#E,10,4,0.000,637.392,0.000#E,10,4,-1.885,620.724,9.718#E,10,4,1.885,620.724,9.718#E,10,4,-2.199,618.188,8.687#E,10,4,2.199,618.188,8.687#E,10,4,-0.314,635.593,32.962#E,10,4,0.314,635.593,32.962#E,10,4,-0.785,631.112,14.507#E,10,4,0.785,631.112,14.507#E,10,4,-2.670,615.683,4.245#E,10,4,2.670,615.683,4.245#E,10,4,-0.942,629.617,12.634#E,10,4,0.942,629.617,12.634#E,10,4,-2.513,616.313,6.330#E,10,4,-0.157,636.906,37.388#E,10,4,0.157,636.906,37.388#E,10,4,2.513,616.313,6.330#E,10,4,-1.571,623.635,10.059#E,10,4,1.571,623.635,10.059#E,10,4,-2.985,615.058,0.000#E,10,4,-2.827,615.272,1.058#E,10,4,-2.356,617.157,7.742#E,10,4,2.356,617.157,7.742#E,10,4,2.827,615.272,1.058#E,10,4,2.985,615.058,0.000#E,10,4,-0.471,634.103,22.633#E,10,4,0.471,634.103,22.633#E,10,4,-1.257,626.626,10.657#E,10,4,1.257,626.626,10.657#E,10,4,-3.142,615.005,0.000#E,10,4,3.142,615.005,0.000#E,10,4,-1.414,625.130,10.220#E,10,4,1.414,625.130,10.220#E,10,4,-1.100,628.121,11.424#E,10,4,1.100,628.121,11.424#E,10,4,-0.628,632.607,17.494#E,10,4,0.628,632.607,17.494#E,10,4,-1.728,622.150,9.955#E,10,4,1.728,622.150,9.955#E,10,4,-2.042,619.389,9.317#E,10,4,2.042,619.389,9.317#");
-    public static final StringBuilder extremeCastPropsOptimisticLine = new StringBuilder().append(
-            "M,0,0,0.000,509.005,0.000#M,0,0,-1.885,501.923,8.251#M,0,0,1.885,501.923,8.251#M,0,0,-2.199,499.638,8.209#M,0,0,2.199,499.638,8.209#M,0,0,-0.314,509.005,0.000#M,0,0,0.314,509.005,0.000#M,0,0,-0.785,508.706,3.218#M,0,0,0.785,508.706,3.218#M,0,0,-2.670,497.539,5.655#M,0,0,2.670,497.539,5.655#M,0,0,-0.942,508.241,4.475#M,0,0,0.942,508.241,4.475#M,0,0,-2.513,498.057,6.853#M,0,0,-0.157,509.005,0.000#M,0,0,0.157,509.005,0.000#M,0,0,2.513,498.057,6.853#M,0,0,-1.571,504.508,7.814#M,0,0,1.571,504.508,7.814#M,0,0,-2.985,497.042,3.088#M,0,0,-2.827,497.208,4.245#M,0,0,-2.356,498.756,7.788#M,0,0,2.356,498.756,7.788#M,0,0,2.827,497.208,4.245#M,0,0,2.985,497.042,3.088#M,0,0,-0.471,509.000,0.000#M,0,0,0.471,509.000,0.000#M,0,0,-1.257,506.703,6.322#M,0,0,1.257,506.703,6.322#M,0,0,-3.142,497.005,0.000#M,0,0,3.142,497.005,0.000#M,0,0,-1.414,505.678,7.086#M,0,0,1.414,505.678,7.086#M,0,0,-1.100,507.568,5.475#M,0,0,1.100,507.568,5.475#M,0,0,-0.628,508.957,1.482#M,0,0,0.628,508.957,1.482#M,0,0,-1.728,503.232,8.547#M,0,0,1.728,503.232,8.547#M,0,0,-2.042,500.706,7.676#M,0,0,2.042,500.706,7.676#M,0,1,0.000,531.003,0.000#M,0,1,-1.885,522.976,8.482#M,0,1,1.885,522.976,8.482#M,0,1,-2.199,520.674,8.145#M,0,1,2.199,520.674,8.145#M,0,1,-0.314,531.003,0.000#M,0,1,0.314,531.003,0.000#M,0,1,-0.785,529.940,4.806#M,0,1,0.785,529.940,4.806#M,0,1,-2.670,518.511,6.495#M,0,1,2.670,518.511,6.495#M,0,1,-0.942,529.011,5.510#M,0,1,0.942,529.011,5.510#M,0,1,-2.513,519.056,6.826#M,0,1,-0.157,531.003,0.000#M,0,1,0.157,531.003,0.000#M,0,1,2.513,519.056,6.826#M,0,1,-1.571,525.043,7.445#M,0,1,1.571,525.043,7.445#M,0,1,-2.985,517.796,6.621#M,0,1,-2.827,518.068,6.769#M,0,1,-2.356,519.772,7.572#M,0,1,2.356,519.772,7.572#M,0,1,2.827,518.068,6.769#M,0,1,2.985,517.796,6.621#M,0,1,-0.471,530.933,1.993#M,0,1,0.471,530.933,1.993#M,0,1,-1.257,526.928,6.373#M,0,1,1.257,526.928,6.373#M,0,1,-3.142,517.699,0.000#M,0,1,3.142,517.699,0.000#M,0,1,-1.414,525.935,6.915#M,0,1,1.414,525.935,6.915#M,0,1,-1.100,527.911,5.918#M,0,1,1.100,527.911,5.918#M,0,1,-0.628,530.597,3.709#M,0,1,0.628,530.597,3.709#M,0,1,-1.728,524.151,8.032#M,0,1,1.728,524.151,8.032#M,0,1,-2.042,521.753,8.060#M,0,1,2.042,521.753,8.060#M,0,2,0.000,556.002,0.000#M,0,2,-1.885,536.076,6.569#M,0,2,1.885,536.076,6.569#M,0,2,-2.199,545.636,7.354#M,0,2,2.199,545.636,7.354#M,0,2,-0.314,555.671,6.338#M,0,2,0.314,555.671,6.338#M,0,2,-0.785,553.027,7.287#M,0,2,0.785,553.027,7.287#M,0,2,-2.670,543.425,7.363#M,0,2,2.670,543.425,7.363#M,0,2,-0.942,551.356,7.163#M,0,2,0.942,551.356,7.163#M,0,2,-2.513,544.023,7.366#M,0,2,-0.157,555.981,3.784#M,0,2,0.157,555.981,3.784#M,0,2,2.513,544.023,7.366#M,0,2,-1.571,536.066,6.224#M,0,2,1.571,536.066,6.224#M,0,2,-2.985,542.720,7.367#M,0,2,-2.827,542.987,7.365#M,0,2,-2.356,544.776,7.571#M,0,2,2.356,544.776,7.571#M,0,2,2.827,542.987,7.365#M,0,2,2.985,542.720,7.367#M,0,2,-0.471,555.067,7.061#M,0,2,0.471,555.067,7.061#M,0,2,-1.257,536.402,6.389#M,0,2,1.257,536.402,6.389#M,0,2,-3.142,542.635,0.578#M,0,2,3.142,542.635,0.578#M,0,2,-1.414,536.156,6.253#M,0,2,1.414,536.156,6.253#M,0,2,-1.100,537.096,6.684#M,0,2,1.100,537.096,6.684#M,0,2,-0.628,554.170,7.284#M,0,2,0.628,554.170,7.284#M,0,2,-1.728,535.970,6.353#M,0,2,1.728,535.970,6.353#M,0,2,-2.042,536.509,6.828#M,0,2,2.042,536.509,6.828#M,0,3,0.000,570.817,0.000#M,0,3,-1.885,536.066,6.591#M,0,3,1.885,536.066,6.591#M,0,3,-2.199,556.029,7.362#M,0,3,2.199,556.029,7.362#M,0,3,-0.314,569.690,7.662#M,0,3,0.314,569.690,7.662#M,0,3,-0.785,563.313,7.302#M,0,3,0.785,563.313,7.302#M,0,3,-2.670,555.094,8.755#M,0,3,2.670,555.094,8.755#M,0,3,-0.942,561.353,7.177#M,0,3,0.942,561.353,7.177#M,0,3,-2.513,556.205,8.351#M,0,3,-0.157,570.528,7.731#M,0,3,0.157,570.528,7.731#M,0,3,2.513,556.205,8.351#M,0,3,-1.571,536.071,6.245#M,0,3,1.571,536.071,6.245#M,0,3,-2.985,553.775,8.969#M,0,3,-2.827,554.272,8.957#M,0,3,-2.356,556.857,8.142#M,0,3,2.356,556.857,8.142#M,0,3,2.827,554.272,8.957#M,0,3,2.985,553.775,8.969#M,0,3,-0.471,568.408,7.513#M,0,3,0.471,568.408,7.513#M,0,3,-1.257,536.402,6.412#M,0,3,1.257,536.402,6.412#M,0,3,-3.142,553.604,0.000#M,0,3,3.142,553.604,0.000#M,0,3,-1.414,536.167,6.277#M,0,3,1.414,536.167,6.277#M,0,3,-1.100,537.096,6.706#M,0,3,1.100,537.096,6.706#M,0,3,-0.628,566.699,7.345#M,0,3,0.628,566.699,7.345#M,0,3,-1.728,535.954,6.377#M,0,3,1.728,535.954,6.377#M,0,3,-2.042,536.514,6.851#M,0,3,2.042,536.514,6.851#M,0,4,0.000,570.817,0.000#M,0,4,-1.885,536.066,6.613#M,0,4,1.885,536.066,6.613#M,0,4,-2.199,556.029,7.385#M,0,4,2.199,556.029,7.385#M,0,4,-0.314,569.690,7.685#M,0,4,0.314,569.690,7.685#M,0,4,-0.785,563.313,7.324#M,0,4,0.785,563.313,7.324#M,0,4,-2.670,555.532,8.450#M,0,4,2.670,555.532,8.450#M,0,4,-0.942,561.375,7.197#M,0,4,0.942,561.375,7.197#M,0,4,-2.513,556.200,8.375#M,0,4,-0.157,570.528,7.756#M,0,4,0.157,570.528,7.756#M,0,4,2.513,556.200,8.375#M,0,4,-1.571,536.066,6.265#M,0,4,1.571,536.066,6.265#M,0,4,-2.985,553.775,8.995#M,0,4,-2.827,554.272,8.985#M,0,4,-2.356,556.857,8.167#M,0,4,2.356,556.857,8.167#M,0,4,2.827,554.272,8.985#M,0,4,2.985,553.775,8.995#M,0,4,-0.471,568.408,7.536#M,0,4,0.471,568.408,7.536#M,0,4,-1.257,536.402,6.430#M,0,4,1.257,536.402,6.430#M,0,4,-3.142,553.604,0.000#M,0,4,3.142,553.604,0.000#M,0,4,-1.414,536.167,6.297#M,0,4,1.414,536.167,6.297#M,0,4,-1.100,537.096,6.727#M,0,4,1.100,537.096,6.727#M,0,4,-0.628,566.705,7.370#M,0,4,0.628,566.705,7.370#M,0,4,-1.728,535.964,6.396#M,0,4,1.728,535.964,6.396#M,0,4,-2.042,536.520,6.872#M,0,4,2.042,536.520,6.872#M,1,0,0.000,507.205,0.000#M,1,0,-1.885,499.568,7.609#M,1,0,1.885,499.568,7.609#M,1,0,-2.199,497.368,8.584#M,1,0,2.199,497.368,8.584#M,1,0,-0.314,507.200,0.515#M,1,0,0.314,507.200,0.515#M,1,0,-0.785,506.223,5.131#M,1,0,0.785,506.223,5.131#M,1,0,-2.670,495.157,6.048#M,1,0,2.670,495.157,6.048#M,1,0,-0.942,505.571,5.637#M,1,0,0.942,505.571,5.637#M,1,0,-2.513,495.702,7.142#M,1,0,-0.157,507.205,0.000#M,1,0,0.157,507.205,0.000#M,1,0,2.513,495.702,7.142#M,1,0,-1.571,501.806,6.985#M,1,0,1.571,501.806,6.985#M,1,0,-2.985,494.601,5.460#M,1,0,-2.827,494.804,5.457#M,1,0,-2.356,496.439,8.015#M,1,0,2.356,496.439,8.015#M,1,0,2.827,494.804,5.457#M,1,0,2.985,494.601,5.460#M,1,0,-0.471,507.056,3.242#M,1,0,0.471,507.056,3.242#M,1,0,-1.257,503.883,6.383#M,1,0,1.257,503.883,6.383#M,1,0,-3.142,494.537,0.000#M,1,0,3.142,494.537,0.000#M,1,0,-1.414,502.874,6.688#M,1,0,1.414,502.874,6.688#M,1,0,-1.100,504.786,6.038#M,1,0,1.100,504.786,6.038#M,1,0,-0.628,506.725,4.423#M,1,0,0.628,506.725,4.423#M,1,0,-1.728,500.690,7.278#M,1,0,1.728,500.690,7.278#M,1,0,-2.042,498.473,8.143#M,1,0,2.042,498.473,8.143#M,1,1,0.000,529.053,0.000#M,1,1,-1.885,519.873,7.611#M,1,1,1.885,519.873,7.611#M,1,1,-2.199,518.207,8.351#M,1,1,2.199,518.207,8.351#M,1,1,-0.314,529.048,1.061#M,1,1,0.314,529.048,1.061#M,1,1,-0.785,526.842,5.358#M,1,1,0.785,526.842,5.358#M,1,1,-2.670,515.739,7.224#M,1,1,2.670,515.739,7.224#M,1,1,-0.942,525.801,5.731#M,1,1,0.942,525.801,5.731#M,1,1,-2.513,516.444,7.451#M,1,1,-0.157,529.053,0.000#M,1,1,0.157,529.053,0.000#M,1,1,2.513,516.444,7.451#M,1,1,-1.571,521.806,6.991#M,1,1,1.571,521.806,6.991#M,1,1,-2.985,514.789,6.484#M,1,1,-2.827,515.136,6.901#M,1,1,-2.356,517.245,7.855#M,1,1,2.356,517.245,7.855#M,1,1,2.827,515.136,6.901#M,1,1,2.985,514.789,6.484#M,1,1,-0.471,528.733,3.506#M,1,1,0.471,528.733,3.506#M,1,1,-1.257,523.878,6.384#M,1,1,1.257,523.878,6.384#M,1,1,-3.142,514.677,0.000#M,1,1,3.142,514.677,0.000#M,1,1,-1.414,522.880,6.696#M,1,1,1.414,522.880,6.696#M,1,1,-1.100,524.808,6.056#M,1,1,1.100,524.808,6.056#M,1,1,-0.628,527.927,4.738#M,1,1,0.628,527.927,4.738#M,1,1,-1.728,520.808,7.270#M,1,1,1.728,520.808,7.270#M,1,1,-2.042,519.093,8.142#M,1,1,2.042,519.093,8.142#M,1,2,0.000,537.668,0.000#M,1,2,-1.885,522.618,7.092#M,1,2,1.885,522.618,7.092#M,1,2,-2.199,522.260,8.032#M,1,2,2.199,522.260,8.032#M,1,2,-0.314,536.685,8.182#M,1,2,0.314,536.685,8.182#M,1,2,-0.785,529.684,6.913#M,1,2,0.785,529.684,6.913#M,1,2,-2.670,522.324,9.594#M,1,2,2.670,522.324,9.594#M,1,2,-0.942,528.119,6.764#M,1,2,0.942,528.119,6.764#M,1,2,-2.513,522.282,9.089#M,1,2,-0.157,537.406,8.316#M,1,2,0.157,537.406,8.316#M,1,2,2.513,522.282,9.089#M,1,2,-1.571,523.387,6.500#M,1,2,1.571,523.387,6.500#M,1,2,-2.985,522.266,10.354#M,1,2,-2.827,522.324,10.038#M,1,2,-2.356,522.244,8.554#M,1,2,2.356,522.244,8.554#M,1,2,2.827,522.324,10.038#M,1,2,2.985,522.266,10.354#M,1,2,-0.471,535.649,7.946#M,1,2,0.471,535.649,7.946#M,1,2,-1.257,524.738,6.297#M,1,2,1.257,524.738,6.297#M,1,2,-3.142,522.218,0.000#M,1,2,3.142,522.218,0.000#M,1,2,-1.414,524.097,6.316#M,1,2,1.414,524.097,6.316#M,1,2,-1.100,526.575,6.602#M,1,2,1.100,526.575,6.602#M,1,2,-0.628,531.238,7.069#M,1,2,0.628,531.238,7.069#M,1,2,-1.728,522.858,6.772#M,1,2,1.728,522.858,6.772#M,1,2,-2.042,522.351,7.543#M,1,2,2.042,522.351,7.543#M,1,3,0.000,537.668,0.000#M,1,3,-1.885,522.629,7.115#M,1,3,1.885,522.629,7.115#M,1,3,-2.199,522.260,8.057#M,1,3,2.199,522.260,8.057#M,1,3,-0.314,536.685,8.212#M,1,3,0.314,536.685,8.212#M,1,3,-0.785,529.689,6.938#M,1,3,0.785,529.689,6.938#M,1,3,-2.670,522.324,9.629#M,1,3,2.670,522.324,9.629#M,1,3,-0.942,528.114,6.786#M,1,3,0.942,528.114,6.786#M,1,3,-2.513,522.282,9.119#M,1,3,-0.157,537.406,8.345#M,1,3,0.157,537.406,8.345#M,1,3,2.513,522.282,9.119#M,1,3,-1.571,523.376,6.522#M,1,3,1.571,523.376,6.522#M,1,3,-2.985,522.266,10.389#M,1,3,-2.827,522.324,10.072#M,1,3,-2.356,522.244,8.585#M,1,3,2.356,522.244,8.585#M,1,3,2.827,522.324,10.072#M,1,3,2.985,522.266,10.389#M,1,3,-0.471,535.649,7.971#M,1,3,0.471,535.649,7.971#M,1,3,-1.257,524.733,6.316#M,1,3,1.257,524.733,6.316#M,1,3,-3.142,522.218,0.000#M,1,3,3.142,522.218,0.000#M,1,3,-1.414,524.097,6.337#M,1,3,1.414,524.097,6.337#M,1,3,-1.100,526.581,6.625#M,1,3,1.100,526.581,6.625#M,1,3,-0.628,531.243,7.095#M,1,3,0.628,531.243,7.095#M,1,3,-1.728,522.864,6.795#M,1,3,1.728,522.864,6.795#M,1,3,-2.042,522.351,7.568#M,1,3,2.042,522.351,7.568#M,1,4,0.000,537.668,0.000#M,1,4,-1.885,522.623,7.137#M,1,4,1.885,522.623,7.137#M,1,4,-2.199,522.260,8.084#M,1,4,2.199,522.260,8.084#M,1,4,-0.314,536.685,8.237#M,1,4,0.314,536.685,8.237#M,1,4,-0.785,529.684,6.957#M,1,4,")
-            .append("0.785,529.684,6.957#M,1,4,-2.670,522.324,9.659#M,1,4,2.670,522.324,9.659#M,1,4,-0.942,528.119,6.810#M,1,4,0.942,528.119,6.810#M,1,4,-2.513,522.282,9.150#M,1,4,-0.157,537.406,8.372#M,1,4,0.157,537.406,8.372#M,1,4,2.513,522.282,9.150#M,1,4,-1.571,523.382,6.544#M,1,4,1.571,523.382,6.544#M,1,4,-2.985,522.266,10.422#M,1,4,-2.827,522.324,10.102#M,1,4,-2.356,522.244,8.612#M,1,4,2.356,522.244,8.612#M,1,4,2.827,522.324,10.102#M,1,4,2.985,522.266,10.422#M,1,4,-0.471,535.649,7.997#M,1,4,0.471,535.649,7.997#M,1,4,-1.257,524.733,6.337#M,1,4,1.257,524.733,6.337#M,1,4,-3.142,522.218,0.000#M,1,4,3.142,522.218,0.000#M,1,4,-1.414,524.097,6.357#M,1,4,1.414,524.097,6.357#M,1,4,-1.100,526.570,6.642#M,1,4,1.100,526.570,6.642#M,1,4,-0.628,531.238,7.115#M,1,4,0.628,531.238,7.115#M,1,4,-1.728,522.858,6.816#M,1,4,1.728,522.858,6.816#M,1,4,-2.042,522.362,7.591#M,1,4,2.042,522.362,7.591#M,2,0,0.000,505.400,0.000#M,2,0,-1.885,489.950,6.843#M,2,0,1.885,489.950,6.843#M,2,0,-2.199,490.681,7.645#M,2,0,2.199,490.681,7.645#M,2,0,-0.314,505.053,6.174#M,2,0,0.314,505.053,6.174#M,2,0,-0.785,498.409,7.323#M,2,0,0.785,498.409,7.323#M,2,0,-2.670,492.609,8.276#M,2,0,2.670,492.609,8.276#M,2,0,-0.942,496.957,6.826#M,2,0,0.942,496.957,6.826#M,2,0,-2.513,493.282,8.270#M,2,0,-0.157,505.368,3.957#M,2,0,0.157,505.368,3.957#M,2,0,2.513,493.282,8.270#M,2,0,-1.571,489.944,6.479#M,2,0,1.571,489.944,6.479#M,2,0,-2.985,491.824,8.270#M,2,0,-2.827,492.123,8.270#M,2,0,-2.356,491.344,8.134#M,2,0,2.356,491.344,8.134#M,2,0,2.827,492.123,8.270#M,2,0,2.985,491.824,8.270#M,2,0,-0.471,504.401,6.833#M,2,0,0.471,504.401,6.833#M,2,0,-1.257,490.767,6.462#M,2,0,1.257,490.767,6.462#M,2,0,-3.142,491.723,0.000#M,2,0,3.142,491.723,0.000#M,2,0,-1.414,490.211,6.448#M,2,0,1.414,490.211,6.448#M,2,0,-1.100,494.585,6.483#M,2,0,1.100,494.585,6.483#M,2,0,-0.628,503.120,7.423#M,2,0,0.628,503.120,7.423#M,2,0,-1.728,489.886,6.596#M,2,0,1.728,489.886,6.596#M,2,0,-2.042,490.201,7.204#M,2,0,2.042,490.201,7.204#M,2,1,0.000,527.104,0.000#M,2,1,-1.885,489.944,6.869#M,2,1,1.885,489.944,6.869#M,2,1,-2.199,490.681,7.678#M,2,1,2.199,490.681,7.678#M,2,1,-0.314,525.571,7.478#M,2,1,0.314,525.571,7.478#M,2,1,-0.785,498.409,7.351#M,2,1,0.785,498.409,7.351#M,2,1,-2.670,512.695,8.341#M,2,1,2.670,512.695,8.341#M,2,1,-0.942,496.951,6.851#M,2,1,0.942,496.951,6.851#M,2,1,-2.513,513.438,8.333#M,2,1,-0.157,526.944,5.150#M,2,1,0.157,526.944,5.150#M,2,1,2.513,513.438,8.333#M,2,1,-1.571,489.944,6.505#M,2,1,1.571,489.944,6.505#M,2,1,-2.985,511.825,8.278#M,2,1,-2.827,512.119,8.281#M,2,1,-2.356,491.344,8.169#M,2,1,2.356,491.344,8.169#M,2,1,2.827,512.119,8.281#M,2,1,2.985,511.825,8.278#M,2,1,-0.471,524.044,8.103#M,2,1,0.471,524.044,8.103#M,2,1,-1.257,490.762,6.486#M,2,1,1.257,490.762,6.486#M,2,1,-3.142,511.723,0.000#M,2,1,3.142,511.723,0.000#M,2,1,-1.414,490.211,6.475#M,2,1,1.414,490.211,6.475#M,2,1,-1.100,495.798,6.505#M,2,1,1.100,495.798,6.505#M,2,1,-0.628,522.202,8.277#M,2,1,0.628,522.202,8.277#M,2,1,-1.728,489.886,6.625#M,2,1,1.728,489.886,6.625#M,2,1,-2.042,490.201,7.234#M,2,1,2.042,490.201,7.234#M,2,2,0.000,530.522,0.000#M,2,2,-1.885,489.944,6.894#M,2,2,1.885,489.944,6.894#M,2,2,-2.199,490.681,7.708#M,2,2,2.199,490.681,7.708#M,2,2,-0.314,528.936,7.602#M,2,2,0.314,528.936,7.602#M,2,2,-0.785,498.409,7.380#M,2,2,0.785,498.409,7.380#M,2,2,-2.670,513.886,9.472#M,2,2,2.670,513.886,9.472#M,2,2,-0.942,496.951,6.876#M,2,2,0.942,496.951,6.876#M,2,2,-2.513,513.849,8.560#M,2,2,-0.157,530.175,7.370#M,2,2,0.157,530.175,7.370#M,2,2,2.513,513.849,8.560#M,2,2,-1.571,489.950,6.530#M,2,2,1.571,489.950,6.530#M,2,2,-2.985,512.727,9.789#M,2,2,-2.827,513.245,9.711#M,2,2,-2.356,491.344,8.199#M,2,2,2.356,491.344,8.199#M,2,2,2.827,513.245,9.711#M,2,2,2.985,512.727,9.789#M,2,2,-0.471,526.234,8.130#M,2,2,0.471,526.234,8.130#M,2,2,-1.257,490.762,6.510#M,2,2,1.257,490.762,6.510#M,2,2,-3.142,512.530,0.000#M,2,2,3.142,512.530,0.000#M,2,2,-1.414,490.211,6.500#M,2,2,1.414,490.211,6.500#M,2,2,-1.100,495.798,6.529#M,2,2,1.100,495.798,6.529#M,2,2,-0.628,522.207,8.306#M,2,2,0.628,522.207,8.306#M,2,2,-1.728,489.886,6.649#M,2,2,1.728,489.886,6.649#M,2,2,-2.042,490.201,7.261#M,2,2,2.042,490.201,7.261#M,2,3,0.000,530.522,0.000#M,2,3,-1.885,489.950,6.920#M,2,3,1.885,489.950,6.920#M,2,3,-2.199,490.681,7.735#M,2,3,2.199,490.681,7.735#M,2,3,-0.314,528.941,7.624#M,2,3,0.314,528.941,7.624#M,2,3,-0.785,498.404,7.403#M,2,3,0.785,498.404,7.403#M,2,3,-2.670,513.886,9.505#M,2,3,2.670,513.886,9.505#M,2,3,-0.942,496.957,6.904#M,2,3,0.942,496.957,6.904#M,2,3,-2.513,513.849,8.588#M,2,3,-0.157,530.175,7.394#M,2,3,0.157,530.175,7.394#M,2,3,2.513,513.849,8.588#M,2,3,-1.571,489.944,6.551#M,2,3,1.571,489.944,6.551#M,2,3,-2.985,512.727,9.824#M,2,3,-2.827,513.245,9.743#M,2,3,-2.356,491.344,8.229#M,2,3,2.356,491.344,8.229#M,2,3,2.827,513.245,9.743#M,2,3,2.985,512.727,9.824#M,2,3,-0.471,526.234,8.159#M,2,3,0.471,526.234,8.159#M,2,3,-1.257,490.767,6.534#M,2,3,1.257,490.767,6.534#M,2,3,-3.142,512.530,0.000#M,2,3,3.142,512.530,0.000#M,2,3,-1.414,490.206,6.518#M,2,3,1.414,490.206,6.518#M,2,3,-1.100,495.803,6.553#M,2,3,1.100,495.803,6.553#M,2,3,-0.628,522.196,8.337#M,2,3,0.628,522.196,8.337#M,2,3,-1.728,489.886,6.672#M,2,3,1.728,489.886,6.672#M,2,3,-2.042,490.201,7.288#M,2,3,2.042,490.201,7.288#M,2,4,0.000,530.522,0.000#M,2,4,-1.885,489.944,6.940#M,2,4,1.885,489.944,6.940#M,2,4,-2.199,490.676,7.756#M,2,4,2.199,490.676,7.756#M,2,4,-0.314,528.936,7.651#M,2,4,0.314,528.936,7.651#M,2,4,-0.785,498.404,7.425#M,2,4,0.785,498.404,7.425#M,2,4,-2.670,513.886,9.536#M,2,4,2.670,513.886,9.536#M,2,4,-0.942,496.957,6.924#M,2,4,0.942,496.957,6.924#M,2,4,-2.513,513.849,8.615#M,2,4,-0.157,530.175,7.416#M,2,4,0.157,530.175,7.416#M,2,4,2.513,513.849,8.615#M,2,4,-1.571,489.944,6.572#M,2,4,1.571,489.944,6.572#M,2,4,-2.985,512.727,9.855#M,2,4,-2.827,513.245,9.774#M,2,4,-2.356,491.344,8.256#M,2,4,2.356,491.344,8.256#M,2,4,2.827,513.245,9.774#M,2,4,2.985,512.727,9.855#M,2,4,-0.471,526.234,8.182#M,2,4,0.471,526.234,8.182#M,2,4,-1.257,490.762,6.553#M,2,4,1.257,490.762,6.553#M,2,4,-3.142,512.530,0.000#M,2,4,3.142,512.530,0.000#M,2,4,-1.414,490.206,6.539#M,2,4,1.414,490.206,6.539#M,2,4,-1.100,495.803,6.573#M,2,4,1.100,495.803,6.573#M,2,4,-0.628,522.196,8.364#M,2,4,0.628,522.196,8.364#M,2,4,-1.728,489.886,6.691#M,2,4,1.728,489.886,6.691#M,2,4,-2.042,490.195,7.308#M,2,4,2.042,490.195,7.308#M,3,0,0.000,498.548,0.000#M,3,0,-1.885,481.982,7.172#M,3,0,1.885,481.982,7.172#M,3,0,-2.199,482.024,8.148#M,3,0,2.199,482.024,8.148#M,3,0,-0.314,497.395,7.958#M,3,0,0.314,497.395,7.958#M,3,0,-0.785,489.688,6.734#M,3,0,0.785,489.688,6.734#M,3,0,-2.670,482.489,9.738#M,3,0,2.670,482.489,9.738#M,3,0,-0.942,487.910,6.650#M,3,0,0.942,487.910,6.650#M,3,0,-2.513,482.473,9.388#M,3,0,-0.157,498.249,8.027#M,3,0,0.157,498.249,8.027#M,3,0,2.513,482.473,9.388#M,3,0,-1.571,482.361,6.677#M,3,0,1.571,482.361,6.677#M,3,0,-2.985,482.703,9.775#M,3,0,-2.827,482.510,9.869#M,3,0,-2.356,482.201,8.751#M,3,0,2.356,482.201,8.751#M,3,0,2.827,482.510,9.869#M,3,0,2.985,482.703,9.775#M,3,0,-0.471,496.022,7.724#M,3,0,0.471,496.022,7.724#M,3,0,-1.257,484.278,6.302#M,3,0,1.257,484.278,6.302#M,3,0,-3.142,483.130,0.000#M,3,0,3.142,483.130,0.000#M,3,0,-1.414,482.991,6.539#M,3,0,1.414,482.991,6.539#M,3,0,-1.100,485.378,6.240#M,3,0,1.100,485.378,6.240#M,3,0,-0.628,491.456,6.798#M,3,0,0.628,491.456,6.798#M,3,0,-1.728,482.062,6.872#M,3,0,1.728,482.062,6.872#M,3,0,-2.042,481.960,7.605#M,3,0,2.042,481.960,7.605#M,3,1,0.000,498.548,0.000#M,3,1,-1.885,481.982,7.202#M,3,1,1.885,481.982,7.202#M,3,1,-2.199,482.024,8.182#M,3,1,2.199,482.024,8.182#M,3,1,-0.314,497.400,7.993#M,3,1,0.314,497.400,7.993#M,3,1,-0.785,489.683,6.760#M,3,1,0.785,489.683,6.760#M,3,1,-2.670,482.660,9.950#M,3,1,2.670,482.660,9.950#M,3,1,-0.942,487.910,6.677#M,3,1,0.942,487.910,6.677#M,3,1,-2.513,482.473,9.426#M,3,1,-0.157,498.249,8.059#M,3,1,0.157,498.249,8.059#M,3,1,2.513,482.473,9.426#M,3,1,-1.571,482.361,6.707#M,3,1,1.571,482.361,6.707#M,3,1,-2.985,483.167,11.098#M,3,1,-2.827,482.815,10.346#M,3,1,-2.356,482.195,8.787#M,3,1,2.356,482.195,8.787#M,3,1,2.827,482.815,10.346#M,3,1,2.985,483.167,11.098#M,3,1,-0.471,496.118,7.839#M,3,1,0.471,496.118,7.839#M,3,1,-1.257,484.283,6.328#M,3,1,1.257,484.283,6.328#M,3,1,-3.142,483.221,0.000#M,3,1,3.142,483.221,0.000#M,3,1,-1.414,482.996,6.568#M,3,1,1.414,482.996,6.568#M,3,1,-1.100,485.378,6.265#M,3,1,1.100,485.378,6.265#M,3,1,-0.628,491.456,6.826#M,3,1,0.628,491.456,6.826#M,3,1,-1.728,482.056,6.899#M,3,1,1.728,482.056,6.899#M,3,1,-2.042,481.966,7.639#M,3,1,2.042,481.966,7.639#M,3,2,0.000,498.548,0.000#M,3,2,-1.885,481.982,7.229#M,3,2,1.885,481.982,7.229#M,3,2,-2.199,482.019,8.210#M,3,2,2.199,482.019,8.210#M,3,2,-0.314,497.395,8.020#M,3,2,0.314,497.395,8.020#M,3,2,-0.785,489.683,6.786#M,3,2,0.785,489.683,6.786#M,3,2,-2.670,482.665,9.990#M,3,2,2.670,482.665,9.990#M,3,2,-0.942,487.910,6.702#M,3,2,0.942,487.910,6.702#M,3,2,-2.513,482.473,9.463#M,3,2,-0.157,498.249,8.089#M,3,2,0.157,498.249,8.089#M,3,2,2.513,482.473,9.463#M,3,2,-1.571,482.361,6.732#M,3,2,1.571,482.361,6.732#M,3,2,-2.985,483.167,11.141#M,3,2,-2.827,482.815,10.386#M,3,2,-2.356,482.201,8.822#M,3,2,2.356,482.201,8.822#M,3,2,2.827,482.815,10.386#M,3,2,2.985,483.167,11.141#M,3,2,-0.471,496.118,7.868#M,3,2,0.471,496.118,7.868#M,3,2,-1.257,484.278,6.350#M,3,2,1.257,484.278,6.350#M,3,2,-3.142,483.221,0.000#M,3,2,3.142,483.221,0.000#M,3,2,-1.414,482.991,6.591#M,3,2,1.414,482.991,6.591#M,3,2,-1.100,485.373,6.288#M,3,2,1.100,485.373,6.288#M,3,2,-0.628,491.461,6.852#M,3,2,0.628,491.461,6.852#M,3,2,-1.728,482.062,6.926#M,3,2,1.728,482.062,6.926#M,3,2,-2.042,481.966,7.666#M,3,2,2.042,481.966,7.666#M,3,3,0.000,498.548,0.000#M,3,3,-1.885,481.982,7.253#M,3,3,1.885,481.982,7.253#M,3,3,-2.199,482.024,8.241#M,3,3,2.199,482.024,8.241#M,3,3,-0.314,497.395,8.047#M,3,3,0.314,497.395,8.047#M,3,3,-0.785,489.683,6.810#M,3,3,0.785,489.683,6.810#M,3,3,-2.670,482.665,10.027#M,3,3,2.670,482.665,10.027#M,3,3,-0.942,487.915,6.727#M,3,3,0.942,487.915,6.727#M,3,3,-2.513,482.473,9.495#M,3,3,-0.157,498.249,8.117#M,3,3,0.157,498.249,8.117#M,3,3,")
-            .append("2.513,482.473,9.495#M,3,3,-1.571,482.361,6.755#M,3,3,1.571,482.361,6.755#M,3,3,-2.985,483.167,11.180#M,3,3,-2.827,482.815,10.422#M,3,3,-2.356,482.201,8.853#M,3,3,2.356,482.201,8.853#M,3,3,2.827,482.815,10.422#M,3,3,2.985,483.167,11.180#M,3,3,-0.471,496.124,7.896#M,3,3,0.471,496.124,7.896#M,3,3,-1.257,484.278,6.373#M,3,3,1.257,484.278,6.373#M,3,3,-3.142,483.221,0.000#M,3,3,3.142,483.221,0.000#M,3,3,-1.414,482.991,6.614#M,3,3,1.414,482.991,6.614#M,3,3,-1.100,485.373,6.308#M,3,3,1.100,485.373,6.308#M,3,3,-0.628,491.456,6.874#M,3,3,0.628,491.456,6.874#M,3,3,-1.728,482.062,6.952#M,3,3,1.728,482.062,6.952#M,3,3,-2.042,481.960,7.692#M,3,3,2.042,481.960,7.692#M,3,4,0.000,498.548,0.000#M,3,4,-1.885,481.987,7.278#M,3,4,1.885,481.987,7.278#M,3,4,-2.199,482.019,8.263#M,3,4,2.199,482.019,8.263#M,3,4,-0.314,497.395,8.072#M,3,4,0.314,497.395,8.072#M,3,4,-0.785,489.683,6.828#M,3,4,0.785,489.683,6.828#M,3,4,-2.670,482.660,10.054#M,3,4,2.670,482.660,10.054#M,3,4,-0.942,487.910,6.746#M,3,4,0.942,487.910,6.746#M,3,4,-2.513,482.473,9.525#M,3,4,-0.157,498.249,8.142#M,3,4,0.157,498.249,8.142#M,3,4,2.513,482.473,9.525#M,3,4,-1.571,482.361,6.774#M,3,4,1.571,482.361,6.774#M,3,4,-2.985,483.167,11.214#M,3,4,-2.827,482.815,10.456#M,3,4,-2.356,482.195,8.879#M,3,4,2.356,482.195,8.879#M,3,4,2.827,482.815,10.456#M,3,4,2.985,483.167,11.214#M,3,4,-0.471,496.124,7.921#M,3,4,0.471,496.124,7.921#M,3,4,-1.257,484.283,6.391#M,3,4,1.257,484.283,6.391#M,3,4,-3.142,483.221,0.000#M,3,4,3.142,483.221,0.000#M,3,4,-1.414,482.991,6.634#M,3,4,1.414,482.991,6.634#M,3,4,-1.100,485.373,6.327#M,3,4,1.100,485.373,6.327#M,3,4,-0.628,491.456,6.894#M,3,4,0.628,491.456,6.894#M,3,4,-1.728,482.062,6.972#M,3,4,1.728,482.062,6.972#M,3,4,-2.042,481.955,7.714#M,3,4,2.042,481.955,7.714#M,4,0,0.000,491.744,0.000#M,4,0,-1.885,450.846,6.892#M,4,0,1.885,450.846,6.892#M,4,0,-2.199,451.674,7.703#M,4,0,2.199,451.674,7.703#M,4,0,-0.314,490.334,6.856#M,4,0,0.314,490.334,6.856#M,4,0,-0.785,465.944,7.489#M,4,0,0.785,465.944,7.489#M,4,0,-2.670,474.857,10.125#M,4,0,2.670,474.857,10.125#M,4,0,-0.942,457.944,6.775#M,4,0,0.942,457.944,6.775#M,4,0,-2.513,474.478,8.920#M,4,0,-0.157,491.392,6.791#M,4,0,0.157,491.392,6.791#M,4,0,2.513,474.478,8.920#M,4,0,-1.571,450.841,6.522#M,4,0,1.571,450.841,6.522#M,4,0,-2.985,474.040,10.792#M,4,0,-2.827,474.414,10.541#M,4,0,-2.356,452.705,8.034#M,4,0,2.356,452.705,8.034#M,4,0,2.827,474.414,10.541#M,4,0,2.985,474.040,10.792#M,4,0,-0.471,487.872,7.440#M,4,0,0.471,487.872,7.440#M,4,0,-1.257,451.695,6.471#M,4,0,1.257,451.695,6.471#M,4,0,-3.142,473.869,0.000#M,4,0,3.142,473.869,0.000#M,4,0,-1.414,451.124,6.483#M,4,0,1.414,451.124,6.483#M,4,0,-1.100,456.876,6.516#M,4,0,1.100,456.876,6.516#M,4,0,-0.628,482.911,7.949#M,4,0,0.628,482.911,7.949#M,4,0,-1.728,450.787,6.646#M,4,0,1.728,450.787,6.646#M,4,0,-2.042,451.118,7.253#M,4,0,2.042,451.118,7.253#M,4,1,0.000,491.744,0.000#M,4,1,-1.885,450.846,6.920#M,4,1,1.885,450.846,6.920#M,4,1,-2.199,451.674,7.735#M,4,1,2.199,451.674,7.735#M,4,1,-0.314,490.334,6.883#M,4,1,0.314,490.334,6.883#M,4,1,-0.785,465.939,7.519#M,4,1,0.785,465.939,7.519#M,4,1,-2.670,474.857,10.168#M,4,1,2.670,474.857,10.168#M,4,1,-0.942,457.944,6.803#M,4,1,0.942,457.944,6.803#M,4,1,-2.513,474.473,8.957#M,4,1,-0.157,491.392,6.817#M,4,1,0.157,491.392,6.817#M,4,1,2.513,474.473,8.957#M,4,1,-1.571,450.846,6.551#M,4,1,1.571,450.846,6.551#M,4,1,-2.985,474.040,10.838#M,4,1,-2.827,474.419,10.587#M,4,1,-2.356,452.710,8.066#M,4,1,2.356,452.710,8.066#M,4,1,2.827,474.419,10.587#M,4,1,2.985,474.040,10.838#M,4,1,-0.471,487.867,7.471#M,4,1,0.471,487.867,7.471#M,4,1,-1.257,451.690,6.495#M,4,1,1.257,451.690,6.495#M,4,1,-3.142,473.869,0.000#M,4,1,3.142,473.869,0.000#M,4,1,-1.414,451.118,6.508#M,4,1,1.414,451.118,6.508#M,4,1,-1.100,456.881,6.547#M,4,1,1.100,456.881,6.547#M,4,1,-0.628,482.906,7.982#M,4,1,0.628,482.906,7.982#M,4,1,-1.728,450.787,6.674#M,4,1,1.728,450.787,6.674#M,4,1,-2.042,451.118,7.284#M,4,1,2.042,451.118,7.284#M,4,2,0.000,491.744,0.000#M,4,2,-1.885,450.846,6.945#M,4,2,1.885,450.846,6.945#M,4,2,-2.199,451.669,7.762#M,4,2,2.199,451.669,7.762#M,4,2,-0.314,490.329,6.908#M,4,2,0.314,490.329,6.908#M,4,2,-0.785,465.939,7.548#M,4,2,0.785,465.939,7.548#M,4,2,-2.670,474.857,10.209#M,4,2,2.670,474.857,10.209#M,4,2,-0.942,457.944,6.828#M,4,2,0.942,457.944,6.828#M,4,2,-2.513,474.473,8.991#M,4,2,-0.157,491.392,6.845#M,4,2,0.157,491.392,6.845#M,4,2,2.513,474.473,8.991#M,4,2,-1.571,450.841,6.573#M,4,2,1.571,450.841,6.573#M,4,2,-2.985,474.040,10.880#M,4,2,-2.827,474.419,10.627#M,4,2,-2.356,452.710,8.096#M,4,2,2.356,452.710,8.096#M,4,2,2.827,474.419,10.627#M,4,2,2.985,474.040,10.880#M,4,2,-0.471,487.867,7.498#M,4,2,0.471,487.867,7.498#M,4,2,-1.257,451.695,6.523#M,4,2,1.257,451.695,6.523#M,4,2,-3.142,473.869,0.000#M,4,2,3.142,473.869,0.000#M,4,2,-1.414,451.124,6.534#M,4,2,1.414,451.124,6.534#M,4,2,-1.100,456.876,6.567#M,4,2,1.100,456.876,6.567#M,4,2,-0.628,482.911,8.009#M,4,2,0.628,482.911,8.009#M,4,2,-1.728,450.787,6.699#M,4,2,1.728,450.787,6.699#M,4,2,-2.042,451.124,7.313#M,4,2,2.042,451.124,7.313#M,4,3,0.000,491.744,0.000#M,4,3,-1.885,450.851,6.972#M,4,3,1.885,450.851,6.972#M,4,3,-2.199,451.674,7.792#M,4,3,2.199,451.674,7.792#M,4,3,-0.314,490.329,6.931#M,4,3,0.314,490.329,6.931#M,4,3,-0.785,465.944,7.574#M,4,3,0.785,465.944,7.574#M,4,3,-2.670,474.857,10.242#M,4,3,2.670,474.857,10.242#M,4,3,-0.942,457.944,6.852#M,4,3,0.942,457.944,6.852#M,4,3,-2.513,474.478,9.023#M,4,3,-0.157,491.392,6.867#M,4,3,0.157,491.392,6.867#M,4,3,2.513,474.478,9.023#M,4,3,-1.571,450.841,6.596#M,4,3,1.571,450.841,6.596#M,4,3,-2.985,474.040,10.917#M,4,3,-2.827,474.414,10.663#M,4,3,-2.356,452.699,8.127#M,4,3,2.356,452.699,8.127#M,4,3,2.827,474.414,10.663#M,4,3,2.985,474.040,10.917#M,4,3,-0.471,487.862,7.524#M,4,3,0.471,487.862,7.524#M,4,3,-1.257,451.695,6.543#M,4,3,1.257,451.695,6.543#M,4,3,-3.142,473.869,0.000#M,4,3,3.142,473.869,0.000#M,4,3,-1.414,451.118,6.554#M,4,3,1.414,451.118,6.554#M,4,3,-1.100,456.876,6.591#M,4,3,1.100,456.876,6.591#M,4,3,-0.628,482.911,8.037#M,4,3,0.628,482.911,8.037#M,4,3,-1.728,450.782,6.719#M,4,3,1.728,450.782,6.719#M,4,3,-2.042,451.118,7.335#M,4,3,2.042,451.118,7.335#M,4,4,0.000,491.744,0.000#M,4,4,-1.885,450.846,6.992#M,4,4,1.885,450.846,6.992#M,4,4,-2.199,451.669,7.813#M,4,4,2.199,451.669,7.813#M,4,4,-0.314,490.334,6.954#M,4,4,0.314,490.334,6.954#M,4,4,-0.785,465.939,7.596#M,4,4,0.785,465.939,7.596#M,4,4,-2.670,474.857,10.276#M,4,4,2.670,474.857,10.276#M,4,4,-0.942,457.944,6.872#M,4,4,0.942,457.944,6.872#M,4,4,-2.513,474.478,9.053#M,4,4,-0.157,491.392,6.888#M,4,4,0.157,491.392,6.888#M,4,4,2.513,474.478,9.053#M,4,4,-1.571,450.841,6.617#M,4,4,1.571,450.841,6.617#M,4,4,-2.985,474.040,10.951#M,4,4,-2.827,474.419,10.699#M,4,4,-2.356,452.705,8.151#M,4,4,2.356,452.705,8.151#M,4,4,2.827,474.419,10.699#M,4,4,2.985,474.040,10.951#M,4,4,-0.471,487.867,7.548#M,4,4,0.471,487.867,7.548#M,4,4,-1.257,451.695,6.564#M,4,4,1.257,451.695,6.564#M,4,4,-3.142,473.869,0.000#M,4,4,3.142,473.869,0.000#M,4,4,-1.414,451.118,6.573#M,4,4,1.414,451.118,6.573#M,4,4,-1.100,456.876,6.610#M,4,4,1.100,456.876,6.610#M,4,4,-0.628,482.906,8.063#M,4,4,0.628,482.906,8.063#M,4,4,-1.728,450.787,6.743#M,4,4,1.728,450.787,6.743#M,4,4,-2.042,451.124,7.361#M,4,4,2.042,451.124,7.361#M,6,0,0.000,448.443,0.000#M,6,0,-1.885,418.546,6.634#M,6,0,1.885,418.546,6.634#M,6,0,-2.199,420.159,7.241#M,6,0,2.199,420.159,7.241#M,6,0,-0.314,447.134,7.716#M,6,0,0.314,447.134,7.716#M,6,0,-0.785,442.825,7.471#M,6,0,0.785,442.825,7.471#M,6,0,-2.670,433.660,7.842#M,6,0,2.670,433.660,7.842#M,6,0,-0.942,420.164,7.099#M,6,0,0.942,420.164,7.099#M,6,0,-2.513,434.563,7.790#M,6,0,-0.157,448.240,7.989#M,6,0,0.157,448.240,7.989#M,6,0,2.513,434.563,7.790#M,6,0,-1.571,418.546,6.279#M,6,0,1.571,418.546,6.279#M,6,0,-2.985,432.528,7.852#M,6,0,-2.827,432.961,7.854#M,6,0,-2.356,435.369,7.624#M,6,0,2.356,435.369,7.624#M,6,0,2.827,432.961,7.854#M,6,0,2.985,432.528,7.852#M,6,0,-0.471,445.933,7.710#M,6,0,0.471,445.933,7.710#M,6,0,-1.257,418.856,6.419#M,6,0,1.257,418.856,6.419#M,6,0,-3.142,432.378,0.000#M,6,0,3.142,432.378,0.000#M,6,0,-1.414,418.658,6.293#M,6,0,1.414,418.658,6.293#M,6,0,-1.100,419.358,6.677#M,6,0,1.100,419.358,6.677#M,6,0,-0.628,444.453,7.618#M,6,0,0.628,444.453,7.618#M,6,0,-1.728,418.439,6.421#M,6,0,1.728,418.439,6.421#M,6,0,-2.042,418.893,6.894#M,6,0,2.042,418.893,6.894#M,6,1,0.000,448.443,0.000#M,6,1,-1.885,418.552,6.660#M,6,1,1.885,418.552,6.660#M,6,1,-2.199,420.159,7.270#M,6,1,2.199,420.159,7.270#M,6,1,-0.314,447.134,7.744#M,6,1,0.314,447.134,7.744#M,6,1,-0.785,442.819,7.501#M,6,1,0.785,442.819,7.501#M,6,1,-2.670,433.665,7.877#M,6,1,2.670,433.665,7.877#M,6,1,-0.942,420.164,7.129#M,6,1,0.942,420.164,7.129#M,6,1,-2.513,434.563,7.825#M,6,1,-0.157,448.245,8.024#M,6,1,0.157,448.245,8.024#M,6,1,2.513,434.563,7.825#M,6,1,-1.571,418.552,6.303#M,6,1,1.571,418.552,6.303#M,6,1,-2.985,432.523,7.882#M,6,1,-2.827,432.961,7.889#M,6,1,-2.356,435.364,7.654#M,6,1,2.356,435.364,7.654#M,6,1,2.827,432.961,7.889#M,6,1,2.985,432.523,7.882#M,6,1,-0.471,445.933,7.742#M,6,1,0.471,445.933,7.742#M,6,1,-1.257,418.861,6.448#M,6,1,1.257,418.861,6.448#M,6,1,-3.142,432.378,0.000#M,6,1,3.142,432.378,0.000#M,6,1,-1.414,418.658,6.320#M,6,1,1.414,418.658,6.320#M,6,1,-1.100,419.353,6.702#M,6,1,1.100,419.353,6.702#M,6,1,-0.628,444.448,7.651#M,6,1,0.628,444.448,7.651#M,6,1,-1.728,418.445,6.447#M,6,1,1.728,418.445,6.447#M,6,1,-2.042,418.888,6.924#M,6,1,2.042,418.888,6.924#M,6,2,0.000,448.443,0.000#M,6,2,-1.885,418.552,6.685#M,6,2,1.885,418.552,6.685#M,6,2,-2.199,420.159,7.299#M,6,2,2.199,420.159,7.299#M,6,2,-0.314,447.134,7.774#M,6,2,0.314,447.134,7.774#M,6,2,-0.785,442.830,7.527#M,6,2,0.785,442.830,7.527#M,6,2,-2.670,433.665,7.908#M,6,2,2.670,433.665,7.908#M,6,2,-0.942,420.159,7.152#M,6,2,0.942,420.159,7.152#M,6,2,-2.513,434.563,7.854#M,6,2,-0.157,448.240,8.052#M,6,2,0.157,448.240,8.052#M,6,2,2.513,434.563,7.854#M,6,2,-1.571,418.546,6.327#M,6,2,1.571,418.546,6.327#M,6,2,-2.985,432.523,7.913#M,6,2,-2.827,432.955,7.916#M,6,2,-2.356,435.369,7.685#M,6,2,2.356,435.369,7.685#M,6,2,")
-            .append("2.827,432.955,7.916#M,6,2,2.985,432.523,7.913#M,6,2,-0.471,445.933,7.771#M,6,2,0.471,445.933,7.771#M,6,2,-1.257,418.861,6.471#M,6,2,1.257,418.861,6.471#M,6,2,-3.142,432.378,0.000#M,6,2,3.142,432.378,0.000#M,6,2,-1.414,418.658,6.343#M,6,2,1.414,418.658,6.343#M,6,2,-1.100,419.358,6.729#M,6,2,1.100,419.358,6.729#M,6,2,-0.628,444.459,7.678#M,6,2,0.628,444.459,7.678#M,6,2,-1.728,418.445,6.471#M,6,2,1.728,418.445,6.471#M,6,2,-2.042,418.888,6.952#M,6,2,2.042,418.888,6.952#M,6,3,0.000,448.443,0.000#M,6,3,-1.885,418.552,6.710#M,6,3,1.885,418.552,6.710#M,6,3,-2.199,420.159,7.323#M,6,3,2.199,420.159,7.323#M,6,3,-0.314,447.134,7.802#M,6,3,0.314,447.134,7.802#M,6,3,-0.785,442.819,7.555#M,6,3,0.785,442.819,7.555#M,6,3,-2.670,433.665,7.934#M,6,3,2.670,433.665,7.934#M,6,3,-0.942,420.164,7.177#M,6,3,0.942,420.164,7.177#M,6,3,-2.513,434.563,7.882#M,6,3,-0.157,448.240,8.077#M,6,3,0.157,448.240,8.077#M,6,3,2.513,434.563,7.882#M,6,3,-1.571,418.546,6.350#M,6,3,1.571,418.546,6.350#M,6,3,-2.985,432.528,7.942#M,6,3,-2.827,432.961,7.946#M,6,3,-2.356,435.364,7.710#M,6,3,2.356,435.364,7.710#M,6,3,2.827,432.961,7.946#M,6,3,2.985,432.528,7.942#M,6,3,-0.471,445.933,7.797#M,6,3,0.471,445.933,7.797#M,6,3,-1.257,418.856,6.491#M,6,3,1.257,418.856,6.491#M,6,3,-3.142,432.378,0.000#M,6,3,3.142,432.378,0.000#M,6,3,-1.414,418.653,6.362#M,6,3,1.414,418.653,6.362#M,6,3,-1.100,419.358,6.752#M,6,3,1.100,419.358,6.752#M,6,3,-0.628,444.453,7.705#M,6,3,0.628,444.453,7.705#M,6,3,-1.728,418.450,6.491#M,6,3,1.728,418.450,6.491#M,6,3,-2.042,418.883,6.974#M,6,3,2.042,418.883,6.974#M,6,4,0.000,448.443,0.000#M,6,4,-1.885,418.557,6.729#M,6,4,1.885,418.557,6.729#M,6,4,-2.199,420.164,7.349#M,6,4,2.199,420.164,7.349#M,6,4,-0.314,447.134,7.825#M,6,4,0.314,447.134,7.825#M,6,4,-0.785,442.830,7.576#M,6,4,0.785,442.830,7.576#M,6,4,-2.670,433.665,7.958#M,6,4,2.670,433.665,7.958#M,6,4,-0.942,420.164,7.199#M,6,4,0.942,420.164,7.199#M,6,4,-2.513,434.563,7.908#M,6,4,-0.157,448.240,8.104#M,6,4,0.157,448.240,8.104#M,6,4,2.513,434.563,7.908#M,6,4,-1.571,418.552,6.368#M,6,4,1.571,418.552,6.368#M,6,4,-2.985,432.528,7.966#M,6,4,-2.827,432.961,7.968#M,6,4,-2.356,435.364,7.735#M,6,4,2.356,435.364,7.735#M,6,4,2.827,432.961,7.968#M,6,4,2.985,432.528,7.966#M,6,4,-0.471,445.938,7.820#M,6,4,0.471,445.938,7.820#M,6,4,-1.257,418.856,6.511#M,6,4,1.257,418.856,6.511#M,6,4,-3.142,432.378,0.000#M,6,4,3.142,432.378,0.000#M,6,4,-1.414,418.653,6.381#M,6,4,1.414,418.653,6.381#M,6,4,-1.100,419.353,6.771#M,6,4,1.100,419.353,6.771#M,6,4,-0.628,444.453,7.729#M,6,4,0.628,444.453,7.729#M,6,4,-1.728,418.445,6.513#M,6,4,1.728,418.445,6.513#M,6,4,-2.042,418.888,6.995#M,6,4,2.042,418.888,6.995#M,7,0,0.000,419.620,0.000#M,7,0,-1.885,407.790,6.548#M,7,0,1.885,407.790,6.548#M,7,0,-2.199,406.957,7.465#M,7,0,2.199,406.957,7.465#M,7,0,-0.314,419.075,8.077#M,7,0,0.314,419.075,8.077#M,7,0,-0.785,413.046,7.037#M,7,0,0.785,413.046,7.037#M,7,0,-2.670,405.408,8.996#M,7,0,2.670,405.408,8.996#M,7,0,-0.942,411.988,6.867#M,7,0,0.942,411.988,6.867#M,7,0,-2.513,405.782,8.761#M,7,0,-0.157,419.470,8.258#M,7,0,0.157,419.470,8.258#M,7,0,2.513,405.782,8.761#M,7,0,-1.571,408.875,6.368#M,7,0,1.571,408.875,6.368#M,7,0,-2.985,405.254,9.570#M,7,0,-2.827,405.376,9.389#M,7,0,-2.356,406.413,8.058#M,7,0,2.356,406.413,8.058#M,7,0,2.827,405.376,9.389#M,7,0,2.985,405.254,9.570#M,7,0,-0.471,418.504,7.823#M,7,0,0.471,418.504,7.823#M,7,0,-1.257,410.242,6.636#M,7,0,1.257,410.242,6.636#M,7,0,-3.142,405.184,0.000#M,7,0,3.142,405.184,0.000#M,7,0,-1.414,409.414,6.457#M,7,0,1.414,409.414,6.457#M,7,0,-1.100,411.021,6.729#M,7,0,1.100,411.021,6.729#M,7,0,-0.628,417.467,7.304#M,7,0,0.628,417.467,7.304#M,7,0,-1.728,408.559,6.383#M,7,0,1.728,408.559,6.383#M,7,0,-2.042,407.433,6.953#M,7,0,2.042,407.433,6.953#M,7,1,0.000,419.620,0.000#M,7,1,-1.885,407.812,6.571#M,7,1,1.885,407.812,6.571#M,7,1,-2.199,406.963,7.494#M,7,1,2.199,406.963,7.494#M,7,1,-0.314,419.075,8.109#M,7,1,0.314,419.075,8.109#M,7,1,-0.785,413.046,7.068#M,7,1,0.785,413.046,7.068#M,7,1,-2.670,405.408,9.035#M,7,1,2.670,405.408,9.035#M,7,1,-0.942,411.993,6.897#M,7,1,0.942,411.993,6.897#M,7,1,-2.513,405.788,8.796#M,7,1,-0.157,419.470,8.291#M,7,1,0.157,419.470,8.291#M,7,1,2.513,405.788,8.796#M,7,1,-1.571,408.880,6.396#M,7,1,1.571,408.880,6.396#M,7,1,-2.985,405.254,9.611#M,7,1,-2.827,405.376,9.428#M,7,1,-2.356,406.423,8.089#M,7,1,2.356,406.423,8.089#M,7,1,2.827,405.376,9.428#M,7,1,2.985,405.254,9.611#M,7,1,-0.471,418.504,7.854#M,7,1,0.471,418.504,7.854#M,7,1,-1.257,410.242,6.663#M,7,1,1.257,410.242,6.663#M,7,1,-3.142,405.184,0.000#M,7,1,3.142,405.184,0.000#M,7,1,-1.414,409.409,6.483#M,7,1,1.414,409.409,6.483#M,7,1,-1.100,411.021,6.758#M,7,1,1.100,411.021,6.758#M,7,1,-0.628,417.462,7.331#M,7,1,0.628,417.462,7.331#M,7,1,-1.728,408.554,6.407#M,7,1,1.728,408.554,6.407#M,7,1,-2.042,407.427,6.984#M,7,1,2.042,407.427,6.984#M,7,2,0.000,419.620,0.000#M,7,2,-1.885,407.796,6.599#M,7,2,1.885,407.796,6.599#M,7,2,-2.199,406.957,7.524#M,7,2,2.199,406.957,7.524#M,7,2,-0.314,419.075,8.137#M,7,2,0.314,419.075,8.137#M,7,2,-0.785,413.046,7.092#M,7,2,0.785,413.046,7.092#M,7,2,-2.670,405.403,9.066#M,7,2,2.670,405.403,9.066#M,7,2,-0.942,411.988,6.920#M,7,2,0.942,411.988,6.920#M,7,2,-2.513,405.788,8.830#M,7,2,-0.157,419.470,8.322#M,7,2,0.157,419.470,8.322#M,7,2,2.513,405.788,8.830#M,7,2,-1.571,408.885,6.421#M,7,2,1.571,408.885,6.421#M,7,2,-2.985,405.254,9.650#M,7,2,-2.827,405.376,9.463#M,7,2,-2.356,406.418,8.122#M,7,2,2.356,406.418,8.122#M,7,2,2.827,405.376,9.463#M,7,2,2.985,405.254,9.650#M,7,2,-0.471,418.504,7.885#M,7,2,0.471,418.504,7.885#M,7,2,-1.257,410.252,6.692#M,7,2,1.257,410.252,6.692#M,7,2,-3.142,405.184,0.000#M,7,2,3.142,405.184,0.000#M,7,2,-1.414,409.409,6.505#M,7,2,1.414,409.409,6.505#M,7,2,-1.100,411.027,6.784#M,7,2,1.100,411.027,6.784#M,7,2,-0.628,417.473,7.363#M,7,2,0.628,417.473,7.363#M,7,2,-1.728,408.559,6.433#M,7,2,1.728,408.559,6.433#M,7,2,-2.042,407.417,7.012#M,7,2,2.042,407.417,7.012#M,7,3,0.000,419.620,0.000#M,7,3,-1.885,407.806,6.620#M,7,3,1.885,407.806,6.620#M,7,3,-2.199,406.952,7.551#M,7,3,2.199,406.952,7.551#M,7,3,-0.314,419.075,8.166#M,7,3,0.314,419.075,8.166#M,7,3,-0.785,413.046,7.117#M,7,3,0.785,413.046,7.117#M,7,3,-2.670,405.408,9.101#M,7,3,2.670,405.408,9.101#M,7,3,-0.942,411.993,6.945#M,7,3,0.942,411.993,6.945#M,7,3,-2.513,405.782,8.860#M,7,3,-0.157,419.470,8.351#M,7,3,0.157,419.470,8.351#M,7,3,2.513,405.782,8.860#M,7,3,-1.571,408.875,6.440#M,7,3,1.571,408.875,6.440#M,7,3,-2.985,405.254,9.681#M,7,3,-2.827,405.376,9.497#M,7,3,-2.356,406.407,8.151#M,7,3,2.356,406.407,8.151#M,7,3,2.827,405.376,9.497#M,7,3,2.985,405.254,9.681#M,7,3,-0.471,418.504,7.911#M,7,3,0.471,418.504,7.911#M,7,3,-1.257,410.252,6.715#M,7,3,1.257,410.252,6.715#M,7,3,-3.142,405.184,0.000#M,7,3,3.142,405.184,0.000#M,7,3,-1.414,409.414,6.530#M,7,3,1.414,409.414,6.530#M,7,3,-1.100,411.027,6.807#M,7,3,1.100,411.027,6.807#M,7,3,-0.628,417.473,7.389#M,7,3,0.628,417.473,7.389#M,7,3,-1.728,408.554,6.453#M,7,3,1.728,408.554,6.453#M,7,3,-2.042,407.427,7.034#M,7,3,2.042,407.427,7.034#M,7,4,0.000,419.620,0.000#M,7,4,-1.885,407.801,6.643#M,7,4,1.885,407.801,6.643#M,7,4,-2.199,406.957,7.574#M,7,4,2.199,406.957,7.574#M,7,4,-0.314,419.075,8.191#M,7,4,0.314,419.075,8.191#M,7,4,-0.785,413.051,7.141#M,7,4,0.785,413.051,7.141#M,7,4,-2.670,405.408,9.131#M,7,4,2.670,405.408,9.131#M,7,4,-0.942,411.993,6.969#M,7,4,0.942,411.993,6.969#M,7,4,-2.513,405.782,8.888#M,7,4,-0.157,419.470,8.375#M,7,4,0.157,419.470,8.375#M,7,4,2.513,405.782,8.888#M,7,4,-1.571,408.875,6.460#M,7,4,1.571,408.875,6.460#M,7,4,-2.985,405.254,9.713#M,7,4,-2.827,405.376,9.530#M,7,4,-2.356,406.418,8.174#M,7,4,2.356,406.418,8.174#M,7,4,2.827,405.376,9.530#M,7,4,2.985,405.254,9.713#M,7,4,-0.471,418.504,7.934#M,7,4,0.471,418.504,7.934#M,7,4,-1.257,410.247,6.734#M,7,4,1.257,410.247,6.734#M,7,4,-3.142,405.184,0.000#M,7,4,3.142,405.184,0.000#M,7,4,-1.414,409.414,6.551#M,7,4,1.414,409.414,6.551#M,7,4,-1.100,411.021,6.826#M,7,4,1.100,411.021,6.826#M,7,4,-0.628,417.467,7.410#M,7,4,0.628,417.467,7.410#M,7,4,-1.728,408.554,6.474#M,7,4,1.728,408.554,6.474#M,7,4,-2.042,407.422,7.058#M,7,4,2.042,407.422,7.058#M,8,0,0.000,413.654,0.000#M,8,0,-1.885,402.129,7.158#M,8,0,1.885,402.129,7.158#M,8,0,-2.199,401.318,7.659#M,8,0,2.199,401.318,7.659#M,8,0,-0.314,412.784,7.685#M,8,0,0.314,412.784,7.685#M,8,0,-0.785,408.768,6.806#M,8,0,0.785,408.768,6.806#M,8,0,-2.670,399.593,8.050#M,8,0,2.670,399.593,8.050#M,8,0,-0.942,406.824,6.425#M,8,0,0.942,406.824,6.425#M,8,0,-2.513,400.346,7.938#M,8,0,-0.157,413.430,7.762#M,8,0,0.157,413.430,7.762#M,8,0,2.513,400.346,7.938#M,8,0,-1.571,402.824,6.817#M,8,0,1.571,402.824,6.817#M,8,0,-2.985,397.734,9.130#M,8,0,-2.827,398.097,9.117#M,8,0,-2.356,400.837,7.859#M,8,0,2.356,400.837,7.859#M,8,0,2.827,398.097,9.117#M,8,0,2.985,397.734,9.130#M,8,0,-0.471,411.817,7.531#M,8,0,0.471,411.817,7.531#M,8,0,-1.257,404.202,6.623#M,8,0,1.257,404.202,6.623#M,8,0,-3.142,397.611,0.000#M,8,0,3.142,397.611,0.000#M,8,0,-1.414,403.374,6.695#M,8,0,1.414,403.374,6.695#M,8,0,-1.100,405.264,6.591#M,8,0,1.100,405.264,6.591#M,8,0,-0.628,410.637,7.327#M,8,0,0.628,410.637,7.327#M,8,0,-1.728,402.519,6.999#M,8,0,1.728,402.519,6.999#M,8,0,-2.042,401.761,7.405#M,8,0,2.042,401.761,7.405#M,8,1,0.000,413.654,0.000#M,8,1,-1.885,402.129,7.188#M,8,1,1.885,402.129,7.188#M,8,1,-2.199,401.318,7.692#M,8,1,2.199,401.318,7.692#M,8,1,-0.314,412.784,7.720#M,8,1,0.314,412.784,7.720#M,8,1,-0.785,408.773,6.836#M,8,1,0.785,408.773,6.836#M,8,1,-2.670,399.593,8.084#M,8,1,2.670,399.593,8.084#M,8,1,-0.942,406.829,6.454#M,8,1,0.942,406.829,6.454#M,8,1,-2.513,400.346,7.971#M,8,1,-0.157,413.430,7.795#M,8,1,0.157,413.430,7.795#M,8,1,2.513,400.346,7.971#M,8,1,-1.571,402.824,6.843#M,8,1,1.571,402.824,6.843#M,8,1,-2.985,397.734,9.170#M,8,1,-2.827,398.097,9.157#M,8,1,-2.356,400.842,7.894#M,8,1,2.356,400.842,7.894#M,8,1,2.827,398.097,9.157#M,8,1,2.985,397.734,9.170#M,8,1,-0.471,411.817,7.563#M,8,1,0.471,411.817,7.563#M,8,1,-1.257,404.202,6.649#M,8,1,1.257,404.202,6.649#M,8,1,-3.142,397.611,0.000#M,8,1,3.142,397.611,0.000#M,8,1,-1.414,403.374,")
-            .append("6.724#M,8,1,1.414,403.374,6.724#M,8,1,-1.100,405.264,6.618#M,8,1,1.100,405.264,6.618#M,8,1,-0.628,410.642,7.361#M,8,1,0.628,410.642,7.361#M,8,1,-1.728,402.519,7.027#M,8,1,1.728,402.519,7.027#M,8,1,-2.042,401.756,7.435#M,8,1,2.042,401.756,7.435#M,8,2,0.000,413.654,0.000#M,8,2,-1.885,402.129,7.215#M,8,2,1.885,402.129,7.215#M,8,2,-2.199,401.312,7.719#M,8,2,2.199,401.312,7.719#M,8,2,-0.314,412.784,7.744#M,8,2,0.314,412.784,7.744#M,8,2,-0.785,408.778,6.863#M,8,2,0.785,408.778,6.863#M,8,2,-2.670,399.593,8.113#M,8,2,2.670,399.593,8.113#M,8,2,-0.942,406.829,6.479#M,8,2,0.942,406.829,6.479#M,8,2,-2.513,400.346,7.998#M,8,2,-0.157,413.430,7.823#M,8,2,0.157,413.430,7.823#M,8,2,2.513,400.346,7.998#M,8,2,-1.571,402.824,6.869#M,8,2,1.571,402.824,6.869#M,8,2,-2.985,397.734,9.205#M,8,2,-2.827,398.097,9.191#M,8,2,-2.356,400.842,7.925#M,8,2,2.356,400.842,7.925#M,8,2,2.827,398.097,9.191#M,8,2,2.985,397.734,9.205#M,8,2,-0.471,411.817,7.591#M,8,2,0.471,411.817,7.591#M,8,2,-1.257,404.202,6.674#M,8,2,1.257,404.202,6.674#M,8,2,-3.142,397.611,0.000#M,8,2,3.142,397.611,0.000#M,8,2,-1.414,403.368,6.746#M,8,2,1.414,403.368,6.746#M,8,2,-1.100,405.270,6.644#M,8,2,1.100,405.270,6.644#M,8,2,-0.628,410.637,7.385#M,8,2,0.628,410.637,7.385#M,8,2,-1.728,402.519,7.053#M,8,2,1.728,402.519,7.053#M,8,2,-2.042,401.756,7.462#M,8,2,2.042,401.756,7.462#M,8,3,0.000,413.654,0.000#M,8,3,-1.885,402.135,7.241#M,8,3,1.885,402.135,7.241#M,8,3,-2.199,401.318,7.749#M,8,3,2.199,401.318,7.749#M,8,3,-0.314,412.784,7.771#M,8,3,0.314,412.784,7.771#M,8,3,-0.785,408.778,6.886#M,8,3,0.785,408.778,6.886#M,8,3,-2.670,399.593,8.141#M,8,3,2.670,399.593,8.141#M,8,3,-0.942,406.824,6.500#M,8,3,0.942,406.824,6.500#M,8,3,-2.513,400.340,8.027#M,8,3,-0.157,413.430,7.848#M,8,3,0.157,413.430,7.848#M,8,3,2.513,400.340,8.027#M,8,3,-1.571,402.824,6.894#M,8,3,1.571,402.824,6.894#M,8,3,-2.985,397.734,9.238#M,8,3,-2.827,398.097,9.225#M,8,3,-2.356,400.842,7.951#M,8,3,2.356,400.842,7.951#M,8,3,2.827,398.097,9.225#M,8,3,2.985,397.734,9.238#M,8,3,-0.471,411.817,7.614#M,8,3,0.471,411.817,7.614#M,8,3,-1.257,404.196,6.695#M,8,3,1.257,404.196,6.695#M,8,3,-3.142,397.611,0.000#M,8,3,3.142,397.611,0.000#M,8,3,-1.414,403.368,6.769#M,8,3,1.414,403.368,6.769#M,8,3,-1.100,405.264,6.664#M,8,3,1.100,405.264,6.664#M,8,3,-0.628,410.637,7.410#M,8,3,0.628,410.637,7.410#M,8,3,-1.728,402.514,7.075#M,8,3,1.728,402.514,7.075#M,8,3,-2.042,401.761,7.490#M,8,3,2.042,401.761,7.490#M,8,4,0.000,413.654,0.000#M,8,4,-1.885,402.129,7.262#M,8,4,1.885,402.129,7.262#M,8,4,-2.199,401.318,7.771#M,8,4,2.199,401.318,7.771#M,8,4,-0.314,412.784,7.797#M,8,4,0.314,412.784,7.797#M,8,4,-0.785,408.768,6.903#M,8,4,0.785,408.768,6.903#M,8,4,-2.670,399.593,8.167#M,8,4,2.670,399.593,8.167#M,8,4,-0.942,406.824,6.519#M,8,4,0.942,406.824,6.519#M,8,4,-2.513,400.340,8.054#M,8,4,-0.157,413.430,7.875#M,8,4,0.157,413.430,7.875#M,8,4,2.513,400.340,8.054#M,8,4,-1.571,402.824,6.915#M,8,4,1.571,402.824,6.915#M,8,4,-2.985,397.734,9.268#M,8,4,-2.827,398.097,9.253#M,8,4,-2.356,400.842,7.974#M,8,4,2.356,400.842,7.974#M,8,4,2.827,398.097,9.253#M,8,4,2.985,397.734,9.268#M,8,4,-0.471,411.817,7.639#M,8,4,0.471,411.817,7.639#M,8,4,-1.257,404.207,6.720#M,8,4,1.257,404.207,6.720#M,8,4,-3.142,397.611,0.000#M,8,4,3.142,397.611,0.000#M,8,4,-1.414,403.374,6.791#M,8,4,1.414,403.374,6.791#M,8,4,-1.100,405.264,6.685#M,8,4,1.100,405.264,6.685#M,8,4,-0.628,410.642,7.435#M,8,4,0.628,410.642,7.435#M,8,4,-1.728,402.514,7.099#M,8,4,1.728,402.514,7.099#M,8,4,-2.042,401.761,7.513#M,8,4,2.042,401.761,7.513#M,9,0,0.000,410.220,0.000#M,9,0,-1.885,374.220,6.905#M,9,0,1.885,374.220,6.905#M,9,0,-2.199,380.105,7.389#M,9,0,2.199,380.105,7.389#M,9,0,-0.314,408.949,7.562#M,9,0,0.314,408.949,7.562#M,9,0,-0.785,402.380,7.642#M,9,0,0.785,402.380,7.642#M,9,0,-2.670,394.076,8.461#M,9,0,2.670,394.076,8.461#M,9,0,-0.942,381.152,7.204#M,9,0,0.942,381.152,7.204#M,9,0,-2.513,394.962,8.450#M,9,0,-0.157,409.943,7.859#M,9,0,0.157,409.943,7.859#M,9,0,2.513,394.962,8.450#M,9,0,-1.571,374.225,6.530#M,9,0,1.571,374.225,6.530#M,9,0,-2.985,393.355,8.961#M,9,0,-2.827,393.718,8.818#M,9,0,-2.356,395.598,8.109#M,9,0,2.356,395.598,8.109#M,9,0,2.827,393.718,8.818#M,9,0,2.985,393.355,8.961#M,9,0,-0.471,406.610,7.482#M,9,0,0.471,406.610,7.482#M,9,0,-1.257,379.624,6.471#M,9,0,1.257,379.624,6.471#M,9,0,-3.142,393.200,0.000#M,9,0,3.142,393.200,0.000#M,9,0,-1.414,379.352,6.381#M,9,0,1.414,379.352,6.381#M,9,0,-1.100,380.094,6.672#M,9,0,1.100,380.094,6.672#M,9,0,-0.628,404.581,7.651#M,9,0,0.628,404.581,7.651#M,9,0,-1.728,374.107,6.685#M,9,0,1.728,374.107,6.685#M,9,0,-2.042,374.572,7.163#M,9,0,2.042,374.572,7.163#M,9,1,0.000,410.220,0.000#M,9,1,-1.885,374.220,6.934#M,9,1,1.885,374.220,6.934#M,9,1,-2.199,380.099,7.419#M,9,1,2.199,380.099,7.419#M,9,1,-0.314,408.949,7.591#M,9,1,0.314,408.949,7.591#M,9,1,-0.785,402.396,7.671#M,9,1,0.785,402.396,7.671#M,9,1,-2.670,394.076,8.497#M,9,1,2.670,394.076,8.497#M,9,1,-0.942,381.146,7.232#M,9,1,0.942,381.146,7.232#M,9,1,-2.513,394.962,8.485#M,9,1,-0.157,409.943,7.891#M,9,1,0.157,409.943,7.891#M,9,1,2.513,394.962,8.485#M,9,1,-1.571,374.220,6.558#M,9,1,1.571,374.220,6.558#M,9,1,-2.985,393.355,9.000#M,9,1,-2.827,393.718,8.854#M,9,1,-2.356,395.592,8.142#M,9,1,2.356,395.592,8.142#M,9,1,2.827,393.718,8.854#M,9,1,2.985,393.355,9.000#M,9,1,-0.471,406.615,7.511#M,9,1,0.471,406.615,7.511#M,9,1,-1.257,379.619,6.495#M,9,1,1.257,379.619,6.495#M,9,1,-3.142,393.200,0.000#M,9,1,3.142,393.200,0.000#M,9,1,-1.414,379.357,6.406#M,9,1,1.414,379.357,6.406#M,9,1,-1.100,380.094,6.699#M,9,1,1.100,380.094,6.699#M,9,1,-0.628,404.586,7.683#M,9,1,0.628,404.586,7.683#M,9,1,-1.728,374.113,6.712#M,9,1,1.728,374.113,6.712#M,9,1,-2.042,374.561,7.194#M,9,1,2.042,374.561,7.194#M,9,2,0.000,410.220,0.000#M,9,2,-1.885,374.220,6.961#M,9,2,1.885,374.220,6.961#M,9,2,-2.199,380.105,7.448#M,9,2,2.199,380.105,7.448#M,9,2,-0.314,408.949,7.618#M,9,2,0.314,408.949,7.618#M,9,2,-0.785,402.396,7.699#M,9,2,0.785,402.396,7.699#M,9,2,-2.670,394.076,8.530#M,9,2,2.670,394.076,8.530#M,9,2,-0.942,381.152,7.261#M,9,2,0.942,381.152,7.261#M,9,2,-2.513,394.962,8.517#M,9,2,-0.157,409.943,7.921#M,9,2,0.157,409.943,7.921#M,9,2,2.513,394.962,8.517#M,9,2,-1.571,374.214,6.582#M,9,2,1.571,374.214,6.582#M,9,2,-2.985,393.355,9.032#M,9,2,-2.827,393.718,8.888#M,9,2,-2.356,395.598,8.174#M,9,2,2.356,395.598,8.174#M,9,2,2.827,393.718,8.888#M,9,2,2.985,393.355,9.032#M,9,2,-0.471,406.615,7.538#M,9,2,0.471,406.615,7.538#M,9,2,-1.257,379.624,6.523#M,9,2,1.257,379.624,6.523#M,9,2,-3.142,393.200,0.000#M,9,2,3.142,393.200,0.000#M,9,2,-1.414,379.346,6.433#M,9,2,1.414,379.346,6.433#M,9,2,-1.100,380.094,6.723#M,9,2,1.100,380.094,6.723#M,9,2,-0.628,404.586,7.710#M,9,2,0.628,404.586,7.710#M,9,2,-1.728,374.113,6.738#M,9,2,1.728,374.113,6.738#M,9,2,-2.042,374.572,7.220#M,9,2,2.042,374.572,7.220#M,9,3,0.000,410.220,0.000#M,9,3,-1.885,374.220,6.984#M,9,3,1.885,374.220,6.984#M,9,3,-2.199,380.099,7.474#M,9,3,2.199,380.099,7.474#M,9,3,-0.314,408.949,7.644#M,9,3,0.314,408.949,7.644#M,9,3,-0.785,402.391,7.726#M,9,3,0.785,402.391,7.726#M,9,3,-2.670,394.076,8.560#M,9,3,2.670,394.076,8.560#M,9,3,-0.942,381.141,7.280#M,9,3,0.942,381.141,7.280#M,9,3,-2.513,394.962,8.547#M,9,3,-0.157,409.937,7.945#M,9,3,0.157,409.937,7.945#M,9,3,2.513,394.962,8.547#M,9,3,-1.571,374.220,6.604#M,9,3,1.571,374.220,6.604#M,9,3,-2.985,393.355,9.064#M,9,3,-2.827,393.718,8.921#M,9,3,-2.356,395.598,8.202#M,9,3,2.356,395.598,8.202#M,9,3,2.827,393.718,8.921#M,9,3,2.985,393.355,9.064#M,9,3,-0.471,406.610,7.565#M,9,3,0.471,406.610,7.565#M,9,3,-1.257,379.619,6.543#M,9,3,1.257,379.619,6.543#M,9,3,-3.142,393.200,0.000#M,9,3,3.142,393.200,0.000#M,9,3,-1.414,379.352,6.453#M,9,3,1.414,379.352,6.453#M,9,3,-1.100,380.089,6.746#M,9,3,1.100,380.089,6.746#M,9,3,-0.628,404.591,7.735#M,9,3,0.628,404.591,7.735#M,9,3,-1.728,374.113,6.759#M,9,3,1.728,374.113,6.759#M,9,3,-2.042,374.561,7.246#M,9,3,2.042,374.561,7.246#M,9,4,0.000,410.220,0.000#M,9,4,-1.885,374.225,7.004#M,9,4,1.885,374.225,7.004#M,9,4,-2.199,380.094,7.498#M,9,4,2.199,380.094,7.498#M,9,4,-0.314,408.949,7.666#M,9,4,0.314,408.949,7.666#M,9,4,-0.785,402.396,7.749#M,9,4,0.785,402.396,7.749#M,9,4,-2.670,394.076,8.589#M,9,4,2.670,394.076,8.589#M,9,4,-0.942,381.146,7.304#M,9,4,0.942,381.146,7.304#M,9,4,-2.513,394.962,8.575#M,9,4,-0.157,409.943,7.971#M,9,4,0.157,409.943,7.971#M,9,4,2.513,394.962,8.575#M,9,4,-1.571,374.209,6.626#M,9,4,1.571,374.209,6.626#M,9,4,-2.985,393.355,9.092#M,9,4,-2.827,393.718,8.949#M,9,4,-2.356,395.592,8.228#M,9,4,2.356,395.592,8.228#M,9,4,2.827,393.718,8.949#M,9,4,2.985,393.355,9.092#M,9,4,-0.471,406.610,7.588#M,9,4,0.471,406.610,7.588#M,9,4,-1.257,379.624,6.564#M,9,4,1.257,379.624,6.564#M,9,4,-3.142,393.200,0.000#M,9,4,3.142,393.200,0.000#M,9,4,-1.414,379.346,6.474#M,9,4,1.414,379.346,6.474#M,9,4,-1.100,380.089,6.766#M,9,4,1.100,380.089,6.766#M,9,4,-0.628,404.586,7.760#M,9,4,0.628,404.586,7.760#M,9,4,-1.728,374.118,6.780#M,9,4,1.728,374.118,6.780#M,9,4,-2.042,374.567,7.267#M,9,4,2.042,374.567,7.267#M,10,0,0.000,382.081,0.000#M,10,0,-1.885,370.065,6.689#M,10,0,1.885,370.065,6.689#M,10,0,-2.199,368.922,7.488#M,10,0,2.199,368.922,7.488#M,10,0,-0.314,381.333,8.003#M,10,0,0.314,381.333,8.003#M,10,0,-0.785,374.609,6.897#M,10,0,0.785,374.609,6.897#M,10,0,-2.670,368.478,9.277#M,10,0,2.670,368.478,9.277#M,10,0,-0.942,373.450,6.791#M,10,0,0.942,373.450,6.791#M,10,0,-2.513,368.708,8.606#M,10,0,-0.157,381.931,8.283#M,10,0,0.157,381.931,8.283#M,10,0,2.513,368.708,8.606#M,10,0,-1.571,370.305,6.440#M,10,0,1.571,370.305,6.440#M,10,0,-2.985,367.923,10.925#M,10,0,-2.827,368.083,10.229#M,10,0,-2.356,368.831,8.023#M,10,0,2.356,368.831,8.023#M,10,0,2.827,368.083,10.229#M,10,0,2.985,367.923,10.925#M,10,0,-0.471,380.553,7.802#M,10,0,0.471,380.553,7.802#M,10,0,-1.257,371.640,6.671#M,10,0,1.257,371.640,6.671#M,10,0,-3.142,367.918,0.000#M,10,0,3.142,367.918,0.000#M,10,0,-1.414,370.796,6.503#M,10,0,1.414,370.796,6.503#M,10,0,-1.100,372.430,6.712#M,10,0,1.100,372.430,6.712#M,10,0,-0.628,379.646,7.548#M,10,0,0.628,379.646,7.548#M,10,0,-1.728,370.123,6.516#M,10,0,1.728,370.12")
-            .append("3,6.516#M,10,0,-2.042,369.034,6.999#M,10,0,2.042,369.034,6.999#M,10,1,0.000,382.081,0.000#M,10,1,-1.885,370.059,6.715#M,10,1,1.885,370.059,6.715#M,10,1,-2.199,368.927,7.519#M,10,1,2.199,368.927,7.519#M,10,1,-0.314,381.333,8.035#M,10,1,0.314,381.333,8.035#M,10,1,-0.785,374.609,6.926#M,10,1,0.785,374.609,6.926#M,10,1,-2.670,368.478,9.316#M,10,1,2.670,368.478,9.316#M,10,1,-0.942,373.450,6.817#M,10,1,0.942,373.450,6.817#M,10,1,-2.513,368.708,8.642#M,10,1,-0.157,381.931,8.318#M,10,1,0.157,381.931,8.318#M,10,1,2.513,368.708,8.642#M,10,1,-1.571,370.305,6.467#M,10,1,1.571,370.305,6.467#M,10,1,-2.985,367.923,10.974#M,10,1,-2.827,368.083,10.272#M,10,1,-2.356,368.831,8.058#M,10,1,2.356,368.831,8.058#M,10,1,2.827,368.083,10.272#M,10,1,2.985,367.923,10.974#M,10,1,-0.471,380.553,7.834#M,10,1,0.471,380.553,7.834#M,10,1,-1.257,371.635,6.698#M,10,1,1.257,371.635,6.698#M,10,1,-3.142,367.918,0.000#M,10,1,3.142,367.918,0.000#M,10,1,-1.414,370.796,6.529#M,10,1,1.414,370.796,6.529#M,10,1,-1.100,372.430,6.741#M,10,1,1.100,372.430,6.741#M,10,1,-0.628,379.640,7.576#M,10,1,0.628,379.640,7.576#M,10,1,-1.728,370.123,6.543#M,10,1,1.728,370.123,6.543#M,10,1,-2.042,369.034,7.027#M,10,1,2.042,369.034,7.027#M,10,2,0.000,382.081,0.000#M,10,2,-1.885,370.059,6.741#M,10,2,1.885,370.059,6.741#M,10,2,-2.199,368.922,7.548#M,10,2,2.199,368.922,7.548#M,10,2,-0.314,381.333,8.063#M,10,2,0.314,381.333,8.063#M,10,2,-0.785,374.609,6.952#M,10,2,0.785,374.609,6.952#M,10,2,-2.670,368.484,9.350#M,10,2,2.670,368.484,9.350#M,10,2,-0.942,373.450,6.843#M,10,2,0.942,373.450,6.843#M,10,2,-2.513,368.703,8.674#M,10,2,-0.157,381.931,8.350#M,10,2,0.157,381.931,8.350#M,10,2,2.513,368.703,8.674#M,10,2,-1.571,370.305,6.491#M,10,2,1.571,370.305,6.491#M,10,2,-2.985,367.923,11.017#M,10,2,-2.827,368.083,10.311#M,10,2,-2.356,368.831,8.089#M,10,2,2.356,368.831,8.089#M,10,2,2.827,368.083,10.311#M,10,2,2.985,367.923,11.017#M,10,2,-0.471,380.553,7.863#M,10,2,0.471,380.553,7.863#M,10,2,-1.257,371.635,6.723#M,10,2,1.257,371.635,6.723#M,10,2,-3.142,367.918,0.000#M,10,2,3.142,367.918,0.000#M,10,2,-1.414,370.791,6.553#M,10,2,1.414,370.791,6.553#M,10,2,-1.100,372.430,6.766#M,10,2,1.100,372.430,6.766#M,10,2,-0.628,379.646,7.607#M,10,2,0.628,379.646,7.607#M,10,2,-1.728,370.123,6.567#M,10,2,1.728,370.123,6.567#M,10,2,-2.042,369.028,7.055#M,10,2,2.042,369.028,7.055#M,10,3,0.000,382.081,0.000#M,10,3,-1.885,370.059,6.764#M,10,3,1.885,370.059,6.764#M,10,3,-2.199,368.922,7.574#M,10,3,2.199,368.922,7.574#M,10,3,-0.314,381.333,8.093#M,10,3,0.314,381.333,8.093#M,10,3,-0.785,374.609,6.973#M,10,3,0.785,374.609,6.973#M,10,3,-2.670,368.484,9.383#M,10,3,2.670,368.484,9.383#M,10,3,-0.942,373.450,6.867#M,10,3,0.942,373.450,6.867#M,10,3,-2.513,368.708,8.704#M,10,3,-0.157,381.931,8.375#M,10,3,0.157,381.931,8.375#M,10,3,2.513,368.708,8.704#M,10,3,-1.571,370.294,6.510#M,10,3,1.571,370.294,6.510#M,10,3,-2.985,367.923,11.055#M,10,3,-2.827,368.089,10.346#M,10,3,-2.356,368.831,8.116#M,10,3,2.356,368.831,8.116#M,10,3,2.827,368.089,10.346#M,10,3,2.985,367.923,11.055#M,10,3,-0.471,380.553,7.889#M,10,3,0.471,380.553,7.889#M,10,3,-1.257,371.635,6.746#M,10,3,1.257,371.635,6.746#M,10,3,-3.142,367.918,0.000#M,10,3,3.142,367.918,0.000#M,10,3,-1.414,370.786,6.573#M,10,3,1.414,370.786,6.573#M,10,3,-1.100,372.430,6.789#M,10,3,1.100,372.430,6.789#M,10,3,-0.628,379.646,7.631#M,10,3,0.628,379.646,7.631#M,10,3,-1.728,370.118,6.589#M,10,3,1.728,370.118,6.589#M,10,3,-2.042,369.034,7.078#M,10,3,2.042,369.034,7.078#M,10,4,0.000,382.081,0.000#M,10,4,-1.885,370.065,6.786#M,10,4,1.885,370.065,6.786#M,10,4,-2.199,368.927,7.596#M,10,4,2.199,368.927,7.596#M,10,4,-0.314,381.333,8.117#M,10,4,0.314,381.333,8.117#M,10,4,-0.785,374.609,6.995#M,10,4,0.785,374.609,6.995#M,10,4,-2.670,368.478,9.415#M,10,4,2.670,368.478,9.415#M,10,4,-0.942,373.450,6.888#M,10,4,0.942,373.450,6.888#M,10,4,-2.513,368.708,8.732#M,10,4,-0.157,381.931,8.402#M,10,4,0.157,381.931,8.402#M,10,4,2.513,368.708,8.732#M,10,4,-1.571,370.310,6.535#M,10,4,1.571,370.310,6.535#M,10,4,-2.985,367.923,11.091#M,10,4,-2.827,368.083,10.380#M,10,4,-2.356,368.826,8.144#M,10,4,2.356,368.826,8.144#M,10,4,2.827,368.083,10.380#M,10,4,2.985,367.923,11.091#M,10,4,-0.471,380.553,7.913#M,10,4,0.471,380.553,7.913#M,10,4,-1.257,371.635,6.766#M,10,4,1.257,371.635,6.766#M,10,4,-3.142,367.918,0.000#M,10,4,3.142,367.918,0.000#M,10,4,-1.414,370.802,6.600#M,10,4,1.414,370.802,6.600#M,10,4,-1.100,372.430,6.810#M,10,4,1.100,372.430,6.810#M,10,4,-0.628,379.646,7.656#M,10,4,0.628,379.646,7.656#M,10,4,-1.728,370.123,6.610#M,10,4,1.728,370.123,6.610#M,10,4,-2.042,369.034,7.101#M,10,4,2.042,369.034,7.101#F,0,0,0.000,508.001,0.000#F,0,0,-1.885,499.029,8.461#F,0,0,1.885,499.029,8.461#F,0,0,-2.199,496.711,8.293#F,0,0,2.199,496.711,8.293#F,0,0,-0.314,507.990,1.929#F,0,0,0.314,507.990,1.929#F,0,0,-0.785,506.650,6.289#F,0,0,0.785,506.650,6.289#F,0,0,-2.670,494.532,6.124#F,0,0,2.670,494.532,6.124#F,0,0,-0.942,505.859,6.719#F,0,0,0.942,505.859,6.719#F,0,0,-2.513,495.071,6.888#F,0,0,-0.157,508.001,0.000#F,0,0,0.157,508.001,0.000#F,0,0,2.513,495.071,6.888#F,0,0,-1.571,501.534,7.896#F,0,0,1.571,501.534,7.896#F,0,0,-2.985,493.945,6.126#F,0,0,-2.827,494.169,6.122#F,0,0,-2.356,495.798,7.684#F,0,0,2.356,495.798,7.684#F,0,0,2.827,494.169,6.122#F,0,0,2.985,493.945,6.126#F,0,0,-0.471,507.745,4.513#F,0,0,0.471,507.745,4.513#F,0,0,-1.257,503.878,7.351#F,0,0,1.257,503.878,7.351#F,0,0,-3.142,493.870,0.000#F,0,0,3.142,493.870,0.000#F,0,0,-1.414,502.735,7.617#F,0,0,1.414,502.735,7.617#F,0,0,-1.100,504.930,7.060#F,0,0,1.100,504.930,7.060#F,0,0,-0.628,507.275,5.678#F,0,0,0.628,507.275,5.678#F,0,0,-1.728,500.311,8.298#F,0,0,1.728,500.311,8.298#F,0,0,-2.042,497.790,8.451#F,0,0,2.042,497.790,8.451#F,0,1,0.000,533.000,0.000#F,0,1,-1.885,524.028,8.450#F,0,1,1.885,524.028,8.450#F,0,1,-2.199,521.705,8.290#F,0,1,2.199,521.705,8.290#F,0,1,-0.314,532.957,2.955#F,0,1,0.314,532.957,2.955#F,0,1,-0.785,531.649,6.289#F,0,1,0.785,531.649,6.289#F,0,1,-2.670,519.531,6.124#F,0,1,2.670,519.531,6.124#F,0,1,-0.942,530.859,6.719#F,0,1,0.942,530.859,6.719#F,0,1,-2.513,520.071,6.888#F,0,1,-0.157,533.000,0.000#F,0,1,0.157,533.000,0.000#F,0,1,2.513,520.071,6.888#F,0,1,-1.571,526.517,7.864#F,0,1,1.571,526.517,7.864#F,0,1,-2.985,518.944,6.126#F,0,1,-2.827,519.168,6.127#F,0,1,-2.356,520.797,7.684#F,0,1,2.356,520.797,7.684#F,0,1,2.827,519.168,6.127#F,0,1,2.985,518.944,6.126#F,0,1,-0.471,532.706,4.767#F,0,1,0.471,532.706,4.767#F,0,1,-1.257,528.877,7.353#F,0,1,1.257,528.877,7.353#F,0,1,-3.142,518.869,0.000#F,0,1,3.142,518.869,0.000#F,0,1,-1.414,527.734,7.615#F,0,1,1.414,527.734,7.615#F,0,1,-1.100,529.929,7.060#F,0,1,1.100,529.929,7.060#F,0,1,-0.628,532.269,5.692#F,0,1,0.628,532.269,5.692#F,0,1,-1.728,525.272,8.123#F,0,1,1.728,525.272,8.123#F,0,1,-2.042,522.789,8.432#F,0,1,2.042,522.789,8.432#F,0,2,0.000,541.470,0.000#F,0,2,-1.885,528.824,7.353#F,0,2,1.885,528.824,7.353#F,0,2,-2.199,527.387,8.256#F,0,2,2.199,527.387,8.256#F,0,2,-0.314,540.888,9.057#F,0,2,0.314,540.888,9.057#F,0,2,-0.785,534.784,7.908#F,0,2,0.785,534.784,7.908#F,0,2,-2.670,525.224,9.398#F,0,2,2.670,525.224,9.398#F,0,2,-0.942,533.390,7.678#F,0,2,0.942,533.390,7.678#F,0,2,-2.513,525.822,9.253#F,0,2,-0.157,541.310,9.280#F,0,2,0.157,541.310,9.280#F,0,2,2.513,525.822,9.253#F,0,2,-1.571,529.187,7.064#F,0,2,1.571,529.187,7.064#F,0,2,-2.985,524.605,9.752#F,0,2,-2.827,524.861,9.600#F,0,2,-2.356,526.266,8.907#F,0,2,2.356,526.266,8.907#F,0,2,2.827,524.861,9.600#F,0,2,2.985,524.605,9.752#F,0,2,-0.471,540.210,8.779#F,0,2,0.471,540.210,8.779#F,0,2,-1.257,530.949,7.331#F,0,2,1.257,530.949,7.331#F,0,2,-3.142,524.482,0.000#F,0,2,3.142,524.482,0.000#F,0,2,-1.414,529.684,7.092#F,0,2,1.414,529.684,7.092#F,0,2,-1.100,532.055,7.478#F,0,2,1.100,532.055,7.478#F,0,2,-0.628,536.295,8.037#F,0,2,0.628,536.295,8.037#F,0,2,-1.728,529.016,7.163#F,0,2,1.728,529.016,7.163#F,0,2,-2.042,528.439,7.662#F,0,2,2.042,528.439,7.662#F,0,3,0.000,541.470,0.000#F,0,3,-1.885,528.835,7.377#F,0,3,1.885,528.835,7.377#F,0,3,-2.199,527.393,8.278#F,0,3,2.199,527.393,8.278#F,0,3,-0.314,540.894,9.085#F,0,3,0.314,540.894,9.085#F,0,3,-0.785,534.779,7.928#F,0,3,0.785,534.779,7.928#F,0,3,-2.670,525.224,9.425#F,0,3,2.670,525.224,9.425#F,0,3,-0.942,533.385,7.699#F,0,3,0.942,533.385,7.699#F,0,3,-2.513,525.817,9.280#F,0,3,-0.157,541.310,9.305#F,0,3,0.157,541.310,9.305#F,0,3,2.513,525.817,9.280#F,0,3,-1.571,529.182,7.085#F,0,3,1.571,529.182,7.085#F,0,3,-2.985,524.605,9.782#F,0,3,-2.827,524.866,9.632#F,0,3,-2.356,526.260,8.934#F,0,3,2.356,526.260,8.934#F,0,3,2.827,524.866,9.632#F,0,3,2.985,524.605,9.782#F,0,3,-0.471,540.215,8.806#F,0,3,0.471,540.215,8.806#F,0,3,-1.257,530.949,7.353#F,0,3,1.257,530.949,7.353#F,0,3,-3.142,524.482,0.000#F,0,3,3.142,524.482,0.000#F,0,3,-1.414,529.678,7.112#F,0,3,1.414,529.678,7.112#F,0,3,-1.100,532.060,7.501#F,0,3,1.100,532.060,7.501#F,0,3,-0.628,536.295,8.061#F,0,3,0.628,536.295,8.061#F,0,3,-1.728,529.021,7.186#F,0,3,1.728,529.021,7.186#F,0,3,-2.042,528.439,7.685#F,0,3,2.042,528.439,7.685#F,0,4,0.000,541.470,0.000#F,0,4,-1.885,528.829,7.396#F,0,4,1.885,528.829,7.396#F,0,4,-2.199,527.393,8.302#F,0,4,2.199,527.393,8.302#F,0,4,-0.314,540.888,9.105#F,0,4,0.314,540.888,9.105#F,0,4,-0.785,534.779,7.951#F,0,4,0.785,534.779,7.951#F,0,4,-2.670,525.219,9.449#F,0,4,2.670,525.219,9.449#F,0,4,-0.942,533.390,7.720#F,0,4,0.942,533.390,7.720#F,0,4,-2.513,525.817,9.305#F,0,4,-0.157,541.310,9.329#F,0,4,0.157,541.310,9.329#F,0,4,2.513,525.817,9.305#F,0,4,-1.571,529.182,7.104#F,0,4,1.571,529.182,7.104#F,0,4,-2.985,524.605,9.810#F,0,4,-2.827,524.866,9.661#F,0,4,-2.356,526.260,8.957#F,0,4,2.356,526.260,8.957#F,0,4,2.827,524.866,9.661#F,0,4,2.985,524.605,9.810#F,0,4,-0.471,540.215,8.830#F,0,4,0.471,540.215,8.830#F,0,4,-1.257,530.949,7.373#F,0,4,1.257,530.949,7.373#F,0,4,-3.142,524.482,0.000#F,0,4,3.142,524.482,0.000#F,0,4,-1.414,529.684,7.132#F,0,4,1.414,529.684,7.132#F,0,4,-1.100,532.060,7.522#F,0,4,1.100,532.060,7.522#F,0,4,-0.628,536.301,8.081#F,0,4,0.628,536.301,8.081#F,0,4,-1.728,529.016,7.204#F,0,4,1.728,529.016,7.204#F,0,4,-2.042,528.445,7.705#F,0,4,2.0")
-            .append("42,528.445,7.705#F,1,0,0.000,505.902,0.000#F,1,0,-1.885,495.605,7.979#F,1,0,1.885,495.605,7.979#F,1,0,-2.199,493.998,8.444#F,1,0,2.199,493.998,8.444#F,1,0,-0.314,505.566,6.312#F,1,0,0.314,505.566,6.312#F,1,0,-0.785,502.468,7.471#F,1,0,0.785,502.468,7.471#F,1,0,-2.670,490.676,9.072#F,1,0,2.670,490.676,9.072#F,1,0,-0.942,500.567,7.332#F,1,0,0.942,500.567,7.332#F,1,0,-2.513,491.824,8.942#F,1,0,-0.157,505.897,3.174#F,1,0,0.157,505.897,3.174#F,1,0,2.513,491.824,8.942#F,1,0,-1.571,496.193,7.440#F,1,0,1.571,496.193,7.440#F,1,0,-2.985,489.699,8.608#F,1,0,-2.827,490.035,8.926#F,1,0,-2.356,492.941,8.708#F,1,0,2.356,492.941,8.708#F,1,0,2.827,490.035,8.926#F,1,0,2.985,489.699,8.608#F,1,0,-0.471,504.898,7.205#F,1,0,0.471,504.898,7.205#F,1,0,-1.257,497.453,7.241#F,1,0,1.257,497.453,7.241#F,1,0,-3.142,489.512,0.000#F,1,0,3.142,489.512,0.000#F,1,0,-1.414,496.684,7.316#F,1,0,1.414,496.684,7.316#F,1,0,-1.100,498.671,7.232#F,1,0,1.100,498.671,7.232#F,1,0,-0.628,503.937,7.427#F,1,0,0.628,503.937,7.427#F,1,0,-1.728,495.942,7.632#F,1,0,1.728,495.942,7.632#F,1,0,-2.042,494.906,8.196#F,1,0,2.042,494.906,8.196#F,1,1,0.000,516.087,0.000#F,1,1,-1.885,498.997,7.656#F,1,1,1.885,498.997,7.656#F,1,1,-2.199,499.461,8.470#F,1,1,2.199,499.461,8.470#F,1,1,-0.314,515.862,9.027#F,1,1,0.314,515.862,9.027#F,1,1,-0.785,507.510,8.086#F,1,1,0.785,507.510,8.086#F,1,1,-2.670,500.081,9.199#F,1,1,2.670,500.081,9.199#F,1,1,-0.942,506.388,7.718#F,1,1,0.942,506.388,7.718#F,1,1,-2.513,499.910,9.089#F,1,1,-0.157,516.033,9.291#F,1,1,0.157,516.033,9.291#F,1,1,2.513,499.910,9.089#F,1,1,-1.571,499.023,7.258#F,1,1,1.571,499.023,7.258#F,1,1,-2.985,494.997,9.282#F,1,1,-2.827,500.300,9.131#F,1,1,-2.356,499.755,8.864#F,1,1,2.356,499.755,8.864#F,1,1,2.827,500.300,9.131#F,1,1,2.985,494.997,9.282#F,1,1,-0.471,509.630,8.934#F,1,1,0.471,509.630,8.934#F,1,1,-1.257,499.905,7.296#F,1,1,1.257,499.905,7.296#F,1,1,-3.142,494.398,0.000#F,1,1,3.142,494.398,0.000#F,1,1,-1.414,499.306,7.238#F,1,1,1.414,499.306,7.238#F,1,1,-1.100,500.818,7.408#F,1,1,1.100,500.818,7.408#F,1,1,-0.628,508.508,8.407#F,1,1,0.628,508.508,8.407#F,1,1,-1.728,498.954,7.385#F,1,1,1.728,498.954,7.385#F,1,1,-2.042,499.152,8.030#F,1,1,2.042,499.152,8.030#F,1,2,0.000,516.087,0.000#F,1,2,-1.885,498.997,7.680#F,1,2,1.885,498.997,7.680#F,1,2,-2.199,499.461,8.499#F,1,2,2.199,499.461,8.499#F,1,2,-0.314,515.862,9.057#F,1,2,0.314,515.862,9.057#F,1,2,-0.785,507.510,8.113#F,1,2,0.785,507.510,8.113#F,1,2,-2.670,500.086,9.231#F,1,2,2.670,500.086,9.231#F,1,2,-0.942,506.377,7.740#F,1,2,0.942,506.377,7.740#F,1,2,-2.513,499.905,9.117#F,1,2,-0.157,516.033,9.322#F,1,2,0.157,516.033,9.322#F,1,2,2.513,499.905,9.117#F,1,2,-1.571,499.023,7.280#F,1,2,1.571,499.023,7.280#F,1,2,-2.985,494.997,9.312#F,1,2,-2.827,500.300,9.162#F,1,2,-2.356,499.755,8.892#F,1,2,2.356,499.755,8.892#F,1,2,2.827,500.300,9.162#F,1,2,2.985,494.997,9.312#F,1,2,-0.471,509.624,8.957#F,1,2,0.471,509.624,8.957#F,1,2,-1.257,499.905,7.318#F,1,2,1.257,499.905,7.318#F,1,2,-3.142,494.398,0.000#F,1,2,3.142,494.398,0.000#F,1,2,-1.414,499.306,7.262#F,1,2,1.414,499.306,7.262#F,1,2,-1.100,500.823,7.435#F,1,2,1.100,500.823,7.435#F,1,2,-0.628,508.508,8.432#F,1,2,0.628,508.508,8.432#F,1,2,-1.728,498.959,7.410#F,1,2,1.728,498.959,7.410#F,1,2,-2.042,499.152,8.057#F,1,2,2.042,499.152,8.057#F,1,3,0.000,516.087,0.000#F,1,3,-1.885,498.997,7.703#F,1,3,1.885,498.997,7.703#F,1,3,-2.199,499.467,8.527#F,1,3,2.199,499.467,8.527#F,1,3,-0.314,515.862,9.081#F,1,3,0.314,515.862,9.081#F,1,3,-0.785,507.504,8.134#F,1,3,0.785,507.504,8.134#F,1,3,-2.670,500.081,9.257#F,1,3,2.670,500.081,9.257#F,1,3,-0.942,506.377,7.762#F,1,3,0.942,506.377,7.762#F,1,3,-2.513,499.910,9.146#F,1,3,-0.157,516.033,9.351#F,1,3,0.157,516.033,9.351#F,1,3,2.513,499.910,9.146#F,1,3,-1.571,499.018,7.301#F,1,3,1.571,499.018,7.301#F,1,3,-2.985,495.002,9.337#F,1,3,-2.827,500.294,9.184#F,1,3,-2.356,499.760,8.920#F,1,3,2.356,499.760,8.920#F,1,3,2.827,500.294,9.184#F,1,3,2.985,495.002,9.337#F,1,3,-0.471,509.630,8.989#F,1,3,0.471,509.630,8.989#F,1,3,-1.257,499.899,7.339#F,1,3,1.257,499.899,7.339#F,1,3,-3.142,494.398,0.000#F,1,3,3.142,494.398,0.000#F,1,3,-1.414,499.306,7.284#F,1,3,1.414,499.306,7.284#F,1,3,-1.100,500.818,7.453#F,1,3,1.100,500.818,7.453#F,1,3,-0.628,508.508,8.456#F,1,3,0.628,508.508,8.456#F,1,3,-1.728,498.954,7.430#F,1,3,1.728,498.954,7.430#F,1,3,-2.042,499.152,8.081#F,1,3,2.042,499.152,8.081#F,1,4,0.000,516.087,0.000#F,1,4,-1.885,498.997,7.724#F,1,4,1.885,498.997,7.724#F,1,4,-2.199,499.461,8.547#F,1,4,2.199,499.461,8.547#F,1,4,-0.314,515.862,9.105#F,1,4,0.314,515.862,9.105#F,1,4,-0.785,507.510,8.159#F,1,4,0.785,507.510,8.159#F,1,4,-2.670,500.081,9.282#F,1,4,2.670,500.081,9.282#F,1,4,-0.942,506.383,7.784#F,1,4,0.942,506.383,7.784#F,1,4,-2.513,499.910,9.170#F,1,4,-0.157,516.033,9.375#F,1,4,0.157,516.033,9.375#F,1,4,2.513,499.910,9.170#F,1,4,-1.571,499.023,7.321#F,1,4,1.571,499.023,7.321#F,1,4,-2.985,495.002,9.360#F,1,4,-2.827,500.294,9.208#F,1,4,-2.356,499.755,8.944#F,1,4,2.356,499.755,8.944#F,1,4,2.827,500.294,9.208#F,1,4,2.985,495.002,9.360#F,1,4,-0.471,509.630,9.010#F,1,4,0.471,509.630,9.010#F,1,4,-1.257,499.905,7.361#F,1,4,1.257,499.905,7.361#F,1,4,-3.142,494.398,0.000#F,1,4,3.142,494.398,0.000#F,1,4,-1.414,499.312,7.305#F,1,4,1.414,499.312,7.305#F,1,4,-1.100,500.818,7.473#F,1,4,1.100,500.818,7.473#F,1,4,-0.628,508.514,8.482#F,1,4,0.628,508.514,8.482#F,1,4,-1.728,498.954,7.451#F,1,4,1.728,498.954,7.451#F,1,4,-2.042,499.157,8.104#F,1,4,2.042,499.157,8.104#F,2,0,0.000,502.655,0.000#F,2,0,-1.885,488.118,7.513#F,2,0,1.885,488.118,7.513#F,2,0,-2.199,487.926,8.746#F,2,0,2.199,487.926,8.746#F,2,0,-0.314,501.181,7.843#F,2,0,0.314,501.181,7.843#F,2,0,-0.785,496.124,7.451#F,2,0,0.785,496.124,7.451#F,2,0,-2.670,485.052,9.107#F,2,0,2.670,485.052,9.107#F,2,0,-0.942,494.249,7.442#F,2,0,0.942,494.249,7.442#F,2,0,-2.513,486.030,9.139#F,2,0,-0.157,502.281,7.903#F,2,0,0.157,502.281,7.903#F,2,0,2.513,486.030,9.139#F,2,0,-1.571,474.500,7.125#F,2,0,1.571,474.500,7.125#F,2,0,-2.985,483.520,9.079#F,2,0,-2.827,484.273,8.858#F,2,0,-2.356,487.045,9.016#F,2,0,2.356,487.045,9.016#F,2,0,2.827,484.273,8.858#F,2,0,2.985,483.520,9.079#F,2,0,-0.471,499.696,7.548#F,2,0,0.471,499.696,7.548#F,2,0,-1.257,491.285,7.324#F,2,0,1.257,491.285,7.324#F,2,0,-3.142,483.231,0.000#F,2,0,3.142,483.231,0.000#F,2,0,-1.414,474.612,7.199#F,2,0,1.414,474.612,7.199#F,2,0,-1.100,492.609,7.398#F,2,0,1.100,492.609,7.398#F,2,0,-0.628,497.966,7.421#F,2,0,0.628,497.966,7.421#F,2,0,-1.728,474.612,7.234#F,2,0,1.728,474.612,7.234#F,2,0,-2.042,487.990,8.019#F,2,0,2.042,487.990,8.019#F,2,1,0.000,505.293,0.000#F,2,1,-1.885,488.535,7.538#F,2,1,1.885,488.535,7.538#F,2,1,-2.199,488.689,8.653#F,2,1,2.199,488.689,8.653#F,2,1,-0.314,501.993,8.522#F,2,1,0.314,501.993,8.522#F,2,1,-0.785,497.202,7.880#F,2,1,0.785,497.202,7.880#F,2,1,-2.670,486.719,9.157#F,2,1,2.670,486.719,9.157#F,2,1,-0.942,494.249,7.467#F,2,1,0.942,494.249,7.467#F,2,1,-2.513,487.392,9.147#F,2,1,-0.157,504.829,9.205#F,2,1,0.157,504.829,9.205#F,2,1,2.513,487.392,9.147#F,2,1,-1.571,474.500,7.152#F,2,1,1.571,474.500,7.152#F,2,1,-2.985,484.566,10.072#F,2,1,-2.827,486.073,8.803#F,2,1,-2.356,488.054,8.952#F,2,1,2.356,488.054,8.952#F,2,1,2.827,486.073,8.803#F,2,1,2.985,484.566,10.072#F,2,1,-0.471,500.679,8.357#F,2,1,0.471,500.679,8.357#F,2,1,-1.257,491.242,7.353#F,2,1,1.257,491.242,7.353#F,2,1,-3.142,484.390,0.000#F,2,1,3.142,484.390,0.000#F,2,1,-1.414,474.596,7.220#F,2,1,1.414,474.596,7.220#F,2,1,-1.100,492.593,7.427#F,2,1,1.100,492.593,7.427#F,2,1,-0.628,499.055,8.123#F,2,1,0.628,499.055,8.123#F,2,1,-1.728,474.612,7.261#F,2,1,1.728,474.612,7.261#F,2,1,-2.042,488.609,8.044#F,2,1,2.042,488.609,8.044#F,2,2,0.000,505.293,0.000#F,2,2,-1.885,488.535,7.563#F,2,2,1.885,488.535,7.563#F,2,2,-2.199,488.689,8.683#F,2,2,2.199,488.689,8.683#F,2,2,-0.314,501.993,8.550#F,2,2,0.314,501.993,8.550#F,2,2,-0.785,497.197,7.903#F,2,2,0.785,497.197,7.903#F,2,2,-2.670,486.713,9.186#F,2,2,2.670,486.713,9.186#F,2,2,-0.942,494.249,7.491#F,2,2,0.942,494.249,7.491#F,2,2,-2.513,487.392,9.179#F,2,2,-0.157,504.834,9.238#F,2,2,0.157,504.834,9.238#F,2,2,2.513,487.392,9.179#F,2,2,-1.571,474.500,7.175#F,2,2,1.571,474.500,7.175#F,2,2,-2.985,484.566,10.102#F,2,2,-2.827,486.073,8.832#F,2,2,-2.356,488.054,8.981#F,2,2,2.356,488.054,8.981#F,2,2,2.827,486.073,8.832#F,2,2,2.985,484.566,10.102#F,2,2,-0.471,500.679,8.384#F,2,2,0.471,500.679,8.384#F,2,2,-1.257,491.264,7.377#F,2,2,1.257,491.264,7.377#F,2,2,-3.142,484.390,0.000#F,2,2,3.142,484.390,0.000#F,2,2,-1.414,474.612,7.250#F,2,2,1.414,474.612,7.250#F,2,2,-1.100,492.604,7.451#F,2,2,1.100,492.604,7.451#F,2,2,-0.628,499.055,8.151#F,2,2,0.628,499.055,8.151#F,2,2,-1.728,474.606,7.283#F,2,2,1.728,474.606,7.283#F,2,2,-2.042,488.609,8.070#F,2,2,2.042,488.609,8.070#F,2,3,0.000,505.293,0.000#F,2,3,-1.885,488.545,7.588#F,2,3,1.885,488.545,7.588#F,2,3,-2.199,488.689,8.708#F,2,3,2.199,488.689,8.708#F,2,3,-0.314,501.993,8.575#F,2,3,0.314,501.993,8.575#F,2,3,-0.785,497.202,7.928#F,2,3,0.785,497.202,7.928#F,2,3,-2.670,486.713,9.212#F,2,3,2.670,486.713,9.212#F,2,3,-0.942,494.249,7.513#F,2,3,0.942,494.249,7.513#F,2,3,-2.513,487.392,9.205#F,2,3,-0.157,504.829,9.262#F,2,3,0.157,504.829,9.262#F,2,3,2.513,487.392,9.205#F,2,3,-1.571,474.500,7.196#F,2,3,1.571,474.500,7.196#F,2,3,-2.985,484.566,10.132#F,2,3,-2.827,486.073,8.860#F,2,3,-2.356,488.059,9.010#F,2,3,2.356,488.059,9.010#F,2,3,2.827,486.073,8.860#F,2,3,2.985,484.566,10.132#F,2,3,-0.471,500.674,8.408#F,2,3,0.471,500.674,8.408#F,2,3,-1.257,491.242,7.398#F,2,3,1.257,491.242,7.398#F,2,3,-3.142,484.390,0.000#F,2,3,3.142,484.390,0.000#F,2,3,-1.414,474.612,7.270#F,2,3,1.414,474.612,7.270#F,2,3,-1.100,492.604,7.473#F,2,3,1.100,492.604,7.473#F,2,3,-0.628,499.055,8.174#F,2,3,0.628,499.055,8.174#F,2,3,-1.728,474.606,7.305#F,2,3,1.728,474.606,7.305#F,2,3,-2.042,488.615,8.096#F,2,3,2.042,488.615,8.096#F,2,4,0.000,505.293,0.000#F,2,4,-1.885,488.540,7.607#F,2,4,1.885,488.540,7.607#F,2,4,-2.199,488.684,8.731#F,2,4,2.199,488.684,8.731#F,2,4,-0.314,501.993,8.600#F,2,4,0.314,501.993,8.600#F,2,4,-0.785,497.2")
-            .append("02,7.949#F,2,4,0.785,497.202,7.949#F,2,4,-2.670,486.713,9.238#F,2,4,2.670,486.713,9.238#F,2,4,-0.942,494.254,7.533#F,2,4,0.942,494.254,7.533#F,2,4,-2.513,487.392,9.231#F,2,4,-0.157,504.834,9.291#F,2,4,0.157,504.834,9.291#F,2,4,2.513,487.392,9.231#F,2,4,-1.571,474.500,7.215#F,2,4,1.571,474.500,7.215#F,2,4,-2.985,484.566,10.161#F,2,4,-2.827,486.073,8.882#F,2,4,-2.356,488.054,9.032#F,2,4,2.356,488.054,9.032#F,2,4,2.827,486.073,8.882#F,2,4,2.985,484.566,10.161#F,2,4,-0.471,500.674,8.430#F,2,4,0.471,500.674,8.430#F,2,4,-1.257,491.264,7.419#F,2,4,1.257,491.264,7.419#F,2,4,-3.142,484.390,0.000#F,2,4,3.142,484.390,0.000#F,2,4,-1.414,474.601,7.287#F,2,4,1.414,474.601,7.287#F,2,4,-1.100,492.609,7.491#F,2,4,1.100,492.609,7.491#F,2,4,-0.628,499.055,8.194#F,2,4,0.628,499.055,8.194#F,2,4,-1.728,474.606,7.323#F,2,4,1.728,474.606,7.323#F,2,4,-2.042,488.609,8.116#F,2,4,2.042,488.609,8.116#F,3,0,0.000,481.287,0.000#F,3,0,-1.885,461.687,7.448#F,3,0,1.885,461.687,7.448#F,3,0,-2.199,462.013,8.065#F,3,0,2.199,462.013,8.065#F,3,0,-0.314,475.156,9.117#F,3,0,0.314,475.156,9.117#F,3,0,-0.785,470.681,7.718#F,3,0,0.785,470.681,7.718#F,3,0,-2.670,460.443,9.878#F,3,0,2.670,460.443,9.878#F,3,0,-0.942,465.933,7.529#F,3,0,0.942,465.933,7.529#F,3,0,-2.513,460.870,9.188#F,3,0,-0.157,481.143,9.718#F,3,0,0.157,481.143,9.718#F,3,0,2.513,460.870,9.188#F,3,0,-1.571,461.992,7.156#F,3,0,1.571,461.992,7.156#F,3,0,-2.985,459.407,11.635#F,3,0,-2.827,459.824,10.784#F,3,0,-2.356,461.191,8.564#F,3,0,2.356,461.191,8.564#F,3,0,2.827,459.824,10.784#F,3,0,2.985,459.407,11.635#F,3,0,-0.471,474.088,8.798#F,3,0,0.471,474.088,8.798#F,3,0,-1.257,463.445,7.313#F,3,0,1.257,463.445,7.313#F,3,0,-3.142,459.359,0.000#F,3,0,3.142,459.359,0.000#F,3,0,-1.414,462.611,7.227#F,3,0,1.414,462.611,7.227#F,3,0,-1.100,464.534,7.396#F,3,0,1.100,464.534,7.396#F,3,0,-0.628,472.871,8.482#F,3,0,0.628,472.871,8.482#F,3,0,-1.728,461.794,7.243#F,3,0,1.728,461.794,7.243#F,3,0,-2.042,461.730,7.735#F,3,0,2.042,461.730,7.735#F,3,1,0.000,481.287,0.000#F,3,1,-1.885,461.682,7.473#F,3,1,1.885,461.682,7.473#F,3,1,-2.199,462.019,8.096#F,3,1,2.199,462.019,8.096#F,3,1,-0.314,475.156,9.148#F,3,1,0.314,475.156,9.148#F,3,1,-0.785,470.681,7.745#F,3,1,0.785,470.681,7.745#F,3,1,-2.670,460.438,9.914#F,3,1,2.670,460.438,9.914#F,3,1,-0.942,465.928,7.554#F,3,1,0.942,465.928,7.554#F,3,1,-2.513,460.870,9.222#F,3,1,-0.157,481.143,9.752#F,3,1,0.157,481.143,9.752#F,3,1,2.513,460.870,9.222#F,3,1,-1.571,461.992,7.181#F,3,1,1.571,461.992,7.181#F,3,1,-2.985,459.402,11.676#F,3,1,-2.827,459.824,10.824#F,3,1,-2.356,461.185,8.596#F,3,1,2.356,461.185,8.596#F,3,1,2.827,459.824,10.824#F,3,1,2.985,459.402,11.676#F,3,1,-0.471,474.094,8.830#F,3,1,0.471,474.094,8.830#F,3,1,-1.257,463.439,7.335#F,3,1,1.257,463.439,7.335#F,3,1,-3.142,459.359,0.000#F,3,1,3.142,459.359,0.000#F,3,1,-1.414,462.611,7.253#F,3,1,1.414,462.611,7.253#F,3,1,-1.100,464.529,7.421#F,3,1,1.100,464.529,7.421#F,3,1,-0.628,472.865,8.511#F,3,1,0.628,472.865,8.511#F,3,1,-1.728,461.794,7.270#F,3,1,1.728,461.794,7.270#F,3,1,-2.042,461.730,7.762#F,3,1,2.042,461.730,7.762#F,3,2,0.000,481.287,0.000#F,3,2,-1.885,461.698,7.503#F,3,2,1.885,461.698,7.503#F,3,2,-2.199,462.019,8.123#F,3,2,2.199,462.019,8.123#F,3,2,-0.314,475.156,9.179#F,3,2,0.314,475.156,9.179#F,3,2,-0.785,470.692,7.775#F,3,2,0.785,470.692,7.775#F,3,2,-2.670,460.443,9.946#F,3,2,2.670,460.443,9.946#F,3,2,-0.942,465.933,7.579#F,3,2,0.942,465.933,7.579#F,3,2,-2.513,460.865,9.253#F,3,2,-0.157,481.143,9.782#F,3,2,0.157,481.143,9.782#F,3,2,2.513,460.865,9.253#F,3,2,-1.571,461.992,7.204#F,3,2,1.571,461.992,7.204#F,3,2,-2.985,459.407,11.717#F,3,2,-2.827,459.818,10.861#F,3,2,-2.356,461.185,8.625#F,3,2,2.356,461.185,8.625#F,3,2,2.827,459.818,10.861#F,3,2,2.985,459.407,11.717#F,3,2,-0.471,474.094,8.858#F,3,2,0.471,474.094,8.858#F,3,2,-1.257,463.439,7.361#F,3,2,1.257,463.439,7.361#F,3,2,-3.142,459.359,0.000#F,3,2,3.142,459.359,0.000#F,3,2,-1.414,462.611,7.278#F,3,2,1.414,462.611,7.278#F,3,2,-1.100,464.534,7.448#F,3,2,1.100,464.534,7.448#F,3,2,-0.628,472.865,8.537#F,3,2,0.628,472.865,8.537#F,3,2,-1.728,461.789,7.291#F,3,2,1.728,461.789,7.291#F,3,2,-2.042,461.741,7.790#F,3,2,2.042,461.741,7.790#F,3,3,0.000,481.287,0.000#F,3,3,-1.885,461.698,7.524#F,3,3,1.885,461.698,7.524#F,3,3,-2.199,462.019,8.147#F,3,3,2.199,462.019,8.147#F,3,3,-0.314,475.156,9.205#F,3,3,0.314,475.156,9.205#F,3,3,-0.785,470.686,7.795#F,3,3,0.785,470.686,7.795#F,3,3,-2.670,460.443,9.974#F,3,3,2.670,460.443,9.974#F,3,3,-0.942,465.928,7.600#F,3,3,0.942,465.928,7.600#F,3,3,-2.513,460.876,9.280#F,3,3,-0.157,481.143,9.810#F,3,3,0.157,481.143,9.810#F,3,3,2.513,460.876,9.280#F,3,3,-1.571,461.997,7.227#F,3,3,1.571,461.997,7.227#F,3,3,-2.985,459.407,11.751#F,3,3,-2.827,459.818,10.894#F,3,3,-2.356,461.191,8.649#F,3,3,2.356,461.191,8.649#F,3,3,2.827,459.818,10.894#F,3,3,2.985,459.407,11.751#F,3,3,-0.471,474.088,8.882#F,3,3,0.471,474.088,8.882#F,3,3,-1.257,463.445,7.382#F,3,3,1.257,463.445,7.382#F,3,3,-3.142,459.359,0.000#F,3,3,3.142,459.359,0.000#F,3,3,-1.414,462.611,7.299#F,3,3,1.414,462.611,7.299#F,3,3,-1.100,464.529,7.467#F,3,3,1.100,464.529,7.467#F,3,3,-0.628,472.871,8.565#F,3,3,0.628,472.871,8.565#F,3,3,-1.728,461.800,7.316#F,3,3,1.728,461.800,7.316#F,3,3,-2.042,461.730,7.811#F,3,3,2.042,461.730,7.811#F,3,4,0.000,481.287,0.000#F,3,4,-1.885,461.687,7.543#F,3,4,1.885,461.687,7.543#F,3,4,-2.199,462.019,8.170#F,3,4,2.199,462.019,8.170#F,3,4,-0.314,475.156,9.227#F,3,4,0.314,475.156,9.227#F,3,4,-0.785,470.681,7.813#F,3,4,0.785,470.681,7.813#F,3,4,-2.670,460.443,10.003#F,3,4,2.670,460.443,10.003#F,3,4,-0.942,465.933,7.622#F,3,4,0.942,465.933,7.622#F,3,4,-2.513,460.870,9.305#F,3,4,-0.157,481.138,9.835#F,3,4,0.157,481.138,9.835#F,3,4,2.513,460.870,9.305#F,3,4,-1.571,462.008,7.250#F,3,4,1.571,462.008,7.250#F,3,4,-2.985,459.402,11.781#F,3,4,-2.827,459.818,10.924#F,3,4,-2.356,461.185,8.674#F,3,4,2.356,461.185,8.674#F,3,4,2.827,459.818,10.924#F,3,4,2.985,459.402,11.781#F,3,4,-0.471,474.088,8.906#F,3,4,0.471,474.088,8.906#F,3,4,-1.257,463.445,7.403#F,3,4,1.257,463.445,7.403#F,3,4,-3.142,459.359,0.000#F,3,4,3.142,459.359,0.000#F,3,4,-1.414,462.611,7.318#F,3,4,1.414,462.611,7.318#F,3,4,-1.100,464.539,7.490#F,3,4,1.100,464.539,7.490#F,3,4,-0.628,472.865,8.585#F,3,4,0.628,472.865,8.585#F,3,4,-1.728,461.794,7.335#F,3,4,1.728,461.794,7.335#F,3,4,-2.042,461.725,7.832#F,3,4,2.042,461.725,7.832#F,4,0,0.000,471.210,0.000#F,4,0,-1.885,439.401,7.261#F,4,0,1.885,439.401,7.261#F,4,0,-2.199,452.144,8.511#F,4,0,2.199,452.144,8.511#F,4,0,-0.314,467.413,8.172#F,4,0,0.314,467.413,8.172#F,4,0,-0.785,459.856,7.767#F,4,0,0.785,459.856,7.767#F,4,0,-2.670,451.898,9.762#F,4,0,2.670,451.898,9.762#F,4,0,-0.942,457.693,7.749#F,4,0,0.942,457.693,7.749#F,4,0,-2.513,452.363,9.672#F,4,0,-0.157,470.489,8.763#F,4,0,0.157,470.489,8.763#F,4,0,2.513,452.363,9.672#F,4,0,-1.571,439.054,6.995#F,4,0,1.571,439.054,6.995#F,4,0,-2.985,449.703,11.059#F,4,0,-2.827,450.616,10.431#F,4,0,-2.356,452.801,9.375#F,4,0,2.356,452.801,9.375#F,4,0,2.827,450.616,10.431#F,4,0,2.985,449.703,11.059#F,4,0,-0.471,465.848,8.109#F,4,0,0.471,465.848,8.109#F,4,0,-1.257,439.407,7.188#F,4,0,1.257,439.407,7.188#F,4,0,-3.142,449.516,0.000#F,4,0,3.142,449.516,0.000#F,4,0,-1.414,439.118,7.042#F,4,0,1.414,439.118,7.042#F,4,0,-1.100,440.437,7.645#F,4,0,1.100,440.437,7.645#F,4,0,-0.628,463.888,7.958#F,4,0,0.628,463.888,7.958#F,4,0,-1.728,439.118,7.075#F,4,0,1.728,439.118,7.075#F,4,0,-2.042,440.437,7.767#F,4,0,2.042,440.437,7.767#F,4,1,0.000,471.210,0.000#F,4,1,-1.885,439.407,7.287#F,4,1,1.885,439.407,7.287#F,4,1,-2.199,452.133,8.539#F,4,1,2.199,452.133,8.539#F,4,1,-0.314,467.413,8.199#F,4,1,0.314,467.413,8.199#F,4,1,-0.785,459.856,7.795#F,4,1,0.785,459.856,7.795#F,4,1,-2.670,451.898,9.795#F,4,1,2.670,451.898,9.795#F,4,1,-0.942,457.698,7.775#F,4,1,0.942,457.698,7.775#F,4,1,-2.513,452.363,9.707#F,4,1,-0.157,470.489,8.794#F,4,1,0.157,470.489,8.794#F,4,1,2.513,452.363,9.707#F,4,1,-1.571,439.054,7.021#F,4,1,1.571,439.054,7.021#F,4,1,-2.985,449.703,11.101#F,4,1,-2.827,450.622,10.467#F,4,1,-2.356,452.795,9.407#F,4,1,2.356,452.795,9.407#F,4,1,2.827,450.622,10.467#F,4,1,2.985,449.703,11.101#F,4,1,-0.471,465.848,8.137#F,4,1,0.471,465.848,8.137#F,4,1,-1.257,439.401,7.213#F,4,1,1.257,439.401,7.213#F,4,1,-3.142,449.516,0.000#F,4,1,3.142,449.516,0.000#F,4,1,-1.414,439.113,7.063#F,4,1,1.414,439.113,7.063#F,4,1,-1.100,440.437,7.674#F,4,1,1.100,440.437,7.674#F,4,1,-0.628,463.893,7.989#F,4,1,0.628,463.893,7.989#F,4,1,-1.728,439.118,7.101#F,4,1,1.728,439.118,7.101#F,4,1,-2.042,440.437,7.797#F,4,1,2.042,440.437,7.797#F,4,2,0.000,471.210,0.000#F,4,2,-1.885,439.407,7.311#F,4,2,1.885,439.407,7.311#F,4,2,-2.199,452.149,8.571#F,4,2,2.199,452.149,8.571#F,4,2,-0.314,467.413,8.228#F,4,2,0.314,467.413,8.228#F,4,2,-0.785,459.856,7.820#F,4,2,0.785,459.856,7.820#F,4,2,-2.670,451.898,9.829#F,4,2,2.670,451.898,9.829#F,4,2,-0.942,457.687,7.802#F,4,2,0.942,457.687,7.802#F,4,2,-2.513,452.363,9.738#F,4,2,-0.157,470.483,8.814#F,4,2,0.157,470.483,8.814#F,4,2,2.513,452.363,9.738#F,4,2,-1.571,439.054,7.044#F,4,2,1.571,439.054,7.044#F,4,2,-2.985,449.703,11.136#F,4,2,-2.827,450.616,10.506#F,4,2,-2.356,452.801,9.441#F,4,2,2.356,452.801,9.441#F,4,2,2.827,450.616,10.506#F,4,2,2.985,449.703,11.136#F,4,2,-0.471,465.848,8.164#F,4,2,0.471,465.848,8.164#F,4,2,-1.257,439.407,7.238#F,4,2,1.257,439.407,7.238#F,4,2,-3.142,449.516,0.000#F,4,2,3.142,449.516,0.000#F,4,2,-1.414,439.113,7.087#F,4,2,1.414,439.113,7.087#F,4,2,-1.100,440.443,7.699#F,4,2,1.100,440.443,7.699#F,4,2,-0.628,463.893,8.014#F,4,2,0.628,463.893,8.014#F,4,2,-1.728,439.118,7.125#F,4,2,1.728,439.118,7.125#F,4,2,-2.042,440.437,7.823#F,4,2,2.042,440.437,7.823#F,4,3,0.000,471.210,0.000#F,4,3,-1.885,439.401,7.332#F,4,3,1.885,439.401,7.332#F,4,3,-2.199,452.149,8.597#F,4,3,2.199,452.149,8.597#F,4,3,-0.314,467.413,8.250#F,4,3,0.314,467.413,8.250#F,4,3,-0.785,459.861,7.843#F,4,3,0.785,459.861,7.843#F,4,3,-2.670,451.898,9.857#F,4,3,2.670,451.898,9.857#F,4,3,-0.942,457.693,7.825#F,4,3,0.942,457.693,7.825#F,4,3,-2.513,452.363,9.767#F,4,3,-0.157,470.489,8")
-            .append(".845#F,4,3,0.157,470.489,8.845#F,4,3,2.513,452.363,9.767#F,4,3,-1.571,439.054,7.063#F,4,3,1.571,439.054,7.063#F,4,3,-2.985,449.703,11.169#F,4,3,-2.827,450.622,10.536#F,4,3,-2.356,452.795,9.468#F,4,3,2.356,452.795,9.468#F,4,3,2.827,450.622,10.536#F,4,3,2.985,449.703,11.169#F,4,3,-0.471,465.848,8.190#F,4,3,0.471,465.848,8.190#F,4,3,-1.257,439.401,7.256#F,4,3,1.257,439.401,7.256#F,4,3,-3.142,449.516,0.000#F,4,3,3.142,449.516,0.000#F,4,3,-1.414,439.118,7.110#F,4,3,1.414,439.118,7.110#F,4,3,-1.100,440.443,7.721#F,4,3,1.100,440.443,7.721#F,4,3,-0.628,463.888,8.037#F,4,3,0.628,463.888,8.037#F,4,3,-1.728,439.118,7.145#F,4,3,1.728,439.118,7.145#F,4,3,-2.042,440.443,7.846#F,4,3,2.042,440.443,7.846#F,4,4,0.000,471.210,0.000#F,4,4,-1.885,439.401,7.353#F,4,4,1.885,439.401,7.353#F,4,4,-2.199,452.144,8.619#F,4,4,2.199,452.144,8.619#F,4,4,-0.314,467.413,8.272#F,4,4,0.314,467.413,8.272#F,4,4,-0.785,459.861,7.863#F,4,4,0.785,459.861,7.863#F,4,4,-2.670,451.898,9.887#F,4,4,2.670,451.898,9.887#F,4,4,-0.942,457.693,7.844#F,4,4,0.942,457.693,7.844#F,4,4,-2.513,452.363,9.795#F,4,4,-0.157,470.489,8.871#F,4,4,0.157,470.489,8.871#F,4,4,2.513,452.363,9.795#F,4,4,-1.571,439.054,7.085#F,4,4,1.571,439.054,7.085#F,4,4,-2.985,449.703,11.201#F,4,4,-2.827,450.616,10.566#F,4,4,-2.356,452.795,9.493#F,4,4,2.356,452.795,9.493#F,4,4,2.827,450.616,10.566#F,4,4,2.985,449.703,11.201#F,4,4,-0.471,465.848,8.210#F,4,4,0.471,465.848,8.210#F,4,4,-1.257,439.401,7.278#F,4,4,1.257,439.401,7.278#F,4,4,-3.142,449.516,0.000#F,4,4,3.142,449.516,0.000#F,4,4,-1.414,439.118,7.129#F,4,4,1.414,439.118,7.129#F,4,4,-1.100,440.437,7.742#F,4,4,1.100,440.437,7.742#F,4,4,-0.628,463.893,8.059#F,4,4,0.628,463.893,8.059#F,4,4,-1.728,439.113,7.163#F,4,4,1.728,439.113,7.163#F,4,4,-2.042,440.443,7.868#F,4,4,2.042,440.443,7.868#F,6,0,0.000,414.130,0.000#F,6,0,-1.885,418.253,7.506#F,6,0,1.885,418.253,7.506#F,6,0,-2.199,416.474,7.813#F,6,0,2.199,416.474,7.813#F,6,0,-0.314,427.711,8.327#F,6,0,0.314,427.711,8.327#F,6,0,-0.785,424.864,7.828#F,6,0,0.785,424.864,7.828#F,6,0,-2.670,412.928,8.070#F,6,0,2.670,412.928,8.070#F,6,0,-0.942,423.572,7.687#F,6,0,0.942,423.572,7.687#F,6,0,-2.513,413.980,7.970#F,6,0,-0.157,414.162,8.161#F,6,0,0.157,414.162,8.161#F,6,0,2.513,413.980,7.970#F,6,0,-1.571,406.087,7.224#F,6,0,1.571,406.087,7.224#F,6,0,-2.985,400.260,8.388#F,6,0,-2.827,412.212,8.191#F,6,0,-2.356,415.240,7.885#F,6,0,2.356,415.240,7.885#F,6,0,2.827,412.212,8.191#F,6,0,2.985,400.260,8.388#F,6,0,-0.471,427.032,8.148#F,6,0,0.471,427.032,8.148#F,6,0,-1.257,420.885,7.419#F,6,0,1.257,420.885,7.419#F,6,0,-3.142,399.908,0.000#F,6,0,3.142,399.908,0.000#F,6,0,-1.414,406.151,7.273#F,6,0,1.414,406.151,7.273#F,6,0,-1.100,422.349,7.555#F,6,0,1.100,422.349,7.555#F,6,0,-0.628,426.050,7.982#F,6,0,0.628,426.050,7.982#F,6,0,-1.728,406.156,7.316#F,6,0,1.728,406.156,7.316#F,6,0,-2.042,417.617,7.724#F,6,0,2.042,417.617,7.724#F,6,1,0.000,414.130,0.000#F,6,1,-1.885,418.253,7.533#F,6,1,1.885,418.253,7.533#F,6,1,-2.199,416.463,7.842#F,6,1,2.199,416.463,7.842#F,6,1,-0.314,427.716,8.357#F,6,1,0.314,427.716,8.357#F,6,1,-0.785,424.864,7.857#F,6,1,0.785,424.864,7.857#F,6,1,-2.670,412.933,8.096#F,6,1,2.670,412.933,8.096#F,6,1,-0.942,423.582,7.716#F,6,1,0.942,423.582,7.716#F,6,1,-2.513,413.980,7.998#F,6,1,-0.157,414.162,8.190#F,6,1,0.157,414.162,8.190#F,6,1,2.513,413.980,7.998#F,6,1,-1.571,406.097,7.253#F,6,1,1.571,406.097,7.253#F,6,1,-2.985,400.255,8.426#F,6,1,-2.827,412.212,8.220#F,6,1,-2.356,415.240,7.913#F,6,1,2.356,415.240,7.913#F,6,1,2.827,412.212,8.220#F,6,1,2.985,400.255,8.426#F,6,1,-0.471,427.027,8.174#F,6,1,0.471,427.027,8.174#F,6,1,-1.257,420.891,7.446#F,6,1,1.257,420.891,7.446#F,6,1,-3.142,399.908,0.000#F,6,1,3.142,399.908,0.000#F,6,1,-1.414,406.156,7.301#F,6,1,1.414,406.156,7.301#F,6,1,-1.100,422.343,7.584#F,6,1,1.100,422.343,7.584#F,6,1,-0.628,426.055,8.006#F,6,1,0.628,426.055,8.006#F,6,1,-1.728,406.156,7.342#F,6,1,1.728,406.156,7.342#F,6,1,-2.042,417.617,7.751#F,6,1,2.042,417.617,7.751#F,6,2,0.000,414.130,0.000#F,6,2,-1.885,418.253,7.557#F,6,2,1.885,418.253,7.557#F,6,2,-2.199,416.474,7.871#F,6,2,2.199,416.474,7.871#F,6,2,-0.314,427.711,8.383#F,6,2,0.314,427.711,8.383#F,6,2,-0.785,424.864,7.882#F,6,2,0.785,424.864,7.882#F,6,2,-2.670,412.928,8.124#F,6,2,2.670,412.928,8.124#F,6,2,-0.942,423.577,7.740#F,6,2,0.942,423.577,7.740#F,6,2,-2.513,413.969,8.027#F,6,2,-0.157,414.162,8.217#F,6,2,0.157,414.162,8.217#F,6,2,2.513,413.969,8.027#F,6,2,-1.571,406.087,7.273#F,6,2,1.571,406.087,7.273#F,6,2,-2.985,400.260,8.448#F,6,2,-2.827,412.218,8.247#F,6,2,-2.356,415.235,7.941#F,6,2,2.356,415.235,7.941#F,6,2,2.827,412.218,8.247#F,6,2,2.985,400.260,8.448#F,6,2,-0.471,427.032,8.199#F,6,2,0.471,427.032,8.199#F,6,2,-1.257,420.928,7.471#F,6,2,1.257,420.928,7.471#F,6,2,-3.142,399.908,0.000#F,6,2,3.142,399.908,0.000#F,6,2,-1.414,406.151,7.323#F,6,2,1.414,406.151,7.323#F,6,2,-1.100,422.349,7.607#F,6,2,1.100,422.349,7.607#F,6,2,-0.628,426.050,8.035#F,6,2,0.628,426.050,8.035#F,6,2,-1.728,406.156,7.366#F,6,2,1.728,406.156,7.366#F,6,2,-2.042,417.617,7.775#F,6,2,2.042,417.617,7.775#F,6,3,0.000,414.130,0.000#F,6,3,-1.885,418.247,7.579#F,6,3,1.885,418.247,7.579#F,6,3,-2.199,416.474,7.894#F,6,3,2.199,416.474,7.894#F,6,3,-0.314,427.711,8.407#F,6,3,0.314,427.711,8.407#F,6,3,-0.785,424.864,7.903#F,6,3,0.785,424.864,7.903#F,6,3,-2.670,412.933,8.147#F,6,3,2.670,412.933,8.147#F,6,3,-0.942,423.577,7.762#F,6,3,0.942,423.577,7.762#F,6,3,-2.513,413.969,8.052#F,6,3,-0.157,414.162,8.241#F,6,3,0.157,414.162,8.241#F,6,3,2.513,413.969,8.052#F,6,3,-1.571,406.087,7.295#F,6,3,1.571,406.087,7.295#F,6,3,-2.985,400.255,8.480#F,6,3,-2.827,412.218,8.270#F,6,3,-2.356,415.240,7.966#F,6,3,2.356,415.240,7.966#F,6,3,2.827,412.218,8.270#F,6,3,2.985,400.255,8.480#F,6,3,-0.471,427.027,8.223#F,6,3,0.471,427.027,8.223#F,6,3,-1.257,420.827,7.489#F,6,3,1.257,420.827,7.489#F,6,3,-3.142,399.908,0.000#F,6,3,3.142,399.908,0.000#F,6,3,-1.414,406.156,7.347#F,6,3,1.414,406.156,7.347#F,6,3,-1.100,422.354,7.629#F,6,3,1.100,422.354,7.629#F,6,3,-0.628,426.050,8.057#F,6,3,0.628,426.050,8.057#F,6,3,-1.728,406.151,7.386#F,6,3,1.728,406.151,7.386#F,6,3,-2.042,417.617,7.800#F,6,3,2.042,417.617,7.800#F,6,4,0.000,414.130,0.000#F,6,4,-1.885,418.247,7.600#F,6,4,1.885,418.247,7.600#F,6,4,-2.199,416.469,7.913#F,6,4,2.199,416.469,7.913#F,6,4,-0.314,427.711,8.430#F,6,4,0.314,427.711,8.430#F,6,4,-0.785,424.870,7.924#F,6,4,0.785,424.870,7.924#F,6,4,-2.670,412.928,8.172#F,6,4,2.670,412.928,8.172#F,6,4,-0.942,423.572,7.783#F,6,4,0.942,423.572,7.783#F,6,4,-2.513,413.975,8.075#F,6,4,-0.157,414.162,8.261#F,6,4,0.157,414.162,8.261#F,6,4,2.513,413.975,8.075#F,6,4,-1.571,406.097,7.318#F,6,4,1.571,406.097,7.318#F,6,4,-2.985,400.255,8.504#F,6,4,-2.827,412.218,8.293#F,6,4,-2.356,415.240,7.985#F,6,4,2.356,415.240,7.985#F,6,4,2.827,412.218,8.293#F,6,4,2.985,400.255,8.504#F,6,4,-0.471,427.027,8.247#F,6,4,0.471,427.027,8.247#F,6,4,-1.257,420.864,7.511#F,6,4,1.257,420.864,7.511#F,6,4,-3.142,399.908,0.000#F,6,4,3.142,399.908,0.000#F,6,4,-1.414,406.156,7.366#F,6,4,1.414,406.156,7.366#F,6,4,-1.100,422.343,7.651#F,6,4,1.100,422.343,7.651#F,6,4,-0.628,426.050,8.077#F,6,4,0.628,426.050,8.077#F,6,4,-1.728,406.156,7.408#F,6,4,1.728,406.156,7.408#F,6,4,-2.042,417.622,7.823#F,6,4,2.042,417.622,7.823#F,7,0,0.000,404.949,0.000#F,7,0,-1.885,394.337,7.284#F,7,0,1.885,394.337,7.284#F,7,0,-2.199,392.869,7.595#F,7,0,2.199,392.869,7.595#F,7,0,-0.314,404.682,8.751#F,7,0,0.314,404.682,8.751#F,7,0,-0.785,399.075,7.834#F,7,0,0.785,399.075,7.834#F,7,0,-2.670,389.883,9.347#F,7,0,2.670,389.883,9.347#F,7,0,-0.942,397.948,7.740#F,7,0,0.942,397.948,7.740#F,7,0,-2.513,390.551,8.955#F,7,0,-0.157,404.885,8.907#F,7,0,0.157,404.885,8.907#F,7,0,2.513,390.551,8.955#F,7,0,-1.571,395.496,7.396#F,7,0,1.571,395.496,7.396#F,7,0,-2.985,389.317,9.472#F,7,0,-2.827,389.542,9.439#F,7,0,-2.356,391.785,8.212#F,7,0,2.356,391.785,8.212#F,7,0,2.827,389.542,9.439#F,7,0,2.985,389.317,9.472#F,7,0,-0.471,404.314,8.542#F,7,0,0.471,404.314,8.542#F,7,0,-1.257,396.287,7.442#F,7,0,1.257,396.287,7.442#F,7,0,-3.142,389.243,0.000#F,7,0,3.142,389.243,0.000#F,7,0,-1.414,395.769,7.380#F,7,0,1.414,395.769,7.380#F,7,0,-1.100,397.040,7.568#F,7,0,1.100,397.040,7.568#F,7,0,-0.628,403.491,8.074#F,7,0,0.628,403.491,8.074#F,7,0,-1.728,394.957,7.323#F,7,0,1.728,394.957,7.323#F,7,0,-2.042,393.622,7.229#F,7,0,2.042,393.622,7.229#F,7,1,0.000,404.949,0.000#F,7,1,-1.885,394.327,7.308#F,7,1,1.885,394.327,7.308#F,7,1,-2.199,392.863,7.624#F,7,1,2.199,392.863,7.624#F,7,1,-0.314,404.682,8.779#F,7,1,0.314,404.682,8.779#F,7,1,-0.785,399.080,7.859#F,7,1,0.785,399.080,7.859#F,7,1,-2.670,389.883,9.380#F,7,1,2.670,389.883,9.380#F,7,1,-0.942,397.948,7.767#F,7,1,0.942,397.948,7.767#F,7,1,-2.513,390.556,8.985#F,7,1,-0.157,404.885,8.937#F,7,1,0.157,404.885,8.937#F,7,1,2.513,390.556,8.985#F,7,1,-1.571,395.491,7.421#F,7,1,1.571,395.491,7.421#F,7,1,-2.985,389.317,9.510#F,7,1,-2.827,389.547,9.477#F,7,1,-2.356,391.790,8.242#F,7,1,2.356,391.790,8.242#F,7,1,2.827,389.547,9.477#F,7,1,2.985,389.317,9.510#F,7,1,-0.471,404.319,8.575#F,7,1,0.471,404.319,8.575#F,7,1,-1.257,396.287,7.467#F,7,1,1.257,396.287,7.467#F,7,1,-3.142,389.243,0.000#F,7,1,3.142,389.243,0.000#F,7,1,-1.414,395.769,7.405#F,7,1,1.414,395.769,7.405#F,7,1,-1.100,397.040,7.596#F,7,1,1.100,397.040,7.596#F,7,1,-0.628,403.491,8.104#F,7,1,0.628,403.491,8.104#F,7,1,-1.728,394.962,7.353#F,7,1,1.728,394.962,7.353#F,7,1,-2.042,393.627,7.258#F,7,1,2.042,393.627,7.258#F,7,2,0.000,404.949,0.000#F,7,2,-1.885,394.337,7.335#F,7,2,1.885,394.337,7.335#F,7,2,-2.199,392.869,7.649#F,7,2,2.199,392.869,7.649#F,7,2,-0.314,404.682,8.809#F,7,2,0.314,404.682,8.809#F,7,2,-0.785,399.080,7.885#F,7,2,0.785,399.080,7.885#F,7,2,-2.670,389.883,9.411#F,7,2,2.670,389.883,9.411#F,7,2,-0.942,397.942,7.790#F,7,2,0.942,397.942,7.790#F,7,2,-2.513,390.556,9.015#F,7,2,-0.157,404.885,8.969#F,7,2,0.157,404.885,8.969#F,7,2,2.513,390.556,9.015#F,7,2,-1.571,395.496,7.448#F,7,2,1.571,395.496,7.448#F,7,2,-2.985,389.317,9.539#F,7,2,-2.827,389.547,9.510#F,7,2,-2.356,391.785,8.270#F,7,2,2.356,391.785,8.270#F")
-            .append(",7,2,2.827,389.547,9.510#F,7,2,2.985,389.317,9.539#F,7,2,-0.471,404.314,8.601#F,7,2,0.471,404.314,8.601#F,7,2,-1.257,396.292,7.494#F,7,2,1.257,396.292,7.494#F,7,2,-3.142,389.243,0.000#F,7,2,3.142,389.243,0.000#F,7,2,-1.414,395.774,7.431#F,7,2,1.414,395.774,7.431#F,7,2,-1.100,397.040,7.618#F,7,2,1.100,397.040,7.618#F,7,2,-0.628,403.486,8.127#F,7,2,0.628,403.486,8.127#F,7,2,-1.728,394.962,7.377#F,7,2,1.728,394.962,7.377#F,7,2,-2.042,393.627,7.280#F,7,2,2.042,393.627,7.280#F,7,3,0.000,404.949,0.000#F,7,3,-1.885,394.332,7.356#F,7,3,1.885,394.332,7.356#F,7,3,-2.199,392.869,7.671#F,7,3,2.199,392.869,7.671#F,7,3,-0.314,404.682,8.835#F,7,3,0.314,404.682,8.835#F,7,3,-0.785,399.075,7.911#F,7,3,0.785,399.075,7.911#F,7,3,-2.670,389.883,9.439#F,7,3,2.670,389.883,9.439#F,7,3,-0.942,397.942,7.813#F,7,3,0.942,397.942,7.813#F,7,3,-2.513,390.562,9.041#F,7,3,-0.157,404.885,8.993#F,7,3,0.157,404.885,8.993#F,7,3,2.513,390.562,9.041#F,7,3,-1.571,395.491,7.467#F,7,3,1.571,395.491,7.467#F,7,3,-2.985,389.317,9.568#F,7,3,-2.827,389.542,9.536#F,7,3,-2.356,391.790,8.293#F,7,3,2.356,391.790,8.293#F,7,3,2.827,389.542,9.536#F,7,3,2.985,389.317,9.568#F,7,3,-0.471,404.314,8.625#F,7,3,0.471,404.314,8.625#F,7,3,-1.257,396.287,7.513#F,7,3,1.257,396.287,7.513#F,7,3,-3.142,389.243,0.000#F,7,3,3.142,389.243,0.000#F,7,3,-1.414,395.769,7.451#F,7,3,1.414,395.769,7.451#F,7,3,-1.100,397.040,7.641#F,7,3,1.100,397.040,7.641#F,7,3,-0.628,403.497,8.154#F,7,3,0.628,403.497,8.154#F,7,3,-1.728,394.957,7.396#F,7,3,1.728,394.957,7.396#F,7,3,-2.042,393.622,7.301#F,7,3,2.042,393.622,7.301#F,7,4,0.000,404.949,0.000#F,7,4,-1.885,394.337,7.377#F,7,4,1.885,394.337,7.377#F,7,4,-2.199,392.863,7.694#F,7,4,2.199,392.863,7.694#F,7,4,-0.314,404.682,8.858#F,7,4,0.314,404.682,8.858#F,7,4,-0.785,399.069,7.932#F,7,4,0.785,399.069,7.932#F,7,4,-2.670,389.883,9.466#F,7,4,2.670,389.883,9.466#F,7,4,-0.942,397.948,7.837#F,7,4,0.942,397.948,7.837#F,7,4,-2.513,390.556,9.067#F,7,4,-0.157,404.885,9.015#F,7,4,0.157,404.885,9.015#F,7,4,2.513,390.556,9.067#F,7,4,-1.571,395.507,7.494#F,7,4,1.571,395.507,7.494#F,7,4,-2.985,389.317,9.594#F,7,4,-2.827,389.547,9.565#F,7,4,-2.356,391.779,8.318#F,7,4,2.356,391.779,8.318#F,7,4,2.827,389.547,9.565#F,7,4,2.985,389.317,9.594#F,7,4,-0.471,404.319,8.650#F,7,4,0.471,404.319,8.650#F,7,4,-1.257,396.287,7.533#F,7,4,1.257,396.287,7.533#F,7,4,-3.142,389.243,0.000#F,7,4,3.142,389.243,0.000#F,7,4,-1.414,395.769,7.471#F,7,4,1.414,395.769,7.471#F,7,4,-1.100,397.045,7.663#F,7,4,1.100,397.045,7.663#F,7,4,-0.628,403.486,8.172#F,7,4,0.628,403.486,8.172#F,7,4,-1.728,394.957,7.416#F,7,4,1.728,394.957,7.416#F,7,4,-2.042,393.622,7.321#F,7,4,2.042,393.622,7.321#F,8,0,0.000,398.215,0.000#F,8,0,-1.885,387.202,7.896#F,8,0,1.885,387.202,7.896#F,8,0,-2.199,385.611,8.121#F,8,0,2.199,385.611,8.121#F,8,0,-0.314,397.542,8.735#F,8,0,0.314,397.542,8.735#F,8,0,-0.785,394.327,7.880#F,8,0,0.785,394.327,7.880#F,8,0,-2.670,383.266,8.035#F,8,0,2.670,383.266,8.035#F,8,0,-0.942,392.228,7.310#F,8,0,0.942,392.228,7.310#F,8,0,-2.513,384.003,8.216#F,8,0,-0.157,398.038,8.907#F,8,0,0.157,398.038,8.907#F,8,0,2.513,384.003,8.216#F,8,0,-1.571,388.062,7.588#F,8,0,1.571,388.062,7.588#F,8,0,-2.985,381.269,9.010#F,8,0,-2.827,381.654,8.995#F,8,0,-2.356,384.815,8.228#F,8,0,2.356,384.815,8.228#F,8,0,2.827,381.654,8.995#F,8,0,2.985,381.269,9.010#F,8,0,-0.471,396.773,8.504#F,8,0,0.471,396.773,8.504#F,8,0,-1.257,389.478,7.442#F,8,0,1.257,389.478,7.442#F,8,0,-3.142,381.141,0.000#F,8,0,3.142,381.141,0.000#F,8,0,-1.414,388.644,7.486#F,8,0,1.414,388.644,7.486#F,8,0,-1.100,391.074,7.232#F,8,0,1.100,391.074,7.232#F,8,0,-0.628,395.758,8.258#F,8,0,0.628,395.758,8.258#F,8,0,-1.728,387.662,7.737#F,8,0,1.728,387.662,7.737#F,8,0,-2.042,386.343,7.951#F,8,0,2.042,386.343,7.951#F,8,1,0.000,398.215,0.000#F,8,1,-1.885,387.202,7.924#F,8,1,1.885,387.202,7.924#F,8,1,-2.199,385.611,8.151#F,8,1,2.199,385.611,8.151#F,8,1,-0.314,397.542,8.766#F,8,1,0.314,397.542,8.766#F,8,1,-0.785,394.327,7.907#F,8,1,0.785,394.327,7.907#F,8,1,-2.670,383.261,8.063#F,8,1,2.670,383.261,8.063#F,8,1,-0.942,392.233,7.339#F,8,1,0.942,392.233,7.339#F,8,1,-2.513,384.003,8.247#F,8,1,-0.157,398.038,8.937#F,8,1,0.157,398.038,8.937#F,8,1,2.513,384.003,8.247#F,8,1,-1.571,388.062,7.615#F,8,1,1.571,388.062,7.615#F,8,1,-2.985,381.269,9.044#F,8,1,-2.827,381.659,9.030#F,8,1,-2.356,384.810,8.256#F,8,1,2.356,384.810,8.256#F,8,1,2.827,381.659,9.030#F,8,1,2.985,381.269,9.044#F,8,1,-0.471,396.767,8.533#F,8,1,0.471,396.767,8.533#F,8,1,-1.257,389.478,7.467#F,8,1,1.257,389.478,7.467#F,8,1,-3.142,381.141,0.000#F,8,1,3.142,381.141,0.000#F,8,1,-1.414,388.639,7.511#F,8,1,1.414,388.639,7.511#F,8,1,-1.100,391.069,7.256#F,8,1,1.100,391.069,7.256#F,8,1,-0.628,395.763,8.288#F,8,1,0.628,395.763,8.288#F,8,1,-1.728,387.662,7.765#F,8,1,1.728,387.662,7.765#F,8,1,-2.042,386.348,7.982#F,8,1,2.042,386.348,7.982#F,8,2,0.000,398.215,0.000#F,8,2,-1.885,387.197,7.949#F,8,2,1.885,387.197,7.949#F,8,2,-2.199,385.606,8.174#F,8,2,2.199,385.606,8.174#F,8,2,-0.314,397.542,8.796#F,8,2,0.314,397.542,8.796#F,8,2,-0.785,394.332,7.935#F,8,2,0.785,394.332,7.935#F,8,2,-2.670,383.261,8.089#F,8,2,2.670,383.261,8.089#F,8,2,-0.942,392.228,7.362#F,8,2,0.942,392.228,7.362#F,8,2,-2.513,384.003,8.275#F,8,2,-0.157,398.038,8.969#F,8,2,0.157,398.038,8.969#F,8,2,2.513,384.003,8.275#F,8,2,-1.571,388.062,7.639#F,8,2,1.571,388.062,7.639#F,8,2,-2.985,381.269,9.072#F,8,2,-2.827,381.654,9.059#F,8,2,-2.356,384.805,8.281#F,8,2,2.356,384.805,8.281#F,8,2,2.827,381.654,9.059#F,8,2,2.985,381.269,9.072#F,8,2,-0.471,396.767,8.560#F,8,2,0.471,396.767,8.560#F,8,2,-1.257,389.478,7.494#F,8,2,1.257,389.478,7.494#F,8,2,-3.142,381.141,0.000#F,8,2,3.142,381.141,0.000#F,8,2,-1.414,388.639,7.536#F,8,2,1.414,388.639,7.536#F,8,2,-1.100,391.074,7.281#F,8,2,1.100,391.074,7.281#F,8,2,-0.628,395.763,8.316#F,8,2,0.628,395.763,8.316#F,8,2,-1.728,387.662,7.792#F,8,2,1.728,387.662,7.792#F,8,2,-2.042,386.343,8.006#F,8,2,2.042,386.343,8.006#F,8,3,0.000,398.215,0.000#F,8,3,-1.885,387.202,7.973#F,8,3,1.885,387.202,7.973#F,8,3,-2.199,385.606,8.199#F,8,3,2.199,385.606,8.199#F,8,3,-0.314,397.542,8.818#F,8,3,0.314,397.542,8.818#F,8,3,-0.785,394.327,7.954#F,8,3,0.785,394.327,7.954#F,8,3,-2.670,383.261,8.113#F,8,3,2.670,383.261,8.113#F,8,3,-0.942,392.233,7.382#F,8,3,0.942,392.233,7.382#F,8,3,-2.513,384.003,8.299#F,8,3,-0.157,398.038,8.993#F,8,3,0.157,398.038,8.993#F,8,3,2.513,384.003,8.299#F,8,3,-1.571,388.057,7.659#F,8,3,1.571,388.057,7.659#F,8,3,-2.985,381.269,9.100#F,8,3,-2.827,381.654,9.084#F,8,3,-2.356,384.810,8.306#F,8,3,2.356,384.810,8.306#F,8,3,2.827,381.654,9.084#F,8,3,2.985,381.269,9.100#F,8,3,-0.471,396.767,8.585#F,8,3,0.471,396.767,8.585#F,8,3,-1.257,389.472,7.513#F,8,3,1.257,389.472,7.513#F,8,3,-3.142,381.141,0.000#F,8,3,3.142,381.141,0.000#F,8,3,-1.414,388.639,7.557#F,8,3,1.414,388.639,7.557#F,8,3,-1.100,391.074,7.302#F,8,3,1.100,391.074,7.302#F,8,3,-0.628,395.758,8.337#F,8,3,0.628,395.758,8.337#F,8,3,-1.728,387.662,7.813#F,8,3,1.728,387.662,7.813#F,8,3,-2.042,386.343,8.030#F,8,3,2.042,386.343,8.030#F,8,4,0.000,398.215,0.000#F,8,4,-1.885,387.202,7.997#F,8,4,1.885,387.202,7.997#F,8,4,-2.199,385.611,8.224#F,8,4,2.199,385.611,8.224#F,8,4,-0.314,397.542,8.844#F,8,4,0.314,397.542,8.844#F,8,4,-0.785,394.332,7.980#F,8,4,0.785,394.332,7.980#F,8,4,-2.670,383.266,8.134#F,8,4,2.670,383.266,8.134#F,8,4,-0.942,392.228,7.403#F,8,4,0.942,392.228,7.403#F,8,4,-2.513,384.003,8.322#F,8,4,-0.157,398.038,9.015#F,8,4,0.157,398.038,9.015#F,8,4,2.513,384.003,8.322#F,8,4,-1.571,388.057,7.680#F,8,4,1.571,388.057,7.680#F,8,4,-2.985,381.269,9.127#F,8,4,-2.827,381.654,9.110#F,8,4,-2.356,384.810,8.329#F,8,4,2.356,384.810,8.329#F,8,4,2.827,381.654,9.110#F,8,4,2.985,381.269,9.127#F,8,4,-0.471,396.767,8.608#F,8,4,0.471,396.767,8.608#F,8,4,-1.257,389.478,7.533#F,8,4,1.257,389.478,7.533#F,8,4,-3.142,381.141,0.000#F,8,4,3.142,381.141,0.000#F,8,4,-1.414,388.644,7.579#F,8,4,1.414,388.644,7.579#F,8,4,-1.100,391.074,7.322#F,8,4,1.100,391.074,7.322#F,8,4,-0.628,395.763,8.362#F,8,4,0.628,395.763,8.362#F,8,4,-1.728,387.656,7.834#F,8,4,1.728,387.656,7.834#F,8,4,-2.042,386.348,8.054#F,8,4,2.042,386.348,8.054#F,9,0,0.000,380.126,0.000#F,9,0,-1.885,364.729,7.649#F,9,0,1.885,364.729,7.649#F,9,0,-2.199,365.279,8.291#F,9,0,2.199,365.279,8.291#F,9,0,-0.314,380.174,9.066#F,9,0,0.314,380.174,9.066#F,9,0,-0.785,379.816,8.277#F,9,0,0.785,379.816,8.277#F,9,0,-2.670,366.406,9.119#F,9,0,2.670,366.406,9.119#F,9,0,-0.942,371.592,7.772#F,9,0,0.942,371.592,7.772#F,9,0,-2.513,366.134,8.869#F,9,0,-0.157,380.094,8.957#F,9,0,0.157,380.094,8.957#F,9,0,2.513,366.134,8.869#F,9,0,-1.571,364.788,7.227#F,9,0,1.571,364.788,7.227#F,9,0,-2.985,366.305,9.737#F,9,0,-2.827,366.470,9.367#F,9,0,-2.356,365.723,8.594#F,9,0,2.356,365.723,8.594#F,9,0,2.827,366.470,9.367#F,9,0,2.985,366.305,9.737#F,9,0,-0.471,380.201,8.955#F,9,0,0.471,380.201,8.955#F,9,0,-1.257,370.556,7.308#F,9,0,1.257,370.556,7.308#F,9,0,-3.142,366.080,0.000#F,9,0,3.142,366.080,0.000#F,9,0,-1.414,370.300,7.152#F,9,0,1.414,370.300,7.152#F,9,0,-1.100,370.994,7.519#F,9,0,1.100,370.994,7.519#F,9,0,-0.628,380.132,8.717#F,9,0,0.628,380.132,8.717#F,9,0,-1.728,364.665,7.395#F,9,0,1.728,364.665,7.395#F,9,0,-2.042,364.927,7.965#F,9,0,2.042,364.927,7.965#F,9,1,0.000,380.126,0.000#F,9,1,-1.885,364.724,7.678#F,9,1,1.885,364.724,7.678#F,9,1,-2.199,365.285,8.318#F,9,1,2.199,365.285,8.318#F,9,1,-0.314,380.174,9.098#F,9,1,0.314,380.174,9.098#F,9,1,-0.785,379.816,8.304#F,9,1,0.785,379.816,8.304#F,9,1,-2.670,366.412,9.150#F,9,1,2.670,366.412,9.150#F,9,1,-0.942,371.587,7.797#F,9,1,0.942,371.587,7.797#F,9,1,-2.513,366.129,8.902#F,9,1,-0.157,380.094,8.989#F,9,1,0.157,380.094,8.989#F,9,1,2.513,366.129,8.902#F,9,1,-1.571,364.777,7.255#F,9,1,1.571,364.777,7.255#F,9,1,-2.985,366.305,9.774#F,9,1,-2.827,366.470,9.401#F,9,1,-2.356,365.717,8.625#F,9,1,2.356,365.717,8.625#F,9,1,2.827,366.470,9.401#F,9,1,2.985,366.305,9.774#F,9,1,-0.471,380.206,8.991#F,9,1,0.471,380.206,8.991#F,9,1,-1.257,370.556,7.335#F,9,1,1.257,370.556,7.335#F,9,1,-3.142,366.080,0.000#F,9,1,3.142,366.080,0.000#F,9,1,-1.414,370")
-            .append(".300,7.177#F,9,1,1.414,370.300,7.177#F,9,1,-1.100,370.988,7.545#F,9,1,1.100,370.988,7.545#F,9,1,-0.628,380.132,8.749#F,9,1,0.628,380.132,8.749#F,9,1,-1.728,364.665,7.423#F,9,1,1.728,364.665,7.423#F,9,1,-2.042,364.932,7.992#F,9,1,2.042,364.932,7.992#F,9,2,0.000,380.126,0.000#F,9,2,-1.885,364.724,7.703#F,9,2,1.885,364.724,7.703#F,9,2,-2.199,365.279,8.346#F,9,2,2.199,365.279,8.346#F,9,2,-0.314,380.174,9.127#F,9,2,0.314,380.174,9.127#F,9,2,-0.785,379.811,8.329#F,9,2,0.785,379.811,8.329#F,9,2,-2.670,366.406,9.183#F,9,2,2.670,366.406,9.183#F,9,2,-0.942,371.587,7.823#F,9,2,0.942,371.587,7.823#F,9,2,-2.513,366.134,8.931#F,9,2,-0.157,380.094,9.015#F,9,2,0.157,380.094,9.015#F,9,2,2.513,366.134,8.931#F,9,2,-1.571,364.783,7.276#F,9,2,1.571,364.783,7.276#F,9,2,-2.985,366.305,9.806#F,9,2,-2.827,366.476,9.429#F,9,2,-2.356,365.717,8.655#F,9,2,2.356,365.717,8.655#F,9,2,2.827,366.476,9.429#F,9,2,2.985,366.305,9.806#F,9,2,-0.471,380.201,9.015#F,9,2,0.471,380.201,9.015#F,9,2,-1.257,370.561,7.361#F,9,2,1.257,370.561,7.361#F,9,2,-3.142,366.080,0.000#F,9,2,3.142,366.080,0.000#F,9,2,-1.414,370.300,7.199#F,9,2,1.414,370.300,7.199#F,9,2,-1.100,370.994,7.570#F,9,2,1.100,370.994,7.570#F,9,2,-0.628,380.137,8.779#F,9,2,0.628,380.137,8.779#F,9,2,-1.728,364.671,7.446#F,9,2,1.728,364.671,7.446#F,9,2,-2.042,364.927,8.020#F,9,2,2.042,364.927,8.020#F,9,3,0.000,380.126,0.000#F,9,3,-1.885,364.724,7.726#F,9,3,1.885,364.724,7.726#F,9,3,-2.199,365.285,8.371#F,9,3,2.199,365.285,8.371#F,9,3,-0.314,380.174,9.153#F,9,3,0.314,380.174,9.153#F,9,3,-0.785,379.811,8.354#F,9,3,0.785,379.811,8.354#F,9,3,-2.670,366.412,9.209#F,9,3,2.670,366.412,9.209#F,9,3,-0.942,371.592,7.847#F,9,3,0.942,371.592,7.847#F,9,3,-2.513,366.129,8.957#F,9,3,-0.157,380.094,9.041#F,9,3,0.157,380.094,9.041#F,9,3,2.513,366.129,8.957#F,9,3,-1.571,364.777,7.300#F,9,3,1.571,364.777,7.300#F,9,3,-2.985,366.305,9.837#F,9,3,-2.827,366.476,9.459#F,9,3,-2.356,365.717,8.681#F,9,3,2.356,365.717,8.681#F,9,3,2.827,366.476,9.459#F,9,3,2.985,366.305,9.837#F,9,3,-0.471,380.201,9.041#F,9,3,0.471,380.201,9.041#F,9,3,-1.257,370.556,7.380#F,9,3,1.257,370.556,7.380#F,9,3,-3.142,366.080,0.000#F,9,3,3.142,366.080,0.000#F,9,3,-1.414,370.294,7.220#F,9,3,1.414,370.294,7.220#F,9,3,-1.100,370.994,7.593#F,9,3,1.100,370.994,7.593#F,9,3,-0.628,380.137,8.804#F,9,3,0.628,380.137,8.804#F,9,3,-1.728,364.671,7.467#F,9,3,1.728,364.671,7.467#F,9,3,-2.042,364.922,8.044#F,9,3,2.042,364.922,8.044#F,9,4,0.000,380.126,0.000#F,9,4,-1.885,364.729,7.744#F,9,4,1.885,364.729,7.744#F,9,4,-2.199,365.279,8.395#F,9,4,2.199,365.279,8.395#F,9,4,-0.314,380.174,9.177#F,9,4,0.314,380.174,9.177#F,9,4,-0.785,379.816,8.378#F,9,4,0.785,379.816,8.378#F,9,4,-2.670,366.412,9.234#F,9,4,2.670,366.412,9.234#F,9,4,-0.942,371.587,7.866#F,9,4,0.942,371.587,7.866#F,9,4,-2.513,366.134,8.981#F,9,4,-0.157,380.094,9.064#F,9,4,0.157,380.094,9.064#F,9,4,2.513,366.134,8.981#F,9,4,-1.571,364.783,7.318#F,9,4,1.571,364.783,7.318#F,9,4,-2.985,366.305,9.863#F,9,4,-2.827,366.476,9.484#F,9,4,-2.356,365.717,8.704#F,9,4,2.356,365.717,8.704#F,9,4,2.827,366.476,9.484#F,9,4,2.985,366.305,9.863#F,9,4,-0.471,380.201,9.066#F,9,4,0.471,380.201,9.066#F,9,4,-1.257,370.556,7.398#F,9,4,1.257,370.556,7.398#F,9,4,-3.142,366.080,0.000#F,9,4,3.142,366.080,0.000#F,9,4,-1.414,370.294,7.241#F,9,4,1.414,370.294,7.241#F,9,4,-1.100,370.994,7.615#F,9,4,1.100,370.994,7.615#F,9,4,-0.628,380.132,8.825#F,9,4,0.628,380.132,8.825#F,9,4,-1.728,364.671,7.488#F,9,4,1.728,364.671,7.488#F,9,4,-2.042,364.927,8.066#F,9,4,2.042,364.927,8.066#F,10,0,0.000,371.795,0.000#F,10,0,-1.885,358.913,7.270#F,10,0,1.885,358.913,7.270#F,10,0,-2.199,357.968,8.303#F,10,0,2.199,357.968,8.303#F,10,0,-0.314,371.197,9.137#F,10,0,0.314,371.197,9.137#F,10,0,-0.785,364.484,7.945#F,10,0,0.785,364.484,7.945#F,10,0,-2.670,355.853,10.016#F,10,0,2.670,355.853,10.016#F,10,0,-0.942,363.314,7.754#F,10,0,0.942,363.314,7.754#F,10,0,-2.513,356.628,9.764#F,10,0,-0.157,371.629,9.341#F,10,0,0.157,371.629,9.341#F,10,0,2.513,356.628,9.764#F,10,0,-1.571,359.624,7.095#F,10,0,1.571,359.624,7.095#F,10,0,-2.985,355.837,10.862#F,10,0,-2.827,355.853,10.447#F,10,0,-2.356,357.343,8.974#F,10,0,2.356,357.343,8.974#F,10,0,2.827,355.853,10.447#F,10,0,2.985,355.837,10.862#F,10,0,-0.471,370.556,8.848#F,10,0,0.471,370.556,8.848#F,10,0,-1.257,361.247,7.435#F,10,0,1.257,361.247,7.435#F,10,0,-3.142,355.762,0.000#F,10,0,3.142,355.762,0.000#F,10,0,-1.414,360.206,7.183#F,10,0,1.414,360.206,7.183#F,10,0,-1.100,362.235,7.600#F,10,0,1.100,362.235,7.600#F,10,0,-0.628,369.237,8.134#F,10,0,0.628,369.237,8.134#F,10,0,-1.728,359.261,7.112#F,10,0,1.728,359.261,7.112#F,10,0,-2.042,358.497,7.731#F,10,0,2.042,358.497,7.731#F,10,1,0.000,371.795,0.000#F,10,1,-1.885,358.919,7.295#F,10,1,1.885,358.919,7.295#F,10,1,-2.199,357.973,8.333#F,10,1,2.199,357.973,8.333#F,10,1,-0.314,371.191,9.167#F,10,1,0.314,371.191,9.167#F,10,1,-0.785,364.484,7.973#F,10,1,0.785,364.484,7.973#F,10,1,-2.670,355.853,10.051#F,10,1,2.670,355.853,10.051#F,10,1,-0.942,363.314,7.783#F,10,1,0.942,363.314,7.783#F,10,1,-2.513,356.628,9.800#F,10,1,-0.157,371.635,9.375#F,10,1,0.157,371.635,9.375#F,10,1,2.513,356.628,9.800#F,10,1,-1.571,359.624,7.120#F,10,1,1.571,359.624,7.120#F,10,1,-2.985,355.837,10.900#F,10,1,-2.827,355.859,10.491#F,10,1,-2.356,357.349,9.006#F,10,1,2.356,357.349,9.006#F,10,1,2.827,355.859,10.491#F,10,1,2.985,355.837,10.900#F,10,1,-0.471,370.556,8.883#F,10,1,0.471,370.556,8.883#F,10,1,-1.257,361.242,7.460#F,10,1,1.257,361.242,7.460#F,10,1,-3.142,355.762,0.000#F,10,1,3.142,355.762,0.000#F,10,1,-1.414,360.206,7.209#F,10,1,1.414,360.206,7.209#F,10,1,-1.100,362.230,7.624#F,10,1,1.100,362.230,7.624#F,10,1,-0.628,369.231,8.161#F,10,1,0.628,369.231,8.161#F,10,1,-1.728,359.261,7.137#F,10,1,1.728,359.261,7.137#F,10,1,-2.042,358.492,7.760#F,10,1,2.042,358.492,7.760#F,10,2,0.000,371.795,0.000#F,10,2,-1.885,358.913,7.322#F,10,2,1.885,358.913,7.322#F,10,2,-2.199,357.968,8.362#F,10,2,2.199,357.968,8.362#F,10,2,-0.314,371.191,9.195#F,10,2,0.314,371.191,9.195#F,10,2,-0.785,364.484,7.998#F,10,2,0.785,364.484,7.998#F,10,2,-2.670,355.848,10.082#F,10,2,2.670,355.848,10.082#F,10,2,-0.942,363.314,7.806#F,10,2,0.942,363.314,7.806#F,10,2,-2.513,356.628,9.831#F,10,2,-0.157,371.629,9.401#F,10,2,0.157,371.629,9.401#F,10,2,2.513,356.628,9.831#F,10,2,-1.571,359.613,7.142#F,10,2,1.571,359.613,7.142#F,10,2,-2.985,355.837,10.937#F,10,2,-2.827,355.859,10.527#F,10,2,-2.356,357.349,9.036#F,10,2,2.356,357.349,9.036#F,10,2,2.827,355.859,10.527#F,10,2,2.985,355.837,10.937#F,10,2,-0.471,370.556,8.909#F,10,2,0.471,370.556,8.909#F,10,2,-1.257,361.247,7.486#F,10,2,1.257,361.247,7.486#F,10,2,-3.142,355.762,0.000#F,10,2,3.142,355.762,0.000#F,10,2,-1.414,360.211,7.234#F,10,2,1.414,360.211,7.234#F,10,2,-1.100,362.235,7.650#F,10,2,1.100,362.235,7.650#F,10,2,-0.628,369.237,8.190#F,10,2,0.628,369.237,8.190#F,10,2,-1.728,359.261,7.161#F,10,2,1.728,359.261,7.161#F,10,2,-2.042,358.497,7.783#F,10,2,2.042,358.497,7.783#F,10,3,0.000,371.795,0.000#F,10,3,-1.885,358.919,7.343#F,10,3,1.885,358.919,7.343#F,10,3,-2.199,357.963,8.388#F,10,3,2.199,357.963,8.388#F,10,3,-0.314,371.197,9.225#F,10,3,0.314,371.197,9.225#F,10,3,-0.785,364.489,8.023#F,10,3,0.785,364.489,8.023#F,10,3,-2.670,355.848,10.113#F,10,3,2.670,355.848,10.113#F,10,3,-0.942,363.309,7.828#F,10,3,0.942,363.309,7.828#F,10,3,-2.513,356.633,9.860#F,10,3,-0.157,371.629,9.429#F,10,3,0.157,371.629,9.429#F,10,3,2.513,356.633,9.860#F,10,3,-1.571,359.629,7.168#F,10,3,1.571,359.629,7.168#F,10,3,-2.985,355.837,10.972#F,10,3,-2.827,355.853,10.552#F,10,3,-2.356,357.354,9.062#F,10,3,2.356,357.354,9.062#F,10,3,2.827,355.853,10.552#F,10,3,2.985,355.837,10.972#F,10,3,-0.471,370.556,8.934#F,10,3,0.471,370.556,8.934#F,10,3,-1.257,361.242,7.506#F,10,3,1.257,361.242,7.506#F,10,3,-3.142,355.762,0.000#F,10,3,3.142,355.762,0.000#F,10,3,-1.414,360.206,7.253#F,10,3,1.414,360.206,7.253#F,10,3,-1.100,362.230,7.671#F,10,3,1.100,362.230,7.671#F,10,3,-0.628,369.231,8.211#F,10,3,0.628,369.231,8.211#F,10,3,-1.728,359.261,7.183#F,10,3,1.728,359.261,7.183#F,10,3,-2.042,358.497,7.808#F,10,3,2.042,358.497,7.808#F,10,4,0.000,371.795,0.000#F,10,4,-1.885,358.913,7.362#F,10,4,1.885,358.913,7.362#F,10,4,-2.199,357.968,8.410#F,10,4,2.199,357.968,8.410#F,10,4,-0.314,371.191,9.248#F,10,4,0.314,371.191,9.248#F,10,4,-0.785,364.484,8.044#F,10,4,0.785,364.484,8.044#F,10,4,-2.670,355.853,10.144#F,10,4,2.670,355.853,10.144#F,10,4,-0.942,363.314,7.852#F,10,4,0.942,363.314,7.852#F,10,4,-2.513,356.633,9.889#F,10,4,-0.157,371.629,9.453#F,10,4,0.157,371.629,9.453#F,10,4,2.513,356.633,9.889#F,10,4,-1.571,359.618,7.183#F,10,4,1.571,359.618,7.183#F,10,4,-2.985,355.837,11.002#F,10,4,-2.827,355.859,10.587#F,10,4,-2.356,357.343,9.088#F,10,4,2.356,357.343,9.088#F,10,4,2.827,355.859,10.587#F,10,4,2.985,355.837,11.002#F,10,4,-0.471,370.556,8.957#F,10,4,0.471,370.556,8.957#F,10,4,-1.257,361.247,7.529#F,10,4,1.257,361.247,7.529#F,10,4,-3.142,355.762,0.000#F,10,4,3.142,355.762,0.000#F,10,4,-1.414,360.206,7.273#F,10,4,1.414,360.206,7.273#F,10,4,-1.100,362.230,7.692#F,10,4,1.100,362.230,7.692#F,10,4,-0.628,369.231,8.233#F,10,4,0.628,369.231,8.233#F,10,4,-1.728,359.261,7.202#F,10,4,1.728,359.261,7.202#F,10,4,-2.042,358.502,7.828#F,10,4,2.042,358.502,7.828#E,0,0,0.000,587.004,0.000#E,0,0,-1.885,576.125,8.925#E,0,0,1.885,576.125,8.925#E,0,0,-2.199,573.808,10.930#E,0,0,2.199,573.808,10.930#E,0,0,-0.314,586.903,0.000#E,0,0,0.314,586.903,0.000#E,0,0,-0.785,585.578,10.071#E,0,0,0.785,585.578,10.071#E,0,0,-2.670,571.618,0.000#E,0,0,2.670,571.618,0.000#E,0,0,-0.942,584.558,8.995#E,0,0,0.942,584.558,8.995#E,0,0,-2.513,572.211,5.775#E,0,0,-0.157,586.983,0.000#E,0,0,0.157,586.983,0.000#E,0,0,2.513,572.211,5.775#E,0,0,-1.571,578.945,8.081#E,0,0,1.571,578.945,8.081#E,0,0,-2.985,571.046,0.000#E,0,0,-2.827,571.228,0.000#E,0,0,-2.356,572.937,10.257#E,0,0,2.356,572.937,10.257#E,0,0,2.827,571.228,0.000#E,0,0,2.985,571.046,0.000#E,0,0,-0.471,586.705,0.000#E,0,0,0.471,586.705,0.000#E,0,0,-1.257,581.909,8.057#E,0,0,1.257,581.909,8.057#E,0,0,-3.142,571.004,0.000#E,0,0,3.142,571.004,0.000#E")
-            .append(",0,0,-1.414,580.430,7.968#E,0,0,1.414,580.430,7.968#E,0,0,-1.100,583.319,8.371#E,0,0,1.100,583.319,8.371#E,0,0,-0.628,586.310,5.852#E,0,0,0.628,586.310,5.852#E,0,0,-1.728,577.498,8.392#E,0,0,1.728,577.498,8.392#E,0,0,-2.042,574.881,9.736#E,0,0,2.042,574.881,9.736#E,0,1,0.000,608.997,0.000#E,0,1,-1.885,597.167,9.502#E,0,1,1.885,597.167,9.502#E,0,1,-2.199,594.849,11.610#E,0,1,2.199,594.849,11.610#E,0,1,-0.314,608.788,0.000#E,0,1,0.314,608.788,0.000#E,0,1,-0.785,606.956,10.776#E,0,1,0.785,606.956,10.776#E,0,1,-2.670,592.617,0.000#E,0,1,2.670,592.617,0.000#E,0,1,-0.942,605.787,9.638#E,0,1,0.942,605.787,9.638#E,0,1,-2.513,593.215,5.313#E,0,1,-0.157,608.938,0.000#E,0,1,0.157,608.938,0.000#E,0,1,2.513,593.215,5.313#E,0,1,-1.571,599.987,8.629#E,0,1,1.571,599.987,8.629#E,0,1,-2.985,592.046,0.000#E,0,1,-2.827,592.227,0.000#E,0,1,-2.356,593.963,9.459#E,0,1,2.356,593.963,9.459#E,0,1,2.827,592.227,0.000#E,0,1,2.985,592.046,0.000#E,0,1,-0.471,608.479,3.748#E,0,1,0.471,608.479,3.748#E,0,1,-1.257,602.956,8.629#E,0,1,1.257,602.956,8.629#E,0,1,-3.142,592.003,0.000#E,0,1,3.142,592.003,0.000#E,0,1,-1.414,601.472,8.522#E,0,1,1.414,601.472,8.522#E,0,1,-1.100,604.425,8.974#E,0,1,1.100,604.425,8.974#E,0,1,-0.628,607.886,9.859#E,0,1,0.628,607.886,9.859#E,0,1,-1.728,598.540,8.947#E,0,1,1.728,598.540,8.947#E,0,1,-2.042,595.923,10.349#E,0,1,2.042,595.923,10.349#E,0,2,0.000,630.968,0.000#E,0,2,-1.885,618.209,10.074#E,0,2,1.885,618.209,10.074#E,0,2,-2.199,615.891,11.486#E,0,2,2.199,615.891,11.486#E,0,2,-0.314,630.610,0.862#E,0,2,0.314,630.610,0.862#E,0,2,-0.785,628.233,11.495#E,0,2,0.785,628.233,11.495#E,0,2,-2.670,613.616,0.000#E,0,2,2.670,613.616,0.000#E,0,2,-0.942,626.930,10.291#E,0,2,0.942,626.930,10.291#E,0,2,-2.513,614.220,4.980#E,0,2,-0.157,630.850,0.000#E,0,2,0.157,630.850,0.000#E,0,2,2.513,614.220,4.980#E,0,2,-1.571,621.034,9.170#E,0,2,1.571,621.034,9.170#E,0,2,-2.985,613.045,0.000#E,0,2,-2.827,613.226,0.000#E,0,2,-2.356,614.978,8.822#E,0,2,2.356,614.978,8.822#E,0,2,2.827,613.226,0.000#E,0,2,2.985,613.045,0.000#E,0,2,-0.471,630.135,8.746#E,0,2,0.471,630.135,8.746#E,0,2,-1.257,623.998,9.200#E,0,2,1.257,623.998,9.200#E,0,2,-3.142,613.002,0.000#E,0,2,3.142,613.002,0.000#E,0,2,-1.414,622.514,9.072#E,0,2,1.414,622.514,9.072#E,0,2,-1.100,625.483,9.578#E,0,2,1.100,625.483,9.578#E,0,2,-0.628,629.328,13.525#E,0,2,0.628,629.328,13.525#E,0,2,-1.728,619.582,9.498#E,0,2,1.728,619.582,9.498#E,0,2,-2.042,616.965,10.963#E,0,2,2.042,616.965,10.963#E,0,3,0.000,652.901,0.000#E,0,3,-1.885,639.251,10.646#E,0,3,1.885,639.251,10.646#E,0,3,-2.199,636.922,10.782#E,0,3,2.199,636.922,10.782#E,0,3,-0.314,652.330,7.832#E,0,3,0.314,652.330,7.832#E,0,3,-0.785,649.414,12.231#E,0,3,0.785,649.414,12.231#E,0,3,-2.670,634.615,0.000#E,0,3,2.670,634.615,0.000#E,0,3,-0.942,648.009,10.953#E,0,3,0.942,648.009,10.953#E,0,3,-2.513,635.219,4.749#E,0,3,-0.157,652.709,0.000#E,0,3,0.157,652.709,0.000#E,0,3,2.513,635.219,4.749#E,0,3,-1.571,642.076,9.716#E,0,3,1.571,642.076,9.716#E,0,3,-2.985,634.044,0.000#E,0,3,-2.827,634.225,0.000#E,0,3,-2.356,635.993,8.318#E,0,3,2.356,635.993,8.318#E,0,3,2.827,634.225,0.000#E,0,3,2.985,634.044,0.000#E,0,3,-0.471,651.657,13.463#E,0,3,0.471,651.657,13.463#E,0,3,-1.257,645.045,9.770#E,0,3,1.257,645.045,9.770#E,0,3,-3.142,634.001,0.000#E,0,3,3.142,634.001,0.000#E,0,3,-1.414,643.555,9.621#E,0,3,1.414,643.555,9.621#E,0,3,-1.100,646.530,10.188#E,0,3,1.100,646.530,10.188#E,0,3,-0.628,650.658,14.376#E,0,3,0.628,650.658,14.376#E,0,3,-1.728,640.623,10.047#E,0,3,1.728,640.623,10.047#E,0,3,-2.042,638.007,11.577#E,0,3,2.042,638.007,11.577#E,0,4,0.000,677.901,0.000#E,0,4,-1.885,664.250,10.584#E,0,4,1.885,664.250,10.584#E,0,4,-2.199,661.922,10.733#E,0,4,2.199,661.922,10.733#E,0,4,-0.314,677.329,7.795#E,0,4,0.314,677.329,7.795#E,0,4,-0.785,674.413,12.160#E,0,4,0.785,674.413,12.160#E,0,4,-2.670,659.620,0.000#E,0,4,2.670,659.620,0.000#E,0,4,-0.942,673.009,10.886#E,0,4,0.942,673.009,10.886#E,0,4,-2.513,660.218,4.733#E,0,4,-0.157,677.708,0.000#E,0,4,0.157,677.708,0.000#E,0,4,2.513,660.218,4.733#E,0,4,-1.571,667.075,9.656#E,0,4,1.571,667.075,9.656#E,0,4,-2.985,659.043,0.000#E,0,4,-2.827,659.225,0.000#E,0,4,-2.356,660.992,8.281#E,0,4,2.356,660.992,8.281#E,0,4,2.827,659.225,0.000#E,0,4,2.985,659.043,0.000#E,0,4,-0.471,676.656,13.406#E,0,4,0.471,676.656,13.406#E,0,4,-1.257,670.045,9.711#E,0,4,1.257,670.045,9.711#E,0,4,-3.142,659.000,0.000#E,0,4,3.142,659.000,0.000#E,0,4,-1.414,668.560,9.565#E,0,4,1.414,668.560,9.565#E,0,4,-1.100,671.529,10.125#E,0,4,1.100,671.529,10.125#E,0,4,-0.628,675.658,14.292#E,0,4,0.628,675.658,14.292#E,0,4,-1.728,665.623,9.985#E,0,4,1.728,665.623,9.985#E,0,4,-2.042,663.006,11.507#E,0,4,2.042,663.006,11.507#E,1,0,0.000,584.601,0.000#E,1,0,-1.885,573.177,9.325#E,1,0,1.885,573.177,9.325#E,1,0,-2.199,570.742,11.422#E,1,0,2.199,570.742,11.422#E,1,0,-0.314,584.499,0.000#E,1,0,0.314,584.499,0.000#E,1,0,-0.785,583.105,10.526#E,1,0,0.785,583.105,10.526#E,1,0,-2.670,568.446,0.000#E,1,0,2.670,568.446,0.000#E,1,0,-0.942,582.032,9.402#E,1,0,0.942,582.032,9.402#E,1,0,-2.513,569.065,6.232#E,1,0,-0.157,584.585,0.000#E,1,0,0.157,584.585,0.000#E,1,0,2.513,569.065,6.232#E,1,0,-1.571,576.141,8.447#E,1,0,1.571,576.141,8.447#E,1,0,-2.985,567.847,0.000#E,1,0,-2.827,568.040,0.000#E,1,0,-2.356,569.829,10.608#E,1,0,2.356,569.829,10.608#E,1,0,2.827,568.040,0.000#E,1,0,2.985,567.847,0.000#E,1,0,-0.471,584.291,0.000#E,1,0,0.471,584.291,0.000#E,1,0,-1.257,579.255,8.420#E,1,0,1.257,579.255,8.420#E,1,0,-3.142,567.805,0.000#E,1,0,3.142,567.805,0.000#E,1,0,-1.414,577.695,8.327#E,1,0,1.414,577.695,8.327#E,1,0,-1.100,580.729,8.749#E,1,0,1.100,580.729,8.749#E,1,0,-0.628,583.875,6.203#E,1,0,0.628,583.875,6.203#E,1,0,-1.728,574.619,8.768#E,1,0,1.728,574.619,8.768#E,1,0,-2.042,571.869,10.171#E,1,0,2.042,571.869,10.171#E,1,1,0.000,606.444,0.000#E,1,1,-1.885,594.022,9.926#E,1,1,1.885,594.022,9.926#E,1,1,-2.199,591.586,12.130#E,1,1,2.199,591.586,12.130#E,1,1,-0.314,606.225,0.000#E,1,1,0.314,606.225,0.000#E,1,1,-0.785,604.302,11.257#E,1,1,0.785,604.302,11.257#E,1,1,-2.670,589.247,0.000#E,1,1,2.670,589.247,0.000#E,1,1,-0.942,603.074,10.068#E,1,1,0.942,603.074,10.068#E,1,1,-2.513,589.872,5.796#E,1,1,-0.157,606.385,0.000#E,1,1,0.157,606.385,0.000#E,1,1,2.513,589.872,5.796#E,1,1,-1.571,596.986,9.012#E,1,1,1.571,596.986,9.012#E,1,1,-2.985,588.649,0.000#E,1,1,-2.827,588.836,0.000#E,1,1,-2.356,590.652,9.832#E,1,1,2.356,590.652,9.832#E,1,1,2.827,588.836,0.000#E,1,1,2.985,588.649,0.000#E,1,1,-0.471,605.904,4.245#E,1,1,0.471,605.904,4.245#E,1,1,-1.257,600.099,9.016#E,1,1,1.257,600.099,9.016#E,1,1,-3.142,588.601,0.000#E,1,1,3.142,588.601,0.000#E,1,1,-1.414,598.545,8.904#E,1,1,1.414,598.545,8.904#E,1,1,-1.100,601.643,9.375#E,1,1,1.100,601.643,9.375#E,1,1,-0.628,605.280,10.206#E,1,1,0.628,605.280,10.206#E,1,1,-1.728,595.464,9.347#E,1,1,1.728,595.464,9.347#E,1,1,-2.042,592.713,10.815#E,1,1,2.042,592.713,10.815#E,1,2,0.000,628.265,0.000#E,1,2,-1.885,614.866,10.524#E,1,2,1.885,614.866,10.524#E,1,2,-2.199,612.431,11.806#E,1,2,2.199,612.431,11.806#E,1,2,-0.314,627.886,1.648#E,1,2,0.314,627.886,1.648#E,1,2,-0.785,625.392,12.009#E,1,2,0.785,625.392,12.009#E,1,2,-2.670,610.049,0.000#E,1,2,2.670,610.049,0.000#E,1,2,-0.942,624.020,10.749#E,1,2,0.942,624.020,10.749#E,1,2,-2.513,610.674,5.488#E,1,2,-0.157,628.143,0.000#E,1,2,0.157,628.143,0.000#E,1,2,2.513,610.674,5.488#E,1,2,-1.571,617.830,9.581#E,1,2,1.571,617.830,9.581#E,1,2,-2.985,609.445,0.000#E,1,2,-2.827,609.637,0.000#E,1,2,-2.356,611.469,9.216#E,1,2,2.356,611.469,9.216#E,1,2,2.827,609.637,0.000#E,1,2,2.985,609.445,0.000#E,1,2,-0.471,627.384,9.238#E,1,2,0.471,627.384,9.238#E,1,2,-1.257,620.949,9.608#E,1,2,1.257,620.949,9.608#E,1,2,-3.142,609.402,0.000#E,1,2,3.142,609.402,0.000#E,1,2,-1.414,619.389,9.477#E,1,2,1.414,619.389,9.477#E,1,2,-1.100,622.508,10.008#E,1,2,1.100,622.508,10.008#E,1,2,-0.628,626.546,13.883#E,1,2,0.628,626.546,13.883#E,1,2,-1.728,616.308,9.921#E,1,2,1.728,616.308,9.921#E,1,2,-2.042,613.557,11.454#E,1,2,2.042,613.557,11.454#E,1,3,0.000,650.050,0.000#E,1,3,-1.885,635.710,11.120#E,1,3,1.885,635.710,11.120#E,1,3,-2.199,633.264,11.123#E,1,3,2.199,633.264,11.123#E,1,3,-0.314,649.446,8.610#E,1,3,0.314,649.446,8.610#E,1,3,-0.785,646.381,12.772#E,1,3,0.785,646.381,12.772#E,1,3,-2.670,630.850,0.165#E,1,3,2.670,630.850,0.165#E,1,3,-0.942,644.907,11.440#E,1,3,0.942,644.907,11.440#E,1,3,-2.513,631.475,5.282#E,1,3,-0.157,649.841,0.000#E,1,3,0.157,649.841,0.000#E,1,3,2.513,631.475,5.282#E,1,3,-1.571,638.674,10.146#E,1,3,1.571,638.674,10.146#E,1,3,-2.985,630.247,0.000#E,1,3,-2.827,630.439,0.000#E,1,3,-2.356,632.287,8.733#E,1,3,2.356,632.287,8.733#E,1,3,2.827,630.439,0.000#E,1,3,2.985,630.247,0.000#E,1,3,-0.471,648.736,13.955#E,1,3,0.471,648.736,13.955#E,1,3,-1.257,641.793,10.201#E,1,3,1.257,641.793,10.201#E,1,3,-3.142,630.204,0.000#E,1,3,3.142,630.204,0.000#E,1,3,-1.414,640.234,10.049#E,1,3,1.414,640.234,10.049#E,1,3,-1.100,643.353,10.638#E,1,3,1.100,643.353,10.638#E,1,3,-0.628,647.689,15.010#E,1,3,0.628,647.689,15.010#E,1,3,-1.728,637.152,10.494#E,1,3,1.728,637.152,10.494#E,1,3,-2.042,634.402,12.093#E,1,3,2.042,634.402,12.093#E,1,4,0.000,675.049,0.000#E,1,4,-1.885,660.709,11.055#E,1,4,1.885,660.709,11.055#E,1,4,-2.199,658.263,11.073#E,1,4,2.199,658.263,11.073#E,1,4,-0.314,674.445,8.572#E,1,4,0.314,674.445,8.572#E,1,4,-0.785,671.385,12.703#E,1,4,0.785,671.385,12.703#E,1,4,-2.670,655.849,0.165#E,1,4,2.670,655.849,0.165#E,1,4,-0.942,669.906,11.372#E,1,4,0.942,669.906,11.372#E,1,4,-2.513,656.474,5.259#E,1,4,-0.157,674.841,0.000#E,1,4,0.157,674.841,0.000#E,1,4,2.513,656.474,5.259#E,1,4,-1.571,663.673,10.088#E,1,4,1.571,663.673,10.088#E,1,4,-2.985,655.246,0.000#E,1,4,-2.827,655.438,0.000#E,1,4,-2.356,657.286,8.697#E,1,4,2.356,657.286,8.697#E,1,4,2.827,655.438,0.000#E,1,4,2.985,655.246,0.000#E,1,4,-0.471,673.735,13.898#E,1,4,0.471,673.735,13.898#E,1,4,-1.257,666.792,10.144#E,1,4,1.257,666.792,10.144#E,1,4,-3.142,655.203,0.000#E,1,4,3.142,655.203,0.000#E,1,4,-1.414,665.233,9.990#E,1,4,1.414,665.233,9.990#E,1,4,-1.100,668.352,10.578#E,1,4,1.100,668.352,10.5")
-            .append("78#E,1,4,-0.628,672.688,14.929#E,1,4,0.628,672.688,14.929#E,1,4,-1.728,662.151,10.431#E,1,4,1.728,662.151,10.431#E,1,4,-2.042,659.401,12.021#E,1,4,2.042,659.401,12.021#E,2,0,0.000,582.203,0.000#E,2,0,-1.885,570.229,9.722#E,2,0,1.885,570.229,9.722#E,2,0,-2.199,567.682,11.910#E,2,0,2.199,567.682,11.910#E,2,0,-0.314,582.091,0.000#E,2,0,0.314,582.091,0.000#E,2,0,-0.785,580.627,10.970#E,2,0,0.785,580.627,10.970#E,2,0,-2.670,565.279,0.415#E,2,0,2.670,565.279,0.415#E,2,0,-0.942,579.511,9.800#E,2,0,0.942,579.511,9.800#E,2,0,-2.513,565.919,6.684#E,2,0,-0.157,582.182,0.000#E,2,0,0.157,582.182,0.000#E,2,0,2.513,565.919,6.684#E,2,0,-1.571,573.332,8.803#E,2,0,1.571,573.332,8.803#E,2,0,-2.985,564.648,0.000#E,2,0,-2.827,564.846,0.000#E,2,0,-2.356,566.715,10.954#E,2,0,2.356,566.715,10.954#E,2,0,2.827,564.846,0.000#E,2,0,2.985,564.648,0.000#E,2,0,-0.471,581.877,0.000#E,2,0,0.471,581.877,0.000#E,2,0,-1.257,576.595,8.778#E,2,0,1.257,576.595,8.778#E,2,0,-3.142,564.600,0.000#E,2,0,3.142,564.600,0.000#E,2,0,-1.414,574.966,8.683#E,2,0,1.414,574.966,8.683#E,2,0,-1.100,578.144,9.123#E,2,0,1.100,578.144,9.123#E,2,0,-0.628,581.434,6.551#E,2,0,0.628,581.434,6.551#E,2,0,-1.728,571.735,9.142#E,2,0,1.728,571.735,9.142#E,2,0,-2.042,568.862,10.605#E,2,0,2.042,568.862,10.605#E,2,1,0.000,603.896,0.000#E,2,1,-1.885,590.876,10.346#E,2,1,1.885,590.876,10.346#E,2,1,-2.199,588.329,12.645#E,2,1,2.199,588.329,12.645#E,2,1,-0.314,603.667,0.000#E,2,1,0.314,603.667,0.000#E,2,1,-0.785,601.648,11.734#E,2,1,0.785,601.648,11.734#E,2,1,-2.670,585.877,0.491#E,2,1,2.670,585.877,0.491#E,2,1,-0.942,600.356,10.497#E,2,1,0.942,600.356,10.497#E,2,1,-2.513,586.523,6.274#E,2,1,-0.157,603.832,0.000#E,2,1,0.157,603.832,0.000#E,2,1,2.513,586.523,6.274#E,2,1,-1.571,593.979,9.394#E,2,1,1.571,593.979,9.394#E,2,1,-2.985,585.247,0.000#E,2,1,-2.827,585.450,0.000#E,2,1,-2.356,587.341,10.201#E,2,1,2.356,587.341,10.201#E,2,1,2.827,585.450,0.000#E,2,1,2.985,585.247,0.000#E,2,1,-0.471,603.325,4.732#E,2,1,0.471,603.325,4.732#E,2,1,-1.257,597.247,9.398#E,2,1,1.257,597.247,9.398#E,2,1,-3.142,585.204,0.000#E,2,1,3.142,585.204,0.000#E,2,1,-1.414,595.613,9.280#E,2,1,1.414,595.613,9.280#E,2,1,-1.100,598.860,9.774#E,2,1,1.100,598.860,9.774#E,2,1,-0.628,602.668,10.554#E,2,1,0.628,602.668,10.554#E,2,1,-1.728,592.382,9.741#E,2,1,1.728,592.382,9.741#E,2,1,-2.042,589.509,11.274#E,2,1,2.042,589.509,11.274#E,2,2,0.000,625.563,0.000#E,2,2,-1.885,611.523,10.967#E,2,2,1.885,611.523,10.967#E,2,2,-2.199,608.970,12.122#E,2,2,2.199,608.970,12.122#E,2,2,-0.314,625.168,2.422#E,2,2,0.314,625.168,2.422#E,2,2,-0.785,622.551,12.515#E,2,2,0.785,622.551,12.515#E,2,2,-2.670,606.476,0.651#E,2,2,2.670,606.476,0.651#E,2,2,-0.942,621.114,11.205#E,2,2,0.942,621.114,11.205#E,2,2,-2.513,607.127,5.989#E,2,2,-0.157,625.435,0.000#E,2,2,0.157,625.435,0.000#E,2,2,2.513,607.127,5.989#E,2,2,-1.571,614.626,9.986#E,2,2,1.571,614.626,9.986#E,2,2,-2.985,605.851,0.000#E,2,2,-2.827,606.049,0.000#E,2,2,-2.356,607.961,9.608#E,2,2,2.356,607.961,9.608#E,2,2,2.827,606.049,0.000#E,2,2,2.985,605.851,0.000#E,2,2,-0.471,624.639,9.727#E,2,2,0.471,624.639,9.727#E,2,2,-1.257,617.894,10.015#E,2,2,1.257,617.894,10.015#E,2,2,-3.142,605.803,0.000#E,2,2,3.142,605.803,0.000#E,2,2,-1.414,616.260,9.878#E,2,2,1.414,616.260,9.878#E,2,2,-1.100,619.528,10.432#E,2,2,1.100,619.528,10.432#E,2,2,-0.628,623.758,14.230#E,2,2,0.628,623.758,14.230#E,2,2,-1.728,613.029,10.338#E,2,2,1.728,613.029,10.338#E,2,2,-2.042,610.150,11.938#E,2,2,2.042,610.150,11.938#E,2,3,0.000,647.192,0.000#E,2,3,-1.885,632.169,11.590#E,2,3,1.885,632.169,11.590#E,2,3,-2.199,629.601,11.457#E,2,3,2.199,629.601,11.457#E,2,3,-0.314,646.557,9.376#E,2,3,0.314,646.557,9.376#E,2,3,-0.785,643.353,13.311#E,2,3,0.785,643.353,13.311#E,2,3,-2.670,627.080,0.879#E,2,3,2.670,627.080,0.879#E,2,3,-0.942,641.804,11.919#E,2,3,0.942,641.804,11.919#E,2,3,-2.513,627.731,5.807#E,2,3,-0.157,646.979,0.000#E,2,3,0.157,646.979,0.000#E,2,3,2.513,627.731,5.807#E,2,3,-1.571,635.272,10.574#E,2,3,1.571,635.272,10.574#E,2,3,-2.985,626.450,0.000#E,2,3,-2.827,626.647,0.000#E,2,3,-2.356,628.575,9.142#E,2,3,2.356,628.575,9.142#E,2,3,2.827,626.647,0.000#E,2,3,2.985,626.450,0.000#E,2,3,-0.471,645.815,14.441#E,2,3,0.471,645.815,14.441#E,2,3,-1.257,638.541,10.630#E,2,3,1.257,638.541,10.630#E,2,3,-3.142,626.402,0.000#E,2,3,3.142,626.402,0.000#E,2,3,-1.414,636.906,10.472#E,2,3,1.414,636.906,10.472#E,2,3,-1.100,640.175,11.086#E,2,3,1.100,640.175,11.086#E,2,3,-0.628,644.714,15.641#E,2,3,0.628,644.714,15.641#E,2,3,-1.728,633.675,10.935#E,2,3,1.728,633.675,10.935#E,2,3,-2.042,630.797,12.601#E,2,3,2.042,630.797,12.601#E,2,4,0.000,672.192,0.000#E,2,4,-1.885,657.169,11.524#E,2,4,1.885,657.169,11.524#E,2,4,-2.199,654.600,11.409#E,2,4,2.199,654.600,11.409#E,2,4,-0.314,671.556,9.340#E,2,4,0.314,671.556,9.340#E,2,4,-0.785,668.352,13.239#E,2,4,0.785,668.352,13.239#E,2,4,-2.670,652.079,0.875#E,2,4,2.670,652.079,0.875#E,2,4,-0.942,666.803,11.853#E,2,4,0.942,666.803,11.853#E,2,4,-2.513,652.731,5.785#E,2,4,-0.157,671.978,0.000#E,2,4,0.157,671.978,0.000#E,2,4,2.513,652.731,5.785#E,2,4,-1.571,660.271,10.513#E,2,4,1.571,660.271,10.513#E,2,4,-2.985,651.449,0.000#E,2,4,-2.827,651.646,0.000#E,2,4,-2.356,653.574,9.105#E,2,4,2.356,653.574,9.105#E,2,4,2.827,651.646,0.000#E,2,4,2.985,651.449,0.000#E,2,4,-0.471,670.814,14.388#E,2,4,0.471,670.814,14.388#E,2,4,-1.257,663.540,10.574#E,2,4,1.257,663.540,10.574#E,2,4,-3.142,651.401,0.000#E,2,4,3.142,651.401,0.000#E,2,4,-1.414,661.906,10.415#E,2,4,1.414,661.906,10.415#E,2,4,-1.100,665.174,11.024#E,2,4,1.100,665.174,11.024#E,2,4,-0.628,669.714,15.557#E,2,4,0.628,669.714,15.557#E,2,4,-1.728,658.675,10.875#E,2,4,1.728,658.675,10.875#E,2,4,-2.042,655.796,12.530#E,2,4,2.042,655.796,12.530#E,3,0,0.000,579.805,0.000#E,3,0,-1.885,567.281,10.115#E,3,0,1.885,567.281,10.115#E,3,0,-2.199,564.616,12.391#E,3,0,2.199,564.616,12.391#E,3,0,-0.314,579.688,0.000#E,3,0,0.314,579.688,0.000#E,3,0,-0.785,578.155,11.414#E,3,0,0.785,578.155,11.414#E,3,0,-2.670,562.106,1.030#E,3,0,2.670,562.106,1.030#E,3,0,-0.942,576.985,10.197#E,3,0,0.942,576.985,10.197#E,3,0,-2.513,562.774,7.129#E,3,0,-0.157,579.784,0.000#E,3,0,0.157,579.784,0.000#E,3,0,2.513,562.774,7.129#E,3,0,-1.571,570.528,9.162#E,3,0,1.571,570.528,9.162#E,3,0,-2.985,561.449,0.000#E,3,0,-2.827,561.658,0.000#E,3,0,-2.356,563.607,11.294#E,3,0,2.356,563.607,11.294#E,3,0,2.827,561.658,0.000#E,3,0,2.985,561.449,0.000#E,3,0,-0.471,579.463,0.110#E,3,0,0.471,579.463,0.110#E,3,0,-1.257,573.936,9.133#E,3,0,1.257,573.936,9.133#E,3,0,-3.142,561.401,0.000#E,3,0,3.142,561.401,0.000#E,3,0,-1.414,572.232,9.035#E,3,0,1.414,572.232,9.035#E,3,0,-1.100,575.554,9.493#E,3,0,1.100,575.554,9.493#E,3,0,-0.628,578.993,6.894#E,3,0,0.628,578.993,6.894#E,3,0,-1.728,568.857,9.513#E,3,0,1.728,568.857,9.513#E,3,0,-2.042,565.850,11.034#E,3,0,2.042,565.850,11.034#E,3,1,0.000,601.344,0.000#E,3,1,-1.885,587.730,10.763#E,3,1,1.885,587.730,10.763#E,3,1,-2.199,585.065,13.155#E,3,1,2.199,585.065,13.155#E,3,1,-0.314,601.103,0.000#E,3,1,0.314,601.103,0.000#E,3,1,-0.785,598.994,12.206#E,3,1,0.785,598.994,12.206#E,3,1,-2.670,582.507,1.139#E,3,1,2.670,582.507,1.139#E,3,1,-0.942,597.643,10.921#E,3,1,0.942,597.643,10.921#E,3,1,-2.513,583.180,6.745#E,3,1,-0.157,601.279,0.000#E,3,1,0.157,601.279,0.000#E,3,1,2.513,583.180,6.745#E,3,1,-1.571,590.977,9.774#E,3,1,1.571,590.977,9.774#E,3,1,-2.985,581.850,0.000#E,3,1,-2.827,582.059,0.000#E,3,1,-2.356,584.035,10.564#E,3,1,2.356,584.035,10.564#E,3,1,2.827,582.059,0.000#E,3,1,2.985,581.850,0.000#E,3,1,-0.471,600.745,5.217#E,3,1,0.471,600.745,5.217#E,3,1,-1.257,594.390,9.774#E,3,1,1.257,594.390,9.774#E,3,1,-3.142,581.802,0.000#E,3,1,3.142,581.802,0.000#E,3,1,-1.414,592.681,9.654#E,3,1,1.414,592.681,9.654#E,3,1,-1.100,596.078,10.168#E,3,1,1.100,596.078,10.168#E,3,1,-0.628,600.056,10.898#E,3,1,0.628,600.056,10.898#E,3,1,-1.728,589.306,10.132#E,3,1,1.728,589.306,10.132#E,3,1,-2.042,586.299,11.725#E,3,1,2.042,586.299,11.725#E,3,2,0.000,622.861,0.000#E,3,2,-1.885,608.174,11.407#E,3,2,1.885,608.174,11.407#E,3,2,-2.199,605.504,12.433#E,3,2,2.199,605.504,12.433#E,3,2,-0.314,622.444,3.192#E,3,2,0.314,622.444,3.192#E,3,2,-0.785,619.710,13.017#E,3,2,0.785,619.710,13.017#E,3,2,-2.670,602.908,1.326#E,3,2,2.670,602.908,1.326#E,3,2,-0.942,618.209,11.656#E,3,2,0.942,618.209,11.656#E,3,2,-2.513,603.581,6.484#E,3,2,-0.157,622.727,0.000#E,3,2,0.157,622.727,0.000#E,3,2,2.513,603.581,6.484#E,3,2,-1.571,611.421,10.384#E,3,2,1.571,611.421,10.384#E,3,2,-2.985,602.251,0.000#E,3,2,-2.827,602.460,0.000#E,3,2,-2.356,604.452,9.993#E,3,2,2.356,604.452,9.993#E,3,2,2.827,602.460,0.000#E,3,2,2.985,602.251,0.000#E,3,2,-0.471,621.889,10.209#E,3,2,0.471,621.889,10.209#E,3,2,-1.257,614.839,10.415#E,3,2,1.257,614.839,10.415#E,3,2,-3.142,602.203,0.000#E,3,2,3.142,602.203,0.000#E,3,2,-1.414,613.130,10.272#E,3,2,1.414,613.130,10.272#E,3,2,-1.100,616.548,10.848#E,3,2,1.100,616.548,10.848#E,3,2,-0.628,620.970,14.571#E,3,2,0.628,620.970,14.571#E,3,2,-1.728,609.755,10.753#E,3,2,1.728,609.755,10.753#E,3,2,-2.042,606.743,12.417#E,3,2,2.042,606.743,12.417#E,3,3,0.000,644.335,0.000#E,3,3,-1.885,628.623,12.050#E,3,3,1.885,628.623,12.050#E,3,3,-2.199,625.937,11.789#E,3,3,2.199,625.937,11.789#E,3,3,-0.314,643.668,10.137#E,3,3,0.314,643.668,10.137#E,3,3,-0.785,640.319,13.841#E,3,3,0.785,640.319,13.841#E,3,3,-2.670,623.309,1.585#E,3,3,2.670,623.309,1.585#E,3,3,-0.942,638.696,12.395#E,3,3,0.942,638.696,12.395#E,3,3,-2.513,623.982,6.325#E,3,3,-0.157,644.111,0.000#E,3,3,0.157,644.111,0.000#E,3,3,2.513,623.982,6.325#E,3,3,-1.571,631.870,10.996#E,3,3,1.571,631.870,10.996#E,3,3,-2.985,622.652,0.000#E,3,3,-2.827,622.861,0.000#E,3,3,-2.356,624.863,9.546#E,3,3,2.356,624.863,9.546#E,3,3,2.827,622.861,0.000#E,3,3,2.985,622.652,0.000#E,3,3,-0.471,642.893,14.920#E,3,3,0.471,642.893,14.920#E,3,3,-1.257,635.288,11.055#E,3,3,1.257,635.288,11.055#E,3,3,-3.142,622.604,0.000#E,3,3,3.142,622.604,0.000#E,3,3,-1.414,633.579,10.889#E,3,3,1.414,633.579,10.889#E,3,3,-1.100,636.992,11.532#E,3,3,1.100,636.992,11.532#E,3,3,-0.628,641.745,16.263#E,3,3,0.628,641.745,16.263#")
-            .append("E,3,3,-1.728,630.204,11.373#E,3,3,1.728,630.204,11.373#E,3,3,-2.042,627.192,13.107#E,3,3,2.042,627.192,13.107#E,3,4,0.000,669.334,0.000#E,3,4,-1.885,653.622,11.984#E,3,4,1.885,653.622,11.984#E,3,4,-2.199,650.936,11.741#E,3,4,2.199,650.936,11.741#E,3,4,-0.314,668.667,10.098#E,3,4,0.314,668.667,10.098#E,3,4,-0.785,665.318,13.768#E,3,4,0.785,665.318,13.768#E,3,4,-2.670,648.309,1.579#E,3,4,2.670,648.309,1.579#E,3,4,-0.942,663.695,12.330#E,3,4,0.942,663.695,12.330#E,3,4,-2.513,648.981,6.302#E,3,4,-0.157,669.110,0.000#E,3,4,0.157,669.110,0.000#E,3,4,2.513,648.981,6.302#E,3,4,-1.571,656.870,10.935#E,3,4,1.571,656.870,10.935#E,3,4,-2.985,647.652,0.000#E,3,4,-2.827,647.860,0.000#E,3,4,-2.356,649.863,9.513#E,3,4,2.356,649.863,9.513#E,3,4,2.827,647.860,0.000#E,3,4,2.985,647.652,0.000#E,3,4,-0.471,667.892,14.869#E,3,4,0.471,667.892,14.869#E,3,4,-1.257,660.287,10.996#E,3,4,1.257,660.287,10.996#E,3,4,-3.142,647.604,0.000#E,3,4,3.142,647.604,0.000#E,3,4,-1.414,658.578,10.831#E,3,4,1.414,658.578,10.831#E,3,4,-1.100,661.996,11.467#E,3,4,1.100,661.996,11.467#E,3,4,-0.628,666.744,16.180#E,3,4,0.628,666.744,16.180#E,3,4,-1.728,655.203,11.312#E,3,4,1.728,655.203,11.312#E,3,4,-2.042,652.191,13.035#E,3,4,2.042,652.191,13.035#E,4,0,0.000,577.402,0.000#E,4,0,-1.885,564.333,10.503#E,4,0,1.885,564.333,10.503#E,4,0,-2.199,561.551,12.866#E,4,0,2.199,561.551,12.866#E,4,0,-0.314,577.284,0.000#E,4,0,0.314,577.284,0.000#E,4,0,-0.785,575.682,11.853#E,4,0,0.785,575.682,11.853#E,4,0,-2.670,558.939,1.644#E,4,0,2.670,558.939,1.644#E,4,0,-0.942,574.459,10.590#E,4,0,0.942,574.459,10.590#E,4,0,-2.513,559.628,7.574#E,4,0,-0.157,577.380,0.000#E,4,0,0.157,577.380,0.000#E,4,0,2.513,559.628,7.574#E,4,0,-1.571,567.719,9.509#E,4,0,1.571,567.719,9.509#E,4,0,-2.985,558.250,0.000#E,4,0,-2.827,558.469,0.000#E,4,0,-2.356,560.499,11.635#E,4,0,2.356,560.499,11.635#E,4,0,2.827,558.469,0.000#E,4,0,2.985,558.250,0.000#E,4,0,-0.471,577.049,0.590#E,4,0,0.471,577.049,0.590#E,4,0,-1.257,571.276,9.482#E,4,0,1.257,571.276,9.482#E,4,0,-3.142,558.202,0.000#E,4,0,3.142,558.202,0.000#E,4,0,-1.414,569.503,9.381#E,4,0,1.414,569.503,9.381#E,4,0,-1.100,572.969,9.858#E,4,0,1.100,572.969,9.858#E,4,0,-0.628,576.558,7.234#E,4,0,0.628,576.558,7.234#E,4,0,-1.728,565.978,9.875#E,4,0,1.728,565.978,9.875#E,4,0,-2.042,562.838,11.456#E,4,0,2.042,562.838,11.456#E,4,1,0.000,598.796,0.000#E,4,1,-1.885,584.579,11.173#E,4,1,1.885,584.579,11.173#E,4,1,-2.199,581.802,13.521#E,4,1,2.199,581.802,13.521#E,4,1,-0.314,598.545,0.000#E,4,1,0.314,598.545,0.000#E,4,1,-0.785,596.334,12.671#E,4,1,0.785,596.334,12.671#E,4,1,-2.670,579.137,1.782#E,4,1,2.670,579.137,1.782#E,4,1,-0.942,594.930,11.337#E,4,1,0.942,594.930,11.337#E,4,1,-2.513,579.832,7.210#E,4,1,-0.157,598.727,0.000#E,4,1,0.157,598.727,0.000#E,4,1,2.513,579.832,7.210#E,4,1,-1.571,587.971,10.146#E,4,1,1.571,587.971,10.146#E,4,1,-2.985,578.454,0.000#E,4,1,-2.827,578.673,0.000#E,4,1,-2.356,580.724,10.925#E,4,1,2.356,580.724,10.925#E,4,1,2.827,578.673,0.000#E,4,1,2.985,578.454,0.000#E,4,1,-0.471,598.166,5.699#E,4,1,0.471,598.166,5.699#E,4,1,-1.257,591.533,10.150#E,4,1,1.257,591.533,10.150#E,4,1,-3.142,578.400,0.000#E,4,1,3.142,578.400,0.000#E,4,1,-1.414,589.749,10.022#E,4,1,1.414,589.749,10.022#E,4,1,-1.100,593.295,10.556#E,4,1,1.100,593.295,10.556#E,4,1,-0.628,597.445,11.239#E,4,1,0.628,597.445,11.239#E,4,1,-1.728,586.230,10.519#E,4,1,1.728,586.230,10.519#E,4,1,-2.042,583.089,12.174#E,4,1,2.042,583.089,12.174#E,4,2,0.000,620.158,0.000#E,4,2,-1.885,604.831,11.841#E,4,2,1.885,604.831,11.841#E,4,2,-2.199,602.043,12.739#E,4,2,2.199,602.043,12.739#E,4,2,-0.314,619.726,3.951#E,4,2,0.314,619.726,3.951#E,4,2,-0.785,616.863,13.511#E,4,2,0.785,616.863,13.511#E,4,2,-2.670,599.335,1.999#E,4,2,2.670,599.335,1.999#E,4,2,-0.942,615.298,12.099#E,4,2,0.942,615.298,12.099#E,4,2,-2.513,600.035,6.972#E,4,2,-0.157,620.020,0.000#E,4,2,0.157,620.020,0.000#E,4,2,2.513,600.035,6.972#E,4,2,-1.571,608.222,10.779#E,4,2,1.571,608.222,10.779#E,4,2,-2.985,598.652,0.000#E,4,2,-2.827,598.871,0.000#E,4,2,-2.356,600.943,10.372#E,4,2,2.356,600.943,10.372#E,4,2,2.827,598.871,0.000#E,4,2,2.985,598.652,0.000#E,4,2,-0.471,619.138,10.685#E,4,2,0.471,619.138,10.685#E,4,2,-1.257,611.784,10.815#E,4,2,1.257,611.784,10.815#E,4,2,-3.142,598.604,0.000#E,4,2,3.142,598.604,0.000#E,4,2,-1.414,610.001,10.663#E,4,2,1.414,610.001,10.663#E,4,2,-1.100,613.568,11.263#E,4,2,1.100,613.568,11.263#E,4,2,-0.628,618.182,14.912#E,4,2,0.628,618.182,14.912#E,4,2,-1.728,606.476,11.164#E,4,2,1.728,606.476,11.164#E,4,2,-2.042,603.336,12.889#E,4,2,2.042,603.336,12.889#E,4,3,0.000,641.483,0.000#E,4,3,-1.885,625.082,12.506#E,4,3,1.885,625.082,12.506#E,4,3,-2.199,622.273,12.112#E,4,3,2.199,622.273,12.112#E,4,3,-0.314,640.778,10.886#E,4,3,0.314,640.778,10.886#E,4,3,-0.785,637.286,14.364#E,4,3,0.785,637.286,14.364#E,4,3,-2.670,619.534,2.286#E,4,3,2.670,619.534,2.286#E,4,3,-0.942,635.593,12.868#E,4,3,0.942,635.593,12.868#E,4,3,-2.513,620.238,6.838#E,4,3,-0.157,641.248,0.715#E,4,3,0.157,641.248,0.715#E,4,3,2.513,620.238,6.838#E,4,3,-1.571,628.468,11.410#E,4,3,1.571,628.468,11.410#E,4,3,-2.985,618.855,0.000#E,4,3,-2.827,619.069,0.000#E,4,3,-2.356,621.152,9.950#E,4,3,2.356,621.152,9.950#E,4,3,2.827,619.069,0.000#E,4,3,2.985,618.855,0.000#E,4,3,-0.471,639.967,15.396#E,4,3,0.471,639.967,15.396#E,4,3,-1.257,632.036,11.474#E,4,3,1.257,632.036,11.474#E,4,3,-3.142,618.802,0.000#E,4,3,3.142,618.802,0.000#E,4,3,-1.414,630.252,11.300#E,4,3,1.414,630.252,11.300#E,4,3,-1.100,633.814,11.969#E,4,3,1.100,633.814,11.969#E,4,3,-0.628,638.776,16.877#E,4,3,0.628,638.776,16.877#E,4,3,-1.728,626.727,11.802#E,4,3,1.728,626.727,11.802#E,4,3,-2.042,623.587,13.601#E,4,3,2.042,623.587,13.601#E,4,4,0.000,666.483,0.000#E,4,4,-1.885,650.082,12.439#E,4,4,1.885,650.082,12.439#E,4,4,-2.199,647.278,12.071#E,4,4,2.199,647.278,12.071#E,4,4,-0.314,665.778,10.847#E,4,4,0.314,665.778,10.847#E,4,4,-0.785,662.285,14.292#E,4,4,0.785,662.285,14.292#E,4,4,-2.670,644.538,2.274#E,4,4,2.670,644.538,2.274#E,4,4,-0.942,660.592,12.799#E,4,4,0.942,660.592,12.799#E,4,4,-2.513,645.238,6.816#E,4,4,-0.157,666.248,0.712#E,4,4,0.157,666.248,0.712#E,4,4,2.513,645.238,6.816#E,4,4,-1.571,653.468,11.352#E,4,4,1.571,653.468,11.352#E,4,4,-2.985,643.855,0.000#E,4,4,-2.827,644.068,0.000#E,4,4,-2.356,646.151,9.915#E,4,4,2.356,646.151,9.915#E,4,4,2.827,644.068,0.000#E,4,4,2.985,643.855,0.000#E,4,4,-0.471,664.966,15.341#E,4,4,0.471,664.966,15.341#E,4,4,-1.257,657.035,11.415#E,4,4,1.257,657.035,11.415#E,4,4,-3.142,643.801,0.000#E,4,4,3.142,643.801,0.000#E,4,4,-1.414,655.251,11.243#E,4,4,1.414,655.251,11.243#E,4,4,-1.100,658.813,11.905#E,4,4,1.100,658.813,11.905#E,4,4,-0.628,663.775,16.792#E,4,4,0.628,663.775,16.792#E,4,4,-1.728,651.727,11.742#E,4,4,1.728,651.727,11.742#E,4,4,-2.042,648.586,13.529#E,4,4,2.042,648.586,13.529#E,6,0,0.000,571.164,0.000#E,6,0,-1.885,556.707,10.380#E,6,0,1.885,556.707,10.380#E,6,0,-2.199,554.576,8.298#E,6,0,2.199,554.576,8.298#E,6,0,-0.314,569.434,28.656#E,6,0,0.314,569.434,28.656#E,6,0,-0.785,565.620,13.585#E,6,0,0.785,565.620,13.585#E,6,0,-2.670,552.408,0.000#E,6,0,2.670,552.408,0.000#E,6,0,-0.942,564.333,12.120#E,6,0,0.942,564.333,12.120#E,6,0,-2.513,552.974,3.662#E,6,0,-0.157,570.534,45.374#E,6,0,0.157,570.534,45.374#E,6,0,2.513,552.974,3.662#E,6,0,-1.571,559.180,10.558#E,6,0,1.571,559.180,10.558#E,6,0,-2.985,551.852,0.000#E,6,0,-2.827,552.034,0.000#E,6,0,-2.356,553.700,6.442#E,6,0,2.356,553.700,6.442#E,6,0,2.827,552.034,0.000#E,6,0,2.985,551.852,0.000#E,6,0,-0.471,568.195,20.168#E,6,0,0.471,568.195,20.168#E,6,0,-1.257,561.759,10.710#E,6,0,1.257,561.759,10.710#E,6,0,-3.142,551.804,0.000#E,6,0,3.142,551.804,0.000#E,6,0,-1.414,560.472,10.501#E,6,0,1.414,560.472,10.501#E,6,0,-1.100,563.046,11.222#E,6,0,1.100,563.046,11.222#E,6,0,-0.628,566.908,15.984#E,6,0,0.628,566.908,15.984#E,6,0,-1.728,557.914,10.876#E,6,0,1.728,557.914,10.876#E,6,0,-2.042,555.585,9.548#E,6,0,2.042,555.585,9.548#E,6,1,0.000,591.335,0.000#E,6,1,-1.885,576.542,9.759#E,6,1,1.885,576.542,9.759#E,6,1,-2.199,574.390,7.891#E,6,1,2.199,574.390,7.891#E,6,1,-0.314,589.338,30.699#E,6,1,0.314,589.338,30.699#E,6,1,-0.785,585.471,14.526#E,6,1,0.785,585.471,14.526#E,6,1,-2.670,572.205,0.000#E,6,1,2.670,572.205,0.000#E,6,1,-0.942,584.184,12.946#E,6,1,0.942,584.184,12.946#E,6,1,-2.513,572.771,3.702#E,6,1,-0.157,590.577,56.013#E,6,1,0.157,590.577,56.013#E,6,1,2.513,572.771,3.702#E,6,1,-1.571,579.031,10.451#E,6,1,1.571,579.031,10.451#E,6,1,-2.985,571.650,0.000#E,6,1,-2.827,571.837,0.000#E,6,1,-2.356,573.503,6.215#E,6,1,2.356,573.503,6.215#E,6,1,2.827,571.837,0.000#E,6,1,2.985,571.650,0.000#E,6,1,-0.471,588.051,21.603#E,6,1,0.471,588.051,21.603#E,6,1,-1.257,581.610,11.254#E,6,1,1.257,581.610,11.254#E,6,1,-3.142,571.602,0.000#E,6,1,3.142,571.602,0.000#E,6,1,-1.414,580.323,10.707#E,6,1,1.414,580.323,10.707#E,6,1,-1.100,582.897,11.974#E,6,1,1.100,582.897,11.974#E,6,1,-0.628,586.764,17.106#E,6,1,0.628,586.764,17.106#E,6,1,-1.728,577.760,10.217#E,6,1,1.728,577.760,10.217#E,6,1,-2.042,575.410,9.014#E,6,1,2.042,575.410,9.014#E,6,2,0.000,611.314,0.000#E,6,2,-1.885,596.371,9.269#E,6,2,1.885,596.371,9.269#E,6,2,-2.199,594.198,7.600#E,6,2,2.199,594.198,7.600#E,6,2,-0.314,609.189,32.745#E,6,2,0.314,609.189,32.745#E,6,2,-0.785,605.328,14.679#E,6,2,0.785,605.328,14.679#E,6,2,-2.670,592.008,0.333#E,6,2,2.670,592.008,0.333#E,6,2,-0.942,604.035,12.706#E,6,2,0.942,604.035,12.706#E,6,2,-2.513,592.569,3.819#E,6,2,-0.157,610.476,60.578#E,6,2,0.157,610.476,60.578#E,6,2,2.513,592.569,3.819#E,6,2,-1.571,598.871,9.870#E,6,2,1.571,598.871,9.870#E,6,2,-2.985,591.453,0.000#E,6,2,-2.827,591.634,0.000#E,6,2,-2.356,593.306,6.090#E,6,2,2.356,593.306,6.090#E,6,2,2.827,591.634,0.000#E,6,2,2.985,591.453,0.000#E,6,2,-0.471,607.902,23.030#E,6,2,0.471,607.902,23.030#E,6,2,-1.257,601.456,10.586#E,6,2,1.257,601.456,10.586#E,6,2,-3.142,591.405,0.000#E,6,2,3.142,591.405,0.000#E,6,2,-1.414,600.163,10.091#E,6,2,1.414,600.163,10.091#E,6,2,-1.100,602.748,11.416#E,6,2,1.100,602.748,11.416#E,6,2,-0.628,606.615,17.810#E,6,2,0.628,606.615,17.810#E,6,2,-1.728,597.5")
-            .append("94,9.676#E,6,2,1.728,597.594,9.676#E,6,2,-2.042,595.229,8.609#E,6,2,2.042,595.229,8.609#E,6,3,0.000,631.315,0.000#E,6,3,-1.885,616.367,9.247#E,6,3,1.885,616.367,9.247#E,6,3,-2.199,614.198,7.581#E,6,3,2.199,614.198,7.581#E,6,3,-0.314,629.189,32.595#E,6,3,0.314,629.189,32.595#E,6,3,-0.785,625.323,14.647#E,6,3,0.785,625.323,14.647#E,6,3,-2.670,612.009,0.333#E,6,3,2.670,612.009,0.333#E,6,3,-0.942,624.036,12.678#E,6,3,0.942,624.036,12.678#E,6,3,-2.513,612.569,3.810#E,6,3,-0.157,630.476,60.400#E,6,3,0.157,630.476,60.400#E,6,3,2.513,612.569,3.810#E,6,3,-1.571,618.871,9.848#E,6,3,1.571,618.871,9.848#E,6,3,-2.985,611.453,0.000#E,6,3,-2.827,611.635,0.000#E,6,3,-2.356,613.306,6.076#E,6,3,2.356,613.306,6.076#E,6,3,2.827,611.635,0.000#E,6,3,2.985,611.453,0.000#E,6,3,-0.471,627.902,22.910#E,6,3,0.471,627.902,22.910#E,6,3,-1.257,621.456,10.561#E,6,3,1.257,621.456,10.561#E,6,3,-3.142,611.405,0.000#E,6,3,3.142,611.405,0.000#E,6,3,-1.414,620.164,10.067#E,6,3,1.414,620.164,10.067#E,6,3,-1.100,622.743,11.391#E,6,3,1.100,622.743,11.391#E,6,3,-0.628,626.615,17.774#E,6,3,0.628,626.615,17.774#E,6,3,-1.728,617.595,9.654#E,6,3,1.728,617.595,9.654#E,6,3,-2.042,615.224,8.589#E,6,3,2.042,615.224,8.589#E,6,4,0.000,656.079,0.000#E,6,4,-1.885,641.190,8.866#E,6,4,1.885,641.190,8.866#E,6,4,-2.199,639.005,7.380#E,6,4,2.199,639.005,7.380#E,6,4,-0.314,654.039,31.887#E,6,4,0.314,654.039,31.887#E,6,4,-0.785,650.167,13.826#E,6,4,0.785,650.167,13.826#E,6,4,-2.670,636.805,0.864#E,6,4,2.670,636.805,0.864#E,6,4,-0.942,648.875,11.988#E,6,4,0.942,648.875,11.988#E,6,4,-2.513,637.366,3.988#E,6,4,-0.157,655.321,56.074#E,6,4,0.157,655.321,56.074#E,6,4,2.513,637.366,3.988#E,6,4,-1.571,643.700,9.382#E,6,4,1.571,643.700,9.382#E,6,4,-2.985,636.250,0.000#E,6,4,-2.827,636.436,0.000#E,6,4,-2.356,638.103,6.026#E,6,4,2.356,638.103,6.026#E,6,4,2.827,636.436,0.000#E,6,4,2.985,636.250,0.000#E,6,4,-0.471,652.747,21.776#E,6,4,0.471,652.747,21.776#E,6,4,-1.257,646.290,10.027#E,6,4,1.257,646.290,10.027#E,6,4,-3.142,636.201,0.000#E,6,4,3.142,636.201,0.000#E,6,4,-1.414,644.992,9.574#E,6,4,1.414,644.992,9.574#E,6,4,-1.100,647.582,10.790#E,6,4,1.100,647.582,10.790#E,6,4,-0.628,651.460,16.747#E,6,4,0.628,651.460,16.747#E,6,4,-1.728,642.423,9.219#E,6,4,1.728,642.423,9.219#E,6,4,-2.042,640.041,8.282#E,6,4,2.042,640.041,8.282#E,7,0,0.000,568.691,0.000#E,7,0,-1.885,553.690,10.604#E,7,0,1.885,553.690,10.604#E,7,0,-2.199,551.473,8.592#E,7,0,2.199,551.473,8.592#E,7,0,-0.314,566.908,29.573#E,7,0,0.314,566.908,29.573#E,7,0,-0.785,562.950,14.032#E,7,0,0.785,562.950,14.032#E,7,0,-2.670,549.230,0.015#E,7,0,2.670,549.230,0.015#E,7,0,-0.942,561.610,12.520#E,7,0,0.942,561.610,12.520#E,7,0,-2.513,549.812,4.116#E,7,0,-0.157,568.050,46.382#E,7,0,0.157,568.050,46.382#E,7,0,2.513,549.812,4.116#E,7,0,-1.571,556.258,10.906#E,7,0,1.571,556.258,10.906#E,7,0,-2.985,548.653,0.000#E,7,0,-2.827,548.846,0.000#E,7,0,-2.356,550.565,6.795#E,7,0,2.356,550.565,6.795#E,7,0,2.827,548.846,0.000#E,7,0,2.985,548.653,0.000#E,7,0,-0.471,565.620,20.823#E,7,0,0.471,565.620,20.823#E,7,0,-1.257,558.934,11.065#E,7,0,1.257,558.934,11.065#E,7,0,-3.142,548.600,0.000#E,7,0,3.142,548.600,0.000#E,7,0,-1.414,557.599,10.847#E,7,0,1.414,557.599,10.847#E,7,0,-1.100,560.275,11.593#E,7,0,1.100,560.275,11.593#E,7,0,-0.628,564.285,16.506#E,7,0,0.628,564.285,16.506#E,7,0,-1.728,554.945,11.112#E,7,0,1.728,554.945,11.112#E,7,0,-2.042,552.525,9.802#E,7,0,2.042,552.525,9.802#E,7,1,0.000,588.676,0.000#E,7,1,-1.885,573.327,9.997#E,7,1,1.885,573.327,9.997#E,7,1,-2.199,571.089,8.203#E,7,1,2.199,571.089,8.203#E,7,1,-0.314,586.614,31.673#E,7,1,0.314,586.614,31.673#E,7,1,-0.785,582.603,14.999#E,7,1,0.785,582.603,14.999#E,7,1,-2.670,568.830,0.481#E,7,1,2.670,568.830,0.481#E,7,1,-0.942,581.263,13.371#E,7,1,0.942,581.263,13.371#E,7,1,-2.513,569.412,4.175#E,7,1,-0.157,587.901,56.998#E,7,1,0.157,587.901,56.998#E,7,1,2.513,569.412,4.175#E,7,1,-1.571,575.912,10.665#E,7,1,1.571,575.912,10.665#E,7,1,-2.985,568.253,0.000#E,7,1,-2.827,568.446,0.000#E,7,1,-2.356,570.171,6.588#E,7,1,2.356,570.171,6.588#E,7,1,2.827,568.446,0.000#E,7,1,2.985,568.253,0.000#E,7,1,-0.471,585.279,22.298#E,7,1,0.471,585.279,22.298#E,7,1,-1.257,578.593,11.469#E,7,1,1.257,578.593,11.469#E,7,1,-3.142,568.205,0.000#E,7,1,3.142,568.205,0.000#E,7,1,-1.414,577.252,10.918#E,7,1,1.414,577.252,10.918#E,7,1,-1.100,579.928,12.367#E,7,1,1.100,579.928,12.367#E,7,1,-0.628,583.939,17.664#E,7,1,0.628,583.939,17.664#E,7,1,-1.728,574.593,10.443#E,7,1,1.728,574.593,10.443#E,7,1,-2.042,572.147,9.286#E,7,1,2.042,572.147,9.286#E,7,2,0.000,608.398,0.000#E,7,2,-1.885,592.953,9.527#E,7,2,1.885,592.953,9.527#E,7,2,-2.199,590.694,7.928#E,7,2,2.199,590.694,7.928#E,7,2,-0.314,606.268,33.775#E,7,2,0.314,606.268,33.775#E,7,2,-0.785,602.257,14.969#E,7,2,0.785,602.257,14.969#E,7,2,-2.670,588.430,0.996#E,7,2,2.670,588.430,0.996#E,7,2,-0.942,600.916,12.963#E,7,2,0.942,600.916,12.963#E,7,2,-2.513,589.012,4.313#E,7,2,-0.157,607.603,58.392#E,7,2,0.157,607.603,58.392#E,7,2,2.513,589.012,4.313#E,7,2,-1.571,595.549,10.098#E,7,2,1.571,595.549,10.098#E,7,2,-2.985,587.853,0.000#E,7,2,-2.827,588.046,0.000#E,7,2,-2.356,589.771,6.481#E,7,2,2.356,589.771,6.481#E,7,2,2.827,588.046,0.000#E,7,2,2.985,587.853,0.000#E,7,2,-0.471,604.932,23.600#E,7,2,0.471,604.932,23.600#E,7,2,-1.257,598.235,10.816#E,7,2,1.257,598.235,10.816#E,7,2,-3.142,587.805,0.000#E,7,2,3.142,587.805,0.000#E,7,2,-1.414,596.895,10.316#E,7,2,1.414,596.895,10.316#E,7,2,-1.100,599.576,11.657#E,7,2,1.100,599.576,11.657#E,7,2,-0.628,603.597,18.145#E,7,2,0.628,603.597,18.145#E,7,2,-1.728,594.225,9.912#E,7,2,1.728,594.225,9.912#E,7,2,-2.042,591.763,8.894#E,7,2,2.042,591.763,8.894#E,7,3,0.000,628.399,0.000#E,7,3,-1.885,612.949,9.505#E,7,3,1.885,612.949,9.505#E,7,3,-2.199,610.695,7.911#E,7,3,2.199,610.695,7.911#E,7,3,-0.314,626.268,33.628#E,7,3,0.314,626.268,33.628#E,7,3,-0.785,622.252,14.938#E,7,3,0.785,622.252,14.938#E,7,3,-2.670,608.430,0.996#E,7,3,2.670,608.430,0.996#E,7,3,-0.942,620.917,12.936#E,7,3,0.942,620.917,12.936#E,7,3,-2.513,609.013,4.304#E,7,3,-0.157,627.603,58.417#E,7,3,0.157,627.603,58.417#E,7,3,2.513,609.013,4.304#E,7,3,-1.571,615.549,10.075#E,7,3,1.571,615.549,10.075#E,7,3,-2.985,607.854,0.000#E,7,3,-2.827,608.046,0.000#E,7,3,-2.356,609.771,6.469#E,7,3,2.356,609.771,6.469#E,7,3,2.827,608.046,0.000#E,7,3,2.985,607.854,0.000#E,7,3,-0.471,624.933,23.564#E,7,3,0.471,624.933,23.564#E,7,3,-1.257,618.236,10.794#E,7,3,1.257,618.236,10.794#E,7,3,-3.142,607.800,0.000#E,7,3,3.142,607.800,0.000#E,7,3,-1.414,616.890,10.294#E,7,3,1.414,616.890,10.294#E,7,3,-1.100,619.576,11.635#E,7,3,1.100,619.576,11.635#E,7,3,-0.628,623.592,18.113#E,7,3,0.628,623.592,18.113#E,7,3,-1.728,614.225,9.891#E,7,3,1.728,614.225,9.891#E,7,3,-2.042,611.763,8.871#E,7,3,2.042,611.763,8.871#E,7,4,0.000,652.950,0.000#E,7,4,-1.885,637.569,9.138#E,7,4,1.885,637.569,9.138#E,7,4,-2.199,635.299,7.724#E,7,4,2.199,635.299,7.724#E,7,4,-0.314,650.920,32.518#E,7,4,0.314,650.920,32.518#E,7,4,-0.785,646.899,14.135#E,7,4,0.785,646.899,14.135#E,7,4,-2.670,633.029,1.552#E,7,4,2.670,633.029,1.552#E,7,4,-0.942,645.553,12.267#E,7,4,0.942,645.553,12.267#E,7,4,-2.513,633.606,4.501#E,7,4,-0.157,652.239,52.947#E,7,4,0.157,652.239,52.947#E,7,4,2.513,633.606,4.501#E,7,4,-1.571,640.180,9.627#E,7,4,1.571,640.180,9.627#E,7,4,-2.985,632.452,0.000#E,7,4,-2.827,632.645,0.000#E,7,4,-2.356,634.370,6.434#E,7,4,2.356,634.370,6.434#E,7,4,2.827,632.645,0.000#E,7,4,2.985,632.452,0.000#E,7,4,-0.471,649.580,22.233#E,7,4,0.471,649.580,22.233#E,7,4,-1.257,642.867,10.275#E,7,4,1.257,642.867,10.275#E,7,4,-3.142,632.404,0.000#E,7,4,3.142,632.404,0.000#E,7,4,-1.414,641.526,9.817#E,7,4,1.414,641.526,9.817#E,7,4,-1.100,644.212,11.052#E,7,4,1.100,644.212,11.052#E,7,4,-0.628,648.239,17.112#E,7,4,0.628,648.239,17.112#E,7,4,-1.728,638.850,9.472#E,7,4,1.728,638.850,9.472#E,7,4,-2.042,636.378,8.582#E,7,4,2.042,636.378,8.582#E,8,0,0.000,566.224,0.000#E,8,0,-1.885,550.672,10.828#E,8,0,1.885,550.672,10.828#E,8,0,-2.199,548.370,8.880#E,8,0,2.199,548.370,8.880#E,8,0,-0.314,564.381,30.474#E,8,0,0.314,564.381,30.474#E,8,0,-0.785,560.275,14.475#E,8,0,0.785,560.275,14.475#E,8,0,-2.670,546.053,0.616#E,8,0,2.670,546.053,0.616#E,8,0,-0.942,558.886,12.916#E,8,0,0.942,558.886,12.916#E,8,0,-2.513,546.656,4.562#E,8,0,-0.157,565.562,47.374#E,8,0,0.157,565.562,47.374#E,8,0,2.513,546.656,4.562#E,8,0,-1.571,553.342,11.249#E,8,0,1.571,553.342,11.249#E,8,0,-2.985,545.454,0.000#E,8,0,-2.827,545.652,0.000#E,8,0,-2.356,547.430,7.145#E,8,0,2.356,547.430,7.145#E,8,0,2.827,545.652,0.000#E,8,0,2.985,545.454,0.000#E,8,0,-0.471,563.046,21.469#E,8,0,0.471,563.046,21.469#E,8,0,-1.257,556.114,11.415#E,8,0,1.257,556.114,11.415#E,8,0,-3.142,545.401,0.000#E,8,0,3.142,545.401,0.000#E,8,0,-1.414,554.726,11.189#E,8,0,1.414,554.726,11.189#E,8,0,-1.100,557.503,11.957#E,8,0,1.100,557.503,11.957#E,8,0,-0.628,561.663,17.026#E,8,0,0.628,561.663,17.026#E,8,0,-1.728,551.975,11.316#E,8,0,1.728,551.975,11.316#E,8,0,-2.042,549.460,10.046#E,8,0,2.042,549.460,10.046#E,8,1,0.000,586.016,0.000#E,8,1,-1.885,570.107,10.233#E,8,1,1.885,570.107,10.233#E,8,1,-2.199,567.783,8.507#E,8,1,2.199,567.783,8.507#E,8,1,-0.314,583.891,32.629#E,8,1,0.314,583.891,32.629#E,8,1,-0.785,579.730,15.471#E,8,1,0.785,579.730,15.471#E,8,1,-2.670,565.455,1.112#E,8,1,2.670,565.455,1.112#E,8,1,-0.942,578.347,13.787#E,8,1,0.942,578.347,13.787#E,8,1,-2.513,566.053,4.642#E,8,1,-0.157,585.226,57.964#E,8,1,0.157,585.226,57.964#E,8,1,2.513,566.053,4.642#E,8,1,-1.571,572.793,10.874#E,8,1,1.571,572.793,10.874#E,8,1,-2.985,564.857,0.000#E,8,1,-2.827,565.054,0.000#E,8,1,-2.356,566.833,6.956#E,8,1,2.356,566.833,6.956#E,8,1,2.827,565.054,0.000#E,8,1,2.985,564.857,0.000#E,8,1,-0.471,582.507,22.987#E,8,1,0.471,582.507,22.987#E,8,1,-1.257,575.570,11.681#E,8,1,1.257,575.570,11.681#E,8,1,-3.142,564.803,0.000#E,8,1,3.142,564.803,0.000#E,8,1,-1.414,574.181,11.126#E,8,1,1.414,574.181,11.126#E,8,1,-1.100,576.958,12.605#E,8,1,1.100,576.958,12.605#E,8,1,-0.628,581.119,18.214#E,8,1,0.628,581.119,18.214#E,8,1,-1.728,571.420,10.661#E,8,1,1.728,571.420,10.661#E,8,1")
-            .append(",-2.042,568.884,9.548#E,8,1,2.042,568.884,9.548#E,8,2,0.000,605.477,0.000#E,8,2,-1.885,589.536,9.777#E,8,2,1.885,589.536,9.777#E,8,2,-2.199,587.191,8.250#E,8,2,2.199,587.191,8.250#E,8,2,-0.314,603.352,34.790#E,8,2,0.314,603.352,34.790#E,8,2,-0.785,599.186,15.250#E,8,2,0.785,599.186,15.250#E,8,2,-2.670,584.852,1.655#E,8,2,2.670,584.852,1.655#E,8,2,-0.942,597.797,13.219#E,8,2,0.942,597.797,13.219#E,8,2,-2.513,585.450,4.799#E,8,2,-0.157,604.724,55.468#E,8,2,0.157,604.724,55.468#E,8,2,2.513,585.450,4.799#E,8,2,-1.571,592.233,10.325#E,8,2,1.571,592.233,10.325#E,8,2,-2.985,584.254,0.000#E,8,2,-2.827,584.451,0.000#E,8,2,-2.356,586.235,6.870#E,8,2,2.356,586.235,6.870#E,8,2,2.827,584.451,0.000#E,8,2,2.985,584.254,0.000#E,8,2,-0.471,601.963,24.008#E,8,2,0.471,601.963,24.008#E,8,2,-1.257,595.015,11.044#E,8,2,1.257,595.015,11.044#E,8,2,-3.142,584.200,0.000#E,8,2,3.142,584.200,0.000#E,8,2,-1.414,593.621,10.544#E,8,2,1.414,593.621,10.544#E,8,2,-1.100,596.404,11.894#E,8,2,1.100,596.404,11.894#E,8,2,-0.628,600.574,18.475#E,8,2,0.628,600.574,18.475#E,8,2,-1.728,590.855,10.148#E,8,2,1.728,590.855,10.148#E,8,2,-2.042,588.302,9.174#E,8,2,2.042,588.302,9.174#E,8,3,0.000,625.478,0.000#E,8,3,-1.885,609.531,9.754#E,8,3,1.885,609.531,9.754#E,8,3,-2.199,607.191,8.233#E,8,3,2.199,607.191,8.233#E,8,3,-0.314,623.347,34.645#E,8,3,0.314,623.347,34.645#E,8,3,-0.785,619.181,15.222#E,8,3,0.785,619.181,15.222#E,8,3,-2.670,604.852,1.653#E,8,3,2.670,604.852,1.653#E,8,3,-0.942,617.793,13.192#E,8,3,0.942,617.793,13.192#E,8,3,-2.513,605.450,4.792#E,8,3,-0.157,624.725,55.495#E,8,3,0.157,624.725,55.495#E,8,3,2.513,605.450,4.792#E,8,3,-1.571,612.228,10.301#E,8,3,1.571,612.228,10.301#E,8,3,-2.985,604.254,0.000#E,8,3,-2.827,604.452,0.000#E,8,3,-2.356,606.236,6.856#E,8,3,2.356,606.236,6.856#E,8,3,2.827,604.452,0.000#E,8,3,2.985,604.254,0.000#E,8,3,-0.471,621.958,23.978#E,8,3,0.471,621.958,23.978#E,8,3,-1.257,615.010,11.024#E,8,3,1.257,615.010,11.024#E,8,3,-3.142,604.201,0.000#E,8,3,3.142,604.201,0.000#E,8,3,-1.414,613.622,10.522#E,8,3,1.414,613.622,10.522#E,8,3,-1.100,616.404,11.871#E,8,3,1.100,616.404,11.871#E,8,3,-0.628,620.575,18.447#E,8,3,0.628,620.575,18.447#E,8,3,-1.728,610.855,10.127#E,8,3,1.728,610.855,10.127#E,8,3,-2.042,608.302,9.153#E,8,3,2.042,608.302,9.153#E,8,4,0.000,649.815,0.000#E,8,4,-1.885,633.953,9.404#E,8,4,1.885,633.953,9.404#E,8,4,-2.199,631.598,8.063#E,8,4,2.199,631.598,8.063#E,8,4,-0.314,647.801,33.141#E,8,4,0.314,647.801,33.141#E,8,4,-0.785,643.625,14.442#E,8,4,0.785,643.625,14.442#E,8,4,-2.670,629.248,2.235#E,8,4,2.670,629.248,2.235#E,8,4,-0.942,642.231,12.540#E,8,4,0.942,642.231,12.540#E,8,4,-2.513,629.846,5.009#E,8,4,-0.157,649.147,49.806#E,8,4,0.157,649.147,49.806#E,8,4,2.513,629.846,5.009#E,8,4,-1.571,636.655,9.870#E,8,4,1.571,636.655,9.870#E,8,4,-2.985,628.655,0.000#E,8,4,-2.827,628.853,0.000#E,8,4,-2.356,630.637,6.840#E,8,4,2.356,630.637,6.840#E,8,4,2.827,628.853,0.000#E,8,4,2.985,628.655,0.000#E,8,4,-0.471,646.407,22.680#E,8,4,0.471,646.407,22.680#E,8,4,-1.257,639.449,10.520#E,8,4,1.257,639.449,10.520#E,8,4,-3.142,628.602,0.000#E,8,4,3.142,628.602,0.000#E,8,4,-1.414,638.055,10.057#E,8,4,1.414,638.055,10.057#E,8,4,-1.100,640.842,11.307#E,8,4,1.100,640.842,11.307#E,8,4,-0.628,645.019,17.474#E,8,4,0.628,645.019,17.474#E,8,4,-1.728,635.278,9.724#E,8,4,1.728,635.278,9.724#E,8,4,-2.042,632.714,8.875#E,8,4,2.042,632.714,8.875#E,9,0,0.000,563.751,0.000#E,9,0,-1.885,547.655,11.044#E,9,0,1.885,547.655,11.044#E,9,0,-2.199,545.273,9.165#E,9,0,2.199,545.273,9.165#E,9,0,-0.314,561.855,31.367#E,9,0,0.314,561.855,31.367#E,9,0,-0.785,557.604,14.912#E,9,0,0.785,557.604,14.912#E,9,0,-2.670,542.875,1.210#E,9,0,2.670,542.875,1.210#E,9,0,-0.942,556.168,13.307#E,9,0,0.942,556.168,13.307#E,9,0,-2.513,543.494,4.999#E,9,0,-0.157,563.078,48.353#E,9,0,0.157,563.078,48.353#E,9,0,2.513,543.494,4.999#E,9,0,-1.571,550.421,11.593#E,9,0,1.571,550.421,11.593#E,9,0,-2.985,542.255,0.000#E,9,0,-2.827,542.464,0.000#E,9,0,-2.356,544.296,7.491#E,9,0,2.356,544.296,7.491#E,9,0,2.827,542.464,0.000#E,9,0,2.985,542.255,0.000#E,9,0,-0.471,560.477,22.110#E,9,0,0.471,560.477,22.110#E,9,0,-1.257,553.294,11.759#E,9,0,1.257,553.294,11.759#E,9,0,-3.142,542.202,0.000#E,9,0,3.142,542.202,0.000#E,9,0,-1.414,551.858,11.529#E,9,0,1.414,551.858,11.529#E,9,0,-1.100,554.731,12.320#E,9,0,1.100,554.731,12.320#E,9,0,-0.628,559.041,17.535#E,9,0,0.628,559.041,17.535#E,9,0,-1.728,549.006,11.519#E,9,0,1.728,549.006,11.519#E,9,0,-2.042,546.400,10.294#E,9,0,2.042,546.400,10.294#E,9,1,0.000,583.351,0.000#E,9,1,-1.885,566.886,10.468#E,9,1,1.885,566.886,10.468#E,9,1,-2.199,564.483,8.812#E,9,1,2.199,564.483,8.812#E,9,1,-0.314,581.172,33.574#E,9,1,0.314,581.172,33.574#E,9,1,-0.785,576.862,15.933#E,9,1,0.785,576.862,15.933#E,9,1,-2.670,562.074,1.735#E,9,1,2.670,562.074,1.735#E,9,1,-0.942,575.426,14.203#E,9,1,0.942,575.426,14.203#E,9,1,-2.513,562.694,5.106#E,9,1,-0.157,582.550,58.339#E,9,1,0.157,582.550,58.339#E,9,1,2.513,562.694,5.106#E,9,1,-1.571,569.669,11.081#E,9,1,1.571,569.669,11.081#E,9,1,-2.985,561.455,0.000#E,9,1,-2.827,561.663,0.000#E,9,1,-2.356,563.500,7.324#E,9,1,2.356,563.500,7.324#E,9,1,2.827,561.663,0.000#E,9,1,2.985,561.455,0.000#E,9,1,-0.471,579.736,23.668#E,9,1,0.471,579.736,23.668#E,9,1,-1.257,572.547,11.888#E,9,1,1.257,572.547,11.888#E,9,1,-3.142,561.401,0.000#E,9,1,3.142,561.401,0.000#E,9,1,-1.414,571.111,11.330#E,9,1,1.414,571.111,11.330#E,9,1,-1.100,573.989,12.824#E,9,1,1.100,573.989,12.824#E,9,1,-0.628,578.299,18.754#E,9,1,0.628,578.299,18.754#E,9,1,-1.728,568.248,10.877#E,9,1,1.728,568.248,10.877#E,9,1,-2.042,565.620,9.810#E,9,1,2.042,565.620,9.810#E,9,2,0.000,602.551,0.000#E,9,2,-1.885,586.112,10.027#E,9,2,1.885,586.112,10.027#E,9,2,-2.199,583.693,8.568#E,9,2,2.199,583.693,8.568#E,9,2,-0.314,600.430,35.639#E,9,2,0.314,600.430,35.639#E,9,2,-0.785,596.115,15.532#E,9,2,0.785,596.115,15.532#E,9,2,-2.670,581.274,2.306#E,9,2,2.670,581.274,2.306#E,9,2,-0.942,594.673,13.468#E,9,2,0.942,594.673,13.468#E,9,2,-2.513,581.888,5.282#E,9,2,-0.157,601.840,52.542#E,9,2,0.157,601.840,52.542#E,9,2,2.513,581.888,5.282#E,9,2,-1.571,588.911,10.547#E,9,2,1.571,588.911,10.547#E,9,2,-2.985,580.659,0.000#E,9,2,-2.827,580.862,0.000#E,9,2,-2.356,582.700,7.252#E,9,2,2.356,582.700,7.252#E,9,2,2.827,580.862,0.000#E,9,2,2.985,580.659,0.000#E,9,2,-0.471,598.994,24.416#E,9,2,0.471,598.994,24.416#E,9,2,-1.257,591.795,11.270#E,9,2,1.257,591.795,11.270#E,9,2,-3.142,580.601,0.000#E,9,2,3.142,580.601,0.000#E,9,2,-1.414,590.353,10.760#E,9,2,1.414,590.353,10.760#E,9,2,-1.100,593.237,12.127#E,9,2,1.100,593.237,12.127#E,9,2,-0.628,597.552,18.800#E,9,2,0.628,597.552,18.800#E,9,2,-1.728,587.485,10.380#E,9,2,1.728,587.485,10.380#E,9,2,-2.042,584.841,9.449#E,9,2,2.042,584.841,9.449#E,9,3,0.000,622.551,0.000#E,9,3,-1.885,606.113,10.005#E,9,3,1.885,606.113,10.005#E,9,3,-2.199,603.688,8.554#E,9,3,2.199,603.688,8.554#E,9,3,-0.314,620.425,35.621#E,9,3,0.314,620.425,35.621#E,9,3,-0.785,616.110,15.505#E,9,3,0.785,616.110,15.505#E,9,3,-2.670,601.274,2.299#E,9,3,2.670,601.274,2.299#E,9,3,-0.942,614.674,13.448#E,9,3,0.942,614.674,13.448#E,9,3,-2.513,601.888,5.274#E,9,3,-0.157,621.841,52.569#E,9,3,0.157,621.841,52.569#E,9,3,2.513,601.888,5.274#E,9,3,-1.571,608.906,10.527#E,9,3,1.571,608.906,10.527#E,9,3,-2.985,600.655,0.000#E,9,3,-2.827,600.863,0.000#E,9,3,-2.356,602.700,7.238#E,9,3,2.356,602.700,7.238#E,9,3,2.827,600.863,0.000#E,9,3,2.985,600.655,0.000#E,9,3,-0.471,618.989,24.386#E,9,3,0.471,618.989,24.386#E,9,3,-1.257,611.790,11.247#E,9,3,1.257,611.790,11.247#E,9,3,-3.142,600.601,0.000#E,9,3,3.142,600.601,0.000#E,9,3,-1.414,610.348,10.744#E,9,3,1.414,610.348,10.744#E,9,3,-1.100,613.232,12.108#E,9,3,1.100,613.232,12.108#E,9,3,-0.628,617.552,18.775#E,9,3,0.628,617.552,18.775#E,9,3,-1.728,607.480,10.356#E,9,3,1.728,607.480,10.356#E,9,3,-2.042,604.836,9.430#E,9,3,2.042,604.836,9.430#E,9,4,0.000,646.669,0.000#E,9,4,-1.885,630.332,9.667#E,9,4,1.885,630.332,9.667#E,9,4,-2.199,627.892,8.400#E,9,4,2.199,627.892,8.400#E,9,4,-0.314,644.677,33.757#E,9,4,0.314,644.677,33.757#E,9,4,-0.785,640.356,14.747#E,9,4,0.785,640.356,14.747#E,9,4,-2.670,625.467,2.909#E,9,4,2.670,625.467,2.909#E,9,4,-0.942,638.909,12.814#E,9,4,0.942,638.909,12.814#E,9,4,-2.513,626.081,5.514#E,9,4,-0.157,646.049,46.664#E,9,4,0.157,646.049,46.664#E,9,4,2.513,626.081,5.514#E,9,4,-1.571,633.136,10.109#E,9,4,1.571,633.136,10.109#E,9,4,-2.985,624.858,0.000#E,9,4,-2.827,625.061,0.000#E,9,4,-2.356,626.898,7.241#E,9,4,2.356,626.898,7.241#E,9,4,2.827,625.061,0.000#E,9,4,2.985,624.858,0.000#E,9,4,-0.471,643.235,23.120#E,9,4,0.471,643.235,23.120#E,9,4,-1.257,636.025,10.760#E,9,4,1.257,636.025,10.760#E,9,4,-3.142,624.805,0.000#E,9,4,3.142,624.805,0.000#E,9,4,-1.414,634.578,10.294#E,9,4,1.414,634.578,10.294#E,9,4,-1.100,637.467,11.559#E,9,4,1.100,637.467,11.559#E,9,4,-0.628,641.798,17.828#E,9,4,0.628,641.798,17.828#E,9,4,-1.728,631.705,9.971#E,9,4,1.728,631.705,9.971#E,9,4,-2.042,629.050,9.167#E,9,4,2.042,629.050,9.167#E,10,0,0.000,561.273,0.000#E,10,0,-1.885,544.632,11.259#E,10,0,1.885,544.632,11.259#E,10,0,-2.199,542.170,9.446#E,10,0,2.199,542.170,9.446#E,10,0,-0.314,559.329,32.241#E,10,0,0.314,559.329,32.241#E,10,0,-0.785,554.929,15.340#E,10,0,0.785,554.929,15.340#E,10,0,-2.670,539.697,1.803#E,10,0,2.670,539.697,1.803#E,10,0,-0.942,553.444,13.690#E,10,0,0.942,553.444,13.690#E,10,0,-2.513,540.333,5.438#E,10,0,-0.157,560.595,49.312#E,10,0,0.157,560.595,49.312#E,10,0,2.513,540.333,5.438#E,10,0,-1.571,547.495,11.926#E,10,0,1.571,547.495,11.926#E,10,0,-2.985,539.056,0.000#E,10,0,-2.827,539.270,0.000#E,10,0,-2.356,541.161,7.834#E,10,0,2.356,541.161,7.834#E,10,0,2.827,539.270,0.000#E,10,0,2.985,539.056,0.000#E,10,0,-0.471,557.903,22.740#E,10,0,0.471,557.903,22.740#E,10,0,-1.257,550.469,12.098#E,10,0,1.257,550.469,12.098#E,10,0,-3.142,539.003,0.000#E,10,0,3.142,539.003,0.000#E,10,0,-1.414,548.985,11.865#E,10,0,1.414,548.985,11.865#E,10,0,-1.100,551.954,12.674#E,10,0,1.100,551.954,12.674#E,10,0,-0.628,556.413,18.040#E,10,0,0.628,556.413,18.040#E,10,0,-1.728,546.031,11.716#E,10,0,1.728,546")
-            .append(".031,11.716#E,10,0,-2.042,543.334,10.536#E,10,0,2.042,543.334,10.536#E,10,1,0.000,580.627,0.000#E,10,1,-1.885,563.671,10.699#E,10,1,1.885,563.671,10.699#E,10,1,-2.199,561.182,9.110#E,10,1,2.199,561.182,9.110#E,10,1,-0.314,578.448,34.506#E,10,1,0.314,578.448,34.506#E,10,1,-0.785,573.989,16.387#E,10,1,0.785,573.989,16.387#E,10,1,-2.670,558.694,2.351#E,10,1,2.670,558.694,2.351#E,10,1,-0.942,572.504,14.498#E,10,1,0.942,572.504,14.498#E,10,1,-2.513,559.329,5.559#E,10,1,-0.157,579.869,55.619#E,10,1,0.157,579.869,55.619#E,10,1,2.513,559.329,5.559#E,10,1,-1.571,566.550,11.287#E,10,1,1.571,566.550,11.287#E,10,1,-2.985,558.058,0.000#E,10,1,-2.827,558.272,0.000#E,10,1,-2.356,560.162,7.684#E,10,1,2.356,560.162,7.684#E,10,1,2.827,558.272,0.000#E,10,1,2.985,558.058,0.000#E,10,1,-0.471,576.964,24.334#E,10,1,0.471,576.964,24.334#E,10,1,-1.257,569.530,12.094#E,10,1,1.257,569.530,12.094#E,10,1,-3.142,558.005,0.000#E,10,1,3.142,558.005,0.000#E,10,1,-1.414,568.040,11.537#E,10,1,1.414,568.040,11.537#E,10,1,-1.100,571.014,13.038#E,10,1,1.100,571.014,13.038#E,10,1,-0.628,575.474,19.292#E,10,1,0.628,575.474,19.292#E,10,1,-1.728,565.076,11.089#E,10,1,1.728,565.076,11.089#E,10,1,-2.042,562.357,10.066#E,10,1,2.042,562.357,10.066#E,10,2,0.000,599.613,0.000#E,10,2,-1.885,582.694,10.269#E,10,2,1.885,582.694,10.269#E,10,2,-2.199,580.190,8.882#E,10,2,2.199,580.190,8.882#E,10,2,-0.314,597.509,36.185#E,10,2,0.314,597.509,36.185#E,10,2,-0.785,593.044,15.807#E,10,2,0.785,593.044,15.807#E,10,2,-2.670,577.690,2.947#E,10,2,2.670,577.690,2.947#E,10,2,-0.942,591.554,13.717#E,10,2,0.942,591.554,13.717#E,10,2,-2.513,578.326,5.759#E,10,2,-0.157,598.946,49.606#E,10,2,0.157,598.946,49.606#E,10,2,2.513,578.326,5.759#E,10,2,-1.571,585.583,10.765#E,10,2,1.571,585.583,10.765#E,10,2,-2.985,577.060,0.000#E,10,2,-2.827,577.268,0.000#E,10,2,-2.356,579.164,7.629#E,10,2,2.356,579.164,7.629#E,10,2,2.827,577.268,0.000#E,10,2,2.985,577.060,0.000#E,10,2,-0.471,596.019,24.810#E,10,2,0.471,596.019,24.810#E,10,2,-1.257,588.569,11.488#E,10,2,1.257,588.569,11.488#E,10,2,-3.142,577.001,0.000#E,10,2,3.142,577.001,0.000#E,10,2,-1.414,587.079,10.980#E,10,2,1.414,587.079,10.980#E,10,2,-1.100,590.064,12.362#E,10,2,1.100,590.064,12.362#E,10,2,-0.628,594.534,19.122#E,10,2,0.628,594.534,19.122#E,10,2,-1.728,584.109,10.604#E,10,2,1.728,584.109,10.604#E,10,2,-2.042,581.375,9.722#E,10,2,2.042,581.375,9.722#E,10,3,0.000,619.614,0.000#E,10,3,-1.885,602.695,10.254#E,10,3,1.885,602.695,10.254#E,10,3,-2.199,600.185,8.869#E,10,3,2.199,600.185,8.869#E,10,3,-0.314,617.504,36.173#E,10,3,0.314,617.504,36.173#E,10,3,-0.785,613.039,15.781#E,10,3,0.785,613.039,15.781#E,10,3,-2.670,597.691,2.942#E,10,3,2.670,597.691,2.942#E,10,3,-0.942,611.549,13.698#E,10,3,0.942,611.549,13.698#E,10,3,-2.513,598.326,5.751#E,10,3,-0.157,618.946,49.630#E,10,3,0.157,618.946,49.630#E,10,3,2.513,598.326,5.751#E,10,3,-1.571,605.584,10.746#E,10,3,1.571,605.584,10.746#E,10,3,-2.985,597.060,0.000#E,10,3,-2.827,597.269,0.000#E,10,3,-2.356,599.165,7.616#E,10,3,2.356,599.165,7.616#E,10,3,2.827,597.269,0.000#E,10,3,2.985,597.060,0.000#E,10,3,-0.471,616.019,24.788#E,10,3,0.471,616.019,24.788#E,10,3,-1.257,608.569,11.469#E,10,3,1.257,608.569,11.469#E,10,3,-3.142,597.002,0.000#E,10,3,3.142,597.002,0.000#E,10,3,-1.414,607.079,10.963#E,10,3,1.414,607.079,10.963#E,10,3,-1.100,610.059,12.338#E,10,3,1.100,610.059,12.338#E,10,3,-0.628,614.529,19.099#E,10,3,0.628,614.529,19.099#E,10,3,-1.728,604.110,10.587#E,10,3,1.728,604.110,10.587#E,10,3,-2.042,601.376,9.705#E,10,3,2.042,601.376,9.705#E,10,4,0.000,643.518,0.000#E,10,4,-1.885,626.711,9.929#E,10,4,1.885,626.711,9.929#E,10,4,-2.199,624.191,8.729#E,10,4,2.199,624.191,8.729#E,10,4,-0.314,641.558,34.359#E,10,4,0.314,641.558,34.359#E,10,4,-0.785,637.083,15.048#E,10,4,0.785,637.083,15.048#E,10,4,-2.670,621.691,3.577#E,10,4,2.670,621.691,3.577#E,10,4,-0.942,635.587,13.082#E,10,4,0.942,635.587,13.082#E,10,4,-2.513,622.321,6.010#E,10,4,-0.157,642.941,43.512#E,10,4,0.157,642.941,43.512#E,10,4,2.513,622.321,6.010#E,10,4,-1.571,629.611,10.343#E,10,4,1.571,629.611,10.343#E,10,4,-2.985,621.061,0.000#E,10,4,-2.827,621.269,0.000#E,10,4,-2.356,623.160,7.638#E,10,4,2.356,623.160,7.638#E,10,4,2.827,621.269,0.000#E,10,4,2.985,621.061,0.000#E,10,4,-0.471,640.068,23.557#E,10,4,0.471,640.068,23.557#E,10,4,-1.257,632.602,10.997#E,10,4,1.257,632.602,10.997#E,10,4,-3.142,621.002,0.000#E,10,4,3.142,621.002,0.000#E,10,4,-1.414,631.107,10.528#E,10,4,1.414,631.107,10.528#E,10,4,-1.100,634.097,11.807#E,10,4,1.100,634.097,11.807#E,10,4,-0.628,638.573,18.175#E,10,4,0.628,638.573,18.175#E,10,4,-1.728,628.132,10.211#E,10,4,1.728,628.132,10.211#E,10,4,-2.042,625.381,9.457#E,10,4,2.042,625.381,9.457#");
-}
@@ -2,28 +2,18 @@ import model.Game;
 import model.ProjectileType;
 import model.StatusType;
 
-import java.io.FileWriter;
-import java.io.IOException;
-import java.util.*;
-
 public class CastRangeService {
 
-    private static final int ANGLES_TO_TEST = 40;
-    private static final int MAX_DIST_TO_CENTER = 700;
-    private static final int MAX_CENTER_OFFSET = 100;
-    private static final double DIST_PRECISION = 1e-2;
-    // no way to get 5 amplification
-    private static final List<Integer> SPEED_AMPLIFIERS = Arrays.asList(0, 1, 2, 3, 4, 6, 7, 8, 9, 10);
-    private static final List<Integer> RANGE_AMPLIFIERS = Arrays.asList(0, 1, 2, 3, 4);
-    private static final Point dummyWizardPoint = new Point(1000, 1000);
-    // projectile type, target speed amplifier, caster range amplifier
-    private final Map<ProjectileType, Map<Integer, Map<Integer, Map<Double, CastMeta>>>> extremeCastPropsOptimistic;
-    private final Map<ProjectileType, Map<Integer, Map<Integer, Map<Double, CastMeta>>>> extremeCastPropsPessimistic;
+    private final CastRangeTable table;
+    private final CastRangeSolver solver;
+
+    public CastRangeService() {
+        this(new CastRangeSolver());
+    }
 
-    public CastRangeService(WorldProxy worldProxy, Game game) {
-        //noinspection ConstantConditions
-        this.extremeCastPropsOptimistic = generateOrParseExtremeCastProps(worldProxy, game, true);
-        this.extremeCastPropsPessimistic = generateOrParseExtremeCastProps(worldProxy, game, false);
+    public CastRangeService(CastRangeSolver solver) {
+        this.table = CastRangeTable.bundled();
+        this.solver = solver;
     }
 
     public CastMeta castRangeToWizardPessimistic(WizardProxy self,
@@ -50,334 +40,55 @@ public class CastRangeService {
 
         double angle = wizard.getAngleTo(self);
 
-        Map<Double, CastMeta> angleCastMap;
-        if (optimistic) {
-            angleCastMap = extremeCastPropsOptimistic.get(projectileType).get(speedAmpl).get(rangeAmpl);
-        } else {
-            angleCastMap = extremeCastPropsPessimistic.get(projectileType).get(speedAmpl).get(rangeAmpl);
+        int leftBin = table.lowerBin(angle);
+        int rightBin = leftBin;
+        if (table.binAngle(leftBin) < angle && leftBin < table.getAngleBins() - 1) {
+            rightBin = leftBin + 1;
         }
-        double leftKnownAngle = -Double.MAX_VALUE;
-        double rightKnownAngle = Double.MAX_VALUE;
-        for (Double knownAngle : angleCastMap.keySet()) {
-            if (knownAngle <= angle && leftKnownAngle < knownAngle) {
-                leftKnownAngle = knownAngle;
+        if (!CastRangeTable.hasKey(speedAmpl, rangeAmpl)) {
+            CastMeta solved = solvedCastRange(optimistic, projectileType, speedAmpl, rangeAmpl, leftBin, rightBin, game);
+            if (solved != null) {
+                return solved;
             }
-            if (knownAngle >= angle && rightKnownAngle > knownAngle) {
-                rightKnownAngle = knownAngle;
-            }
-        }
-        CastMeta leftCastMeta = angleCastMap.get(leftKnownAngle);
-        CastMeta rightCastMeta = angleCastMap.get(rightKnownAngle);
-        if ((optimistic && leftCastMeta.getDistToCenter() > rightCastMeta.getDistToCenter()) ||
-                (!optimistic && leftCastMeta.getDistToCenter() < rightCastMeta.getDistToCenter())) {
-            return leftCastMeta;
+            speedAmpl = CastRangeTable.floorSpeedAmpl(speedAmpl);
+            rangeAmpl = CastRangeTable.clampRangeAmpl(rangeAmpl);
+        }
+        int base = table.index(optimistic, projectileType, speedAmpl, rangeAmpl);
+        double leftDist = table.get(base + leftBin * 2);
+        double rightDist = table.get(base + rightBin * 2);
+        int bin;
+        if ((optimistic && leftDist > rightDist) || (!optimistic && leftDist < rightDist)) {
+            bin = leftBin;
         } else {
-            return rightCastMeta;
-        }
-    }
-
-    private static Map<ProjectileType, Map<Integer, Map<Integer, Map<Double, CastMeta>>>> generateOrParseExtremeCastProps(
-            WorldProxy worldProxy,
-            Game game,
-            boolean isOptimistic) {
-        Map<ProjectileType, Map<Integer, Map<Integer, Map<Double, CastMeta>>>> extremeCastProps;
-        StringBuilder lineBuilder = isOptimistic ?
-                CastRangeConst.extremeCastPropsOptimisticLine :
-                CastRangeConst.extremeCastPropsPessimisticLine;
-        //noinspection ConstantConditions
-        if (lineBuilder == null) {
-            extremeCastProps = new EnumMap<>(ProjectileType.class);
-            for (ProjectileType projectileType : Arrays.asList(ProjectileType.MAGIC_MISSILE,
-                    ProjectileType.FROST_BOLT,
-                    ProjectileType.FIREBALL)) {
-                simulateCastsFixedProjectile(projectileType, extremeCastProps, worldProxy, game, isOptimistic);
-            }
-            try (FileWriter writer = new FileWriter(String.format("extremeCastProps%s.txt",
-                    isOptimistic ? "Optimistic" : "Pessimistic"))) {
-                writer.append(extremeCastPropsToLine(extremeCastProps));
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+            bin = rightBin;
+        }
+        return new CastMeta(table.get(base + bin * 2), table.get(base + bin * 2 + 1));
+    }
+
+    /**
+     * @return null while solver has no result for some of the bins, nearest table key should be used meanwhile
+     */
+    private CastMeta solvedCastRange(boolean optimistic,
+                                     ProjectileType projectileType,
+                                     int speedAmpl,
+                                     int rangeAmpl,
+                                     int leftBin,
+                                     int rightBin,
+                                     Game game) {
+        double[] left =
+                solver.solve(optimistic, projectileType, speedAmpl, rangeAmpl, leftBin, table.binAngle(leftBin), game);
+        double[] right =
+                solver.solve(optimistic, projectileType, speedAmpl, rangeAmpl, rightBin, table.binAngle(rightBin), game);
+        if (left == null || right == null) {
+            return null;
+        }
+        double[] meta;
+        if ((optimistic && left[0] > right[0]) || (!optimistic && left[0] < right[0])) {
+            meta = left;
         } else {
-            extremeCastProps = parseExtremeCastProps(lineBuilder.toString());
-        }
-        return extremeCastProps;
-    }
-
-    private static String extremeCastPropsToLine(Map<ProjectileType, Map<Integer, Map<Integer, Map<Double, CastMeta>>>> extremeCastProps) {
-        StringBuilder sb = new StringBuilder();
-        //noinspection KeySetIterationMayUseEntrySet
-        for (ProjectileType projectileType : extremeCastProps.keySet()) {
-            for (Integer speedAmpl : extremeCastProps.get(projectileType).keySet()) {
-                for (Integer rangeAmpl : extremeCastProps.get(projectileType).get(speedAmpl).keySet()) {
-                    for (Double angle : extremeCastProps.get(projectileType).get(speedAmpl).get(rangeAmpl).keySet()) {
-                        CastMeta castMeta =
-                                extremeCastProps.get(projectileType).get(speedAmpl).get(rangeAmpl).get(angle);
-                        sb.append(String.format("%s,%s,%s,%.3f,%.3f,%.3f#",
-                                projectileCode(projectileType),
-                                speedAmpl,
-                                rangeAmpl,
-                                angle,
-                                castMeta.getDistToCenter(),
-                                castMeta.getCenterOffset()));
-                    }
-                }
-            }
-        }
-        return sb.toString();
-    }
-
-    private static Map<ProjectileType, Map<Integer, Map<Integer, Map<Double, CastMeta>>>> parseExtremeCastProps(String str) {
-        Map<ProjectileType, Map<Integer, Map<Integer, Map<Double, CastMeta>>>> extremeCastProps =
-                new EnumMap<>(ProjectileType.class);
-        //noinspection ConstantConditions
-        for (String record : str.split("#")) {
-            String[] fields = record.split(",");
-            putToExtremeCastProps(projectileFromCode(fields[0]),
-                    Integer.parseInt(fields[1]),
-                    Integer.parseInt(fields[2]),
-                    Double.parseDouble(fields[3]),
-                    Double.parseDouble(fields[4]),
-                    Double.parseDouble(fields[5]),
-                    extremeCastProps);
-        }
-        return extremeCastProps;
-    }
-
-    private static void putToExtremeCastProps(ProjectileType projectileType,
-                                              Integer speedAmpl,
-                                              Integer rangeAmpl,
-                                              Double angle,
-                                              Double distToCenter,
-                                              Double centerOffset,
-                                              Map<ProjectileType, Map<Integer, Map<Integer, Map<Double, CastMeta>>>> extremeCastProps) {
-
-        if (!extremeCastProps.containsKey(projectileType)) {
-            extremeCastProps.put(projectileType, new HashMap<>());
-        }
-        if (!extremeCastProps.get(projectileType).containsKey(speedAmpl)) {
-            extremeCastProps.get(projectileType).put(speedAmpl, new HashMap<>());
-        }
-        if (!extremeCastProps.get(projectileType).get(speedAmpl).containsKey(rangeAmpl)) {
-            extremeCastProps.get(projectileType).get(speedAmpl).put(rangeAmpl, new HashMap<>());
-        }
-        extremeCastProps.get(projectileType)
-                .get(speedAmpl)
-                .get(rangeAmpl)
-                .put(angle, new CastMeta(distToCenter, centerOffset));
-    }
-
-    private static void simulateCastsFixedProjectile(ProjectileType projectileType,
-                                                     Map<ProjectileType, Map<Integer, Map<Integer, Map<Double, CastMeta>>>> extremeCastProps,
-                                                     WorldProxy worldProxy,
-                                                     Game game,
-                                                     boolean isOptimistic) {
-        for (int speedAmpl : SPEED_AMPLIFIERS) {
-            simulateCastsFixedSpeedAmpl(speedAmpl, projectileType, extremeCastProps, worldProxy, game, isOptimistic);
-        }
-    }
-
-    private static void simulateCastsFixedSpeedAmpl(int speedAmpl,
-                                                    ProjectileType projectileType,
-                                                    Map<ProjectileType, Map<Integer, Map<Integer, Map<Double, CastMeta>>>> extremeCastProps,
-                                                    WorldProxy worldProxy,
-                                                    Game game,
-                                                    boolean isOptimistic) {
-        for (int rangeAmpl : RANGE_AMPLIFIERS) {
-            simulateCastsFixedRangeAmpl(rangeAmpl,
-                    speedAmpl,
-                    projectileType,
-                    extremeCastProps,
-                    worldProxy,
-                    game,
-                    isOptimistic);
-        }
-    }
-
-    private static void simulateCastsFixedRangeAmpl(int rangeAmpl,
-                                                    int speedAmpl,
-                                                    ProjectileType projectileType,
-                                                    Map<ProjectileType, Map<Integer, Map<Integer, Map<Double, CastMeta>>>> extremeCastProps,
-                                                    WorldProxy worldProxy,
-                                                    Game game,
-                                                    boolean isOptimistic) {
-        for (double angle = -Math.PI; angle <= Math.PI; angle += Math.PI * 2 / ANGLES_TO_TEST) {
-            simulateCastsFixedAngle(angle,
-                    rangeAmpl,
-                    speedAmpl,
-                    projectileType,
-                    extremeCastProps,
-                    worldProxy,
-                    game,
-                    isOptimistic);
-        }
-    }
-
-    private static void simulateCastsFixedAngle(double angle,
-                                                int rangeAmpl,
-                                                int speedAmpl,
-                                                ProjectileType projectileType,
-                                                Map<ProjectileType, Map<Integer, Map<Integer, Map<Double, CastMeta>>>> extremeCastProps,
-                                                WorldProxy worldProxy,
-                                                Game game,
-                                                boolean isOptimistic) {
-        double d1 = 0;
-        double d2 = MAX_DIST_TO_CENTER;
-        while (d2 - d1 > DIST_PRECISION) {
-            double d = (d1 + d2) / 2;
-            Optional<Double> centerOffset = simulateCastsFixedDist(d,
-                    angle,
-                    rangeAmpl,
-                    speedAmpl,
-                    projectileType,
-                    worldProxy,
-                    game,
-                    isOptimistic);
-            if (centerOffset.isPresent()) {
-                d1 = d;
-            } else {
-                d2 = d;
-            }
-        }
-        Optional<Double> centerOffsetOpt =
-                simulateCastsFixedDist(d1, angle, rangeAmpl, speedAmpl, projectileType, worldProxy, game, isOptimistic);
-        Double centerOffset = centerOffsetOpt.orElseThrow(() -> new RuntimeException(
-                "Can't happen. Some minimal cast distance is always undodgeable"));
-        putToExtremeCastProps(projectileType, speedAmpl, rangeAmpl, angle, d2, centerOffset, extremeCastProps);
-    }
-
-    private static Optional<Double> simulateCastsFixedDist(double distToCenter,
-                                                           double angle,
-                                                           int rangeAmpl,
-                                                           int speedAmpl,
-                                                           ProjectileType projectileType,
-                                                           WorldProxy worldProxy,
-                                                           Game game,
-                                                           boolean isOptimistic) {
-        double d1 = 0;
-        double d2 = MAX_CENTER_OFFSET;
-        while (d2 - d1 > DIST_PRECISION) {
-            double m1 = d1 + (d2 - d1) / 3;
-            double m2 = d2 - (d2 - d1) / 3;
-            double maxDodgeM1 = simulateCastsFixedOffset(m1,
-                    distToCenter,
-                    angle,
-                    rangeAmpl,
-                    speedAmpl,
-                    projectileType,
-                    worldProxy,
-                    game,
-                    isOptimistic);
-            double maxDodgeM2 = simulateCastsFixedOffset(m2,
-                    distToCenter,
-                    angle,
-                    rangeAmpl,
-                    speedAmpl,
-                    projectileType,
-                    worldProxy,
-                    game,
-                    isOptimistic);
-
-            if (maxDodgeM1 <= maxDodgeM2) {
-                d2 = m2;
-            } else {
-                d1 = m1;
-            }
-        }
-        double maxDodge = simulateCastsFixedOffset(d1,
-                distToCenter,
-                angle,
-                rangeAmpl,
-                speedAmpl,
-                projectileType,
-                worldProxy,
-                game,
-                isOptimistic);
-        if (maxDodge <=
-                game.getWizardRadius() + CastProjectileTacticBuilders.projectileEffectiveRadius(game, projectileType)) {
-            return Optional.of(d1);
-        } else {
-            return Optional.empty();
-        }
-    }
-
-    private static double simulateCastsFixedOffset(double centerOffset,
-                                                   double distToCenter,
-                                                   double angle,
-                                                   int rangeAmpl,
-                                                   int speedAmpl,
-                                                   ProjectileType projectileType,
-                                                   WorldProxy worldProxy,
-                                                   Game game,
-                                                   boolean isOptimistic) {
-        double moodOffset = (isOptimistic ? CastProjectileTacticBuilders.projectileMoveSpeed(game, projectileType) : 0);
-        Point projectilePoint = new Point(dummyWizardPoint.getX() + distToCenter - moodOffset, dummyWizardPoint.getY());
-        double aimPointX = dummyWizardPoint.getX() + centerOffset * Math.cos(angle);
-        double aimPointY = dummyWizardPoint.getY() + centerOffset * Math.sin(angle);
-        Point projectileTravelsTo = MathMethods.distPoint(projectilePoint.getX() + moodOffset,
-                projectilePoint.getY(),
-                aimPointX,
-                aimPointY,
-                amplifyRange(game.getWizardCastRange(), rangeAmpl, game));
-
-        List<DodgeProjectileTacticBuilder.DodgeOption> options = DodgeProjectileTacticBuilder.tryDodgeDirections(
-                dummyWizardPoint,
-                1,
-                angle,
-                amplifySpeed(game.getWizardForwardSpeed(), speedAmpl, game),
-                amplifySpeed(game.getWizardBackwardSpeed(), speedAmpl, game),
-                amplifySpeed(game.getWizardStrafeSpeed(), speedAmpl, game),
-                amplifyAngle(game.getWizardMaxTurnAngle(), speedAmpl, game),
-                projectilePoint,
-                projectileType,
-                projectileTravelsTo,
-                false,
-                null,
-                game,
-                worldProxy);
-        options.sort(Comparator.comparingDouble(DodgeProjectileTacticBuilder.DodgeOption::getDistToProjectile));
-        if (options.isEmpty()) {
-            throw new RuntimeException("Can't happen, tryDodgeDirections will return result for every direction");
-        }
-        return options.get(options.size() - 1).getDistToProjectile();
-    }
-
-    private static double amplifyRange(double range, int rangeAmpl, Game game) {
-        return range + game.getRangeBonusPerSkillLevel() * rangeAmpl;
-    }
-
-    private static double amplifySpeed(double speed, int speedAmpl, Game game) {
-        return speed * (1 + game.getMovementBonusFactorPerSkillLevel() * speedAmpl);
-    }
-
-    private static double amplifyAngle(double angle, int speedAmpl, Game game) {
-        return angle * (speedAmpl >= 6 ? 1 + game.getHastenedRotationBonusFactor() : 1);
-    }
-
-    private static String projectileCode(ProjectileType type) {
-        switch (type) {
-            case FROST_BOLT:
-                return "F";
-            case MAGIC_MISSILE:
-                return "M";
-            case FIREBALL:
-                return "E";
-            default:
-                throw new RuntimeException("Unexpected projectile type " + type);
-        }
-    }
-
-    private static ProjectileType projectileFromCode(String code) {
-        switch (code) {
-            case "F":
-                return ProjectileType.FROST_BOLT;
-            case "M":
-                return ProjectileType.MAGIC_MISSILE;
-            case "E":
-                return ProjectileType.FIREBALL;
-            default:
-                throw new RuntimeException("Unexpected projectile code " + code);
+            meta = right;
         }
+        return new CastMeta(meta[0], meta[1]);
     }
 
     public static class CastMeta {
@@ -0,0 +1,138 @@
+import model.Game;
+import model.ProjectileType;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Simulates extreme casts for amplifier combinations missing from {@link CastRangeTable}, one angle bin at a time,
+ * and keeps last solved ones. With current rules amplifiers never leave the table, so this only matters for changed
+ * game settings. Keys are solved right away by default, which takes a fraction of a second each but keeps moves
+ * deterministic and visible to {@link DeadlineScheduler}. Solving on background thread is opt-in, callers then get
+ * nothing until key is ready.
+ */
+public class CastRangeSolver {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private final Map<Long, double[]> solved;
+    private final Set<Long> pending = new HashSet<>();
+    private boolean inBackground;
+    private ExecutorService executor;
+    private Game worldGame;
+    private WorldProxy world;
+
+    public CastRangeSolver() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CastRangeSolver(int capacity) {
+        this.solved = new LinkedHashMap<Long, double[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, double[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public void setInBackground(boolean inBackground) {
+        this.inBackground = inBackground;
+    }
+
+    /**
+     * @return dist to center and center offset, null if key is still being solved on background thread, only possible
+     * when solving in background
+     */
+    public synchronized double[] solve(boolean optimistic,
+                                       ProjectileType projectileType,
+                                       int speedAmpl,
+                                       int rangeAmpl,
+                                       int bin,
+                                       double angle,
+                                       Game game) {
+        long key = key(optimistic, projectileType, speedAmpl, rangeAmpl, bin);
+        double[] meta = solved.get(key);
+        if (meta != null || pending.contains(key)) {
+            return meta;
+        }
+        if (!inBackground) {
+            meta = simulate(optimistic, projectileType, speedAmpl, rangeAmpl, angle, game);
+            solved.put(key, meta);
+            return meta;
+        }
+        warmUp(optimistic, projectileType, speedAmpl, rangeAmpl, bin, angle, game);
+        return null;
+    }
+
+    /**
+     * Queues key to be solved on background thread, if it's not solved yet.
+     */
+    public synchronized void warmUp(boolean optimistic,
+                                    ProjectileType projectileType,
+                                    int speedAmpl,
+                                    int rangeAmpl,
+                                    int bin,
+                                    double angle,
+                                    Game game) {
+        long key = key(optimistic, projectileType, speedAmpl, rangeAmpl, bin);
+        if (solved.containsKey(key) || !pending.add(key)) {
+            return;
+        }
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "cast-range-solver");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        }
+        executor.execute(() -> {
+            double[] meta = simulate(optimistic, projectileType, speedAmpl, rangeAmpl, angle, game);
+            synchronized (this) {
+                pending.remove(key);
+                solved.put(key, meta);
+            }
+        });
+    }
+
+    public synchronized int size() {
+        return solved.size();
+    }
+
+    private double[] simulate(boolean optimistic,
+                              ProjectileType projectileType,
+                              int speedAmpl,
+                              int rangeAmpl,
+                              double angle,
+                              Game game) {
+        WorldProxy world;
+        synchronized (this) {
+            if (worldGame != game) {
+                this.world = CastRangeTableGenerator.offlineWorld(game);
+                this.worldGame = game;
+            }
+            world = this.world;
+        }
+        return CastRangeTableGenerator.simulateKey(optimistic,
+                projectileType,
+                speedAmpl,
+                rangeAmpl,
+                angle,
+                world,
+                game);
+    }
+
+    private static long key(boolean optimistic, ProjectileType projectileType, int speedAmpl, int rangeAmpl, int bin) {
+        if (speedAmpl < 0 || rangeAmpl < 0) {
+            throw new RuntimeException("Negative amplifiers " + speedAmpl + " " + rangeAmpl);
+        }
+        long key = optimistic ? 1 : 0;
+        key = (key << 8) | projectileType.ordinal();
+        key = (key << 16) | speedAmpl;
+        key = (key << 16) | rangeAmpl;
+        return (key << 16) | bin;
+    }
+}
@@ -0,0 +1,236 @@
+import model.ProjectileType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * Extreme cast distances from a binary table, kept as one flat array for all keys. Layout, big endian:
+ * <pre>
+ * int magic, int projectiles, int speed amplifiers, int range amplifiers, int angle bins,
+ * float[angle bins] bin angles,
+ * float[2][projectiles][speed amplifiers][range amplifiers][angle bins][2] pessimistic then optimistic
+ *     (dist to center, center offset) pairs
+ * </pre>
+ * Table is generated by {@link CastRangeTableGenerator}.
+ */
+public final class CastRangeTable {
+
+    public static final String RESOURCE = "cast-range.bin";
+    public static final ProjectileType[] PROJECTILES = {ProjectileType.MAGIC_MISSILE,
+            ProjectileType.FROST_BOLT,
+            ProjectileType.FIREBALL};
+    // no way to get 5 amplification
+    public static final int[] SPEED_AMPLIFIERS = {0, 1, 2, 3, 4, 6, 7, 8, 9, 10};
+    public static final int[] RANGE_AMPLIFIERS = {0, 1, 2, 3, 4};
+    public static final int DEFAULT_ANGLE_BINS = 41;
+    private static final int MAGIC = 0x43525431;
+    private static final int HEADER_INTS = 5;
+    private static final int[] SPEED_INDEX = {0, 1, 2, 3, 4, -1, 5, 6, 7, 8, 9};
+    private static final int[] PROJECTILE_INDEX = new int[ProjectileType.values().length];
+    private final int angleBins;
+    private final double[] binAngles;
+    private final double binStep;
+    private final double[] entries;
+
+    static {
+        for (int k = 0; k < PROJECTILES.length; k++) {
+            PROJECTILE_INDEX[PROJECTILES[k].ordinal()] = k;
+        }
+    }
+
+    private CastRangeTable(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != PROJECTILES.length ||
+                buffer.getInt(8) != SPEED_AMPLIFIERS.length || buffer.getInt(12) != RANGE_AMPLIFIERS.length ||
+                buffer.getInt(16) < 2) {
+            throw new RuntimeException("Cast range table doesn't match expected layout");
+        }
+        this.angleBins = buffer.getInt(16);
+        this.binAngles = new double[angleBins];
+        for (int bin = 0; bin < angleBins; bin++) {
+            binAngles[bin] = buffer.getFloat((HEADER_INTS + bin) * 4);
+        }
+        this.binStep = (binAngles[angleBins - 1] - binAngles[0]) / (angleBins - 1);
+        buffer.position((HEADER_INTS + angleBins) * 4);
+        FloatBuffer floats = buffer.slice().asFloatBuffer();
+        if (floats.capacity() != entryCount(angleBins)) {
+            throw new RuntimeException("Cast range table has " + floats.capacity() + " entries, expected " +
+                    entryCount(angleBins));
+        }
+        this.entries = new double[floats.capacity()];
+        for (int k = 0; k < entries.length; k++) {
+            entries[k] = floats.get(k);
+        }
+    }
+
+    public static CastRangeTable bundled() {
+        return Bundled.TABLE;
+    }
+
+    public static CastRangeTable read(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+            bytes.write(chunk, 0, read);
+        }
+        if (bytes.size() < HEADER_INTS * 4) {
+            throw new RuntimeException("Cast range table is too short");
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.size());
+        buffer.put(bytes.toByteArray());
+        buffer.flip();
+        return new CastRangeTable(buffer);
+    }
+
+    /**
+     * @param binAngles ascending, evenly spaced
+     * @param metas     dist to center and center offset for every key, indexed as in {@link #index(int, boolean,
+     *                  ProjectileType, int, int)} with {@code binAngles.length} bins
+     */
+    public static void write(OutputStream out, double[] binAngles, double[] metas) throws IOException {
+        if (metas.length != entryCount(binAngles.length)) {
+            throw new RuntimeException("Expected " + entryCount(binAngles.length) + " entries, got " + metas.length);
+        }
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(PROJECTILES.length);
+        data.writeInt(SPEED_AMPLIFIERS.length);
+        data.writeInt(RANGE_AMPLIFIERS.length);
+        data.writeInt(binAngles.length);
+        for (double angle : binAngles) {
+            data.writeFloat((float) angle);
+        }
+        for (double value : metas) {
+            data.writeFloat((float) value);
+        }
+        data.flush();
+    }
+
+    public static int entryCount(int angleBins) {
+        return 2 * PROJECTILES.length * SPEED_AMPLIFIERS.length * RANGE_AMPLIFIERS.length * angleBins * 2;
+    }
+
+    /**
+     * @return position of dist to center for given key in table with given number of bins, center offset follows it
+     */
+    public static int index(int angleBins,
+                            boolean optimistic,
+                            ProjectileType projectileType,
+                            int speedAmpl,
+                            int rangeAmpl,
+                            int bin) {
+        return key(optimistic, projectileType, speedAmpl, rangeAmpl) * angleBins * 2 + bin * 2;
+    }
+
+    /**
+     * @return position of dist to center for given key, center offset follows it
+     */
+    public int index(boolean optimistic, ProjectileType projectileType, int speedAmpl, int rangeAmpl, int bin) {
+        return index(angleBins, optimistic, projectileType, speedAmpl, rangeAmpl, bin);
+    }
+
+    /**
+     * @return position of dist to center in first angle bin, other bins follow it
+     */
+    public int index(boolean optimistic, ProjectileType projectileType, int speedAmpl, int rangeAmpl) {
+        return index(angleBins, optimistic, projectileType, speedAmpl, rangeAmpl, 0);
+    }
+
+    private static int key(boolean optimistic, ProjectileType projectileType, int speedAmpl, int rangeAmpl) {
+        int speedIndex = speedAmpl >= 0 && speedAmpl < SPEED_INDEX.length ? SPEED_INDEX[speedAmpl] : -1;
+        if (speedIndex == -1 || rangeAmpl < 0 || rangeAmpl >= RANGE_AMPLIFIERS.length) {
+            throw new RuntimeException("No cast range for speed " + speedAmpl + " and range " + rangeAmpl);
+        }
+        int key = optimistic ? 1 : 0;
+        key = key * PROJECTILES.length + PROJECTILE_INDEX[projectileType.ordinal()];
+        key = key * SPEED_AMPLIFIERS.length + speedIndex;
+        key = key * RANGE_AMPLIFIERS.length + rangeAmpl;
+        return key;
+    }
+
+    public static boolean hasKey(int speedAmpl, int rangeAmpl) {
+        return speedAmpl >= 0 && speedAmpl < SPEED_INDEX.length && SPEED_INDEX[speedAmpl] != -1 && rangeAmpl >= 0 &&
+                rangeAmpl < RANGE_AMPLIFIERS.length;
+    }
+
+    /**
+     * @return greatest speed amplifier in table not exceeding given one, or least one
+     */
+    public static int floorSpeedAmpl(int speedAmpl) {
+        int res = SPEED_AMPLIFIERS[0];
+        for (int ampl : SPEED_AMPLIFIERS) {
+            if (ampl <= speedAmpl) {
+                res = ampl;
+            }
+        }
+        return res;
+    }
+
+    public static int clampRangeAmpl(int rangeAmpl) {
+        return Math.max(RANGE_AMPLIFIERS[0], Math.min(RANGE_AMPLIFIERS[RANGE_AMPLIFIERS.length - 1], rangeAmpl));
+    }
+
+    public int getAngleBins() {
+        return angleBins;
+    }
+
+    public double binAngle(int bin) {
+        return binAngles[bin];
+    }
+
+    /**
+     * @return last bin with angle not greater than given one, first bin if there is no such
+     */
+    public int lowerBin(double angle) {
+        // bins are evenly spaced up to rounding of stored angles, so estimate is off by one at most
+        int bin = Math.max(0, Math.min(angleBins - 1, (int) Math.floor((angle - binAngles[0]) / binStep)));
+        while (bin > 0 && binAngles[bin] > angle) {
+            bin--;
+        }
+        while (bin < angleBins - 1 && binAngles[bin + 1] <= angle) {
+            bin++;
+        }
+        return bin;
+    }
+
+    public double get(int index) {
+        return entries[index];
+    }
+
+    public double distToCenter(boolean optimistic,
+                               ProjectileType projectileType,
+                               int speedAmpl,
+                               int rangeAmpl,
+                               int bin) {
+        return entries[index(optimistic, projectileType, speedAmpl, rangeAmpl, bin)];
+    }
+
+    public double centerOffset(boolean optimistic,
+                               ProjectileType projectileType,
+                               int speedAmpl,
+                               int rangeAmpl,
+                               int bin) {
+        return entries[index(optimistic, projectileType, speedAmpl, rangeAmpl, bin) + 1];
+    }
+
+    private static final class Bundled {
+
+        private static final CastRangeTable TABLE = load();
+
+        private static CastRangeTable load() {
+            try (InputStream in = CastRangeTable.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+                if (in == null) {
+                    throw new RuntimeException("No " + RESOURCE + " on classpath, run CastRangeTableGenerator");
+                }
+                return read(in);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
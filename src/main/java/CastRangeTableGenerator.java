@@ -0,0 +1,533 @@
+import model.*;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Produces {@link CastRangeTable#RESOURCE}. Either simulates casts, or converts dumps in the old text format
+ * ({@code M,0,0,0.000,506.004,0.000#...}). Game settings for simulation are taken from local runner, or from
+ * properties file with {@link Game} field names as keys, which runner mode can save for later offline runs.
+ * <pre>
+ * CastRangeTableGenerator [--angles bins] [--runner host port token] [--save-game game.properties] output.bin
+ * CastRangeTableGenerator [--angles bins] --game game.properties output.bin
+ * CastRangeTableGenerator --convert optimistic.txt pessimistic.txt output.bin
+ * </pre>
+ */
+public final class CastRangeTableGenerator {
+
+    private static final int MAX_DIST_TO_CENTER = 700;
+    private static final int MAX_CENTER_OFFSET = 100;
+    static final double DIST_PRECISION = 1e-2;
+    private static final Point dummyWizardPoint = new Point(1000, 1000);
+    private static final String[] LOCAL_RUNNER = {"127.0.0.1", "31001", "0000000000000000"};
+
+    private CastRangeTableGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int angleBins = CastRangeTable.DEFAULT_ANGLE_BINS;
+        String[] runnerArgs = LOCAL_RUNNER;
+        String gameFile = null;
+        String saveGameFile = null;
+        String[] dumps = null;
+        String output = null;
+        for (int k = 0; k < args.length; k++) {
+            switch (args[k]) {
+                case "--angles":
+                    angleBins = Integer.parseInt(args[++k]);
+                    break;
+                case "--runner":
+                    runnerArgs = Arrays.copyOfRange(args, k + 1, k + 4);
+                    k += 3;
+                    break;
+                case "--game":
+                    gameFile = args[++k];
+                    break;
+                case "--save-game":
+                    saveGameFile = args[++k];
+                    break;
+                case "--convert":
+                    dumps = Arrays.copyOfRange(args, k + 1, k + 3);
+                    k += 2;
+                    break;
+                default:
+                    output = args[k];
+            }
+        }
+        if (output == null || angleBins < 2) {
+            throw new RuntimeException("Usage: CastRangeTableGenerator [--angles bins] [--runner host port token] " +
+                    "[--game game.properties] [--save-game game.properties] [--convert optimistic.txt " +
+                    "pessimistic.txt] output.bin");
+        }
+
+        double[] binAngles = new double[angleBins];
+        double[] metas = new double[CastRangeTable.entryCount(angleBins)];
+        Arrays.fill(metas, Double.NaN);
+        if (dumps != null) {
+            if (angleBins != CastRangeTable.DEFAULT_ANGLE_BINS) {
+                throw new RuntimeException("Dumps have " + CastRangeTable.DEFAULT_ANGLE_BINS + " angle bins");
+            }
+            parseDump(new String(Files.readAllBytes(Paths.get(dumps[0])), StandardCharsets.UTF_8),
+                    true,
+                    binAngles,
+                    metas);
+            parseDump(new String(Files.readAllBytes(Paths.get(dumps[1])), StandardCharsets.UTF_8),
+                    false,
+                    binAngles,
+                    metas);
+        } else {
+            Game game;
+            if (gameFile != null) {
+                game = readGame(gameFile);
+            } else {
+                try (RemoteProcessClient client = new RemoteProcessClient(runnerArgs[0],
+                        Integer.parseInt(runnerArgs[1]))) {
+                    client.writeToken(runnerArgs[2]);
+                    client.writeProtocolVersion();
+                    client.readTeamSize();
+                    game = client.readGameContext();
+                }
+            }
+            if (saveGameFile != null) {
+                writeGame(game, saveGameFile);
+            }
+            long startedAt = System.currentTimeMillis();
+            simulate(offlineWorld(game), game, binAngles, metas);
+            System.out.println("Simulated " + metas.length / 2 + " keys in " +
+                    (System.currentTimeMillis() - startedAt) + " ms");
+        }
+        for (double meta : metas) {
+            if (Double.isNaN(meta)) {
+                throw new RuntimeException("Some cast range keys are missing");
+            }
+        }
+        try (OutputStream out = new FileOutputStream(output)) {
+            CastRangeTable.write(out, binAngles, metas);
+        }
+    }
+
+    /**
+     * Fills evenly spaced angles from -PI to PI and extreme cast distances for them, spreading keys over all cores.
+     */
+    public static void simulate(WorldProxy worldProxy, Game game, double[] binAngles, double[] metas) {
+        int angleBins = binAngles.length;
+        for (int bin = 0; bin < angleBins; bin++) {
+            binAngles[bin] = -Math.PI + bin * Math.PI * 2 / (angleBins - 1);
+        }
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            pool.invoke(new SimulateKeys(0, metas.length / 2, worldProxy, game, binAngles, metas));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void simulateKey(int key, WorldProxy worldProxy, Game game, double[] binAngles, double[] metas) {
+        int angleBins = binAngles.length;
+        int bin = key % angleBins;
+        key /= angleBins;
+        int rangeAmpl = CastRangeTable.RANGE_AMPLIFIERS[key % CastRangeTable.RANGE_AMPLIFIERS.length];
+        key /= CastRangeTable.RANGE_AMPLIFIERS.length;
+        int speedAmpl = CastRangeTable.SPEED_AMPLIFIERS[key % CastRangeTable.SPEED_AMPLIFIERS.length];
+        key /= CastRangeTable.SPEED_AMPLIFIERS.length;
+        ProjectileType projectileType = CastRangeTable.PROJECTILES[key % CastRangeTable.PROJECTILES.length];
+        boolean isOptimistic = key / CastRangeTable.PROJECTILES.length == 1;
+        simulateCastsFixedAngle(binAngles[bin],
+                rangeAmpl,
+                speedAmpl,
+                projectileType,
+                worldProxy,
+                game,
+                isOptimistic,
+                metas,
+                CastRangeTable.index(angleBins, isOptimistic, projectileType, speedAmpl, rangeAmpl, bin));
+    }
+
+    /**
+     * @return dist to center and center offset for single key
+     */
+    static double[] simulateKey(boolean isOptimistic,
+                                ProjectileType projectileType,
+                                int speedAmpl,
+                                int rangeAmpl,
+                                double angle,
+                                WorldProxy worldProxy,
+                                Game game) {
+        double[] meta = new double[2];
+        simulateCastsFixedAngle(angle, rangeAmpl, speedAmpl, projectileType, worldProxy, game, isOptimistic, meta, 0);
+        return meta;
+    }
+
+    /**
+     * Simulation only needs world borders, so world has just self and ally base.
+     */
+    static WorldProxy offlineWorld(Game game) {
+        double mapSize = game.getMapSize();
+        Player player = new Player(1, true, "generator", false, 0, Faction.ACADEMY);
+        Wizard self = new Wizard(1,
+                dummyWizardPoint.getX(),
+                dummyWizardPoint.getY(),
+                0,
+                0,
+                0,
+                Faction.ACADEMY,
+                game.getWizardRadius(),
+                game.getWizardBaseLife(),
+                game.getWizardBaseLife(),
+                new Status[0],
+                player.getId(),
+                true,
+                game.getWizardBaseMana(),
+                game.getWizardBaseMana(),
+                game.getWizardVisionRange(),
+                game.getWizardCastRange(),
+                0,
+                0,
+                new SkillType[0],
+                0,
+                new int[ActionType.values().length],
+                true,
+                new Message[0]);
+        Building allyBase = new Building(2,
+                400,
+                mapSize - 400,
+                0,
+                0,
+                0,
+                Faction.ACADEMY,
+                game.getFactionBaseRadius(),
+                (int) game.getFactionBaseLife(),
+                (int) game.getFactionBaseLife(),
+                new Status[0],
+                BuildingType.FACTION_BASE,
+                game.getFactionBaseVisionRange(),
+                game.getFactionBaseAttackRange(),
+                game.getFactionBaseDamage(),
+                game.getFactionBaseCooldownTicks(),
+                0);
+        World world = new World(0,
+                game.getTickCount(),
+                mapSize,
+                mapSize,
+                new Player[]{player},
+                new Wizard[]{self},
+                new Minion[0],
+                new Projectile[0],
+                new Bonus[0],
+                new Building[]{allyBase},
+                new Tree[0]);
+        Memory memory = new Memory();
+        return new WorldProxy(world,
+                self,
+                new WizardControl(self, memory, world, game),
+                new BuildingControl(self, memory, world, game),
+                game,
+                memory);
+    }
+
+    static Game readGame(String file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(Paths.get(file))) {
+            properties.load(in);
+        }
+        List<Field> fields = gameFields();
+        Object[] values = new Object[fields.size()];
+        for (int k = 0; k < fields.size(); k++) {
+            Field field = fields.get(k);
+            String value = properties.getProperty(field.getName());
+            if (value == null) {
+                throw new RuntimeException("No " + field.getName() + " in " + file);
+            }
+            values[k] = parseGameValue(field.getType(), value.trim());
+        }
+        try {
+            return (Game) gameConstructor(fields).newInstance(values);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void writeGame(Game game, String file) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (Field field : gameFields()) {
+            Object value;
+            try {
+                value = field.get(game);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+            String str = value instanceof int[] ? Arrays.toString((int[]) value).replaceAll("[\\[\\] ]", "") :
+                    String.valueOf(value);
+            sb.append(field.getName()).append('=').append(str).append('\n');
+        }
+        Files.write(Paths.get(file), sb.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static List<Field> gameFields() {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : Game.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Game has single constructor taking all fields in declaration order.
+     */
+    private static Constructor<?> gameConstructor(List<Field> fields) {
+        for (Constructor<?> constructor : Game.class.getConstructors()) {
+            Class<?>[] types = constructor.getParameterTypes();
+            if (types.length != fields.size()) {
+                continue;
+            }
+            boolean matches = true;
+            for (int k = 0; k < types.length; k++) {
+                matches &= types[k] == fields.get(k).getType();
+            }
+            if (matches) {
+                return constructor;
+            }
+        }
+        throw new RuntimeException("No Game constructor matching its fields");
+    }
+
+    private static Object parseGameValue(Class<?> type, String value) {
+        if (type == long.class) {
+            return Long.parseLong(value);
+        } else if (type == int.class) {
+            return Integer.parseInt(value);
+        } else if (type == double.class) {
+            return Double.parseDouble(value);
+        } else if (type == boolean.class) {
+            return Boolean.parseBoolean(value);
+        } else if (type == int[].class) {
+            return value.isEmpty() ? new int[0] : Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+        }
+        throw new RuntimeException("Unexpected Game field type " + type);
+    }
+
+    private static void parseDump(String str, boolean isOptimistic, double[] binAngles, double[] metas) {
+        double binStep = Math.PI * 2 / (binAngles.length - 1);
+        for (String record : str.trim().split("#")) {
+            String[] fields = record.split(",");
+            double angle = Double.parseDouble(fields[3]);
+            int bin = (int) Math.round((angle + Math.PI) / binStep);
+            binAngles[bin] = angle;
+            int index = CastRangeTable.index(binAngles.length,
+                    isOptimistic,
+                    projectileFromCode(fields[0]),
+                    Integer.parseInt(fields[1]),
+                    Integer.parseInt(fields[2]),
+                    bin);
+            metas[index] = Double.parseDouble(fields[4]);
+            metas[index + 1] = Double.parseDouble(fields[5]);
+        }
+    }
+
+    private static void simulateCastsFixedAngle(double angle,
+                                                int rangeAmpl,
+                                                int speedAmpl,
+                                                ProjectileType projectileType,
+                                                WorldProxy worldProxy,
+                                                Game game,
+                                                boolean isOptimistic,
+                                                double[] metas,
+                                                int index) {
+        double d1 = 0;
+        double d2 = MAX_DIST_TO_CENTER;
+        while (d2 - d1 > DIST_PRECISION) {
+            double d = (d1 + d2) / 2;
+            Optional<Double> centerOffset = simulateCastsFixedDist(d,
+                    angle,
+                    rangeAmpl,
+                    speedAmpl,
+                    projectileType,
+                    worldProxy,
+                    game,
+                    isOptimistic);
+            if (centerOffset.isPresent()) {
+                d1 = d;
+            } else {
+                d2 = d;
+            }
+        }
+        Optional<Double> centerOffsetOpt =
+                simulateCastsFixedDist(d1, angle, rangeAmpl, speedAmpl, projectileType, worldProxy, game, isOptimistic);
+        Double centerOffset = centerOffsetOpt.orElseThrow(() -> new RuntimeException(
+                "Can't happen. Some minimal cast distance is always undodgeable"));
+        metas[index] = d2;
+        metas[index + 1] = centerOffset;
+    }
+
+    private static Optional<Double> simulateCastsFixedDist(double distToCenter,
+                                                           double angle,
+                                                           int rangeAmpl,
+                                                           int speedAmpl,
+                                                           ProjectileType projectileType,
+                                                           WorldProxy worldProxy,
+                                                           Game game,
+                                                           boolean isOptimistic) {
+        double d1 = 0;
+        double d2 = MAX_CENTER_OFFSET;
+        while (d2 - d1 > DIST_PRECISION) {
+            double m1 = d1 + (d2 - d1) / 3;
+            double m2 = d2 - (d2 - d1) / 3;
+            double maxDodgeM1 = simulateCastsFixedOffset(m1,
+                    distToCenter,
+                    angle,
+                    rangeAmpl,
+                    speedAmpl,
+                    projectileType,
+                    worldProxy,
+                    game,
+                    isOptimistic);
+            double maxDodgeM2 = simulateCastsFixedOffset(m2,
+                    distToCenter,
+                    angle,
+                    rangeAmpl,
+                    speedAmpl,
+                    projectileType,
+                    worldProxy,
+                    game,
+                    isOptimistic);
+
+            if (maxDodgeM1 <= maxDodgeM2) {
+                d2 = m2;
+            } else {
+                d1 = m1;
+            }
+        }
+        double maxDodge = simulateCastsFixedOffset(d1,
+                distToCenter,
+                angle,
+                rangeAmpl,
+                speedAmpl,
+                projectileType,
+                worldProxy,
+                game,
+                isOptimistic);
+        if (maxDodge <=
+                game.getWizardRadius() + CastProjectileTacticBuilders.projectileEffectiveRadius(game, projectileType)) {
+            return Optional.of(d1);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static double simulateCastsFixedOffset(double centerOffset,
+                                                   double distToCenter,
+                                                   double angle,
+                                                   int rangeAmpl,
+                                                   int speedAmpl,
+                                                   ProjectileType projectileType,
+                                                   WorldProxy worldProxy,
+                                                   Game game,
+                                                   boolean isOptimistic) {
+        double moodOffset = (isOptimistic ? CastProjectileTacticBuilders.projectileMoveSpeed(game, projectileType) : 0);
+        Point projectilePoint = new Point(dummyWizardPoint.getX() + distToCenter - moodOffset, dummyWizardPoint.getY());
+        double aimPointX = dummyWizardPoint.getX() + centerOffset * Math.cos(angle);
+        double aimPointY = dummyWizardPoint.getY() + centerOffset * Math.sin(angle);
+        Point projectileTravelsTo = MathMethods.distPoint(projectilePoint.getX() + moodOffset,
+                projectilePoint.getY(),
+                aimPointX,
+                aimPointY,
+                amplifyRange(game.getWizardCastRange(), rangeAmpl, game));
+
+        List<DodgeProjectileTacticBuilder.DodgeOption> options = DodgeProjectileTacticBuilder.tryDodgeDirections(
+                dummyWizardPoint,
+                1,
+                angle,
+                amplifySpeed(game.getWizardForwardSpeed(), speedAmpl, game),
+                amplifySpeed(game.getWizardBackwardSpeed(), speedAmpl, game),
+                amplifySpeed(game.getWizardStrafeSpeed(), speedAmpl, game),
+                amplifyAngle(game.getWizardMaxTurnAngle(), speedAmpl, game),
+                projectilePoint,
+                projectileType,
+                projectileTravelsTo,
+                false,
+                null,
+                game,
+                worldProxy);
+        options.sort(Comparator.comparingDouble(DodgeProjectileTacticBuilder.DodgeOption::getDistToProjectile));
+        if (options.isEmpty()) {
+            throw new RuntimeException("Can't happen, tryDodgeDirections will return result for every direction");
+        }
+        return options.get(options.size() - 1).getDistToProjectile();
+    }
+
+    private static double amplifyRange(double range, int rangeAmpl, Game game) {
+        return range + game.getRangeBonusPerSkillLevel() * rangeAmpl;
+    }
+
+    private static double amplifySpeed(double speed, int speedAmpl, Game game) {
+        return speed * (1 + game.getMovementBonusFactorPerSkillLevel() * speedAmpl);
+    }
+
+    private static double amplifyAngle(double angle, int speedAmpl, Game game) {
+        return angle * (speedAmpl >= 6 ? 1 + game.getHastenedRotationBonusFactor() : 1);
+    }
+
+    private static ProjectileType projectileFromCode(String code) {
+        switch (code) {
+            case "F":
+                return ProjectileType.FROST_BOLT;
+            case "M":
+                return ProjectileType.MAGIC_MISSILE;
+            case "E":
+                return ProjectileType.FIREBALL;
+            default:
+                throw new RuntimeException("Unexpected projectile code " + code);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class SimulateKeys extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final WorldProxy worldProxy;
+        private final Game game;
+        private final double[] binAngles;
+        private final double[] metas;
+
+        SimulateKeys(int from, int to, WorldProxy worldProxy, Game game, double[] binAngles, double[] metas) {
+            this.from = from;
+            this.to = to;
+            this.worldProxy = worldProxy;
+            this.game = game;
+            this.binAngles = binAngles;
+            this.metas = metas;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                simulateKey(from, worldProxy, game, binAngles, metas);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SimulateKeys(from, mid, worldProxy, game, binAngles, metas),
+                    new SimulateKeys(mid, to, worldProxy, game, binAngles, metas));
+        }
+    }
+}
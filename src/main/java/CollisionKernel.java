@@ -0,0 +1,148 @@
+import model.Bonus;
+import model.CircularUnit;
+import model.Projectile;
+import model.Unit;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Snapshot of obstacles around a wizard as flat arrays, answers whether wizard displacement hits any of them. Same
+ * checks as {@link MathMethods#isLineIntersectsCircle} plus end point overlap, with squared distances instead of
+ * hypot so loops stay free of calls.
+ */
+public final class CollisionKernel {
+
+    private static final double E = 1e-9;
+    private final double[] x;
+    private final double[] y;
+    private final double[] r2;
+    private final int count;
+
+    public CollisionKernel(List<Unit> units, long wizardId, double wizardRadius) {
+        this(units, wizardId, wizardId, wizardRadius, unit -> ((CircularUnit) unit).getRadius());
+    }
+
+    /**
+     * @param ignoreId   one more unit to leave out, e.g. the one wizard is going to
+     * @param unitRadius radius each unit is treated with, wizard radius is added to it
+     */
+    public CollisionKernel(List<Unit> units,
+                           long wizardId,
+                           long ignoreId,
+                           double wizardRadius,
+                           ToDoubleFunction<Unit> unitRadius) {
+        int n = 0;
+        this.x = new double[units.size()];
+        this.y = new double[units.size()];
+        this.r2 = new double[units.size()];
+        for (Unit unit : units) {
+            if (unit.getId() == wizardId || unit.getId() == ignoreId || unit instanceof Projectile ||
+                    unit instanceof Bonus) {
+                continue;
+            }
+            if (!(unit instanceof CircularUnit)) {
+                throw new RuntimeException("Uncircular unit is not expected");
+            }
+            x[n] = unit.getX();
+            y[n] = unit.getY();
+            double radius = unitRadius.applyAsDouble(unit) + wizardRadius;
+            r2[n] = radius * radius;
+            n++;
+        }
+        this.count = n;
+    }
+
+    /**
+     * @param reach max length of displacement that will be tested
+     */
+    public static CollisionKernel around(WorldProxy world,
+                                         long wizardId,
+                                         double wizardX,
+                                         double wizardY,
+                                         double wizardRadius,
+                                         double reach) {
+        return new CollisionKernel(world.getSpatialIndex().unitsWithin(wizardX, wizardY, reach + wizardRadius),
+                wizardId,
+                wizardRadius);
+    }
+
+    public boolean isFree(double fromX, double fromY, double toX, double toY) {
+        double a = fromY - toY;
+        double b = toX - fromX;
+        if (Math.abs(a) + Math.abs(b) < E) {
+            for (int k = 0; k < count; k++) {
+                double dx = x[k] - fromX;
+                double dy = y[k] - fromY;
+                if (dx * dx + dy * dy <= r2[k]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        double norm = a * a + b * b;
+        double c = (fromX - toX) * fromY + (toY - fromY) * fromX;
+        double minX = Math.min(fromX, toX);
+        double maxX = Math.max(fromX, toX);
+        double minY = Math.min(fromY, toY);
+        double maxY = Math.max(fromY, toY);
+        for (int k = 0; k < count; k++) {
+            double cx = x[k];
+            double cy = y[k];
+            double ex = cx - toX;
+            double ey = cy - toY;
+            boolean endHit = ex * ex + ey * ey < r2[k];
+            double xi = (b * (b * cx - a * cy) - a * c) / norm;
+            double yi = (a * (-b * cx + a * cy) - b * c) / norm;
+            double px = cx - xi;
+            double py = cy - yi;
+            boolean lineHit = xi >= minX && xi <= maxX && yi >= minY && yi <= maxY && px * px + py * py <= r2[k];
+            if (endHit | lineHit) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tests every displacement from (fromX, fromY) to (toX[i], toY[i]), i < n, same as calling
+     * {@link #isFree(double, double, double, double)} for each. Obstacles are the outer loop and each is tested against
+     * all candidates without early exit, so the inner loop is branch-free arithmetic over candidate arrays.
+     */
+    public void isFree(double fromX, double fromY, double[] toX, double[] toY, int n, boolean[] free) {
+        Arrays.fill(free, 0, n, true);
+        for (int k = 0; k < count; k++) {
+            double cx = x[k];
+            double cy = y[k];
+            double rk2 = r2[k];
+            double fx = cx - fromX;
+            double fy = cy - fromY;
+            // zero displacement only checks start point
+            boolean startHit = fx * fx + fy * fy <= rk2;
+            for (int i = 0; i < n; i++) {
+                double tx = toX[i];
+                double ty = toY[i];
+                double a = fromY - ty;
+                double b = tx - fromX;
+                double norm = a * a + b * b;
+                double c = (fromX - tx) * fromY + (ty - fromY) * fromX;
+                double ex = cx - tx;
+                double ey = cy - ty;
+                boolean endHit = ex * ex + ey * ey < rk2;
+                double xi = (b * (b * cx - a * cy) - a * c) / norm;
+                double yi = (a * (-b * cx + a * cy) - b * c) / norm;
+                double px = cx - xi;
+                double py = cy - yi;
+                boolean lineHit = xi >= Math.min(fromX, tx) & xi <= Math.max(fromX, tx) &
+                        yi >= Math.min(fromY, ty) & yi <= Math.max(fromY, ty) & px * px + py * py <= rk2;
+                boolean hit = Math.abs(a) + Math.abs(b) < E ? startHit : endHit | lineHit;
+                free[i] &= !hit;
+            }
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+}
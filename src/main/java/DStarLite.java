@@ -0,0 +1,245 @@
+import java.util.Arrays;
+
+/**
+ * D* Lite search rooted at goal. State survives between ticks: when start moves or edge costs around some nodes
+ * change, only nodes whose distance to goal is affected get expanded again.
+ */
+public final class DStarLite {
+
+    public static final int NO_NODE = -1;
+    private final Graph graph;
+    private final int goal;
+    private final double[] g;
+    private final double[] rhs;
+    private final double[] key1;
+    private final double[] key2;
+    private final int[] heap;
+    private final int[] heapPosition;
+    private final int[] predNodes;
+    private final double[] predCosts;
+    private final int[] succNodes;
+    private final double[] succCosts;
+    private int heapSize;
+    private double km;
+    private int lastStart;
+
+    public DStarLite(Graph graph, int goal, int start) {
+        this.graph = graph;
+        this.goal = goal;
+        int n = graph.nodeCount();
+        this.g = new double[n];
+        this.rhs = new double[n];
+        this.key1 = new double[n];
+        this.key2 = new double[n];
+        this.heap = new int[n];
+        this.heapPosition = new int[n];
+        this.predNodes = new int[graph.maxDegree()];
+        this.predCosts = new double[graph.maxDegree()];
+        this.succNodes = new int[graph.maxDegree()];
+        this.succCosts = new double[graph.maxDegree()];
+        Arrays.fill(g, Double.POSITIVE_INFINITY);
+        Arrays.fill(rhs, Double.POSITIVE_INFINITY);
+        Arrays.fill(heapPosition, NO_NODE);
+        this.lastStart = start;
+        rhs[goal] = 0;
+        key1[goal] = calcKey1(goal, start);
+        key2[goal] = calcKey2(goal);
+        push(goal);
+    }
+
+    public int getGoal() {
+        return goal;
+    }
+
+    /**
+     * Costs of edges going out of node have changed.
+     */
+    public void nodeChanged(int node) {
+        updateVertex(node);
+    }
+
+    public void computeShortestPath(int start) {
+        if (start != lastStart) {
+            km += graph.heuristic(lastStart, start);
+            lastStart = start;
+        }
+        while (heapSize > 0 && (compareTop(start) < 0 || rhs[start] != g[start])) {
+            int u = heap[0];
+            double oldKey1 = key1[u];
+            double oldKey2 = key2[u];
+            double newKey1 = calcKey1(u, start);
+            double newKey2 = calcKey2(u);
+            if (oldKey1 < newKey1 || (oldKey1 == newKey1 && oldKey2 < newKey2)) {
+                key1[u] = newKey1;
+                key2[u] = newKey2;
+                siftDown(0);
+            } else if (g[u] > rhs[u]) {
+                g[u] = rhs[u];
+                poll();
+                updatePredecessors(u);
+            } else {
+                g[u] = Double.POSITIVE_INFINITY;
+                updateVertex(u);
+                updatePredecessors(u);
+            }
+        }
+    }
+
+    public double distToGoal(int node) {
+        return g[node];
+    }
+
+    /**
+     * @return successor on the shortest path to goal, {@link #NO_NODE} if goal is not reachable
+     */
+    public int nextHop(int node) {
+        int count = graph.successors(node, succNodes, succCosts);
+        int best = NO_NODE;
+        double bestDist = Double.POSITIVE_INFINITY;
+        for (int k = 0; k < count; k++) {
+            double dist = succCosts[k] + g[succNodes[k]];
+            if (dist < bestDist) {
+                bestDist = dist;
+                best = succNodes[k];
+            }
+        }
+        return best;
+    }
+
+    private void updatePredecessors(int u) {
+        int count = graph.predecessors(u, predNodes, predCosts);
+        for (int k = 0; k < count; k++) {
+            updateVertex(predNodes[k]);
+        }
+    }
+
+    private void updateVertex(int u) {
+        if (u != goal) {
+            int count = graph.successors(u, succNodes, succCosts);
+            double best = Double.POSITIVE_INFINITY;
+            for (int k = 0; k < count; k++) {
+                best = Math.min(best, succCosts[k] + g[succNodes[k]]);
+            }
+            rhs[u] = best;
+        }
+        boolean queued = heapPosition[u] != NO_NODE;
+        if (g[u] != rhs[u]) {
+            key1[u] = calcKey1(u, lastStart);
+            key2[u] = calcKey2(u);
+            if (queued) {
+                siftUp(heapPosition[u]);
+                siftDown(heapPosition[u]);
+            } else {
+                push(u);
+            }
+        } else if (queued) {
+            remove(u);
+        }
+    }
+
+    private double calcKey1(int u, int start) {
+        return Math.min(g[u], rhs[u]) + graph.heuristic(start, u) + km;
+    }
+
+    private double calcKey2(int u) {
+        return Math.min(g[u], rhs[u]);
+    }
+
+    private int compareTop(int start) {
+        int top = heap[0];
+        double startKey1 = calcKey1(start, start);
+        double startKey2 = calcKey2(start);
+        if (key1[top] != startKey1) {
+            return key1[top] < startKey1 ? -1 : 1;
+        }
+        return Double.compare(key2[top], startKey2);
+    }
+
+    private boolean less(int a, int b) {
+        return key1[a] < key1[b] || (key1[a] == key1[b] && key2[a] < key2[b]);
+    }
+
+    private void push(int node) {
+        heap[heapSize] = node;
+        heapPosition[node] = heapSize;
+        heapSize++;
+        siftUp(heapSize - 1);
+    }
+
+    private void poll() {
+        remove(heap[0]);
+    }
+
+    private void remove(int node) {
+        int pos = heapPosition[node];
+        heapPosition[node] = NO_NODE;
+        heapSize--;
+        if (pos < heapSize) {
+            int moved = heap[heapSize];
+            heap[pos] = moved;
+            heapPosition[moved] = pos;
+            siftUp(pos);
+            siftDown(heapPosition[moved]);
+        }
+    }
+
+    private void siftUp(int pos) {
+        int node = heap[pos];
+        while (pos > 0) {
+            int parentPos = (pos - 1) >>> 1;
+            int parent = heap[parentPos];
+            if (!less(node, parent)) {
+                break;
+            }
+            heap[pos] = parent;
+            heapPosition[parent] = pos;
+            pos = parentPos;
+        }
+        heap[pos] = node;
+        heapPosition[node] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int node = heap[pos];
+        int half = heapSize >>> 1;
+        while (pos < half) {
+            int childPos = 2 * pos + 1;
+            int child = heap[childPos];
+            int rightPos = childPos + 1;
+            if (rightPos < heapSize && less(heap[rightPos], child)) {
+                childPos = rightPos;
+                child = heap[childPos];
+            }
+            if (!less(child, node)) {
+                break;
+            }
+            heap[pos] = child;
+            heapPosition[child] = pos;
+            pos = childPos;
+        }
+        heap[pos] = node;
+        heapPosition[node] = pos;
+    }
+
+    public interface Graph {
+
+        int nodeCount();
+
+        int maxDegree();
+
+        /**
+         * Fills nodes reachable by one edge from node and edge costs, returns their count.
+         */
+        int successors(int node, int[] nodes, double[] costs);
+
+        /**
+         * Fills nodes that have an edge to node and edge costs, returns their count.
+         */
+        int predecessors(int node, int[] nodes, double[] costs);
+
+        /**
+         * Consistent estimate of distance between nodes.
+         */
+        double heuristic(int from, int to);
+    }
+}
@@ -0,0 +1,161 @@
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps strategies within game's cumulative time limit. Time left is spread evenly over ticks left, and once that
+ * allowance per tick drops below usual one, expensive computations switch to cheaper modes. Builders still run in their
+ * usual order, as some of them use what previous ones left in memory, but when even that's not enough, low priority
+ * builders without side effects are skipped so that high priority ones keep their usual share of the tick.
+ * <p>
+ * Limit is for the whole player process, so all strategies of one player should share one scheduler. Each of them
+ * calls {@link #startTick} and {@link #endTick} around its move, time of all of them counts against one budget, and
+ * degradation is decided once per game tick, when the first of them starts it.
+ * <p>
+ * Decisions depend on wall clock, so anything which needs same moves for same input, like replays and benchmarks,
+ * should use {@link #alwaysFull()}.
+ */
+public class DeadlineScheduler {
+
+    public static final String BUDGET_PROPERTY = "tickBudgetNanos";
+    public static final int ALWAYS_RUN_PRIORITY = Tactics.SURVIVE_TACTIC_PRIORITY;
+    // not taken from game rules: 200 s over a 20000 tick game, a conservative guess for a cumulative limit which also has
+    // to cover runner and GC; set BUDGET_PROPERTY to match the limit of the server actually played on
+    public static final long DEFAULT_NANOS_PER_TICK = 10_000_000;
+    private static final double REDUCED_BELOW = 0.8;
+    private static final double MINIMAL_BELOW = 0.5;
+    private static final double COST_SMOOTHING = 0.1;
+    // first calls run cold code, so they say little about usual cost
+    private static final int WARM_UP_CALLS = 10;
+    private final long nanosPerTick;
+    private final boolean enabled;
+    private double[] builderCosts = new double[0];
+    private int[] builderCalls = new int[0];
+    private long usedNanos;
+    private int currentTickIndex = -1;
+    private long moveStartedAt;
+    // by moves which already ended on current tick
+    private long usedOnTick;
+    private long tickAllowance;
+    private Degradation degradation = Degradation.FULL;
+
+    public DeadlineScheduler() {
+        this(DEFAULT_NANOS_PER_TICK);
+    }
+
+    public DeadlineScheduler(long nanosPerTick) {
+        this(nanosPerTick, true);
+        if (nanosPerTick <= 0) {
+            throw new RuntimeException("Time per tick should be positive, got " + nanosPerTick);
+        }
+    }
+
+    private DeadlineScheduler(long nanosPerTick, boolean enabled) {
+        this.nanosPerTick = nanosPerTick;
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return scheduler which never looks at clock, always allows {@link Degradation#FULL} and runs every builder
+     */
+    public static DeadlineScheduler alwaysFull() {
+        return new DeadlineScheduler(0, false);
+    }
+
+    /**
+     * @return scheduler with time per tick from {@link #BUDGET_PROPERTY} system property, {@link #alwaysFull()} if it's
+     * set to 0
+     */
+    public static DeadlineScheduler fromSystemProperties() {
+        long nanosPerTick = Long.getLong(BUDGET_PROPERTY, DEFAULT_NANOS_PER_TICK);
+        return nanosPerTick <= 0 ? alwaysFull() : new DeadlineScheduler(nanosPerTick);
+    }
+
+    public void startTick(int tickIndex, int tickCount) {
+        if (!enabled) {
+            return;
+        }
+        moveStartedAt = System.nanoTime();
+        if (tickIndex == currentTickIndex) {
+            return;
+        }
+        currentTickIndex = tickIndex;
+        usedOnTick = 0;
+        int ticksLeft = Math.max(1, tickCount - tickIndex);
+        long nanosLeft = Math.max(0, nanosPerTick * tickCount - usedNanos);
+        tickAllowance = nanosLeft / ticksLeft;
+        double ratio = (double) tickAllowance / nanosPerTick;
+        if (ratio < MINIMAL_BELOW) {
+            degradation = Degradation.MINIMAL;
+        } else if (ratio < REDUCED_BELOW) {
+            degradation = Degradation.REDUCED;
+        } else {
+            degradation = Degradation.FULL;
+        }
+    }
+
+    public void endTick() {
+        if (enabled) {
+            long moveNanos = System.nanoTime() - moveStartedAt;
+            usedNanos += moveNanos;
+            usedOnTick += moveNanos;
+        }
+    }
+
+    public Degradation getDegradation() {
+        return degradation;
+    }
+
+    public long getUsedNanos() {
+        return usedNanos;
+    }
+
+    /**
+     * @return whether builder should run, given time already spent on this tick by all strategies sharing scheduler and
+     * usual cost of builders yet to run with higher priority
+     */
+    public boolean admit(List<TacticBuilder> builders, int index) {
+        TacticBuilder builder = builders.get(index);
+        if (degradation != Degradation.MINIMAL ||
+                builder.priority() >= ALWAYS_RUN_PRIORITY ||
+                builder.hasSideEffects()) {
+            return true;
+        }
+        double reserved = 0;
+        for (int i = index + 1; i < Math.min(builders.size(), builderCosts.length); i++) {
+            if (builders.get(i).priority() > builder.priority()) {
+                reserved += builderCosts[i];
+            }
+        }
+        double cost = index < builderCosts.length ? builderCosts[index] : 0;
+        long elapsed = usedOnTick + System.nanoTime() - moveStartedAt;
+        return elapsed + cost + reserved <= tickAllowance;
+    }
+
+    public void recordBuilder(int index, long nanos) {
+        ensureBuilder(index);
+        builderCalls[index]++;
+        if (builderCalls[index] <= WARM_UP_CALLS) {
+            return;
+        }
+        if (builderCalls[index] == WARM_UP_CALLS + 1) {
+            builderCosts[index] = nanos;
+        } else {
+            builderCosts[index] += (nanos - builderCosts[index]) * COST_SMOOTHING;
+        }
+    }
+
+    /**
+     * Lowers usual cost of builder which wasn't admitted, so one slow call doesn't keep it out for the rest of game.
+     */
+    public void recordSkipped(int index) {
+        ensureBuilder(index);
+        builderCosts[index] *= 1 - COST_SMOOTHING;
+    }
+
+    private void ensureBuilder(int index) {
+        if (index >= builderCosts.length) {
+            builderCosts = Arrays.copyOf(builderCosts, index + 1);
+            builderCalls = Arrays.copyOf(builderCalls, index + 1);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+/**
+ * How much of full computation strategy can afford on current tick, see {@link DeadlineScheduler}.
+ */
+public enum Degradation {
+    /**
+     * Everything at full fidelity.
+     */
+    FULL,
+    /**
+     * Dodging uses adaptive direction search, fireball skips cluster search.
+     */
+    REDUCED,
+    /**
+     * Also path finding follows long grid only, and builders below {@link DeadlineScheduler#ALWAYS_RUN_PRIORITY} and
+     * without {@link TacticBuilder#hasSideEffects()} are skipped when there is no time left for them on this tick.
+     */
+    MINIMAL
+}
@@ -6,6 +6,16 @@ public class DirectionOptionalTacticBuilder implements TacticBuilder {
 
     private final Map<Integer, Double> turnsByTick = new HashMap<>();
 
+    @Override
+    public int priority() {
+        return Tactics.DIRECTION_OPTIONAL_TACTIC_BUILDER;
+    }
+
+    @Override
+    public boolean hasSideEffects() {
+        return true;
+    }
+
     @Override
     public Optional<Tactic> build(TurnContainer turnContainer) {
         Double turn = turnsByTick.get(turnContainer.getWorldProxy().getTickIndex());
@@ -2,8 +2,6 @@ import model.*;
 
 import java.util.*;
 
-import static java.lang.StrictMath.hypot;
-
 public class DodgeProjectileTacticBuilder implements TacticBuilder {
 
     private static final int ANGLES_TO_TEST = 40;
@@ -12,6 +10,35 @@ public class DodgeProjectileTacticBuilder implements TacticBuilder {
     private static final List<ProjectileType> PROJECTILE_TYPES = Arrays.asList(ProjectileType.MAGIC_MISSILE,
             ProjectileType.FROST_BOLT,
             ProjectileType.FIREBALL);
+    private static final int COARSE_DIRECTIONS = 12;
+    private static final int DEFAULT_ADAPTIVE_BUDGET = 32;
+    private static final double MIN_REFINE_GAP = ANGLE_STEP / 4;
+    private static final Comparator<RankedDirection> RANKED_DIRECTION_ORDER = (a, b) -> a.hitWeight == b.hitWeight ?
+            -Double.compare(a.clearance, b.clearance) :
+            Integer.compare(a.hitWeight, b.hitWeight);
+    private final Mode mode;
+    private final int adaptiveBudget;
+
+    public DodgeProjectileTacticBuilder() {
+        this(Mode.JOINT, DEFAULT_ADAPTIVE_BUDGET);
+    }
+
+    public DodgeProjectileTacticBuilder(Mode mode) {
+        this(mode, DEFAULT_ADAPTIVE_BUDGET);
+    }
+
+    /**
+     * @param adaptiveBudget most directions to simulate per tick in {@link Mode#ADAPTIVE}
+     */
+    public DodgeProjectileTacticBuilder(Mode mode, int adaptiveBudget) {
+        this.mode = mode;
+        this.adaptiveBudget = adaptiveBudget;
+    }
+
+    @Override
+    public int priority() {
+        return Tactics.DODGE_PROJECTILE_TACTIC_PRIORITY;
+    }
 
     @Override
     public Optional<Tactic> build(TurnContainer turnContainer) {
@@ -19,8 +46,7 @@ public class DodgeProjectileTacticBuilder implements TacticBuilder {
         WizardProxy self = turnContainer.getSelf();
         Game game = turnContainer.getGame();
         ProjectileControl projectileControl = turnContainer.getProjectileControl();
-        Map<Integer, Integer> dodgeOptionsIdCount = new HashMap<>();
-        List<DodgeOption> allDodgeOptions = new ArrayList<>();
+        List<Threat> threats = new ArrayList<>();
 
         for (Projectile projectile : world.getProjectiles()) {
             if (projectile.getType() == ProjectileType.DART ||
@@ -55,22 +81,11 @@ public class DodgeProjectileTacticBuilder implements TacticBuilder {
                 continue;
             }
 
-            List<DodgeOption> dodgeOptions = tryDodgeDirections(new Point(self.getX(), self.getY()),
-                    self.getId(),
-                    self.getAngle(),
-                    self.getWizardForwardSpeed(game),
-                    self.getWizardBackwardSpeed(game),
-                    self.getWizardStrafeSpeed(game),
-                    self.getWizardMaxTurnAngle(game),
-                    new Point(projectile.getX(), projectile.getY()),
+            threats.add(new Threat(new Point(projectile.getX(), projectile.getY()),
                     projectile.getType(),
                     travelsTo,
-                    true,
                     self.getRadius() + projectile.getRadius(),
-                    game,
-                    world);
-
-            allDodgeOptions.addAll(dodgeOptions);
+                    game));
         }
 
         for (WizardProxy wizard : world.getWizards()) {
@@ -82,32 +97,76 @@ public class DodgeProjectileTacticBuilder implements TacticBuilder {
                 if (!CastProjectileTacticBuilders.isProjectileLearned(turnContainer, wizard, projectileType)) {
                     continue;
                 }
-                CastRangeService.CastMeta castMeta = turnContainer.getCastRangeService()
-                        .castRangeToWizardOptimistic(wizard, self, game, projectileType);
+                CastRangeService.CastMeta castMeta = turnContainer.getCastMetaCache()
+                        .castRangeToWizardOptimistic(wizard, self, projectileType);
                 Point castPoint = self.faceOffsetPoint(castMeta.getCenterOffset());
                 if (dist <= castMeta.getDistToCenter() &&
                         CastProjectileTacticBuilders.untilNextProjectile(wizard, projectileType, game) == 0 &&
                         CastProjectileTacticBuilders.inCastSector(turnContainer, self, castPoint)) {
 
-                    List<DodgeOption> dodgeOptions = tryDodgeDirections(new Point(self.getX(), self.getY()),
-                            self.getId(),
-                            self.getAngle(),
-                            self.getWizardForwardSpeed(game),
-                            self.getWizardBackwardSpeed(game),
-                            self.getWizardStrafeSpeed(game),
-                            self.getWizardMaxTurnAngle(game),
-                            new Point(wizard.getX(), wizard.getY()),
+                    threats.add(new Threat(new Point(wizard.getX(), wizard.getY()),
                             projectileType,
                             MathMethods.distPoint(wizard.getX(),
                                     wizard.getY(),
                                     castPoint.getX(),
                                     castPoint.getY(),
                                     wizard.getCastRange()),
-                            true,
                             self.getRadius() + CastProjectileTacticBuilders.projectileRadius(game, projectileType),
-                            game,
-                            world);
-                    allDodgeOptions.addAll(dodgeOptions);
+                            game));
+                }
+            }
+        }
+
+        if (!threats.isEmpty()) {
+            int ticks = 0;
+            for (Threat threat : threats) {
+                ticks = Math.max(ticks, threat.sweep.getTicks());
+            }
+            WizardTrajectories trajectories = new WizardTrajectories(new Point(self.getX(), self.getY()),
+                    self.getId(),
+                    self.getAngle(),
+                    turnContainer.getKinematicsCache().get(self, game),
+                    self.getWizardMaxTurnAngle(game),
+                    ticks,
+                    true,
+                    game,
+                    world);
+            Optional<Movement> movOpt;
+            // full sweep is the most expensive part of dodging, adaptive search is what's left when short of time
+            Mode effectiveMode = turnContainer.getDegradation() == Degradation.FULL ? mode : Mode.ADAPTIVE;
+            if (effectiveMode == Mode.ADAPTIVE) {
+                movOpt = adaptiveDodge(trajectories, threats, adaptiveBudget, game);
+            } else {
+                trajectories.addDirections(ANGLE_STEP);
+                movOpt = effectiveMode == Mode.JOINT ?
+                        jointDodge(trajectories, threats, game) :
+                        perProjectileDodge(trajectories, threats, game);
+            }
+            if (movOpt.isPresent()) {
+                Movement mov = movOpt.get();
+                MoveBuilder moveBuilder = new MoveBuilder();
+                moveBuilder.setSpeed(mov.getSpeed());
+                moveBuilder.setStrafeSpeed(mov.getStrafeSpeed());
+                moveBuilder.setTurn(mov.getTurn());
+                return Optional.of(new TacticImpl("DodgeProjectile",
+                        moveBuilder,
+                        Tactics.DODGE_PROJECTILE_TACTIC_PRIORITY));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Movement> perProjectileDodge(WizardTrajectories trajectories,
+                                                         List<Threat> threats,
+                                                         Game game) {
+        Map<Integer, Integer> dodgeOptionsIdCount = new HashMap<>();
+        List<DodgeOption> allDodgeOptions = new ArrayList<>();
+        for (Threat threat : threats) {
+            for (int dir = 0; dir < trajectories.getDirections(); dir++) {
+                DodgeOption option =
+                        dodgeDirection(trajectories, dir, threat.sweep, threat.type, threat.exclusionRadius);
+                if (option != null) {
+                    allDodgeOptions.add(option);
                 }
             }
         }
@@ -120,42 +179,161 @@ public class DodgeProjectileTacticBuilder implements TacticBuilder {
             }
         });
 
-        Optional<DodgeOption> dodgeOptionOpt = allDodgeOptions.stream().sorted((a, b) -> {
+        return allDodgeOptions.stream().sorted((a, b) -> {
             int aCount = dodgeOptionsIdCount.get(a.getId());
             int bCount = dodgeOptionsIdCount.get(b.getId());
             if (aCount == bCount) {
                 int aSeverity = projectileSeverity(a.getProjectileType());
                 int bSeverity = projectileSeverity(b.getProjectileType());
                 if (aSeverity == bSeverity) {
-                    double aDist = a.getProjectileType() == ProjectileType.FIREBALL ?
-                            a.getDistToProjectile() :
-                            a.getDistToProjectileInit();
-                    double bDist = b.getProjectileType() == ProjectileType.FIREBALL ?
-                            b.getDistToProjectile() :
-                            b.getDistToProjectileInit();
-                    return -Double.compare(aDist, bDist);
+                    return -Double.compare(clearance(a), clearance(b));
                 } else {
                     return -Integer.compare(aSeverity, bSeverity);
                 }
             } else {
                 return -Integer.compare(aCount, bCount);
             }
-        }).findFirst();
-
-        if (dodgeOptionOpt.isPresent()) {
-            Movement mov = dodgeOptionOpt.get().getMove();
-            MoveBuilder moveBuilder = new MoveBuilder();
-            moveBuilder.setSpeed(mov.getSpeed());
-            moveBuilder.setStrafeSpeed(mov.getStrafeSpeed());
-            moveBuilder.setTurn(mov.getTurn());
-            return Optional.of(new TacticImpl("DodgeProjectile",
-                    moveBuilder,
-                    Tactics.DODGE_PROJECTILE_TACTIC_PRIORITY));
+        }).findFirst().map(DodgeOption::getMove);
+    }
+
+    private static Optional<Movement> jointDodge(WizardTrajectories trajectories, List<Threat> threats, Game game) {
+        List<RankedDirection> ranked = rankDirections(trajectories, threats, game);
+        return ranked.isEmpty() ? Optional.empty() : Optional.of(ranked.get(0).move);
+    }
+
+    /**
+     * Checks every direction against all threats, most severe first. Direction is dropped once threats it gets hit by
+     * weigh more than ones of the best direction so far, so with a fully safe direction at hand any hit drops it.
+     *
+     * @return directions escaping at least one threat, by weight of threats hit, then by least clearance descending
+     */
+    private static List<RankedDirection> rankDirections(WizardTrajectories trajectories,
+                                                        List<Threat> threats,
+                                                        Game game) {
+        List<Threat> bySeverity = bySeverity(threats);
+        int totalWeight = totalWeight(threats);
+        List<RankedDirection> ranked = new ArrayList<>();
+        int bestHitWeight = Integer.MAX_VALUE;
+        for (int dir = 0; dir < trajectories.getDirections(); dir++) {
+            RankedDirection direction = rankDirection(trajectories, dir, bySeverity, bestHitWeight, game);
+            if (direction.hitWeight > bestHitWeight || direction.hitWeight == totalWeight) {
+                continue;
+            }
+            bestHitWeight = direction.hitWeight;
+            ranked.add(direction);
         }
-        return Optional.empty();
+        ranked.sort(RANKED_DIRECTION_ORDER);
+        return ranked;
     }
 
-    private int projectileSeverity(ProjectileType projectileType) {
+    /**
+     * Evenly spaced coarse directions first, then bisects gaps between directions hit by different sets of threats, as
+     * some other set may lie between them. Gaps next to less dangerous directions and wider ones go first, until budget
+     * of directions is spent or gaps get much finer than fixed sweep has.
+     */
+    private static Optional<Movement> adaptiveDodge(WizardTrajectories trajectories,
+                                                    List<Threat> threats,
+                                                    int budget,
+                                                    Game game) {
+        List<Threat> bySeverity = bySeverity(threats);
+        int totalWeight = totalWeight(threats);
+        List<RankedDirection> sampled = new ArrayList<>();
+        for (int k = 0; k < COARSE_DIRECTIONS; k++) {
+            int dir = trajectories.addDirection(-Math.PI + k * Math.PI * 2 / COARSE_DIRECTIONS);
+            sampled.add(rankDirection(trajectories, dir, bySeverity, Integer.MAX_VALUE, game));
+        }
+        while (sampled.size() < budget) {
+            int bestGap = -1;
+            int bestGapWeight = Integer.MAX_VALUE;
+            double bestGapWidth = 0;
+            for (int k = 0; k < sampled.size(); k++) {
+                RankedDirection a = sampled.get(k);
+                RankedDirection b = sampled.get((k + 1) % sampled.size());
+                double width = k + 1 < sampled.size() ? b.angle - a.angle : b.angle + Math.PI * 2 - a.angle;
+                int weight = Math.min(a.hitWeight, b.hitWeight);
+                if (a.hitMask == b.hitMask || width <= MIN_REFINE_GAP) {
+                    continue;
+                }
+                if (weight < bestGapWeight || (weight == bestGapWeight && width > bestGapWidth)) {
+                    bestGap = k;
+                    bestGapWeight = weight;
+                    bestGapWidth = width;
+                }
+            }
+            if (bestGap == -1) {
+                break;
+            }
+            double angle = sampled.get(bestGap).angle + bestGapWidth / 2;
+            if (angle > Math.PI) {
+                angle -= Math.PI * 2;
+            }
+            int dir = trajectories.addDirection(angle);
+            RankedDirection direction = rankDirection(trajectories, dir, bySeverity, Integer.MAX_VALUE, game);
+            sampled.add(angle > sampled.get(bestGap).angle ? bestGap + 1 : 0, direction);
+        }
+        return sampled.stream()
+                .filter(x -> x.hitWeight != totalWeight)
+                .sorted(RANKED_DIRECTION_ORDER)
+                .findFirst()
+                .map(x -> x.move);
+    }
+
+    /**
+     * @param bound weight of hits after which checking other threats is pointless
+     * @return direction with weight of threats hitting it, weight only counts up to first exceeding bound
+     */
+    private static RankedDirection rankDirection(WizardTrajectories trajectories,
+                                                 int dir,
+                                                 List<Threat> bySeverity,
+                                                 int bound,
+                                                 Game game) {
+        int hitWeight = 0;
+        long hitMask = 0;
+        double clearance = Double.MAX_VALUE;
+        Movement move = trajectories.getFirstMove(dir);
+        for (int k = 0; k < bySeverity.size(); k++) {
+            Threat threat = bySeverity.get(k);
+            DodgeOption option =
+                    dodgeDirection(trajectories, dir, threat.sweep, threat.type, threat.exclusionRadius);
+            if (option == null) {
+                hitWeight += threatWeight(threat);
+                hitMask |= 1L << Math.min(k, 63);
+                if (hitWeight > bound) {
+                    break;
+                }
+            } else {
+                clearance = Math.min(clearance, clearance(option));
+                move = option.getMove();
+            }
+        }
+        return new RankedDirection(trajectories.getAngle(dir), hitWeight, hitMask, clearance, move);
+    }
+
+    private static List<Threat> bySeverity(List<Threat> threats) {
+        List<Threat> bySeverity = new ArrayList<>(threats);
+        bySeverity.sort((a, b) -> Integer.compare(threatWeight(b), threatWeight(a)));
+        return bySeverity;
+    }
+
+    private static int totalWeight(List<Threat> threats) {
+        int totalWeight = 0;
+        for (Threat threat : threats) {
+            totalWeight += threatWeight(threat);
+        }
+        return totalWeight;
+    }
+
+    private static int threatWeight(Threat threat) {
+        return projectileSeverity(threat.type) + 1;
+    }
+
+    private static double clearance(DodgeOption option) {
+        return option.getProjectileType() == ProjectileType.FIREBALL ?
+                option.getDistToProjectile() :
+                option.getDistToProjectileInit();
+    }
+
+    private static int projectileSeverity(ProjectileType projectileType) {
         switch (projectileType) {
             case MAGIC_MISSILE:
                 return 0;
@@ -187,152 +365,119 @@ public class DodgeProjectileTacticBuilder implements TacticBuilder {
                                                        Double exclusionRadius,
                                                        Game game,
                                                        WorldProxy world) {
-        double projectileEffectiveRadius = CastProjectileTacticBuilders.projectileRadius(game, projectileType);
-        double projectileMoveSpeed = CastProjectileTacticBuilders.projectileMoveSpeed(game, projectileType);
-
-        double distLeft = hypot(projectilePoint.getX() - travelsTo.getX(), projectilePoint.getY() - travelsTo.getY());
-        int maxTicks = (int) Math.ceil(distLeft / projectileMoveSpeed);
-
-        double simProjX = projectilePoint.getX();
-        double simProjY = projectilePoint.getY();
-        int ticksPassed = 0;
-        @SuppressWarnings("UnnecessaryLocalVariable")
-        double maxWizardMoveSpeed = wizardForwardSpeed;
-
-        do {
-            ticksPassed++;
-            Point nextProjectilePoint =
-                    MathMethods.distPoint(simProjX, simProjY, travelsTo.getX(), travelsTo.getY(), projectileMoveSpeed);
-            simProjX = nextProjectilePoint.getX();
-            simProjY = nextProjectilePoint.getY();
-        } while (
-                hypot(simProjX - wizardPoint.getX(), simProjY - wizardPoint.getY()) - maxWizardMoveSpeed * ticksPassed -
-                        game.getWizardRadius() - projectileEffectiveRadius > 0);
+        WizardTrajectories trajectories = new WizardTrajectories(wizardPoint,
+                wizardId,
+                wizardAngle,
+                wizardForwardSpeed,
+                wizardBackwardSpeed,
+                wizardStrafeSpeed,
+                wizardMaxTurnAngle,
+                dodgeTicks(projectilePoint, projectileType, travelsTo, game),
+                considerOutsideWorld,
+                game,
+                world);
+        trajectories.addDirections(ANGLE_STEP);
+        return tryDodgeDirections(trajectories, projectilePoint, projectileType, travelsTo, exclusionRadius, game);
+    }
 
+    /**
+     * @param trajectories should have at least {@link #dodgeTicks} ticks for given projectile
+     */
+    public static List<DodgeOption> tryDodgeDirections(WizardTrajectories trajectories,
+                                                       Point projectilePoint,
+                                                       ProjectileType projectileType,
+                                                       Point travelsTo,
+                                                       // nullable
+                                                       Double exclusionRadius,
+                                                       Game game) {
+        ProjectileSweep sweep = new ProjectileSweep(projectilePoint,
+                travelsTo,
+                CastProjectileTacticBuilders.projectileMoveSpeed(game, projectileType));
         List<DodgeOption> results = new ArrayList<>();
+        for (int dir = 0; dir < trajectories.getDirections(); dir++) {
+            DodgeOption option = dodgeDirection(trajectories, dir, sweep, projectileType, exclusionRadius);
+            if (option != null) {
+                results.add(option);
+            }
+        }
+        return results;
+    }
 
-        int directionId = 0;
-        for (double angle = -Math.PI; angle <= Math.PI; angle += ANGLE_STEP) {
-            directionId++;
-            boolean collision = false;
-            double distToProjectile = Double.MAX_VALUE;
-            double distToProjectileInit = Double.MAX_VALUE;
-            double resX = wizardPoint.getX();
-            double resY = wizardPoint.getY();
-            double resAngle = wizardAngle;
-            double baseSpeed = 0;
-            double baseStrafe = 0;
-            double baseTurn = 0;
-
-            for (int ticksTotal = 1; ticksTotal <= maxTicks; ticksTotal++) {
-
-                double diffAngle = angle - resAngle;
-                if (Math.abs(diffAngle) > Math.PI) {
-                    diffAngle = (diffAngle > 0 ? -1 : 1) * (2 * Math.PI - Math.abs(diffAngle));
-                }
-                boolean backwards = Math.abs(diffAngle) > Math.PI / 2;
-                double maxSpeed = backwards ? wizardBackwardSpeed : wizardForwardSpeed;
-                @SuppressWarnings("UnnecessaryLocalVariable")
-                double maxStrafe = wizardStrafeSpeed;
-                double speed = (backwards ? -1 : 1) * maxSpeed * maxStrafe / Math.sqrt(
-                        maxStrafe * maxStrafe + maxSpeed * maxSpeed * Math.tan(diffAngle) * Math.tan(diffAngle));
-                double strafe = (diffAngle > 0 ? 1 : -1) * maxSpeed * maxStrafe / Math.sqrt(
-                        maxSpeed * maxSpeed + maxStrafe * maxStrafe / (Math.tan(diffAngle) * Math.tan(diffAngle)));
-                resX += speed * Math.cos(resAngle) - strafe * Math.sin(resAngle);
-                resY += speed * Math.sin(resAngle) + strafe * Math.cos(resAngle);
-                double turn = (diffAngle > 0 ? 1 : -1) * Math.min(Math.abs(diffAngle), wizardMaxTurnAngle);
-                resAngle += turn;
-                if (ticksTotal == 1) {
-                    baseSpeed = speed;
-                    baseStrafe = strafe;
-                    baseTurn = turn;
-                }
+    /**
+     * @return null if wizard gets blocked or hit going in given direction
+     */
+    private static DodgeOption dodgeDirection(WizardTrajectories trajectories,
+                                              int dir,
+                                              ProjectileSweep sweep,
+                                              ProjectileType projectileType,
+                                              // nullable
+                                              Double exclusionRadius) {
+        if (trajectories.getBlockedAt(dir) <= sweep.getTicks() ||
+                !sweep.sweep(trajectories, dir, exclusionRadius == null ? Double.NEGATIVE_INFINITY : exclusionRadius)) {
+            return null;
+        }
+        return new DodgeOption(dir + 1,
+                projectileType,
+                sweep.getDistToProjectile(),
+                sweep.getDistToProjectileInit(),
+                sweep.getTicks() == 0 ? new Movement(0, 0, 0) : trajectories.getFirstMove(dir));
+    }
 
-                Point nextProjectilePoint = MathMethods.distPoint(projectilePoint.getX(),
-                        projectilePoint.getY(),
-                        travelsTo.getX(),
-                        travelsTo.getY(),
-                        Math.min(distLeft, projectileMoveSpeed * ticksTotal));
-                simProjX = nextProjectilePoint.getX();
-                simProjY = nextProjectilePoint.getY();
-
-                if (resX < game.getWizardRadius() || resY < game.getWizardRadius() ||
-                        resX > world.getWidth() - game.getWizardRadius() ||
-                        resY > world.getHeight() - game.getWizardRadius()) {
-                    collision = true;
-                    break;
-                }
+    public static int dodgeTicks(Point projectilePoint, ProjectileType projectileType, Point travelsTo, Game game) {
+        return new ProjectileSweep(projectilePoint,
+                travelsTo,
+                CastProjectileTacticBuilders.projectileMoveSpeed(game, projectileType)).getTicks();
+    }
 
-                Point trajInter = MathMethods.lineCircleIntersection(projectilePoint.getX(),
-                        simProjX,
-                        projectilePoint.getY(),
-                        simProjY,
-                        resX,
-                        resY);
-                if (MathMethods.isBetween(trajInter.getX(), projectilePoint.getX(), simProjX) &&
-                        MathMethods.isBetween(trajInter.getY(), projectilePoint.getY(), simProjY)) {
-                    double distToInter = hypot(resX - trajInter.getX(), resY - trajInter.getY());
-                    if (exclusionRadius != null && distToInter <= exclusionRadius) {
-                        collision = true;
-                        break;
-                    }
-                    if (distToProjectile > distToInter) {
-                        distToProjectile = distToInter;
-                    }
-                }
+    /**
+     * How to pick direction when several projectiles have to be dodged.
+     */
+    public enum Mode {
+        /**
+         * Directions are found for each projectile separately, then one found for most projectiles is taken.
+         */
+        PER_PROJECTILE,
+        /**
+         * Every direction is checked against all projectiles at once, threats weighted by severity.
+         */
+        JOINT,
+        /**
+         * Like {@link #JOINT}, but with few coarse directions refined only around edges of the best ones.
+         */
+        ADAPTIVE
+    }
 
-                double distToTrajEnd = hypot(simProjX - resX, simProjY - resY);
+    private static class RankedDirection {
 
-                if (distToProjectile > distToTrajEnd) {
-                    distToProjectile = distToTrajEnd;
-                }
+        private final double angle;
+        private final int hitWeight;
+        // threats hitting direction, by index in severity order
+        private final long hitMask;
+        private final double clearance;
+        private final Movement move;
 
-                double distToTrajStart = hypot(projectilePoint.getX() - resX, projectilePoint.getY() - resY);
-                if (distToProjectileInit > distToTrajStart) {
-                    distToProjectileInit = distToTrajStart;
-                }
+        RankedDirection(double angle, int hitWeight, long hitMask, double clearance, Movement move) {
+            this.angle = angle;
+            this.hitWeight = hitWeight;
+            this.hitMask = hitMask;
+            this.clearance = clearance;
+            this.move = move;
+        }
+    }
 
-                if (exclusionRadius != null && distToTrajEnd <= exclusionRadius) {
-                    collision = true;
-                    break;
-                }
-                if (considerOutsideWorld) {
-                    for (Unit unit : world.getAllUnitsNearby()) {
-                        if (unit.getId() == wizardId) {
-                            continue;
-                        }
-                        if (unit instanceof Projectile || unit instanceof Bonus) {
-                            continue;
-                        }
-                        double unitR = ((CircularUnit) unit).getRadius();
-                        if (unit.getDistanceTo(resX, resY) < game.getWizardRadius() + unitR) {
-                            collision = true;
-                            break;
-                        }
-                        if (MathMethods.isLineIntersectsCircle(wizardPoint.getX(),
-                                resX,
-                                wizardPoint.getY(),
-                                resY,
-                                unit.getX(),
-                                unit.getY(),
-                                game.getWizardRadius() + ((CircularUnit) unit).getRadius())) {
-                            collision = true;
-                            break;
-                        }
-                    }
-                }
-            }
+    private static class Threat {
 
-            if (!collision) {
-                results.add(new DodgeOption(directionId,
-                        projectileType,
-                        distToProjectile,
-                        distToProjectileInit,
-                        new Movement(baseSpeed, baseStrafe, baseTurn)));
-            }
-        }
+        private final ProjectileType type;
+        private final ProjectileSweep sweep;
+        private final double exclusionRadius;
 
-        return results;
+        Threat(Point from, ProjectileType type, Point travelsTo, double exclusionRadius, Game game) {
+            this.type = type;
+            this.sweep = new ProjectileSweep(from,
+                    travelsTo,
+                    CastProjectileTacticBuilders.projectileMoveSpeed(game, type));
+            this.exclusionRadius = exclusionRadius;
+        }
     }
 
     public static class DodgeOption {
@@ -0,0 +1,72 @@
+import java.util.Arrays;
+
+public final class FlowField {
+
+    private static final int NO_NODE = -1;
+    private final double targetX;
+    private final double targetY;
+    private final int goal;
+    private final double[] dist;
+    private final int[] nextHop;
+
+    public FlowField(LongSearchGrid grid, double targetX, double targetY) {
+        this.targetX = targetX;
+        this.targetY = targetY;
+        int gridN = grid.getGridN();
+        int gridM = grid.getGridM();
+        this.dist = new double[gridN * gridM];
+        this.nextHop = new int[gridN * gridM];
+        Arrays.fill(dist, Double.MAX_VALUE);
+        Arrays.fill(nextHop, NO_NODE);
+
+        this.goal = grid.nearestWalkable(targetX, targetY);
+        if (goal == NO_NODE) {
+            return;
+        }
+
+        // walking from neighbour into current cell requires only current cell to be walkable, same as forward search
+        GridSearch search = new GridSearch();
+        search.reset(gridN * gridM);
+        search.relax(goal, 0, NO_NODE);
+        while (!search.isEmpty()) {
+            int cur = search.poll();
+            dist[cur] = search.getDist(cur);
+            nextHop[cur] = search.getFirstMove(cur);
+            int curI = cur / gridM;
+            int curH = cur % gridM;
+            if (!grid.isWalkable(curI, curH)) {
+                continue;
+            }
+            for (int j1 = -1; j1 <= 1; j1++) {
+                for (int j2 = -1; j2 <= 1; j2++) {
+                    int prevI = curI + j1;
+                    int prevH = curH + j2;
+                    if ((j1 == 0 && j2 == 0) || prevI < 0 || prevI >= gridN || prevH < 0 || prevH >= gridM) {
+                        continue;
+                    }
+                    search.relax(prevI * gridM + prevH, dist[cur] + grid.stepLength(j1, j2), cur);
+                }
+            }
+        }
+    }
+
+    public boolean isFor(double x, double y) {
+        return targetX == x && targetY == y;
+    }
+
+    public boolean isReachableFrom(int node) {
+        return dist[node] != Double.MAX_VALUE;
+    }
+
+    public int getGoal() {
+        return goal;
+    }
+
+    public double distFrom(int node) {
+        return dist[node];
+    }
+
+    public int nextHop(int node) {
+        return nextHop[node];
+    }
+}
@@ -1,5 +1,7 @@
 import model.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 public class GoForBonusTacticBuilder implements TacticBuilder {
@@ -20,6 +22,16 @@ public class GoForBonusTacticBuilder implements TacticBuilder {
         this.directionOptional = directionOptional;
     }
 
+    @Override
+    public int priority() {
+        return Tactics.GO_FOR_BONUS_TACTIC_PRIORITY;
+    }
+
+    @Override
+    public boolean hasSideEffects() {
+        return true;
+    }
+
     @Override
     public Optional<Tactic> build(TurnContainer turnContainer) {
         BonusControl bonusControl = turnContainer.getBonusControl();
@@ -144,14 +156,26 @@ public class GoForBonusTacticBuilder implements TacticBuilder {
 
     private boolean isClosestToBonues(TurnContainer turnContainer, Point bonusPoint) {
         WizardProxy self = turnContainer.getSelf();
+        List<WizardProxy> contenders = new ArrayList<>();
+        contenders.add(self);
         for (WizardProxy wizard : turnContainer.getWorldProxy().getWizards()) {
             LocationType locationType = turnContainer.getMapUtils().getLocationType(wizard.getId());
             if (!turnContainer.isAllyWizard(wizard) ||
                     locationType == LocationType.BOTTOM_LANE || locationType == LocationType.TOP_LANE) {
                 continue;
             }
-            if (wizard.getDistanceTo(bonusPoint.getX(), bonusPoint.getY()) <
-                    self.getDistanceTo(bonusPoint.getX(), bonusPoint.getY())) {
+            contenders.add(wizard);
+        }
+        double[] fromX = new double[contenders.size()];
+        double[] fromY = new double[contenders.size()];
+        for (int k = 0; k < contenders.size(); k++) {
+            fromX[k] = contenders.get(k).getX();
+            fromY[k] = contenders.get(k).getY();
+        }
+        double[] dists =
+                turnContainer.getPathFinder().roughDistancesTo(fromX, fromY, bonusPoint.getX(), bonusPoint.getY());
+        for (int k = 1; k < dists.length; k++) {
+            if (dists[k] < dists[0]) {
                 return false;
             }
         }
@@ -0,0 +1,141 @@
+import java.util.Arrays;
+
+/**
+ * Dijkstra over int-indexed nodes. Arrays are kept between searches and invalidated by bumping generation, so a
+ * search doesn't allocate anything unless it needs more nodes than any search before it.
+ */
+public final class GridSearch {
+
+    private static final int NO_NODE = -1;
+    private double[] dist;
+    private int[] firstMove;
+    private int[] generationByNode;
+    private int[] heap;
+    private int[] heapPosition;
+    private int heapSize;
+    private int generation;
+
+    public GridSearch() {
+        allocate(0);
+    }
+
+    public void reset(int nodeCount) {
+        if (nodeCount > dist.length) {
+            allocate(nodeCount);
+        }
+        heapSize = 0;
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(generationByNode, 0);
+            generation = 1;
+        }
+    }
+
+    public boolean isReached(int node) {
+        return generationByNode[node] == generation;
+    }
+
+    public double getDist(int node) {
+        return isReached(node) ? dist[node] : Double.MAX_VALUE;
+    }
+
+    public int getFirstMove(int node) {
+        return isReached(node) ? firstMove[node] : NO_NODE;
+    }
+
+    /**
+     * @return true if node got a better distance and was (re)queued
+     */
+    public boolean relax(int node, double newDist, int newFirstMove) {
+        if (isReached(node)) {
+            if (dist[node] <= newDist) {
+                return false;
+            }
+            dist[node] = newDist;
+            firstMove[node] = newFirstMove;
+            if (heapPosition[node] == NO_NODE) {
+                push(node);
+            } else {
+                siftUp(heapPosition[node]);
+            }
+            return true;
+        }
+        generationByNode[node] = generation;
+        dist[node] = newDist;
+        firstMove[node] = newFirstMove;
+        push(node);
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return heapSize == 0;
+    }
+
+    public int poll() {
+        int top = heap[0];
+        heapPosition[top] = NO_NODE;
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapPosition[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void push(int node) {
+        heap[heapSize] = node;
+        heapPosition[node] = heapSize;
+        heapSize++;
+        siftUp(heapSize - 1);
+    }
+
+    private void siftUp(int pos) {
+        int node = heap[pos];
+        double key = dist[node];
+        while (pos > 0) {
+            int parentPos = (pos - 1) >>> 1;
+            int parent = heap[parentPos];
+            if (dist[parent] <= key) {
+                break;
+            }
+            heap[pos] = parent;
+            heapPosition[parent] = pos;
+            pos = parentPos;
+        }
+        heap[pos] = node;
+        heapPosition[node] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int node = heap[pos];
+        double key = dist[node];
+        int half = heapSize >>> 1;
+        while (pos < half) {
+            int childPos = 2 * pos + 1;
+            int child = heap[childPos];
+            int rightPos = childPos + 1;
+            if (rightPos < heapSize && dist[heap[rightPos]] < dist[child]) {
+                childPos = rightPos;
+                child = heap[childPos];
+            }
+            if (key <= dist[child]) {
+                break;
+            }
+            heap[pos] = child;
+            heapPosition[child] = pos;
+            pos = childPos;
+        }
+        heap[pos] = node;
+        heapPosition[node] = pos;
+    }
+
+    private void allocate(int nodeCount) {
+        this.dist = new double[nodeCount];
+        this.firstMove = new int[nodeCount];
+        this.generationByNode = new int[nodeCount];
+        this.heap = new int[nodeCount];
+        this.heapPosition = new int[nodeCount];
+        this.generation = 0;
+    }
+}
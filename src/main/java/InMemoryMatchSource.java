@@ -0,0 +1,55 @@
+import model.Game;
+import model.Move;
+import model.PlayerContext;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Hands over already built player contexts without any encoding and keeps moves sent back.
+ */
+public class InMemoryMatchSource implements MatchSource {
+
+    private final int teamSize;
+    private final Game game;
+    private final Iterator<PlayerContext> contexts;
+    private final List<Move[]> moves = new ArrayList<>();
+
+    public InMemoryMatchSource(int teamSize, Game game, Iterator<PlayerContext> contexts) {
+        this.teamSize = teamSize;
+        this.game = game;
+        this.contexts = contexts;
+    }
+
+    @Override
+    public int readTeamSize() {
+        return teamSize;
+    }
+
+    @Override
+    public Game readGameContext() {
+        return game;
+    }
+
+    @Override
+    public PlayerContext readPlayerContext() {
+        return contexts.hasNext() ? contexts.next() : null;
+    }
+
+    @Override
+    public void writeMoves(Move[] moves) {
+        this.moves.add(moves);
+    }
+
+    /**
+     * @return moves in order they were sent, one array per tick
+     */
+    public List<Move[]> getMoves() {
+        return moves;
+    }
+
+    @Override
+    public void close() {
+    }
+}
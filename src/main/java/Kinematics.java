@@ -0,0 +1,96 @@
+/**
+ * Wizard step decomposition for one set of max speeds. Speeds only depend on movement factor, so instances are shared
+ * through {@link KinematicsCache} and hot loops get everything but a square root from here.
+ */
+public final class Kinematics {
+
+    public static final double SPEED_OFFSET_STEP = 0.1;
+    private final double forwardSpeed;
+    private final double backwardSpeed;
+    private final double strafeSpeed;
+    private final double maxStep;
+    private final double forwardStrafe;
+    private final double backwardStrafe;
+    private final double forwardSquared;
+    private final double backwardSquared;
+    private final double strafeSquared;
+    private final double[] offsetSpeeds;
+    private final double[] offsetStrafes;
+
+    public Kinematics(double forwardSpeed, double backwardSpeed, double strafeSpeed) {
+        this.forwardSpeed = forwardSpeed;
+        this.backwardSpeed = backwardSpeed;
+        this.strafeSpeed = strafeSpeed;
+        this.maxStep = StrictMath.hypot(Math.max(forwardSpeed, backwardSpeed), strafeSpeed);
+        this.forwardStrafe = forwardSpeed * strafeSpeed;
+        this.backwardStrafe = backwardSpeed * strafeSpeed;
+        this.forwardSquared = forwardSpeed * forwardSpeed;
+        this.backwardSquared = backwardSpeed * backwardSpeed;
+        this.strafeSquared = strafeSpeed * strafeSpeed;
+
+        int n = 0;
+        for (double speedOffset = 0.0; speedOffset <= 1.0; speedOffset += SPEED_OFFSET_STEP) {
+            n += 4;
+        }
+        this.offsetSpeeds = new double[n];
+        this.offsetStrafes = new double[n];
+        n = 0;
+        for (double speedOffset = 0.0; speedOffset <= 1.0; speedOffset += SPEED_OFFSET_STEP) {
+            double strafeOffset = Math.sqrt(1 - speedOffset * speedOffset);
+            for (int speedSign = -1; speedSign <= 1; speedSign += 2) {
+                for (int strafeSign = -1; strafeSign <= 1; strafeSign += 2) {
+                    offsetSpeeds[n] = speedSign == -1 ? -backwardSpeed * speedOffset : forwardSpeed * speedOffset;
+                    offsetStrafes[n] = strafeSign * strafeSpeed * strafeOffset;
+                    n++;
+                }
+            }
+        }
+    }
+
+    public double getForwardSpeed() {
+        return forwardSpeed;
+    }
+
+    public double getBackwardSpeed() {
+        return backwardSpeed;
+    }
+
+    public double getStrafeSpeed() {
+        return strafeSpeed;
+    }
+
+    /**
+     * @return longest step wizard can make in one tick
+     */
+    public double getMaxStep() {
+        return maxStep;
+    }
+
+    /**
+     * Speed and strafe pairs with speed offset going from 0 to 1 by {@link #SPEED_OFFSET_STEP}, each in four sign
+     * combinations, backward speed first. Strafe offset is such that step lies on ellipse of max speeds.
+     */
+    public double[] getOffsetSpeeds() {
+        return offsetSpeeds;
+    }
+
+    public double[] getOffsetStrafes() {
+        return offsetStrafes;
+    }
+
+    /**
+     * Step towards direction at diffAngle from wizard facing is speed = ±scale * |cos|, strafe = ±scale * |sin|, which
+     * is same as going through tan of diffAngle.
+     *
+     * @param backwards whether |diffAngle| is more than PI / 2
+     * @return scale of step towards direction
+     */
+    public double stepScale(double cosDiffAngle, double sinDiffAngle, boolean backwards) {
+        double cos2 = cosDiffAngle * cosDiffAngle;
+        double sin2 = sinDiffAngle * sinDiffAngle;
+        if (backwards) {
+            return backwardStrafe / Math.sqrt(strafeSquared * cos2 + backwardSquared * sin2);
+        }
+        return forwardStrafe / Math.sqrt(strafeSquared * cos2 + forwardSquared * sin2);
+    }
+}
@@ -0,0 +1,24 @@
+import model.Game;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link Kinematics} by movement factor. There are only a few factors in a game: skill levels with or without haste.
+ */
+public class KinematicsCache {
+
+    private final Map<Double, Kinematics> byMovementFactor = new HashMap<>();
+
+    public Kinematics get(WizardProxy wizard, Game game) {
+        double movementFactor = wizard.getMovementFactor(game);
+        Kinematics kinematics = byMovementFactor.get(movementFactor);
+        if (kinematics == null) {
+            kinematics = new Kinematics(movementFactor * game.getWizardForwardSpeed(),
+                    movementFactor * game.getWizardBackwardSpeed(),
+                    movementFactor * game.getWizardStrafeSpeed());
+            byMovementFactor.put(movementFactor, kinematics);
+        }
+        return kinematics;
+    }
+}
@@ -10,6 +10,16 @@ public class LearnSkillsTacticBuilder implements TacticBuilder {
 
     private static final List<SkillType> DEFAULT_SKILL_ORDER = WizardRole.FIREBALL_SOLO.getSkillsOrder();
 
+    @Override
+    public int priority() {
+        return Tactics.LEARN_SKILLS_TACTIC_BUILDER;
+    }
+
+    @Override
+    public boolean hasSideEffects() {
+        return true;
+    }
+
     @Override
     public Optional<Tactic> build(TurnContainer turnContainer) {
         if (!turnContainer.getGame().isSkillsEnabled()) {
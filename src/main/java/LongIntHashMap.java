@@ -0,0 +1,113 @@
+import java.util.Arrays;
+
+/**
+ * Open addressing map from unit ids to small ints, so hot per-tick lookups don't box keys.
+ */
+public final class LongIntHashMap {
+
+    public static final int MISSING = -1;
+    private static final double LOAD_FACTOR = 0.5;
+    private long[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int size;
+    private int mask;
+
+    public LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public int get(long key) {
+        int pos = slot(key);
+        while (used[pos]) {
+            if (keys[pos] == key) {
+                return values[pos];
+            }
+            pos = (pos + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    public void put(long key, int value) {
+        if (size + 1 > keys.length * LOAD_FACTOR) {
+            rehash(keys.length * 2);
+        }
+        int pos = slot(key);
+        while (used[pos]) {
+            if (keys[pos] == key) {
+                values[pos] = value;
+                return;
+            }
+            pos = (pos + 1) & mask;
+        }
+        used[pos] = true;
+        keys[pos] = key;
+        values[pos] = value;
+        size++;
+    }
+
+    public int remove(long key) {
+        int pos = slot(key);
+        while (used[pos]) {
+            if (keys[pos] == key) {
+                int removed = values[pos];
+                shiftBack(pos);
+                size--;
+                return removed;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void shiftBack(int pos) {
+        int gap = pos;
+        int cur = (pos + 1) & mask;
+        while (used[cur]) {
+            int home = slot(keys[cur]);
+            // entry can fill the gap only if its home slot is not within (gap, cur]
+            if (((cur - home) & mask) >= ((cur - gap) & mask)) {
+                keys[gap] = keys[cur];
+                values[gap] = values[cur];
+                gap = cur;
+            }
+            cur = (cur + 1) & mask;
+        }
+        used[gap] = false;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.used = new boolean[capacity];
+        this.mask = capacity - 1;
+        this.size = 0;
+    }
+}
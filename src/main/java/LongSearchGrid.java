@@ -0,0 +1,220 @@
+import model.Game;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.StrictMath.hypot;
+
+public final class LongSearchGrid implements DStarLite.Graph {
+
+    // terrain never changes during the game, so one raster is shared by every wizard in the process
+    private static final Map<GridKey, LongSearchGrid> GRIDS = new ConcurrentHashMap<>();
+    private final boolean[][] walkable;
+    private final int cellWidth;
+    private final int gridN;
+    private final int gridM;
+    private final double diagDist;
+    private final List<FlowField> flowFields;
+
+    private LongSearchGrid(WorldProxy world, Game game, MapUtils mapUtils, int cellWidth) {
+        this.cellWidth = cellWidth;
+        this.gridN = (int) (world.getWidth() / cellWidth + 1);
+        this.gridM = (int) (world.getHeight() / cellWidth + 1);
+        this.walkable = new boolean[gridN][gridM];
+        //noinspection SuspiciousNameCombination
+        this.diagDist = StrictMath.hypot(cellWidth, cellWidth);
+
+        double wizardRadius = game.getWizardRadius();
+
+        for (int i = 0; i * cellWidth <= world.getWidth(); i++) {
+            for (int h = 0; h * cellWidth <= world.getHeight(); h++) {
+                walkable[i][h] = true;
+                double x = toRealAxis(i);
+                double y = toRealAxis(h);
+                if (mapUtils.isForest(x, y)) {
+                    walkable[i][h] = false;
+                }
+                if (x < wizardRadius || y < wizardRadius || world.getHeight() - y < wizardRadius ||
+                        world.getWidth() - x < wizardRadius) {
+                    walkable[i][h] = false;
+                }
+            }
+        }
+
+        List<FlowField> fields = new ArrayList<>();
+        for (Point target : mapUtils.wellKnownTargets()) {
+            fields.add(new FlowField(this, target.getX(), target.getY()));
+        }
+        this.flowFields = Collections.unmodifiableList(fields);
+    }
+
+    public static LongSearchGrid of(WorldProxy world, Game game, MapUtils mapUtils, int cellWidth) {
+        GridKey key = new GridKey(world.getWidth(),
+                world.getHeight(),
+                cellWidth,
+                game.getWizardRadius(),
+                world.allyBase().getX());
+        return GRIDS.computeIfAbsent(key, k -> new LongSearchGrid(world, game, mapUtils, cellWidth));
+    }
+
+    public boolean isWalkable(int i, int h) {
+        return walkable[i][h];
+    }
+
+    /**
+     * @return node of walkable cell closest to (x, y), -1 if there are none
+     */
+    public int nearestWalkable(double x, double y) {
+        int roundI = (int) Math.round(x / cellWidth);
+        int roundH = (int) Math.round(y / cellWidth);
+        if (roundI >= 0 && roundI < gridN && roundH >= 0 && roundH < gridM && walkable[roundI][roundH]) {
+            return roundI * gridM + roundH;
+        }
+        int bestNode = -1;
+        double bestDist = Double.MAX_VALUE;
+        for (int i = 0; i < gridN; i++) {
+            for (int h = 0; h < gridM; h++) {
+                double curDist = hypot(x - toRealAxis(i), y - toRealAxis(h));
+                if (walkable[i][h] && curDist < bestDist) {
+                    bestDist = curDist;
+                    bestNode = i * gridM + h;
+                }
+            }
+        }
+        return bestNode;
+    }
+
+    @Override
+    public int nodeCount() {
+        return gridN * gridM;
+    }
+
+    @Override
+    public int maxDegree() {
+        return 8;
+    }
+
+    @Override
+    public int successors(int node, int[] nodes, double[] costs) {
+        int count = 0;
+        int curI = node / gridM;
+        int curH = node % gridM;
+        for (int j1 = -1; j1 <= 1; j1++) {
+            for (int j2 = -1; j2 <= 1; j2++) {
+                int nextI = curI + j1;
+                int nextH = curH + j2;
+                if ((j1 == 0 && j2 == 0) || nextI < 0 || nextI >= gridN || nextH < 0 || nextH >= gridM ||
+                        !walkable[nextI][nextH]) {
+                    continue;
+                }
+                nodes[count] = nextI * gridM + nextH;
+                costs[count] = stepLength(j1, j2);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int predecessors(int node, int[] nodes, double[] costs) {
+        int curI = node / gridM;
+        int curH = node % gridM;
+        if (!walkable[curI][curH]) {
+            return 0;
+        }
+        int count = 0;
+        for (int j1 = -1; j1 <= 1; j1++) {
+            for (int j2 = -1; j2 <= 1; j2++) {
+                int prevI = curI + j1;
+                int prevH = curH + j2;
+                if ((j1 == 0 && j2 == 0) || prevI < 0 || prevI >= gridN || prevH < 0 || prevH >= gridM) {
+                    continue;
+                }
+                nodes[count] = prevI * gridM + prevH;
+                costs[count] = stepLength(j1, j2);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public double heuristic(int from, int to) {
+        int di = Math.abs(from / gridM - to / gridM);
+        int dh = Math.abs(from % gridM - to % gridM);
+        return (Math.max(di, dh) - Math.min(di, dh)) * cellWidth + Math.min(di, dh) * diagDist;
+    }
+
+    /**
+     * @return precomputed field if (x, y) is exactly one of {@link MapUtils#wellKnownTargets()}, null otherwise
+     */
+    public FlowField flowField(double x, double y) {
+        for (FlowField field : flowFields) {
+            if (field.isFor(x, y)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    public double stepLength(int di, int dh) {
+        return di == 0 || dh == 0 ? cellWidth : diagDist;
+    }
+
+    public double toRealAxis(int index) {
+        return index * cellWidth;
+    }
+
+    public int getCellWidth() {
+        return cellWidth;
+    }
+
+    public int getGridN() {
+        return gridN;
+    }
+
+    public int getGridM() {
+        return gridM;
+    }
+
+    private static class GridKey {
+
+        private final double width;
+        private final double height;
+        private final int cellWidth;
+        private final double wizardRadius;
+        // forest triangles are derived from base position
+        private final double allyBaseX;
+
+        public GridKey(double width, double height, int cellWidth, double wizardRadius, double allyBaseX) {
+            this.width = width;
+            this.height = height;
+            this.cellWidth = cellWidth;
+            this.wizardRadius = wizardRadius;
+            this.allyBaseX = allyBaseX;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            GridKey gridKey = (GridKey) o;
+            return Double.compare(gridKey.width, width) == 0 && Double.compare(gridKey.height, height) == 0 &&
+                    cellWidth == gridKey.cellWidth && Double.compare(gridKey.wizardRadius, wizardRadius) == 0 &&
+                    Double.compare(gridKey.allyBaseX, allyBaseX) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(width, height, cellWidth, wizardRadius, allyBaseX);
+        }
+    }
+}
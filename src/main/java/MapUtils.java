@@ -26,6 +26,10 @@ public class MapUtils {
     private final Point topLaneMidWaypoint;
     private final Point midLaneMidWaypoint;
     private final Point safeMidLaneMidWaypoint;
+    private final Point topBonusPoint;
+    private final Point bottomBonusPoint;
+    private final Point allyBasePoint;
+    private final Point enemyBasePoint;
     private final List<List<Point>> forestTriangles;
 
     public MapUtils(WorldProxy world) {
@@ -52,6 +56,10 @@ public class MapUtils {
         this.topLaneMidWaypoint = new Point(halfBase, halfBase);
         this.midLaneMidWaypoint = new Point(worldWidth / 2, worldHeight / 2);
         this.safeMidLaneMidWaypoint = new Point(worldWidth / 2 - 2 * base, worldHeight / 2 + 2 * base);
+        this.topBonusPoint = new Point(base * 3, base * 3);
+        this.bottomBonusPoint = new Point(worldWidth - base * 3, worldHeight - base * 3);
+        this.allyBasePoint = new Point(allyBase.getX(), allyBase.getY());
+        this.enemyBasePoint = new Point(worldWidth - allyBase.getX(), worldHeight - allyBase.getY());
 
         this.forestTriangles = Arrays.asList(Arrays.asList(new Point(base, worldHeight - 2 * base),
                 new Point(4 * base, 5 * base),
@@ -250,4 +258,25 @@ public class MapUtils {
     public double getWaypointBaseInfluence() {
         return waypointBaseInfluence;
     }
+
+    public Point getTopBonusPoint() {
+        return topBonusPoint;
+    }
+
+    public Point getBottomBonusPoint() {
+        return bottomBonusPoint;
+    }
+
+    public List<Point> wellKnownTargets() {
+        return Arrays.asList(laneAllyWaypoint,
+                laneEnemyWaypoint,
+                bottomLaneMidWaypoint,
+                topLaneMidWaypoint,
+                midLaneMidWaypoint,
+                safeMidLaneMidWaypoint,
+                topBonusPoint,
+                bottomBonusPoint,
+                allyBasePoint,
+                enemyBasePoint);
+    }
 }
@@ -16,6 +16,16 @@ public class MasterWizardTacticBuilder implements TacticBuilder {
     public static final byte LANE_SWITCH_CODE = 's';
     private static final int NUMBER_OF_ALLY_WIZARDS = 4;
 
+    @Override
+    public int priority() {
+        return Tactics.MASTER_WIZARD_TACTIC_BUILDER;
+    }
+
+    @Override
+    public boolean hasSideEffects() {
+        return true;
+    }
+
     @Override
     public Optional<Tactic> build(TurnContainer turnContainer) {
         turnContainer.getMemory().setSelfMessage(null);
@@ -0,0 +1,163 @@
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * Plays many matches at once, at most parallelism of them at a time. Runs them on virtual threads when JDK has them,
+ * otherwise on fixed pool. Failure of one match is kept in its result and doesn't affect others.
+ */
+public class MatchOrchestrator {
+
+    private final int parallelism;
+    private final Supplier<? extends Supplier<? extends Strategy>> teamFactory;
+
+    /**
+     * @param teamFactory called once per match for factory of its strategies, so strategies of one match can share
+     *                    things like {@link DeadlineScheduler}
+     */
+    public MatchOrchestrator(int parallelism, Supplier<? extends Supplier<? extends Strategy>> teamFactory) {
+        if (parallelism <= 0) {
+            throw new RuntimeException("Parallelism should be positive, got " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.teamFactory = teamFactory;
+    }
+
+    public interface MatchSpec {
+
+        String getName();
+
+        /**
+         * @return source ready to give team size, called on match's own thread
+         */
+        MatchSource open() throws IOException;
+    }
+
+    /**
+     * @return results in order of given matches
+     */
+    public List<MatchResult> run(List<? extends MatchSpec> matches) throws InterruptedException {
+        Semaphore slots = new Semaphore(parallelism);
+        ExecutorService executor = newExecutor(parallelism);
+        try {
+            List<Future<MatchResult>> futures = new ArrayList<>();
+            for (MatchSpec match : matches) {
+                // don't let more than parallelism matches queue up on virtual threads
+                slots.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        return play(match);
+                    } finally {
+                        slots.release();
+                    }
+                }));
+            }
+            List<MatchResult> results = new ArrayList<>();
+            for (Future<MatchResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    throw new RuntimeException("Match task failed outside of match", e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private MatchResult play(MatchSpec match) {
+        LongStream.Builder tickNanos = LongStream.builder();
+        long startedAt = System.nanoTime();
+        Throwable failure = null;
+        MatchSource source = null;
+        boolean started = false;
+        try {
+            source = match.open();
+            StrategyHarness harness = new StrategyHarness(source, teamFactory.get());
+            harness.setTickListener(tickNanos);
+            started = true;
+            // harness closes source itself once it runs
+            harness.run();
+        } catch (Throwable e) {
+            // errors like stack overflow in strategy are failures of this match only
+            failure = e;
+        } finally {
+            if (source != null && !started) {
+                try {
+                    source.close();
+                } catch (IOException e) {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        return new MatchResult(match.getName(), tickNanos.build().toArray(), System.nanoTime() - startedAt, failure);
+    }
+
+    private static ExecutorService newExecutor(int parallelism) {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(parallelism);
+        }
+    }
+
+    /**
+     * @return per match lines and tick time percentiles over all matches
+     */
+    public static String summary(List<MatchResult> results) {
+        StringBuilder sb = new StringBuilder();
+        int failed = 0;
+        long ticks = 0;
+        long strategyNanos = 0;
+        for (MatchResult result : results) {
+            long[] tickNanos = result.getTickNanos();
+            ticks += tickNanos.length;
+            strategyNanos += result.getStrategyNanos();
+            sb.append(String.format("%s: %s, %d ticks, strategy %.1f ms, wall %.1f ms%n",
+                    result.getName(),
+                    result.isFailed() ? "FAILED " + result.getFailure() : "ok",
+                    tickNanos.length,
+                    result.getStrategyNanos() / 1e6,
+                    result.getWallNanos() / 1e6));
+            if (result.isFailed()) {
+                failed++;
+            }
+        }
+        long[] all = new long[(int) ticks];
+        int n = 0;
+        for (MatchResult result : results) {
+            long[] tickNanos = result.getTickNanos();
+            System.arraycopy(tickNanos, 0, all, n, tickNanos.length);
+            n += tickNanos.length;
+        }
+        Arrays.sort(all);
+        sb.append(String.format("%d matches, %d failed, %d ticks, strategy %.1f ms%n",
+                results.size(),
+                failed,
+                ticks,
+                strategyNanos / 1e6));
+        if (all.length > 0) {
+            sb.append(String.format("tick ms: p50 %.3f, p90 %.3f, p99 %.3f, max %.3f%n",
+                    percentile(all, 0.5) / 1e6,
+                    percentile(all, 0.9) / 1e6,
+                    percentile(all, 0.99) / 1e6,
+                    all[all.length - 1] / 1e6));
+        }
+        return sb.toString();
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.floor(p * sorted.length))];
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Outcome of one match played by {@link MatchOrchestrator}.
+ */
+public class MatchResult {
+
+    private final String name;
+    private final long[] tickNanos;
+    private final long wallNanos;
+    // nullable
+    private final Throwable failure;
+
+    public MatchResult(String name, long[] tickNanos, long wallNanos, Throwable failure) {
+        this.name = name;
+        this.tickNanos = tickNanos;
+        this.wallNanos = wallNanos;
+        this.failure = failure;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return time spent in strategies on each played tick, also when match failed later
+     */
+    public long[] getTickNanos() {
+        return tickNanos;
+    }
+
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public long getStrategyNanos() {
+        long sum = 0;
+        for (long nanos : tickNanos) {
+            sum += nanos;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,24 @@
+import model.Game;
+import model.Move;
+import model.PlayerContext;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Game as seen by strategies of one player: remote game server, replay or anything that can hand over worlds and take
+ * moves back.
+ */
+public interface MatchSource extends Closeable {
+
+    int readTeamSize() throws IOException;
+
+    Game readGameContext() throws IOException;
+
+    /**
+     * @return null when game is over
+     */
+    PlayerContext readPlayerContext() throws IOException;
+
+    void writeMoves(Move[] moves) throws IOException;
+}
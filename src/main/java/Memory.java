@@ -17,6 +17,12 @@ public class Memory {
     private Map<Long, ProjectileControl.ProjectileMeta> projectileMeta;
     private boolean wentForBonusPrevTurn;
     private CastRangeService castRangeService;
+    private GridSearch gridSearch;
+    private ShortSearchGrid shortSearchGrid;
+    private PathPlanners pathPlanners;
+    private KinematicsCache kinematicsCache;
+    private DeadlineScheduler deadlineScheduler;
+    private SpatialIndex.Layer treeLayer;
     private Map<Long, WizardProxy> shadowWizards;
     private Message selfMessage;
     private Map<Long, Integer> allyWizardMessageIndex;
@@ -109,6 +115,54 @@ public class Memory {
         this.castRangeService = castRangeService;
     }
 
+    public GridSearch getGridSearch() {
+        return gridSearch;
+    }
+
+    public void setGridSearch(GridSearch gridSearch) {
+        this.gridSearch = gridSearch;
+    }
+
+    public ShortSearchGrid getShortSearchGrid() {
+        return shortSearchGrid;
+    }
+
+    public void setShortSearchGrid(ShortSearchGrid shortSearchGrid) {
+        this.shortSearchGrid = shortSearchGrid;
+    }
+
+    public PathPlanners getPathPlanners() {
+        return pathPlanners;
+    }
+
+    public void setPathPlanners(PathPlanners pathPlanners) {
+        this.pathPlanners = pathPlanners;
+    }
+
+    public KinematicsCache getKinematicsCache() {
+        return kinematicsCache;
+    }
+
+    public void setKinematicsCache(KinematicsCache kinematicsCache) {
+        this.kinematicsCache = kinematicsCache;
+    }
+
+    public DeadlineScheduler getDeadlineScheduler() {
+        return deadlineScheduler;
+    }
+
+    public void setDeadlineScheduler(DeadlineScheduler deadlineScheduler) {
+        this.deadlineScheduler = deadlineScheduler;
+    }
+
+    public SpatialIndex.Layer getTreeLayer() {
+        return treeLayer;
+    }
+
+    public void setTreeLayer(SpatialIndex.Layer treeLayer) {
+        this.treeLayer = treeLayer;
+    }
+
     public Map<Long, WizardProxy> getShadowWizards() {
         return shadowWizards;
     }
@@ -1,33 +1,95 @@
 import java.io.IOException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.net.ConnectException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
 
+/**
+ * Plays several matches at once and prints summary. Either connects to local runners on consecutive ports from
+ * 31001, or replays recorded games with --replays.
+ */
 public class MultiRunner {
 
     private static final int DEFAULT_PORT = 31001;
+    private static final String TOKEN = "0000000000000000";
+    private static final long CONNECT_TIMEOUT_MILLIS = 30000;
+    private static final long CONNECT_RETRY_MILLIS = 100;
 
     public static void main(String[] args) throws InterruptedException {
-        int strategiesToRun = Integer.parseInt(args[0]);
-        ExecutorService executor = Executors.newFixedThreadPool(strategiesToRun);
-        for (int i = DEFAULT_PORT; i < DEFAULT_PORT + strategiesToRun; i++) {
-            executor.execute(new RunnerRunnable(i));
-            Thread.sleep(1000);
+        List<MatchOrchestrator.MatchSpec> matches = new ArrayList<>();
+        Supplier<DeadlineScheduler> deadlineSchedulers;
+        if (args.length > 0 && args[0].equals("--replays")) {
+            // replayed moves are compared with recorded ones, so they shouldn't depend on replay speed
+            deadlineSchedulers = DeadlineScheduler::alwaysFull;
+            for (int i = 1; i < args.length; i++) {
+                matches.add(replay(args[i]));
+            }
+        } else {
+            deadlineSchedulers = DeadlineScheduler::fromSystemProperties;
+            int strategiesToRun = Integer.parseInt(args[0]);
+            for (int port = DEFAULT_PORT; port < DEFAULT_PORT + strategiesToRun; port++) {
+                matches.add(remote(port));
+            }
         }
+        int parallelism = Math.min(Math.max(1, matches.size()), Runtime.getRuntime().availableProcessors());
+        // each match stands for one player process, its wizards draw on one time budget
+        List<MatchResult> results = new MatchOrchestrator(parallelism, () -> {
+            DeadlineScheduler deadlineScheduler = deadlineSchedulers.get();
+            return () -> new MyStrategy(deadlineScheduler);
+        }).run(matches);
+        System.out.print(MatchOrchestrator.summary(results));
     }
 
-    private static class RunnerRunnable implements Runnable {
-        private final int port;
+    private static MatchOrchestrator.MatchSpec remote(int port) {
+        return new MatchOrchestrator.MatchSpec() {
+            @Override
+            public String getName() {
+                return "port " + port;
+            }
 
-        public RunnerRunnable(int port) {
-            this.port = port;
-        }
+            @Override
+            public MatchSource open() throws IOException {
+                RemoteProcessClient client = connect(port);
+                client.writeToken(TOKEN);
+                client.writeProtocolVersion();
+                return client;
+            }
+        };
+    }
+
+    private static MatchOrchestrator.MatchSpec replay(String file) {
+        return new MatchOrchestrator.MatchSpec() {
+            @Override
+            public String getName() {
+                return file;
+            }
+
+            @Override
+            public MatchSource open() throws IOException {
+                return new ReplayMatchSource(Paths.get(file));
+            }
+        };
+    }
 
-        @Override
-        public void run() {
+    /**
+     * Local runner may still be starting, so connection is retried for a while.
+     */
+    private static RemoteProcessClient connect(int port) throws IOException {
+        long deadline = System.currentTimeMillis() + CONNECT_TIMEOUT_MILLIS;
+        while (true) {
             try {
-                new Runner(new String[]{"127.0.0.1", Integer.toString(port), "0000000000000000"}).run();
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to start on port " + port, e);
+                return new RemoteProcessClient("127.0.0.1", port);
+            } catch (ConnectException e) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(CONNECT_RETRY_MILLIS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
             }
         }
     }
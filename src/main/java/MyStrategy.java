@@ -3,14 +3,55 @@ import model.Move;
 import model.Wizard;
 import model.World;
 
+import java.util.List;
+
 public final class MyStrategy implements Strategy {
     private Memory memory = new Memory();
+    private final List<TacticBuilder> tacticBuilders = TurnStrategy.newTacticBuilders();
+    // nullable
+    private final BuilderProfiler profiler;
     TurnContainer turnContainer;
 
+    /**
+     * Uses own scheduler configured by system properties, so it's meant for one strategy per process.
+     */
+    public MyStrategy() {
+        this(DeadlineScheduler.fromSystemProperties());
+    }
+
+    /**
+     * Uses given scheduler instead of one configured by system properties. It should be shared by all strategies of one
+     * process, {@link DeadlineScheduler#alwaysFull()} makes moves independent of how fast strategy runs.
+     */
+    public MyStrategy(DeadlineScheduler deadlineScheduler) {
+        this.profiler = BuilderProfiler.fromSystemProperties(tacticBuilders);
+        this.memory.setDeadlineScheduler(deadlineScheduler);
+    }
+
+    /**
+     * Profiles every tactic builder and reports to sink on last tick of game.
+     */
+    public MyStrategy(BuilderProfiler.Sink profileSink) {
+        this.profiler = new BuilderProfiler(tacticBuilders, profileSink);
+        this.memory.setDeadlineScheduler(DeadlineScheduler.fromSystemProperties());
+    }
+
     @Override
     public void move(Wizard self, World world, Game game, Move move) {
         this.turnContainer = new TurnContainer(self, world, game, memory);
-        new TurnStrategy(turnContainer, move).findStrategy();
+        new TurnStrategy(turnContainer, move, tacticBuilders, profiler).findStrategy();
         this.turnContainer.postTurn();
+        if (profiler != null && world.getTickIndex() >= world.getTickCount() - 1) {
+            profiler.report();
+        }
+    }
+
+    /**
+     * Reports profile collected so far, for games which end before last tick.
+     */
+    public void reportProfile() {
+        if (profiler != null) {
+            profiler.report();
+        }
     }
 }
@@ -4,6 +4,11 @@ public class NeutralTurnTacticBuilder implements TacticBuilder {
 
     private static final int IGNORE_WIZARD_RANGE = 800;
 
+    @Override
+    public int priority() {
+        return Tactics.NEUTRAL_TURN_TACTIC_BUILDER;
+    }
+
     @Override
     public Optional<Tactic> build(TurnContainer turnContainer) {
         MapUtils mapUtils = turnContainer.getMapUtils();
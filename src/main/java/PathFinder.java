@@ -2,56 +2,56 @@ import model.*;
 
 import java.util.AbstractMap.SimpleEntry;
 import java.util.*;
+import java.util.function.IntUnaryOperator;
 
 import static java.lang.StrictMath.hypot;
 
 public class PathFinder {
 
     private static final int DEFAULT_CELL_WIDTH = 100;
-    private static final double E = 1e-9;
-    private static final int SHORT_SEARCH_GRID_CELL = 10;
-    private static final int SHORT_SEARCH_GRID_SPAN = 250;
+    private static final int MOVEMENT_CANDIDATES = 11 * 2 * 2;
+    private static final int SHORT_SEARCH_GRID_SPAN = ShortSearchGrid.SPAN;
     private static final int LONG_DISTANCE_MIN_FIRST_MOVE = 500;
-    private static final int MAX_ANGLE_RADIUS = 150;
-    private static final int ALLY_WIZARD_PENALTY = 4;
-    private static final int ALLY_WIZARD_PENALTY_RADIUS = 50;
     private final WorldProxy world;
     private final Game game;
     private final WizardProxy self;
-    private final boolean[][] longSearchGrid;
+    private final GridSearch search;
+    private final ShortSearchGrid shortSearchGrid;
+    private final PathPlanners planners;
+    private final KinematicsCache kinematicsCache;
+    private final LongSearchGrid longSearchGrid;
     private final int cellWidth;
     private final int gridN;
     private final int gridM;
-    private boolean shortSearchGridInitialized;
-    private PathPoint[][] shortSearchGrid;
-    private int shortSearchGridDim;
-
-    public PathFinder(WizardProxy self, WorldProxy world, Game game, MapUtils mapUtils) {
+    private final double[] candidateX = new double[MOVEMENT_CANDIDATES];
+    private final double[] candidateY = new double[MOVEMENT_CANDIDATES];
+    private final double[] candidateSpeed = new double[MOVEMENT_CANDIDATES];
+    private final double[] candidateStrafe = new double[MOVEMENT_CANDIDATES];
+    private final boolean[] candidateFree = new boolean[MOVEMENT_CANDIDATES];
+    private SearchMode searchMode;
+    private LocalPlanner localPlanner;
+
+    public PathFinder(WizardProxy self,
+                      WorldProxy world,
+                      Game game,
+                      MapUtils mapUtils,
+                      GridSearch search,
+                      ShortSearchGrid shortSearchGrid,
+                      PathPlanners planners,
+                      KinematicsCache kinematicsCache) {
         this.world = world;
         this.game = game;
         this.self = self;
-        this.cellWidth = DEFAULT_CELL_WIDTH;
-        this.gridN = (int) (world.getWidth() / cellWidth + 1);
-        this.gridM = (int) (world.getHeight() / cellWidth + 1);
-        this.longSearchGrid = new boolean[gridN][gridM];
-        shortSearchGridInitialized = false;
-
-        double wizardRadius = game.getWizardRadius();
-
-        for (int i = 0; i * cellWidth <= world.getWidth(); i++) {
-            for (int h = 0; h * cellWidth <= world.getHeight(); h++) {
-                longSearchGrid[i][h] = true;
-                double x = toRealAxis(i);
-                double y = toRealAxis(h);
-                if (mapUtils.isForest(x, y)) {
-                    longSearchGrid[i][h] = false;
-                }
-                if (x < wizardRadius || y < wizardRadius || world.getHeight() - y < wizardRadius ||
-                        world.getWidth() - x < wizardRadius) {
-                    longSearchGrid[i][h] = false;
-                }
-            }
-        }
+        this.search = search;
+        this.shortSearchGrid = shortSearchGrid;
+        this.planners = planners;
+        this.kinematicsCache = kinematicsCache;
+        this.searchMode = SearchMode.INCREMENTAL;
+        this.localPlanner = LocalPlanner.ANY_ANGLE;
+        this.longSearchGrid = LongSearchGrid.of(world, game, mapUtils, DEFAULT_CELL_WIDTH);
+        this.cellWidth = longSearchGrid.getCellWidth();
+        this.gridN = longSearchGrid.getGridN();
+        this.gridM = longSearchGrid.getGridM();
     }
 
     public Movement findPath(WizardProxy wizard, double x, double y, double ignoreRadius, boolean withPenalties) {
@@ -64,82 +64,191 @@ public class PathFinder {
                 withPenalties);
         if (straightLinePoint.isPresent()) {
             return findOptimalMovement(wizard, straightLinePoint.get().getX(), straightLinePoint.get().getY());
+        }
+        Point shortDistPoint;
+        if (localPlanner == LocalPlanner.NONE) {
+            shortDistPoint = longDistPoint;
+        } else if (localPlanner == LocalPlanner.ANY_ANGLE) {
+            shortDistPoint = anyAngleNextPoint(longDistPoint.getX(), longDistPoint.getY(), ignoreRadius, withPenalties);
         } else {
-            Point shortDistPoint = shortSearchNextPoint(longDistPoint.getX(), longDistPoint.getY(), withPenalties);
-            return findOptimalMovement(wizard, shortDistPoint.getX(), shortDistPoint.getY());
+            shortDistPoint = shortSearchNextPoint(longDistPoint.getX(), longDistPoint.getY(), withPenalties);
         }
+        return findOptimalMovement(wizard, shortDistPoint.getX(), shortDistPoint.getY());
+    }
+
+    public void setSearchMode(SearchMode searchMode) {
+        this.searchMode = searchMode;
+    }
+
+    public void setLocalPlanner(LocalPlanner localPlanner) {
+        this.localPlanner = localPlanner;
     }
 
     public double roughDistanceTo(WizardProxy wizard, double x, double y) {
         return longSearchNextPoint(wizard.getX(), wizard.getY(), x, y).getValue();
     }
 
+    /**
+     * Same distances as {@link #roughDistanceTo} for every target, but with a single search that stops once all
+     * targets are settled.
+     *
+     * @return distance for each target, {@link Double#POSITIVE_INFINITY} if target can't be reached
+     */
+    public double[] roughDistancesFrom(double fromX, double fromY, double[] toX, double[] toY) {
+        int[] targets = new int[toX.length];
+        double[] dists = new double[toX.length];
+        for (int k = 0; k < toX.length; k++) {
+            targets[k] = longSearchGrid.nearestWalkable(toX[k], toY[k]);
+            dists[k] = hypot(fromX - toX[k], fromY - toY[k]);
+            if (dists[k] <= SHORT_SEARCH_GRID_SPAN) {
+                targets[k] = -1;
+            }
+        }
+        settleTargets(nearestCell(fromX, fromY), targets, dists, false);
+        return dists;
+    }
+
+    /**
+     * Many sources to one target. Precomputed flow field answers it by lookup when target is one of well known targets,
+     * otherwise grid edges are symmetric so it is a single search from the target.
+     *
+     * @return distance for each source, {@link Double#POSITIVE_INFINITY} if target can't be reached from it
+     */
+    public double[] roughDistancesTo(double[] fromX, double[] fromY, double toX, double toY) {
+        int[] sources = new int[fromX.length];
+        double[] dists = new double[fromX.length];
+        for (int k = 0; k < fromX.length; k++) {
+            sources[k] = nearestCell(fromX[k], fromY[k]);
+            dists[k] = hypot(fromX[k] - toX, fromY[k] - toY);
+            if (dists[k] <= SHORT_SEARCH_GRID_SPAN) {
+                sources[k] = -1;
+            }
+        }
+        FlowField flowField = longSearchGrid.flowField(toX, toY);
+        if (flowField != null) {
+            for (int k = 0; k < sources.length; k++) {
+                if (sources[k] != -1) {
+                    dists[k] = flowField.isReachableFrom(sources[k]) ?
+                            flowField.distFrom(sources[k]) :
+                            Double.POSITIVE_INFINITY;
+                }
+            }
+            return dists;
+        }
+        settleTargets(longSearchGrid.nearestWalkable(toX, toY), sources, dists, true);
+        return dists;
+    }
+
+    private int nearestCell(double x, double y) {
+        int i = Math.max(0, Math.min(gridN - 1, (int) Math.round(x / cellWidth)));
+        int h = Math.max(0, Math.min(gridM - 1, (int) Math.round(y / cellWidth)));
+        return i * gridM + h;
+    }
+
+    /**
+     * Dijkstra over long grid from source, fills dists for targets other than -1.
+     *
+     * @param enterTargets whether targets may be entered even if they aren't walkable, for searches running backwards
+     *                     from the real goal
+     */
+    private void settleTargets(int source, int[] targets, double[] dists, boolean enterTargets) {
+        int left = 0;
+        for (int k = 0; k < targets.length; k++) {
+            if (targets[k] != -1) {
+                dists[k] = Double.POSITIVE_INFINITY;
+                left++;
+            }
+        }
+        if (left == 0 || source == -1) {
+            return;
+        }
+
+        search.reset(gridN * gridM);
+        search.relax(source, 0, -1);
+        while (!search.isEmpty() && left > 0) {
+            int cur = search.poll();
+            int curI = cur / gridM;
+            int curH = cur % gridM;
+            double curPathDist = search.getDist(cur);
+            for (int k = 0; k < targets.length; k++) {
+                if (targets[k] == cur) {
+                    dists[k] = curPathDist;
+                    left--;
+                }
+            }
+            if (cur != source && !longSearchGrid.isWalkable(curI, curH)) {
+                continue;
+            }
+            for (int j1 = -1; j1 <= 1; j1++) {
+                for (int j2 = -1; j2 <= 1; j2++) {
+                    int nextI = curI + j1;
+                    int nextH = curH + j2;
+                    if ((j1 == 0 && j2 == 0) || nextI < 0 || nextI >= gridN || nextH < 0 || nextH >= gridM) {
+                        continue;
+                    }
+                    int next = nextI * gridM + nextH;
+                    if (!longSearchGrid.isWalkable(nextI, nextH) && !(enterTargets && isTarget(targets, next))) {
+                        continue;
+                    }
+                    search.relax(next, curPathDist + longSearchGrid.stepLength(j1, j2), -1);
+                }
+            }
+        }
+    }
+
+    private static boolean isTarget(int[] targets, int node) {
+        for (int target : targets) {
+            if (target == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Movement findOptimalMovement(WizardProxy wizard, double x, double y) {
-        double bestDistance = Double.MAX_VALUE;
-        double optimalSpeed = 0;
-        double optimalStrafe = 0;
         double maxTurnAngle = wizard.getWizardMaxTurnAngle(game);
         double optimalTurn = Math.min(maxTurnAngle, Math.max(-maxTurnAngle, wizard.getAngleTo(x, y)));
         double wizardNextAngle = wizard.getAngle();
 
         double cos = Math.cos(wizardNextAngle);
         double sin = Math.sin(wizardNextAngle);
+        Kinematics kinematics = kinematicsCache.get(wizard, game);
+        CollisionKernel kernel = CollisionKernel.around(world,
+                wizard.getId(),
+                wizard.getX(),
+                wizard.getY(),
+                wizard.getRadius(),
+                kinematics.getMaxStep());
+
+        double[] offsetSpeeds = kinematics.getOffsetSpeeds();
+        double[] offsetStrafes = kinematics.getOffsetStrafes();
+        int n = offsetSpeeds.length;
+        for (int k = 0; k < n; k++) {
+            double speed = offsetSpeeds[k];
+            double strafe = offsetStrafes[k];
+            candidateSpeed[k] = speed;
+            candidateStrafe[k] = strafe;
+            candidateX[k] = wizard.getX() + speed * cos - strafe * sin;
+            candidateY[k] = wizard.getY() + speed * sin + strafe * cos;
+        }
+        kernel.isFree(wizard.getX(), wizard.getY(), candidateX, candidateY, n, candidateFree);
 
-        for (double speedOffset = 0.0; speedOffset <= 1.0; speedOffset += 0.1) {
-            for (int speedSign = -1; speedSign <= 1; speedSign += 2) {
-                for (int strafeSign = -1; strafeSign <= 1; strafeSign += 2) {
-                    double strafeOffset = Math.sqrt(1 - speedOffset * speedOffset);
-                    double speed;
-                    if (speedSign == -1) {
-                        speed = -wizard.getWizardBackwardSpeed(game) * speedOffset;
-                    } else {
-                        speed = wizard.getWizardForwardSpeed(game) * speedOffset;
-                    }
-                    double strafe = strafeSign * wizard.getWizardStrafeSpeed(game) * strafeOffset;
-                    double resX = wizard.getX() + speed * cos - strafe * sin;
-                    double resY = wizard.getY() + speed * sin + strafe * cos;
-                    boolean foundIntersection = false;
-                    if (resX < wizard.getRadius() || resY < wizard.getRadius() ||
-                            resX > world.getWidth() - wizard.getRadius() ||
-                            resY > world.getHeight() - wizard.getRadius()) {
-                        continue;
-                    }
-                    for (Unit unit : world.getAllUnitsNearby()) {
-                        if (unit.getId() == wizard.getId()) {
-                            continue;
-                        }
-                        if (!(unit instanceof CircularUnit)) {
-                            throw new RuntimeException("Uncircular unit is not expected");
-                        }
-                        if (unit instanceof Projectile || unit instanceof Bonus) {
-                            continue;
-                        }
-                        double unitR = ((CircularUnit) unit).getRadius();
-                        if (unit.getDistanceTo(resX, resY) < wizard.getRadius() + unitR) {
-                            foundIntersection = true;
-                            break;
-                        }
-                        if (MathMethods.isLineIntersectsCircle(wizard.getX(),
-                                resX,
-                                wizard.getY(),
-                                resY,
-                                unit.getX(),
-                                unit.getY(),
-                                wizard.getRadius() + ((CircularUnit) unit).getRadius())) {
-                            foundIntersection = true;
-                            break;
-                        }
-                    }
-                    if (foundIntersection) {
-                        continue;
-                    }
-                    double curDist = hypot(x - resX, y - resY);
-                    if (curDist < bestDistance) {
-                        bestDistance = curDist;
-                        optimalSpeed = speed;
-                        optimalStrafe = strafe;
-                    }
-                }
+        double bestDistance = Double.MAX_VALUE;
+        double optimalSpeed = 0;
+        double optimalStrafe = 0;
+        for (int k = 0; k < n; k++) {
+            double resX = candidateX[k];
+            double resY = candidateY[k];
+            if (resX < wizard.getRadius() || resY < wizard.getRadius() ||
+                    resX > world.getWidth() - wizard.getRadius() || resY > world.getHeight() - wizard.getRadius() ||
+                    !candidateFree[k]) {
+                continue;
+            }
+            double curDist = hypot(x - resX, y - resY);
+            if (curDist < bestDistance) {
+                bestDistance = curDist;
+                optimalSpeed = candidateSpeed[k];
+                optimalStrafe = candidateStrafe[k];
             }
         }
         return new Movement(optimalSpeed, optimalStrafe, optimalTurn);
@@ -161,48 +270,60 @@ public class PathFinder {
 
         int fromI = (int) Math.round(fromX / cellWidth);
         int fromH = (int) Math.round(fromY / cellWidth);
-        @SuppressWarnings("SuspiciousNameCombination")
-        double diagDist = hypot(cellWidth, cellWidth);
+        int from = fromI * gridM + fromH;
 
-        Queue<BfsPoint> bfs = new PriorityQueue<>(Comparator.comparingDouble(BfsPoint::getDist));
-        bfs.add(new BfsPoint(fromI, fromH, -1, -1, 0));
-        Map<BfsPoint, Double> visitedPoints = new HashMap<>();
-        visitedPoints.put(bfs.peek(), 0D);
+        FlowField flowField = longSearchGrid.flowField(toX, toY);
+        if (flowField != null && flowField.isReachableFrom(from) && flowField.getGoal() != from) {
+            return pathNextPoint(from, flowField.getGoal(), flowField::nextHop, flowField.distFrom(from));
+        }
 
-        while (!bfs.isEmpty()) {
-            BfsPoint cur = bfs.poll();
-            if (Math.abs(visitedPoints.get(cur) - cur.getDist()) > E) {
-                continue;
+        if (searchMode == SearchMode.INCREMENTAL) {
+            int goal = longSearchGrid.nearestWalkable(toX, toY);
+            if (goal != -1 && goal != from) {
+                DStarLite planner = planners.longPlanner(longSearchGrid, goal, from);
+                planner.computeShortestPath(from);
+                if (planner.distToGoal(from) != Double.POSITIVE_INFINITY) {
+                    return pathNextPoint(from, goal, planner::nextHop, planner.distToGoal(from));
+                }
             }
+        }
+
+        search.reset(gridN * gridM);
+        search.relax(from, 0, -1);
+
+        while (!search.isEmpty()) {
+            int cur = search.poll();
+            int curI = cur / gridM;
+            int curH = cur % gridM;
+            double curPathDist = search.getDist(cur);
+            int curFirstMove = search.getFirstMove(cur);
             for (int j1 = -1; j1 <= 1; j1++) {
                 for (int j2 = -1; j2 <= 1; j2++) {
                     if (j1 == 0 && j2 == 0) {
                         continue;
                     }
-                    int nextI = cur.getI() + j1;
-                    int nextH = cur.getH() + j2;
-                    int firstMoveI = cur.getFirstMoveI();
-                    int firstMoveH = cur.getFirstMoveH();
-                    double dist = cur.getDist() + (j1 == 0 || j2 == 0 ? cellWidth : diagDist);
-                    if (firstMoveI == -1 || dist < LONG_DISTANCE_MIN_FIRST_MOVE) {
-                        firstMoveI = nextI;
-                        firstMoveH = nextH;
-                    }
-                    BfsPoint nextPoint = new BfsPoint(nextI, nextH, firstMoveI, firstMoveH, dist);
+                    int nextI = curI + j1;
+                    int nextH = curH + j2;
                     if (nextI < 0 || nextI >= gridN || nextH < 0 || nextH >= gridM ||
-                            (visitedPoints.containsKey(nextPoint) && visitedPoints.get(nextPoint) <= dist) ||
-                            !longSearchGrid[nextI][nextH]) {
+                            !longSearchGrid.isWalkable(nextI, nextH)) {
+                        continue;
+                    }
+                    int next = nextI * gridM + nextH;
+                    double dist = curPathDist + longSearchGrid.stepLength(j1, j2);
+                    int firstMove = curFirstMove;
+                    if (firstMove == -1 || dist < LONG_DISTANCE_MIN_FIRST_MOVE) {
+                        firstMove = next;
+                    }
+                    if (!search.relax(next, dist, firstMove)) {
                         continue;
                     }
                     double curDist = hypot(toX - toRealAxis(nextI), toY - toRealAxis(nextH));
                     if (curDist < bestDist) {
                         bestDist = curDist;
-                        bestPathDist = nextPoint.getDist();
-                        bestX = toRealAxis(firstMoveI);
-                        bestY = toRealAxis(firstMoveH);
+                        bestPathDist = dist;
+                        bestX = toRealAxis(firstMove / gridM);
+                        bestY = toRealAxis(firstMove % gridM);
                     }
-                    visitedPoints.put(nextPoint, dist);
-                    bfs.add(nextPoint);
                 }
             }
         }
@@ -210,171 +331,79 @@ public class PathFinder {
         return new SimpleEntry<>(new Point(bestX, bestY), bestPathDist);
     }
 
-    private Point shortSearchNextPoint(double x, double y, boolean withPenalties) {
-        if (!shortSearchGridInitialized) {
-            initShortSearchGrid();
+    private Map.Entry<Point, Double> pathNextPoint(int from, int goal, IntUnaryOperator nextHop, double dist) {
+        int firstMove = -1;
+        double pathDist = 0;
+        int cur = from;
+        while (cur != goal) {
+            int next = nextHop.applyAsInt(cur);
+            pathDist += longSearchGrid.stepLength(next / gridM - cur / gridM, next % gridM - cur % gridM);
+            if (firstMove != -1 && pathDist >= LONG_DISTANCE_MIN_FIRST_MOVE) {
+                break;
+            }
+            firstMove = next;
+            cur = next;
         }
+        return new SimpleEntry<>(new Point(toRealAxis(firstMove / gridM), toRealAxis(firstMove % gridM)), dist);
+    }
 
-        int dim = shortSearchGridDim;
-
-        int selfInd = dim / 2 - 1;
-        double[][] visitedPoints = new double[dim][dim];
-        for (int i = 0; i < dim; i++) {
-            Arrays.fill(visitedPoints[i], -1);
+    private Point shortSearchNextPoint(double x, double y, boolean withPenalties) {
+        ShortSearchGrid grid = shortSearchGrid;
+        grid.update(self, world);
+
+        if (searchMode == SearchMode.INCREMENTAL) {
+            DStarLite planner = planners.shortPlanner(grid, x, y, withPenalties);
+            int start = grid.slotAt(grid.getSelfIndex(), grid.getSelfIndex());
+            planner.computeShortestPath(start);
+            int next = planner.nextHop(start);
+            if (next == planner.getGoal()) {
+                return new Point(x, y);
+            }
+            return new Point(grid.cellX(grid.slotI(next)), grid.cellY(grid.slotH(next)));
         }
-        Queue<BfsPoint> bfs = new PriorityQueue<>(Comparator.comparingDouble(BfsPoint::getDist));
-        bfs.add(new BfsPoint(selfInd, selfInd, -1, -1, 0));
-        visitedPoints[selfInd][selfInd] = 0;
 
-        double bestDist = hypot(shortSearchGrid[selfInd][selfInd].getPoint().getX() - x,
-                shortSearchGrid[selfInd][selfInd].getPoint().getY() - y);
+        int dim = grid.getDim();
+        int selfInd = grid.getSelfIndex();
+        search.reset(dim * dim);
+        search.relax(selfInd * dim + selfInd, 0, -1);
+
+        double bestDist = hypot(grid.cellX(selfInd) - x, grid.cellY(selfInd) - y);
         double bestX = x;
         double bestY = y;
 
-        while (!bfs.isEmpty()) {
-            BfsPoint cur = bfs.poll();
-            if (Math.abs(visitedPoints[cur.getI()][cur.getH()] - cur.getDist()) > E) {
-                continue;
-            }
-            PathPoint p = shortSearchGrid[cur.getI()][cur.getH()];
-            for (Map.Entry<PathPoint, Double> entry : p.getNeighbors().entrySet()) {
-                int newI = entry.getKey().getI();
-                int newH = entry.getKey().getH();
-                double newDist = cur.getDist() + entry.getValue() + (withPenalties ? entry.getKey().getPenalty() : 0);
-                if (Math.abs(visitedPoints[newI][newH] + 1) < E || visitedPoints[newI][newH] > newDist) {
-                    BfsPoint next = new BfsPoint(newI,
-                            newH,
-                            cur.getFirstMoveI() == -1 ? entry.getKey().getI() : cur.getFirstMoveI(),
-                            cur.getFirstMoveH() == -1 ? entry.getKey().getH() : cur.getFirstMoveH(),
-                            newDist);
-                    visitedPoints[newI][newH] = newDist;
-                    bfs.add(next);
-                    double curDist = hypot(x - entry.getKey().getPoint().getX(), y - entry.getKey().getPoint().getY());
-                    if (curDist < bestDist) {
-                        bestDist = curDist;
-                        bestX = shortSearchGrid[next.getFirstMoveI()][next.getFirstMoveH()].getPoint().getX();
-                        bestY = shortSearchGrid[next.getFirstMoveI()][next.getFirstMoveH()].getPoint().getY();
-                    }
-                }
-            }
-        }
-        return new Point(bestX, bestY);
-    }
-
-    private void initShortSearchGrid() {
-        int dim = SHORT_SEARCH_GRID_SPAN * 2 / SHORT_SEARCH_GRID_CELL + 2;
-        this.shortSearchGridDim = dim;
-        this.shortSearchGrid = new PathPoint[dim][dim];
-        double startX = self.getX() - SHORT_SEARCH_GRID_SPAN;
-        double startY = self.getY() - SHORT_SEARCH_GRID_SPAN;
-        double wizardRadius = self.getRadius();
-        for (int i = 0; i < dim; i++) {
-            for (int h = 0; h < dim; h++) {
-                double x = startX + i * SHORT_SEARCH_GRID_CELL;
-                double y = startY + h * SHORT_SEARCH_GRID_CELL;
-                shortSearchGrid[i][h] = new PathPoint(i, h, x, y, 0);
-                if (x < wizardRadius || x > world.getWidth() - wizardRadius || y < wizardRadius ||
-                        y > world.getHeight() - wizardRadius) {
-                    shortSearchGrid[i][h].setReachable(false);
-                }
-            }
-        }
-        for (Unit unit : world.allUnits()) {
-            if (unit instanceof Bonus || unit instanceof Projectile) {
-                continue;
-            }
-            if (unit.getId() == self.getId()) {
-                continue;
-            }
-            CircularUnit cunit = (CircularUnit) unit;
-            if (hypot(self.getX() - cunit.getX(), self.getY() - cunit.getY()) >
-                    SHORT_SEARCH_GRID_SPAN * Math.sqrt(2) + cunit.getRadius() + wizardRadius) {
-                continue;
-            }
-            double radius = cunit.getRadius();
-            double penalty = 0;
-            double penaltyRadius = radius;
-            if (cunit instanceof WizardProxy) {
-                WizardProxy wizard = (WizardProxy) cunit;
-                if (wizard.getFaction() == self.getFaction()) {
-                    penalty = ALLY_WIZARD_PENALTY;
-                    penaltyRadius = radius + ALLY_WIZARD_PENALTY_RADIUS;
-                }
-            }
-            for (int i = 0; i < dim; i++) {
-                for (int h = 0; h < dim; h++) {
-                    if (!shortSearchGrid[i][h].isReachable()) {
+        while (!search.isEmpty()) {
+            int cur = search.poll();
+            int curI = cur / dim;
+            int curH = cur % dim;
+            double curPathDist = search.getDist(cur);
+            int curFirstMove = search.getFirstMove(cur);
+            for (int j1 = -1; j1 <= 1; j1++) {
+                for (int j2 = -1; j2 <= 1; j2++) {
+                    if (j1 == 0 && j2 == 0) {
                         continue;
                     }
-                    Point p = shortSearchGrid[i][h].getPoint();
-                    double dist = hypot(p.getX() - cunit.getX(), p.getY() - cunit.getY());
-                    if (dist <= radius + wizardRadius) {
-                        shortSearchGrid[i][h].setReachable(false);
-                        shortSearchGrid[i][h].setIntersectsWith(cunit);
+                    int nextI = curI + j1;
+                    int nextH = curH + j2;
+                    if (nextI < 0 || nextI >= dim || nextH < 0 || nextH >= dim || !grid.isReachable(nextI, nextH) ||
+                            !grid.isEdgeFree(curI, curH, nextI, nextH)) {
                         continue;
                     }
-                    if (dist <= penaltyRadius + wizardRadius) {
-                        shortSearchGrid[i][h].setPenalty(penalty);
-                    }
-                }
-            }
-        }
-        for (int i = 0; i < dim; i++) {
-            for (int h = 0; h < dim; h++) {
-                PathPoint pFrom = shortSearchGrid[i][h];
-                if (!pFrom.isReachable()) {
-                    continue;
-                }
-                List<CircularUnit> units = new ArrayList<>();
-                for (int j1 = -1; j1 <= 1; j1++) {
-                    for (int j2 = -1; j2 <= 1; j2++) {
-                        int curI = i + j1;
-                        int curH = h + j2;
-                        if (curI < 0 || curH < 0 || curI >= dim || curH >= dim) {
-                            continue;
-                        }
-                        if (shortSearchGrid[curI][curH].getIntersectsWith() != null) {
-                            units.add(shortSearchGrid[curI][curH].getIntersectsWith());
-                        }
-                    }
-                }
-                for (int j1 = 0; j1 <= 1; j1++) {
-                    for (int j2 = -1; j2 <= 1; j2++) {
-                        if ((j1 == 0 && j2 == 0) || (j1 == 0 && j2 == -1)) {
-                            continue;
-                        }
-                        int curI = i + j1;
-                        int curH = h + j2;
-                        if (curI < 0 || curH < 0 || curI >= dim || curH >= dim) {
-                            continue;
-                        }
-                        PathPoint pTo = shortSearchGrid[curI][curH];
-                        if (!pTo.isReachable()) {
-                            continue;
-                        }
-                        boolean foundIntersect = false;
-                        for (CircularUnit unit : units) {
-                            if (MathMethods.isLineIntersectsCircle(pFrom.getPoint().getX(),
-                                    pTo.getPoint().getX(),
-                                    pFrom.getPoint().getY(),
-                                    pTo.getPoint().getY(),
-                                    unit.getX(),
-                                    unit.getY(),
-                                    unit.getRadius() + wizardRadius)) {
-                                foundIntersect = true;
-                            }
-                        }
-                        if (!foundIntersect) {
-                            double dist = hypot(pFrom.getPoint().getX() - pTo.getPoint().getX(),
-                                    pFrom.getPoint().getY() - pTo.getPoint().getY());
-                            pFrom.getNeighbors().put(pTo, dist);
-                            pTo.getNeighbors().put(pFrom, dist);
+                    int next = nextI * dim + nextH;
+                    double newDist = curPathDist + grid.stepLength(j1, j2) +
+                            (withPenalties ? grid.getPenalty(nextI, nextH) : 0);
+                    int firstMove = curFirstMove == -1 ? next : curFirstMove;
+                    if (search.relax(next, newDist, firstMove)) {
+                        double curDist = hypot(x - grid.cellX(nextI), y - grid.cellY(nextH));
+                        if (curDist < bestDist) {
+                            bestDist = curDist;
+                            bestX = grid.cellX(firstMove / dim);
+                            bestY = grid.cellY(firstMove % dim);
                         }
                     }
                 }
             }
         }
-        shortSearchGridInitialized = true;
+        return new Point(bestX, bestY);
     }
 
     private Optional<Point> straightLinePath(double fromX,
@@ -391,121 +420,38 @@ public class PathFinder {
                     MathMethods.distPoint(fromX, fromY, toX, toY, 2 * SHORT_SEARCH_GRID_SPAN));
         }
         for (Point shortTo : tryToPoints) {
-            long ignoreId = Long.MAX_VALUE;
-            for (Unit unit : world.allUnits()) {
-                CircularUnit cunit = (CircularUnit) unit;
-                double dist = cunit.getDistanceTo(shortTo.getX(), shortTo.getY());
-                if (dist <= ignoreRadius) {
-                    ignoreId = cunit.getId();
-                }
-            }
-
-            Unit intersectsWith =
-                    findIntersectUnit(fromX, fromY, shortTo.getX(), shortTo.getY(), ignoreId, withPenalties);
-            if (intersectsWith == null) {
+            long ignoreId = ignoredUnitId(shortTo.getX(), shortTo.getY(), ignoreRadius);
+            if (findIntersectUnit(fromX, fromY, shortTo.getX(), shortTo.getY(), ignoreId, withPenalties) == null) {
                 return Optional.of(shortTo);
             }
-            Point intersectPoint = MathMethods.lineCircleIntersection(fromX,
-                    shortTo.getX(),
-                    fromY,
-                    shortTo.getY(),
-                    intersectsWith.getX(),
-                    intersectsWith.getY());
-
-            double leftRadius = findAroundRadius(0,
-                    MAX_ANGLE_RADIUS,
-                    intersectsWith,
-                    intersectPoint,
-                    fromX,
-                    fromY,
-                    shortTo.getX(),
-                    shortTo.getY(),
-                    withPenalties);
-            Point leftSide = MathMethods.distPoint(intersectsWith.getX(),
-                    intersectsWith.getY(),
-                    intersectPoint.getX(),
-                    intersectPoint.getY(),
-                    leftRadius);
-
-            if (findIntersectUnit(fromX, fromY, leftSide.getX(), leftSide.getY(), Long.MAX_VALUE, withPenalties) ==
-                    null && findIntersectUnit(leftSide.getX(),
-                    leftSide.getY(),
-                    shortTo.getX(),
-                    shortTo.getY(),
-                    ignoreId,
-                    withPenalties) == null) {
-                return Optional.of(leftSide);
-            }
-
-            double rightRadius = findAroundRadius(0,
-                    -MAX_ANGLE_RADIUS,
-                    intersectsWith,
-                    intersectPoint,
-                    fromX,
-                    fromY,
-                    shortTo.getX(),
-                    shortTo.getY(),
-                    withPenalties);
-            Point rightSide = MathMethods.distPoint(intersectsWith.getX(),
-                    intersectsWith.getY(),
-                    intersectPoint.getX(),
-                    intersectPoint.getY(),
-                    rightRadius);
-            if (findIntersectUnit(fromX, fromY, rightSide.getX(), rightSide.getY(), Long.MAX_VALUE, withPenalties) ==
-                    null && findIntersectUnit(rightSide.getX(),
-                    rightSide.getY(),
-                    shortTo.getX(),
-                    shortTo.getY(),
-                    ignoreId,
-                    withPenalties) == null) {
-                return Optional.of(rightSide);
-            }
         }
         return Optional.empty();
     }
 
-    private double findAroundRadius(double rFrom,
-                                    double rTo,
-                                    Unit intersectsWith,
-                                    Point intersectPoint,
-                                    double fromX,
-                                    double fromY,
-                                    double toX,
-                                    double toY,
-                                    boolean withPenalties) {
-        double unitR = withPenalties ? penaltyRadius(intersectsWith) : ((CircularUnit) intersectsWith).getRadius();
-        double r0 = rFrom;
-        double r1 = rTo;
-        while (Math.abs(r1 - r0) > 1) {
-            double rm = (r0 + r1) / 2;
-            Point p = MathMethods.distPoint(intersectsWith.getX(),
-                    intersectsWith.getY(),
-                    intersectPoint.getX(),
-                    intersectPoint.getY(),
-                    rm);
-            boolean firstLineIntersect = MathMethods.isLineIntersectsCircle(fromX,
-                    p.getX(),
-                    fromY,
-                    p.getY(),
-                    intersectsWith.getX(),
-                    intersectsWith.getY(),
-                    unitR + self.getRadius());
-            boolean secondLineIntersect = MathMethods.isLineIntersectsCircle(p.getX(),
-                    toX,
-                    p.getY(),
-                    toY,
-                    intersectsWith.getX(),
-                    intersectsWith.getY(),
-                    unitR + self.getRadius());
-            if (p.getX() < 0 || p.getY() < 0 || p.getX() > world.getWidth() || p.getY() > world.getHeight() ||
-                    firstLineIntersect || secondLineIntersect ||
-                    intersectsWith.getDistanceTo(p.getX(), p.getY()) <= unitR + self.getRadius()) {
-                r0 = rm;
-            } else {
-                r1 = rm;
+    private long ignoredUnitId(double x, double y, double ignoreRadius) {
+        long ignoreId = Long.MAX_VALUE;
+        for (Unit unit : world.getSpatialIndex().unitsWithin(x, y, ignoreRadius)) {
+            CircularUnit cunit = (CircularUnit) unit;
+            double dist = cunit.getDistanceTo(x, y);
+            if (dist <= ignoreRadius) {
+                ignoreId = cunit.getId();
             }
         }
-        return r1;
+        return ignoreId;
+    }
+
+    private Point anyAngleNextPoint(double x, double y, double ignoreRadius, boolean withPenalties) {
+        shortSearchGrid.update(self, world);
+        double reach = SHORT_SEARCH_GRID_SPAN * Math.sqrt(2) +
+                (withPenalties ? ShortSearchGrid.ALLY_WIZARD_PENALTY_RADIUS : 0) + self.getRadius();
+        List<Unit> units = world.getSpatialIndex().unitsWithin(self.getX(), self.getY(), reach);
+        CollisionKernel kernel = new CollisionKernel(units,
+                self.getId(),
+                ignoredUnitId(x, y, ignoreRadius),
+                self.getRadius(),
+                unit -> withPenalties ? penaltyRadius(unit) : ((CircularUnit) unit).getRadius());
+        return planners.getAnyAnglePlanner()
+                .nextWaypoint(shortSearchGrid, kernel, self.getX(), self.getY(), x, y, withPenalties);
     }
 
     private Unit findIntersectUnit(double fromX,
@@ -514,7 +460,8 @@ public class PathFinder {
                                    double toY,
                                    long ignoreId,
                                    boolean withPenalties) {
-        for (Unit unit : world.allUnits()) {
+        double margin = self.getRadius() + (withPenalties ? ShortSearchGrid.ALLY_WIZARD_PENALTY_RADIUS : 0);
+        for (Unit unit : world.getSpatialIndex().unitsCrossedBy(fromX, fromY, toX, toY, margin)) {
             if (unit.getId() == self.getId() || unit.getId() == ignoreId) {
                 continue;
             }
@@ -540,123 +487,41 @@ public class PathFinder {
         if (unit instanceof WizardProxy) {
             WizardProxy wizard = (WizardProxy) unit;
             if (wizard.getFaction() == self.getFaction()) {
-                unitR = unitR + ALLY_WIZARD_PENALTY_RADIUS;
+                unitR = unitR + ShortSearchGrid.ALLY_WIZARD_PENALTY_RADIUS;
             }
         }
         return unitR;
     }
 
-    private static class BfsPoint {
-
-        private final int i;
-        private final int h;
-        private final int firstMoveI;
-        private final int firstMoveH;
-        private final double dist;
-
-        public BfsPoint(int i, int h, int firstMoveI, int firstMoveH, double dist) {
-            this.i = i;
-            this.h = h;
-            this.firstMoveI = firstMoveI;
-            this.firstMoveH = firstMoveH;
-            this.dist = dist;
-        }
-
-        public int getI() {
-            return i;
-        }
-
-        public int getH() {
-            return h;
-        }
-
-        public int getFirstMoveI() {
-            return firstMoveI;
-        }
-
-        public int getFirstMoveH() {
-            return firstMoveH;
-        }
-
-        public double getDist() {
-            return dist;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
-            BfsPoint bfsPoint = (BfsPoint) o;
-            return i == bfsPoint.i && h == bfsPoint.h;
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(i, h);
-        }
+    public enum SearchMode {
+        /**
+         * Every query searches grids from scratch.
+         */
+        FROM_SCRATCH,
+        /**
+         * Queries repair search state kept in {@link PathPlanners} since previous ticks. On short grid it may head for a
+         * different cell than from scratch search when two are almost equally close to the target, see
+         * {@link ShortGridGraph}.
+         */
+        INCREMENTAL
     }
 
-    private static class PathPoint {
-
-        private int i;
-        private int h;
-        private Point point;
-        private boolean isReachable;
-        private Map<PathPoint, Double> neighbors;
-        private CircularUnit intersectsWith;
-        private double penalty;
-
-        public PathPoint(int i, int h, double x, double y, double penalty) {
-            this.i = i;
-            this.h = h;
-            this.point = new Point(x, y);
-            this.isReachable = true;
-            this.neighbors = new HashMap<>();
-            this.penalty = 0;
-        }
-
-        public int getI() {
-            return i;
-        }
-
-        public int getH() {
-            return h;
-        }
-
-        public Point getPoint() {
-            return point;
-        }
-
-        public boolean isReachable() {
-            return isReachable;
-        }
-
-        public Map<PathPoint, Double> getNeighbors() {
-            return neighbors;
-        }
-
-        public CircularUnit getIntersectsWith() {
-            return intersectsWith;
-        }
-
-        public void setReachable(boolean reachable) {
-            isReachable = reachable;
-        }
-
-        public void setIntersectsWith(CircularUnit intersectsWith) {
-            this.intersectsWith = intersectsWith;
-        }
-
-        public double getPenalty() {
-            return penalty;
-        }
-
-        public void setPenalty(double penalty) {
-            this.penalty = penalty;
-        }
+    /**
+     * How to get around obstacles when there is no straight line to the target.
+     */
+    public enum LocalPlanner {
+        /**
+         * Theta* over short grid, waypoints are cells visible from the wizard.
+         */
+        ANY_ANGLE,
+        /**
+         * Shortest path over short grid with 8 directions, next cell is the waypoint.
+         */
+        GRID,
+        /**
+         * No short grid search, heads to long grid waypoint and leaves obstacles to movement candidates. Cheapest, for
+         * ticks when there is no time for anything else.
+         */
+        NONE
     }
 }
@@ -0,0 +1,113 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Planners kept between ticks: a few goal-rooted incremental ones for long grid, one incremental per penalty mode for
+ * short grid and any-angle one which only reuses its arrays.
+ */
+public final class PathPlanners {
+
+    private static final int MAX_LONG_PLANNERS = 4;
+    // with that many changed cells repairing costs about as much as planning from scratch
+    private static final double MAX_CHANGED_SHARE = 0.25;
+    private final Map<Integer, DStarLite> longPlanners;
+    private final DStarLite[] shortPlanners;
+    private final ShortGridGraph[] shortGraphs;
+    private final int[] shortSyncedVersion;
+    private final AnyAnglePlanner anyAnglePlanner;
+    private int[] changedStamp;
+    private int changedStampGeneration;
+
+    public PathPlanners() {
+        this.longPlanners = new LinkedHashMap<Integer, DStarLite>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, DStarLite> eldest) {
+                return size() > MAX_LONG_PLANNERS;
+            }
+        };
+        this.shortPlanners = new DStarLite[2];
+        this.shortGraphs = new ShortGridGraph[2];
+        this.shortSyncedVersion = new int[2];
+        this.changedStamp = new int[0];
+        this.anyAnglePlanner = new AnyAnglePlanner();
+    }
+
+    public AnyAnglePlanner getAnyAnglePlanner() {
+        return anyAnglePlanner;
+    }
+
+    public DStarLite longPlanner(LongSearchGrid grid, int goal, int start) {
+        DStarLite planner = longPlanners.get(goal);
+        if (planner == null) {
+            planner = new DStarLite(grid, goal, start);
+            longPlanners.put(goal, planner);
+        }
+        return planner;
+    }
+
+    /**
+     * @return planner with its graph in sync with current grid state
+     */
+    public DStarLite shortPlanner(ShortSearchGrid grid, double targetX, double targetY, boolean withPenalties) {
+        int mode = withPenalties ? 1 : 0;
+        int start = grid.slotAt(grid.getSelfIndex(), grid.getSelfIndex());
+        DStarLite planner = shortPlanners[mode];
+        ShortGridGraph graph = shortGraphs[mode];
+        int syncedVersion = shortSyncedVersion[mode];
+        shortSyncedVersion[mode] = grid.getVersion();
+        if (planner == null || !graph.isFor(targetX, targetY, withPenalties)) {
+            return newShortPlanner(grid, targetX, targetY, withPenalties, start);
+        }
+        if (syncedVersion == grid.getVersion()) {
+            return planner;
+        }
+        int slotCount = grid.getSlotCount();
+        int changed = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (grid.isChangedSince(slot, syncedVersion)) {
+                changed++;
+            }
+        }
+        if (changed > slotCount * MAX_CHANGED_SHARE) {
+            return newShortPlanner(grid, targetX, targetY, withPenalties, start);
+        }
+        if (changedStamp.length < slotCount) {
+            changedStamp = new int[slotCount];
+        }
+        changedStampGeneration++;
+        int dim = grid.getDim();
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (!grid.isChangedSince(slot, syncedVersion)) {
+                continue;
+            }
+            int i = grid.slotI(slot);
+            int h = grid.slotH(slot);
+            // edges into the cell and edges checked against its blocking unit start around it
+            for (int j1 = -1; j1 <= 1; j1++) {
+                for (int j2 = -1; j2 <= 1; j2++) {
+                    if (i + j1 < 0 || i + j1 >= dim || h + j2 < 0 || h + j2 >= dim) {
+                        continue;
+                    }
+                    int affected = grid.slotAt(i + j1, h + j2);
+                    if (changedStamp[affected] != changedStampGeneration) {
+                        changedStamp[affected] = changedStampGeneration;
+                        planner.nodeChanged(affected);
+                    }
+                }
+            }
+        }
+        return planner;
+    }
+
+    private DStarLite newShortPlanner(ShortSearchGrid grid,
+                                      double targetX,
+                                      double targetY,
+                                      boolean withPenalties,
+                                      int start) {
+        int mode = withPenalties ? 1 : 0;
+        ShortGridGraph graph = new ShortGridGraph(grid, targetX, targetY, withPenalties);
+        shortGraphs[mode] = graph;
+        shortPlanners[mode] = new DStarLite(graph, graph.getGoal(), start);
+        return shortPlanners[mode];
+    }
+}
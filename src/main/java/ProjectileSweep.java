@@ -0,0 +1,175 @@
+/**
+ * Distances at whole ticks between wizard going along one of {@link WizardTrajectories} and projectile flying straight
+ * to its range end. Once wizard faces its direction it moves by same step every tick, and projectile moves by same step
+ * until range ends, so on those spans every distance is quadratic in time and its minimum over ticks is found in closed
+ * form. Only ticks wizard spends turning are checked one by one.
+ */
+public class ProjectileSweep {
+
+    private static final double E = 1e-9;
+    private final double fromX;
+    private final double fromY;
+    private final double dirX;
+    private final double dirY;
+    private final double speed;
+    private final double range;
+    private final int ticks;
+    private double minToTrajEnd;
+    private double minToTrajStart;
+    private double minToTraj;
+
+    public ProjectileSweep(Point from, Point to, double speed) {
+        this.fromX = from.getX();
+        this.fromY = from.getY();
+        this.speed = speed;
+        this.range = dist(to.getX() - fromX, to.getY() - fromY);
+        this.dirX = range < E ? 0 : (to.getX() - fromX) / range;
+        this.dirY = range < E ? 0 : (to.getY() - fromY) / range;
+        this.ticks = (int) Math.ceil(range / speed);
+    }
+
+    /**
+     * @return ticks until projectile reaches range end
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Finds least distances over ticks from wizard to projectile, to part of projectile path passed by that tick and
+     * to projectile start point.
+     *
+     * @return false if wizard is within exclusion radius of projectile or its passed path at some tick
+     */
+    public boolean sweep(WizardTrajectories trajectories, int dir, double exclusionRadius) {
+        if (ticks > trajectories.getTicks()) {
+            throw new RuntimeException("Trajectories for " + trajectories.getTicks() + " ticks, need " + ticks);
+        }
+        minToTrajEnd = Double.MAX_VALUE;
+        minToTrajStart = Double.MAX_VALUE;
+        minToTraj = Double.MAX_VALUE;
+        int steadyFrom = Math.min(trajectories.getSteadyFrom(dir), ticks + 1);
+        for (int tick = 1; tick < steadyFrom; tick++) {
+            tickDistances(trajectories.getX(dir, tick), trajectories.getY(dir, tick), tick);
+        }
+        if (steadyFrom <= ticks) {
+            double stepX = trajectories.getX(dir, steadyFrom) - trajectories.getX(dir, steadyFrom - 1);
+            double stepY = trajectories.getY(dir, steadyFrom) - trajectories.getY(dir, steadyFrom - 1);
+            // wizard is at (baseX + stepX * t, baseY + stepY * t) since steadyFrom - 1
+            double baseX = trajectories.getX(dir, steadyFrom) - stepX * steadyFrom;
+            double baseY = trajectories.getY(dir, steadyFrom) - stepY * steadyFrom;
+            int lastFlying = Math.min(ticks, (int) Math.floor(range / speed));
+            if (steadyFrom <= lastFlying) {
+                spanDistances(baseX, baseY, stepX, stepY, steadyFrom, lastFlying, true);
+            }
+            if (Math.max(steadyFrom, lastFlying + 1) <= ticks) {
+                spanDistances(baseX, baseY, stepX, stepY, Math.max(steadyFrom, lastFlying + 1), ticks, false);
+            }
+        }
+        if (range < E) {
+            minToTraj = minToTrajEnd;
+        }
+        return minToTrajEnd > exclusionRadius && minToTraj > exclusionRadius;
+    }
+
+    /**
+     * @return least distance to projectile or its passed path in last sweep
+     */
+    public double getDistToProjectile() {
+        return Math.min(minToTrajEnd, minToTraj);
+    }
+
+    /**
+     * @return least distance to projectile start point in last sweep
+     */
+    public double getDistToProjectileInit() {
+        return minToTrajStart;
+    }
+
+    private void tickDistances(double x, double y, int tick) {
+        double passed = Math.min(range, speed * tick);
+        double relX = x - fromX;
+        double relY = y - fromY;
+        minToTrajEnd = Math.min(minToTrajEnd, dist(relX - dirX * passed, relY - dirY * passed));
+        minToTrajStart = Math.min(minToTrajStart, dist(relX, relY));
+        double along = relX * dirX + relY * dirY;
+        if (along >= 0 && along <= passed) {
+            minToTraj = Math.min(minToTraj, Math.abs(relY * dirX - relX * dirY));
+        }
+    }
+
+    /**
+     * Ticks from first to last, during which wizard is at base + step * tick, and projectile either flies or already
+     * stays at range end.
+     */
+    private void spanDistances(double baseX,
+                               double baseY,
+                               double stepX,
+                               double stepY,
+                               int first,
+                               int last,
+                               boolean flying) {
+        double relX = baseX - fromX;
+        double relY = baseY - fromY;
+        double projStepX = flying ? dirX * speed : 0;
+        double projStepY = flying ? dirY * speed : 0;
+        double projX = flying ? 0 : dirX * range;
+        double projY = flying ? 0 : dirY * range;
+        minToTrajEnd = Math.min(minToTrajEnd,
+                minNorm(relX - projX, relY - projY, stepX - projStepX, stepY - projStepY, first, last));
+        minToTrajStart = Math.min(minToTrajStart, minNorm(relX, relY, stepX, stepY, first, last));
+
+        // along path: along0 + alongStep * t, which should be within [0, passed(t)]
+        double along0 = relX * dirX + relY * dirY;
+        double alongStep = stepX * dirX + stepY * dirY;
+        double lo = first;
+        double hi = last;
+        if (Math.abs(alongStep) < E) {
+            if (along0 < 0) {
+                return;
+            }
+        } else if (alongStep > 0) {
+            lo = Math.max(lo, -along0 / alongStep);
+        } else {
+            hi = Math.min(hi, -along0 / alongStep);
+        }
+        double beyond0 = flying ? along0 : along0 - range;
+        double beyondStep = flying ? alongStep - speed : alongStep;
+        if (Math.abs(beyondStep) < E) {
+            if (beyond0 > 0) {
+                return;
+            }
+        } else if (beyondStep > 0) {
+            hi = Math.min(hi, -beyond0 / beyondStep);
+        } else {
+            lo = Math.max(lo, -beyond0 / beyondStep);
+        }
+        int from = (int) Math.ceil(lo - E);
+        int to = (int) Math.floor(hi + E);
+        if (from > to) {
+            return;
+        }
+        // distance to path line: |across0 + acrossStep * t|
+        double across0 = relY * dirX - relX * dirY;
+        double acrossStep = stepY * dirX - stepX * dirY;
+        double root = Math.abs(acrossStep) < E ? from : -across0 / acrossStep;
+        double t = Math.max(from, Math.min(to, root));
+        minToTraj = Math.min(minToTraj, Math.min(Math.abs(across0 + acrossStep * Math.floor(t)),
+                Math.abs(across0 + acrossStep * Math.ceil(t))));
+    }
+
+    /**
+     * @return least |(x0 + vx * t, y0 + vy * t)| over whole t from first to last
+     */
+    private static double minNorm(double x0, double y0, double vx, double vy, int first, int last) {
+        double vv = vx * vx + vy * vy;
+        double t = vv < E ? first : Math.max(first, Math.min(last, -(x0 * vx + y0 * vy) / vv));
+        double floor = Math.floor(t);
+        double ceil = Math.ceil(t);
+        return Math.min(dist(x0 + vx * floor, y0 + vy * floor), dist(x0 + vx * ceil, y0 + vy * ceil));
+    }
+
+    private static double dist(double dx, double dy) {
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+}
@@ -38,6 +38,16 @@ public class PushLaneTacticBuilder implements TacticBuilder {
         this.directionOptional = directionOptional;
     }
 
+    @Override
+    public int priority() {
+        return Tactics.PUSH_LANE_TACTIC_PRIORITY;
+    }
+
+    @Override
+    public boolean hasSideEffects() {
+        return true;
+    }
+
     @Override
     public Optional<Tactic> build(TurnContainer turnContainer) {
         LocationType lane = turnContainer.getLanePicker().myLane();
@@ -321,8 +331,8 @@ public class PushLaneTacticBuilder implements TacticBuilder {
                 shouldStay = true;
             }
 
-            if (self.getDistanceTo(enemy) < turnContainer.getCastRangeService()
-                    .castRangeToWizardPessimistic(self, enemy, game, ProjectileType.MAGIC_MISSILE)
+            if (self.getDistanceTo(enemy) < turnContainer.getCastMetaCache()
+                    .castRangeToWizardPessimistic(self, enemy, ProjectileType.MAGIC_MISSILE)
                     .getDistToCenter() - enemy.getWizardForwardSpeed(game) * 2) {
                 shouldStay = true;
             }
@@ -371,8 +381,8 @@ public class PushLaneTacticBuilder implements TacticBuilder {
 
         double distToEnemy = self.getDistanceTo(enemy);
         int untilNextMissile = CastProjectileTacticBuilders.untilNextProjectile(enemy, projectileType, game);
-        double enemyCastRange = turnContainer.getCastRangeService()
-                .castRangeToWizardOptimistic(enemy, self, turnContainer.getGame(), projectileType)
+        double enemyCastRange = turnContainer.getCastMetaCache()
+                .castRangeToWizardOptimistic(enemy, self, projectileType)
                 .getDistToCenter();
 
         int expectedStepsForward = enemyExpectedStepsForward(turnContainer, self, enemy, projectileType);
@@ -589,8 +599,8 @@ public class PushLaneTacticBuilder implements TacticBuilder {
                 continue;
             }
             double distToEnemy = self.getDistanceTo(wizard);
-            double enemyCastRange = turnContainer.getCastRangeService()
-                    .castRangeToWizardOptimistic(wizard, self, turnContainer.getGame(), ProjectileType.MAGIC_MISSILE)
+            double enemyCastRange = turnContainer.getCastMetaCache()
+                    .castRangeToWizardOptimistic(wizard, self, ProjectileType.MAGIC_MISSILE)
                     .getDistToCenter();
             double curApproachDist = Math.hypot(mov.getSpeed(), mov.getStrafeSpeed());
             if (distToEnemy > enemyCastRange && distToEnemy - curApproachDist <= enemyCastRange) {
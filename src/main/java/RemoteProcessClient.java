@@ -10,7 +10,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
-public final class RemoteProcessClient implements Closeable {
+public final class RemoteProcessClient implements MatchSource {
     private static final int BUFFER_SIZE_BYTES = 1 << 20;
     private static final ByteOrder PROTOCOL_BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
     private static final int INTEGER_SIZE_BYTES = Integer.SIZE / Byte.SIZE;
@@ -18,7 +18,10 @@ public final class RemoteProcessClient implements Closeable {
 
     private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
 
+    // null when decoding a replay
     private final Socket socket;
+    // nullable
+    private final ReplayRecorder recorder;
     private final InputStream inputStream;
     private final OutputStream outputStream;
     private final ByteArrayOutputStream outputStreamBuffer;
@@ -31,16 +34,35 @@ public final class RemoteProcessClient implements Closeable {
     private final Map<Long, Unit> previousUnitById = new HashMap<>();
 
     public RemoteProcessClient(String host, int port) throws IOException {
+        this(host, port, null);
+    }
+
+    /**
+     * @param recorder nullable, gets everything read from server and every moves message sent
+     */
+    public RemoteProcessClient(String host, int port, ReplayRecorder recorder) throws IOException {
         socket = new Socket(host, port);
         socket.setSendBufferSize(BUFFER_SIZE_BYTES);
         socket.setReceiveBufferSize(BUFFER_SIZE_BYTES);
         socket.setTcpNoDelay(true);
 
-        inputStream = socket.getInputStream();
+        this.recorder = recorder;
+        inputStream = recorder == null ? socket.getInputStream() : recorder.tap(socket.getInputStream());
         outputStream = socket.getOutputStream();
         outputStreamBuffer = new ByteArrayOutputStream(BUFFER_SIZE_BYTES);
     }
 
+    /**
+     * Decodes messages recorded from server, and encodes messages into given stream instead of sending them.
+     */
+    RemoteProcessClient(InputStream inputStream, OutputStream outputStream) {
+        this.socket = null;
+        this.recorder = null;
+        this.inputStream = inputStream;
+        this.outputStream = outputStream;
+        this.outputStreamBuffer = new ByteArrayOutputStream(BUFFER_SIZE_BYTES);
+    }
+
     public void writeToken(String token) throws IOException {
         writeEnum(MessageType.AUTHENTICATION_TOKEN);
         writeString(token);
@@ -53,11 +75,13 @@ public final class RemoteProcessClient implements Closeable {
         flush();
     }
 
+    @Override
     public int readTeamSize() throws IOException {
         ensureMessageType(readEnum(MessageType.class), MessageType.TEAM_SIZE);
         return readInt();
     }
 
+    @Override
     public Game readGameContext() throws IOException {
         ensureMessageType(readEnum(MessageType.class), MessageType.GAME_CONTEXT);
         if (!readBoolean()) {
@@ -83,6 +107,7 @@ public final class RemoteProcessClient implements Closeable {
         );
     }
 
+    @Override
     public PlayerContext readPlayerContext() throws IOException {
         MessageType messageType = readEnum(MessageType.class);
         if (messageType == MessageType.GAME_OVER) {
@@ -93,9 +118,13 @@ public final class RemoteProcessClient implements Closeable {
         return readBoolean() ? new PlayerContext(readWizards(), readWorld()) : null;
     }
 
+    @Override
     public void writeMoves(Move[] moves) throws IOException {
         writeEnum(MessageType.MOVES);
         writeArray(moves, this::writeMove);
+        if (recorder != null) {
+            recorder.recordMoves(outputStreamBuffer.toByteArray());
+        }
         flush();
     }
 
@@ -120,7 +149,15 @@ public final class RemoteProcessClient implements Closeable {
 
     @Override
     public void close() throws IOException {
-        socket.close();
+        try {
+            if (socket != null) {
+                socket.close();
+            }
+        } finally {
+            if (recorder != null) {
+                recorder.close();
+            }
+        }
     }
 
     private World readWorld() throws IOException {
@@ -0,0 +1,38 @@
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Feeds recorded games into fresh strategies as fast as they go and reports strategy time and ticks on which moves
+ * differ from recorded ones. Strategies run with {@link DeadlineScheduler#alwaysFull()}, as replaying faster or slower
+ * than original game would otherwise change moves. With builderProfile system property builder profiles are printed
+ * after each game.
+ */
+public final class ReplayDriver {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            throw new RuntimeException("Usage: ReplayDriver replay.bin...");
+        }
+        for (String file : args) {
+            ReplayMatchSource source = new ReplayMatchSource(Paths.get(file));
+            List<MyStrategy> strategies = new ArrayList<>();
+            StrategyHarness harness = new StrategyHarness(source, () -> {
+                MyStrategy strategy = new MyStrategy(DeadlineScheduler.alwaysFull());
+                strategies.add(strategy);
+                return strategy;
+            });
+            harness.run();
+            strategies.forEach(MyStrategy::reportProfile);
+            System.out.println(String.format("%s: %d ticks, strategy %.1f ms, max tick %.2f ms, moves differ on %d " +
+                            "ticks, first at %d",
+                    file,
+                    harness.getTicks(),
+                    harness.getStrategyNanos() / 1e6,
+                    harness.getMaxTickNanos() / 1e6,
+                    source.getDifferingTicks(),
+                    source.getFirstDifferingTickIndex()));
+        }
+    }
+}
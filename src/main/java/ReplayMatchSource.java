@@ -0,0 +1,177 @@
+import model.Game;
+import model.Move;
+import model.PlayerContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Plays back game written by {@link ReplayRecorder}. Moves sent back are encoded same way as for server and compared
+ * with recorded ones byte by byte.
+ */
+public final class ReplayMatchSource implements MatchSource {
+
+    private static final int BUFFER_SIZE_BYTES = 1 << 20;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteArrayOutputStream encodedMoves = new ByteArrayOutputStream();
+    private final RemoteProcessClient decoder;
+    private byte[] inputFrame = new byte[0];
+    private int inputFrameOffset;
+    private int ticks;
+    private int lastTickIndex = -1;
+    private int differingTicks;
+    private int firstDifferingTickIndex = -1;
+
+    public ReplayMatchSource(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.buffer.limit(0);
+        this.decoder = new RemoteProcessClient(new FrameInputStream(), encodedMoves);
+    }
+
+    @Override
+    public int readTeamSize() throws IOException {
+        return decoder.readTeamSize();
+    }
+
+    @Override
+    public Game readGameContext() throws IOException {
+        return decoder.readGameContext();
+    }
+
+    @Override
+    public PlayerContext readPlayerContext() throws IOException {
+        PlayerContext playerContext = decoder.readPlayerContext();
+        if (playerContext != null && playerContext.getWorld() != null) {
+            lastTickIndex = playerContext.getWorld().getTickIndex();
+        }
+        return playerContext;
+    }
+
+    @Override
+    public void writeMoves(Move[] moves) throws IOException {
+        decoder.writeMoves(moves);
+        byte[] recorded = nextFrame(ReplayRecorder.MOVES_FRAME);
+        if (!Arrays.equals(recorded, encodedMoves.toByteArray())) {
+            differingTicks++;
+            if (firstDifferingTickIndex == -1) {
+                firstDifferingTickIndex = lastTickIndex;
+            }
+        }
+        encodedMoves.reset();
+        ticks++;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return ticks on which moves differ from recorded ones
+     */
+    public int getDifferingTicks() {
+        return differingTicks;
+    }
+
+    /**
+     * @return tick index of first tick with moves different from recorded ones, -1 if there is no such tick
+     */
+    public int getFirstDifferingTickIndex() {
+        return firstDifferingTickIndex;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private byte[] nextFrame(byte expectedKind) throws IOException {
+        if (inputFrameOffset != inputFrame.length) {
+            throw new IOException("Frame is read partially, " + (inputFrame.length - inputFrameOffset) + " bytes left");
+        }
+        if (!fill(ReplayRecorder.FRAME_HEADER_BYTES)) {
+            throw new EOFException("Replay ended");
+        }
+        byte kind = buffer.get();
+        int length = buffer.getInt();
+        if (kind != expectedKind) {
+            throw new IOException("Unexpected frame " + kind + ", expected " + expectedKind);
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            if (!fill(1)) {
+                throw new EOFException("Replay ended in the middle of frame");
+            }
+            int chunk = Math.min(length - offset, buffer.remaining());
+            buffer.get(bytes, offset, chunk);
+            offset += chunk;
+        }
+        return bytes;
+    }
+
+    /**
+     * @return false if file ended before given number of bytes became available
+     */
+    private boolean fill(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) == -1) {
+                    return false;
+                }
+            }
+        } finally {
+            buffer.flip();
+        }
+        return true;
+    }
+
+    private class FrameInputStream extends InputStream {
+
+        @Override
+        public int read() throws IOException {
+            if (!nextInput()) {
+                return -1;
+            }
+            return inputFrame[inputFrameOffset++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!nextInput()) {
+                return -1;
+            }
+            int read = Math.min(len, inputFrame.length - inputFrameOffset);
+            System.arraycopy(inputFrame, inputFrameOffset, b, off, read);
+            inputFrameOffset += read;
+            return read;
+        }
+
+        private boolean nextInput() throws IOException {
+            if (inputFrameOffset < inputFrame.length) {
+                return true;
+            }
+            if (!fill(1)) {
+                return false;
+            }
+            inputFrame = nextFrame(ReplayRecorder.INPUT_FRAME);
+            inputFrameOffset = 0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes game as it comes over the wire into append-only replay file: frames of bytes read from server, each followed
+ * by frame with moves message sent back. Server already sends unchanged players, buildings and trees only once, so
+ * protocol bytes are compact as they are. Frames are collected in a big buffer and reach the file only when it's full,
+ * so tick loop rarely waits for disk.
+ */
+public final class ReplayRecorder implements Closeable {
+
+    static final byte INPUT_FRAME = 0;
+    static final byte MOVES_FRAME = 1;
+    static final int FRAME_HEADER_BYTES = 1 + Integer.SIZE / Byte.SIZE;
+    private static final int BUFFER_SIZE_BYTES = 1 << 20;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteArrayOutputStream pendingInput = new ByteArrayOutputStream(BUFFER_SIZE_BYTES);
+    private boolean closed;
+
+    public ReplayRecorder(Path file) throws IOException {
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * @return stream which keeps everything read from given one until next moves are recorded
+     */
+    public InputStream tap(InputStream inputStream) {
+        return new FilterInputStream(inputStream) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b != -1) {
+                    pendingInput.write(b);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = super.read(b, off, len);
+                if (read > 0) {
+                    pendingInput.write(b, off, read);
+                }
+                return read;
+            }
+        };
+    }
+
+    /**
+     * @param moves moves message as encoded for server
+     */
+    public void recordMoves(byte[] moves) throws IOException {
+        flushInput();
+        writeFrame(MOVES_FRAME, moves);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flushInput();
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void flushInput() throws IOException {
+        if (pendingInput.size() > 0) {
+            writeFrame(INPUT_FRAME, pendingInput.toByteArray());
+            pendingInput.reset();
+        }
+    }
+
+    private void writeFrame(byte kind, byte[] bytes) throws IOException {
+        if (buffer.remaining() < FRAME_HEADER_BYTES + bytes.length) {
+            drain();
+        }
+        buffer.put(kind);
+        buffer.putInt(bytes.length);
+        if (buffer.remaining() < bytes.length) {
+            drain();
+            ByteBuffer frame = ByteBuffer.wrap(bytes);
+            while (frame.hasRemaining()) {
+                channel.write(frame);
+            }
+        } else {
+            buffer.put(bytes);
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -1,17 +1,23 @@
-import model.*;
-
 import java.io.IOException;
+import java.nio.file.Paths;
 
 public final class Runner {
     private final RemoteProcessClient remoteProcessClient;
     private final String token;
 
     public static void main(String[] args) throws IOException {
-        new Runner(args.length == 3 ? args : new String[]{"127.0.0.1", "31001", "0000000000000000"}).run();
+        new Runner(args.length == 3 || args.length == 4 ?
+                args :
+                new String[]{"127.0.0.1", "31001", "0000000000000000"}).run();
     }
 
+    /**
+     * @param args host, port, token and optional replay file to record game into
+     */
     public Runner(String[] args) throws IOException {
-        remoteProcessClient = new RemoteProcessClient(args[0], Integer.parseInt(args[1]));
+        remoteProcessClient = new RemoteProcessClient(args[0],
+                Integer.parseInt(args[1]),
+                args.length > 3 ? new ReplayRecorder(Paths.get(args[3])) : null);
         token = args[2];
     }
 
@@ -19,37 +25,9 @@ public final class Runner {
         try {
             remoteProcessClient.writeToken(token);
             remoteProcessClient.writeProtocolVersion();
-            int teamSize = remoteProcessClient.readTeamSize();
-            Game game = remoteProcessClient.readGameContext();
-
-            Strategy[] strategies = new Strategy[teamSize];
-
-            for (int strategyIndex = 0; strategyIndex < teamSize; ++strategyIndex) {
-                strategies[strategyIndex] = new MyStrategy();
-            }
-
-            PlayerContext playerContext;
-
-            while ((playerContext = remoteProcessClient.readPlayerContext()) != null) {
-                Wizard[] playerWizards = playerContext.getWizards();
-                if (playerWizards == null || playerWizards.length != teamSize) {
-                    break;
-                }
-
-                Move[] moves = new Move[teamSize];
-
-                for (int wizardIndex = 0; wizardIndex < teamSize; ++wizardIndex) {
-                    Wizard playerWizard = playerWizards[wizardIndex];
-
-                    Move move = new Move();
-                    moves[wizardIndex] = move;
-                    strategies[wizardIndex /*playerWizard.getTeammateIndex()*/].move(
-                            playerWizard, playerContext.getWorld(), game, move
-                    );
-                }
-
-                remoteProcessClient.writeMoves(moves);
-            }
+            // time limit is for the whole process, so all wizards draw on one budget
+            DeadlineScheduler deadlineScheduler = DeadlineScheduler.fromSystemProperties();
+            new StrategyHarness(remoteProcessClient, () -> new MyStrategy(deadlineScheduler)).run();
         } finally {
             remoteProcessClient.close();
         }
@@ -0,0 +1,114 @@
+import static java.lang.StrictMath.hypot;
+
+/**
+ * {@link ShortSearchGrid} cells as graph nodes indexed by ring buffer slot, plus a virtual goal node. Every cell has an
+ * edge to the goal weighted by its distance to the target, so shortest path to goal ends approximately in the reachable
+ * cell closest to the target. It's not exactly what full grid search picks: when two cells are almost equally close to
+ * the target, like ones placed symmetrically about the line to it, the one with shorter path wins, and next hop may
+ * differ from {@link PathFinder.SearchMode#FROM_SCRATCH}.
+ */
+public final class ShortGridGraph implements DStarLite.Graph {
+
+    // being 1 unit closer to target outweighs any detour inside the grid, smaller differences are traded for path length
+    private static final double TARGET_DIST_WEIGHT = 1000;
+    private final ShortSearchGrid grid;
+    private final double targetX;
+    private final double targetY;
+    private final boolean withPenalties;
+    private final int goal;
+
+    public ShortGridGraph(ShortSearchGrid grid, double targetX, double targetY, boolean withPenalties) {
+        this.grid = grid;
+        this.targetX = targetX;
+        this.targetY = targetY;
+        this.withPenalties = withPenalties;
+        this.goal = grid.getSlotCount();
+    }
+
+    public int getGoal() {
+        return goal;
+    }
+
+    public boolean isFor(double x, double y, boolean penalties) {
+        return targetX == x && targetY == y && withPenalties == penalties;
+    }
+
+    @Override
+    public int nodeCount() {
+        return grid.getSlotCount() + 1;
+    }
+
+    @Override
+    public int maxDegree() {
+        return grid.getSlotCount();
+    }
+
+    @Override
+    public int successors(int node, int[] nodes, double[] costs) {
+        if (node == goal) {
+            return 0;
+        }
+        int dim = grid.getDim();
+        int curI = grid.slotI(node);
+        int curH = grid.slotH(node);
+        int count = 0;
+        for (int j1 = -1; j1 <= 1; j1++) {
+            for (int j2 = -1; j2 <= 1; j2++) {
+                int nextI = curI + j1;
+                int nextH = curH + j2;
+                if ((j1 == 0 && j2 == 0) || nextI < 0 || nextI >= dim || nextH < 0 || nextH >= dim ||
+                        !grid.isReachable(nextI, nextH) || !grid.isEdgeFree(curI, curH, nextI, nextH)) {
+                    continue;
+                }
+                nodes[count] = grid.slotAt(nextI, nextH);
+                costs[count] = grid.stepLength(j1, j2) + (withPenalties ? grid.getPenalty(nextI, nextH) : 0);
+                count++;
+            }
+        }
+        nodes[count] = goal;
+        costs[count] = goalCost(curI, curH);
+        return count + 1;
+    }
+
+    @Override
+    public int predecessors(int node, int[] nodes, double[] costs) {
+        int dim = grid.getDim();
+        if (node == goal) {
+            for (int slot = 0; slot < goal; slot++) {
+                nodes[slot] = slot;
+                costs[slot] = goalCost(grid.slotI(slot), grid.slotH(slot));
+            }
+            return goal;
+        }
+        int curI = grid.slotI(node);
+        int curH = grid.slotH(node);
+        if (!grid.isReachable(curI, curH)) {
+            return 0;
+        }
+        double penalty = withPenalties ? grid.getPenalty(curI, curH) : 0;
+        int count = 0;
+        for (int j1 = -1; j1 <= 1; j1++) {
+            for (int j2 = -1; j2 <= 1; j2++) {
+                int prevI = curI + j1;
+                int prevH = curH + j2;
+                if ((j1 == 0 && j2 == 0) || prevI < 0 || prevI >= dim || prevH < 0 || prevH >= dim ||
+                        !grid.isEdgeFree(prevI, prevH, curI, curH)) {
+                    continue;
+                }
+                nodes[count] = grid.slotAt(prevI, prevH);
+                costs[count] = grid.stepLength(j1, j2) + penalty;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public double heuristic(int from, int to) {
+        return 0;
+    }
+
+    private double goalCost(int i, int h) {
+        return TARGET_DIST_WEIGHT * hypot(targetX - grid.cellX(i), targetY - grid.cellY(h));
+    }
+}
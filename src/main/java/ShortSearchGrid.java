@@ -0,0 +1,437 @@
+import model.Bonus;
+import model.CircularUnit;
+import model.Projectile;
+import model.Unit;
+
+import java.util.Arrays;
+
+import static java.lang.StrictMath.hypot;
+
+/**
+ * Occupancy grid around the wizard for short path search. Cells are pinned to a fixed world lattice and stored in a
+ * ring buffer, so moving the wizard only initializes cells that entered the window and unit changes only touch cells
+ * under the circles of units that moved, appeared or disappeared.
+ */
+public final class ShortSearchGrid {
+
+    public static final int CELL = 10;
+    public static final int SPAN = 250;
+    public static final int ALLY_WIZARD_PENALTY = 4;
+    public static final int ALLY_WIZARD_PENALTY_RADIUS = 50;
+    private static final long NO_UNIT = -1;
+    private final int dim;
+    private final double diagStep;
+    private final int[] blockCount;
+    private final int[] penaltyCount;
+    private final long[] blockingUnitId;
+    private final boolean[] outside;
+    private final int[] cellCol;
+    private final int[] cellRow;
+    private final int[] dirtyStamp;
+    private final int[] changedAt;
+    private final int[] dirtySlots;
+    private int dirtyCount;
+    private final LongIntHashMap footprintByUnit;
+    private long[] fpUnitId;
+    private double[] fpX;
+    private double[] fpY;
+    private double[] fpBlockR;
+    private double[] fpPenaltyR;
+    private boolean[] fpHasPenalty;
+    private boolean[] fpLive;
+    private int[] fpSeen;
+    private int[] fpFree;
+    private int fpFreeCount;
+    private int fpHigh;
+    private boolean initialized;
+    private int originCol;
+    private int originRow;
+    private double worldWidth;
+    private double worldHeight;
+    private double wizardRadius;
+    private int version;
+    private int lastTick;
+    private final long[] edgeBlockers;
+    private int edgeBlockerCount;
+    private int edgeFrom;
+
+    public ShortSearchGrid() {
+        this.dim = SPAN * 2 / CELL + 2;
+        //noinspection SuspiciousNameCombination
+        this.diagStep = hypot(CELL, CELL);
+        int cells = dim * dim;
+        this.blockCount = new int[cells];
+        this.penaltyCount = new int[cells];
+        this.blockingUnitId = new long[cells];
+        this.outside = new boolean[cells];
+        this.cellCol = new int[cells];
+        this.cellRow = new int[cells];
+        this.dirtyStamp = new int[cells];
+        this.changedAt = new int[cells];
+        this.dirtySlots = new int[cells];
+        this.footprintByUnit = new LongIntHashMap(256);
+        allocateFootprints(256);
+        this.edgeBlockers = new long[9];
+        this.edgeFrom = -1;
+        this.lastTick = -1;
+    }
+
+    /**
+     * Brings grid in sync with the world, does nothing if it's already been called this tick.
+     */
+    public void update(WizardProxy self, WorldProxy world) {
+        if (world.getTickIndex() == lastTick) {
+            return;
+        }
+        lastTick = world.getTickIndex();
+        beginUpdate(self.getX(), self.getY(), world.getWidth(), world.getHeight(), self.getRadius());
+        for (Unit unit : world.allUnits()) {
+            if (unit instanceof Bonus || unit instanceof Projectile) {
+                continue;
+            }
+            if (unit.getId() == self.getId()) {
+                continue;
+            }
+            CircularUnit cunit = (CircularUnit) unit;
+            if (hypot(self.getX() - cunit.getX(), self.getY() - cunit.getY()) >
+                    SPAN * Math.sqrt(2) + cunit.getRadius() + self.getRadius()) {
+                continue;
+            }
+            boolean hasPenalty = cunit instanceof WizardProxy && cunit.getFaction() == self.getFaction();
+            double penaltyRadius = hasPenalty ? cunit.getRadius() + ALLY_WIZARD_PENALTY_RADIUS : cunit.getRadius();
+            observe(cunit.getId(), cunit.getX(), cunit.getY(), cunit.getRadius(), penaltyRadius, hasPenalty);
+        }
+        endUpdate();
+    }
+
+    public void beginUpdate(double centerX, double centerY, double worldWidth, double worldHeight, double wizardRadius) {
+        version++;
+        edgeFrom = -1;
+        int newOriginCol = (int) Math.round(centerX / CELL) - getSelfIndex();
+        int newOriginRow = (int) Math.round(centerY / CELL) - getSelfIndex();
+        if (!initialized || this.worldWidth != worldWidth || this.worldHeight != worldHeight ||
+                this.wizardRadius != wizardRadius || Math.abs(newOriginCol - originCol) >= dim ||
+                Math.abs(newOriginRow - originRow) >= dim) {
+            this.worldWidth = worldWidth;
+            this.worldHeight = worldHeight;
+            this.wizardRadius = wizardRadius;
+            reset(newOriginCol, newOriginRow);
+            return;
+        }
+        shift(newOriginCol, newOriginRow);
+    }
+
+    /**
+     * @param radius     unit radius, wizard radius is added by the grid
+     * @param penaltyRad radius of penalty area around the unit, wizard radius is added by the grid
+     */
+    public void observe(long unitId, double x, double y, double radius, double penaltyRad, boolean hasPenalty) {
+        double blockR = radius + wizardRadius;
+        double penaltyR = penaltyRad + wizardRadius;
+        int fp = footprintByUnit.get(unitId);
+        if (fp != LongIntHashMap.MISSING) {
+            fpSeen[fp] = version;
+            if (fpX[fp] == x && fpY[fp] == y && fpBlockR[fp] == blockR && fpPenaltyR[fp] == penaltyR &&
+                    fpHasPenalty[fp] == hasPenalty) {
+                return;
+            }
+            rasterize(fp, -1, originCol, originCol + dim - 1, originRow, originRow + dim - 1);
+        } else {
+            fp = allocateFootprint();
+            footprintByUnit.put(unitId, fp);
+            fpUnitId[fp] = unitId;
+            fpSeen[fp] = version;
+        }
+        fpX[fp] = x;
+        fpY[fp] = y;
+        fpBlockR[fp] = blockR;
+        fpPenaltyR[fp] = penaltyR;
+        fpHasPenalty[fp] = hasPenalty;
+        rasterize(fp, 1, originCol, originCol + dim - 1, originRow, originRow + dim - 1);
+    }
+
+    public void endUpdate() {
+        for (int fp = 0; fp < fpHigh; fp++) {
+            if (fpLive[fp] && fpSeen[fp] != version) {
+                rasterize(fp, -1, originCol, originCol + dim - 1, originRow, originRow + dim - 1);
+                footprintByUnit.remove(fpUnitId[fp]);
+                fpLive[fp] = false;
+                fpFree[fpFreeCount++] = fp;
+            }
+        }
+        for (int k = 0; k < dirtyCount; k++) {
+            int slot = dirtySlots[k];
+            blockingUnitId[slot] = blockCount[slot] > 0 ? findBlocker(slot) : NO_UNIT;
+            changedAt[slot] = version;
+        }
+        dirtyCount = 0;
+    }
+
+    /**
+     * @return number which grows with each update, see {@link #isChangedSince}
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * @return true if reachability, penalty or blocking unit of slot's cell, or the cell held by slot, changed after
+     * given version. Cells on window border are reported as changed whenever window moves, as they've lost neighbours.
+     */
+    public boolean isChangedSince(int slot, int sinceVersion) {
+        return changedAt[slot] > sinceVersion;
+    }
+
+    public int getSlotCount() {
+        return dim * dim;
+    }
+
+    /**
+     * Ring buffer position of window cell, stays the same for a world cell while it's in the window.
+     */
+    public int slotAt(int i, int h) {
+        return slot(originCol + i, originRow + h);
+    }
+
+    public int slotI(int slot) {
+        return cellCol[slot] - originCol;
+    }
+
+    public int slotH(int slot) {
+        return cellRow[slot] - originRow;
+    }
+
+    public int getDim() {
+        return dim;
+    }
+
+    public int getSelfIndex() {
+        return dim / 2 - 1;
+    }
+
+    public double cellX(int i) {
+        return (originCol + i) * CELL;
+    }
+
+    public double cellY(int h) {
+        return (originRow + h) * CELL;
+    }
+
+    public double stepLength(int di, int dh) {
+        return di == 0 || dh == 0 ? CELL : diagStep;
+    }
+
+    public boolean isReachable(int i, int h) {
+        int slot = slot(originCol + i, originRow + h);
+        return !outside[slot] && blockCount[slot] == 0;
+    }
+
+    public double getPenalty(int i, int h) {
+        return penaltyCount[slot(originCol + i, originRow + h)] > 0 ? ALLY_WIZARD_PENALTY : 0;
+    }
+
+    /**
+     * Checks segment between neighbouring cells against units blocking cells around the first one.
+     */
+    public boolean isEdgeFree(int fromI, int fromH, int toI, int toH) {
+        int from = fromI * dim + fromH;
+        if (from != edgeFrom) {
+            collectEdgeBlockers(fromI, fromH);
+            edgeFrom = from;
+        }
+        double fromX = cellX(fromI);
+        double fromY = cellY(fromH);
+        double toX = cellX(toI);
+        double toY = cellY(toH);
+        for (int k = 0; k < edgeBlockerCount; k++) {
+            int fp = footprintByUnit.get(edgeBlockers[k]);
+            if (MathMethods.isLineIntersectsCircle(fromX, toX, fromY, toY, fpX[fp], fpY[fp], fpBlockR[fp])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void collectEdgeBlockers(int fromI, int fromH) {
+        edgeBlockerCount = 0;
+        for (int j1 = -1; j1 <= 1; j1++) {
+            for (int j2 = -1; j2 <= 1; j2++) {
+                int curI = fromI + j1;
+                int curH = fromH + j2;
+                if (curI < 0 || curH < 0 || curI >= dim || curH >= dim) {
+                    continue;
+                }
+                int slot = slot(originCol + curI, originRow + curH);
+                if (blockCount[slot] == 0) {
+                    continue;
+                }
+                long unitId = blockingUnitId[slot];
+                boolean known = false;
+                for (int k = 0; k < edgeBlockerCount; k++) {
+                    if (edgeBlockers[k] == unitId) {
+                        known = true;
+                        break;
+                    }
+                }
+                if (!known) {
+                    edgeBlockers[edgeBlockerCount++] = unitId;
+                }
+            }
+        }
+    }
+
+    private void reset(int newOriginCol, int newOriginRow) {
+        originCol = newOriginCol;
+        originRow = newOriginRow;
+        for (int c = originCol; c < originCol + dim; c++) {
+            for (int r = originRow; r < originRow + dim; r++) {
+                initCell(c, r);
+            }
+        }
+        footprintByUnit.clear();
+        Arrays.fill(fpLive, false);
+        fpHigh = 0;
+        fpFreeCount = 0;
+        dirtyCount = 0;
+        initialized = true;
+    }
+
+    private void shift(int newOriginCol, int newOriginRow) {
+        int oldMinCol = originCol;
+        int oldMaxCol = originCol + dim - 1;
+        int oldMinRow = originRow;
+        int oldMaxRow = originRow + dim - 1;
+        originCol = newOriginCol;
+        originRow = newOriginRow;
+        int newMaxCol = newOriginCol + dim - 1;
+        int newMaxRow = newOriginRow + dim - 1;
+
+        // entered columns over the whole new height
+        int colFrom = newOriginCol < oldMinCol ? newOriginCol : oldMaxCol + 1;
+        int colTo = newOriginCol < oldMinCol ? oldMinCol - 1 : newMaxCol;
+        initRect(colFrom, colTo, newOriginRow, newMaxRow);
+        // entered rows over columns kept from old window
+        int keptMinCol = Math.max(newOriginCol, oldMinCol);
+        int keptMaxCol = Math.min(newMaxCol, oldMaxCol);
+        int rowFrom = newOriginRow < oldMinRow ? newOriginRow : oldMaxRow + 1;
+        int rowTo = newOriginRow < oldMinRow ? oldMinRow - 1 : newMaxRow;
+        initRect(keptMinCol, keptMaxCol, rowFrom, rowTo);
+        if (newOriginCol != oldMinCol || newOriginRow != oldMinRow) {
+            for (int k = 0; k < dim; k++) {
+                changedAt[slot(newOriginCol, newOriginRow + k)] = version;
+                changedAt[slot(newMaxCol, newOriginRow + k)] = version;
+                changedAt[slot(newOriginCol + k, newOriginRow)] = version;
+                changedAt[slot(newOriginCol + k, newMaxRow)] = version;
+            }
+        }
+    }
+
+    private void initRect(int minCol, int maxCol, int minRow, int maxRow) {
+        if (minCol > maxCol || minRow > maxRow) {
+            return;
+        }
+        for (int c = minCol; c <= maxCol; c++) {
+            for (int r = minRow; r <= maxRow; r++) {
+                initCell(c, r);
+            }
+        }
+        for (int fp = 0; fp < fpHigh; fp++) {
+            if (fpLive[fp]) {
+                rasterize(fp, 1, minCol, maxCol, minRow, maxRow);
+            }
+        }
+    }
+
+    private void initCell(int col, int row) {
+        int slot = slot(col, row);
+        double x = col * CELL;
+        double y = row * CELL;
+        cellCol[slot] = col;
+        cellRow[slot] = row;
+        blockCount[slot] = 0;
+        penaltyCount[slot] = 0;
+        blockingUnitId[slot] = NO_UNIT;
+        changedAt[slot] = version;
+        outside[slot] = x < wizardRadius || x > worldWidth - wizardRadius || y < wizardRadius ||
+                y > worldHeight - wizardRadius;
+    }
+
+    private void rasterize(int fp, int delta, int minCol, int maxCol, int minRow, int maxRow) {
+        double x = fpX[fp];
+        double y = fpY[fp];
+        double blockR = fpBlockR[fp];
+        double penaltyR = fpHasPenalty[fp] ? fpPenaltyR[fp] : blockR;
+        double reach = Math.max(blockR, penaltyR);
+        int fromCol = Math.max(minCol, (int) Math.ceil((x - reach) / CELL));
+        int toCol = Math.min(maxCol, (int) Math.floor((x + reach) / CELL));
+        int fromRow = Math.max(minRow, (int) Math.ceil((y - reach) / CELL));
+        int toRow = Math.min(maxRow, (int) Math.floor((y + reach) / CELL));
+        long unitId = fpUnitId[fp];
+        for (int c = fromCol; c <= toCol; c++) {
+            for (int r = fromRow; r <= toRow; r++) {
+                double dist = hypot(c * CELL - x, r * CELL - y);
+                int slot = slot(c, r);
+                if (dist <= blockR) {
+                    changedAt[slot] = version;
+                    blockCount[slot] += delta;
+                    if (delta > 0) {
+                        blockingUnitId[slot] = unitId;
+                    } else if (blockingUnitId[slot] == unitId) {
+                        markDirty(slot);
+                    }
+                } else if (dist <= penaltyR) {
+                    changedAt[slot] = version;
+                    penaltyCount[slot] += delta;
+                }
+            }
+        }
+    }
+
+    private void markDirty(int slot) {
+        if (dirtyStamp[slot] != version) {
+            dirtyStamp[slot] = version;
+            dirtySlots[dirtyCount++] = slot;
+        }
+    }
+
+    private long findBlocker(int slot) {
+        double x = cellCol[slot] * CELL;
+        double y = cellRow[slot] * CELL;
+        for (int fp = 0; fp < fpHigh; fp++) {
+            if (fpLive[fp] && hypot(x - fpX[fp], y - fpY[fp]) <= fpBlockR[fp]) {
+                return fpUnitId[fp];
+            }
+        }
+        throw new RuntimeException("Blocked cell without blocking unit");
+    }
+
+    private int slot(int col, int row) {
+        return Math.floorMod(col, dim) * dim + Math.floorMod(row, dim);
+    }
+
+    private int allocateFootprint() {
+        int fp;
+        if (fpFreeCount > 0) {
+            fp = fpFree[--fpFreeCount];
+        } else {
+            if (fpHigh == fpLive.length) {
+                allocateFootprints(fpLive.length * 2);
+            }
+            fp = fpHigh++;
+        }
+        fpLive[fp] = true;
+        return fp;
+    }
+
+    private void allocateFootprints(int capacity) {
+        this.fpUnitId = fpUnitId == null ? new long[capacity] : Arrays.copyOf(fpUnitId, capacity);
+        this.fpX = fpX == null ? new double[capacity] : Arrays.copyOf(fpX, capacity);
+        this.fpY = fpY == null ? new double[capacity] : Arrays.copyOf(fpY, capacity);
+        this.fpBlockR = fpBlockR == null ? new double[capacity] : Arrays.copyOf(fpBlockR, capacity);
+        this.fpPenaltyR = fpPenaltyR == null ? new double[capacity] : Arrays.copyOf(fpPenaltyR, capacity);
+        this.fpHasPenalty = fpHasPenalty == null ? new boolean[capacity] : Arrays.copyOf(fpHasPenalty, capacity);
+        this.fpLive = fpLive == null ? new boolean[capacity] : Arrays.copyOf(fpLive, capacity);
+        this.fpSeen = fpSeen == null ? new int[capacity] : Arrays.copyOf(fpSeen, capacity);
+        this.fpFree = fpFree == null ? new int[capacity] : Arrays.copyOf(fpFree, capacity);
+    }
+}
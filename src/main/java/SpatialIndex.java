@@ -0,0 +1,214 @@
+import model.CircularUnit;
+import model.Tree;
+import model.Unit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.StrictMath.hypot;
+
+/**
+ * Bucketed uniform grid over unit circles. Units that move are bucketed every tick, trees go into a layer kept in
+ * {@link Memory} that's rebuilt only when the set of visible trees changes. Query results keep
+ * {@link WorldProxy#allUnits()} order, so callers that pick first or last match behave as with a linear scan.
+ */
+public final class SpatialIndex {
+
+    private static final double BUCKET = 100;
+    // candidates are re-checked by callers with their own math, so keep borderline ones
+    private static final double SLACK = 1e-6;
+    private final List<Unit> allUnits;
+    private final Layer unitLayer;
+    private final Layer treeLayer;
+    private final int treeOrdinalOffset;
+    private int[] found;
+    private int foundCount;
+
+    public SpatialIndex(List<Unit> allUnitsWoTrees,
+                        List<Tree> trees,
+                        List<Unit> allUnits,
+                        double worldWidth,
+                        double worldHeight,
+                        Memory memory) {
+        this.allUnits = allUnits;
+        this.unitLayer = new Layer(allUnitsWoTrees, worldWidth, worldHeight, 0);
+        long treeSignature = signature(trees);
+        Layer cachedTrees = memory.getTreeLayer();
+        if (cachedTrees == null || cachedTrees.signature != treeSignature || cachedTrees.count != trees.size()) {
+            cachedTrees = new Layer(trees, worldWidth, worldHeight, treeSignature);
+            memory.setTreeLayer(cachedTrees);
+        }
+        this.treeLayer = cachedTrees;
+        this.treeOrdinalOffset = allUnitsWoTrees.size();
+        this.found = new int[16];
+    }
+
+    /**
+     * @return units whose circle intersects circle with given center and radius
+     */
+    public List<Unit> unitsWithin(double x, double y, double radius) {
+        foundCount = 0;
+        unitLayer.within(this, 0, x, y, radius);
+        treeLayer.within(this, treeOrdinalOffset, x, y, radius);
+        return collect();
+    }
+
+    /**
+     * @return units whose circle extended by margin is touched by segment
+     */
+    public List<Unit> unitsCrossedBy(double x1, double y1, double x2, double y2, double margin) {
+        foundCount = 0;
+        unitLayer.crossedBy(this, 0, x1, y1, x2, y2, margin);
+        treeLayer.crossedBy(this, treeOrdinalOffset, x1, y1, x2, y2, margin);
+        return collect();
+    }
+
+    private void add(int ordinal) {
+        if (foundCount == found.length) {
+            found = Arrays.copyOf(found, found.length * 2);
+        }
+        found[foundCount++] = ordinal;
+    }
+
+    private List<Unit> collect() {
+        Arrays.sort(found, 0, foundCount);
+        List<Unit> result = new ArrayList<>(foundCount);
+        for (int k = 0; k < foundCount; k++) {
+            result.add(allUnits.get(found[k]));
+        }
+        return result;
+    }
+
+    private static long signature(List<Tree> trees) {
+        long signature = 17;
+        for (Tree tree : trees) {
+            signature = signature * 31 + tree.getId();
+        }
+        return signature;
+    }
+
+    private static double distToSegment(double px, double py, double x1, double y1, double x2, double y2) {
+        double dx = x2 - x1;
+        double dy = y2 - y1;
+        double len2 = dx * dx + dy * dy;
+        double t = len2 == 0 ? 0 : ((px - x1) * dx + (py - y1) * dy) / len2;
+        t = Math.max(0, Math.min(1, t));
+        return hypot(px - (x1 + t * dx), py - (y1 + t * dy));
+    }
+
+    public static final class Layer {
+
+        private final long signature;
+        private final int count;
+        private final int cols;
+        private final int rows;
+        private final double[] x;
+        private final double[] y;
+        private final double[] r;
+        private final int[] cellStart;
+        private final int[] entries;
+        private final int[] seen;
+        private int queryId;
+
+        private Layer(List<? extends Unit> units, double worldWidth, double worldHeight, long signature) {
+            this.signature = signature;
+            this.count = units.size();
+            this.cols = (int) (worldWidth / BUCKET) + 1;
+            this.rows = (int) (worldHeight / BUCKET) + 1;
+            this.x = new double[count];
+            this.y = new double[count];
+            this.r = new double[count];
+            this.seen = new int[count];
+            this.cellStart = new int[cols * rows + 1];
+            for (int k = 0; k < count; k++) {
+                CircularUnit unit = (CircularUnit) units.get(k);
+                x[k] = unit.getX();
+                y[k] = unit.getY();
+                r[k] = unit.getRadius();
+                forEachBucket(k, (cell, index) -> cellStart[cell + 1]++);
+            }
+            for (int cell = 0; cell < cols * rows; cell++) {
+                cellStart[cell + 1] += cellStart[cell];
+            }
+            this.entries = new int[cellStart[cols * rows]];
+            int[] fill = Arrays.copyOf(cellStart, cols * rows);
+            for (int k = 0; k < count; k++) {
+                forEachBucket(k, (cell, index) -> entries[fill[cell]++] = index);
+            }
+        }
+
+        private void forEachBucket(int k, BucketConsumer consumer) {
+            int fromCol = col(x[k] - r[k]);
+            int toCol = col(x[k] + r[k]);
+            int fromRow = row(y[k] - r[k]);
+            int toRow = row(y[k] + r[k]);
+            for (int c = fromCol; c <= toCol; c++) {
+                for (int w = fromRow; w <= toRow; w++) {
+                    consumer.accept(c * rows + w, k);
+                }
+            }
+        }
+
+        private void within(SpatialIndex index, int ordinalOffset, double qx, double qy, double radius) {
+            queryId++;
+            int toCol = col(qx + radius);
+            int toRow = row(qy + radius);
+            for (int c = col(qx - radius); c <= toCol; c++) {
+                for (int w = row(qy - radius); w <= toRow; w++) {
+                    int cell = c * rows + w;
+                    for (int e = cellStart[cell]; e < cellStart[cell + 1]; e++) {
+                        int k = entries[e];
+                        if (seen[k] == queryId) {
+                            continue;
+                        }
+                        seen[k] = queryId;
+                        if (hypot(x[k] - qx, y[k] - qy) <= radius + r[k] + SLACK) {
+                            index.add(ordinalOffset + k);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void crossedBy(SpatialIndex index,
+                               int ordinalOffset,
+                               double x1,
+                               double y1,
+                               double x2,
+                               double y2,
+                               double margin) {
+            queryId++;
+            int toCol = col(Math.max(x1, x2) + margin);
+            int toRow = row(Math.max(y1, y2) + margin);
+            for (int c = col(Math.min(x1, x2) - margin); c <= toCol; c++) {
+                for (int w = row(Math.min(y1, y2) - margin); w <= toRow; w++) {
+                    int cell = c * rows + w;
+                    for (int e = cellStart[cell]; e < cellStart[cell + 1]; e++) {
+                        int k = entries[e];
+                        if (seen[k] == queryId) {
+                            continue;
+                        }
+                        seen[k] = queryId;
+                        if (distToSegment(x[k], y[k], x1, y1, x2, y2) <= r[k] + margin + SLACK) {
+                            index.add(ordinalOffset + k);
+                        }
+                    }
+                }
+            }
+        }
+
+        private int col(double value) {
+            return Math.max(0, Math.min(cols - 1, (int) Math.floor(value / BUCKET)));
+        }
+
+        private int row(double value) {
+            return Math.max(0, Math.min(rows - 1, (int) Math.floor(value / BUCKET)));
+        }
+    }
+
+    private interface BucketConsumer {
+
+        void accept(int cell, int index);
+    }
+}
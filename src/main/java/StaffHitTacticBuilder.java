@@ -4,6 +4,11 @@ import java.util.Optional;
 
 public class StaffHitTacticBuilder implements TacticBuilder {
 
+    @Override
+    public int priority() {
+        return Tactics.STAFF_HIT_TACTIC_PRIORITY;
+    }
+
     @Override
     public Optional<Tactic> build(TurnContainer turnContainer) {
         WizardProxy self = turnContainer.getSelf();
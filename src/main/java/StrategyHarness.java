@@ -0,0 +1,99 @@
+import model.Game;
+import model.Move;
+import model.PlayerContext;
+import model.Wizard;
+
+import java.io.IOException;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Plays one player's side of a game from {@link MatchSource}, one strategy per wizard, and measures time spent in
+ * strategies only.
+ */
+public final class StrategyHarness {
+
+    private final MatchSource source;
+    private final Supplier<? extends Strategy> strategyFactory;
+    // nullable
+    private LongConsumer tickListener;
+    private int ticks;
+    private long strategyNanos;
+    private long maxTickNanos;
+
+    public StrategyHarness(MatchSource source, Supplier<? extends Strategy> strategyFactory) {
+        this.source = source;
+        this.strategyFactory = strategyFactory;
+    }
+
+    /**
+     * @param tickListener gets time spent in strategies on each tick
+     */
+    public void setTickListener(LongConsumer tickListener) {
+        this.tickListener = tickListener;
+    }
+
+    /**
+     * Plays until source says game is over, then closes source.
+     */
+    public void run() throws IOException {
+        try {
+            int teamSize = source.readTeamSize();
+            Game game = source.readGameContext();
+
+            Strategy[] strategies = new Strategy[teamSize];
+
+            for (int strategyIndex = 0; strategyIndex < teamSize; ++strategyIndex) {
+                strategies[strategyIndex] = strategyFactory.get();
+            }
+
+            PlayerContext playerContext;
+
+            while ((playerContext = source.readPlayerContext()) != null) {
+                Wizard[] playerWizards = playerContext.getWizards();
+                if (playerWizards == null || playerWizards.length != teamSize) {
+                    break;
+                }
+
+                Move[] moves = new Move[teamSize];
+
+                long tickStart = System.nanoTime();
+                for (int wizardIndex = 0; wizardIndex < teamSize; ++wizardIndex) {
+                    Wizard playerWizard = playerWizards[wizardIndex];
+
+                    Move move = new Move();
+                    moves[wizardIndex] = move;
+                    strategies[wizardIndex /*playerWizard.getTeammateIndex()*/].move(
+                            playerWizard, playerContext.getWorld(), game, move
+                    );
+                }
+                long tickNanos = System.nanoTime() - tickStart;
+                ticks++;
+                strategyNanos += tickNanos;
+                maxTickNanos = Math.max(maxTickNanos, tickNanos);
+                if (tickListener != null) {
+                    tickListener.accept(tickNanos);
+                }
+
+                source.writeMoves(moves);
+            }
+        } finally {
+            source.close();
+        }
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return time spent in strategies over all ticks, not counting reading worlds and writing moves
+     */
+    public long getStrategyNanos() {
+        return strategyNanos;
+    }
+
+    public long getMaxTickNanos() {
+        return maxTickNanos;
+    }
+}
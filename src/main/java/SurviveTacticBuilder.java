@@ -8,6 +8,16 @@ public class SurviveTacticBuilder implements TacticBuilder {
     private static final double LIFE_HAZZARD_THRESHOLD = 0.5;
     private static final double LIFE_HAZZARD_THRESHOLD_BONUS_HUNTING = 0.8;
 
+    @Override
+    public int priority() {
+        return Tactics.SURVIVE_TACTIC_PRIORITY;
+    }
+
+    @Override
+    public boolean hasSideEffects() {
+        return true;
+    }
+
     @Override
     public Optional<Tactic> build(TurnContainer turnContainer) {
         LocationType lane = turnContainer.getLanePicker().myLane();
@@ -119,22 +129,19 @@ public class SurviveTacticBuilder implements TacticBuilder {
     @SuppressWarnings("IfStatementWithIdenticalBranches")
     private boolean inDangerousRangeToAnyProjectiles(TurnContainer turnContainer, WizardProxy enemy, double dist) {
         WizardProxy self = turnContainer.getSelf();
-        CastRangeService castRangeService = turnContainer.getCastRangeService();
-        if (dist <= castRangeService.castRangeToWizardOptimistic(enemy,
+        CastMetaCache castMetaCache = turnContainer.getCastMetaCache();
+        if (dist <= castMetaCache.castRangeToWizardOptimistic(enemy,
                 self,
-                turnContainer.getGame(),
                 ProjectileType.MAGIC_MISSILE).getDistToCenter() + self.getRadius()) {
             return true;
         } else if (CastProjectileTacticBuilders.isProjectileLearned(turnContainer, enemy, ProjectileType.FROST_BOLT) &&
-                dist <= castRangeService.castRangeToWizardOptimistic(enemy,
+                dist <= castMetaCache.castRangeToWizardOptimistic(enemy,
                         self,
-                        turnContainer.getGame(),
                         ProjectileType.FROST_BOLT).getDistToCenter() + self.getRadius()) {
             return true;
         } else if (CastProjectileTacticBuilders.isProjectileLearned(turnContainer, enemy, ProjectileType.FIREBALL) &&
-                dist <= castRangeService.castRangeToWizardOptimistic(enemy,
+                dist <= castMetaCache.castRangeToWizardOptimistic(enemy,
                         self,
-                        turnContainer.getGame(),
                         ProjectileType.FIREBALL).getDistToCenter() + self.getRadius()) {
             return true;
         }
@@ -2,4 +2,17 @@ import java.util.Optional;
 
 public interface TacticBuilder {
     Optional<Tactic> build(TurnContainer turnContainer);
+
+    /**
+     * @return priority of tactics this builder makes, one of {@link Tactics} constants
+     */
+    int priority();
+
+    /**
+     * @return whether builder changes memory or its own state, which later builders or ticks rely on, so it must run on
+     * every tick
+     */
+    default boolean hasSideEffects() {
+        return false;
+    }
 }
@@ -21,11 +21,16 @@ public class TurnContainer {
     private final ProjectileControl projectileControl;
     private final BuildingControl buildingControl;
     private final CastRangeService castRangeService;
+    private final CastMetaCache castMetaCache;
     private final WizardControl wizardControl;
     private final TeamAdvantageService teamAdvantageService;
     private final Memory memory;
 
     public TurnContainer(Wizard self, World world, Game game, Memory memory) {
+        if (memory.getDeadlineScheduler() == null) {
+            memory.setDeadlineScheduler(DeadlineScheduler.fromSystemProperties());
+        }
+        memory.getDeadlineScheduler().startTick(world.getTickIndex(), game.getTickCount());
         this.self = WizardProxy.wizardProxy(self, world, game, memory);
         this.world = world;
         this.game = game;
@@ -34,14 +39,37 @@ public class TurnContainer {
         this.wizardControl = new WizardControl(self, memory, world, game);
         this.worldProxy = new WorldProxy(world, self, wizardControl, buildingControl, game, memory);
         this.mapUtils = new MapUtils(worldProxy);
-        this.pathFinder = new PathFinder(this.self, worldProxy, game, mapUtils);
+        if (memory.getGridSearch() == null) {
+            memory.setGridSearch(new GridSearch());
+        }
+        if (memory.getShortSearchGrid() == null) {
+            memory.setShortSearchGrid(new ShortSearchGrid());
+        }
+        if (memory.getPathPlanners() == null) {
+            memory.setPathPlanners(new PathPlanners());
+        }
+        if (memory.getKinematicsCache() == null) {
+            memory.setKinematicsCache(new KinematicsCache());
+        }
+        this.pathFinder = new PathFinder(this.self,
+                worldProxy,
+                game,
+                mapUtils,
+                memory.getGridSearch(),
+                memory.getShortSearchGrid(),
+                memory.getPathPlanners(),
+                memory.getKinematicsCache());
+        if (getDegradation() == Degradation.MINIMAL) {
+            this.pathFinder.setLocalPlanner(PathFinder.LocalPlanner.NONE);
+        }
         this.lanePicker = new LanePicker(worldProxy, this.self, game, mapUtils, this.memory);
-        this.bonusControl = new BonusControl(this.self, worldProxy, game, memory);
+        this.bonusControl = new BonusControl(this.self, worldProxy, game, mapUtils, memory);
         this.projectileControl = new ProjectileControl(worldProxy, game, memory);
         if (memory.getCastRangeService() == null) {
-            memory.setCastRangeService(new CastRangeService(worldProxy, game));
+            memory.setCastRangeService(new CastRangeService());
         }
         this.castRangeService = memory.getCastRangeService();
+        this.castMetaCache = new CastMetaCache(castRangeService, game);
         this.teamAdvantageService = new TeamAdvantageService(this.self, worldProxy, this.game);
     }
 
@@ -85,6 +113,22 @@ public class TurnContainer {
         return castRangeService;
     }
 
+    public KinematicsCache getKinematicsCache() {
+        return memory.getKinematicsCache();
+    }
+
+    public DeadlineScheduler getDeadlineScheduler() {
+        return memory.getDeadlineScheduler();
+    }
+
+    public Degradation getDegradation() {
+        return memory.getDeadlineScheduler().getDegradation();
+    }
+
+    public CastMetaCache getCastMetaCache() {
+        return castMetaCache;
+    }
+
     public TeamAdvantageService getTeamAdvantageService() {
         return teamAdvantageService;
     }
@@ -135,6 +179,7 @@ public class TurnContainer {
             memory.getWizardPreviousPosition().put(wizard.getId(), new Point(wizard.getX(), wizard.getY()));
         }
         wizardControl.updateEnemyDominantLocations(self, memory, worldProxy, game, mapUtils);
+        memory.getDeadlineScheduler().endTick();
     }
 
     public boolean againstSidePushMaster() {
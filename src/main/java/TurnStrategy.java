@@ -4,34 +4,59 @@ import java.util.*;
 
 public class TurnStrategy {
 
-    private static final DirectionOptionalTacticBuilder directionOptional = new DirectionOptionalTacticBuilder();
-    private static final List<TacticBuilder> tacticBuilders =
-            Arrays.asList(new PushLaneTacticBuilder(directionOptional),
-                    new CastMagicMissileTacticBuilder(),
-                    new SurviveTacticBuilder(),
-                    new GoForBonusTacticBuilder(directionOptional),
-                    new StaffHitTacticBuilder(),
-                    new DodgeProjectileTacticBuilder(),
-                    new LearnSkillsTacticBuilder(),
-                    new CastFireballTacticBuilder(),
-                    new NeutralTurnTacticBuilder(),
-                    new MasterWizardTacticBuilder(),
-                    new ApplyHasteTacticBuilder(),
-                    new ApplyShieldTacticBuilder(),
-                    new CastFrostBoltTacticBuilder(),
-                    directionOptional);
+    private final List<TacticBuilder> tacticBuilders;
+    // nullable
+    private final BuilderProfiler profiler;
     private final TurnContainer turnContainer;
     private final Move move;
 
-    public TurnStrategy(TurnContainer turnContainer, Move move) {
+    /**
+     * @param profiler nullable, should be made for same builders
+     */
+    public TurnStrategy(TurnContainer turnContainer,
+                        Move move,
+                        List<TacticBuilder> tacticBuilders,
+                        BuilderProfiler profiler) {
         this.turnContainer = turnContainer;
         this.move = move;
+        this.tacticBuilders = tacticBuilders;
+        this.profiler = profiler;
+    }
+
+    /**
+     * Builders keep state between ticks, so each strategy needs its own.
+     */
+    public static List<TacticBuilder> newTacticBuilders() {
+        DirectionOptionalTacticBuilder directionOptional = new DirectionOptionalTacticBuilder();
+        return Arrays.asList(new PushLaneTacticBuilder(directionOptional),
+                new CastMagicMissileTacticBuilder(),
+                new SurviveTacticBuilder(),
+                new GoForBonusTacticBuilder(directionOptional),
+                new StaffHitTacticBuilder(),
+                new DodgeProjectileTacticBuilder(),
+                new LearnSkillsTacticBuilder(),
+                new CastFireballTacticBuilder(),
+                new NeutralTurnTacticBuilder(),
+                new MasterWizardTacticBuilder(),
+                new ApplyHasteTacticBuilder(),
+                new ApplyShieldTacticBuilder(),
+                new CastFrostBoltTacticBuilder(),
+                directionOptional);
     }
 
     public Move findStrategy() {
         List<Tactic> tactics = new ArrayList<>();
-        for (TacticBuilder builder : tacticBuilders) {
-            Optional<Tactic> tacticOpt = builder.build(turnContainer);
+        DeadlineScheduler scheduler = turnContainer.getDeadlineScheduler();
+        for (int i = 0; i < tacticBuilders.size(); i++) {
+            if (!scheduler.admit(tacticBuilders, i)) {
+                scheduler.recordSkipped(i);
+                continue;
+            }
+            long startedAt = System.nanoTime();
+            Optional<Tactic> tacticOpt = profiler == null ?
+                    tacticBuilders.get(i).build(turnContainer) :
+                    profiler.build(i, turnContainer);
+            scheduler.recordBuilder(i, System.nanoTime() - startedAt);
             tacticOpt.ifPresent(tactics::add);
         }
         tactics.sort((a, b) -> Integer.compare(b.priority(), a.priority()));
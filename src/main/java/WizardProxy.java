@@ -199,6 +199,10 @@ public class WizardProxy extends LivingUnit {
         return affectedBySkills;
     }
 
+    public double getMovementFactor(Game game) {
+        return movementFactor(this, game);
+    }
+
     public double getWizardForwardSpeed(Game game) {
         return getWizardForwardSpeed(this, game);
     }
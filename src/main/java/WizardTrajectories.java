@@ -0,0 +1,278 @@
+import model.Game;
+
+import java.util.Arrays;
+
+/**
+ * Wizard positions when heading to each of added directions at full speed, tick by tick. Motion doesn't depend on
+ * projectile being dodged, so one table serves all projectiles of a tick.
+ */
+public class WizardTrajectories {
+
+    private static final double STEADY_DIFF_ANGLE = 1e-9;
+
+    private final Point wizardPoint;
+    private final double wizardAngle;
+    private final Kinematics kinematics;
+    private final double wizardMaxTurnAngle;
+    private final int ticks;
+    private final double wizardRadius;
+    private final double worldWidth;
+    private final double worldHeight;
+    // nullable
+    private final CollisionKernel kernel;
+    private final double cosWizardAngle;
+    private final double sinWizardAngle;
+    private final double cosMaxTurn;
+    private final double sinMaxTurn;
+    private int directions;
+    private double[] angles;
+    private double[] xs;
+    private double[] ys;
+    private Movement[] firstMoves;
+    private int[] blockedAt;
+    private int[] steadyFrom;
+
+    /**
+     * @param ticks     how many ticks to simulate
+     * @param obstacles also check collisions with units, not only world borders
+     */
+    public WizardTrajectories(Point wizardPoint,
+                              long wizardId,
+                              double wizardAngle,
+                              double wizardForwardSpeed,
+                              double wizardBackwardSpeed,
+                              double wizardStrafeSpeed,
+                              double wizardMaxTurnAngle,
+                              int ticks,
+                              boolean obstacles,
+                              Game game,
+                              WorldProxy world) {
+        this(wizardPoint,
+                wizardId,
+                wizardAngle,
+                new Kinematics(wizardForwardSpeed, wizardBackwardSpeed, wizardStrafeSpeed),
+                wizardMaxTurnAngle,
+                ticks,
+                obstacles,
+                game,
+                world);
+    }
+
+    public WizardTrajectories(Point wizardPoint,
+                              long wizardId,
+                              double wizardAngle,
+                              Kinematics kinematics,
+                              double wizardMaxTurnAngle,
+                              int ticks,
+                              boolean obstacles,
+                              Game game,
+                              WorldProxy world) {
+        this(wizardPoint,
+                wizardAngle,
+                kinematics,
+                wizardMaxTurnAngle,
+                ticks,
+                game.getWizardRadius(),
+                world.getWidth(),
+                world.getHeight(),
+                obstacles ?
+                        CollisionKernel.around(world,
+                                wizardId,
+                                wizardPoint.getX(),
+                                wizardPoint.getY(),
+                                game.getWizardRadius(),
+                                kinematics.getMaxStep() * ticks) :
+                        null);
+    }
+
+    WizardTrajectories(Point wizardPoint,
+                       double wizardAngle,
+                       double wizardForwardSpeed,
+                       double wizardBackwardSpeed,
+                       double wizardStrafeSpeed,
+                       double wizardMaxTurnAngle,
+                       int ticks,
+                       double wizardRadius,
+                       double worldWidth,
+                       double worldHeight,
+                       // nullable
+                       CollisionKernel kernel) {
+        this(wizardPoint,
+                wizardAngle,
+                new Kinematics(wizardForwardSpeed, wizardBackwardSpeed, wizardStrafeSpeed),
+                wizardMaxTurnAngle,
+                ticks,
+                wizardRadius,
+                worldWidth,
+                worldHeight,
+                kernel);
+    }
+
+    WizardTrajectories(Point wizardPoint,
+                       double wizardAngle,
+                       Kinematics kinematics,
+                       double wizardMaxTurnAngle,
+                       int ticks,
+                       double wizardRadius,
+                       double worldWidth,
+                       double worldHeight,
+                       // nullable
+                       CollisionKernel kernel) {
+        this.wizardPoint = wizardPoint;
+        this.wizardAngle = wizardAngle;
+        this.kinematics = kinematics;
+        this.wizardMaxTurnAngle = wizardMaxTurnAngle;
+        this.ticks = ticks;
+        this.wizardRadius = wizardRadius;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.kernel = kernel;
+        this.cosWizardAngle = Math.cos(wizardAngle);
+        this.sinWizardAngle = Math.sin(wizardAngle);
+        this.cosMaxTurn = Math.cos(wizardMaxTurnAngle);
+        this.sinMaxTurn = Math.sin(wizardMaxTurnAngle);
+        allocate(16);
+    }
+
+    /**
+     * Adds directions from -PI to PI with given step.
+     */
+    public void addDirections(double directionStep) {
+        for (double angle = -Math.PI; angle <= Math.PI; angle += directionStep) {
+            addDirection(angle);
+        }
+    }
+
+    /**
+     * @return index of added direction
+     */
+    public int addDirection(double angle) {
+        if (directions == angles.length) {
+            allocate(directions * 2);
+        }
+        int dir = directions++;
+        angles[dir] = angle;
+        double resX = wizardPoint.getX();
+        double resY = wizardPoint.getY();
+        double resAngle = wizardAngle;
+        // cos and sin of resAngle and of angle - resAngle are turned along with them instead of being recomputed
+        double cosAngle = Math.cos(angle);
+        double sinAngle = Math.sin(angle);
+        double cosRes = cosWizardAngle;
+        double sinRes = sinWizardAngle;
+        double cosDiff = cosAngle * cosRes + sinAngle * sinRes;
+        double sinDiff = sinAngle * cosRes - cosAngle * sinRes;
+        firstMoves[dir] = new Movement(0, 0, 0);
+        blockedAt[dir] = Integer.MAX_VALUE;
+        steadyFrom[dir] = Integer.MAX_VALUE;
+        for (int tick = 1; tick <= ticks; tick++) {
+            double diffAngle = angle - resAngle;
+            if (Math.abs(diffAngle) > Math.PI) {
+                diffAngle = (diffAngle > 0 ? -1 : 1) * (2 * Math.PI - Math.abs(diffAngle));
+            }
+            if (steadyFrom[dir] == Integer.MAX_VALUE && Math.abs(diffAngle) < STEADY_DIFF_ANGLE) {
+                steadyFrom[dir] = tick;
+            }
+            boolean backwards = Math.abs(diffAngle) > Math.PI / 2;
+            double scale = kinematics.stepScale(cosDiff, sinDiff, backwards);
+            double speed = (backwards ? -1 : 1) * scale * Math.abs(cosDiff);
+            double strafe = (diffAngle > 0 ? 1 : -1) * scale * Math.abs(sinDiff);
+            resX += speed * cosRes - strafe * sinRes;
+            resY += speed * sinRes + strafe * cosRes;
+            double turn = (diffAngle > 0 ? 1 : -1) * Math.min(Math.abs(diffAngle), wizardMaxTurnAngle);
+            resAngle += turn;
+            if (Math.abs(diffAngle) <= wizardMaxTurnAngle) {
+                cosRes = cosAngle;
+                sinRes = sinAngle;
+                cosDiff = 1;
+                sinDiff = 0;
+            } else {
+                double sinTurn = diffAngle > 0 ? sinMaxTurn : -sinMaxTurn;
+                double nextCosRes = cosRes * cosMaxTurn - sinRes * sinTurn;
+                double nextSinRes = sinRes * cosMaxTurn + cosRes * sinTurn;
+                double nextCosDiff = cosDiff * cosMaxTurn + sinDiff * sinTurn;
+                double nextSinDiff = sinDiff * cosMaxTurn - cosDiff * sinTurn;
+                cosRes = nextCosRes;
+                sinRes = nextSinRes;
+                cosDiff = nextCosDiff;
+                sinDiff = nextSinDiff;
+            }
+            if (tick == 1) {
+                firstMoves[dir] = new Movement(speed, strafe, turn);
+            }
+            xs[dir * ticks + tick - 1] = resX;
+            ys[dir * ticks + tick - 1] = resY;
+
+            if (resX < wizardRadius || resY < wizardRadius || resX > worldWidth - wizardRadius ||
+                    resY > worldHeight - wizardRadius ||
+                    (kernel != null && !kernel.isFree(wizardPoint.getX(), wizardPoint.getY(), resX, resY))) {
+                // positions after wizard got stuck are never looked at
+                blockedAt[dir] = tick;
+                break;
+            }
+        }
+        return dir;
+    }
+
+    private void allocate(int capacity) {
+        this.angles = angles == null ? new double[capacity] : Arrays.copyOf(angles, capacity);
+        this.xs = xs == null ? new double[capacity * ticks] : Arrays.copyOf(xs, capacity * ticks);
+        this.ys = ys == null ? new double[capacity * ticks] : Arrays.copyOf(ys, capacity * ticks);
+        this.firstMoves = firstMoves == null ? new Movement[capacity] : Arrays.copyOf(firstMoves, capacity);
+        this.blockedAt = blockedAt == null ? new int[capacity] : Arrays.copyOf(blockedAt, capacity);
+        this.steadyFrom = steadyFrom == null ? new int[capacity] : Arrays.copyOf(steadyFrom, capacity);
+    }
+
+    public int getDirections() {
+        return directions;
+    }
+
+    public double getAngle(int direction) {
+        return angles[direction];
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Wizard always moves along ray of direction, by steps of varying length while turning to face it.
+     *
+     * @return first tick since which wizard faces direction, so it moves by same step every tick,
+     * {@link Integer#MAX_VALUE} if it doesn't within table
+     */
+    public int getSteadyFrom(int direction) {
+        return steadyFrom[direction];
+    }
+
+    /**
+     * @param tick from 0, which is wizard's initial position
+     */
+    public double getX(int direction, int tick) {
+        if (tick == 0) {
+            return wizardPoint.getX();
+        }
+        return xs[direction * ticks + tick - 1];
+    }
+
+    public double getY(int direction, int tick) {
+        if (tick == 0) {
+            return wizardPoint.getY();
+        }
+        return ys[direction * ticks + tick - 1];
+    }
+
+    /**
+     * @return movement on first tick, zero movement if table has no ticks
+     */
+    public Movement getFirstMove(int direction) {
+        return firstMoves[direction];
+    }
+
+    /**
+     * @return first tick when wizard leaves world or hits obstacle, {@link Integer#MAX_VALUE} if never within table
+     */
+    public int getBlockedAt(int direction) {
+        return blockedAt[direction];
+    }
+}
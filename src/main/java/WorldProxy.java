@@ -19,6 +19,7 @@ public final class WorldProxy {
     private final List<Unit> allUnits;
     private final List<Unit> allUnitsWoTrees;
     private final List<Unit> allUnitsNearby;
+    private final SpatialIndex spatialIndex;
     private final Building allyBase;
     private List<Building> buildings;
 
@@ -47,12 +48,19 @@ public final class WorldProxy {
         units.addAll(getBonuses());
         units.addAll(getBuildings());
         this.allUnitsWoTrees = Collections.unmodifiableList(units);
+        int treesFrom = units.size();
         units.addAll(getTrees());
         this.allUnits = Collections.unmodifiableList(units);
 
         this.allUnitsNearby = Collections.unmodifiableList(units.stream()
                 .filter(x -> self.getDistanceTo(x) <= self.getVisionRange())
                 .collect(Collectors.toList()));
+        this.spatialIndex = new SpatialIndex(units.subList(0, treesFrom),
+                trees,
+                allUnits,
+                world.getWidth(),
+                world.getHeight(),
+                memory);
     }
 
     private static List<WizardProxy> wizardsWithShadows(World world,
@@ -176,6 +184,10 @@ public final class WorldProxy {
         return this.allUnitsNearby;
     }
 
+    public SpatialIndex getSpatialIndex() {
+        return this.spatialIndex;
+    }
+
     public Building allyBase() {
         return this.allyBase;
     }
@@ -0,0 +1,62 @@
+import model.Faction;
+import model.Status;
+import model.Tree;
+import model.Unit;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AnyAnglePlannerTest {
+
+    private static final double WIZARD_RADIUS = 35;
+
+    @Test
+    public void testOpenFieldGoesStraightToTarget() throws Exception {
+        ShortSearchGrid grid = gridAround(1000, 1000, Collections.emptyList());
+        CollisionKernel kernel = new CollisionKernel(Collections.emptyList(), -1, WIZARD_RADIUS);
+        Point waypoint = new AnyAnglePlanner().nextWaypoint(grid, kernel, 1000, 1000, 1173, 1088, false);
+        assertEquals(1170, waypoint.getX(), 1e-9);
+        assertEquals(1090, waypoint.getY(), 1e-9);
+    }
+
+    @Test
+    public void testWaypointIsVisibleFromStart() throws Exception {
+        Random random = new Random(17);
+        AnyAnglePlanner planner = new AnyAnglePlanner();
+        for (int round = 0; round < 50; round++) {
+            List<Unit> trees = new ArrayList<>();
+            for (int k = 0; k < 15; k++) {
+                double x = 1000 + random.nextDouble() * 400 - 200;
+                double y = 1000 + random.nextDouble() * 400 - 200;
+                double r = 15 + random.nextDouble() * 35;
+                if (Math.hypot(x - 1000, y - 1000) > r + WIZARD_RADIUS + 20) {
+                    trees.add(new Tree(k, x, y, 0, 0, 0, Faction.OTHER, r, 1, 1, new Status[0]));
+                }
+            }
+            ShortSearchGrid grid = gridAround(1000, 1000, trees);
+            CollisionKernel kernel = new CollisionKernel(trees, -1, WIZARD_RADIUS);
+            double targetX = 1000 + random.nextDouble() * 500 - 250;
+            double targetY = 1000 + random.nextDouble() * 500 - 250;
+            Point waypoint = planner.nextWaypoint(grid, kernel, 1000, 1000, targetX, targetY, false);
+            assertTrue(kernel.isFree(1000, 1000, waypoint.getX(), waypoint.getY()) ||
+                    (waypoint.getX() == targetX && waypoint.getY() == targetY));
+        }
+    }
+
+    private static ShortSearchGrid gridAround(double x, double y, List<Unit> trees) {
+        ShortSearchGrid grid = new ShortSearchGrid();
+        grid.beginUpdate(x, y, 4000, 4000, WIZARD_RADIUS);
+        for (Unit unit : trees) {
+            double r = ((Tree) unit).getRadius();
+            grid.observe(unit.getId(), unit.getX(), unit.getY(), r, r, false);
+        }
+        grid.endUpdate();
+        return grid;
+    }
+}
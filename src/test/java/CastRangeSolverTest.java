@@ -0,0 +1,39 @@
+import model.Game;
+import model.ProjectileType;
+import org.junit.Test;
+
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+
+public class CastRangeSolverTest {
+
+    @Test
+    public void testSolveMatchesBundledTable() throws Exception {
+        Game game = CastRangeTableGenerator.readGame(Paths.get(getClass().getResource("/game.properties").toURI())
+                .toString());
+        CastRangeTable table = CastRangeTable.bundled();
+        CastRangeSolver solver = new CastRangeSolver();
+        assertSolved(solver, table, game, false, ProjectileType.MAGIC_MISSILE, 0, 0, 20);
+        assertSolved(solver, table, game, false, ProjectileType.FROST_BOLT, 3, 2, 7);
+        assertSolved(solver, table, game, true, ProjectileType.FROST_BOLT, 0, 0, 20);
+        assertEquals(3, solver.size());
+    }
+
+    private static void assertSolved(CastRangeSolver solver,
+                                     CastRangeTable table,
+                                     Game game,
+                                     boolean optimistic,
+                                     ProjectileType projectileType,
+                                     int speedAmpl,
+                                     int rangeAmpl,
+                                     int bin) {
+        double[] meta = solver.solve(optimistic, projectileType, speedAmpl, rangeAmpl, bin, table.binAngle(bin), game);
+        assertEquals(table.distToCenter(optimistic, projectileType, speedAmpl, rangeAmpl, bin),
+                meta[0],
+                CastRangeTableGenerator.DIST_PRECISION);
+        assertEquals(table.centerOffset(optimistic, projectileType, speedAmpl, rangeAmpl, bin),
+                meta[1],
+                CastRangeTableGenerator.DIST_PRECISION);
+    }
+}
@@ -0,0 +1,59 @@
+import model.ProjectileType;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class CastRangeTableTest {
+
+    @Test
+    public void testBundledTable() throws Exception {
+        CastRangeTable table = CastRangeTable.bundled();
+        assertEquals(-3.142, table.binAngle(0), 1e-6);
+        assertEquals(3.142, table.binAngle(table.getAngleBins() - 1), 1e-6);
+        assertEquals(506.004, table.distToCenter(false, ProjectileType.MAGIC_MISSILE, 0, 0, 20), 1e-3);
+        assertEquals(0, table.centerOffset(false, ProjectileType.MAGIC_MISSILE, 0, 0, 20), 1e-3);
+        assertEquals(631.107, table.distToCenter(true, ProjectileType.FIREBALL, 10, 4, 29), 1e-3);
+        assertEquals(10.528, table.centerOffset(true, ProjectileType.FIREBALL, 10, 4, 29), 1e-3);
+    }
+
+    @Test
+    public void testLowerBinMatchesScan() throws Exception {
+        CastRangeTable table = CastRangeTable.bundled();
+        for (double angle = -Math.PI; angle <= Math.PI; angle += 1e-3) {
+            int expected = 0;
+            for (int bin = 0; bin < table.getAngleBins(); bin++) {
+                if (table.binAngle(bin) <= angle) {
+                    expected = bin;
+                }
+            }
+            assertEquals(expected, table.lowerBin(angle));
+        }
+        for (int bin = 0; bin < table.getAngleBins(); bin++) {
+            assertEquals(bin, table.lowerBin(table.binAngle(bin)));
+        }
+    }
+
+    @Test
+    public void testWriteRead() throws Exception {
+        double[] binAngles = new double[73];
+        for (int bin = 0; bin < binAngles.length; bin++) {
+            binAngles[bin] = bin * 0.1;
+        }
+        double[] metas = new double[CastRangeTable.entryCount(binAngles.length)];
+        for (int k = 0; k < metas.length; k++) {
+            metas[k] = k;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CastRangeTable.write(out, binAngles, metas);
+        CastRangeTable table = CastRangeTable.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(73, table.getAngleBins());
+        int index = CastRangeTable.index(73, true, ProjectileType.FROST_BOLT, 6, 3, 7);
+        assertEquals(index, table.distToCenter(true, ProjectileType.FROST_BOLT, 6, 3, 7), 0);
+        assertEquals(index + 1, table.centerOffset(true, ProjectileType.FROST_BOLT, 6, 3, 7), 0);
+        assertEquals(0.7, table.binAngle(7), 1e-6);
+    }
+}
@@ -0,0 +1,109 @@
+import model.Faction;
+import model.Status;
+import model.Tree;
+import model.Unit;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class CollisionKernelTest {
+
+    private static final double WIZARD_RADIUS = 35;
+    // squared distances differ from hypot only in last bits, don't sample right at the border
+    private static final double BORDER = 1e-6;
+
+    @Test
+    public void testMatchesUnitByUnitChecks() throws Exception {
+        Random random = new Random(11);
+        for (int round = 0; round < 200; round++) {
+            List<Unit> units = new ArrayList<>();
+            for (int k = 0; k < 10; k++) {
+                units.add(new Tree(k,
+                        random.nextDouble() * 200,
+                        random.nextDouble() * 200,
+                        0,
+                        0,
+                        0,
+                        Faction.OTHER,
+                        10 + random.nextDouble() * 40,
+                        1,
+                        1,
+                        new Status[0]));
+            }
+            CollisionKernel kernel = new CollisionKernel(units, -1, WIZARD_RADIUS);
+            for (int sample = 0; sample < 50; sample++) {
+                double fromX = random.nextDouble() * 200;
+                double fromY = random.nextDouble() * 200;
+                double toX = fromX + random.nextDouble() * 10 - 5;
+                double toY = fromY + random.nextDouble() * 10 - 5;
+                if (nearBorder(units, toX, toY)) {
+                    continue;
+                }
+                assertEquals(isFree(units, fromX, fromY, toX, toY), kernel.isFree(fromX, fromY, toX, toY));
+            }
+        }
+    }
+
+    @Test
+    public void testBatchMatchesSingleChecks() throws Exception {
+        Random random = new Random(12);
+        for (int round = 0; round < 200; round++) {
+            List<Unit> units = new ArrayList<>();
+            for (int k = 0; k < 10; k++) {
+                units.add(new Tree(k,
+                        random.nextDouble() * 200,
+                        random.nextDouble() * 200,
+                        0,
+                        0,
+                        0,
+                        Faction.OTHER,
+                        10 + random.nextDouble() * 40,
+                        1,
+                        1,
+                        new Status[0]));
+            }
+            CollisionKernel kernel = new CollisionKernel(units, -1, WIZARD_RADIUS);
+            double fromX = random.nextDouble() * 200;
+            double fromY = random.nextDouble() * 200;
+            int n = 50;
+            double[] toX = new double[n];
+            double[] toY = new double[n];
+            boolean[] free = new boolean[n];
+            for (int i = 0; i < n; i++) {
+                // some candidates don't move at all
+                boolean stay = i % 10 == 0;
+                toX[i] = stay ? fromX : fromX + random.nextDouble() * 10 - 5;
+                toY[i] = stay ? fromY : fromY + random.nextDouble() * 10 - 5;
+            }
+            kernel.isFree(fromX, fromY, toX, toY, n, free);
+            for (int i = 0; i < n; i++) {
+                assertEquals(kernel.isFree(fromX, fromY, toX[i], toY[i]), free[i]);
+            }
+        }
+    }
+
+    private static boolean nearBorder(List<Unit> units, double x, double y) {
+        for (Unit unit : units) {
+            double r = ((Tree) unit).getRadius() + WIZARD_RADIUS;
+            if (Math.abs(unit.getDistanceTo(x, y) - r) < BORDER) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isFree(List<Unit> units, double fromX, double fromY, double toX, double toY) {
+        for (Unit unit : units) {
+            double r = ((Tree) unit).getRadius() + WIZARD_RADIUS;
+            if (unit.getDistanceTo(toX, toY) < r ||
+                    MathMethods.isLineIntersectsCircle(fromX, toX, fromY, toY, unit.getX(), unit.getY(), r)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
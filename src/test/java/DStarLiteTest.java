@@ -0,0 +1,173 @@
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class DStarLiteTest {
+
+    private static final int N = 25;
+    private static final int M = 20;
+
+    @Test
+    public void testRepairMatchesDijkstra() throws Exception {
+        Random random = new Random(3);
+        MutableGrid grid = new MutableGrid(random);
+        int goal = 0;
+        int start = N * M - 1;
+        grid.blocked[goal] = false;
+        DStarLite incremental = new DStarLite(grid, goal, start);
+        for (int round = 0; round < 100; round++) {
+            for (int k = 0; k < 10; k++) {
+                int node = random.nextInt(N * M);
+                if (node == goal) {
+                    continue;
+                }
+                grid.blocked[node] = !grid.blocked[node];
+                notifyAround(incremental, node);
+            }
+            int i = Math.max(0, Math.min(N - 1, start / M + random.nextInt(3) - 1));
+            int h = Math.max(0, Math.min(M - 1, start % M + random.nextInt(3) - 1));
+            start = i * M + h;
+
+            incremental.computeShortestPath(start);
+            assertEquals(backwardDijkstra(grid, goal, start), incremental.distToGoal(start), 1e-9);
+        }
+    }
+
+    @Test
+    public void testShortGridPlannerFollowsGridChanges() throws Exception {
+        Random random = new Random(5);
+        ShortSearchGrid grid = new ShortSearchGrid();
+        PathPlanners planners = new PathPlanners();
+        double[] x = new double[30];
+        double[] y = new double[30];
+        double selfX = 1000;
+        double selfY = 1000;
+        for (int k = 0; k < x.length; k++) {
+            x[k] = selfX + random.nextDouble() * 500 - 250;
+            y[k] = selfY + random.nextDouble() * 500 - 250;
+        }
+        for (int tick = 0; tick < 60; tick++) {
+            selfX += random.nextDouble() * 6 - 1;
+            selfY += random.nextDouble() * 6 - 3;
+            grid.beginUpdate(selfX, selfY, 4000, 4000, 35);
+            for (int k = 0; k < x.length; k++) {
+                x[k] += random.nextDouble() * 4 - 2;
+                y[k] += random.nextDouble() * 4 - 2;
+                if (Math.hypot(x[k] - selfX, y[k] - selfY) > 60) {
+                    grid.observe(k, x[k], y[k], 20, k % 4 == 0 ? 70 : 20, k % 4 == 0);
+                }
+            }
+            grid.endUpdate();
+            int start = grid.slotAt(grid.getSelfIndex(), grid.getSelfIndex());
+            boolean withPenalties = tick % 2 == 0;
+
+            DStarLite incremental = planners.shortPlanner(grid, 1400, 900, withPenalties);
+            incremental.computeShortestPath(start);
+            ShortGridGraph graph = new ShortGridGraph(grid, 1400, 900, withPenalties);
+            assertEquals(backwardDijkstra(graph, graph.getGoal(), start), incremental.distToGoal(start), 1e-6);
+        }
+    }
+
+    private static double backwardDijkstra(DStarLite.Graph graph, int goal, int start) {
+        GridSearch search = new GridSearch();
+        search.reset(graph.nodeCount());
+        search.relax(goal, 0, -1);
+        int[] nodes = new int[graph.maxDegree()];
+        double[] costs = new double[graph.maxDegree()];
+        while (!search.isEmpty()) {
+            int cur = search.poll();
+            int count = graph.predecessors(cur, nodes, costs);
+            for (int k = 0; k < count; k++) {
+                search.relax(nodes[k], search.getDist(cur) + costs[k], cur);
+            }
+        }
+        return search.isReached(start) ? search.getDist(start) : Double.POSITIVE_INFINITY;
+    }
+
+    private static void notifyAround(DStarLite planner, int node) {
+        int i = node / M;
+        int h = node % M;
+        for (int j1 = -1; j1 <= 1; j1++) {
+            for (int j2 = -1; j2 <= 1; j2++) {
+                if (i + j1 >= 0 && i + j1 < N && h + j2 >= 0 && h + j2 < M) {
+                    planner.nodeChanged((i + j1) * M + h + j2);
+                }
+            }
+        }
+    }
+
+    private static class MutableGrid implements DStarLite.Graph {
+
+        private final boolean[] blocked;
+        private final double[] weight;
+
+        MutableGrid(Random random) {
+            this.blocked = new boolean[N * M];
+            this.weight = new double[N * M];
+            for (int k = 0; k < N * M; k++) {
+                blocked[k] = random.nextDouble() < 0.2;
+                weight[k] = 1 + random.nextInt(3);
+            }
+        }
+
+        @Override
+        public int nodeCount() {
+            return N * M;
+        }
+
+        @Override
+        public int maxDegree() {
+            return 8;
+        }
+
+        @Override
+        public int successors(int node, int[] nodes, double[] costs) {
+            int count = 0;
+            for (int next : neighbors(node)) {
+                if (!blocked[next]) {
+                    nodes[count] = next;
+                    costs[count] = weight[next];
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public int predecessors(int node, int[] nodes, double[] costs) {
+            if (blocked[node]) {
+                return 0;
+            }
+            int count = 0;
+            for (int prev : neighbors(node)) {
+                nodes[count] = prev;
+                costs[count] = weight[node];
+                count++;
+            }
+            return count;
+        }
+
+        @Override
+        public double heuristic(int from, int to) {
+            return Math.max(Math.abs(from / M - to / M), Math.abs(from % M - to % M));
+        }
+
+        private static int[] neighbors(int node) {
+            int i = node / M;
+            int h = node % M;
+            int[] result = new int[8];
+            int count = 0;
+            for (int j1 = -1; j1 <= 1; j1++) {
+                for (int j2 = -1; j2 <= 1; j2++) {
+                    if ((j1 != 0 || j2 != 0) && i + j1 >= 0 && i + j1 < N && h + j2 >= 0 && h + j2 < M) {
+                        result[count++] = (i + j1) * M + h + j2;
+                    }
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+    }
+}
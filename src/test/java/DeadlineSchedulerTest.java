@@ -0,0 +1,118 @@
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DeadlineSchedulerTest {
+
+    @Test
+    public void testFullWithinBudget() throws Exception {
+        DeadlineScheduler scheduler = new DeadlineScheduler(1_000_000_000L);
+        for (int tick = 0; tick < 10; tick++) {
+            scheduler.startTick(tick, 100);
+            assertEquals(Degradation.FULL, scheduler.getDegradation());
+            scheduler.endTick();
+        }
+    }
+
+    @Test
+    public void testHighPriorityRunsWhenOutOfTime() throws Exception {
+        DeadlineScheduler scheduler = new DeadlineScheduler(1);
+        scheduler.startTick(0, 100);
+        spin();
+        scheduler.endTick();
+        scheduler.startTick(1, 100);
+        assertEquals(Degradation.MINIMAL, scheduler.getDegradation());
+        spin();
+        List<TacticBuilder> builders = Arrays.asList(builder(Tactics.PUSH_LANE_TACTIC_PRIORITY),
+                builder(Tactics.DODGE_PROJECTILE_TACTIC_PRIORITY));
+        assertFalse(scheduler.admit(builders, 0));
+        assertTrue(scheduler.admit(builders, 1));
+    }
+
+    @Test
+    public void testSideEffectsRunWhenOutOfTime() throws Exception {
+        DeadlineScheduler scheduler = new DeadlineScheduler(1);
+        scheduler.startTick(0, 100);
+        spin();
+        scheduler.endTick();
+        scheduler.startTick(1, 100);
+        assertEquals(Degradation.MINIMAL, scheduler.getDegradation());
+        spin();
+        List<TacticBuilder> builders = Arrays.asList(builder(Tactics.PUSH_LANE_TACTIC_PRIORITY),
+                new PushLaneTacticBuilder(new DirectionOptionalTacticBuilder()));
+        assertFalse(scheduler.admit(builders, 0));
+        assertTrue(scheduler.admit(builders, 1));
+    }
+
+    @Test
+    public void testAlwaysFullIgnoresClock() throws Exception {
+        DeadlineScheduler scheduler = DeadlineScheduler.alwaysFull();
+        List<TacticBuilder> builders = Arrays.asList(builder(Tactics.PUSH_LANE_TACTIC_PRIORITY));
+        for (int tick = 0; tick < 10; tick++) {
+            scheduler.startTick(tick, 10);
+            spin();
+            assertEquals(Degradation.FULL, scheduler.getDegradation());
+            assertTrue(scheduler.admit(builders, 0));
+            scheduler.endTick();
+        }
+        assertEquals(0, scheduler.getUsedNanos());
+    }
+
+    @Test
+    public void testStrategiesShareBudget() throws Exception {
+        // each move takes 3/4 of tick budget, which is fine for one strategy but not for two
+        long nanosPerTick = 20_000_000;
+        DeadlineScheduler shared = new DeadlineScheduler(nanosPerTick);
+        DeadlineScheduler first = new DeadlineScheduler(nanosPerTick);
+        DeadlineScheduler second = new DeadlineScheduler(nanosPerTick);
+        for (int tick = 0; tick < 4; tick++) {
+            move(shared, tick, nanosPerTick * 3 / 4);
+            move(shared, tick, nanosPerTick * 3 / 4);
+            move(first, tick, nanosPerTick * 3 / 4);
+            move(second, tick, nanosPerTick * 3 / 4);
+        }
+        shared.startTick(4, 10);
+        first.startTick(4, 10);
+        second.startTick(4, 10);
+        assertTrue(shared.getDegradation() != Degradation.FULL);
+        assertEquals(Degradation.FULL, first.getDegradation());
+        assertEquals(Degradation.FULL, second.getDegradation());
+    }
+
+    private static void move(DeadlineScheduler scheduler, int tick, long nanos) {
+        scheduler.startTick(tick, 10);
+        spin(nanos);
+        scheduler.endTick();
+    }
+
+    private static void spin() {
+        spin(1_000_000);
+    }
+
+    private static void spin(long nanos) {
+        long startedAt = System.nanoTime();
+        while (System.nanoTime() - startedAt < nanos) {
+            Thread.yield();
+        }
+    }
+
+    private static TacticBuilder builder(int priority) {
+        return new TacticBuilder() {
+            @Override
+            public Optional<Tactic> build(TurnContainer turnContainer) {
+                return Optional.empty();
+            }
+
+            @Override
+            public int priority() {
+                return priority;
+            }
+        };
+    }
+}
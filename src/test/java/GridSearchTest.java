@@ -0,0 +1,92 @@
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class GridSearchTest {
+
+    private static final int N = 30;
+    private static final int M = 20;
+
+    @Test
+    public void testMatchesPriorityQueueDijkstra() throws Exception {
+        Random random = new Random(42);
+        GridSearch search = new GridSearch();
+        for (int round = 0; round < 20; round++) {
+            boolean[] blocked = new boolean[N * M];
+            for (int i = 0; i < blocked.length; i++) {
+                blocked[i] = random.nextDouble() < 0.25;
+            }
+            double[] weight = new double[N * M];
+            for (int i = 0; i < weight.length; i++) {
+                weight[i] = 1 + random.nextInt(5);
+            }
+            int start = random.nextInt(N * M);
+            double[] expected = naiveDijkstra(start, blocked, weight);
+
+            search.reset(N * M);
+            search.relax(start, 0, -1);
+            while (!search.isEmpty()) {
+                int cur = search.poll();
+                for (int next : neighbors(cur)) {
+                    if (!blocked[next]) {
+                        search.relax(next, search.getDist(cur) + weight[next], cur);
+                    }
+                }
+            }
+            for (int i = 0; i < N * M; i++) {
+                assertEquals(expected[i], search.getDist(i), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void testResetForgetsPreviousSearch() throws Exception {
+        GridSearch search = new GridSearch();
+        search.reset(10);
+        search.relax(3, 1.5, 7);
+        search.reset(10);
+        assertEquals(Double.MAX_VALUE, search.getDist(3), 0.0);
+        assertEquals(-1, search.getFirstMove(3));
+    }
+
+    private static double[] naiveDijkstra(int start, boolean[] blocked, double[] weight) {
+        double[] dist = new double[N * M];
+        Arrays.fill(dist, Double.MAX_VALUE);
+        dist[start] = 0;
+        PriorityQueue<double[]> queue = new PriorityQueue<>((a, b) -> Double.compare(a[0], b[0]));
+        queue.add(new double[]{0, start});
+        while (!queue.isEmpty()) {
+            double[] cur = queue.poll();
+            int node = (int) cur[1];
+            if (cur[0] > dist[node]) {
+                continue;
+            }
+            for (int next : neighbors(node)) {
+                if (!blocked[next] && dist[node] + weight[next] < dist[next]) {
+                    dist[next] = dist[node] + weight[next];
+                    queue.add(new double[]{dist[next], next});
+                }
+            }
+        }
+        return dist;
+    }
+
+    private static int[] neighbors(int node) {
+        int i = node / M;
+        int h = node % M;
+        int[] result = new int[8];
+        int count = 0;
+        for (int j1 = -1; j1 <= 1; j1++) {
+            for (int j2 = -1; j2 <= 1; j2++) {
+                if ((j1 != 0 || j2 != 0) && i + j1 >= 0 && i + j1 < N && h + j2 >= 0 && h + j2 < M) {
+                    result[count++] = (i + j1) * M + h + j2;
+                }
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,41 @@
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LogHistogramTest {
+
+    @Test
+    public void testBucketsCoverValuesInOrder() throws Exception {
+        long previousUpper = -1;
+        for (int bucket = 0; bucket < 400; bucket++) {
+            long upper = LogHistogram.upperBound(bucket);
+            assertEquals(bucket, LogHistogram.bucket(previousUpper + 1));
+            assertEquals(bucket, LogHistogram.bucket(upper));
+            previousUpper = upper;
+        }
+        assertEquals(Long.MAX_VALUE, LogHistogram.upperBound(LogHistogram.bucket(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testPercentilesWithinBucketPrecision() throws Exception {
+        Random random = new Random(5);
+        LogHistogram histogram = new LogHistogram();
+        long[] values = new long[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble() * 20);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double p : new double[]{0.01, 0.5, 0.9, 0.99, 1}) {
+            long expected = values[(int) Math.ceil(p * values.length) - 1];
+            long actual = histogram.percentile(p);
+            assertTrue(actual >= expected);
+            assertTrue(actual <= expected + expected / 8);
+        }
+        assertEquals(values[values.length - 1], histogram.getMax());
+    }
+}
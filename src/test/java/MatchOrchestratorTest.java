@@ -0,0 +1,69 @@
+import model.PlayerContext;
+import model.Wizard;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MatchOrchestratorTest {
+
+    private static final int MATCHES = 5;
+    private static final int FAILING_MATCH = 2;
+    private static final int TICKS = 10;
+    // name of match being opened, open is called on thread which then plays the match
+    private static final ThreadLocal<String> OPENED = new ThreadLocal<>();
+
+    @Test
+    public void testErrorStaysInItsMatch() throws Exception {
+        List<MatchOrchestrator.MatchSpec> matches = new ArrayList<>();
+        for (int k = 0; k < MATCHES; k++) {
+            matches.add(match("match " + k));
+        }
+        Supplier<Supplier<Strategy>> teamFactory = () -> {
+            String name = OPENED.get();
+            return () -> {
+                if (name.equals("match " + FAILING_MATCH)) {
+                    throw new AssertionError("Strategy can't be made");
+                }
+                return (self, world, game, move) -> move.setSpeed(1);
+            };
+        };
+        List<MatchResult> results = new MatchOrchestrator(3, teamFactory).run(matches);
+
+        assertEquals(MATCHES, results.size());
+        for (int k = 0; k < MATCHES; k++) {
+            MatchResult result = results.get(k);
+            assertEquals("match " + k, result.getName());
+            if (k == FAILING_MATCH) {
+                assertTrue(result.isFailed());
+                assertTrue(result.getFailure() instanceof AssertionError);
+            } else {
+                assertFalse(result.isFailed());
+                assertEquals(TICKS, result.getTickNanos().length);
+            }
+        }
+    }
+
+    private static MatchOrchestrator.MatchSpec match(String name) {
+        return new MatchOrchestrator.MatchSpec() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public MatchSource open() {
+                OPENED.set(name);
+                List<PlayerContext> contexts =
+                        Collections.nCopies(TICKS, new PlayerContext(new Wizard[1], null));
+                return new InMemoryMatchSource(1, null, contexts.iterator());
+            }
+        };
+    }
+}
@@ -0,0 +1,83 @@
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ProjectileSweepTest {
+
+    private static final double WIZARD_RADIUS = 35;
+
+    @Test
+    public void testMatchesTickByTick() throws Exception {
+        Random random = new Random(23);
+        int hits = 0;
+        for (int round = 0; round < 300; round++) {
+            Point wizard = new Point(1000 + random.nextDouble() * 200, 1000 + random.nextDouble() * 200);
+            Point from = new Point(wizard.getX() + random.nextDouble() * 1200 - 600,
+                    wizard.getY() + random.nextDouble() * 1200 - 600);
+            Point to = MathMethods.distPoint(from.getX(),
+                    from.getY(),
+                    wizard.getX() + random.nextDouble() * 200 - 100,
+                    wizard.getY() + random.nextDouble() * 200 - 100,
+                    300 + random.nextDouble() * 400);
+            double speed = new double[]{13, 35, 40}[random.nextInt(3)];
+            double exclusionRadius = 40 + random.nextDouble() * 30;
+            ProjectileSweep sweep = new ProjectileSweep(from, to, speed);
+            WizardTrajectories trajectories = new WizardTrajectories(wizard,
+                    random.nextDouble() * Math.PI * 2 - Math.PI,
+                    4,
+                    3,
+                    3,
+                    Math.PI / 30,
+                    sweep.getTicks(),
+                    WIZARD_RADIUS,
+                    4000,
+                    4000,
+                    null);
+            trajectories.addDirections(Math.PI * 2 / 40);
+            for (int dir = 0; dir < trajectories.getDirections(); dir++) {
+                double[] expected = tickByTick(trajectories, dir, from, to, speed);
+                boolean safe = sweep.sweep(trajectories, dir, exclusionRadius);
+                assertEquals(expected[0], sweep.getDistToProjectile(), 1e-6);
+                assertEquals(expected[1], sweep.getDistToProjectileInit(), 1e-6);
+                assertEquals(expected[0] > exclusionRadius, safe);
+                hits += safe ? 0 : 1;
+            }
+        }
+        assertTrue(hits > 0);
+    }
+
+    @Test
+    public void testWizardTurnsThenMovesSteadily() throws Exception {
+        WizardTrajectories trajectories =
+                new WizardTrajectories(new Point(1000, 1000), 0, 4, 3, 3, Math.PI / 30, 40, WIZARD_RADIUS, 4000, 4000, null);
+        int dir = trajectories.addDirection(Math.PI / 2);
+        assertEquals(16, trajectories.getSteadyFrom(dir));
+        for (int tick = 17; tick <= 40; tick++) {
+            assertEquals(1000, trajectories.getX(dir, tick), 1e-9);
+            assertEquals(4, trajectories.getY(dir, tick) - trajectories.getY(dir, tick - 1), 1e-9);
+        }
+    }
+
+    private static double[] tickByTick(WizardTrajectories trajectories, int dir, Point from, Point to, double speed) {
+        double range = Math.hypot(to.getX() - from.getX(), to.getY() - from.getY());
+        double dirX = (to.getX() - from.getX()) / range;
+        double dirY = (to.getY() - from.getY()) / range;
+        double toProjectile = Double.MAX_VALUE;
+        double toStart = Double.MAX_VALUE;
+        for (int tick = 1; tick <= Math.ceil(range / speed); tick++) {
+            double relX = trajectories.getX(dir, tick) - from.getX();
+            double relY = trajectories.getY(dir, tick) - from.getY();
+            double passed = Math.min(range, speed * tick);
+            toProjectile = Math.min(toProjectile, Math.hypot(relX - dirX * passed, relY - dirY * passed));
+            double along = relX * dirX + relY * dirY;
+            if (along >= 0 && along <= passed) {
+                toProjectile = Math.min(toProjectile, Math.abs(relY * dirX - relX * dirY));
+            }
+            toStart = Math.min(toStart, Math.hypot(relX, relY));
+        }
+        return new double[]{toProjectile, toStart};
+    }
+}
@@ -0,0 +1,133 @@
+import model.Move;
+import model.PlayerContext;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ReplayMatchSourceTest {
+
+    private static final int TICKS = 4;
+    private static final int BIG_TICK = 2;
+    // more than replay buffer, so frame goes straight to file
+    private static final int BIG_TICK_WIZARDS = 3 << 19;
+    private static final byte GAME_OVER = 1;
+    private static final byte TEAM_SIZE = 3;
+    private static final byte GAME_CONTEXT = 5;
+    private static final byte PLAYER_CONTEXT = 6;
+
+    @Test
+    public void testRecordReplay() throws Exception {
+        Path file = record();
+        try {
+            ReplayMatchSource same = new ReplayMatchSource(file);
+            assertEquals(TICKS, replay(same, -1));
+            assertEquals(TICKS, same.getTicks());
+            assertEquals(0, same.getDifferingTicks());
+
+            ReplayMatchSource changed = new ReplayMatchSource(file);
+            assertEquals(TICKS, replay(changed, 1));
+            assertEquals(TICKS, changed.getTicks());
+            assertEquals(1, changed.getDifferingTicks());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = EOFException.class)
+    public void testTruncatedReplay() throws Exception {
+        Path file = record();
+        Path truncated = Files.createTempFile("replay", ".bin");
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            Files.write(truncated, Arrays.copyOf(bytes, bytes.length / 2));
+            replay(new ReplayMatchSource(truncated), -1);
+        } finally {
+            Files.delete(file);
+            Files.delete(truncated);
+        }
+    }
+
+    private static Path record() throws IOException {
+        Path file = Files.createTempFile("replay", ".bin");
+        try (ReplayRecorder recorder = new ReplayRecorder(file)) {
+            RemoteProcessClient client =
+                    new RemoteProcessClient(recorder.tap(new ByteArrayInputStream(serverMessages())),
+                            new ByteArrayOutputStream());
+            assertEquals(1, client.readTeamSize());
+            assertNull(client.readGameContext());
+            for (int tick = 0; tick < TICKS; tick++) {
+                client.readPlayerContext();
+                recorder.recordMoves(encode(moves(tick)));
+            }
+            assertNull(client.readPlayerContext());
+        }
+        return file;
+    }
+
+    /**
+     * @return ticks played
+     */
+    private static int replay(ReplayMatchSource source, int changedTick) throws IOException {
+        int ticks = 0;
+        try {
+            assertEquals(1, source.readTeamSize());
+            assertNull(source.readGameContext());
+            PlayerContext playerContext;
+            while ((playerContext = source.readPlayerContext()) != null) {
+                int wizards = ticks == BIG_TICK ? BIG_TICK_WIZARDS : 1;
+                assertEquals(wizards, playerContext.getWizards().length);
+                Move[] moves = moves(ticks);
+                if (ticks == changedTick) {
+                    moves[0].setTurn(1);
+                }
+                source.writeMoves(moves);
+                ticks++;
+            }
+        } finally {
+            source.close();
+        }
+        return ticks;
+    }
+
+    /**
+     * Player contexts with null wizards and world, one of them big.
+     */
+    private static byte[] serverMessages() {
+        ByteBuffer buffer = ByteBuffer.allocate(BIG_TICK_WIZARDS + 1024).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(TEAM_SIZE).putInt(1);
+        buffer.put(GAME_CONTEXT).put((byte) 0);
+        for (int tick = 0; tick < TICKS; tick++) {
+            int wizards = tick == BIG_TICK ? BIG_TICK_WIZARDS : 1;
+            buffer.put(PLAYER_CONTEXT).put((byte) 1).putInt(wizards);
+            for (int k = 0; k < wizards; k++) {
+                buffer.put((byte) 0);
+            }
+            buffer.put((byte) 0);
+        }
+        buffer.put(GAME_OVER);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private static Move[] moves(int tick) {
+        Move move = new Move();
+        move.setSpeed(tick);
+        return new Move[]{move};
+    }
+
+    private static byte[] encode(Move[] moves) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new RemoteProcessClient(new ByteArrayInputStream(new byte[0]), out).writeMoves(moves);
+        return out.toByteArray();
+    }
+}
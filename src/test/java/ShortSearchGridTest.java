@@ -0,0 +1,77 @@
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class ShortSearchGridTest {
+
+    private static final double WORLD_SIZE = 4000;
+    private static final double WIZARD_RADIUS = 35;
+    private static final int UNITS = 40;
+
+    @Test
+    public void testIncrementalUpdatesMatchFreshGrid() throws Exception {
+        Random random = new Random(7);
+        double[] x = new double[UNITS];
+        double[] y = new double[UNITS];
+        double[] r = new double[UNITS];
+        boolean[] alive = new boolean[UNITS];
+        double selfX = 60;
+        double selfY = 3900;
+        for (int k = 0; k < UNITS; k++) {
+            x[k] = selfX + random.nextDouble() * 600 - 300;
+            y[k] = selfY + random.nextDouble() * 600 - 300;
+            r[k] = 15 + random.nextInt(40);
+            alive[k] = true;
+        }
+        ShortSearchGrid incremental = new ShortSearchGrid();
+        for (int tick = 0; tick < 200; tick++) {
+            selfX += random.nextDouble() * 8 - 2;
+            selfY -= random.nextDouble() * 8 - 2;
+            if (tick == 120) {
+                selfX += 900;
+            }
+            for (int k = 0; k < UNITS; k++) {
+                if (random.nextDouble() < 0.3) {
+                    x[k] += random.nextDouble() * 6 - 3;
+                    y[k] += random.nextDouble() * 6 - 3;
+                }
+                if (random.nextDouble() < 0.02) {
+                    alive[k] = !alive[k];
+                }
+            }
+            feed(incremental, selfX, selfY, x, y, r, alive);
+            ShortSearchGrid fresh = new ShortSearchGrid();
+            feed(fresh, selfX, selfY, x, y, r, alive);
+
+            int dim = fresh.getDim();
+            for (int i = 0; i < dim; i++) {
+                for (int h = 0; h < dim; h++) {
+                    assertEquals(fresh.cellX(i), incremental.cellX(i), 0.0);
+                    assertEquals(fresh.cellY(h), incremental.cellY(h), 0.0);
+                    assertEquals(fresh.isReachable(i, h), incremental.isReachable(i, h));
+                    assertEquals(fresh.getPenalty(i, h), incremental.getPenalty(i, h), 0.0);
+                }
+            }
+        }
+    }
+
+    private static void feed(ShortSearchGrid grid,
+                             double selfX,
+                             double selfY,
+                             double[] x,
+                             double[] y,
+                             double[] r,
+                             boolean[] alive) {
+        grid.beginUpdate(selfX, selfY, WORLD_SIZE, WORLD_SIZE, WIZARD_RADIUS);
+        for (int k = 0; k < x.length; k++) {
+            if (alive[k]) {
+                boolean ally = k % 5 == 0;
+                double penaltyRadius = ally ? r[k] + ShortSearchGrid.ALLY_WIZARD_PENALTY_RADIUS : r[k];
+                grid.observe(1000 + k, x[k], y[k], r[k], penaltyRadius, ally);
+            }
+        }
+        grid.endUpdate();
+    }
+}